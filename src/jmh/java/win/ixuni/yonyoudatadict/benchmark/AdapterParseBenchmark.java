@@ -0,0 +1,65 @@
+package win.ixuni.yonyoudatadict.benchmark;
+
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import win.ixuni.yonyoudatadict.adapter.VersionAdapter;
+import win.ixuni.yonyoudatadict.model.DataDictDetail;
+import win.ixuni.yonyoudatadict.model.DataDictItem;
+import win.ixuni.yonyoudatadict.model.YonyouVersion;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 四个版本适配器解析数据字典项列表和详情的基准测试
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AdapterParseBenchmark {
+
+    @Param({"YONBIP_ADVANCED", "YONBIP_FLAGSHIP", "NC65_OYONYOU", "NCCLOUD"})
+    public YonyouVersion version;
+
+    private VersionAdapter adapter;
+
+    private String itemsContent;
+
+    private String detailContent;
+
+    @Setup
+    public void setUp() {
+        adapter = Fixtures.adapter(version);
+        itemsContent = Fixtures.items(version);
+        detailContent = Fixtures.detail(version);
+        // 语料不完整时结果没有意义，提前失败
+        if (adapter.parseDataDictItems(itemsContent).isEmpty()
+                || adapter.parseDataDictDetail(detailContent, "benchmark").getProperties().isEmpty()) {
+            throw new IllegalStateException("基准测试语料解析结果为空: " + version);
+        }
+    }
+
+    @Benchmark
+    public List<DataDictItem> parseDataDictItems() {
+        return adapter.parseDataDictItems(itemsContent);
+    }
+
+    @Benchmark
+    public DataDictDetail parseDataDictDetail() {
+        return adapter.parseDataDictDetail(detailContent, "benchmark");
+    }
+
+}
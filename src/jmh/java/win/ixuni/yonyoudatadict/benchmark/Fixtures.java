@@ -0,0 +1,74 @@
+package win.ixuni.yonyoudatadict.benchmark;
+
+
+import win.ixuni.yonyoudatadict.adapter.VersionAdapter;
+import win.ixuni.yonyoudatadict.adapter.VersionAdapterFactory;
+import win.ixuni.yonyoudatadict.adapter.impl.NC65Adapter;
+import win.ixuni.yonyoudatadict.adapter.impl.NCCloudAdapter;
+import win.ixuni.yonyoudatadict.adapter.impl.YonBipAdvancedAdapter;
+import win.ixuni.yonyoudatadict.adapter.impl.YonBipFlagshipAdapter;
+import win.ixuni.yonyoudatadict.model.YonyouVersion;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * 基准测试使用的固定语料
+ * 位于 src/jmh/resources/fixtures/{版本代码}/，每个版本包含数据字典项列表 data-dict-tree.js
+ * 和一个80个属性的详情（YonBIP为JSON，NC65和NCCloud为HTML），列表约3000项
+ */
+public final class Fixtures {
+
+    private Fixtures() {
+    }
+
+    /**
+     * 包含全部四个适配器的适配器工厂
+     */
+    public static VersionAdapterFactory adapterFactory() {
+        return new VersionAdapterFactory(List.of(new YonBipAdvancedAdapter(), new YonBipFlagshipAdapter(),
+                new NC65Adapter(), new NCCloudAdapter()));
+    }
+
+    /**
+     * 数据字典项列表原文
+     */
+    public static String items(YonyouVersion version) {
+        return read(version.getCode() + "/data-dict-tree.js");
+    }
+
+    /**
+     * 详情原文
+     */
+    public static String detail(YonyouVersion version) {
+        switch (version) {
+            case NC65_OYONYOU:
+            case NCCLOUD:
+                return read(version.getCode() + "/detail.html");
+            default:
+                return read(version.getCode() + "/detail.json");
+        }
+    }
+
+    /**
+     * 版本对应的适配器
+     */
+    public static VersionAdapter adapter(YonyouVersion version) {
+        return adapterFactory().getAdapter(version);
+    }
+
+    private static String read(String name) {
+        try (InputStream in = Fixtures.class.getResourceAsStream("/fixtures/" + name)) {
+            if (in == null) {
+                throw new IllegalStateException("找不到基准测试语料: " + name);
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+}
@@ -0,0 +1,184 @@
+package win.ixuni.yonyoudatadict.benchmark;
+
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import win.ixuni.yonyoudatadict.adapter.VersionAdapterFactory;
+import win.ixuni.yonyoudatadict.cache.DetailPrefetcher;
+import win.ixuni.yonyoudatadict.cache.DetailStore;
+import win.ixuni.yonyoudatadict.cache.SearchResultCache;
+import win.ixuni.yonyoudatadict.config.DataDictConfig;
+import win.ixuni.yonyoudatadict.diff.SchemaDiffEngine;
+import win.ixuni.yonyoudatadict.diff.SchemaSnapshotStore;
+import win.ixuni.yonyoudatadict.graph.ReferenceGraphExplorer;
+import win.ixuni.yonyoudatadict.index.ClassNameIndex;
+import win.ixuni.yonyoudatadict.index.DataDictIndex;
+import win.ixuni.yonyoudatadict.index.ReverseRefIndex;
+import win.ixuni.yonyoudatadict.metrics.DataDictMetrics;
+import win.ixuni.yonyoudatadict.model.DataDictDetail;
+import win.ixuni.yonyoudatadict.model.DataDictItem;
+import win.ixuni.yonyoudatadict.model.YonyouVersion;
+import win.ixuni.yonyoudatadict.processor.DefaultDataDictProcessor;
+import win.ixuni.yonyoudatadict.processor.ProcessorPipeline;
+import win.ixuni.yonyoudatadict.service.DataDictService;
+import win.ixuni.yonyoudatadict.util.DataDictDownloader;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DataDictService 搜索方法的基准测试
+ * 服务按生产环境的方式组装，数据字典项列表由进程内的HTTP服务提供YonBIP高级版语料，
+ * 本地索引用语料中的详情为列表中的每个类生成一份，表名和全类名各不相同、字段相同
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SearchBenchmark {
+
+    private static final String APP_CODE = "yonbip3ddc";
+
+    // 轮换使用的查询，覆盖匹配较多、较少和没有匹配的情况
+    private static final String[] QUERIES = {"物料", "订单", "库存明细", "material", "不存在的名称"};
+
+    private HttpServer server;
+
+    private DataDictDownloader downloader;
+
+    private SchemaDiffEngine schemaDiffEngine;
+
+    private SearchResultCache searchResultCache;
+
+    private DataDictService service;
+
+    private String tableName;
+
+    private String columnName;
+
+    private int next;
+
+    @Setup
+    public void setUp() throws IOException {
+        byte[] items = Fixtures.items(YonyouVersion.YONBIP_ADVANCED).getBytes(StandardCharsets.UTF_8);
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", exchange -> {
+            exchange.getResponseHeaders().set("Content-Type", "application/javascript; charset=utf-8");
+            exchange.sendResponseHeaders(200, items.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(items);
+            }
+        });
+        server.start();
+
+        DataDictConfig config = new DataDictConfig();
+        config.setBaseUrl("http://127.0.0.1:" + server.getAddress().getPort());
+        config.setDefaultAppCode(APP_CODE);
+        config.setCacheEnabled(true);
+
+        DataDictMetrics metrics = new DataDictMetrics(new SimpleMeterRegistry());
+        VersionAdapterFactory adapterFactory = Fixtures.adapterFactory();
+        DataDictIndex dataDictIndex = new DataDictIndex();
+        ClassNameIndex classNameIndex = new ClassNameIndex();
+        ReverseRefIndex reverseRefIndex = new ReverseRefIndex();
+        DefaultDataDictProcessor defaultProcessor = new DefaultDataDictProcessor();
+        ProcessorPipeline pipeline = new ProcessorPipeline(List.of(defaultProcessor), defaultProcessor);
+        downloader = new DataDictDownloader(config, adapterFactory, dataDictIndex, classNameIndex,
+                reverseRefIndex, pipeline, metrics, new DetailStore(metrics));
+        schemaDiffEngine = new SchemaDiffEngine(downloader, new SchemaSnapshotStore(config), metrics, config);
+        searchResultCache = new SearchResultCache(config, metrics);
+        service = new DataDictService(downloader, dataDictIndex, reverseRefIndex, classNameIndex, searchResultCache,
+                new ReferenceGraphExplorer(downloader, classNameIndex, config), schemaDiffEngine, metrics, config,
+                new DetailPrefetcher(downloader, reverseRefIndex, metrics, config));
+
+        // 预先下载并缓存数据字典项列表，基准测试中不再访问HTTP服务
+        List<DataDictItem> itemList = downloader.getDataDictItemsSnapshot();
+        if (itemList.isEmpty()) {
+            throw new IllegalStateException("未能加载数据字典项列表");
+        }
+
+        DataDictDetail template = Fixtures.adapter(YonyouVersion.YONBIP_ADVANCED)
+                .parseDataDictDetail(Fixtures.detail(YonyouVersion.YONBIP_ADVANCED), "template");
+        for (int i = 0; i < itemList.size(); i++) {
+            DataDictDetail detail = template.toBuilder()
+                    .classId(itemList.get(i).getId())
+                    .defaultTableName("bd_table_" + i)
+                    .fullClassName("com.yonyou.benchmark.Entity" + i)
+                    .build();
+            dataDictIndex.indexDetail(detail);
+            classNameIndex.record(detail);
+            reverseRefIndex.indexDetail(detail, YonyouVersion.YONBIP_ADVANCED);
+        }
+        tableName = "bd_table_" + itemList.size() / 2;
+        columnName = template.getProperties().get(template.getProperties().size() / 2).getName();
+    }
+
+    @TearDown
+    public void tearDown() {
+        server.stop(0);
+        downloader.shutdown();
+        schemaDiffEngine.shutdown();
+    }
+
+    private String nextQuery() {
+        String query = QUERIES[next];
+        next = (next + 1) % QUERIES.length;
+        return query;
+    }
+
+    /**
+     * MCP工具搜索，命中搜索结果缓存
+     */
+    @Benchmark
+    public String searchByNameCached() {
+        return service.searchDataDictItemsByName(nextQuery());
+    }
+
+    /**
+     * MCP工具搜索，每次都过滤并序列化
+     */
+    @Benchmark
+    public String searchByNameUncached() {
+        searchResultCache.clear();
+        return service.searchDataDictItemsByName(nextQuery());
+    }
+
+    /**
+     * 控制器搜索，只过滤不序列化
+     */
+    @Benchmark
+    public List<DataDictItem> searchByNameForController() {
+        return service.searchDataDictItemsByNameForController(nextQuery());
+    }
+
+    @Benchmark
+    public String findClassesByTable() {
+        return service.findDataDictClassesByTable(tableName);
+    }
+
+    /**
+     * 每个类都包含该字段，返回全部类的摘要
+     */
+    @Benchmark
+    public String findClassesByColumn() {
+        return service.findDataDictClassesByColumn(columnName);
+    }
+
+}
@@ -0,0 +1,59 @@
+package win.ixuni.yonyoudatadict.service;
+
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import win.ixuni.yonyoudatadict.adapter.VersionAdapter;
+import win.ixuni.yonyoudatadict.benchmark.Fixtures;
+import win.ixuni.yonyoudatadict.model.DataDictDetail;
+import win.ixuni.yonyoudatadict.model.DataDictItem;
+import win.ixuni.yonyoudatadict.model.YonyouVersion;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link DataDictService#toOptimizedJsonString} 的基准测试
+ * 位于服务类所在的包中，以便直接调用包内可见的序列化方法
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonSerializationBenchmark {
+
+    private List<DataDictItem> items;
+
+    private DataDictDetail detail;
+
+    @Setup
+    public void setUp() {
+        VersionAdapter adapter = Fixtures.adapter(YonyouVersion.YONBIP_ADVANCED);
+        items = adapter.parseDataDictItems(Fixtures.items(YonyouVersion.YONBIP_ADVANCED));
+        detail = adapter.parseDataDictDetail(Fixtures.detail(YonyouVersion.YONBIP_ADVANCED), "benchmark");
+    }
+
+    /**
+     * 全部数据字典项，对应空查询的搜索结果
+     */
+    @Benchmark
+    public String serializeItems() {
+        return DataDictService.toOptimizedJsonString(items);
+    }
+
+    @Benchmark
+    public String serializeDetail() {
+        return DataDictService.toOptimizedJsonString(detail);
+    }
+
+}
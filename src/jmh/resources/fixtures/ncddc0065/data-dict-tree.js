@@ -0,0 +1,3000 @@
+var dataDictIndexData = [{id:"3945860044",name:"物料主表"},
+{id:"2448368051",name:"客户主表"},
+{id:"1992539569",name:"供应商主表"},
+{id:"3628967792",name:"销售订单主表"},
+{id:"2897132747",name:"采购订单主表"},
+{id:"2966678627",name:"库存主表"},
+{id:"7175883269",name:"组织主表"},
+{id:"3434700070",name:"人员主表"},
+{id:"1426130068",name:"部门主表"},
+{id:"9829098380",name:"项目主表"},
+{id:"2578253341",name:"合同主表"},
+{id:"1204875664",name:"发票主表"},
+{id:"6204443974",name:"收款单主表"},
+{id:"5507501881",name:"付款单主表"},
+{id:"7347779668",name:"凭证主表"},
+{id:"3646851754",name:"科目主表"},
+{id:"4083967424",name:"币种主表"},
+{id:"3552011198",name:"仓库主表"},
+{id:"5668240298",name:"批次主表"},
+{id:"4295376180",name:"工单主表"},
+{id:"8904046752",name:"生产订单主表"},
+{id:"1540485836",name:"质检主表"},
+{id:"5450036260",name:"资产主表"},
+{id:"4764082214",name:"预算主表"},
+{id:"6233736570",name:"费用主表"},
+{id:"7196718964",name:"报销主表"},
+{id:"7915837207",name:"薪资主表"},
+{id:"9891854631",name:"考勤主表"},
+{id:"9533187818",name:"岗位主表"},
+{id:"9745814422",name:"银行账户主表"},
+{id:"1479343024",name:"物料子表"},
+{id:"6957165520",name:"客户子表"},
+{id:"1895582552",name:"供应商子表"},
+{id:"4360569036",name:"销售订单子表"},
+{id:"5167945369",name:"采购订单子表"},
+{id:"8527550778",name:"库存子表"},
+{id:"7178105404",name:"组织子表"},
+{id:"2809991510",name:"人员子表"},
+{id:"4825044453",name:"部门子表"},
+{id:"6033154801",name:"项目子表"},
+{id:"8804087391",name:"合同子表"},
+{id:"8908842310",name:"发票子表"},
+{id:"6870252267",name:"收款单子表"},
+{id:"8458101265",name:"付款单子表"},
+{id:"3922283011",name:"凭证子表"},
+{id:"3569267912",name:"科目子表"},
+{id:"9307214760",name:"币种子表"},
+{id:"8694207904",name:"仓库子表"},
+{id:"8708841759",name:"批次子表"},
+{id:"7440467233",name:"工单子表"},
+{id:"4743096954",name:"生产订单子表"},
+{id:"6646195864",name:"质检子表"},
+{id:"4094668840",name:"资产子表"},
+{id:"1331751778",name:"预算子表"},
+{id:"8321296779",name:"费用子表"},
+{id:"6093118478",name:"报销子表"},
+{id:"2313025652",name:"薪资子表"},
+{id:"9632106675",name:"考勤子表"},
+{id:"8938334590",name:"岗位子表"},
+{id:"7962869577",name:"银行账户子表"},
+{id:"2248371999",name:"物料明细"},
+{id:"7149144693",name:"客户明细"},
+{id:"9939731479",name:"供应商明细"},
+{id:"5455896143",name:"销售订单明细"},
+{id:"9310570277",name:"采购订单明细"},
+{id:"9623017785",name:"库存明细"},
+{id:"2831783378",name:"组织明细"},
+{id:"9227300133",name:"人员明细"},
+{id:"5583989464",name:"部门明细"},
+{id:"3320227785",name:"项目明细"},
+{id:"4478198740",name:"合同明细"},
+{id:"9457428331",name:"发票明细"},
+{id:"2752680790",name:"收款单明细"},
+{id:"7662563060",name:"付款单明细"},
+{id:"6619689608",name:"凭证明细"},
+{id:"4233436497",name:"科目明细"},
+{id:"2929688031",name:"币种明细"},
+{id:"1041312995",name:"仓库明细"},
+{id:"1208759331",name:"批次明细"},
+{id:"5114604686",name:"工单明细"},
+{id:"9576006479",name:"生产订单明细"},
+{id:"1416049003",name:"质检明细"},
+{id:"6231881147",name:"资产明细"},
+{id:"6228716086",name:"预算明细"},
+{id:"7649784408",name:"费用明细"},
+{id:"4758184848",name:"报销明细"},
+{id:"3279637334",name:"薪资明细"},
+{id:"5983250408",name:"考勤明细"},
+{id:"9717488448",name:"岗位明细"},
+{id:"3527498070",name:"银行账户明细"},
+{id:"1041068453",name:"物料档案"},
+{id:"6558829162",name:"客户档案"},
+{id:"8920471616",name:"供应商档案"},
+{id:"9649776245",name:"销售订单档案"},
+{id:"9948728601",name:"采购订单档案"},
+{id:"2781725010",name:"库存档案"},
+{id:"9250325443",name:"组织档案"},
+{id:"8442901246",name:"人员档案"},
+{id:"1532385093",name:"部门档案"},
+{id:"6955679470",name:"项目档案"},
+{id:"7342468364",name:"合同档案"},
+{id:"5525582346",name:"发票档案"},
+{id:"3087629060",name:"收款单档案"},
+{id:"7212256097",name:"付款单档案"},
+{id:"7727886203",name:"凭证档案"},
+{id:"6255276236",name:"科目档案"},
+{id:"3125360038",name:"币种档案"},
+{id:"9358100815",name:"仓库档案"},
+{id:"7885721388",name:"批次档案"},
+{id:"2053194166",name:"工单档案"},
+{id:"7675899838",name:"生产订单档案"},
+{id:"7306052241",name:"质检档案"},
+{id:"9706228601",name:"资产档案"},
+{id:"8686594835",name:"预算档案"},
+{id:"9083833595",name:"费用档案"},
+{id:"7869320432",name:"报销档案"},
+{id:"4636724312",name:"薪资档案"},
+{id:"6835977984",name:"考勤档案"},
+{id:"1784871387",name:"岗位档案"},
+{id:"9299600215",name:"银行账户档案"},
+{id:"8996230562",name:"物料表头"},
+{id:"9914564724",name:"客户表头"},
+{id:"9760909537",name:"供应商表头"},
+{id:"7883197706",name:"销售订单表头"},
+{id:"2692538165",name:"采购订单表头"},
+{id:"7592825182",name:"库存表头"},
+{id:"8367429355",name:"组织表头"},
+{id:"4040340487",name:"人员表头"},
+{id:"1245068118",name:"部门表头"},
+{id:"8247564742",name:"项目表头"},
+{id:"3094870451",name:"合同表头"},
+{id:"7056944948",name:"发票表头"},
+{id:"1358801390",name:"收款单表头"},
+{id:"7108279444",name:"付款单表头"},
+{id:"6967475555",name:"凭证表头"},
+{id:"9612058074",name:"科目表头"},
+{id:"7484216612",name:"币种表头"},
+{id:"8528481526",name:"仓库表头"},
+{id:"9921378529",name:"批次表头"},
+{id:"5256868395",name:"工单表头"},
+{id:"5721238757",name:"生产订单表头"},
+{id:"3802936146",name:"质检表头"},
+{id:"7714870980",name:"资产表头"},
+{id:"1875441490",name:"预算表头"},
+{id:"7524530500",name:"费用表头"},
+{id:"6337050636",name:"报销表头"},
+{id:"5923475154",name:"薪资表头"},
+{id:"7825175728",name:"考勤表头"},
+{id:"8007435372",name:"岗位表头"},
+{id:"1775105071",name:"银行账户表头"},
+{id:"2381686067",name:"物料表体"},
+{id:"4009696192",name:"客户表体"},
+{id:"5080445688",name:"供应商表体"},
+{id:"6238151676",name:"销售订单表体"},
+{id:"3236330496",name:"采购订单表体"},
+{id:"6410277902",name:"库存表体"},
+{id:"4709073628",name:"组织表体"},
+{id:"4990290677",name:"人员表体"},
+{id:"5770028898",name:"部门表体"},
+{id:"1128005215",name:"项目表体"},
+{id:"1746035792",name:"合同表体"},
+{id:"5285207171",name:"发票表体"},
+{id:"1098864594",name:"收款单表体"},
+{id:"5365204287",name:"付款单表体"},
+{id:"9541504091",name:"凭证表体"},
+{id:"5931485051",name:"科目表体"},
+{id:"4745263818",name:"币种表体"},
+{id:"2465217906",name:"仓库表体"},
+{id:"1925651636",name:"批次表体"},
+{id:"1835540706",name:"工单表体"},
+{id:"8251444956",name:"生产订单表体"},
+{id:"8524423959",name:"质检表体"},
+{id:"7408190671",name:"资产表体"},
+{id:"1235785815",name:"预算表体"},
+{id:"6428936516",name:"费用表体"},
+{id:"6835427130",name:"报销表体"},
+{id:"3664289491",name:"薪资表体"},
+{id:"9112921786",name:"考勤表体"},
+{id:"6303517564",name:"岗位表体"},
+{id:"3451133339",name:"银行账户表体"},
+{id:"9032124951",name:"物料分类"},
+{id:"6005269070",name:"客户分类"},
+{id:"4290740695",name:"供应商分类"},
+{id:"4600126156",name:"销售订单分类"},
+{id:"1667692935",name:"采购订单分类"},
+{id:"5785535283",name:"库存分类"},
+{id:"7785262388",name:"组织分类"},
+{id:"6965699738",name:"人员分类"},
+{id:"9481850746",name:"部门分类"},
+{id:"5976914976",name:"项目分类"},
+{id:"3123767248",name:"合同分类"},
+{id:"4510019225",name:"发票分类"},
+{id:"1024192463",name:"收款单分类"},
+{id:"2908122959",name:"付款单分类"},
+{id:"6447885355",name:"凭证分类"},
+{id:"6361667428",name:"科目分类"},
+{id:"6970171326",name:"币种分类"},
+{id:"5618909264",name:"仓库分类"},
+{id:"1726257428",name:"批次分类"},
+{id:"6348037787",name:"工单分类"},
+{id:"7913485211",name:"生产订单分类"},
+{id:"3997782679",name:"质检分类"},
+{id:"4621719071",name:"资产分类"},
+{id:"5194415764",name:"预算分类"},
+{id:"5257493902",name:"费用分类"},
+{id:"5437887803",name:"报销分类"},
+{id:"3527298168",name:"薪资分类"},
+{id:"4760701419",name:"考勤分类"},
+{id:"4645406482",name:"岗位分类"},
+{id:"5371962715",name:"银行账户分类"},
+{id:"4201810697",name:"物料关系"},
+{id:"3709857712",name:"客户关系"},
+{id:"5287422553",name:"供应商关系"},
+{id:"7658348267",name:"销售订单关系"},
+{id:"5536089057",name:"采购订单关系"},
+{id:"2136616495",name:"库存关系"},
+{id:"5712644418",name:"组织关系"},
+{id:"4064490078",name:"人员关系"},
+{id:"4707152117",name:"部门关系"},
+{id:"9117263858",name:"项目关系"},
+{id:"8774186597",name:"合同关系"},
+{id:"8991393792",name:"发票关系"},
+{id:"1214834899",name:"收款单关系"},
+{id:"3737729611",name:"付款单关系"},
+{id:"2221007715",name:"凭证关系"},
+{id:"4048344970",name:"科目关系"},
+{id:"7727665621",name:"币种关系"},
+{id:"3240508739",name:"仓库关系"},
+{id:"6935659973",name:"批次关系"},
+{id:"6990134115",name:"工单关系"},
+{id:"4688588657",name:"生产订单关系"},
+{id:"2376111058",name:"质检关系"},
+{id:"6578668931",name:"资产关系"},
+{id:"2475023282",name:"预算关系"},
+{id:"3931908276",name:"费用关系"},
+{id:"7767671733",name:"报销关系"},
+{id:"2466100083",name:"薪资关系"},
+{id:"5492145843",name:"考勤关系"},
+{id:"4892336237",name:"岗位关系"},
+{id:"8183409410",name:"银行账户关系"},
+{id:"5600140754",name:"物料日志"},
+{id:"8398096674",name:"客户日志"},
+{id:"3526191821",name:"供应商日志"},
+{id:"2711659344",name:"销售订单日志"},
+{id:"7328755611",name:"采购订单日志"},
+{id:"4537319984",name:"库存日志"},
+{id:"4630231214",name:"组织日志"},
+{id:"6260313236",name:"人员日志"},
+{id:"2155901210",name:"部门日志"},
+{id:"5802389799",name:"项目日志"},
+{id:"3230813693",name:"合同日志"},
+{id:"2269859968",name:"发票日志"},
+{id:"9466088730",name:"收款单日志"},
+{id:"1696565297",name:"付款单日志"},
+{id:"2781494984",name:"凭证日志"},
+{id:"7676964650",name:"科目日志"},
+{id:"2947217012",name:"币种日志"},
+{id:"4722164344",name:"仓库日志"},
+{id:"4695574347",name:"批次日志"},
+{id:"5779134717",name:"工单日志"},
+{id:"5008441620",name:"生产订单日志"},
+{id:"5115380767",name:"质检日志"},
+{id:"9110176124",name:"资产日志"},
+{id:"8001774068",name:"预算日志"},
+{id:"6633116039",name:"费用日志"},
+{id:"5860105705",name:"报销日志"},
+{id:"9109298381",name:"薪资日志"},
+{id:"6351499236",name:"考勤日志"},
+{id:"5843161378",name:"岗位日志"},
+{id:"1625928621",name:"银行账户日志"},
+{id:"7896999616",name:"物料扩展"},
+{id:"6197484163",name:"客户扩展"},
+{id:"6764518320",name:"供应商扩展"},
+{id:"8127483657",name:"销售订单扩展"},
+{id:"4316497503",name:"采购订单扩展"},
+{id:"1938399013",name:"库存扩展"},
+{id:"5824893508",name:"组织扩展"},
+{id:"3651083236",name:"人员扩展"},
+{id:"3772747068",name:"部门扩展"},
+{id:"4140245707",name:"项目扩展"},
+{id:"2932766800",name:"合同扩展"},
+{id:"8318973728",name:"发票扩展"},
+{id:"6460015863",name:"收款单扩展"},
+{id:"4564308242",name:"付款单扩展"},
+{id:"7787865195",name:"凭证扩展"},
+{id:"5913449600",name:"科目扩展"},
+{id:"9229922614",name:"币种扩展"},
+{id:"2647461215",name:"仓库扩展"},
+{id:"9821940031",name:"批次扩展"},
+{id:"8447675728",name:"工单扩展"},
+{id:"2047659273",name:"生产订单扩展"},
+{id:"4379061336",name:"质检扩展"},
+{id:"5454904757",name:"资产扩展"},
+{id:"8758249664",name:"预算扩展"},
+{id:"2538644223",name:"费用扩展"},
+{id:"2088448363",name:"报销扩展"},
+{id:"1974407968",name:"薪资扩展"},
+{id:"6432304794",name:"考勤扩展"},
+{id:"2999981742",name:"岗位扩展"},
+{id:"8773391730",name:"银行账户扩展"},
+{id:"4836470780",name:"物料主表1"},
+{id:"8761720207",name:"客户主表1"},
+{id:"9301417230",name:"供应商主表1"},
+{id:"3693127476",name:"销售订单主表1"},
+{id:"9193590264",name:"采购订单主表1"},
+{id:"1349240430",name:"库存主表1"},
+{id:"5523493334",name:"组织主表1"},
+{id:"5005490572",name:"人员主表1"},
+{id:"5105374992",name:"部门主表1"},
+{id:"3916622875",name:"项目主表1"},
+{id:"5673302170",name:"合同主表1"},
+{id:"1530388006",name:"发票主表1"},
+{id:"7450193741",name:"收款单主表1"},
+{id:"4843303731",name:"付款单主表1"},
+{id:"1376553823",name:"凭证主表1"},
+{id:"7294640819",name:"科目主表1"},
+{id:"8639699115",name:"币种主表1"},
+{id:"5391369079",name:"仓库主表1"},
+{id:"8820509238",name:"批次主表1"},
+{id:"7121713689",name:"工单主表1"},
+{id:"3061095775",name:"生产订单主表1"},
+{id:"7798262678",name:"质检主表1"},
+{id:"9974987038",name:"资产主表1"},
+{id:"9260147842",name:"预算主表1"},
+{id:"7940839069",name:"费用主表1"},
+{id:"9652137182",name:"报销主表1"},
+{id:"5283846990",name:"薪资主表1"},
+{id:"6389358662",name:"考勤主表1"},
+{id:"3900039062",name:"岗位主表1"},
+{id:"7167488824",name:"银行账户主表1"},
+{id:"3882693196",name:"物料子表1"},
+{id:"5334995948",name:"客户子表1"},
+{id:"5401059203",name:"供应商子表1"},
+{id:"9721542319",name:"销售订单子表1"},
+{id:"4210868953",name:"采购订单子表1"},
+{id:"2515906369",name:"库存子表1"},
+{id:"5702654517",name:"组织子表1"},
+{id:"6806011154",name:"人员子表1"},
+{id:"1081552602",name:"部门子表1"},
+{id:"7214045493",name:"项目子表1"},
+{id:"9661482919",name:"合同子表1"},
+{id:"8180459376",name:"发票子表1"},
+{id:"2722261527",name:"收款单子表1"},
+{id:"8124665764",name:"付款单子表1"},
+{id:"6041618283",name:"凭证子表1"},
+{id:"2468731109",name:"科目子表1"},
+{id:"2063165403",name:"币种子表1"},
+{id:"2244926732",name:"仓库子表1"},
+{id:"4043938456",name:"批次子表1"},
+{id:"1265312084",name:"工单子表1"},
+{id:"4729646952",name:"生产订单子表1"},
+{id:"5247745167",name:"质检子表1"},
+{id:"6772443447",name:"资产子表1"},
+{id:"8951562571",name:"预算子表1"},
+{id:"8227918170",name:"费用子表1"},
+{id:"8385724544",name:"报销子表1"},
+{id:"4662613499",name:"薪资子表1"},
+{id:"8580856053",name:"考勤子表1"},
+{id:"8495646801",name:"岗位子表1"},
+{id:"3946503625",name:"银行账户子表1"},
+{id:"9714909423",name:"物料明细1"},
+{id:"2448256306",name:"客户明细1"},
+{id:"8149188758",name:"供应商明细1"},
+{id:"8434931904",name:"销售订单明细1"},
+{id:"6810204915",name:"采购订单明细1"},
+{id:"4495426713",name:"库存明细1"},
+{id:"4071793469",name:"组织明细1"},
+{id:"5993321858",name:"人员明细1"},
+{id:"7140374280",name:"部门明细1"},
+{id:"6960906174",name:"项目明细1"},
+{id:"2748214754",name:"合同明细1"},
+{id:"5203059128",name:"发票明细1"},
+{id:"9843165397",name:"收款单明细1"},
+{id:"7441531876",name:"付款单明细1"},
+{id:"6353904609",name:"凭证明细1"},
+{id:"5524804020",name:"科目明细1"},
+{id:"5370088149",name:"币种明细1"},
+{id:"1649909323",name:"仓库明细1"},
+{id:"2735870888",name:"批次明细1"},
+{id:"5302367422",name:"工单明细1"},
+{id:"5950615721",name:"生产订单明细1"},
+{id:"1610938798",name:"质检明细1"},
+{id:"8578790673",name:"资产明细1"},
+{id:"4046735220",name:"预算明细1"},
+{id:"5491441986",name:"费用明细1"},
+{id:"1764294125",name:"报销明细1"},
+{id:"3086618337",name:"薪资明细1"},
+{id:"6578369143",name:"考勤明细1"},
+{id:"1222992509",name:"岗位明细1"},
+{id:"6279553585",name:"银行账户明细1"},
+{id:"7708115925",name:"物料档案1"},
+{id:"1970160812",name:"客户档案1"},
+{id:"6127007799",name:"供应商档案1"},
+{id:"9548653833",name:"销售订单档案1"},
+{id:"1291958946",name:"采购订单档案1"},
+{id:"2914743622",name:"库存档案1"},
+{id:"1260368119",name:"组织档案1"},
+{id:"1571896865",name:"人员档案1"},
+{id:"5043416515",name:"部门档案1"},
+{id:"3196380666",name:"项目档案1"},
+{id:"1480846753",name:"合同档案1"},
+{id:"9396852972",name:"发票档案1"},
+{id:"7414673502",name:"收款单档案1"},
+{id:"4801342409",name:"付款单档案1"},
+{id:"6928905371",name:"凭证档案1"},
+{id:"6679447884",name:"科目档案1"},
+{id:"6733500029",name:"币种档案1"},
+{id:"4621820137",name:"仓库档案1"},
+{id:"9345937288",name:"批次档案1"},
+{id:"2043932921",name:"工单档案1"},
+{id:"8113681046",name:"生产订单档案1"},
+{id:"2633642559",name:"质检档案1"},
+{id:"6490573942",name:"资产档案1"},
+{id:"6473153463",name:"预算档案1"},
+{id:"3434044605",name:"费用档案1"},
+{id:"9075201522",name:"报销档案1"},
+{id:"8540009456",name:"薪资档案1"},
+{id:"7477295053",name:"考勤档案1"},
+{id:"2799077481",name:"岗位档案1"},
+{id:"6134128141",name:"银行账户档案1"},
+{id:"6587425492",name:"物料表头1"},
+{id:"7631419064",name:"客户表头1"},
+{id:"3136424182",name:"供应商表头1"},
+{id:"7733859091",name:"销售订单表头1"},
+{id:"2836872592",name:"采购订单表头1"},
+{id:"3857450248",name:"库存表头1"},
+{id:"1282153070",name:"组织表头1"},
+{id:"5177146897",name:"人员表头1"},
+{id:"1529328542",name:"部门表头1"},
+{id:"3786716937",name:"项目表头1"},
+{id:"1354147101",name:"合同表头1"},
+{id:"4806119771",name:"发票表头1"},
+{id:"8395698822",name:"收款单表头1"},
+{id:"5457107430",name:"付款单表头1"},
+{id:"7913385568",name:"凭证表头1"},
+{id:"8092643743",name:"科目表头1"},
+{id:"7465846934",name:"币种表头1"},
+{id:"8324089083",name:"仓库表头1"},
+{id:"7360679081",name:"批次表头1"},
+{id:"8281881787",name:"工单表头1"},
+{id:"5360258809",name:"生产订单表头1"},
+{id:"4012179156",name:"质检表头1"},
+{id:"5129318568",name:"资产表头1"},
+{id:"8121861508",name:"预算表头1"},
+{id:"8914572335",name:"费用表头1"},
+{id:"3854135159",name:"报销表头1"},
+{id:"5397104294",name:"薪资表头1"},
+{id:"7691300042",name:"考勤表头1"},
+{id:"5923659712",name:"岗位表头1"},
+{id:"4604439496",name:"银行账户表头1"},
+{id:"5839735033",name:"物料表体1"},
+{id:"5139847174",name:"客户表体1"},
+{id:"9150767772",name:"供应商表体1"},
+{id:"4268012200",name:"销售订单表体1"},
+{id:"9952650809",name:"采购订单表体1"},
+{id:"7086040683",name:"库存表体1"},
+{id:"5413896115",name:"组织表体1"},
+{id:"6687418504",name:"人员表体1"},
+{id:"1734163750",name:"部门表体1"},
+{id:"9912943389",name:"项目表体1"},
+{id:"1704359355",name:"合同表体1"},
+{id:"9855688976",name:"发票表体1"},
+{id:"3137764306",name:"收款单表体1"},
+{id:"9855903930",name:"付款单表体1"},
+{id:"7118086740",name:"凭证表体1"},
+{id:"6411546812",name:"科目表体1"},
+{id:"1904484985",name:"币种表体1"},
+{id:"5026221167",name:"仓库表体1"},
+{id:"9310190084",name:"批次表体1"},
+{id:"7525824436",name:"工单表体1"},
+{id:"9464851614",name:"生产订单表体1"},
+{id:"6942503660",name:"质检表体1"},
+{id:"4453136267",name:"资产表体1"},
+{id:"1349489751",name:"预算表体1"},
+{id:"2463011524",name:"费用表体1"},
+{id:"6616155252",name:"报销表体1"},
+{id:"4403140590",name:"薪资表体1"},
+{id:"5480452430",name:"考勤表体1"},
+{id:"7931088389",name:"岗位表体1"},
+{id:"8555065354",name:"银行账户表体1"},
+{id:"2887572665",name:"物料分类1"},
+{id:"2476371409",name:"客户分类1"},
+{id:"9083631450",name:"供应商分类1"},
+{id:"4809112513",name:"销售订单分类1"},
+{id:"4633490976",name:"采购订单分类1"},
+{id:"3203103248",name:"库存分类1"},
+{id:"4269021808",name:"组织分类1"},
+{id:"9929026968",name:"人员分类1"},
+{id:"9446290711",name:"部门分类1"},
+{id:"1151574385",name:"项目分类1"},
+{id:"1441375999",name:"合同分类1"},
+{id:"7511412736",name:"发票分类1"},
+{id:"9377256562",name:"收款单分类1"},
+{id:"9374565798",name:"付款单分类1"},
+{id:"3422110550",name:"凭证分类1"},
+{id:"9013287343",name:"科目分类1"},
+{id:"7815939680",name:"币种分类1"},
+{id:"7716416544",name:"仓库分类1"},
+{id:"9850368086",name:"批次分类1"},
+{id:"3302709024",name:"工单分类1"},
+{id:"2097591329",name:"生产订单分类1"},
+{id:"7555253138",name:"质检分类1"},
+{id:"2059241164",name:"资产分类1"},
+{id:"7817774786",name:"预算分类1"},
+{id:"1862097954",name:"费用分类1"},
+{id:"9951038286",name:"报销分类1"},
+{id:"4491149721",name:"薪资分类1"},
+{id:"9685632778",name:"考勤分类1"},
+{id:"7819188739",name:"岗位分类1"},
+{id:"1120386565",name:"银行账户分类1"},
+{id:"2334500965",name:"物料关系1"},
+{id:"4296873665",name:"客户关系1"},
+{id:"1022752007",name:"供应商关系1"},
+{id:"4703971584",name:"销售订单关系1"},
+{id:"2986999440",name:"采购订单关系1"},
+{id:"4134140787",name:"库存关系1"},
+{id:"6433161012",name:"组织关系1"},
+{id:"5554006338",name:"人员关系1"},
+{id:"3302092365",name:"部门关系1"},
+{id:"2135851773",name:"项目关系1"},
+{id:"2232060336",name:"合同关系1"},
+{id:"2549236090",name:"发票关系1"},
+{id:"3002394506",name:"收款单关系1"},
+{id:"7535209871",name:"付款单关系1"},
+{id:"3219228167",name:"凭证关系1"},
+{id:"9819961370",name:"科目关系1"},
+{id:"5507631310",name:"币种关系1"},
+{id:"9853100871",name:"仓库关系1"},
+{id:"7759920813",name:"批次关系1"},
+{id:"2940036672",name:"工单关系1"},
+{id:"4936630935",name:"生产订单关系1"},
+{id:"1066265834",name:"质检关系1"},
+{id:"9595485707",name:"资产关系1"},
+{id:"5028744553",name:"预算关系1"},
+{id:"2651569299",name:"费用关系1"},
+{id:"5993256396",name:"报销关系1"},
+{id:"5366312273",name:"薪资关系1"},
+{id:"9729612352",name:"考勤关系1"},
+{id:"7006654238",name:"岗位关系1"},
+{id:"7827995933",name:"银行账户关系1"},
+{id:"5480285751",name:"物料日志1"},
+{id:"9934837564",name:"客户日志1"},
+{id:"7799763538",name:"供应商日志1"},
+{id:"9040910345",name:"销售订单日志1"},
+{id:"4358857668",name:"采购订单日志1"},
+{id:"6916302858",name:"库存日志1"},
+{id:"5035559424",name:"组织日志1"},
+{id:"4264003243",name:"人员日志1"},
+{id:"2598642404",name:"部门日志1"},
+{id:"5491819754",name:"项目日志1"},
+{id:"4590107862",name:"合同日志1"},
+{id:"3102384565",name:"发票日志1"},
+{id:"1386809813",name:"收款单日志1"},
+{id:"7963600295",name:"付款单日志1"},
+{id:"9198866023",name:"凭证日志1"},
+{id:"1540891727",name:"科目日志1"},
+{id:"8250086227",name:"币种日志1"},
+{id:"8815353241",name:"仓库日志1"},
+{id:"2193410272",name:"批次日志1"},
+{id:"8648242450",name:"工单日志1"},
+{id:"1949410716",name:"生产订单日志1"},
+{id:"4281442377",name:"质检日志1"},
+{id:"8403796129",name:"资产日志1"},
+{id:"3546254240",name:"预算日志1"},
+{id:"8908763550",name:"费用日志1"},
+{id:"2956952868",name:"报销日志1"},
+{id:"9892639113",name:"薪资日志1"},
+{id:"5814892567",name:"考勤日志1"},
+{id:"5909071525",name:"岗位日志1"},
+{id:"9298124104",name:"银行账户日志1"},
+{id:"8206878374",name:"物料扩展1"},
+{id:"1708290850",name:"客户扩展1"},
+{id:"1859997406",name:"供应商扩展1"},
+{id:"5435036952",name:"销售订单扩展1"},
+{id:"6667083257",name:"采购订单扩展1"},
+{id:"2631253267",name:"库存扩展1"},
+{id:"5480389695",name:"组织扩展1"},
+{id:"1936037387",name:"人员扩展1"},
+{id:"5499085427",name:"部门扩展1"},
+{id:"2777085949",name:"项目扩展1"},
+{id:"7392985137",name:"合同扩展1"},
+{id:"3180075100",name:"发票扩展1"},
+{id:"5273141759",name:"收款单扩展1"},
+{id:"4878296412",name:"付款单扩展1"},
+{id:"4288885367",name:"凭证扩展1"},
+{id:"7829245654",name:"科目扩展1"},
+{id:"1284401219",name:"币种扩展1"},
+{id:"9841010132",name:"仓库扩展1"},
+{id:"3944855315",name:"批次扩展1"},
+{id:"9571341598",name:"工单扩展1"},
+{id:"6708752525",name:"生产订单扩展1"},
+{id:"5109102688",name:"质检扩展1"},
+{id:"4170861579",name:"资产扩展1"},
+{id:"9222628963",name:"预算扩展1"},
+{id:"5908551248",name:"费用扩展1"},
+{id:"1997054529",name:"报销扩展1"},
+{id:"9952301976",name:"薪资扩展1"},
+{id:"4303495562",name:"考勤扩展1"},
+{id:"3517545168",name:"岗位扩展1"},
+{id:"4564898525",name:"银行账户扩展1"},
+{id:"3766172255",name:"物料主表2"},
+{id:"9509980290",name:"客户主表2"},
+{id:"9318151484",name:"供应商主表2"},
+{id:"1685143280",name:"销售订单主表2"},
+{id:"7099822738",name:"采购订单主表2"},
+{id:"9236028771",name:"库存主表2"},
+{id:"1882428581",name:"组织主表2"},
+{id:"9051066885",name:"人员主表2"},
+{id:"8939270139",name:"部门主表2"},
+{id:"8077400665",name:"项目主表2"},
+{id:"3179375975",name:"合同主表2"},
+{id:"5066396043",name:"发票主表2"},
+{id:"3931767565",name:"收款单主表2"},
+{id:"8289159877",name:"付款单主表2"},
+{id:"3866389752",name:"凭证主表2"},
+{id:"6659521514",name:"科目主表2"},
+{id:"8331652579",name:"币种主表2"},
+{id:"8877880955",name:"仓库主表2"},
+{id:"7738294618",name:"批次主表2"},
+{id:"8115829441",name:"工单主表2"},
+{id:"3367044727",name:"生产订单主表2"},
+{id:"1961575778",name:"质检主表2"},
+{id:"7823395558",name:"资产主表2"},
+{id:"2657166098",name:"预算主表2"},
+{id:"6458747390",name:"费用主表2"},
+{id:"6849797510",name:"报销主表2"},
+{id:"5858033889",name:"薪资主表2"},
+{id:"6602710582",name:"考勤主表2"},
+{id:"9825748896",name:"岗位主表2"},
+{id:"8340080805",name:"银行账户主表2"},
+{id:"8802525478",name:"物料子表2"},
+{id:"4990729052",name:"客户子表2"},
+{id:"4988190824",name:"供应商子表2"},
+{id:"1430253442",name:"销售订单子表2"},
+{id:"6791371312",name:"采购订单子表2"},
+{id:"6763126029",name:"库存子表2"},
+{id:"1586035409",name:"组织子表2"},
+{id:"9510285325",name:"人员子表2"},
+{id:"7948556287",name:"部门子表2"},
+{id:"6954316729",name:"项目子表2"},
+{id:"8501718807",name:"合同子表2"},
+{id:"3099514052",name:"发票子表2"},
+{id:"6353315332",name:"收款单子表2"},
+{id:"4010506075",name:"付款单子表2"},
+{id:"4046606136",name:"凭证子表2"},
+{id:"3730737570",name:"科目子表2"},
+{id:"6067821959",name:"币种子表2"},
+{id:"3923404463",name:"仓库子表2"},
+{id:"6797782629",name:"批次子表2"},
+{id:"6385218379",name:"工单子表2"},
+{id:"4022353444",name:"生产订单子表2"},
+{id:"7458396618",name:"质检子表2"},
+{id:"8838641328",name:"资产子表2"},
+{id:"4656501129",name:"预算子表2"},
+{id:"9881831472",name:"费用子表2"},
+{id:"9895820520",name:"报销子表2"},
+{id:"5118137961",name:"薪资子表2"},
+{id:"7433479039",name:"考勤子表2"},
+{id:"6290159775",name:"岗位子表2"},
+{id:"3963798996",name:"银行账户子表2"},
+{id:"4885391103",name:"物料明细2"},
+{id:"6922726139",name:"客户明细2"},
+{id:"5639099489",name:"供应商明细2"},
+{id:"4997244476",name:"销售订单明细2"},
+{id:"4484412905",name:"采购订单明细2"},
+{id:"6831629471",name:"库存明细2"},
+{id:"6483288640",name:"组织明细2"},
+{id:"2576029809",name:"人员明细2"},
+{id:"7780577062",name:"部门明细2"},
+{id:"9360587478",name:"项目明细2"},
+{id:"6642600870",name:"合同明细2"},
+{id:"2912924017",name:"发票明细2"},
+{id:"5581597684",name:"收款单明细2"},
+{id:"6126741797",name:"付款单明细2"},
+{id:"9183357754",name:"凭证明细2"},
+{id:"2644663639",name:"科目明细2"},
+{id:"2091522563",name:"币种明细2"},
+{id:"3391962146",name:"仓库明细2"},
+{id:"7075404559",name:"批次明细2"},
+{id:"7134618457",name:"工单明细2"},
+{id:"8566010531",name:"生产订单明细2"},
+{id:"2670518652",name:"质检明细2"},
+{id:"4051108822",name:"资产明细2"},
+{id:"9129880857",name:"预算明细2"},
+{id:"9119519768",name:"费用明细2"},
+{id:"9331901206",name:"报销明细2"},
+{id:"7587758766",name:"薪资明细2"},
+{id:"9578746134",name:"考勤明细2"},
+{id:"3178808429",name:"岗位明细2"},
+{id:"7240063323",name:"银行账户明细2"},
+{id:"1413687341",name:"物料档案2"},
+{id:"8179679489",name:"客户档案2"},
+{id:"3499836809",name:"供应商档案2"},
+{id:"9748362033",name:"销售订单档案2"},
+{id:"9785159238",name:"采购订单档案2"},
+{id:"8483277577",name:"库存档案2"},
+{id:"5569590407",name:"组织档案2"},
+{id:"8101661395",name:"人员档案2"},
+{id:"7383356236",name:"部门档案2"},
+{id:"7187516182",name:"项目档案2"},
+{id:"1680295588",name:"合同档案2"},
+{id:"2850829690",name:"发票档案2"},
+{id:"2797288875",name:"收款单档案2"},
+{id:"8796813146",name:"付款单档案2"},
+{id:"7541868969",name:"凭证档案2"},
+{id:"5881739540",name:"科目档案2"},
+{id:"7364349677",name:"币种档案2"},
+{id:"8599817727",name:"仓库档案2"},
+{id:"2197547793",name:"批次档案2"},
+{id:"3547946282",name:"工单档案2"},
+{id:"4899336790",name:"生产订单档案2"},
+{id:"3310849486",name:"质检档案2"},
+{id:"8926546487",name:"资产档案2"},
+{id:"4578077196",name:"预算档案2"},
+{id:"8924069014",name:"费用档案2"},
+{id:"2254880604",name:"报销档案2"},
+{id:"8843574875",name:"薪资档案2"},
+{id:"4746840638",name:"考勤档案2"},
+{id:"4660720315",name:"岗位档案2"},
+{id:"5241707607",name:"银行账户档案2"},
+{id:"6757850502",name:"物料表头2"},
+{id:"2237462356",name:"客户表头2"},
+{id:"7736939651",name:"供应商表头2"},
+{id:"8379416010",name:"销售订单表头2"},
+{id:"5529588993",name:"采购订单表头2"},
+{id:"2759793271",name:"库存表头2"},
+{id:"2676742527",name:"组织表头2"},
+{id:"3743229690",name:"人员表头2"},
+{id:"3869606663",name:"部门表头2"},
+{id:"9400983790",name:"项目表头2"},
+{id:"4130731007",name:"合同表头2"},
+{id:"2716000291",name:"发票表头2"},
+{id:"6055815576",name:"收款单表头2"},
+{id:"6243700351",name:"付款单表头2"},
+{id:"4014633686",name:"凭证表头2"},
+{id:"2160663976",name:"科目表头2"},
+{id:"5229110168",name:"币种表头2"},
+{id:"5760967756",name:"仓库表头2"},
+{id:"6527540012",name:"批次表头2"},
+{id:"7035358309",name:"工单表头2"},
+{id:"9066771076",name:"生产订单表头2"},
+{id:"2237615954",name:"质检表头2"},
+{id:"4322889368",name:"资产表头2"},
+{id:"4662213949",name:"预算表头2"},
+{id:"2665546845",name:"费用表头2"},
+{id:"4961328945",name:"报销表头2"},
+{id:"8771261455",name:"薪资表头2"},
+{id:"6232115473",name:"考勤表头2"},
+{id:"1813265868",name:"岗位表头2"},
+{id:"9117723441",name:"银行账户表头2"},
+{id:"6563407958",name:"物料表体2"},
+{id:"1387870609",name:"客户表体2"},
+{id:"4770632992",name:"供应商表体2"},
+{id:"1118067807",name:"销售订单表体2"},
+{id:"4897103911",name:"采购订单表体2"},
+{id:"3322458847",name:"库存表体2"},
+{id:"4414187468",name:"组织表体2"},
+{id:"3922253066",name:"人员表体2"},
+{id:"9338964818",name:"部门表体2"},
+{id:"6496639098",name:"项目表体2"},
+{id:"6328050540",name:"合同表体2"},
+{id:"1470125483",name:"发票表体2"},
+{id:"4518568028",name:"收款单表体2"},
+{id:"7780422377",name:"付款单表体2"},
+{id:"6659372908",name:"凭证表体2"},
+{id:"3938362256",name:"科目表体2"},
+{id:"2019110298",name:"币种表体2"},
+{id:"1625098118",name:"仓库表体2"},
+{id:"6492715081",name:"批次表体2"},
+{id:"5541305265",name:"工单表体2"},
+{id:"9339627083",name:"生产订单表体2"},
+{id:"6492656204",name:"质检表体2"},
+{id:"6751287944",name:"资产表体2"},
+{id:"6162117099",name:"预算表体2"},
+{id:"3956571904",name:"费用表体2"},
+{id:"5297631787",name:"报销表体2"},
+{id:"5368576645",name:"薪资表体2"},
+{id:"8469061044",name:"考勤表体2"},
+{id:"6135503427",name:"岗位表体2"},
+{id:"4514782726",name:"银行账户表体2"},
+{id:"9168257154",name:"物料分类2"},
+{id:"8686261559",name:"客户分类2"},
+{id:"5875720968",name:"供应商分类2"},
+{id:"1813296714",name:"销售订单分类2"},
+{id:"5295346563",name:"采购订单分类2"},
+{id:"4911860623",name:"库存分类2"},
+{id:"7847258547",name:"组织分类2"},
+{id:"1011003547",name:"人员分类2"},
+{id:"4948001352",name:"部门分类2"},
+{id:"7182197766",name:"项目分类2"},
+{id:"4383417701",name:"合同分类2"},
+{id:"1672239671",name:"发票分类2"},
+{id:"4981951297",name:"收款单分类2"},
+{id:"2608435824",name:"付款单分类2"},
+{id:"5640778584",name:"凭证分类2"},
+{id:"5417534062",name:"科目分类2"},
+{id:"9527263155",name:"币种分类2"},
+{id:"6156368719",name:"仓库分类2"},
+{id:"4381749993",name:"批次分类2"},
+{id:"6164540397",name:"工单分类2"},
+{id:"3007511641",name:"生产订单分类2"},
+{id:"5975686141",name:"质检分类2"},
+{id:"8169299217",name:"资产分类2"},
+{id:"1807289669",name:"预算分类2"},
+{id:"9377000943",name:"费用分类2"},
+{id:"5347811332",name:"报销分类2"},
+{id:"4823660598",name:"薪资分类2"},
+{id:"1556276332",name:"考勤分类2"},
+{id:"5983651569",name:"岗位分类2"},
+{id:"4686910874",name:"银行账户分类2"},
+{id:"7884269221",name:"物料关系2"},
+{id:"6851560248",name:"客户关系2"},
+{id:"2724839181",name:"供应商关系2"},
+{id:"9906057649",name:"销售订单关系2"},
+{id:"9498846255",name:"采购订单关系2"},
+{id:"9615570702",name:"库存关系2"},
+{id:"1546135052",name:"组织关系2"},
+{id:"9110218576",name:"人员关系2"},
+{id:"1962624789",name:"部门关系2"},
+{id:"7114109590",name:"项目关系2"},
+{id:"5229913854",name:"合同关系2"},
+{id:"6238792660",name:"发票关系2"},
+{id:"5408872821",name:"收款单关系2"},
+{id:"8881367873",name:"付款单关系2"},
+{id:"8644496312",name:"凭证关系2"},
+{id:"9436723146",name:"科目关系2"},
+{id:"6466257553",name:"币种关系2"},
+{id:"5644887870",name:"仓库关系2"},
+{id:"9056177753",name:"批次关系2"},
+{id:"9125517800",name:"工单关系2"},
+{id:"4059524247",name:"生产订单关系2"},
+{id:"6000307104",name:"质检关系2"},
+{id:"9285223924",name:"资产关系2"},
+{id:"4016608216",name:"预算关系2"},
+{id:"8560248181",name:"费用关系2"},
+{id:"9068103561",name:"报销关系2"},
+{id:"4870833179",name:"薪资关系2"},
+{id:"8510590862",name:"考勤关系2"},
+{id:"3383605218",name:"岗位关系2"},
+{id:"3052895137",name:"银行账户关系2"},
+{id:"1348524531",name:"物料日志2"},
+{id:"4964564810",name:"客户日志2"},
+{id:"8138727783",name:"供应商日志2"},
+{id:"9593969829",name:"销售订单日志2"},
+{id:"4982788680",name:"采购订单日志2"},
+{id:"9088116577",name:"库存日志2"},
+{id:"5424794629",name:"组织日志2"},
+{id:"2946757398",name:"人员日志2"},
+{id:"8306310177",name:"部门日志2"},
+{id:"2855899185",name:"项目日志2"},
+{id:"3551812276",name:"合同日志2"},
+{id:"7266387082",name:"发票日志2"},
+{id:"2908921905",name:"收款单日志2"},
+{id:"5636010975",name:"付款单日志2"},
+{id:"3758158499",name:"凭证日志2"},
+{id:"5253082397",name:"科目日志2"},
+{id:"4293513209",name:"币种日志2"},
+{id:"1276551011",name:"仓库日志2"},
+{id:"4657694941",name:"批次日志2"},
+{id:"6159624067",name:"工单日志2"},
+{id:"2061806017",name:"生产订单日志2"},
+{id:"2855168818",name:"质检日志2"},
+{id:"7293990448",name:"资产日志2"},
+{id:"4673596610",name:"预算日志2"},
+{id:"6682652602",name:"费用日志2"},
+{id:"1060864605",name:"报销日志2"},
+{id:"3148868571",name:"薪资日志2"},
+{id:"6609800737",name:"考勤日志2"},
+{id:"4608280787",name:"岗位日志2"},
+{id:"1079029265",name:"银行账户日志2"},
+{id:"7293815030",name:"物料扩展2"},
+{id:"9609113452",name:"客户扩展2"},
+{id:"7679194674",name:"供应商扩展2"},
+{id:"2435040724",name:"销售订单扩展2"},
+{id:"3741819968",name:"采购订单扩展2"},
+{id:"8588935610",name:"库存扩展2"},
+{id:"7045755195",name:"组织扩展2"},
+{id:"4950422232",name:"人员扩展2"},
+{id:"8757190721",name:"部门扩展2"},
+{id:"5423378794",name:"项目扩展2"},
+{id:"6470844551",name:"合同扩展2"},
+{id:"4237483597",name:"发票扩展2"},
+{id:"4880028195",name:"收款单扩展2"},
+{id:"7123109320",name:"付款单扩展2"},
+{id:"9093376827",name:"凭证扩展2"},
+{id:"1840718839",name:"科目扩展2"},
+{id:"6621801835",name:"币种扩展2"},
+{id:"5904651304",name:"仓库扩展2"},
+{id:"3851737400",name:"批次扩展2"},
+{id:"1214763275",name:"工单扩展2"},
+{id:"5937969744",name:"生产订单扩展2"},
+{id:"7740518453",name:"质检扩展2"},
+{id:"8540501579",name:"资产扩展2"},
+{id:"4866386175",name:"预算扩展2"},
+{id:"9146358460",name:"费用扩展2"},
+{id:"7327852710",name:"报销扩展2"},
+{id:"3505275592",name:"薪资扩展2"},
+{id:"5609938982",name:"考勤扩展2"},
+{id:"6911519211",name:"岗位扩展2"},
+{id:"9839650092",name:"银行账户扩展2"},
+{id:"5379504320",name:"物料主表3"},
+{id:"1835589561",name:"客户主表3"},
+{id:"3778391020",name:"供应商主表3"},
+{id:"6970892396",name:"销售订单主表3"},
+{id:"3048192546",name:"采购订单主表3"},
+{id:"8538320447",name:"库存主表3"},
+{id:"1200650816",name:"组织主表3"},
+{id:"1853481143",name:"人员主表3"},
+{id:"5614405686",name:"部门主表3"},
+{id:"2261589464",name:"项目主表3"},
+{id:"2821915578",name:"合同主表3"},
+{id:"7701821925",name:"发票主表3"},
+{id:"6058520205",name:"收款单主表3"},
+{id:"1007542679",name:"付款单主表3"},
+{id:"2597704608",name:"凭证主表3"},
+{id:"8420641763",name:"科目主表3"},
+{id:"8638236366",name:"币种主表3"},
+{id:"7821015430",name:"仓库主表3"},
+{id:"7598884762",name:"批次主表3"},
+{id:"7824616687",name:"工单主表3"},
+{id:"1878675816",name:"生产订单主表3"},
+{id:"8240255482",name:"质检主表3"},
+{id:"4604577419",name:"资产主表3"},
+{id:"1645366338",name:"预算主表3"},
+{id:"6850596674",name:"费用主表3"},
+{id:"8426164219",name:"报销主表3"},
+{id:"3630476486",name:"薪资主表3"},
+{id:"7314231492",name:"考勤主表3"},
+{id:"3425594355",name:"岗位主表3"},
+{id:"7599478352",name:"银行账户主表3"},
+{id:"5704463951",name:"物料子表3"},
+{id:"7528761850",name:"客户子表3"},
+{id:"7498589153",name:"供应商子表3"},
+{id:"6742853295",name:"销售订单子表3"},
+{id:"1410547554",name:"采购订单子表3"},
+{id:"5186260011",name:"库存子表3"},
+{id:"5525699932",name:"组织子表3"},
+{id:"9423645043",name:"人员子表3"},
+{id:"2818656252",name:"部门子表3"},
+{id:"5252593730",name:"项目子表3"},
+{id:"8180761853",name:"合同子表3"},
+{id:"7501050372",name:"发票子表3"},
+{id:"2130936919",name:"收款单子表3"},
+{id:"8130913158",name:"付款单子表3"},
+{id:"6315645141",name:"凭证子表3"},
+{id:"4284853212",name:"科目子表3"},
+{id:"6025968262",name:"币种子表3"},
+{id:"2598838091",name:"仓库子表3"},
+{id:"4492664485",name:"批次子表3"},
+{id:"1680806604",name:"工单子表3"},
+{id:"9248900456",name:"生产订单子表3"},
+{id:"7746667840",name:"质检子表3"},
+{id:"9186984795",name:"资产子表3"},
+{id:"3833959697",name:"预算子表3"},
+{id:"4580395209",name:"费用子表3"},
+{id:"7238665542",name:"报销子表3"},
+{id:"2250452981",name:"薪资子表3"},
+{id:"1975298762",name:"考勤子表3"},
+{id:"2585961444",name:"岗位子表3"},
+{id:"8029031027",name:"银行账户子表3"},
+{id:"2806106709",name:"物料明细3"},
+{id:"2192971773",name:"客户明细3"},
+{id:"7781527886",name:"供应商明细3"},
+{id:"8602867191",name:"销售订单明细3"},
+{id:"1998190576",name:"采购订单明细3"},
+{id:"8630669522",name:"库存明细3"},
+{id:"4077740340",name:"组织明细3"},
+{id:"1085161938",name:"人员明细3"},
+{id:"1247778359",name:"部门明细3"},
+{id:"6747529407",name:"项目明细3"},
+{id:"3627581994",name:"合同明细3"},
+{id:"3854776469",name:"发票明细3"},
+{id:"1792442463",name:"收款单明细3"},
+{id:"6764076238",name:"付款单明细3"},
+{id:"6814870385",name:"凭证明细3"},
+{id:"8619951603",name:"科目明细3"},
+{id:"3895379741",name:"币种明细3"},
+{id:"2251220165",name:"仓库明细3"},
+{id:"7936931422",name:"批次明细3"},
+{id:"9832959704",name:"工单明细3"},
+{id:"2398094130",name:"生产订单明细3"},
+{id:"8239624658",name:"质检明细3"},
+{id:"4568787367",name:"资产明细3"},
+{id:"3638772078",name:"预算明细3"},
+{id:"8711937941",name:"费用明细3"},
+{id:"6408409327",name:"报销明细3"},
+{id:"4372375374",name:"薪资明细3"},
+{id:"2035260117",name:"考勤明细3"},
+{id:"6644594553",name:"岗位明细3"},
+{id:"4359515023",name:"银行账户明细3"},
+{id:"3052662003",name:"物料档案3"},
+{id:"6751617824",name:"客户档案3"},
+{id:"8936668927",name:"供应商档案3"},
+{id:"7376181756",name:"销售订单档案3"},
+{id:"6404977444",name:"采购订单档案3"},
+{id:"5081526276",name:"库存档案3"},
+{id:"4451631524",name:"组织档案3"},
+{id:"5090218014",name:"人员档案3"},
+{id:"8321120573",name:"部门档案3"},
+{id:"4468676864",name:"项目档案3"},
+{id:"6630083922",name:"合同档案3"},
+{id:"7242617591",name:"发票档案3"},
+{id:"3748962315",name:"收款单档案3"},
+{id:"2227670274",name:"付款单档案3"},
+{id:"3779318584",name:"凭证档案3"},
+{id:"6771482015",name:"科目档案3"},
+{id:"9165503548",name:"币种档案3"},
+{id:"4210142613",name:"仓库档案3"},
+{id:"3010546024",name:"批次档案3"},
+{id:"6001551968",name:"工单档案3"},
+{id:"8369800945",name:"生产订单档案3"},
+{id:"5555964897",name:"质检档案3"},
+{id:"8219786143",name:"资产档案3"},
+{id:"9798299787",name:"预算档案3"},
+{id:"6789279057",name:"费用档案3"},
+{id:"4690584728",name:"报销档案3"},
+{id:"8909467802",name:"薪资档案3"},
+{id:"2885480715",name:"考勤档案3"},
+{id:"1656911633",name:"岗位档案3"},
+{id:"8464770912",name:"银行账户档案3"},
+{id:"3053040586",name:"物料表头3"},
+{id:"6487664411",name:"客户表头3"},
+{id:"2245798460",name:"供应商表头3"},
+{id:"5642444854",name:"销售订单表头3"},
+{id:"1118537210",name:"采购订单表头3"},
+{id:"9776233257",name:"库存表头3"},
+{id:"4192020583",name:"组织表头3"},
+{id:"1945960521",name:"人员表头3"},
+{id:"5350946107",name:"部门表头3"},
+{id:"9587847137",name:"项目表头3"},
+{id:"9795336226",name:"合同表头3"},
+{id:"3027787279",name:"发票表头3"},
+{id:"1076692048",name:"收款单表头3"},
+{id:"9197748017",name:"付款单表头3"},
+{id:"6787135599",name:"凭证表头3"},
+{id:"3281202709",name:"科目表头3"},
+{id:"3721382279",name:"币种表头3"},
+{id:"1405664304",name:"仓库表头3"},
+{id:"6352369663",name:"批次表头3"},
+{id:"8180187737",name:"工单表头3"},
+{id:"6657664354",name:"生产订单表头3"},
+{id:"5623979278",name:"质检表头3"},
+{id:"5781266664",name:"资产表头3"},
+{id:"1358278866",name:"预算表头3"},
+{id:"1724539032",name:"费用表头3"},
+{id:"2929330838",name:"报销表头3"},
+{id:"4630739528",name:"薪资表头3"},
+{id:"6650188948",name:"考勤表头3"},
+{id:"6614505858",name:"岗位表头3"},
+{id:"9971024513",name:"银行账户表头3"},
+{id:"3862355425",name:"物料表体3"},
+{id:"2741990687",name:"客户表体3"},
+{id:"7706499373",name:"供应商表体3"},
+{id:"4488761543",name:"销售订单表体3"},
+{id:"2137128456",name:"采购订单表体3"},
+{id:"9503825123",name:"库存表体3"},
+{id:"4515922266",name:"组织表体3"},
+{id:"8102011178",name:"人员表体3"},
+{id:"3991633056",name:"部门表体3"},
+{id:"8704458235",name:"项目表体3"},
+{id:"7922418376",name:"合同表体3"},
+{id:"6258845665",name:"发票表体3"},
+{id:"6553189308",name:"收款单表体3"},
+{id:"7643332587",name:"付款单表体3"},
+{id:"6616672522",name:"凭证表体3"},
+{id:"8653177110",name:"科目表体3"},
+{id:"1045812461",name:"币种表体3"},
+{id:"8002802182",name:"仓库表体3"},
+{id:"6659061688",name:"批次表体3"},
+{id:"6546783899",name:"工单表体3"},
+{id:"3577408340",name:"生产订单表体3"},
+{id:"3213758236",name:"质检表体3"},
+{id:"9555933513",name:"资产表体3"},
+{id:"2271683918",name:"预算表体3"},
+{id:"2227145549",name:"费用表体3"},
+{id:"5658592834",name:"报销表体3"},
+{id:"5133343006",name:"薪资表体3"},
+{id:"1542115083",name:"考勤表体3"},
+{id:"6045729589",name:"岗位表体3"},
+{id:"7801382052",name:"银行账户表体3"},
+{id:"3306583461",name:"物料分类3"},
+{id:"1718360551",name:"客户分类3"},
+{id:"1264032628",name:"供应商分类3"},
+{id:"7542152811",name:"销售订单分类3"},
+{id:"9365708302",name:"采购订单分类3"},
+{id:"3153441061",name:"库存分类3"},
+{id:"1460818165",name:"组织分类3"},
+{id:"2442280570",name:"人员分类3"},
+{id:"9089087268",name:"部门分类3"},
+{id:"5122149495",name:"项目分类3"},
+{id:"7517548571",name:"合同分类3"},
+{id:"4070163213",name:"发票分类3"},
+{id:"5668344340",name:"收款单分类3"},
+{id:"3039380691",name:"付款单分类3"},
+{id:"7173995303",name:"凭证分类3"},
+{id:"3531448783",name:"科目分类3"},
+{id:"4669288177",name:"币种分类3"},
+{id:"1643087417",name:"仓库分类3"},
+{id:"1266693454",name:"批次分类3"},
+{id:"6279945682",name:"工单分类3"},
+{id:"8029332648",name:"生产订单分类3"},
+{id:"1152500715",name:"质检分类3"},
+{id:"1784257027",name:"资产分类3"},
+{id:"3144992496",name:"预算分类3"},
+{id:"5502583983",name:"费用分类3"},
+{id:"4087751435",name:"报销分类3"},
+{id:"5972029182",name:"薪资分类3"},
+{id:"7290855077",name:"考勤分类3"},
+{id:"9393067515",name:"岗位分类3"},
+{id:"7251511528",name:"银行账户分类3"},
+{id:"1687293444",name:"物料关系3"},
+{id:"6539601616",name:"客户关系3"},
+{id:"1833269252",name:"供应商关系3"},
+{id:"4726731599",name:"销售订单关系3"},
+{id:"9601936367",name:"采购订单关系3"},
+{id:"9239544957",name:"库存关系3"},
+{id:"4079244453",name:"组织关系3"},
+{id:"8158857522",name:"人员关系3"},
+{id:"2622897982",name:"部门关系3"},
+{id:"6937402318",name:"项目关系3"},
+{id:"7362009030",name:"合同关系3"},
+{id:"7389753954",name:"发票关系3"},
+{id:"1939742335",name:"收款单关系3"},
+{id:"5129709841",name:"付款单关系3"},
+{id:"8539034371",name:"凭证关系3"},
+{id:"7603161735",name:"科目关系3"},
+{id:"1020713277",name:"币种关系3"},
+{id:"7819018059",name:"仓库关系3"},
+{id:"9092432063",name:"批次关系3"},
+{id:"6463269873",name:"工单关系3"},
+{id:"1414333269",name:"生产订单关系3"},
+{id:"7402211494",name:"质检关系3"},
+{id:"1857012062",name:"资产关系3"},
+{id:"6274991645",name:"预算关系3"},
+{id:"8115037345",name:"费用关系3"},
+{id:"2057586488",name:"报销关系3"},
+{id:"1873092605",name:"薪资关系3"},
+{id:"6852452321",name:"考勤关系3"},
+{id:"9912914910",name:"岗位关系3"},
+{id:"5711139911",name:"银行账户关系3"},
+{id:"5375160171",name:"物料日志3"},
+{id:"4673594064",name:"客户日志3"},
+{id:"2001984812",name:"供应商日志3"},
+{id:"3130997351",name:"销售订单日志3"},
+{id:"4904647312",name:"采购订单日志3"},
+{id:"3155959305",name:"库存日志3"},
+{id:"5606516014",name:"组织日志3"},
+{id:"8659815438",name:"人员日志3"},
+{id:"9326451440",name:"部门日志3"},
+{id:"5660887389",name:"项目日志3"},
+{id:"9489898914",name:"合同日志3"},
+{id:"3508989634",name:"发票日志3"},
+{id:"1492756712",name:"收款单日志3"},
+{id:"2298053933",name:"付款单日志3"},
+{id:"6722594831",name:"凭证日志3"},
+{id:"5731079051",name:"科目日志3"},
+{id:"1052121430",name:"币种日志3"},
+{id:"6557482009",name:"仓库日志3"},
+{id:"5125337994",name:"批次日志3"},
+{id:"3591296244",name:"工单日志3"},
+{id:"4348772837",name:"生产订单日志3"},
+{id:"3568394830",name:"质检日志3"},
+{id:"7468864373",name:"资产日志3"},
+{id:"3109352171",name:"预算日志3"},
+{id:"2330327894",name:"费用日志3"},
+{id:"8711734418",name:"报销日志3"},
+{id:"8195380085",name:"薪资日志3"},
+{id:"4386231113",name:"考勤日志3"},
+{id:"1142676817",name:"岗位日志3"},
+{id:"2636978958",name:"银行账户日志3"},
+{id:"8769066442",name:"物料扩展3"},
+{id:"3967434864",name:"客户扩展3"},
+{id:"1142166776",name:"供应商扩展3"},
+{id:"4238082895",name:"销售订单扩展3"},
+{id:"4313027695",name:"采购订单扩展3"},
+{id:"7317227921",name:"库存扩展3"},
+{id:"7377236365",name:"组织扩展3"},
+{id:"4231015594",name:"人员扩展3"},
+{id:"3745793644",name:"部门扩展3"},
+{id:"4685229071",name:"项目扩展3"},
+{id:"6360461488",name:"合同扩展3"},
+{id:"1898786648",name:"发票扩展3"},
+{id:"9543084560",name:"收款单扩展3"},
+{id:"8221285361",name:"付款单扩展3"},
+{id:"6003701510",name:"凭证扩展3"},
+{id:"3674328026",name:"科目扩展3"},
+{id:"1254256131",name:"币种扩展3"},
+{id:"2125340622",name:"仓库扩展3"},
+{id:"7403392910",name:"批次扩展3"},
+{id:"4020414869",name:"工单扩展3"},
+{id:"2125836747",name:"生产订单扩展3"},
+{id:"9773507316",name:"质检扩展3"},
+{id:"5974868146",name:"资产扩展3"},
+{id:"6049415996",name:"预算扩展3"},
+{id:"2923992260",name:"费用扩展3"},
+{id:"5719734453",name:"报销扩展3"},
+{id:"8503619485",name:"薪资扩展3"},
+{id:"7273996870",name:"考勤扩展3"},
+{id:"1389188736",name:"岗位扩展3"},
+{id:"3468395516",name:"银行账户扩展3"},
+{id:"3278692302",name:"物料主表4"},
+{id:"9131582493",name:"客户主表4"},
+{id:"6578005877",name:"供应商主表4"},
+{id:"4997131446",name:"销售订单主表4"},
+{id:"8782711556",name:"采购订单主表4"},
+{id:"6742260197",name:"库存主表4"},
+{id:"9504543406",name:"组织主表4"},
+{id:"7062142098",name:"人员主表4"},
+{id:"6219015572",name:"部门主表4"},
+{id:"9325585693",name:"项目主表4"},
+{id:"5546610183",name:"合同主表4"},
+{id:"2755567346",name:"发票主表4"},
+{id:"9715969487",name:"收款单主表4"},
+{id:"6197857178",name:"付款单主表4"},
+{id:"9919864023",name:"凭证主表4"},
+{id:"1331354711",name:"科目主表4"},
+{id:"3309229504",name:"币种主表4"},
+{id:"2195048877",name:"仓库主表4"},
+{id:"2749225683",name:"批次主表4"},
+{id:"3075424325",name:"工单主表4"},
+{id:"4013831887",name:"生产订单主表4"},
+{id:"7245634146",name:"质检主表4"},
+{id:"5013741005",name:"资产主表4"},
+{id:"2700723214",name:"预算主表4"},
+{id:"1349524102",name:"费用主表4"},
+{id:"6676523860",name:"报销主表4"},
+{id:"2661134241",name:"薪资主表4"},
+{id:"6627694430",name:"考勤主表4"},
+{id:"8930735143",name:"岗位主表4"},
+{id:"5619878090",name:"银行账户主表4"},
+{id:"6916257699",name:"物料子表4"},
+{id:"9494411521",name:"客户子表4"},
+{id:"5508956797",name:"供应商子表4"},
+{id:"4223028088",name:"销售订单子表4"},
+{id:"5295861906",name:"采购订单子表4"},
+{id:"1091741233",name:"库存子表4"},
+{id:"7100054419",name:"组织子表4"},
+{id:"5434813644",name:"人员子表4"},
+{id:"1378456204",name:"部门子表4"},
+{id:"9368532258",name:"项目子表4"},
+{id:"4406325623",name:"合同子表4"},
+{id:"4144332104",name:"发票子表4"},
+{id:"1968086191",name:"收款单子表4"},
+{id:"1015383283",name:"付款单子表4"},
+{id:"8031936218",name:"凭证子表4"},
+{id:"2681175914",name:"科目子表4"},
+{id:"9388766498",name:"币种子表4"},
+{id:"9109993050",name:"仓库子表4"},
+{id:"5318349065",name:"批次子表4"},
+{id:"1621025528",name:"工单子表4"},
+{id:"8790312538",name:"生产订单子表4"},
+{id:"4472987028",name:"质检子表4"},
+{id:"5330784185",name:"资产子表4"},
+{id:"9322533971",name:"预算子表4"},
+{id:"4244334564",name:"费用子表4"},
+{id:"4946286732",name:"报销子表4"},
+{id:"2830217938",name:"薪资子表4"},
+{id:"9813620027",name:"考勤子表4"},
+{id:"2401486373",name:"岗位子表4"},
+{id:"6714791594",name:"银行账户子表4"},
+{id:"7290283082",name:"物料明细4"},
+{id:"6720534423",name:"客户明细4"},
+{id:"8841466396",name:"供应商明细4"},
+{id:"4827297468",name:"销售订单明细4"},
+{id:"5349079818",name:"采购订单明细4"},
+{id:"5815688572",name:"库存明细4"},
+{id:"9474953833",name:"组织明细4"},
+{id:"5315575440",name:"人员明细4"},
+{id:"8086042375",name:"部门明细4"},
+{id:"2011547992",name:"项目明细4"},
+{id:"6213931470",name:"合同明细4"},
+{id:"1895160672",name:"发票明细4"},
+{id:"8839220994",name:"收款单明细4"},
+{id:"2883307295",name:"付款单明细4"},
+{id:"6550700564",name:"凭证明细4"},
+{id:"9530802486",name:"科目明细4"},
+{id:"9953267229",name:"币种明细4"},
+{id:"1369609062",name:"仓库明细4"},
+{id:"3035631323",name:"批次明细4"},
+{id:"3345073230",name:"工单明细4"},
+{id:"2824845480",name:"生产订单明细4"},
+{id:"1386634089",name:"质检明细4"},
+{id:"2414993797",name:"资产明细4"},
+{id:"6314627863",name:"预算明细4"},
+{id:"9745395008",name:"费用明细4"},
+{id:"4851609141",name:"报销明细4"},
+{id:"5694189737",name:"薪资明细4"},
+{id:"4945101656",name:"考勤明细4"},
+{id:"7336557441",name:"岗位明细4"},
+{id:"8727327715",name:"银行账户明细4"},
+{id:"4352675684",name:"物料档案4"},
+{id:"1108754459",name:"客户档案4"},
+{id:"3454390885",name:"供应商档案4"},
+{id:"7192128826",name:"销售订单档案4"},
+{id:"7233471711",name:"采购订单档案4"},
+{id:"4838910548",name:"库存档案4"},
+{id:"1777658553",name:"组织档案4"},
+{id:"8903223399",name:"人员档案4"},
+{id:"3516507275",name:"部门档案4"},
+{id:"5581326526",name:"项目档案4"},
+{id:"8910111817",name:"合同档案4"},
+{id:"5473788691",name:"发票档案4"},
+{id:"3716566027",name:"收款单档案4"},
+{id:"3677597272",name:"付款单档案4"},
+{id:"5609663044",name:"凭证档案4"},
+{id:"4249654884",name:"科目档案4"},
+{id:"5749791596",name:"币种档案4"},
+{id:"3337895526",name:"仓库档案4"},
+{id:"7923101716",name:"批次档案4"},
+{id:"8147680417",name:"工单档案4"},
+{id:"7414130683",name:"生产订单档案4"},
+{id:"9033460719",name:"质检档案4"},
+{id:"4230443959",name:"资产档案4"},
+{id:"9290779793",name:"预算档案4"},
+{id:"3240146672",name:"费用档案4"},
+{id:"6684976699",name:"报销档案4"},
+{id:"5920150468",name:"薪资档案4"},
+{id:"2755098169",name:"考勤档案4"},
+{id:"8020060875",name:"岗位档案4"},
+{id:"1010267390",name:"银行账户档案4"},
+{id:"7349813842",name:"物料表头4"},
+{id:"7389426954",name:"客户表头4"},
+{id:"8687105087",name:"供应商表头4"},
+{id:"3851551130",name:"销售订单表头4"},
+{id:"1441528971",name:"采购订单表头4"},
+{id:"9612986506",name:"库存表头4"},
+{id:"7445903798",name:"组织表头4"},
+{id:"5686250746",name:"人员表头4"},
+{id:"6359971241",name:"部门表头4"},
+{id:"7791593477",name:"项目表头4"},
+{id:"1748653065",name:"合同表头4"},
+{id:"5283813714",name:"发票表头4"},
+{id:"2004194209",name:"收款单表头4"},
+{id:"2314155206",name:"付款单表头4"},
+{id:"7213790643",name:"凭证表头4"},
+{id:"6185317060",name:"科目表头4"},
+{id:"1200365752",name:"币种表头4"},
+{id:"8507077661",name:"仓库表头4"},
+{id:"2487932662",name:"批次表头4"},
+{id:"9977540362",name:"工单表头4"},
+{id:"3256769135",name:"生产订单表头4"},
+{id:"2062559300",name:"质检表头4"},
+{id:"4931414322",name:"资产表头4"},
+{id:"9499935812",name:"预算表头4"},
+{id:"7701842576",name:"费用表头4"},
+{id:"5184436251",name:"报销表头4"},
+{id:"8724642238",name:"薪资表头4"},
+{id:"3782633495",name:"考勤表头4"},
+{id:"2137040205",name:"岗位表头4"},
+{id:"9013375740",name:"银行账户表头4"},
+{id:"8687075515",name:"物料表体4"},
+{id:"4415143879",name:"客户表体4"},
+{id:"2197526050",name:"供应商表体4"},
+{id:"4436580130",name:"销售订单表体4"},
+{id:"9094000428",name:"采购订单表体4"},
+{id:"6087781911",name:"库存表体4"},
+{id:"2360670710",name:"组织表体4"},
+{id:"9656517041",name:"人员表体4"},
+{id:"8291750291",name:"部门表体4"},
+{id:"4413247510",name:"项目表体4"},
+{id:"9524698125",name:"合同表体4"},
+{id:"8090266193",name:"发票表体4"},
+{id:"3010999086",name:"收款单表体4"},
+{id:"8938474966",name:"付款单表体4"},
+{id:"6215385228",name:"凭证表体4"},
+{id:"4668002711",name:"科目表体4"},
+{id:"8415831604",name:"币种表体4"},
+{id:"1191076658",name:"仓库表体4"},
+{id:"5105911039",name:"批次表体4"},
+{id:"9914735069",name:"工单表体4"},
+{id:"3634495723",name:"生产订单表体4"},
+{id:"2193790701",name:"质检表体4"},
+{id:"9918363842",name:"资产表体4"},
+{id:"1944101336",name:"预算表体4"},
+{id:"4274856133",name:"费用表体4"},
+{id:"3871523893",name:"报销表体4"},
+{id:"9879829865",name:"薪资表体4"},
+{id:"2256159533",name:"考勤表体4"},
+{id:"1168076813",name:"岗位表体4"},
+{id:"6612135031",name:"银行账户表体4"},
+{id:"7137887336",name:"物料分类4"},
+{id:"2543065420",name:"客户分类4"},
+{id:"7442576079",name:"供应商分类4"},
+{id:"3985340688",name:"销售订单分类4"},
+{id:"3525630434",name:"采购订单分类4"},
+{id:"8928216438",name:"库存分类4"},
+{id:"5158292684",name:"组织分类4"},
+{id:"4419149340",name:"人员分类4"},
+{id:"1713637292",name:"部门分类4"},
+{id:"5609637288",name:"项目分类4"},
+{id:"9569768171",name:"合同分类4"},
+{id:"6455905231",name:"发票分类4"},
+{id:"9175540087",name:"收款单分类4"},
+{id:"7481687341",name:"付款单分类4"},
+{id:"6644421638",name:"凭证分类4"},
+{id:"4258540815",name:"科目分类4"},
+{id:"5627036210",name:"币种分类4"},
+{id:"7983668291",name:"仓库分类4"},
+{id:"9370698556",name:"批次分类4"},
+{id:"6764100863",name:"工单分类4"},
+{id:"3207727238",name:"生产订单分类4"},
+{id:"4216664923",name:"质检分类4"},
+{id:"2185089196",name:"资产分类4"},
+{id:"2456594960",name:"预算分类4"},
+{id:"4371046749",name:"费用分类4"},
+{id:"8925152480",name:"报销分类4"},
+{id:"5829242353",name:"薪资分类4"},
+{id:"2321029122",name:"考勤分类4"},
+{id:"2825760671",name:"岗位分类4"},
+{id:"3948987863",name:"银行账户分类4"},
+{id:"7385501916",name:"物料关系4"},
+{id:"7909274249",name:"客户关系4"},
+{id:"6289178736",name:"供应商关系4"},
+{id:"1511283736",name:"销售订单关系4"},
+{id:"6267788528",name:"采购订单关系4"},
+{id:"9036195858",name:"库存关系4"},
+{id:"5684543331",name:"组织关系4"},
+{id:"5488523488",name:"人员关系4"},
+{id:"5307022974",name:"部门关系4"},
+{id:"4329348733",name:"项目关系4"},
+{id:"8207848255",name:"合同关系4"},
+{id:"1905258408",name:"发票关系4"},
+{id:"8693387510",name:"收款单关系4"},
+{id:"9815927486",name:"付款单关系4"},
+{id:"8951824186",name:"凭证关系4"},
+{id:"6075551147",name:"科目关系4"},
+{id:"8117923667",name:"币种关系4"},
+{id:"3453447670",name:"仓库关系4"},
+{id:"1506391394",name:"批次关系4"},
+{id:"8731634036",name:"工单关系4"},
+{id:"7845914931",name:"生产订单关系4"},
+{id:"8244672146",name:"质检关系4"},
+{id:"8917529024",name:"资产关系4"},
+{id:"1366843275",name:"预算关系4"},
+{id:"2070191937",name:"费用关系4"},
+{id:"9297037493",name:"报销关系4"},
+{id:"8344636937",name:"薪资关系4"},
+{id:"1972233367",name:"考勤关系4"},
+{id:"6790964527",name:"岗位关系4"},
+{id:"9473464258",name:"银行账户关系4"},
+{id:"9698732326",name:"物料日志4"},
+{id:"1230427131",name:"客户日志4"},
+{id:"6557833478",name:"供应商日志4"},
+{id:"4032621238",name:"销售订单日志4"},
+{id:"8388559078",name:"采购订单日志4"},
+{id:"5047969708",name:"库存日志4"},
+{id:"3404004843",name:"组织日志4"},
+{id:"4044465341",name:"人员日志4"},
+{id:"5342779589",name:"部门日志4"},
+{id:"9222207233",name:"项目日志4"},
+{id:"5162362515",name:"合同日志4"},
+{id:"5190841303",name:"发票日志4"},
+{id:"6844758014",name:"收款单日志4"},
+{id:"9985409908",name:"付款单日志4"},
+{id:"6029806220",name:"凭证日志4"},
+{id:"1835223052",name:"科目日志4"},
+{id:"6643861602",name:"币种日志4"},
+{id:"1784708198",name:"仓库日志4"},
+{id:"9240400453",name:"批次日志4"},
+{id:"3073422669",name:"工单日志4"},
+{id:"5055601655",name:"生产订单日志4"},
+{id:"2957920401",name:"质检日志4"},
+{id:"1566811819",name:"资产日志4"},
+{id:"9446400219",name:"预算日志4"},
+{id:"3630094306",name:"费用日志4"},
+{id:"7354272552",name:"报销日志4"},
+{id:"7715422791",name:"薪资日志4"},
+{id:"7188200735",name:"考勤日志4"},
+{id:"3400285519",name:"岗位日志4"},
+{id:"9373650409",name:"银行账户日志4"},
+{id:"6441263453",name:"物料扩展4"},
+{id:"4365550798",name:"客户扩展4"},
+{id:"6077526869",name:"供应商扩展4"},
+{id:"1115089857",name:"销售订单扩展4"},
+{id:"7481356380",name:"采购订单扩展4"},
+{id:"4030615604",name:"库存扩展4"},
+{id:"3219326218",name:"组织扩展4"},
+{id:"7436561506",name:"人员扩展4"},
+{id:"5514360927",name:"部门扩展4"},
+{id:"8348821310",name:"项目扩展4"},
+{id:"4574028144",name:"合同扩展4"},
+{id:"7666531368",name:"发票扩展4"},
+{id:"5301036285",name:"收款单扩展4"},
+{id:"1970512867",name:"付款单扩展4"},
+{id:"8764561550",name:"凭证扩展4"},
+{id:"5752296348",name:"科目扩展4"},
+{id:"2137380663",name:"币种扩展4"},
+{id:"7144494621",name:"仓库扩展4"},
+{id:"6026479133",name:"批次扩展4"},
+{id:"3974914320",name:"工单扩展4"},
+{id:"6192073405",name:"生产订单扩展4"},
+{id:"5020953519",name:"质检扩展4"},
+{id:"1726788862",name:"资产扩展4"},
+{id:"2263104449",name:"预算扩展4"},
+{id:"3646047577",name:"费用扩展4"},
+{id:"7941830853",name:"报销扩展4"},
+{id:"3648041502",name:"薪资扩展4"},
+{id:"7656610011",name:"考勤扩展4"},
+{id:"2013606733",name:"岗位扩展4"},
+{id:"6419965286",name:"银行账户扩展4"},
+{id:"6222285490",name:"物料主表5"},
+{id:"9018771597",name:"客户主表5"},
+{id:"1508194973",name:"供应商主表5"},
+{id:"2369418364",name:"销售订单主表5"},
+{id:"6922257588",name:"采购订单主表5"},
+{id:"5399919148",name:"库存主表5"},
+{id:"3883494233",name:"组织主表5"},
+{id:"3046480944",name:"人员主表5"},
+{id:"4500953765",name:"部门主表5"},
+{id:"4748685644",name:"项目主表5"},
+{id:"6076916970",name:"合同主表5"},
+{id:"9807374061",name:"发票主表5"},
+{id:"7992501213",name:"收款单主表5"},
+{id:"7262507471",name:"付款单主表5"},
+{id:"4743578822",name:"凭证主表5"},
+{id:"4741167785",name:"科目主表5"},
+{id:"4574648263",name:"币种主表5"},
+{id:"9658196919",name:"仓库主表5"},
+{id:"3485160607",name:"批次主表5"},
+{id:"8147069187",name:"工单主表5"},
+{id:"8368468307",name:"生产订单主表5"},
+{id:"5750119102",name:"质检主表5"},
+{id:"1205281726",name:"资产主表5"},
+{id:"1523510463",name:"预算主表5"},
+{id:"7031711616",name:"费用主表5"},
+{id:"7013747853",name:"报销主表5"},
+{id:"3272992668",name:"薪资主表5"},
+{id:"7538278863",name:"考勤主表5"},
+{id:"6135778034",name:"岗位主表5"},
+{id:"9258604609",name:"银行账户主表5"},
+{id:"7694058610",name:"物料子表5"},
+{id:"5666217251",name:"客户子表5"},
+{id:"5700300775",name:"供应商子表5"},
+{id:"4887539918",name:"销售订单子表5"},
+{id:"2040511477",name:"采购订单子表5"},
+{id:"5664420420",name:"库存子表5"},
+{id:"4062797299",name:"组织子表5"},
+{id:"1521787279",name:"人员子表5"},
+{id:"2852854187",name:"部门子表5"},
+{id:"8839539118",name:"项目子表5"},
+{id:"4899175989",name:"合同子表5"},
+{id:"6636044770",name:"发票子表5"},
+{id:"4343758312",name:"收款单子表5"},
+{id:"8265181057",name:"付款单子表5"},
+{id:"4876263912",name:"凭证子表5"},
+{id:"2826941699",name:"科目子表5"},
+{id:"4733503916",name:"币种子表5"},
+{id:"2938375886",name:"仓库子表5"},
+{id:"9238350822",name:"批次子表5"},
+{id:"9164190384",name:"工单子表5"},
+{id:"8645900311",name:"生产订单子表5"},
+{id:"5594371538",name:"质检子表5"},
+{id:"6242744236",name:"资产子表5"},
+{id:"7019753985",name:"预算子表5"},
+{id:"8909759247",name:"费用子表5"},
+{id:"8824899508",name:"报销子表5"},
+{id:"5184928774",name:"薪资子表5"},
+{id:"6875228445",name:"考勤子表5"},
+{id:"8145633135",name:"岗位子表5"},
+{id:"1390029543",name:"银行账户子表5"},
+{id:"8448135445",name:"物料明细5"},
+{id:"2505873515",name:"客户明细5"},
+{id:"1830697056",name:"供应商明细5"},
+{id:"8538598576",name:"销售订单明细5"},
+{id:"9329031872",name:"采购订单明细5"},
+{id:"4178630804",name:"库存明细5"},
+{id:"1864487848",name:"组织明细5"},
+{id:"8140495148",name:"人员明细5"},
+{id:"4124997324",name:"部门明细5"},
+{id:"7866436177",name:"项目明细5"},
+{id:"8778859985",name:"合同明细5"},
+{id:"7277969250",name:"发票明细5"},
+{id:"4187571720",name:"收款单明细5"},
+{id:"2733934515",name:"付款单明细5"},
+{id:"6119063955",name:"凭证明细5"},
+{id:"1210786339",name:"科目明细5"},
+{id:"8592461247",name:"币种明细5"},
+{id:"1728788770",name:"仓库明细5"},
+{id:"5335519169",name:"批次明细5"},
+{id:"4904986437",name:"工单明细5"},
+{id:"9578496961",name:"生产订单明细5"},
+{id:"7145859308",name:"质检明细5"},
+{id:"6428430119",name:"资产明细5"},
+{id:"3677985980",name:"预算明细5"},
+{id:"3678790974",name:"费用明细5"},
+{id:"1091782237",name:"报销明细5"},
+{id:"2042486359",name:"薪资明细5"},
+{id:"9340585807",name:"考勤明细5"},
+{id:"9914764471",name:"岗位明细5"},
+{id:"7287695733",name:"银行账户明细5"},
+{id:"5810559778",name:"物料档案5"},
+{id:"9841272860",name:"客户档案5"},
+{id:"8551678469",name:"供应商档案5"},
+{id:"1280356694",name:"销售订单档案5"},
+{id:"6603617206",name:"采购订单档案5"},
+{id:"2412301424",name:"库存档案5"},
+{id:"6697815235",name:"组织档案5"},
+{id:"1690064564",name:"人员档案5"},
+{id:"2642336617",name:"部门档案5"},
+{id:"6136814117",name:"项目档案5"},
+{id:"5405441099",name:"合同档案5"},
+{id:"7930484040",name:"发票档案5"},
+{id:"5878406481",name:"收款单档案5"},
+{id:"1597486351",name:"付款单档案5"},
+{id:"1228141390",name:"凭证档案5"},
+{id:"9831528284",name:"科目档案5"},
+{id:"8656022042",name:"币种档案5"},
+{id:"8825789286",name:"仓库档案5"},
+{id:"3391212345",name:"批次档案5"},
+{id:"2004661936",name:"工单档案5"},
+{id:"1885569375",name:"生产订单档案5"},
+{id:"1870550130",name:"质检档案5"},
+{id:"7476348823",name:"资产档案5"},
+{id:"2527320155",name:"预算档案5"},
+{id:"9911955109",name:"费用档案5"},
+{id:"1128562626",name:"报销档案5"},
+{id:"2209336345",name:"薪资档案5"},
+{id:"1587673939",name:"考勤档案5"},
+{id:"3467019430",name:"岗位档案5"},
+{id:"2050844263",name:"银行账户档案5"},
+{id:"1219088088",name:"物料表头5"},
+{id:"9282213491",name:"客户表头5"},
+{id:"7741527088",name:"供应商表头5"},
+{id:"2004155388",name:"销售订单表头5"},
+{id:"4753844228",name:"采购订单表头5"},
+{id:"3113863836",name:"库存表头5"},
+{id:"5100294436",name:"组织表头5"},
+{id:"5323077219",name:"人员表头5"},
+{id:"7601253405",name:"部门表头5"},
+{id:"9584940946",name:"项目表头5"},
+{id:"9489188074",name:"合同表头5"},
+{id:"2621224198",name:"发票表头5"},
+{id:"6650961397",name:"收款单表头5"},
+{id:"2962209810",name:"付款单表头5"},
+{id:"6122084685",name:"凭证表头5"},
+{id:"5208757651",name:"科目表头5"},
+{id:"6164576598",name:"币种表头5"},
+{id:"2597104859",name:"仓库表头5"},
+{id:"7375113316",name:"批次表头5"},
+{id:"3506404970",name:"工单表头5"},
+{id:"9769205092",name:"生产订单表头5"},
+{id:"7465031533",name:"质检表头5"},
+{id:"1360697000",name:"资产表头5"},
+{id:"5293302717",name:"预算表头5"},
+{id:"5717281279",name:"费用表头5"},
+{id:"5647579084",name:"报销表头5"},
+{id:"5542565188",name:"薪资表头5"},
+{id:"6156993222",name:"考勤表头5"},
+{id:"5588169219",name:"岗位表头5"},
+{id:"1827425159",name:"银行账户表头5"},
+{id:"6808642997",name:"物料表体5"},
+{id:"1290598098",name:"客户表体5"},
+{id:"6606057443",name:"供应商表体5"},
+{id:"8957944740",name:"销售订单表体5"},
+{id:"2793446029",name:"采购订单表体5"},
+{id:"1541848937",name:"库存表体5"},
+{id:"7798599561",name:"组织表体5"},
+{id:"9531254136",name:"人员表体5"},
+{id:"4823295725",name:"部门表体5"},
+{id:"5498173610",name:"项目表体5"},
+{id:"6581527776",name:"合同表体5"},
+{id:"4300855741",name:"发票表体5"},
+{id:"8586737982",name:"收款单表体5"},
+{id:"5918537751",name:"付款单表体5"},
+{id:"3457179416",name:"凭证表体5"},
+{id:"9491508811",name:"科目表体5"},
+{id:"8573819977",name:"币种表体5"},
+{id:"7324292310",name:"仓库表体5"},
+{id:"1666086577",name:"批次表体5"},
+{id:"4563808005",name:"工单表体5"},
+{id:"9017334721",name:"生产订单表体5"},
+{id:"3921700162",name:"质检表体5"},
+{id:"7148014295",name:"资产表体5"},
+{id:"4434903793",name:"预算表体5"},
+{id:"6662034292",name:"费用表体5"},
+{id:"4476011929",name:"报销表体5"},
+{id:"6239750724",name:"薪资表体5"},
+{id:"8395201777",name:"考勤表体5"},
+{id:"4292412251",name:"岗位表体5"},
+{id:"5927594252",name:"银行账户表体5"},
+{id:"9742559744",name:"物料分类5"},
+{id:"3664174433",name:"客户分类5"},
+{id:"5265554298",name:"供应商分类5"},
+{id:"5669896438",name:"销售订单分类5"},
+{id:"1117782419",name:"采购订单分类5"},
+{id:"6551711007",name:"库存分类5"},
+{id:"4494131082",name:"组织分类5"},
+{id:"7704297371",name:"人员分类5"},
+{id:"3621582209",name:"部门分类5"},
+{id:"8243908658",name:"项目分类5"},
+{id:"8344538261",name:"合同分类5"},
+{id:"8634595402",name:"发票分类5"},
+{id:"4819506680",name:"收款单分类5"},
+{id:"4289110430",name:"付款单分类5"},
+{id:"8092649193",name:"凭证分类5"},
+{id:"9376348865",name:"科目分类5"},
+{id:"1830251488",name:"币种分类5"},
+{id:"6476848748",name:"仓库分类5"},
+{id:"9823645334",name:"批次分类5"},
+{id:"8533807983",name:"工单分类5"},
+{id:"2808833764",name:"生产订单分类5"},
+{id:"2928392142",name:"质检分类5"},
+{id:"1958882472",name:"资产分类5"},
+{id:"6873843832",name:"预算分类5"},
+{id:"8185727801",name:"费用分类5"},
+{id:"6511082196",name:"报销分类5"},
+{id:"2915153226",name:"薪资分类5"},
+{id:"7781997520",name:"考勤分类5"},
+{id:"5775019844",name:"岗位分类5"},
+{id:"3288956543",name:"银行账户分类5"},
+{id:"7881405184",name:"物料关系5"},
+{id:"6210328594",name:"客户关系5"},
+{id:"9962347736",name:"供应商关系5"},
+{id:"2079021676",name:"销售订单关系5"},
+{id:"6124916547",name:"采购订单关系5"},
+{id:"4153254805",name:"库存关系5"},
+{id:"4579985342",name:"组织关系5"},
+{id:"4541719238",name:"人员关系5"},
+{id:"7719184535",name:"部门关系5"},
+{id:"1851255852",name:"项目关系5"},
+{id:"3415225782",name:"合同关系5"},
+{id:"8472538387",name:"发票关系5"},
+{id:"8567652665",name:"收款单关系5"},
+{id:"8065964483",name:"付款单关系5"},
+{id:"6958165406",name:"凭证关系5"},
+{id:"4726006938",name:"科目关系5"},
+{id:"2647863189",name:"币种关系5"},
+{id:"4902186052",name:"仓库关系5"},
+{id:"5910050204",name:"批次关系5"},
+{id:"4424457946",name:"工单关系5"},
+{id:"6230764575",name:"生产订单关系5"},
+{id:"4266148836",name:"质检关系5"},
+{id:"9775172076",name:"资产关系5"},
+{id:"2986665678",name:"预算关系5"},
+{id:"6063225197",name:"费用关系5"},
+{id:"1193696220",name:"报销关系5"},
+{id:"5583426402",name:"薪资关系5"},
+{id:"5598039638",name:"考勤关系5"},
+{id:"6645215070",name:"岗位关系5"},
+{id:"1205548484",name:"银行账户关系5"},
+{id:"5164660203",name:"物料日志5"},
+{id:"3939458375",name:"客户日志5"},
+{id:"2177227474",name:"供应商日志5"},
+{id:"8644186681",name:"销售订单日志5"},
+{id:"9789024403",name:"采购订单日志5"},
+{id:"4825682062",name:"库存日志5"},
+{id:"7971108317",name:"组织日志5"},
+{id:"4677966508",name:"人员日志5"},
+{id:"3613621831",name:"部门日志5"},
+{id:"7455585323",name:"项目日志5"},
+{id:"5723652544",name:"合同日志5"},
+{id:"9933423298",name:"发票日志5"},
+{id:"2379845999",name:"收款单日志5"},
+{id:"3918340803",name:"付款单日志5"},
+{id:"8896839701",name:"凭证日志5"},
+{id:"7994132428",name:"科目日志5"},
+{id:"5680397683",name:"币种日志5"},
+{id:"3302262844",name:"仓库日志5"},
+{id:"1903467063",name:"批次日志5"},
+{id:"5526922224",name:"工单日志5"},
+{id:"9282185373",name:"生产订单日志5"},
+{id:"8173222463",name:"质检日志5"},
+{id:"8468195154",name:"资产日志5"},
+{id:"3856605320",name:"预算日志5"},
+{id:"5507097181",name:"费用日志5"},
+{id:"5250235398",name:"报销日志5"},
+{id:"4700607806",name:"薪资日志5"},
+{id:"6359475239",name:"考勤日志5"},
+{id:"7123799416",name:"岗位日志5"},
+{id:"1501072708",name:"银行账户日志5"},
+{id:"6196710834",name:"物料扩展5"},
+{id:"5756416795",name:"客户扩展5"},
+{id:"6175437494",name:"供应商扩展5"},
+{id:"9472192078",name:"销售订单扩展5"},
+{id:"4482054145",name:"采购订单扩展5"},
+{id:"8591078685",name:"库存扩展5"},
+{id:"1346526497",name:"组织扩展5"},
+{id:"7294291578",name:"人员扩展5"},
+{id:"3216143896",name:"部门扩展5"},
+{id:"3373296415",name:"项目扩展5"},
+{id:"5817369012",name:"合同扩展5"},
+{id:"2718126423",name:"发票扩展5"},
+{id:"3206229237",name:"收款单扩展5"},
+{id:"6591574461",name:"付款单扩展5"},
+{id:"3412594324",name:"凭证扩展5"},
+{id:"7877132706",name:"科目扩展5"},
+{id:"2607750279",name:"币种扩展5"},
+{id:"8925600059",name:"仓库扩展5"},
+{id:"9456287786",name:"批次扩展5"},
+{id:"7844379744",name:"工单扩展5"},
+{id:"1912033934",name:"生产订单扩展5"},
+{id:"5634016500",name:"质检扩展5"},
+{id:"9079541094",name:"资产扩展5"},
+{id:"8939738121",name:"预算扩展5"},
+{id:"2753217653",name:"费用扩展5"},
+{id:"3463015604",name:"报销扩展5"},
+{id:"6959294702",name:"薪资扩展5"},
+{id:"1382869170",name:"考勤扩展5"},
+{id:"9089753592",name:"岗位扩展5"},
+{id:"7666241198",name:"银行账户扩展5"},
+{id:"7629806853",name:"物料主表6"},
+{id:"8267615797",name:"客户主表6"},
+{id:"3139494449",name:"供应商主表6"},
+{id:"8538927700",name:"销售订单主表6"},
+{id:"8066197923",name:"采购订单主表6"},
+{id:"4289928962",name:"库存主表6"},
+{id:"3347979458",name:"组织主表6"},
+{id:"5777442554",name:"人员主表6"},
+{id:"3195197781",name:"部门主表6"},
+{id:"2917766067",name:"项目主表6"},
+{id:"2993713829",name:"合同主表6"},
+{id:"6175476539",name:"发票主表6"},
+{id:"7425199159",name:"收款单主表6"},
+{id:"4085228272",name:"付款单主表6"},
+{id:"8022596007",name:"凭证主表6"},
+{id:"9560602066",name:"科目主表6"},
+{id:"9555662721",name:"币种主表6"},
+{id:"8811283490",name:"仓库主表6"},
+{id:"4524436795",name:"批次主表6"},
+{id:"2781570360",name:"工单主表6"},
+{id:"6797033808",name:"生产订单主表6"},
+{id:"6722074705",name:"质检主表6"},
+{id:"1547663923",name:"资产主表6"},
+{id:"9910906770",name:"预算主表6"},
+{id:"9169629487",name:"费用主表6"},
+{id:"3952092046",name:"报销主表6"},
+{id:"9814036608",name:"薪资主表6"},
+{id:"6600420228",name:"考勤主表6"},
+{id:"4873045158",name:"岗位主表6"},
+{id:"6988063772",name:"银行账户主表6"},
+{id:"9133634580",name:"物料子表6"},
+{id:"6358532458",name:"客户子表6"},
+{id:"6142375745",name:"供应商子表6"},
+{id:"4456847198",name:"销售订单子表6"},
+{id:"5623577787",name:"采购订单子表6"},
+{id:"3376481229",name:"库存子表6"},
+{id:"6856829239",name:"组织子表6"},
+{id:"6195139036",name:"人员子表6"},
+{id:"3733173777",name:"部门子表6"},
+{id:"7958318336",name:"项目子表6"},
+{id:"9511066023",name:"合同子表6"},
+{id:"7301913425",name:"发票子表6"},
+{id:"8358695492",name:"收款单子表6"},
+{id:"2748441404",name:"付款单子表6"},
+{id:"6177181783",name:"凭证子表6"},
+{id:"1538789489",name:"科目子表6"},
+{id:"2324541174",name:"币种子表6"},
+{id:"1217362707",name:"仓库子表6"},
+{id:"3631999025",name:"批次子表6"},
+{id:"7601775146",name:"工单子表6"},
+{id:"2074299986",name:"生产订单子表6"},
+{id:"9205645884",name:"质检子表6"},
+{id:"2894797729",name:"资产子表6"},
+{id:"3932804127",name:"预算子表6"},
+{id:"3746284213",name:"费用子表6"},
+{id:"5453017135",name:"报销子表6"},
+{id:"4674021588",name:"薪资子表6"},
+{id:"9871099479",name:"考勤子表6"},
+{id:"1019313183",name:"岗位子表6"},
+{id:"1841430912",name:"银行账户子表6"},
+{id:"7611127270",name:"物料明细6"},
+{id:"8844024762",name:"客户明细6"},
+{id:"3095438935",name:"供应商明细6"},
+{id:"2233219571",name:"销售订单明细6"},
+{id:"4343559016",name:"采购订单明细6"},
+{id:"6831869635",name:"库存明细6"},
+{id:"6231765436",name:"组织明细6"},
+{id:"9846109445",name:"人员明细6"},
+{id:"2181071821",name:"部门明细6"},
+{id:"4112942687",name:"项目明细6"},
+{id:"1001539669",name:"合同明细6"},
+{id:"3050668620",name:"发票明细6"},
+{id:"1131203372",name:"收款单明细6"},
+{id:"1871941172",name:"付款单明细6"},
+{id:"2930424378",name:"凭证明细6"},
+{id:"6997204262",name:"科目明细6"},
+{id:"9030030273",name:"币种明细6"},
+{id:"2512916103",name:"仓库明细6"},
+{id:"2917191792",name:"批次明细6"},
+{id:"9338908420",name:"工单明细6"},
+{id:"3672526095",name:"生产订单明细6"},
+{id:"4374640878",name:"质检明细6"},
+{id:"2642053621",name:"资产明细6"},
+{id:"8031334416",name:"预算明细6"},
+{id:"1044372849",name:"费用明细6"},
+{id:"1261336096",name:"报销明细6"},
+{id:"2100662755",name:"薪资明细6"},
+{id:"5694682575",name:"考勤明细6"},
+{id:"5351065903",name:"岗位明细6"},
+{id:"2762821249",name:"银行账户明细6"},
+{id:"8876097753",name:"物料档案6"},
+{id:"9194544454",name:"客户档案6"},
+{id:"3522086079",name:"供应商档案6"},
+{id:"6177828751",name:"销售订单档案6"},
+{id:"3662891034",name:"采购订单档案6"},
+{id:"5521781529",name:"库存档案6"},
+{id:"4489570464",name:"组织档案6"},
+{id:"8802462237",name:"人员档案6"},
+{id:"1128811968",name:"部门档案6"},
+{id:"9866511859",name:"项目档案6"},
+{id:"1911237913",name:"合同档案6"},
+{id:"4635898881",name:"发票档案6"},
+{id:"9700635491",name:"收款单档案6"},
+{id:"1321304068",name:"付款单档案6"},
+{id:"1221141555",name:"凭证档案6"},
+{id:"6494194548",name:"科目档案6"},
+{id:"4810462005",name:"币种档案6"},
+{id:"7244017024",name:"仓库档案6"},
+{id:"5392354147",name:"批次档案6"},
+{id:"8600485984",name:"工单档案6"},
+{id:"6328867313",name:"生产订单档案6"},
+{id:"2097652878",name:"质检档案6"},
+{id:"9668000011",name:"资产档案6"},
+{id:"4608426121",name:"预算档案6"},
+{id:"3429396612",name:"费用档案6"},
+{id:"1773779683",name:"报销档案6"},
+{id:"4328924701",name:"薪资档案6"},
+{id:"9860479083",name:"考勤档案6"},
+{id:"4720040782",name:"岗位档案6"},
+{id:"1480240801",name:"银行账户档案6"},
+{id:"7837195099",name:"物料表头6"},
+{id:"2628530827",name:"客户表头6"},
+{id:"1882093829",name:"供应商表头6"},
+{id:"5122924246",name:"销售订单表头6"},
+{id:"2765495638",name:"采购订单表头6"},
+{id:"2417969855",name:"库存表头6"},
+{id:"9201169713",name:"组织表头6"},
+{id:"2295795613",name:"人员表头6"},
+{id:"2604459042",name:"部门表头6"},
+{id:"4222507357",name:"项目表头6"},
+{id:"9998940874",name:"合同表头6"},
+{id:"2381758185",name:"发票表头6"},
+{id:"8429061299",name:"收款单表头6"},
+{id:"3390878706",name:"付款单表头6"},
+{id:"4580687555",name:"凭证表头6"},
+{id:"3712950003",name:"科目表头6"},
+{id:"6215574699",name:"币种表头6"},
+{id:"9787215704",name:"仓库表头6"},
+{id:"1846075475",name:"批次表头6"},
+{id:"5874150709",name:"工单表头6"},
+{id:"7146672523",name:"生产订单表头6"},
+{id:"4337132662",name:"质检表头6"},
+{id:"4673819602",name:"资产表头6"},
+{id:"1430858124",name:"预算表头6"},
+{id:"8048047947",name:"费用表头6"},
+{id:"9866672642",name:"报销表头6"},
+{id:"6193703505",name:"薪资表头6"},
+{id:"3560414811",name:"考勤表头6"},
+{id:"3096551859",name:"岗位表头6"},
+{id:"7825968227",name:"银行账户表头6"},
+{id:"5284647471",name:"物料表体6"},
+{id:"2556173480",name:"客户表体6"},
+{id:"4035567152",name:"供应商表体6"},
+{id:"1754499007",name:"销售订单表体6"},
+{id:"5236645273",name:"采购订单表体6"},
+{id:"3774600684",name:"库存表体6"},
+{id:"2355743123",name:"组织表体6"},
+{id:"4067954376",name:"人员表体6"},
+{id:"9635142014",name:"部门表体6"},
+{id:"9391453696",name:"项目表体6"},
+{id:"2217092918",name:"合同表体6"},
+{id:"9266260113",name:"发票表体6"},
+{id:"9065685252",name:"收款单表体6"},
+{id:"2091839393",name:"付款单表体6"},
+{id:"3440595577",name:"凭证表体6"},
+{id:"4826052956",name:"科目表体6"},
+{id:"1965357662",name:"币种表体6"},
+{id:"7953992565",name:"仓库表体6"},
+{id:"5108770076",name:"批次表体6"},
+{id:"5818999390",name:"工单表体6"},
+{id:"5500059072",name:"生产订单表体6"},
+{id:"9642932339",name:"质检表体6"},
+{id:"7597477879",name:"资产表体6"},
+{id:"5797085534",name:"预算表体6"},
+{id:"8035540001",name:"费用表体6"},
+{id:"9037457043",name:"报销表体6"},
+{id:"3157376165",name:"薪资表体6"},
+{id:"7793477645",name:"考勤表体6"},
+{id:"5301016228",name:"岗位表体6"},
+{id:"7534388707",name:"银行账户表体6"},
+{id:"5380925868",name:"物料分类6"},
+{id:"7386560940",name:"客户分类6"},
+{id:"1458075753",name:"供应商分类6"},
+{id:"5032127360",name:"销售订单分类6"},
+{id:"1450890554",name:"采购订单分类6"},
+{id:"3073493084",name:"库存分类6"},
+{id:"1611627419",name:"组织分类6"},
+{id:"9163756240",name:"人员分类6"},
+{id:"7894841030",name:"部门分类6"},
+{id:"8891705422",name:"项目分类6"},
+{id:"9738690349",name:"合同分类6"},
+{id:"1471812236",name:"发票分类6"},
+{id:"4461090106",name:"收款单分类6"},
+{id:"2031388265",name:"付款单分类6"},
+{id:"6810755108",name:"凭证分类6"},
+{id:"1295020422",name:"科目分类6"},
+{id:"7496910296",name:"币种分类6"},
+{id:"6584463882",name:"仓库分类6"},
+{id:"5337807686",name:"批次分类6"},
+{id:"8033210773",name:"工单分类6"},
+{id:"8806442346",name:"生产订单分类6"},
+{id:"2738086684",name:"质检分类6"},
+{id:"3744949054",name:"资产分类6"},
+{id:"5931164873",name:"预算分类6"},
+{id:"7726596732",name:"费用分类6"},
+{id:"2752773041",name:"报销分类6"},
+{id:"2021769198",name:"薪资分类6"},
+{id:"5910722410",name:"考勤分类6"},
+{id:"2871913669",name:"岗位分类6"},
+{id:"3060960345",name:"银行账户分类6"},
+{id:"2832517789",name:"物料关系6"},
+{id:"7812527894",name:"客户关系6"},
+{id:"5917530018",name:"供应商关系6"},
+{id:"6029156606",name:"销售订单关系6"},
+{id:"7903111171",name:"采购订单关系6"},
+{id:"3473922871",name:"库存关系6"},
+{id:"4819392336",name:"组织关系6"},
+{id:"5976948978",name:"人员关系6"},
+{id:"4579329809",name:"部门关系6"},
+{id:"5732737537",name:"项目关系6"},
+{id:"1570151050",name:"合同关系6"},
+{id:"4130691283",name:"发票关系6"},
+{id:"4772348392",name:"收款单关系6"},
+{id:"1774726610",name:"付款单关系6"},
+{id:"7681591470",name:"凭证关系6"},
+{id:"2359158440",name:"科目关系6"},
+{id:"7247872933",name:"币种关系6"},
+{id:"6880871456",name:"仓库关系6"},
+{id:"2211044765",name:"批次关系6"},
+{id:"3212436886",name:"工单关系6"},
+{id:"4998017899",name:"生产订单关系6"},
+{id:"6126152173",name:"质检关系6"},
+{id:"8102665339",name:"资产关系6"},
+{id:"8105565957",name:"预算关系6"},
+{id:"3685512285",name:"费用关系6"},
+{id:"6027406289",name:"报销关系6"},
+{id:"3714205884",name:"薪资关系6"},
+{id:"8014116616",name:"考勤关系6"},
+{id:"1381364485",name:"岗位关系6"},
+{id:"1505038254",name:"银行账户关系6"},
+{id:"7730190323",name:"物料日志6"},
+{id:"5164492326",name:"客户日志6"},
+{id:"6318196403",name:"供应商日志6"},
+{id:"8955358563",name:"销售订单日志6"},
+{id:"2927979493",name:"采购订单日志6"},
+{id:"4910810845",name:"库存日志6"},
+{id:"3042944729",name:"组织日志6"},
+{id:"7218642104",name:"人员日志6"},
+{id:"1119694615",name:"部门日志6"},
+{id:"4596030727",name:"项目日志6"},
+{id:"9676043655",name:"合同日志6"},
+{id:"7818203623",name:"发票日志6"},
+{id:"3200980636",name:"收款单日志6"},
+{id:"9173064322",name:"付款单日志6"},
+{id:"2488223423",name:"凭证日志6"},
+{id:"4649940897",name:"科目日志6"},
+{id:"3993587043",name:"币种日志6"},
+{id:"2413873664",name:"仓库日志6"},
+{id:"4440657239",name:"批次日志6"},
+{id:"2794947757",name:"工单日志6"},
+{id:"9007464224",name:"生产订单日志6"},
+{id:"4668592926",name:"质检日志6"},
+{id:"4369165666",name:"资产日志6"},
+{id:"3665233581",name:"预算日志6"},
+{id:"4494869118",name:"费用日志6"},
+{id:"2067663266",name:"报销日志6"},
+{id:"4036876583",name:"薪资日志6"},
+{id:"9001954937",name:"考勤日志6"},
+{id:"7433685567",name:"岗位日志6"},
+{id:"7202433165",name:"银行账户日志6"},
+{id:"3808546407",name:"物料扩展6"},
+{id:"6788288189",name:"客户扩展6"},
+{id:"4994270110",name:"供应商扩展6"},
+{id:"3793406418",name:"销售订单扩展6"},
+{id:"1279991141",name:"采购订单扩展6"},
+{id:"8550753856",name:"库存扩展6"},
+{id:"9655090907",name:"组织扩展6"},
+{id:"1075606253",name:"人员扩展6"},
+{id:"1164941782",name:"部门扩展6"},
+{id:"7270697283",name:"项目扩展6"},
+{id:"1540959570",name:"合同扩展6"},
+{id:"5172266506",name:"发票扩展6"},
+{id:"6093186714",name:"收款单扩展6"},
+{id:"9119393602",name:"付款单扩展6"},
+{id:"2233188273",name:"凭证扩展6"},
+{id:"2685705313",name:"科目扩展6"},
+{id:"6065154917",name:"币种扩展6"},
+{id:"4177598587",name:"仓库扩展6"},
+{id:"7997433011",name:"批次扩展6"},
+{id:"4616167021",name:"工单扩展6"},
+{id:"4472321199",name:"生产订单扩展6"},
+{id:"8383524262",name:"质检扩展6"},
+{id:"8238596876",name:"资产扩展6"},
+{id:"2162769408",name:"预算扩展6"},
+{id:"7483113177",name:"费用扩展6"},
+{id:"3895823777",name:"报销扩展6"},
+{id:"6293104309",name:"薪资扩展6"},
+{id:"1968538388",name:"考勤扩展6"},
+{id:"7480063922",name:"岗位扩展6"},
+{id:"5090062207",name:"银行账户扩展6"},
+{id:"9530652628",name:"物料主表7"},
+{id:"1747255644",name:"客户主表7"},
+{id:"2097190606",name:"供应商主表7"},
+{id:"5457148860",name:"销售订单主表7"},
+{id:"4750342492",name:"采购订单主表7"},
+{id:"5534376257",name:"库存主表7"},
+{id:"1072392824",name:"组织主表7"},
+{id:"7263450947",name:"人员主表7"},
+{id:"3940195453",name:"部门主表7"},
+{id:"6828068093",name:"项目主表7"},
+{id:"1632002083",name:"合同主表7"},
+{id:"9088548905",name:"发票主表7"},
+{id:"8538532357",name:"收款单主表7"},
+{id:"6533254025",name:"付款单主表7"},
+{id:"3595368209",name:"凭证主表7"},
+{id:"6321003575",name:"科目主表7"},
+{id:"1473565347",name:"币种主表7"},
+{id:"4200528781",name:"仓库主表7"},
+{id:"1891474253",name:"批次主表7"},
+{id:"1867039756",name:"工单主表7"},
+{id:"1137157384",name:"生产订单主表7"},
+{id:"2054159842",name:"质检主表7"},
+{id:"1146760611",name:"资产主表7"},
+{id:"6758965094",name:"预算主表7"},
+{id:"9958946745",name:"费用主表7"},
+{id:"5561051231",name:"报销主表7"},
+{id:"5379199811",name:"薪资主表7"},
+{id:"1988789662",name:"考勤主表7"},
+{id:"4963665765",name:"岗位主表7"},
+{id:"5235326629",name:"银行账户主表7"},
+{id:"3131290686",name:"物料子表7"},
+{id:"9944556587",name:"客户子表7"},
+{id:"5358495085",name:"供应商子表7"},
+{id:"8505475469",name:"销售订单子表7"},
+{id:"2382057075",name:"采购订单子表7"},
+{id:"1171902079",name:"库存子表7"},
+{id:"1501908945",name:"组织子表7"},
+{id:"6887563964",name:"人员子表7"},
+{id:"8663600838",name:"部门子表7"},
+{id:"2410112405",name:"项目子表7"},
+{id:"6965204666",name:"合同子表7"},
+{id:"8257574981",name:"发票子表7"},
+{id:"1153284488",name:"收款单子表7"},
+{id:"7161224951",name:"付款单子表7"},
+{id:"4654817383",name:"凭证子表7"},
+{id:"3100195462",name:"科目子表7"},
+{id:"6215566127",name:"币种子表7"},
+{id:"1200218573",name:"仓库子表7"},
+{id:"6157246689",name:"批次子表7"},
+{id:"7014050299",name:"工单子表7"},
+{id:"9147736949",name:"生产订单子表7"},
+{id:"2918413136",name:"质检子表7"},
+{id:"3796775320",name:"资产子表7"},
+{id:"1658719286",name:"预算子表7"},
+{id:"1904421837",name:"费用子表7"},
+{id:"9183131589",name:"报销子表7"},
+{id:"3286615600",name:"薪资子表7"},
+{id:"3631023481",name:"考勤子表7"},
+{id:"4481443594",name:"岗位子表7"},
+{id:"6983911106",name:"银行账户子表7"},
+{id:"8971014883",name:"物料明细7"},
+{id:"8955098781",name:"客户明细7"},
+{id:"3426892287",name:"供应商明细7"},
+{id:"4200349816",name:"销售订单明细7"},
+{id:"6358218306",name:"采购订单明细7"},
+{id:"7437869573",name:"库存明细7"},
+{id:"4809452988",name:"组织明细7"},
+{id:"5629262974",name:"人员明细7"},
+{id:"7045136857",name:"部门明细7"},
+{id:"5256877835",name:"项目明细7"},
+{id:"5955721330",name:"合同明细7"},
+{id:"1460194169",name:"发票明细7"},
+{id:"9526585234",name:"收款单明细7"},
+{id:"7900261753",name:"付款单明细7"},
+{id:"9042861514",name:"凭证明细7"},
+{id:"5391149935",name:"科目明细7"},
+{id:"3575664575",name:"币种明细7"},
+{id:"6632421444",name:"仓库明细7"},
+{id:"6659141407",name:"批次明细7"},
+{id:"8625272380",name:"工单明细7"},
+{id:"7232514555",name:"生产订单明细7"},
+{id:"4584422808",name:"质检明细7"},
+{id:"4035572152",name:"资产明细7"},
+{id:"5885709361",name:"预算明细7"},
+{id:"8764692099",name:"费用明细7"},
+{id:"3253123632",name:"报销明细7"},
+{id:"9147372124",name:"薪资明细7"},
+{id:"7040693660",name:"考勤明细7"},
+{id:"5481741536",name:"岗位明细7"},
+{id:"2449425165",name:"银行账户明细7"},
+{id:"8641761969",name:"物料档案7"},
+{id:"9328530377",name:"客户档案7"},
+{id:"2210659050",name:"供应商档案7"},
+{id:"4579859593",name:"销售订单档案7"},
+{id:"5070701674",name:"采购订单档案7"},
+{id:"6968075039",name:"库存档案7"},
+{id:"3858003103",name:"组织档案7"},
+{id:"5781168861",name:"人员档案7"},
+{id:"1846094155",name:"部门档案7"},
+{id:"6010644587",name:"项目档案7"},
+{id:"2824364016",name:"合同档案7"},
+{id:"4628662632",name:"发票档案7"},
+{id:"9210871634",name:"收款单档案7"},
+{id:"1149028214",name:"付款单档案7"},
+{id:"5697573703",name:"凭证档案7"},
+{id:"9284324871",name:"科目档案7"},
+{id:"4113882631",name:"币种档案7"},
+{id:"4693130143",name:"仓库档案7"},
+{id:"4241737993",name:"批次档案7"},
+{id:"6794456781",name:"工单档案7"},
+{id:"2189001998",name:"生产订单档案7"},
+{id:"9463440546",name:"质检档案7"},
+{id:"8045652479",name:"资产档案7"},
+{id:"1480417760",name:"预算档案7"},
+{id:"6986980018",name:"费用档案7"},
+{id:"7481073756",name:"报销档案7"},
+{id:"1526033233",name:"薪资档案7"},
+{id:"2821341769",name:"考勤档案7"},
+{id:"5112128121",name:"岗位档案7"},
+{id:"5201260074",name:"银行账户档案7"},
+{id:"6286861019",name:"物料表头7"},
+{id:"7337469879",name:"客户表头7"},
+{id:"2833452489",name:"供应商表头7"},
+{id:"4052028870",name:"销售订单表头7"},
+{id:"3199844806",name:"采购订单表头7"},
+{id:"3446278959",name:"库存表头7"},
+{id:"8352662488",name:"组织表头7"},
+{id:"7405585501",name:"人员表头7"},
+{id:"6108741031",name:"部门表头7"},
+{id:"6161095609",name:"项目表头7"},
+{id:"1065527964",name:"合同表头7"},
+{id:"6345671619",name:"发票表头7"},
+{id:"4883956579",name:"收款单表头7"},
+{id:"1739378599",name:"付款单表头7"},
+{id:"4442102737",name:"凭证表头7"},
+{id:"4537931920",name:"科目表头7"},
+{id:"1091244557",name:"币种表头7"},
+{id:"1589643032",name:"仓库表头7"},
+{id:"1579574682",name:"批次表头7"},
+{id:"4537342979",name:"工单表头7"},
+{id:"9929662835",name:"生产订单表头7"},
+{id:"7475959137",name:"质检表头7"},
+{id:"8913348088",name:"资产表头7"},
+{id:"9515580468",name:"预算表头7"},
+{id:"6140155238",name:"费用表头7"},
+{id:"5437437963",name:"报销表头7"},
+{id:"9326245624",name:"薪资表头7"},
+{id:"3032524075",name:"考勤表头7"},
+{id:"5154714513",name:"岗位表头7"},
+{id:"1886653754",name:"银行账户表头7"},
+{id:"9246494010",name:"物料表体7"},
+{id:"7704461227",name:"客户表体7"},
+{id:"5499223341",name:"供应商表体7"},
+{id:"3304883733",name:"销售订单表体7"},
+{id:"4968846023",name:"采购订单表体7"},
+{id:"1762272243",name:"库存表体7"},
+{id:"2733359723",name:"组织表体7"},
+{id:"3842374498",name:"人员表体7"},
+{id:"1527062607",name:"部门表体7"},
+{id:"5761905473",name:"项目表体7"},
+{id:"6768819034",name:"合同表体7"},
+{id:"1079268176",name:"发票表体7"},
+{id:"8783165069",name:"收款单表体7"},
+{id:"7532728768",name:"付款单表体7"},
+{id:"9976464056",name:"凭证表体7"},
+{id:"2347628276",name:"科目表体7"},
+{id:"9769531971",name:"币种表体7"},
+{id:"7992659267",name:"仓库表体7"},
+{id:"8618211029",name:"批次表体7"},
+{id:"3009204550",name:"工单表体7"},
+{id:"9412316527",name:"生产订单表体7"},
+{id:"6556856635",name:"质检表体7"},
+{id:"3291431263",name:"资产表体7"},
+{id:"6762234593",name:"预算表体7"},
+{id:"1215441762",name:"费用表体7"},
+{id:"9921130539",name:"报销表体7"},
+{id:"1353626451",name:"薪资表体7"},
+{id:"4822895936",name:"考勤表体7"},
+{id:"1941864904",name:"岗位表体7"},
+{id:"1583661304",name:"银行账户表体7"},
+{id:"4692736208",name:"物料分类7"},
+{id:"8510816587",name:"客户分类7"},
+{id:"6503348431",name:"供应商分类7"},
+{id:"8126325463",name:"销售订单分类7"},
+{id:"3623279491",name:"采购订单分类7"},
+{id:"4900057045",name:"库存分类7"},
+{id:"5176634683",name:"组织分类7"},
+{id:"5777730792",name:"人员分类7"},
+{id:"8585229073",name:"部门分类7"},
+{id:"1293356868",name:"项目分类7"},
+{id:"2585205648",name:"合同分类7"},
+{id:"1975931948",name:"发票分类7"},
+{id:"9248544542",name:"收款单分类7"},
+{id:"6536745266",name:"付款单分类7"},
+{id:"2366851883",name:"凭证分类7"},
+{id:"8427559976",name:"科目分类7"},
+{id:"6498336949",name:"币种分类7"},
+{id:"8720059852",name:"仓库分类7"},
+{id:"3158160904",name:"批次分类7"},
+{id:"8007626292",name:"工单分类7"},
+{id:"8213087926",name:"生产订单分类7"},
+{id:"5864208039",name:"质检分类7"},
+{id:"4656030745",name:"资产分类7"},
+{id:"9120893581",name:"预算分类7"},
+{id:"8874533131",name:"费用分类7"},
+{id:"3292378681",name:"报销分类7"},
+{id:"2386590778",name:"薪资分类7"},
+{id:"2796405841",name:"考勤分类7"},
+{id:"1233851972",name:"岗位分类7"},
+{id:"8233691085",name:"银行账户分类7"},
+{id:"6518151515",name:"物料关系7"},
+{id:"4274065391",name:"客户关系7"},
+{id:"8478395007",name:"供应商关系7"},
+{id:"8318330405",name:"销售订单关系7"},
+{id:"1883969753",name:"采购订单关系7"},
+{id:"9102063323",name:"库存关系7"},
+{id:"3457577213",name:"组织关系7"},
+{id:"9167699429",name:"人员关系7"},
+{id:"6558756950",name:"部门关系7"},
+{id:"8632867879",name:"项目关系7"},
+{id:"6900460135",name:"合同关系7"},
+{id:"8257242843",name:"发票关系7"},
+{id:"3650819745",name:"收款单关系7"},
+{id:"3546781549",name:"付款单关系7"},
+{id:"5985846385",name:"凭证关系7"},
+{id:"6514105669",name:"科目关系7"},
+{id:"4055625519",name:"币种关系7"},
+{id:"4987119988",name:"仓库关系7"},
+{id:"8427830650",name:"批次关系7"},
+{id:"9136939103",name:"工单关系7"},
+{id:"2565265066",name:"生产订单关系7"},
+{id:"8069483834",name:"质检关系7"},
+{id:"6147360212",name:"资产关系7"},
+{id:"1819317899",name:"预算关系7"},
+{id:"7894247963",name:"费用关系7"},
+{id:"6016186388",name:"报销关系7"},
+{id:"4548863648",name:"薪资关系7"},
+{id:"1785597979",name:"考勤关系7"},
+{id:"2929637810",name:"岗位关系7"},
+{id:"8547610201",name:"银行账户关系7"},
+{id:"7012720940",name:"物料日志7"},
+{id:"6164683041",name:"客户日志7"},
+{id:"2271889195",name:"供应商日志7"},
+{id:"7429326500",name:"销售订单日志7"},
+{id:"2281796757",name:"采购订单日志7"},
+{id:"8748141005",name:"库存日志7"},
+{id:"5234068716",name:"组织日志7"},
+{id:"5078064761",name:"人员日志7"},
+{id:"6698500002",name:"部门日志7"},
+{id:"6170756024",name:"项目日志7"},
+{id:"5663931880",name:"合同日志7"},
+{id:"2722764929",name:"发票日志7"},
+{id:"9509699041",name:"收款单日志7"},
+{id:"1842703611",name:"付款单日志7"},
+{id:"1705261342",name:"凭证日志7"},
+{id:"8553584936",name:"科目日志7"},
+{id:"6388611560",name:"币种日志7"},
+{id:"9166232785",name:"仓库日志7"},
+{id:"3032171272",name:"批次日志7"},
+{id:"8363504972",name:"工单日志7"},
+{id:"4719065286",name:"生产订单日志7"},
+{id:"1640312751",name:"质检日志7"},
+{id:"8111663904",name:"资产日志7"},
+{id:"4678452525",name:"预算日志7"},
+{id:"7155151322",name:"费用日志7"},
+{id:"3947146041",name:"报销日志7"},
+{id:"5639156884",name:"薪资日志7"},
+{id:"9382192198",name:"考勤日志7"},
+{id:"7191004666",name:"岗位日志7"},
+{id:"1636631914",name:"银行账户日志7"},
+{id:"5074966309",name:"物料扩展7"},
+{id:"9428378019",name:"客户扩展7"},
+{id:"9034346731",name:"供应商扩展7"},
+{id:"6760738032",name:"销售订单扩展7"},
+{id:"4180569952",name:"采购订单扩展7"},
+{id:"8535913830",name:"库存扩展7"},
+{id:"2116963179",name:"组织扩展7"},
+{id:"8980873373",name:"人员扩展7"},
+{id:"1135351099",name:"部门扩展7"},
+{id:"5292255922",name:"项目扩展7"},
+{id:"4088041142",name:"合同扩展7"},
+{id:"7622374884",name:"发票扩展7"},
+{id:"2064697584",name:"收款单扩展7"},
+{id:"4361830623",name:"付款单扩展7"},
+{id:"3529336542",name:"凭证扩展7"},
+{id:"9871656118",name:"科目扩展7"},
+{id:"1931245743",name:"币种扩展7"},
+{id:"5858156652",name:"仓库扩展7"},
+{id:"6028277901",name:"批次扩展7"},
+{id:"9525761932",name:"工单扩展7"},
+{id:"1155807496",name:"生产订单扩展7"},
+{id:"8391564407",name:"质检扩展7"},
+{id:"5722049328",name:"资产扩展7"},
+{id:"1428815268",name:"预算扩展7"},
+{id:"1432445359",name:"费用扩展7"},
+{id:"5837258758",name:"报销扩展7"},
+{id:"9372049914",name:"薪资扩展7"},
+{id:"8145139691",name:"考勤扩展7"},
+{id:"3981404259",name:"岗位扩展7"},
+{id:"5694242709",name:"银行账户扩展7"},
+{id:"3836638835",name:"物料主表8"},
+{id:"6871812624",name:"客户主表8"},
+{id:"3718294993",name:"供应商主表8"},
+{id:"4702346552",name:"销售订单主表8"},
+{id:"9056155484",name:"采购订单主表8"},
+{id:"2144998555",name:"库存主表8"},
+{id:"4004182971",name:"组织主表8"},
+{id:"4139789838",name:"人员主表8"},
+{id:"7708928692",name:"部门主表8"},
+{id:"4596890986",name:"项目主表8"},
+{id:"8973087311",name:"合同主表8"},
+{id:"2848050080",name:"发票主表8"},
+{id:"4680669153",name:"收款单主表8"},
+{id:"5141445924",name:"付款单主表8"},
+{id:"6161232600",name:"凭证主表8"},
+{id:"4806905666",name:"科目主表8"},
+{id:"3975434769",name:"币种主表8"},
+{id:"2947979029",name:"仓库主表8"},
+{id:"9159888085",name:"批次主表8"},
+{id:"2189454260",name:"工单主表8"},
+{id:"9605780657",name:"生产订单主表8"},
+{id:"6457291781",name:"质检主表8"},
+{id:"3502731631",name:"资产主表8"},
+{id:"8729538572",name:"预算主表8"},
+{id:"3427150134",name:"费用主表8"},
+{id:"5362535404",name:"报销主表8"},
+{id:"9839105699",name:"薪资主表8"},
+{id:"2100925113",name:"考勤主表8"},
+{id:"3329566756",name:"岗位主表8"},
+{id:"5781392091",name:"银行账户主表8"},
+{id:"3403636941",name:"物料子表8"},
+{id:"8283670653",name:"客户子表8"},
+{id:"3720608418",name:"供应商子表8"},
+{id:"2306028679",name:"销售订单子表8"},
+{id:"3174747594",name:"采购订单子表8"},
+{id:"5607242283",name:"库存子表8"},
+{id:"3553086354",name:"组织子表8"},
+{id:"9411958541",name:"人员子表8"},
+{id:"4503754158",name:"部门子表8"},
+{id:"5986917438",name:"项目子表8"},
+{id:"5871362164",name:"合同子表8"},
+{id:"4125236952",name:"发票子表8"},
+{id:"5568475792",name:"收款单子表8"},
+{id:"2774909563",name:"付款单子表8"},
+{id:"6739268110",name:"凭证子表8"},
+{id:"5432636864",name:"科目子表8"},
+{id:"8804083600",name:"币种子表8"},
+{id:"2626503874",name:"仓库子表8"},
+{id:"9121054897",name:"批次子表8"},
+{id:"6618878453",name:"工单子表8"},
+{id:"6366625591",name:"生产订单子表8"},
+{id:"8734150808",name:"质检子表8"},
+{id:"9495224908",name:"资产子表8"},
+{id:"8130197959",name:"预算子表8"},
+{id:"3432458912",name:"费用子表8"},
+{id:"9807948640",name:"报销子表8"},
+{id:"7105126489",name:"薪资子表8"},
+{id:"3586025432",name:"考勤子表8"},
+{id:"5805794075",name:"岗位子表8"},
+{id:"9067294673",name:"银行账户子表8"},
+{id:"1037974889",name:"物料明细8"},
+{id:"5922231523",name:"客户明细8"},
+{id:"7558029012",name:"供应商明细8"},
+{id:"6740901903",name:"销售订单明细8"},
+{id:"1456996639",name:"采购订单明细8"},
+{id:"5863776316",name:"库存明细8"},
+{id:"2054358207",name:"组织明细8"},
+{id:"9737003827",name:"人员明细8"},
+{id:"6991615309",name:"部门明细8"},
+{id:"2944639413",name:"项目明细8"},
+{id:"1711734405",name:"合同明细8"},
+{id:"6032255821",name:"发票明细8"},
+{id:"7348339043",name:"收款单明细8"},
+{id:"4306614780",name:"付款单明细8"},
+{id:"2274786695",name:"凭证明细8"},
+{id:"4728881601",name:"科目明细8"},
+{id:"6742527141",name:"币种明细8"},
+{id:"5316124421",name:"仓库明细8"},
+{id:"4046845224",name:"批次明细8"},
+{id:"3990384590",name:"工单明细8"},
+{id:"4963776464",name:"生产订单明细8"},
+{id:"3633645310",name:"质检明细8"},
+{id:"5945252606",name:"资产明细8"},
+{id:"3572318943",name:"预算明细8"},
+{id:"2031064094",name:"费用明细8"},
+{id:"5879584287",name:"报销明细8"},
+{id:"4539487704",name:"薪资明细8"},
+{id:"8231594658",name:"考勤明细8"},
+{id:"4461387835",name:"岗位明细8"},
+{id:"6204927128",name:"银行账户明细8"},
+{id:"1839067072",name:"物料档案8"},
+{id:"5594575571",name:"客户档案8"},
+{id:"1769297596",name:"供应商档案8"},
+{id:"4781542655",name:"销售订单档案8"},
+{id:"4778660435",name:"采购订单档案8"},
+{id:"6680030624",name:"库存档案8"},
+{id:"3817852437",name:"组织档案8"},
+{id:"1206179579",name:"人员档案8"},
+{id:"5208105888",name:"部门档案8"},
+{id:"2153303220",name:"项目档案8"},
+{id:"7769061078",name:"合同档案8"},
+{id:"1134699389",name:"发票档案8"},
+{id:"3738069564",name:"收款单档案8"},
+{id:"8444220197",name:"付款单档案8"},
+{id:"4850355858",name:"凭证档案8"},
+{id:"3544757530",name:"科目档案8"},
+{id:"4864832140",name:"币种档案8"},
+{id:"5218227469",name:"仓库档案8"},
+{id:"7219354332",name:"批次档案8"},
+{id:"1757345646",name:"工单档案8"},
+{id:"9130484573",name:"生产订单档案8"},
+{id:"4629158352",name:"质检档案8"},
+{id:"1194180682",name:"资产档案8"},
+{id:"4459808267",name:"预算档案8"},
+{id:"4141229920",name:"费用档案8"},
+{id:"3995772863",name:"报销档案8"},
+{id:"7792427573",name:"薪资档案8"},
+{id:"8992413263",name:"考勤档案8"},
+{id:"4590310965",name:"岗位档案8"},
+{id:"5299537185",name:"银行账户档案8"},
+{id:"4081171267",name:"物料表头8"},
+{id:"7550859475",name:"客户表头8"},
+{id:"7992007026",name:"供应商表头8"},
+{id:"1174384024",name:"销售订单表头8"},
+{id:"5807405286",name:"采购订单表头8"},
+{id:"1115847674",name:"库存表头8"},
+{id:"1193399806",name:"组织表头8"},
+{id:"8526800115",name:"人员表头8"},
+{id:"8996323390",name:"部门表头8"},
+{id:"7017768652",name:"项目表头8"},
+{id:"3393394625",name:"合同表头8"},
+{id:"6443916761",name:"发票表头8"},
+{id:"5757992739",name:"收款单表头8"},
+{id:"4632263343",name:"付款单表头8"},
+{id:"4872787003",name:"凭证表头8"},
+{id:"9649448132",name:"科目表头8"},
+{id:"1005173946",name:"币种表头8"},
+{id:"3550748782",name:"仓库表头8"},
+{id:"1324429533",name:"批次表头8"},
+{id:"8243905342",name:"工单表头8"},
+{id:"4153962025",name:"生产订单表头8"},
+{id:"2427803019",name:"质检表头8"},
+{id:"7112697436",name:"资产表头8"},
+{id:"2647768036",name:"预算表头8"},
+{id:"4642864590",name:"费用表头8"},
+{id:"8007503622",name:"报销表头8"},
+{id:"4593594388",name:"薪资表头8"},
+{id:"5270236411",name:"考勤表头8"},
+{id:"3763331117",name:"岗位表头8"},
+{id:"8564621271",name:"银行账户表头8"},
+{id:"4841521014",name:"物料表体8"},
+{id:"6318367862",name:"客户表体8"},
+{id:"7296820089",name:"供应商表体8"},
+{id:"6924976708",name:"销售订单表体8"},
+{id:"3763118529",name:"采购订单表体8"},
+{id:"1444152426",name:"库存表体8"},
+{id:"2967656346",name:"组织表体8"},
+{id:"5617416039",name:"人员表体8"},
+{id:"3248256050",name:"部门表体8"},
+{id:"4836805932",name:"项目表体8"},
+{id:"4104972896",name:"合同表体8"},
+{id:"1474540635",name:"发票表体8"},
+{id:"2954372582",name:"收款单表体8"},
+{id:"7967623217",name:"付款单表体8"},
+{id:"6341021512",name:"凭证表体8"},
+{id:"3927255277",name:"科目表体8"},
+{id:"9736699876",name:"币种表体8"},
+{id:"6491402273",name:"仓库表体8"},
+{id:"5256712654",name:"批次表体8"},
+{id:"9563661796",name:"工单表体8"},
+{id:"6775994973",name:"生产订单表体8"},
+{id:"5181201913",name:"质检表体8"},
+{id:"6213803423",name:"资产表体8"},
+{id:"8380707988",name:"预算表体8"},
+{id:"9937421763",name:"费用表体8"},
+{id:"9143663451",name:"报销表体8"},
+{id:"6284320021",name:"薪资表体8"},
+{id:"7884120284",name:"考勤表体8"},
+{id:"9944612570",name:"岗位表体8"},
+{id:"3733062929",name:"银行账户表体8"},
+{id:"8707611791",name:"物料分类8"},
+{id:"7715065890",name:"客户分类8"},
+{id:"9016126227",name:"供应商分类8"},
+{id:"4960884188",name:"销售订单分类8"},
+{id:"9299751128",name:"采购订单分类8"},
+{id:"7101053967",name:"库存分类8"},
+{id:"2306341495",name:"组织分类8"},
+{id:"4265795525",name:"人员分类8"},
+{id:"5538461420",name:"部门分类8"},
+{id:"1858972638",name:"项目分类8"},
+{id:"9967037847",name:"合同分类8"},
+{id:"6598166575",name:"发票分类8"},
+{id:"3250438520",name:"收款单分类8"},
+{id:"2331001856",name:"付款单分类8"},
+{id:"2389698118",name:"凭证分类8"},
+{id:"9928552917",name:"科目分类8"},
+{id:"1795449669",name:"币种分类8"},
+{id:"2155570248",name:"仓库分类8"},
+{id:"6643569907",name:"批次分类8"},
+{id:"9712397031",name:"工单分类8"},
+{id:"1347661987",name:"生产订单分类8"},
+{id:"3190097057",name:"质检分类8"},
+{id:"7031388482",name:"资产分类8"},
+{id:"8364939606",name:"预算分类8"},
+{id:"7326718115",name:"费用分类8"},
+{id:"8705217937",name:"报销分类8"},
+{id:"7093521929",name:"薪资分类8"},
+{id:"6640785681",name:"考勤分类8"},
+{id:"3122132707",name:"岗位分类8"},
+{id:"9055132154",name:"银行账户分类8"},
+{id:"1436161388",name:"物料关系8"},
+{id:"1522124249",name:"客户关系8"},
+{id:"4743050220",name:"供应商关系8"},
+{id:"4654497722",name:"销售订单关系8"},
+{id:"8374640081",name:"采购订单关系8"},
+{id:"5308692785",name:"库存关系8"},
+{id:"5472244729",name:"组织关系8"},
+{id:"5387916842",name:"人员关系8"},
+{id:"1714030089",name:"部门关系8"},
+{id:"1445079509",name:"项目关系8"},
+{id:"3895972788",name:"合同关系8"},
+{id:"1707310555",name:"发票关系8"},
+{id:"8292945101",name:"收款单关系8"},
+{id:"6969913506",name:"付款单关系8"},
+{id:"7900919233",name:"凭证关系8"},
+{id:"1204810799",name:"科目关系8"},
+{id:"3986364019",name:"币种关系8"},
+{id:"5249232944",name:"仓库关系8"},
+{id:"5553345724",name:"批次关系8"},
+{id:"4893468014",name:"工单关系8"},
+{id:"4643725036",name:"生产订单关系8"},
+{id:"2130426579",name:"质检关系8"},
+{id:"9472962350",name:"资产关系8"},
+{id:"2999410567",name:"预算关系8"},
+{id:"6970167703",name:"费用关系8"},
+{id:"5509436034",name:"报销关系8"},
+{id:"3224455999",name:"薪资关系8"},
+{id:"9095434308",name:"考勤关系8"},
+{id:"3439896404",name:"岗位关系8"},
+{id:"1768280066",name:"银行账户关系8"},
+{id:"2006543313",name:"物料日志8"},
+{id:"4769378424",name:"客户日志8"},
+{id:"4698597277",name:"供应商日志8"},
+{id:"7126381214",name:"销售订单日志8"},
+{id:"9101645898",name:"采购订单日志8"},
+{id:"3379736019",name:"库存日志8"},
+{id:"9519264574",name:"组织日志8"},
+{id:"9656919455",name:"人员日志8"},
+{id:"7674491330",name:"部门日志8"},
+{id:"7830771425",name:"项目日志8"},
+{id:"2648397946",name:"合同日志8"},
+{id:"3988747796",name:"发票日志8"},
+{id:"4190127920",name:"收款单日志8"},
+{id:"7961425022",name:"付款单日志8"},
+{id:"2440375125",name:"凭证日志8"},
+{id:"4587825207",name:"科目日志8"},
+{id:"5936684952",name:"币种日志8"},
+{id:"2840580047",name:"仓库日志8"},
+{id:"1755646140",name:"批次日志8"},
+{id:"7391536003",name:"工单日志8"},
+{id:"4191054428",name:"生产订单日志8"},
+{id:"2229264521",name:"质检日志8"},
+{id:"8598995333",name:"资产日志8"},
+{id:"3020882119",name:"预算日志8"},
+{id:"2451448303",name:"费用日志8"},
+{id:"6789751787",name:"报销日志8"},
+{id:"4897639420",name:"薪资日志8"},
+{id:"9291251441",name:"考勤日志8"},
+{id:"2455806860",name:"岗位日志8"},
+{id:"9124139641",name:"银行账户日志8"},
+{id:"1858596263",name:"物料扩展8"},
+{id:"9811272422",name:"客户扩展8"},
+{id:"6134037763",name:"供应商扩展8"},
+{id:"7133168551",name:"销售订单扩展8"},
+{id:"4834580839",name:"采购订单扩展8"},
+{id:"1010563895",name:"库存扩展8"},
+{id:"3406902126",name:"组织扩展8"},
+{id:"8089630253",name:"人员扩展8"},
+{id:"8647120322",name:"部门扩展8"},
+{id:"3025970033",name:"项目扩展8"},
+{id:"6013813716",name:"合同扩展8"},
+{id:"2329864832",name:"发票扩展8"},
+{id:"7960866900",name:"收款单扩展8"},
+{id:"5769434741",name:"付款单扩展8"},
+{id:"1607827266",name:"凭证扩展8"},
+{id:"2824911867",name:"科目扩展8"},
+{id:"9220295289",name:"币种扩展8"},
+{id:"3407753860",name:"仓库扩展8"},
+{id:"1096159662",name:"批次扩展8"},
+{id:"6850256485",name:"工单扩展8"},
+{id:"1667148468",name:"生产订单扩展8"},
+{id:"6836771075",name:"质检扩展8"},
+{id:"7652866819",name:"资产扩展8"},
+{id:"4194120199",name:"预算扩展8"},
+{id:"9076051050",name:"费用扩展8"},
+{id:"2471958480",name:"报销扩展8"},
+{id:"7149718508",name:"薪资扩展8"},
+{id:"8016235195",name:"考勤扩展8"},
+{id:"1034648377",name:"岗位扩展8"},
+{id:"1631350528",name:"银行账户扩展8"},
+{id:"1758241831",name:"物料主表9"},
+{id:"2595241142",name:"客户主表9"},
+{id:"1523239427",name:"供应商主表9"},
+{id:"5126381398",name:"销售订单主表9"},
+{id:"8459119492",name:"采购订单主表9"},
+{id:"8798967341",name:"库存主表9"},
+{id:"8949883822",name:"组织主表9"},
+{id:"5096311025",name:"人员主表9"},
+{id:"8064328329",name:"部门主表9"},
+{id:"3804064833",name:"项目主表9"},
+{id:"3211971879",name:"合同主表9"},
+{id:"9495609098",name:"发票主表9"},
+{id:"9492823892",name:"收款单主表9"},
+{id:"6556348708",name:"付款单主表9"},
+{id:"4246980061",name:"凭证主表9"},
+{id:"3576408364",name:"科目主表9"},
+{id:"5816574978",name:"币种主表9"},
+{id:"3541261284",name:"仓库主表9"},
+{id:"2224602646",name:"批次主表9"},
+{id:"8751460757",name:"工单主表9"},
+{id:"7927044916",name:"生产订单主表9"},
+{id:"4577449143",name:"质检主表9"},
+{id:"9730743977",name:"资产主表9"},
+{id:"9413223753",name:"预算主表9"},
+{id:"5450781387",name:"费用主表9"},
+{id:"1074700956",name:"报销主表9"},
+{id:"6826443685",name:"薪资主表9"},
+{id:"2311537630",name:"考勤主表9"},
+{id:"4749480333",name:"岗位主表9"},
+{id:"1952793300",name:"银行账户主表9"},
+{id:"8509221574",name:"物料子表9"},
+{id:"3317037456",name:"客户子表9"},
+{id:"6873617489",name:"供应商子表9"},
+{id:"2100983957",name:"销售订单子表9"},
+{id:"3471462427",name:"采购订单子表9"},
+{id:"7641885626",name:"库存子表9"},
+{id:"2125118211",name:"组织子表9"},
+{id:"9496665647",name:"人员子表9"},
+{id:"8136504537",name:"部门子表9"},
+{id:"4757365471",name:"项目子表9"},
+{id:"3079519240",name:"合同子表9"},
+{id:"2829177326",name:"发票子表9"},
+{id:"4780998661",name:"收款单子表9"},
+{id:"6372715324",name:"付款单子表9"},
+{id:"8246901531",name:"凭证子表9"},
+{id:"4482149314",name:"科目子表9"},
+{id:"6815188078",name:"币种子表9"},
+{id:"1200925187",name:"仓库子表9"},
+{id:"5124871477",name:"批次子表9"},
+{id:"9404156212",name:"工单子表9"},
+{id:"9487022786",name:"生产订单子表9"},
+{id:"5828223687",name:"质检子表9"},
+{id:"3330158498",name:"资产子表9"},
+{id:"7557006926",name:"预算子表9"},
+{id:"1684754215",name:"费用子表9"},
+{id:"5527338523",name:"报销子表9"},
+{id:"9550262781",name:"薪资子表9"},
+{id:"7787266008",name:"考勤子表9"},
+{id:"9544823930",name:"岗位子表9"},
+{id:"3064472832",name:"银行账户子表9"},
+{id:"4973095800",name:"物料明细9"},
+{id:"2945474807",name:"客户明细9"},
+{id:"9793462982",name:"供应商明细9"},
+{id:"2694441258",name:"销售订单明细9"},
+{id:"3297481002",name:"采购订单明细9"},
+{id:"6622173577",name:"库存明细9"},
+{id:"5114195043",name:"组织明细9"},
+{id:"2479878225",name:"人员明细9"},
+{id:"1058885677",name:"部门明细9"},
+{id:"5368172426",name:"项目明细9"},
+{id:"9015620173",name:"合同明细9"},
+{id:"9570021301",name:"发票明细9"},
+{id:"7016190110",name:"收款单明细9"},
+{id:"4218514260",name:"付款单明细9"},
+{id:"9635918639",name:"凭证明细9"},
+{id:"6594443133",name:"科目明细9"},
+{id:"9998003667",name:"币种明细9"},
+{id:"1166923559",name:"仓库明细9"},
+{id:"7933767597",name:"批次明细9"},
+{id:"2067514106",name:"工单明细9"},
+{id:"8927616882",name:"生产订单明细9"},
+{id:"7135779833",name:"质检明细9"},
+{id:"8071859393",name:"资产明细9"},
+{id:"9161454877",name:"预算明细9"},
+{id:"7446893594",name:"费用明细9"},
+{id:"2668317002",name:"报销明细9"},
+{id:"2477124466",name:"薪资明细9"},
+{id:"9079654513",name:"考勤明细9"},
+{id:"9780033616",name:"岗位明细9"},
+{id:"8959489184",name:"银行账户明细9"},
+{id:"8478836350",name:"物料档案9"},
+{id:"8692846731",name:"客户档案9"},
+{id:"3562267534",name:"供应商档案9"},
+{id:"1055060812",name:"销售订单档案9"},
+{id:"3326386139",name:"采购订单档案9"},
+{id:"4482302410",name:"库存档案9"},
+{id:"1546484255",name:"组织档案9"},
+{id:"3511868223",name:"人员档案9"},
+{id:"2518443907",name:"部门档案9"},
+{id:"9599429244",name:"项目档案9"},
+{id:"4917289177",name:"合同档案9"},
+{id:"8337512565",name:"发票档案9"},
+{id:"9165272511",name:"收款单档案9"},
+{id:"2484076695",name:"付款单档案9"},
+{id:"5741575262",name:"凭证档案9"},
+{id:"3321301173",name:"科目档案9"},
+{id:"8067820757",name:"币种档案9"},
+{id:"4464008270",name:"仓库档案9"},
+{id:"1832131446",name:"批次档案9"},
+{id:"2638385023",name:"工单档案9"},
+{id:"8769091130",name:"生产订单档案9"},
+{id:"7979429073",name:"质检档案9"},
+{id:"1765109509",name:"资产档案9"},
+{id:"4698821033",name:"预算档案9"},
+{id:"6894037459",name:"费用档案9"},
+{id:"5349989809",name:"报销档案9"},
+{id:"1353215346",name:"薪资档案9"},
+{id:"8311494040",name:"考勤档案9"},
+{id:"8117680311",name:"岗位档案9"},
+{id:"9256669662",name:"银行账户档案9"},
+{id:"4374386136",name:"物料表头9"},
+{id:"2842034448",name:"客户表头9"},
+{id:"9182427278",name:"供应商表头9"},
+{id:"4752498332",name:"销售订单表头9"},
+{id:"5882922236",name:"采购订单表头9"},
+{id:"2977284948",name:"库存表头9"},
+{id:"3843936928",name:"组织表头9"},
+{id:"9042777145",name:"人员表头9"},
+{id:"7697155201",name:"部门表头9"},
+{id:"3168641096",name:"项目表头9"},
+{id:"4886220932",name:"合同表头9"},
+{id:"8492868010",name:"发票表头9"},
+{id:"7083906221",name:"收款单表头9"},
+{id:"9437780744",name:"付款单表头9"},
+{id:"9047530920",name:"凭证表头9"},
+{id:"6446034630",name:"科目表头9"},
+{id:"3641762858",name:"币种表头9"},
+{id:"6015265124",name:"仓库表头9"},
+{id:"9829681541",name:"批次表头9"},
+{id:"7949816240",name:"工单表头9"},
+{id:"7153214648",name:"生产订单表头9"},
+{id:"7805286176",name:"质检表头9"},
+{id:"4480468062",name:"资产表头9"},
+{id:"5552335354",name:"预算表头9"},
+{id:"9726656233",name:"费用表头9"},
+{id:"5722132066",name:"报销表头9"},
+{id:"8765743610",name:"薪资表头9"},
+{id:"9496272554",name:"考勤表头9"},
+{id:"2968862913",name:"岗位表头9"},
+{id:"2823946278",name:"银行账户表头9"},
+{id:"8124139599",name:"物料表体9"},
+{id:"1905198652",name:"客户表体9"},
+{id:"8646140474",name:"供应商表体9"},
+{id:"8895107157",name:"销售订单表体9"},
+{id:"3460091075",name:"采购订单表体9"},
+{id:"4774012157",name:"库存表体9"},
+{id:"1363986518",name:"组织表体9"},
+{id:"3858639258",name:"人员表体9"},
+{id:"2694430722",name:"部门表体9"},
+{id:"1968828695",name:"项目表体9"},
+{id:"5701165517",name:"合同表体9"},
+{id:"8418924320",name:"发票表体9"},
+{id:"6935300321",name:"收款单表体9"},
+{id:"1269074354",name:"付款单表体9"},
+{id:"6988106599",name:"凭证表体9"},
+{id:"4045441954",name:"科目表体9"},
+{id:"3721916764",name:"币种表体9"},
+{id:"2552471100",name:"仓库表体9"},
+{id:"4071293013",name:"批次表体9"},
+{id:"4008562305",name:"工单表体9"},
+{id:"7034798532",name:"生产订单表体9"},
+{id:"9965810313",name:"质检表体9"},
+{id:"3866530577",name:"资产表体9"},
+{id:"5088160949",name:"预算表体9"},
+{id:"1843928655",name:"费用表体9"},
+{id:"9171355297",name:"报销表体9"},
+{id:"1995026099",name:"薪资表体9"},
+{id:"2186403471",name:"考勤表体9"},
+{id:"1001369412",name:"岗位表体9"},
+{id:"3022572567",name:"银行账户表体9"},
+{id:"9883176119",name:"物料分类9"},
+{id:"8977562980",name:"客户分类9"},
+{id:"2483970258",name:"供应商分类9"},
+{id:"6359901059",name:"销售订单分类9"},
+{id:"8837984440",name:"采购订单分类9"},
+{id:"8537508218",name:"库存分类9"},
+{id:"2497303340",name:"组织分类9"},
+{id:"9160920498",name:"人员分类9"},
+{id:"5602538715",name:"部门分类9"},
+{id:"3192467056",name:"项目分类9"},
+{id:"2527157191",name:"合同分类9"},
+{id:"6565464996",name:"发票分类9"},
+{id:"9909876327",name:"收款单分类9"},
+{id:"5812544134",name:"付款单分类9"},
+{id:"4862936430",name:"凭证分类9"},
+{id:"8813246372",name:"科目分类9"},
+{id:"5545001547",name:"币种分类9"},
+{id:"9473680970",name:"仓库分类9"},
+{id:"5611531244",name:"批次分类9"},
+{id:"6931316083",name:"工单分类9"},
+{id:"7315525453",name:"生产订单分类9"},
+{id:"1318001252",name:"质检分类9"},
+{id:"3141894412",name:"资产分类9"},
+{id:"7656066289",name:"预算分类9"},
+{id:"8217710557",name:"费用分类9"},
+{id:"3152671165",name:"报销分类9"},
+{id:"9721350944",name:"薪资分类9"},
+{id:"7495936742",name:"考勤分类9"},
+{id:"7767391136",name:"岗位分类9"},
+{id:"9847812516",name:"银行账户分类9"},
+{id:"4348590024",name:"物料关系9"},
+{id:"8233592839",name:"客户关系9"},
+{id:"4041241539",name:"供应商关系9"},
+{id:"2707823360",name:"销售订单关系9"},
+{id:"1472780532",name:"采购订单关系9"},
+{id:"8319010216",name:"库存关系9"},
+{id:"9564144152",name:"组织关系9"},
+{id:"9715697715",name:"人员关系9"},
+{id:"6324084987",name:"部门关系9"},
+{id:"4504640809",name:"项目关系9"},
+{id:"8028372561",name:"合同关系9"},
+{id:"7073876631",name:"发票关系9"},
+{id:"7124315496",name:"收款单关系9"},
+{id:"7344866626",name:"付款单关系9"},
+{id:"6359226011",name:"凭证关系9"},
+{id:"9530422540",name:"科目关系9"},
+{id:"3729547415",name:"币种关系9"},
+{id:"8133044873",name:"仓库关系9"},
+{id:"5620671482",name:"批次关系9"},
+{id:"4465600280",name:"工单关系9"},
+{id:"5227050860",name:"生产订单关系9"},
+{id:"5380531522",name:"质检关系9"},
+{id:"3390703604",name:"资产关系9"},
+{id:"2345560924",name:"预算关系9"},
+{id:"8842056007",name:"费用关系9"},
+{id:"7881163473",name:"报销关系9"},
+{id:"6561171918",name:"薪资关系9"},
+{id:"4365522819",name:"考勤关系9"},
+{id:"6232902824",name:"岗位关系9"},
+{id:"9575049590",name:"银行账户关系9"},
+{id:"8541971307",name:"物料日志9"},
+{id:"6278958828",name:"客户日志9"},
+{id:"8602891777",name:"供应商日志9"},
+{id:"5616121406",name:"销售订单日志9"},
+{id:"8350381375",name:"采购订单日志9"},
+{id:"4225333333",name:"库存日志9"},
+{id:"1162471119",name:"组织日志9"},
+{id:"1251519989",name:"人员日志9"},
+{id:"9119699137",name:"部门日志9"},
+{id:"1424468004",name:"项目日志9"},
+{id:"8375567699",name:"合同日志9"},
+{id:"7161276492",name:"发票日志9"},
+{id:"3946539049",name:"收款单日志9"},
+{id:"5098259406",name:"付款单日志9"},
+{id:"5136733254",name:"凭证日志9"},
+{id:"1226121998",name:"科目日志9"},
+{id:"1311307423",name:"币种日志9"},
+{id:"2569292677",name:"仓库日志9"},
+{id:"3164432073",name:"批次日志9"},
+{id:"1515700568",name:"工单日志9"},
+{id:"7716503886",name:"生产订单日志9"},
+{id:"3916552980",name:"质检日志9"},
+{id:"4629807138",name:"资产日志9"},
+{id:"2343754447",name:"预算日志9"},
+{id:"7901716523",name:"费用日志9"},
+{id:"3839192477",name:"报销日志9"},
+{id:"1742196232",name:"薪资日志9"},
+{id:"4270580400",name:"考勤日志9"},
+{id:"4017856855",name:"岗位日志9"},
+{id:"6019313917",name:"银行账户日志9"},
+{id:"5778658513",name:"物料扩展9"},
+{id:"9909662856",name:"客户扩展9"},
+{id:"1503445672",name:"供应商扩展9"},
+{id:"4209181795",name:"销售订单扩展9"},
+{id:"7036490357",name:"采购订单扩展9"},
+{id:"3542164565",name:"库存扩展9"},
+{id:"7014049746",name:"组织扩展9"},
+{id:"7815154467",name:"人员扩展9"},
+{id:"4161792398",name:"部门扩展9"},
+{id:"9218109418",name:"项目扩展9"},
+{id:"8975801604",name:"合同扩展9"},
+{id:"1615626913",name:"发票扩展9"},
+{id:"4199646161",name:"收款单扩展9"},
+{id:"5134007248",name:"付款单扩展9"},
+{id:"5707456381",name:"凭证扩展9"},
+{id:"9375438836",name:"科目扩展9"},
+{id:"3483923717",name:"币种扩展9"},
+{id:"4764042244",name:"仓库扩展9"},
+{id:"6685693912",name:"批次扩展9"},
+{id:"4183718752",name:"工单扩展9"},
+{id:"9274578917",name:"生产订单扩展9"},
+{id:"5625803050",name:"质检扩展9"},
+{id:"6316827226",name:"资产扩展9"},
+{id:"9098239331",name:"预算扩展9"},
+{id:"8690124700",name:"费用扩展9"},
+{id:"7491504868",name:"报销扩展9"},
+{id:"7255015639",name:"薪资扩展9"},
+{id:"2643845796",name:"考勤扩展9"},
+{id:"9247646341",name:"岗位扩展9"},
+{id:"4523839639",name:"银行账户扩展9"}];
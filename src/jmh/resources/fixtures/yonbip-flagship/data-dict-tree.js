@@ -0,0 +1 @@
+var dataDictIndexData = [{"id":"md_clazz","pId":null,"name":"实体","isDdcClass":false},{"id":"db_table","pId":null,"name":"数据库表","isDdcClass":false},{"id":"md__materi","pId":"md_clazz","name":"物料","isDdcClass":false},{"id":"md__custom","pId":"md_clazz","name":"客户","isDdcClass":false},{"id":"md__suppli","pId":"md_clazz","name":"供应商","isDdcClass":false},{"id":"md__saleor","pId":"md_clazz","name":"销售订单","isDdcClass":false},{"id":"md__purcha","pId":"md_clazz","name":"采购订单","isDdcClass":false},{"id":"md__stock","pId":"md_clazz","name":"库存","isDdcClass":false},{"id":"md__org","pId":"md_clazz","name":"组织","isDdcClass":false},{"id":"md__psndoc","pId":"md_clazz","name":"人员","isDdcClass":false},{"id":"md__dept","pId":"md_clazz","name":"部门","isDdcClass":false},{"id":"md__projec","pId":"md_clazz","name":"项目","isDdcClass":false},{"id":"md__contra","pId":"md_clazz","name":"合同","isDdcClass":false},{"id":"md__invoic","pId":"md_clazz","name":"发票","isDdcClass":false},{"id":"md__gather","pId":"md_clazz","name":"收款单","isDdcClass":false},{"id":"md__paybil","pId":"md_clazz","name":"付款单","isDdcClass":false},{"id":"md__vouche","pId":"md_clazz","name":"凭证","isDdcClass":false},{"id":"md__accoun","pId":"md_clazz","name":"科目","isDdcClass":false},{"id":"md__curren","pId":"md_clazz","name":"币种","isDdcClass":false},{"id":"md__wareho","pId":"md_clazz","name":"仓库","isDdcClass":false},{"id":"md__batch","pId":"md_clazz","name":"批次","isDdcClass":false},{"id":"md__workor","pId":"md_clazz","name":"工单","isDdcClass":false},{"id":"md__mo","pId":"md_clazz","name":"生产订单","isDdcClass":false},{"id":"md__qc","pId":"md_clazz","name":"质检","isDdcClass":false},{"id":"md__asset","pId":"md_clazz","name":"资产","isDdcClass":false},{"id":"md__budget","pId":"md_clazz","name":"预算","isDdcClass":false},{"id":"md__expens","pId":"md_clazz","name":"费用","isDdcClass":false},{"id":"md__reimbu","pId":"md_clazz","name":"报销","isDdcClass":false},{"id":"md__wa","pId":"md_clazz","name":"薪资","isDdcClass":false},{"id":"md__tbm","pId":"md_clazz","name":"考勤","isDdcClass":false},{"id":"md__post","pId":"md_clazz","name":"岗位","isDdcClass":false},{"id":"md__bankac","pId":"md_clazz","name":"银行账户","isDdcClass":false},{"id":"359981967499071885","pId":"md__materi","name":"物料主表","isDdcClass":false},{"id":"618349436011990624","pId":"md__custom","name":"客户主表","isDdcClass":true},{"id":"894105425891370132","pId":"md__suppli","name":"供应商主表","isDdcClass":true},{"id":"464317612415305149","pId":"md__saleor","name":"销售订单主表","isDdcClass":true},{"id":"843499632666582007","pId":"md__purcha","name":"采购订单主表","isDdcClass":true},{"id":"186681471223422092","pId":"md__stock","name":"库存主表","isDdcClass":false},{"id":"148162329859212331","pId":"md__org","name":"组织主表","isDdcClass":true},{"id":"643605689562832594","pId":"md__psndoc","name":"人员主表","isDdcClass":true},{"id":"824164817483916010","pId":"md__dept","name":"部门主表","isDdcClass":true},{"id":"957462399057395402","pId":"md__projec","name":"项目主表","isDdcClass":true},{"id":"906951500944234565","pId":"md__contra","name":"合同主表","isDdcClass":false},{"id":"475833711355108411","pId":"md__invoic","name":"发票主表","isDdcClass":true},{"id":"654182705656486866","pId":"md__gather","name":"收款单主表","isDdcClass":true},{"id":"986940611532186143","pId":"md__paybil","name":"付款单主表","isDdcClass":true},{"id":"316195027816551331","pId":"md__vouche","name":"凭证主表","isDdcClass":true},{"id":"322680731668487558","pId":"md__accoun","name":"科目主表","isDdcClass":false},{"id":"876414161669338719","pId":"md__curren","name":"币种主表","isDdcClass":true},{"id":"683625479111021596","pId":"md__wareho","name":"仓库主表","isDdcClass":true},{"id":"435153317824725360","pId":"md__batch","name":"批次主表","isDdcClass":true},{"id":"454971384145842175","pId":"md__workor","name":"工单主表","isDdcClass":true},{"id":"141391017444648265","pId":"md__mo","name":"生产订单主表","isDdcClass":false},{"id":"861347274822813962","pId":"md__qc","name":"质检主表","isDdcClass":true},{"id":"376186275678560348","pId":"md__asset","name":"资产主表","isDdcClass":true},{"id":"754226983105218724","pId":"md__budget","name":"预算主表","isDdcClass":true},{"id":"374416271392488999","pId":"md__expens","name":"费用主表","isDdcClass":true},{"id":"788129916425962387","pId":"md__reimbu","name":"报销主表","isDdcClass":false},{"id":"474597216836048674","pId":"md__wa","name":"薪资主表","isDdcClass":true},{"id":"997615677520546299","pId":"md__tbm","name":"考勤主表","isDdcClass":true},{"id":"825995858094534595","pId":"md__post","name":"岗位主表","isDdcClass":true},{"id":"835714300002413174","pId":"md__bankac","name":"银行账户主表","isDdcClass":true},{"id":"865394900325817876","pId":"md__materi","name":"物料子表","isDdcClass":false},{"id":"902111773549245963","pId":"md__custom","name":"客户子表","isDdcClass":true},{"id":"953488362547663343","pId":"md__suppli","name":"供应商子表","isDdcClass":true},{"id":"953801404180851506","pId":"md__saleor","name":"销售订单子表","isDdcClass":true},{"id":"986263649874797072","pId":"md__purcha","name":"采购订单子表","isDdcClass":true},{"id":"218645824124892179","pId":"md__stock","name":"库存子表","isDdcClass":false},{"id":"498449058917800391","pId":"md__org","name":"组织子表","isDdcClass":true},{"id":"821733548113971107","pId":"md__psndoc","name":"人员子表","isDdcClass":true},{"id":"394032965039332868","pId":"md__dept","name":"部门子表","isDdcClass":true},{"id":"837644610915040837","pId":"md__projec","name":"项目子表","isDdcClass":true},{"id":"979859362947861909","pId":"md__contra","name":"合同子表","isDdcClass":false},{"id":"974144658623006816","pId":"md__invoic","name":"发票子表","isDdcClass":true},{"id":"560983370955896762","pId":"md__gather","name":"收款单子表","isDdcClass":true},{"id":"503738515362965210","pId":"md__paybil","name":"付款单子表","isDdcClass":true},{"id":"740345357428642558","pId":"md__vouche","name":"凭证子表","isDdcClass":true},{"id":"586469688150260578","pId":"md__accoun","name":"科目子表","isDdcClass":false},{"id":"454497566544157815","pId":"md__curren","name":"币种子表","isDdcClass":true},{"id":"168357096953055873","pId":"md__wareho","name":"仓库子表","isDdcClass":true},{"id":"927433474802825734","pId":"md__batch","name":"批次子表","isDdcClass":true},{"id":"506447448988926248","pId":"md__workor","name":"工单子表","isDdcClass":true},{"id":"531676168879000900","pId":"md__mo","name":"生产订单子表","isDdcClass":false},{"id":"928442973377918834","pId":"md__qc","name":"质检子表","isDdcClass":true},{"id":"627777186653727326","pId":"md__asset","name":"资产子表","isDdcClass":true},{"id":"844506943477617177","pId":"md__budget","name":"预算子表","isDdcClass":true},{"id":"942573398563987272","pId":"md__expens","name":"费用子表","isDdcClass":true},{"id":"852958216819353308","pId":"md__reimbu","name":"报销子表","isDdcClass":false},{"id":"798063470267504465","pId":"md__wa","name":"薪资子表","isDdcClass":true},{"id":"404053754122990453","pId":"md__tbm","name":"考勤子表","isDdcClass":true},{"id":"420805733647666061","pId":"md__post","name":"岗位子表","isDdcClass":true},{"id":"710616957806141093","pId":"md__bankac","name":"银行账户子表","isDdcClass":true},{"id":"940707609127905252","pId":"md__materi","name":"物料明细","isDdcClass":false},{"id":"794340929221913883","pId":"md__custom","name":"客户明细","isDdcClass":true},{"id":"991479598904512773","pId":"md__suppli","name":"供应商明细","isDdcClass":true},{"id":"219454848510797770","pId":"md__saleor","name":"销售订单明细","isDdcClass":true},{"id":"204243600150452692","pId":"md__purcha","name":"采购订单明细","isDdcClass":true},{"id":"802108437889749591","pId":"md__stock","name":"库存明细","isDdcClass":false},{"id":"327835196409807607","pId":"md__org","name":"组织明细","isDdcClass":true},{"id":"748192836529889430","pId":"md__psndoc","name":"人员明细","isDdcClass":true},{"id":"694386946491222283","pId":"md__dept","name":"部门明细","isDdcClass":true},{"id":"863678168172737827","pId":"md__projec","name":"项目明细","isDdcClass":true},{"id":"322366851765281309","pId":"md__contra","name":"合同明细","isDdcClass":false},{"id":"324716152906456290","pId":"md__invoic","name":"发票明细","isDdcClass":true},{"id":"873160126741207968","pId":"md__gather","name":"收款单明细","isDdcClass":true},{"id":"114265199458272228","pId":"md__paybil","name":"付款单明细","isDdcClass":true},{"id":"218729770946200013","pId":"md__vouche","name":"凭证明细","isDdcClass":true},{"id":"164138039854177173","pId":"md__accoun","name":"科目明细","isDdcClass":false},{"id":"103846786130416194","pId":"md__curren","name":"币种明细","isDdcClass":true},{"id":"338593531394265852","pId":"md__wareho","name":"仓库明细","isDdcClass":true},{"id":"497798020660543150","pId":"md__batch","name":"批次明细","isDdcClass":true},{"id":"909082082284220732","pId":"md__workor","name":"工单明细","isDdcClass":true},{"id":"920170078548608898","pId":"md__mo","name":"生产订单明细","isDdcClass":false},{"id":"192209812026459044","pId":"md__qc","name":"质检明细","isDdcClass":true},{"id":"774106369419990304","pId":"md__asset","name":"资产明细","isDdcClass":true},{"id":"286082818341851971","pId":"md__budget","name":"预算明细","isDdcClass":true},{"id":"785054566329675815","pId":"md__expens","name":"费用明细","isDdcClass":true},{"id":"348918369606762184","pId":"md__reimbu","name":"报销明细","isDdcClass":false},{"id":"606825224049610718","pId":"md__wa","name":"薪资明细","isDdcClass":true},{"id":"305408416011988910","pId":"md__tbm","name":"考勤明细","isDdcClass":true},{"id":"302552153644819377","pId":"md__post","name":"岗位明细","isDdcClass":true},{"id":"274108545912243924","pId":"md__bankac","name":"银行账户明细","isDdcClass":true},{"id":"655589021830980375","pId":"md__materi","name":"物料档案","isDdcClass":false},{"id":"569604263760364820","pId":"md__custom","name":"客户档案","isDdcClass":true},{"id":"767598943502482802","pId":"md__suppli","name":"供应商档案","isDdcClass":true},{"id":"202811716480770577","pId":"md__saleor","name":"销售订单档案","isDdcClass":true},{"id":"512106527341664627","pId":"md__purcha","name":"采购订单档案","isDdcClass":true},{"id":"724733204161521349","pId":"md__stock","name":"库存档案","isDdcClass":false},{"id":"313170279952340735","pId":"md__org","name":"组织档案","isDdcClass":true},{"id":"428495464215456698","pId":"md__psndoc","name":"人员档案","isDdcClass":true},{"id":"929908038770026073","pId":"md__dept","name":"部门档案","isDdcClass":true},{"id":"581128266620742739","pId":"md__projec","name":"项目档案","isDdcClass":true},{"id":"113345352072952766","pId":"md__contra","name":"合同档案","isDdcClass":false},{"id":"128023699725881628","pId":"md__invoic","name":"发票档案","isDdcClass":true},{"id":"778421152120153123","pId":"md__gather","name":"收款单档案","isDdcClass":true},{"id":"738091251926703135","pId":"md__paybil","name":"付款单档案","isDdcClass":true},{"id":"490707296897940486","pId":"md__vouche","name":"凭证档案","isDdcClass":true},{"id":"616516419464485954","pId":"md__accoun","name":"科目档案","isDdcClass":false},{"id":"822138803461361560","pId":"md__curren","name":"币种档案","isDdcClass":true},{"id":"185158516732102254","pId":"md__wareho","name":"仓库档案","isDdcClass":true},{"id":"778721094781722660","pId":"md__batch","name":"批次档案","isDdcClass":true},{"id":"819994839621645694","pId":"md__workor","name":"工单档案","isDdcClass":true},{"id":"830869494917783330","pId":"md__mo","name":"生产订单档案","isDdcClass":false},{"id":"358714175732811716","pId":"md__qc","name":"质检档案","isDdcClass":true},{"id":"349032174872032770","pId":"md__asset","name":"资产档案","isDdcClass":true},{"id":"212673381100417293","pId":"md__budget","name":"预算档案","isDdcClass":true},{"id":"951522547498794005","pId":"md__expens","name":"费用档案","isDdcClass":true},{"id":"826261676336443384","pId":"md__reimbu","name":"报销档案","isDdcClass":false},{"id":"297150350584536648","pId":"md__wa","name":"薪资档案","isDdcClass":true},{"id":"689504635200522311","pId":"md__tbm","name":"考勤档案","isDdcClass":true},{"id":"909984949985693211","pId":"md__post","name":"岗位档案","isDdcClass":true},{"id":"660071274149904994","pId":"md__bankac","name":"银行账户档案","isDdcClass":true},{"id":"551564481929020886","pId":"md__materi","name":"物料表头","isDdcClass":false},{"id":"505482856767276198","pId":"md__custom","name":"客户表头","isDdcClass":true},{"id":"967794612788919664","pId":"md__suppli","name":"供应商表头","isDdcClass":true},{"id":"470939518982801377","pId":"md__saleor","name":"销售订单表头","isDdcClass":true},{"id":"435220814654844956","pId":"md__purcha","name":"采购订单表头","isDdcClass":true},{"id":"769836846361072875","pId":"md__stock","name":"库存表头","isDdcClass":false},{"id":"450582028371166898","pId":"md__org","name":"组织表头","isDdcClass":true},{"id":"664673670074848663","pId":"md__psndoc","name":"人员表头","isDdcClass":true},{"id":"510165766764740610","pId":"md__dept","name":"部门表头","isDdcClass":true},{"id":"725330572327022023","pId":"md__projec","name":"项目表头","isDdcClass":true},{"id":"444201894411886855","pId":"md__contra","name":"合同表头","isDdcClass":false},{"id":"680843417422498911","pId":"md__invoic","name":"发票表头","isDdcClass":true},{"id":"584826514090388545","pId":"md__gather","name":"收款单表头","isDdcClass":true},{"id":"318175187160097426","pId":"md__paybil","name":"付款单表头","isDdcClass":true},{"id":"310185382018667649","pId":"md__vouche","name":"凭证表头","isDdcClass":true},{"id":"650066854447725094","pId":"md__accoun","name":"科目表头","isDdcClass":false},{"id":"197347524973042924","pId":"md__curren","name":"币种表头","isDdcClass":true},{"id":"674428741444105775","pId":"md__wareho","name":"仓库表头","isDdcClass":true},{"id":"318364756500003484","pId":"md__batch","name":"批次表头","isDdcClass":true},{"id":"166103755057831717","pId":"md__workor","name":"工单表头","isDdcClass":true},{"id":"733491382137879901","pId":"md__mo","name":"生产订单表头","isDdcClass":false},{"id":"113437814428845991","pId":"md__qc","name":"质检表头","isDdcClass":true},{"id":"648597804618467932","pId":"md__asset","name":"资产表头","isDdcClass":true},{"id":"203781924393749717","pId":"md__budget","name":"预算表头","isDdcClass":true},{"id":"620018835205902023","pId":"md__expens","name":"费用表头","isDdcClass":true},{"id":"586574228226577137","pId":"md__reimbu","name":"报销表头","isDdcClass":false},{"id":"181424274056698449","pId":"md__wa","name":"薪资表头","isDdcClass":true},{"id":"927149449016182607","pId":"md__tbm","name":"考勤表头","isDdcClass":true},{"id":"404396146888548138","pId":"md__post","name":"岗位表头","isDdcClass":true},{"id":"991484625580613708","pId":"md__bankac","name":"银行账户表头","isDdcClass":true},{"id":"601310162210425956","pId":"md__materi","name":"物料表体","isDdcClass":false},{"id":"514613189552949009","pId":"md__custom","name":"客户表体","isDdcClass":true},{"id":"275046371722469963","pId":"md__suppli","name":"供应商表体","isDdcClass":true},{"id":"396008108182688291","pId":"md__saleor","name":"销售订单表体","isDdcClass":true},{"id":"202030127797678602","pId":"md__purcha","name":"采购订单表体","isDdcClass":true},{"id":"940149856888598961","pId":"md__stock","name":"库存表体","isDdcClass":false},{"id":"927379596408339086","pId":"md__org","name":"组织表体","isDdcClass":true},{"id":"540138239012580179","pId":"md__psndoc","name":"人员表体","isDdcClass":true},{"id":"826650807626756464","pId":"md__dept","name":"部门表体","isDdcClass":true},{"id":"109492732236863988","pId":"md__projec","name":"项目表体","isDdcClass":true},{"id":"596338049193904054","pId":"md__contra","name":"合同表体","isDdcClass":false},{"id":"554912475992742536","pId":"md__invoic","name":"发票表体","isDdcClass":true},{"id":"539909167661726218","pId":"md__gather","name":"收款单表体","isDdcClass":true},{"id":"423598803094002986","pId":"md__paybil","name":"付款单表体","isDdcClass":true},{"id":"903431456086017336","pId":"md__vouche","name":"凭证表体","isDdcClass":true},{"id":"835990076575300490","pId":"md__accoun","name":"科目表体","isDdcClass":false},{"id":"467847517204926933","pId":"md__curren","name":"币种表体","isDdcClass":true},{"id":"562441530240200941","pId":"md__wareho","name":"仓库表体","isDdcClass":true},{"id":"409644015681931243","pId":"md__batch","name":"批次表体","isDdcClass":true},{"id":"244850052302987209","pId":"md__workor","name":"工单表体","isDdcClass":true},{"id":"488012163329664223","pId":"md__mo","name":"生产订单表体","isDdcClass":false},{"id":"579730166098517350","pId":"md__qc","name":"质检表体","isDdcClass":true},{"id":"234747152002961582","pId":"md__asset","name":"资产表体","isDdcClass":true},{"id":"640767148647847705","pId":"md__budget","name":"预算表体","isDdcClass":true},{"id":"500815840347487211","pId":"md__expens","name":"费用表体","isDdcClass":true},{"id":"987018828900538138","pId":"md__reimbu","name":"报销表体","isDdcClass":false},{"id":"720291386446030220","pId":"md__wa","name":"薪资表体","isDdcClass":true},{"id":"893160273533848259","pId":"md__tbm","name":"考勤表体","isDdcClass":true},{"id":"689983867219755568","pId":"md__post","name":"岗位表体","isDdcClass":true},{"id":"870096721285427729","pId":"md__bankac","name":"银行账户表体","isDdcClass":true},{"id":"850439638533344497","pId":"md__materi","name":"物料分类","isDdcClass":false},{"id":"465305065103478224","pId":"md__custom","name":"客户分类","isDdcClass":true},{"id":"778131147568569150","pId":"md__suppli","name":"供应商分类","isDdcClass":true},{"id":"350082455060553576","pId":"md__saleor","name":"销售订单分类","isDdcClass":true},{"id":"293186923732359395","pId":"md__purcha","name":"采购订单分类","isDdcClass":true},{"id":"524542610219712085","pId":"md__stock","name":"库存分类","isDdcClass":false},{"id":"164045468543394768","pId":"md__org","name":"组织分类","isDdcClass":true},{"id":"350901467295764500","pId":"md__psndoc","name":"人员分类","isDdcClass":true},{"id":"781346381284995121","pId":"md__dept","name":"部门分类","isDdcClass":true},{"id":"192610267820060458","pId":"md__projec","name":"项目分类","isDdcClass":true},{"id":"183034409671946259","pId":"md__contra","name":"合同分类","isDdcClass":false},{"id":"601427743894638796","pId":"md__invoic","name":"发票分类","isDdcClass":true},{"id":"376025547630642052","pId":"md__gather","name":"收款单分类","isDdcClass":true},{"id":"640954557849549337","pId":"md__paybil","name":"付款单分类","isDdcClass":true},{"id":"371155588467750525","pId":"md__vouche","name":"凭证分类","isDdcClass":true},{"id":"866612837012339821","pId":"md__accoun","name":"科目分类","isDdcClass":false},{"id":"848216134700862634","pId":"md__curren","name":"币种分类","isDdcClass":true},{"id":"113300456856354358","pId":"md__wareho","name":"仓库分类","isDdcClass":true},{"id":"342043927310267828","pId":"md__batch","name":"批次分类","isDdcClass":true},{"id":"271823989217781149","pId":"md__workor","name":"工单分类","isDdcClass":true},{"id":"459409350778998749","pId":"md__mo","name":"生产订单分类","isDdcClass":false},{"id":"776008736121476756","pId":"md__qc","name":"质检分类","isDdcClass":true},{"id":"107353493782160766","pId":"md__asset","name":"资产分类","isDdcClass":true},{"id":"570965478865575564","pId":"md__budget","name":"预算分类","isDdcClass":true},{"id":"902908823586683909","pId":"md__expens","name":"费用分类","isDdcClass":true},{"id":"152347564108106734","pId":"md__reimbu","name":"报销分类","isDdcClass":false},{"id":"782525721838732715","pId":"md__wa","name":"薪资分类","isDdcClass":true},{"id":"193423422545533925","pId":"md__tbm","name":"考勤分类","isDdcClass":true},{"id":"908488706066830266","pId":"md__post","name":"岗位分类","isDdcClass":true},{"id":"769743330955043122","pId":"md__bankac","name":"银行账户分类","isDdcClass":true},{"id":"514544872457463791","pId":"md__materi","name":"物料关系","isDdcClass":false},{"id":"275655000152184133","pId":"md__custom","name":"客户关系","isDdcClass":true},{"id":"256087877554615479","pId":"md__suppli","name":"供应商关系","isDdcClass":true},{"id":"945738797172198396","pId":"md__saleor","name":"销售订单关系","isDdcClass":true},{"id":"511854750126126791","pId":"md__purcha","name":"采购订单关系","isDdcClass":true},{"id":"579108429670859114","pId":"md__stock","name":"库存关系","isDdcClass":false},{"id":"718761303911250072","pId":"md__org","name":"组织关系","isDdcClass":true},{"id":"233005438539218905","pId":"md__psndoc","name":"人员关系","isDdcClass":true},{"id":"721643950804934356","pId":"md__dept","name":"部门关系","isDdcClass":true},{"id":"932822747499993040","pId":"md__projec","name":"项目关系","isDdcClass":true},{"id":"548118699918621000","pId":"md__contra","name":"合同关系","isDdcClass":false},{"id":"797628290394099241","pId":"md__invoic","name":"发票关系","isDdcClass":true},{"id":"561170331172680287","pId":"md__gather","name":"收款单关系","isDdcClass":true},{"id":"687294382218886020","pId":"md__paybil","name":"付款单关系","isDdcClass":true},{"id":"857455958557549870","pId":"md__vouche","name":"凭证关系","isDdcClass":true},{"id":"651567721182192380","pId":"md__accoun","name":"科目关系","isDdcClass":false},{"id":"280999904971148622","pId":"md__curren","name":"币种关系","isDdcClass":true},{"id":"856559903988606959","pId":"md__wareho","name":"仓库关系","isDdcClass":true},{"id":"514899321280136198","pId":"md__batch","name":"批次关系","isDdcClass":true},{"id":"719839870441824542","pId":"md__workor","name":"工单关系","isDdcClass":true},{"id":"857528873612080825","pId":"md__mo","name":"生产订单关系","isDdcClass":false},{"id":"770438942808754087","pId":"md__qc","name":"质检关系","isDdcClass":true},{"id":"955994436180512113","pId":"md__asset","name":"资产关系","isDdcClass":true},{"id":"147571720810139697","pId":"md__budget","name":"预算关系","isDdcClass":true},{"id":"388165351645454677","pId":"md__expens","name":"费用关系","isDdcClass":true},{"id":"857016274688472012","pId":"md__reimbu","name":"报销关系","isDdcClass":false},{"id":"985646685725156326","pId":"md__wa","name":"薪资关系","isDdcClass":true},{"id":"940653833467958874","pId":"md__tbm","name":"考勤关系","isDdcClass":true},{"id":"911977203034866839","pId":"md__post","name":"岗位关系","isDdcClass":true},{"id":"163038585833515470","pId":"md__bankac","name":"银行账户关系","isDdcClass":true},{"id":"892407325936561358","pId":"md__materi","name":"物料日志","isDdcClass":false},{"id":"898546335199768561","pId":"md__custom","name":"客户日志","isDdcClass":true},{"id":"120810454460188691","pId":"md__suppli","name":"供应商日志","isDdcClass":true},{"id":"658380780584125326","pId":"md__saleor","name":"销售订单日志","isDdcClass":true},{"id":"968102691998014881","pId":"md__purcha","name":"采购订单日志","isDdcClass":true},{"id":"259859524896076562","pId":"md__stock","name":"库存日志","isDdcClass":false},{"id":"612697960233809404","pId":"md__org","name":"组织日志","isDdcClass":true},{"id":"406569662013123627","pId":"md__psndoc","name":"人员日志","isDdcClass":true},{"id":"257310508336166954","pId":"md__dept","name":"部门日志","isDdcClass":true},{"id":"704338008967642244","pId":"md__projec","name":"项目日志","isDdcClass":true},{"id":"554326617235826265","pId":"md__contra","name":"合同日志","isDdcClass":false},{"id":"217020763536621597","pId":"md__invoic","name":"发票日志","isDdcClass":true},{"id":"474810379480016833","pId":"md__gather","name":"收款单日志","isDdcClass":true},{"id":"397687191735467235","pId":"md__paybil","name":"付款单日志","isDdcClass":true},{"id":"821250440063181015","pId":"md__vouche","name":"凭证日志","isDdcClass":true},{"id":"498881539959892299","pId":"md__accoun","name":"科目日志","isDdcClass":false},{"id":"139353355890661158","pId":"md__curren","name":"币种日志","isDdcClass":true},{"id":"881724179995507731","pId":"md__wareho","name":"仓库日志","isDdcClass":true},{"id":"394546986542269934","pId":"md__batch","name":"批次日志","isDdcClass":true},{"id":"396949333661742265","pId":"md__workor","name":"工单日志","isDdcClass":true},{"id":"118244126063681784","pId":"md__mo","name":"生产订单日志","isDdcClass":false},{"id":"219426811038194618","pId":"md__qc","name":"质检日志","isDdcClass":true},{"id":"123807815457446422","pId":"md__asset","name":"资产日志","isDdcClass":true},{"id":"535658998677347464","pId":"md__budget","name":"预算日志","isDdcClass":true},{"id":"895433425210524927","pId":"md__expens","name":"费用日志","isDdcClass":true},{"id":"265696323801253092","pId":"md__reimbu","name":"报销日志","isDdcClass":false},{"id":"121510323639128219","pId":"md__wa","name":"薪资日志","isDdcClass":true},{"id":"383985120799236536","pId":"md__tbm","name":"考勤日志","isDdcClass":true},{"id":"319759631632491995","pId":"md__post","name":"岗位日志","isDdcClass":true},{"id":"136025500143015057","pId":"md__bankac","name":"银行账户日志","isDdcClass":true},{"id":"820352867653037122","pId":"md__materi","name":"物料扩展","isDdcClass":false},{"id":"216904923259707323","pId":"md__custom","name":"客户扩展","isDdcClass":true},{"id":"955826774372160643","pId":"md__suppli","name":"供应商扩展","isDdcClass":true},{"id":"643357788147449328","pId":"md__saleor","name":"销售订单扩展","isDdcClass":true},{"id":"939717227854793146","pId":"md__purcha","name":"采购订单扩展","isDdcClass":true},{"id":"941540322768180107","pId":"md__stock","name":"库存扩展","isDdcClass":false},{"id":"654757130040242757","pId":"md__org","name":"组织扩展","isDdcClass":true},{"id":"483931985008610524","pId":"md__psndoc","name":"人员扩展","isDdcClass":true},{"id":"609577873493170495","pId":"md__dept","name":"部门扩展","isDdcClass":true},{"id":"230034568357661387","pId":"md__projec","name":"项目扩展","isDdcClass":true},{"id":"367881549455796143","pId":"md__contra","name":"合同扩展","isDdcClass":false},{"id":"429047052082565129","pId":"md__invoic","name":"发票扩展","isDdcClass":true},{"id":"799640009369600547","pId":"md__gather","name":"收款单扩展","isDdcClass":true},{"id":"451993526981362145","pId":"md__paybil","name":"付款单扩展","isDdcClass":true},{"id":"964794781791558045","pId":"md__vouche","name":"凭证扩展","isDdcClass":true},{"id":"285164243342136584","pId":"md__accoun","name":"科目扩展","isDdcClass":false},{"id":"171893222730692423","pId":"md__curren","name":"币种扩展","isDdcClass":true},{"id":"471566749036898432","pId":"md__wareho","name":"仓库扩展","isDdcClass":true},{"id":"413112833387515950","pId":"md__batch","name":"批次扩展","isDdcClass":true},{"id":"309323856770838462","pId":"md__workor","name":"工单扩展","isDdcClass":true},{"id":"460649060259055500","pId":"md__mo","name":"生产订单扩展","isDdcClass":false},{"id":"640987155910019061","pId":"md__qc","name":"质检扩展","isDdcClass":true},{"id":"390334858220048675","pId":"md__asset","name":"资产扩展","isDdcClass":true},{"id":"963539313030259921","pId":"md__budget","name":"预算扩展","isDdcClass":true},{"id":"981211787711570379","pId":"md__expens","name":"费用扩展","isDdcClass":true},{"id":"871552199324793201","pId":"md__reimbu","name":"报销扩展","isDdcClass":false},{"id":"856638440731159509","pId":"md__wa","name":"薪资扩展","isDdcClass":true},{"id":"723629347837010111","pId":"md__tbm","name":"考勤扩展","isDdcClass":true},{"id":"159622948467457561","pId":"md__post","name":"岗位扩展","isDdcClass":true},{"id":"594113417862453611","pId":"md__bankac","name":"银行账户扩展","isDdcClass":true},{"id":"185682246338350699","pId":"md__materi","name":"物料主表1","isDdcClass":false},{"id":"983630056760096426","pId":"md__custom","name":"客户主表1","isDdcClass":true},{"id":"281383573003208990","pId":"md__suppli","name":"供应商主表1","isDdcClass":true},{"id":"423274566816184954","pId":"md__saleor","name":"销售订单主表1","isDdcClass":true},{"id":"743361914513565201","pId":"md__purcha","name":"采购订单主表1","isDdcClass":true},{"id":"879263810173614799","pId":"md__stock","name":"库存主表1","isDdcClass":false},{"id":"797635022945809390","pId":"md__org","name":"组织主表1","isDdcClass":true},{"id":"445037018702149651","pId":"md__psndoc","name":"人员主表1","isDdcClass":true},{"id":"234931833051389680","pId":"md__dept","name":"部门主表1","isDdcClass":true},{"id":"235812470576159234","pId":"md__projec","name":"项目主表1","isDdcClass":true},{"id":"419353358472926375","pId":"md__contra","name":"合同主表1","isDdcClass":false},{"id":"572893917777599484","pId":"md__invoic","name":"发票主表1","isDdcClass":true},{"id":"542665846640825517","pId":"md__gather","name":"收款单主表1","isDdcClass":true},{"id":"946371511043396939","pId":"md__paybil","name":"付款单主表1","isDdcClass":true},{"id":"364632030964536772","pId":"md__vouche","name":"凭证主表1","isDdcClass":true},{"id":"625501388811732776","pId":"md__accoun","name":"科目主表1","isDdcClass":false},{"id":"768551100802764817","pId":"md__curren","name":"币种主表1","isDdcClass":true},{"id":"980427245179976339","pId":"md__wareho","name":"仓库主表1","isDdcClass":true},{"id":"372690774876375969","pId":"md__batch","name":"批次主表1","isDdcClass":true},{"id":"732703863654956508","pId":"md__workor","name":"工单主表1","isDdcClass":true},{"id":"248305615676927225","pId":"md__mo","name":"生产订单主表1","isDdcClass":false},{"id":"954193886035776688","pId":"md__qc","name":"质检主表1","isDdcClass":true},{"id":"728073929266588827","pId":"md__asset","name":"资产主表1","isDdcClass":true},{"id":"847606355819741494","pId":"md__budget","name":"预算主表1","isDdcClass":true},{"id":"725039791818759612","pId":"md__expens","name":"费用主表1","isDdcClass":true},{"id":"531907108237994073","pId":"md__reimbu","name":"报销主表1","isDdcClass":false},{"id":"456571894911165504","pId":"md__wa","name":"薪资主表1","isDdcClass":true},{"id":"167097608959059429","pId":"md__tbm","name":"考勤主表1","isDdcClass":true},{"id":"238455420922750204","pId":"md__post","name":"岗位主表1","isDdcClass":true},{"id":"316751600015997677","pId":"md__bankac","name":"银行账户主表1","isDdcClass":true},{"id":"747779209620813662","pId":"md__materi","name":"物料子表1","isDdcClass":false},{"id":"752492741639746035","pId":"md__custom","name":"客户子表1","isDdcClass":true},{"id":"985481998087566790","pId":"md__suppli","name":"供应商子表1","isDdcClass":true},{"id":"681116035256621359","pId":"md__saleor","name":"销售订单子表1","isDdcClass":true},{"id":"953492514241434247","pId":"md__purcha","name":"采购订单子表1","isDdcClass":true},{"id":"581560600764657315","pId":"md__stock","name":"库存子表1","isDdcClass":false},{"id":"632663446953287512","pId":"md__org","name":"组织子表1","isDdcClass":true},{"id":"122129605133064289","pId":"md__psndoc","name":"人员子表1","isDdcClass":true},{"id":"573862939067108403","pId":"md__dept","name":"部门子表1","isDdcClass":true},{"id":"696587875198994775","pId":"md__projec","name":"项目子表1","isDdcClass":true},{"id":"631262405129742588","pId":"md__contra","name":"合同子表1","isDdcClass":false},{"id":"917462306563292910","pId":"md__invoic","name":"发票子表1","isDdcClass":true},{"id":"168425661396798172","pId":"md__gather","name":"收款单子表1","isDdcClass":true},{"id":"273852034339986314","pId":"md__paybil","name":"付款单子表1","isDdcClass":true},{"id":"514202601003326831","pId":"md__vouche","name":"凭证子表1","isDdcClass":true},{"id":"816638234823542068","pId":"md__accoun","name":"科目子表1","isDdcClass":false},{"id":"650714678258244950","pId":"md__curren","name":"币种子表1","isDdcClass":true},{"id":"812783134032116320","pId":"md__wareho","name":"仓库子表1","isDdcClass":true},{"id":"147740591753429458","pId":"md__batch","name":"批次子表1","isDdcClass":true},{"id":"748840476471358850","pId":"md__workor","name":"工单子表1","isDdcClass":true},{"id":"443341557752355947","pId":"md__mo","name":"生产订单子表1","isDdcClass":false},{"id":"704726192278845743","pId":"md__qc","name":"质检子表1","isDdcClass":true},{"id":"144095738800743983","pId":"md__asset","name":"资产子表1","isDdcClass":true},{"id":"761149854513459425","pId":"md__budget","name":"预算子表1","isDdcClass":true},{"id":"347874078803200599","pId":"md__expens","name":"费用子表1","isDdcClass":true},{"id":"777881964903219401","pId":"md__reimbu","name":"报销子表1","isDdcClass":false},{"id":"154518780521398806","pId":"md__wa","name":"薪资子表1","isDdcClass":true},{"id":"872656628364666970","pId":"md__tbm","name":"考勤子表1","isDdcClass":true},{"id":"921162920154306054","pId":"md__post","name":"岗位子表1","isDdcClass":true},{"id":"947268169566318548","pId":"md__bankac","name":"银行账户子表1","isDdcClass":true},{"id":"305484027203251660","pId":"md__materi","name":"物料明细1","isDdcClass":false},{"id":"648115774519449610","pId":"md__custom","name":"客户明细1","isDdcClass":true},{"id":"828307011153973181","pId":"md__suppli","name":"供应商明细1","isDdcClass":true},{"id":"271178069775463179","pId":"md__saleor","name":"销售订单明细1","isDdcClass":true},{"id":"848064868399139673","pId":"md__purcha","name":"采购订单明细1","isDdcClass":true},{"id":"461845827060133427","pId":"md__stock","name":"库存明细1","isDdcClass":false},{"id":"577544992065837264","pId":"md__org","name":"组织明细1","isDdcClass":true},{"id":"507078309359164382","pId":"md__psndoc","name":"人员明细1","isDdcClass":true},{"id":"679266714922523181","pId":"md__dept","name":"部门明细1","isDdcClass":true},{"id":"942564499272597612","pId":"md__projec","name":"项目明细1","isDdcClass":true},{"id":"159277501077264950","pId":"md__contra","name":"合同明细1","isDdcClass":false},{"id":"656149533798021746","pId":"md__invoic","name":"发票明细1","isDdcClass":true},{"id":"453191079328947796","pId":"md__gather","name":"收款单明细1","isDdcClass":true},{"id":"454421436915939731","pId":"md__paybil","name":"付款单明细1","isDdcClass":true},{"id":"291546224803357110","pId":"md__vouche","name":"凭证明细1","isDdcClass":true},{"id":"382274150934411031","pId":"md__accoun","name":"科目明细1","isDdcClass":false},{"id":"968246546605595356","pId":"md__curren","name":"币种明细1","isDdcClass":true},{"id":"459191056517745825","pId":"md__wareho","name":"仓库明细1","isDdcClass":true},{"id":"607489298109998258","pId":"md__batch","name":"批次明细1","isDdcClass":true},{"id":"513957451726939803","pId":"md__workor","name":"工单明细1","isDdcClass":true},{"id":"668737073856410670","pId":"md__mo","name":"生产订单明细1","isDdcClass":false},{"id":"486391327923082548","pId":"md__qc","name":"质检明细1","isDdcClass":true},{"id":"125995720255329766","pId":"md__asset","name":"资产明细1","isDdcClass":true},{"id":"794544132723569901","pId":"md__budget","name":"预算明细1","isDdcClass":true},{"id":"620726207147210094","pId":"md__expens","name":"费用明细1","isDdcClass":true},{"id":"574644638583588853","pId":"md__reimbu","name":"报销明细1","isDdcClass":false},{"id":"998520127156710405","pId":"md__wa","name":"薪资明细1","isDdcClass":true},{"id":"168429434061793815","pId":"md__tbm","name":"考勤明细1","isDdcClass":true},{"id":"956676904709574863","pId":"md__post","name":"岗位明细1","isDdcClass":true},{"id":"224324747034031395","pId":"md__bankac","name":"银行账户明细1","isDdcClass":true},{"id":"464871090915079109","pId":"md__materi","name":"物料档案1","isDdcClass":false},{"id":"501271425851359070","pId":"md__custom","name":"客户档案1","isDdcClass":true},{"id":"873180692689745779","pId":"md__suppli","name":"供应商档案1","isDdcClass":true},{"id":"648731575177025728","pId":"md__saleor","name":"销售订单档案1","isDdcClass":true},{"id":"852153980495958385","pId":"md__purcha","name":"采购订单档案1","isDdcClass":true},{"id":"950809846582300931","pId":"md__stock","name":"库存档案1","isDdcClass":false},{"id":"769130506147758472","pId":"md__org","name":"组织档案1","isDdcClass":true},{"id":"550473424082592955","pId":"md__psndoc","name":"人员档案1","isDdcClass":true},{"id":"307252100118184999","pId":"md__dept","name":"部门档案1","isDdcClass":true},{"id":"841291727016405118","pId":"md__projec","name":"项目档案1","isDdcClass":true},{"id":"565639871972946668","pId":"md__contra","name":"合同档案1","isDdcClass":false},{"id":"728462232732089868","pId":"md__invoic","name":"发票档案1","isDdcClass":true},{"id":"904715153923046337","pId":"md__gather","name":"收款单档案1","isDdcClass":true},{"id":"581268215232443237","pId":"md__paybil","name":"付款单档案1","isDdcClass":true},{"id":"717112930563662438","pId":"md__vouche","name":"凭证档案1","isDdcClass":true},{"id":"955833026531754714","pId":"md__accoun","name":"科目档案1","isDdcClass":false},{"id":"892539435605167965","pId":"md__curren","name":"币种档案1","isDdcClass":true},{"id":"462538646405339761","pId":"md__wareho","name":"仓库档案1","isDdcClass":true},{"id":"574552133326746322","pId":"md__batch","name":"批次档案1","isDdcClass":true},{"id":"252496064512813232","pId":"md__workor","name":"工单档案1","isDdcClass":true},{"id":"969023245197492547","pId":"md__mo","name":"生产订单档案1","isDdcClass":false},{"id":"620396485872190359","pId":"md__qc","name":"质检档案1","isDdcClass":true},{"id":"901273793943892071","pId":"md__asset","name":"资产档案1","isDdcClass":true},{"id":"137880447761404238","pId":"md__budget","name":"预算档案1","isDdcClass":true},{"id":"299869637090003013","pId":"md__expens","name":"费用档案1","isDdcClass":true},{"id":"519465077079384441","pId":"md__reimbu","name":"报销档案1","isDdcClass":false},{"id":"288778796277855018","pId":"md__wa","name":"薪资档案1","isDdcClass":true},{"id":"712234071561966622","pId":"md__tbm","name":"考勤档案1","isDdcClass":true},{"id":"756522545974556887","pId":"md__post","name":"岗位档案1","isDdcClass":true},{"id":"380684920752355639","pId":"md__bankac","name":"银行账户档案1","isDdcClass":true},{"id":"607878412902794101","pId":"md__materi","name":"物料表头1","isDdcClass":false},{"id":"537190283039390375","pId":"md__custom","name":"客户表头1","isDdcClass":true},{"id":"540603381325878618","pId":"md__suppli","name":"供应商表头1","isDdcClass":true},{"id":"806404180831256821","pId":"md__saleor","name":"销售订单表头1","isDdcClass":true},{"id":"273257230720783543","pId":"md__purcha","name":"采购订单表头1","isDdcClass":true},{"id":"989844743485339251","pId":"md__stock","name":"库存表头1","isDdcClass":false},{"id":"972621685672632727","pId":"md__org","name":"组织表头1","isDdcClass":true},{"id":"740280450131958319","pId":"md__psndoc","name":"人员表头1","isDdcClass":true},{"id":"549093351542594722","pId":"md__dept","name":"部门表头1","isDdcClass":true},{"id":"530777232803361551","pId":"md__projec","name":"项目表头1","isDdcClass":true},{"id":"773595391540818264","pId":"md__contra","name":"合同表头1","isDdcClass":false},{"id":"115733583396501395","pId":"md__invoic","name":"发票表头1","isDdcClass":true},{"id":"607653802316349714","pId":"md__gather","name":"收款单表头1","isDdcClass":true},{"id":"450663754193039346","pId":"md__paybil","name":"付款单表头1","isDdcClass":true},{"id":"506735759438220209","pId":"md__vouche","name":"凭证表头1","isDdcClass":true},{"id":"790573157290714018","pId":"md__accoun","name":"科目表头1","isDdcClass":false},{"id":"763794843640869901","pId":"md__curren","name":"币种表头1","isDdcClass":true},{"id":"818515384640613055","pId":"md__wareho","name":"仓库表头1","isDdcClass":true},{"id":"377310664701560632","pId":"md__batch","name":"批次表头1","isDdcClass":true},{"id":"468539239291615965","pId":"md__workor","name":"工单表头1","isDdcClass":true},{"id":"127422357748362185","pId":"md__mo","name":"生产订单表头1","isDdcClass":false},{"id":"635147900286411821","pId":"md__qc","name":"质检表头1","isDdcClass":true},{"id":"178505181763517874","pId":"md__asset","name":"资产表头1","isDdcClass":true},{"id":"874341976417585015","pId":"md__budget","name":"预算表头1","isDdcClass":true},{"id":"141704168072408981","pId":"md__expens","name":"费用表头1","isDdcClass":true},{"id":"787380266403825414","pId":"md__reimbu","name":"报销表头1","isDdcClass":false},{"id":"483089213773828481","pId":"md__wa","name":"薪资表头1","isDdcClass":true},{"id":"101420694087169036","pId":"md__tbm","name":"考勤表头1","isDdcClass":true},{"id":"198590596117955028","pId":"md__post","name":"岗位表头1","isDdcClass":true},{"id":"405855811840158473","pId":"md__bankac","name":"银行账户表头1","isDdcClass":true},{"id":"723102539270122571","pId":"md__materi","name":"物料表体1","isDdcClass":false},{"id":"854186680849965691","pId":"md__custom","name":"客户表体1","isDdcClass":true},{"id":"371795621801791516","pId":"md__suppli","name":"供应商表体1","isDdcClass":true},{"id":"899486453178902594","pId":"md__saleor","name":"销售订单表体1","isDdcClass":true},{"id":"169336573999208468","pId":"md__purcha","name":"采购订单表体1","isDdcClass":true},{"id":"331625306724956512","pId":"md__stock","name":"库存表体1","isDdcClass":false},{"id":"550556612979692630","pId":"md__org","name":"组织表体1","isDdcClass":true},{"id":"465253704565571498","pId":"md__psndoc","name":"人员表体1","isDdcClass":true},{"id":"670513079296589231","pId":"md__dept","name":"部门表体1","isDdcClass":true},{"id":"174817604099720762","pId":"md__projec","name":"项目表体1","isDdcClass":true},{"id":"433577380135406484","pId":"md__contra","name":"合同表体1","isDdcClass":false},{"id":"435948178459620283","pId":"md__invoic","name":"发票表体1","isDdcClass":true},{"id":"644581013774084589","pId":"md__gather","name":"收款单表体1","isDdcClass":true},{"id":"714001160011836153","pId":"md__paybil","name":"付款单表体1","isDdcClass":true},{"id":"329138226838058693","pId":"md__vouche","name":"凭证表体1","isDdcClass":true},{"id":"986951268860410761","pId":"md__accoun","name":"科目表体1","isDdcClass":false},{"id":"555012932296773053","pId":"md__curren","name":"币种表体1","isDdcClass":true},{"id":"556931939996378785","pId":"md__wareho","name":"仓库表体1","isDdcClass":true},{"id":"354797011981095533","pId":"md__batch","name":"批次表体1","isDdcClass":true},{"id":"149232302869986565","pId":"md__workor","name":"工单表体1","isDdcClass":true},{"id":"343545946900770399","pId":"md__mo","name":"生产订单表体1","isDdcClass":false},{"id":"967631010264951769","pId":"md__qc","name":"质检表体1","isDdcClass":true},{"id":"868943775646596768","pId":"md__asset","name":"资产表体1","isDdcClass":true},{"id":"663508325164918137","pId":"md__budget","name":"预算表体1","isDdcClass":true},{"id":"335496981015260289","pId":"md__expens","name":"费用表体1","isDdcClass":true},{"id":"331638823150266948","pId":"md__reimbu","name":"报销表体1","isDdcClass":false},{"id":"863618015681446256","pId":"md__wa","name":"薪资表体1","isDdcClass":true},{"id":"889890484111935000","pId":"md__tbm","name":"考勤表体1","isDdcClass":true},{"id":"663104986782014643","pId":"md__post","name":"岗位表体1","isDdcClass":true},{"id":"938749989710849730","pId":"md__bankac","name":"银行账户表体1","isDdcClass":true},{"id":"620349751732064885","pId":"md__materi","name":"物料分类1","isDdcClass":false},{"id":"253181109546191289","pId":"md__custom","name":"客户分类1","isDdcClass":true},{"id":"443834888161589861","pId":"md__suppli","name":"供应商分类1","isDdcClass":true},{"id":"545786852808509340","pId":"md__saleor","name":"销售订单分类1","isDdcClass":true},{"id":"589425104246942809","pId":"md__purcha","name":"采购订单分类1","isDdcClass":true},{"id":"700954289485024898","pId":"md__stock","name":"库存分类1","isDdcClass":false},{"id":"581400900315504642","pId":"md__org","name":"组织分类1","isDdcClass":true},{"id":"425046336187105163","pId":"md__psndoc","name":"人员分类1","isDdcClass":true},{"id":"582929026591302124","pId":"md__dept","name":"部门分类1","isDdcClass":true},{"id":"295383307008103686","pId":"md__projec","name":"项目分类1","isDdcClass":true},{"id":"405852680853890891","pId":"md__contra","name":"合同分类1","isDdcClass":false},{"id":"856177862107089010","pId":"md__invoic","name":"发票分类1","isDdcClass":true},{"id":"383433540197331071","pId":"md__gather","name":"收款单分类1","isDdcClass":true},{"id":"363708675206316136","pId":"md__paybil","name":"付款单分类1","isDdcClass":true},{"id":"635816015629520051","pId":"md__vouche","name":"凭证分类1","isDdcClass":true},{"id":"106880155430369131","pId":"md__accoun","name":"科目分类1","isDdcClass":false},{"id":"876534482188402478","pId":"md__curren","name":"币种分类1","isDdcClass":true},{"id":"480166866984985772","pId":"md__wareho","name":"仓库分类1","isDdcClass":true},{"id":"339774883699284038","pId":"md__batch","name":"批次分类1","isDdcClass":true},{"id":"465080260912655875","pId":"md__workor","name":"工单分类1","isDdcClass":true},{"id":"633465215191582477","pId":"md__mo","name":"生产订单分类1","isDdcClass":false},{"id":"407004741717586123","pId":"md__qc","name":"质检分类1","isDdcClass":true},{"id":"269976862742477151","pId":"md__asset","name":"资产分类1","isDdcClass":true},{"id":"672993750645959562","pId":"md__budget","name":"预算分类1","isDdcClass":true},{"id":"706290048534692284","pId":"md__expens","name":"费用分类1","isDdcClass":true},{"id":"798147024657334365","pId":"md__reimbu","name":"报销分类1","isDdcClass":false},{"id":"270315682998632019","pId":"md__wa","name":"薪资分类1","isDdcClass":true},{"id":"250875136017133276","pId":"md__tbm","name":"考勤分类1","isDdcClass":true},{"id":"683738104675423773","pId":"md__post","name":"岗位分类1","isDdcClass":true},{"id":"565826438074184167","pId":"md__bankac","name":"银行账户分类1","isDdcClass":true},{"id":"635034106585407696","pId":"md__materi","name":"物料关系1","isDdcClass":false},{"id":"324887293247564932","pId":"md__custom","name":"客户关系1","isDdcClass":true},{"id":"566835047204809799","pId":"md__suppli","name":"供应商关系1","isDdcClass":true},{"id":"413670785937254557","pId":"md__saleor","name":"销售订单关系1","isDdcClass":true},{"id":"759045301130697975","pId":"md__purcha","name":"采购订单关系1","isDdcClass":true},{"id":"242587859633066327","pId":"md__stock","name":"库存关系1","isDdcClass":false},{"id":"879144457359176790","pId":"md__org","name":"组织关系1","isDdcClass":true},{"id":"412067130242755283","pId":"md__psndoc","name":"人员关系1","isDdcClass":true},{"id":"899353331542231102","pId":"md__dept","name":"部门关系1","isDdcClass":true},{"id":"272926352499331559","pId":"md__projec","name":"项目关系1","isDdcClass":true},{"id":"801145547422383764","pId":"md__contra","name":"合同关系1","isDdcClass":false},{"id":"802498290813798268","pId":"md__invoic","name":"发票关系1","isDdcClass":true},{"id":"717786505139588920","pId":"md__gather","name":"收款单关系1","isDdcClass":true},{"id":"307713058907977834","pId":"md__paybil","name":"付款单关系1","isDdcClass":true},{"id":"997332475833254670","pId":"md__vouche","name":"凭证关系1","isDdcClass":true},{"id":"811513695280545364","pId":"md__accoun","name":"科目关系1","isDdcClass":false},{"id":"524071556239780312","pId":"md__curren","name":"币种关系1","isDdcClass":true},{"id":"903224422334570321","pId":"md__wareho","name":"仓库关系1","isDdcClass":true},{"id":"148865661995878420","pId":"md__batch","name":"批次关系1","isDdcClass":true},{"id":"860250142222631364","pId":"md__workor","name":"工单关系1","isDdcClass":true},{"id":"516150217648073463","pId":"md__mo","name":"生产订单关系1","isDdcClass":false},{"id":"923003182964685291","pId":"md__qc","name":"质检关系1","isDdcClass":true},{"id":"393325902214384055","pId":"md__asset","name":"资产关系1","isDdcClass":true},{"id":"555741151183030036","pId":"md__budget","name":"预算关系1","isDdcClass":true},{"id":"224224139507768611","pId":"md__expens","name":"费用关系1","isDdcClass":true},{"id":"982095639597986301","pId":"md__reimbu","name":"报销关系1","isDdcClass":false},{"id":"243916312570620468","pId":"md__wa","name":"薪资关系1","isDdcClass":true},{"id":"961407686844599098","pId":"md__tbm","name":"考勤关系1","isDdcClass":true},{"id":"517353994124638863","pId":"md__post","name":"岗位关系1","isDdcClass":true},{"id":"878264630330254481","pId":"md__bankac","name":"银行账户关系1","isDdcClass":true},{"id":"931575900220472263","pId":"md__materi","name":"物料日志1","isDdcClass":false},{"id":"442019101234917779","pId":"md__custom","name":"客户日志1","isDdcClass":true},{"id":"475761842843901914","pId":"md__suppli","name":"供应商日志1","isDdcClass":true},{"id":"135044399163792689","pId":"md__saleor","name":"销售订单日志1","isDdcClass":true},{"id":"942426666882688524","pId":"md__purcha","name":"采购订单日志1","isDdcClass":true},{"id":"831509421974404918","pId":"md__stock","name":"库存日志1","isDdcClass":false},{"id":"164147597773883228","pId":"md__org","name":"组织日志1","isDdcClass":true},{"id":"196616930348000720","pId":"md__psndoc","name":"人员日志1","isDdcClass":true},{"id":"760543478392516013","pId":"md__dept","name":"部门日志1","isDdcClass":true},{"id":"361716747562704382","pId":"md__projec","name":"项目日志1","isDdcClass":true},{"id":"991040093406015364","pId":"md__contra","name":"合同日志1","isDdcClass":false},{"id":"398703414666392007","pId":"md__invoic","name":"发票日志1","isDdcClass":true},{"id":"664289563768839495","pId":"md__gather","name":"收款单日志1","isDdcClass":true},{"id":"223132404507318697","pId":"md__paybil","name":"付款单日志1","isDdcClass":true},{"id":"331415733693525727","pId":"md__vouche","name":"凭证日志1","isDdcClass":true},{"id":"223480224315774934","pId":"md__accoun","name":"科目日志1","isDdcClass":false},{"id":"966278187025588676","pId":"md__curren","name":"币种日志1","isDdcClass":true},{"id":"791656382011945453","pId":"md__wareho","name":"仓库日志1","isDdcClass":true},{"id":"695022452198704288","pId":"md__batch","name":"批次日志1","isDdcClass":true},{"id":"873879142017400830","pId":"md__workor","name":"工单日志1","isDdcClass":true},{"id":"260334088311626440","pId":"md__mo","name":"生产订单日志1","isDdcClass":false},{"id":"645326826538269701","pId":"md__qc","name":"质检日志1","isDdcClass":true},{"id":"489267268001499174","pId":"md__asset","name":"资产日志1","isDdcClass":true},{"id":"521557838076630859","pId":"md__budget","name":"预算日志1","isDdcClass":true},{"id":"445929285492932794","pId":"md__expens","name":"费用日志1","isDdcClass":true},{"id":"732463939859544733","pId":"md__reimbu","name":"报销日志1","isDdcClass":false},{"id":"427420864165257479","pId":"md__wa","name":"薪资日志1","isDdcClass":true},{"id":"458259890760309770","pId":"md__tbm","name":"考勤日志1","isDdcClass":true},{"id":"154308576544548578","pId":"md__post","name":"岗位日志1","isDdcClass":true},{"id":"205183972786480252","pId":"md__bankac","name":"银行账户日志1","isDdcClass":true},{"id":"385419453531856256","pId":"md__materi","name":"物料扩展1","isDdcClass":false},{"id":"751789085370782520","pId":"md__custom","name":"客户扩展1","isDdcClass":true},{"id":"110511065185106493","pId":"md__suppli","name":"供应商扩展1","isDdcClass":true},{"id":"461903575536540833","pId":"md__saleor","name":"销售订单扩展1","isDdcClass":true},{"id":"808017201619192031","pId":"md__purcha","name":"采购订单扩展1","isDdcClass":true},{"id":"190782120456696392","pId":"md__stock","name":"库存扩展1","isDdcClass":false},{"id":"761918991762262089","pId":"md__org","name":"组织扩展1","isDdcClass":true},{"id":"895095956162465209","pId":"md__psndoc","name":"人员扩展1","isDdcClass":true},{"id":"246788099079199731","pId":"md__dept","name":"部门扩展1","isDdcClass":true},{"id":"569011782420461939","pId":"md__projec","name":"项目扩展1","isDdcClass":true},{"id":"163057124678193043","pId":"md__contra","name":"合同扩展1","isDdcClass":false},{"id":"571746186494638190","pId":"md__invoic","name":"发票扩展1","isDdcClass":true},{"id":"402556085736329389","pId":"md__gather","name":"收款单扩展1","isDdcClass":true},{"id":"638827748490948457","pId":"md__paybil","name":"付款单扩展1","isDdcClass":true},{"id":"883931322802093986","pId":"md__vouche","name":"凭证扩展1","isDdcClass":true},{"id":"944764589609810834","pId":"md__accoun","name":"科目扩展1","isDdcClass":false},{"id":"129911620776559511","pId":"md__curren","name":"币种扩展1","isDdcClass":true},{"id":"235711452395090220","pId":"md__wareho","name":"仓库扩展1","isDdcClass":true},{"id":"528872584647123355","pId":"md__batch","name":"批次扩展1","isDdcClass":true},{"id":"383075151469499312","pId":"md__workor","name":"工单扩展1","isDdcClass":true},{"id":"151761384145758606","pId":"md__mo","name":"生产订单扩展1","isDdcClass":false},{"id":"937028916460246726","pId":"md__qc","name":"质检扩展1","isDdcClass":true},{"id":"678004328564951344","pId":"md__asset","name":"资产扩展1","isDdcClass":true},{"id":"922981093477403723","pId":"md__budget","name":"预算扩展1","isDdcClass":true},{"id":"756641703510994804","pId":"md__expens","name":"费用扩展1","isDdcClass":true},{"id":"232538329233675566","pId":"md__reimbu","name":"报销扩展1","isDdcClass":false},{"id":"511470247599643496","pId":"md__wa","name":"薪资扩展1","isDdcClass":true},{"id":"544516493936013930","pId":"md__tbm","name":"考勤扩展1","isDdcClass":true},{"id":"253068338016335086","pId":"md__post","name":"岗位扩展1","isDdcClass":true},{"id":"601645017439009420","pId":"md__bankac","name":"银行账户扩展1","isDdcClass":true},{"id":"304872319893068485","pId":"md__materi","name":"物料主表2","isDdcClass":false},{"id":"669351498515332902","pId":"md__custom","name":"客户主表2","isDdcClass":true},{"id":"723381427963047976","pId":"md__suppli","name":"供应商主表2","isDdcClass":true},{"id":"120940205632751971","pId":"md__saleor","name":"销售订单主表2","isDdcClass":true},{"id":"451614896901446646","pId":"md__purcha","name":"采购订单主表2","isDdcClass":true},{"id":"401470489903807582","pId":"md__stock","name":"库存主表2","isDdcClass":false},{"id":"955660661661517296","pId":"md__org","name":"组织主表2","isDdcClass":true},{"id":"990024150378843417","pId":"md__psndoc","name":"人员主表2","isDdcClass":true},{"id":"891742787773992301","pId":"md__dept","name":"部门主表2","isDdcClass":true},{"id":"415816755258939525","pId":"md__projec","name":"项目主表2","isDdcClass":true},{"id":"548897765006301612","pId":"md__contra","name":"合同主表2","isDdcClass":false},{"id":"149008336304759401","pId":"md__invoic","name":"发票主表2","isDdcClass":true},{"id":"180441664497961695","pId":"md__gather","name":"收款单主表2","isDdcClass":true},{"id":"778295323804514464","pId":"md__paybil","name":"付款单主表2","isDdcClass":true},{"id":"976502883195400539","pId":"md__vouche","name":"凭证主表2","isDdcClass":true},{"id":"420141692695845655","pId":"md__accoun","name":"科目主表2","isDdcClass":false},{"id":"204131338418565333","pId":"md__curren","name":"币种主表2","isDdcClass":true},{"id":"357617602032375816","pId":"md__wareho","name":"仓库主表2","isDdcClass":true},{"id":"319458293070630921","pId":"md__batch","name":"批次主表2","isDdcClass":true},{"id":"546883567754288917","pId":"md__workor","name":"工单主表2","isDdcClass":true},{"id":"982721103009860001","pId":"md__mo","name":"生产订单主表2","isDdcClass":false},{"id":"291664149501849636","pId":"md__qc","name":"质检主表2","isDdcClass":true},{"id":"519104840849319059","pId":"md__asset","name":"资产主表2","isDdcClass":true},{"id":"972167586527813955","pId":"md__budget","name":"预算主表2","isDdcClass":true},{"id":"975148958110513718","pId":"md__expens","name":"费用主表2","isDdcClass":true},{"id":"856333486717820217","pId":"md__reimbu","name":"报销主表2","isDdcClass":false},{"id":"966585025586129728","pId":"md__wa","name":"薪资主表2","isDdcClass":true},{"id":"350052154332999845","pId":"md__tbm","name":"考勤主表2","isDdcClass":true},{"id":"485739939020330266","pId":"md__post","name":"岗位主表2","isDdcClass":true},{"id":"210111822701039847","pId":"md__bankac","name":"银行账户主表2","isDdcClass":true},{"id":"586549217398271142","pId":"md__materi","name":"物料子表2","isDdcClass":false},{"id":"960616253989281547","pId":"md__custom","name":"客户子表2","isDdcClass":true},{"id":"671293857180651861","pId":"md__suppli","name":"供应商子表2","isDdcClass":true},{"id":"315109920609613500","pId":"md__saleor","name":"销售订单子表2","isDdcClass":true},{"id":"743820558621429736","pId":"md__purcha","name":"采购订单子表2","isDdcClass":true},{"id":"293764882421525742","pId":"md__stock","name":"库存子表2","isDdcClass":false},{"id":"535758069667308375","pId":"md__org","name":"组织子表2","isDdcClass":true},{"id":"695187127581002177","pId":"md__psndoc","name":"人员子表2","isDdcClass":true},{"id":"609863798638686748","pId":"md__dept","name":"部门子表2","isDdcClass":true},{"id":"237198687598495241","pId":"md__projec","name":"项目子表2","isDdcClass":true},{"id":"974560418821245688","pId":"md__contra","name":"合同子表2","isDdcClass":false},{"id":"474450511237956259","pId":"md__invoic","name":"发票子表2","isDdcClass":true},{"id":"419322469124058327","pId":"md__gather","name":"收款单子表2","isDdcClass":true},{"id":"215162975061090154","pId":"md__paybil","name":"付款单子表2","isDdcClass":true},{"id":"338827186343129687","pId":"md__vouche","name":"凭证子表2","isDdcClass":true},{"id":"286815535191645601","pId":"md__accoun","name":"科目子表2","isDdcClass":false},{"id":"170252315763324652","pId":"md__curren","name":"币种子表2","isDdcClass":true},{"id":"297636942071708946","pId":"md__wareho","name":"仓库子表2","isDdcClass":true},{"id":"938826024952912283","pId":"md__batch","name":"批次子表2","isDdcClass":true},{"id":"790564540583008417","pId":"md__workor","name":"工单子表2","isDdcClass":true},{"id":"886676030441285318","pId":"md__mo","name":"生产订单子表2","isDdcClass":false},{"id":"438148847456958433","pId":"md__qc","name":"质检子表2","isDdcClass":true},{"id":"286185501174053636","pId":"md__asset","name":"资产子表2","isDdcClass":true},{"id":"557089859773328238","pId":"md__budget","name":"预算子表2","isDdcClass":true},{"id":"270643048512708290","pId":"md__expens","name":"费用子表2","isDdcClass":true},{"id":"570933289786375438","pId":"md__reimbu","name":"报销子表2","isDdcClass":false},{"id":"662321908663148757","pId":"md__wa","name":"薪资子表2","isDdcClass":true},{"id":"115739115577615583","pId":"md__tbm","name":"考勤子表2","isDdcClass":true},{"id":"214540229395074241","pId":"md__post","name":"岗位子表2","isDdcClass":true},{"id":"580504556832479624","pId":"md__bankac","name":"银行账户子表2","isDdcClass":true},{"id":"200314485907851984","pId":"md__materi","name":"物料明细2","isDdcClass":false},{"id":"531463721466341218","pId":"md__custom","name":"客户明细2","isDdcClass":true},{"id":"500321943888136157","pId":"md__suppli","name":"供应商明细2","isDdcClass":true},{"id":"746376201875113537","pId":"md__saleor","name":"销售订单明细2","isDdcClass":true},{"id":"193335271562718274","pId":"md__purcha","name":"采购订单明细2","isDdcClass":true},{"id":"704261975081334991","pId":"md__stock","name":"库存明细2","isDdcClass":false},{"id":"200861187503644527","pId":"md__org","name":"组织明细2","isDdcClass":true},{"id":"944428817189445928","pId":"md__psndoc","name":"人员明细2","isDdcClass":true},{"id":"169781124077126289","pId":"md__dept","name":"部门明细2","isDdcClass":true},{"id":"749023512038574729","pId":"md__projec","name":"项目明细2","isDdcClass":true},{"id":"932516354556512875","pId":"md__contra","name":"合同明细2","isDdcClass":false},{"id":"303573633257677881","pId":"md__invoic","name":"发票明细2","isDdcClass":true},{"id":"284527567023417296","pId":"md__gather","name":"收款单明细2","isDdcClass":true},{"id":"168145071332310043","pId":"md__paybil","name":"付款单明细2","isDdcClass":true},{"id":"106607683978558454","pId":"md__vouche","name":"凭证明细2","isDdcClass":true},{"id":"793949728860984769","pId":"md__accoun","name":"科目明细2","isDdcClass":false},{"id":"157310717127118986","pId":"md__curren","name":"币种明细2","isDdcClass":true},{"id":"802627521770141913","pId":"md__wareho","name":"仓库明细2","isDdcClass":true},{"id":"506203856764176196","pId":"md__batch","name":"批次明细2","isDdcClass":true},{"id":"890031749002542820","pId":"md__workor","name":"工单明细2","isDdcClass":true},{"id":"181394890974486704","pId":"md__mo","name":"生产订单明细2","isDdcClass":false},{"id":"875003993648614321","pId":"md__qc","name":"质检明细2","isDdcClass":true},{"id":"610194529048912120","pId":"md__asset","name":"资产明细2","isDdcClass":true},{"id":"876509398863689305","pId":"md__budget","name":"预算明细2","isDdcClass":true},{"id":"975434628588909576","pId":"md__expens","name":"费用明细2","isDdcClass":true},{"id":"435775553527774072","pId":"md__reimbu","name":"报销明细2","isDdcClass":false},{"id":"808793788739004614","pId":"md__wa","name":"薪资明细2","isDdcClass":true},{"id":"860208201874923078","pId":"md__tbm","name":"考勤明细2","isDdcClass":true},{"id":"135496823508654706","pId":"md__post","name":"岗位明细2","isDdcClass":true},{"id":"135786705190053933","pId":"md__bankac","name":"银行账户明细2","isDdcClass":true},{"id":"287577762230786664","pId":"md__materi","name":"物料档案2","isDdcClass":false},{"id":"462419413396308859","pId":"md__custom","name":"客户档案2","isDdcClass":true},{"id":"934198681216320816","pId":"md__suppli","name":"供应商档案2","isDdcClass":true},{"id":"763112149596916647","pId":"md__saleor","name":"销售订单档案2","isDdcClass":true},{"id":"176376227080164815","pId":"md__purcha","name":"采购订单档案2","isDdcClass":true},{"id":"121062639098548256","pId":"md__stock","name":"库存档案2","isDdcClass":false},{"id":"989114745662474865","pId":"md__org","name":"组织档案2","isDdcClass":true},{"id":"164887561459774783","pId":"md__psndoc","name":"人员档案2","isDdcClass":true},{"id":"759696781504356533","pId":"md__dept","name":"部门档案2","isDdcClass":true},{"id":"299029488620182760","pId":"md__projec","name":"项目档案2","isDdcClass":true},{"id":"679629461462020599","pId":"md__contra","name":"合同档案2","isDdcClass":false},{"id":"519237024583402427","pId":"md__invoic","name":"发票档案2","isDdcClass":true},{"id":"970440969749312896","pId":"md__gather","name":"收款单档案2","isDdcClass":true},{"id":"956834292378344722","pId":"md__paybil","name":"付款单档案2","isDdcClass":true},{"id":"241225637174028228","pId":"md__vouche","name":"凭证档案2","isDdcClass":true},{"id":"671472487270084642","pId":"md__accoun","name":"科目档案2","isDdcClass":false},{"id":"851310995410324554","pId":"md__curren","name":"币种档案2","isDdcClass":true},{"id":"116834894479679787","pId":"md__wareho","name":"仓库档案2","isDdcClass":true},{"id":"547341495935258080","pId":"md__batch","name":"批次档案2","isDdcClass":true},{"id":"697517647648168639","pId":"md__workor","name":"工单档案2","isDdcClass":true},{"id":"322836308571303315","pId":"md__mo","name":"生产订单档案2","isDdcClass":false},{"id":"857380249824561328","pId":"md__qc","name":"质检档案2","isDdcClass":true},{"id":"573605215374949472","pId":"md__asset","name":"资产档案2","isDdcClass":true},{"id":"321327758308339724","pId":"md__budget","name":"预算档案2","isDdcClass":true},{"id":"749962940450241229","pId":"md__expens","name":"费用档案2","isDdcClass":true},{"id":"584515786597958006","pId":"md__reimbu","name":"报销档案2","isDdcClass":false},{"id":"389590586649417333","pId":"md__wa","name":"薪资档案2","isDdcClass":true},{"id":"419428324930116758","pId":"md__tbm","name":"考勤档案2","isDdcClass":true},{"id":"818879400271254248","pId":"md__post","name":"岗位档案2","isDdcClass":true},{"id":"419869765412988525","pId":"md__bankac","name":"银行账户档案2","isDdcClass":true},{"id":"516778778023535206","pId":"md__materi","name":"物料表头2","isDdcClass":false},{"id":"419759744308662770","pId":"md__custom","name":"客户表头2","isDdcClass":true},{"id":"996237374160601051","pId":"md__suppli","name":"供应商表头2","isDdcClass":true},{"id":"954256938664996308","pId":"md__saleor","name":"销售订单表头2","isDdcClass":true},{"id":"667064471113312309","pId":"md__purcha","name":"采购订单表头2","isDdcClass":true},{"id":"181300326673101626","pId":"md__stock","name":"库存表头2","isDdcClass":false},{"id":"113270293094698588","pId":"md__org","name":"组织表头2","isDdcClass":true},{"id":"116766037084928467","pId":"md__psndoc","name":"人员表头2","isDdcClass":true},{"id":"406467941233106761","pId":"md__dept","name":"部门表头2","isDdcClass":true},{"id":"601106059168469300","pId":"md__projec","name":"项目表头2","isDdcClass":true},{"id":"613903124234576395","pId":"md__contra","name":"合同表头2","isDdcClass":false},{"id":"274326131859082093","pId":"md__invoic","name":"发票表头2","isDdcClass":true},{"id":"838987548240967459","pId":"md__gather","name":"收款单表头2","isDdcClass":true},{"id":"443330437115040218","pId":"md__paybil","name":"付款单表头2","isDdcClass":true},{"id":"497276087978193411","pId":"md__vouche","name":"凭证表头2","isDdcClass":true},{"id":"856946666519237815","pId":"md__accoun","name":"科目表头2","isDdcClass":false},{"id":"585199358722750744","pId":"md__curren","name":"币种表头2","isDdcClass":true},{"id":"237832678231459799","pId":"md__wareho","name":"仓库表头2","isDdcClass":true},{"id":"700499320023949340","pId":"md__batch","name":"批次表头2","isDdcClass":true},{"id":"848334537014601536","pId":"md__workor","name":"工单表头2","isDdcClass":true},{"id":"614798543658962002","pId":"md__mo","name":"生产订单表头2","isDdcClass":false},{"id":"148395150422313555","pId":"md__qc","name":"质检表头2","isDdcClass":true},{"id":"700028910788267725","pId":"md__asset","name":"资产表头2","isDdcClass":true},{"id":"598551931563686258","pId":"md__budget","name":"预算表头2","isDdcClass":true},{"id":"486890158453087253","pId":"md__expens","name":"费用表头2","isDdcClass":true},{"id":"260964456594555095","pId":"md__reimbu","name":"报销表头2","isDdcClass":false},{"id":"715039888212628443","pId":"md__wa","name":"薪资表头2","isDdcClass":true},{"id":"841541625908571925","pId":"md__tbm","name":"考勤表头2","isDdcClass":true},{"id":"460043914751504937","pId":"md__post","name":"岗位表头2","isDdcClass":true},{"id":"215344907361116517","pId":"md__bankac","name":"银行账户表头2","isDdcClass":true},{"id":"345802974885881739","pId":"md__materi","name":"物料表体2","isDdcClass":false},{"id":"469754093368038026","pId":"md__custom","name":"客户表体2","isDdcClass":true},{"id":"431133228643846731","pId":"md__suppli","name":"供应商表体2","isDdcClass":true},{"id":"636333510915263753","pId":"md__saleor","name":"销售订单表体2","isDdcClass":true},{"id":"831825544667050829","pId":"md__purcha","name":"采购订单表体2","isDdcClass":true},{"id":"349295869494627832","pId":"md__stock","name":"库存表体2","isDdcClass":false},{"id":"890004354490860029","pId":"md__org","name":"组织表体2","isDdcClass":true},{"id":"366376853581722620","pId":"md__psndoc","name":"人员表体2","isDdcClass":true},{"id":"558185106532774261","pId":"md__dept","name":"部门表体2","isDdcClass":true},{"id":"915602634163122702","pId":"md__projec","name":"项目表体2","isDdcClass":true},{"id":"614691353991973306","pId":"md__contra","name":"合同表体2","isDdcClass":false},{"id":"588634426989752445","pId":"md__invoic","name":"发票表体2","isDdcClass":true},{"id":"666038155067268227","pId":"md__gather","name":"收款单表体2","isDdcClass":true},{"id":"102409232575437131","pId":"md__paybil","name":"付款单表体2","isDdcClass":true},{"id":"220343435829897171","pId":"md__vouche","name":"凭证表体2","isDdcClass":true},{"id":"651355826981775115","pId":"md__accoun","name":"科目表体2","isDdcClass":false},{"id":"931385608360780109","pId":"md__curren","name":"币种表体2","isDdcClass":true},{"id":"740408525699792733","pId":"md__wareho","name":"仓库表体2","isDdcClass":true},{"id":"277574562227146880","pId":"md__batch","name":"批次表体2","isDdcClass":true},{"id":"229159278444142162","pId":"md__workor","name":"工单表体2","isDdcClass":true},{"id":"999126307692294085","pId":"md__mo","name":"生产订单表体2","isDdcClass":false},{"id":"587401582997279043","pId":"md__qc","name":"质检表体2","isDdcClass":true},{"id":"392114648826723724","pId":"md__asset","name":"资产表体2","isDdcClass":true},{"id":"161179673442781822","pId":"md__budget","name":"预算表体2","isDdcClass":true},{"id":"833424855878363806","pId":"md__expens","name":"费用表体2","isDdcClass":true},{"id":"133140089875851101","pId":"md__reimbu","name":"报销表体2","isDdcClass":false},{"id":"177399395911185907","pId":"md__wa","name":"薪资表体2","isDdcClass":true},{"id":"937510766977957488","pId":"md__tbm","name":"考勤表体2","isDdcClass":true},{"id":"323289494246225271","pId":"md__post","name":"岗位表体2","isDdcClass":true},{"id":"921476532117303733","pId":"md__bankac","name":"银行账户表体2","isDdcClass":true},{"id":"605713408984237936","pId":"md__materi","name":"物料分类2","isDdcClass":false},{"id":"630056024002953583","pId":"md__custom","name":"客户分类2","isDdcClass":true},{"id":"605638810482615621","pId":"md__suppli","name":"供应商分类2","isDdcClass":true},{"id":"876382825154133189","pId":"md__saleor","name":"销售订单分类2","isDdcClass":true},{"id":"865873789588714194","pId":"md__purcha","name":"采购订单分类2","isDdcClass":true},{"id":"966046814854575293","pId":"md__stock","name":"库存分类2","isDdcClass":false},{"id":"197878976691436815","pId":"md__org","name":"组织分类2","isDdcClass":true},{"id":"926300243135594723","pId":"md__psndoc","name":"人员分类2","isDdcClass":true},{"id":"977506032651468911","pId":"md__dept","name":"部门分类2","isDdcClass":true},{"id":"344712711632520743","pId":"md__projec","name":"项目分类2","isDdcClass":true},{"id":"301599132542036535","pId":"md__contra","name":"合同分类2","isDdcClass":false},{"id":"569914195427264540","pId":"md__invoic","name":"发票分类2","isDdcClass":true},{"id":"718406231208728188","pId":"md__gather","name":"收款单分类2","isDdcClass":true},{"id":"654751160212524005","pId":"md__paybil","name":"付款单分类2","isDdcClass":true},{"id":"481699116253798044","pId":"md__vouche","name":"凭证分类2","isDdcClass":true},{"id":"382746434740754174","pId":"md__accoun","name":"科目分类2","isDdcClass":false},{"id":"468802910611256941","pId":"md__curren","name":"币种分类2","isDdcClass":true},{"id":"282934432398676698","pId":"md__wareho","name":"仓库分类2","isDdcClass":true},{"id":"865065904629052067","pId":"md__batch","name":"批次分类2","isDdcClass":true},{"id":"785316725909193443","pId":"md__workor","name":"工单分类2","isDdcClass":true},{"id":"966914115556904553","pId":"md__mo","name":"生产订单分类2","isDdcClass":false},{"id":"224126465898434074","pId":"md__qc","name":"质检分类2","isDdcClass":true},{"id":"242443369470484208","pId":"md__asset","name":"资产分类2","isDdcClass":true},{"id":"363281088572073393","pId":"md__budget","name":"预算分类2","isDdcClass":true},{"id":"241684677290082575","pId":"md__expens","name":"费用分类2","isDdcClass":true},{"id":"406980742752656742","pId":"md__reimbu","name":"报销分类2","isDdcClass":false},{"id":"545852363018815703","pId":"md__wa","name":"薪资分类2","isDdcClass":true},{"id":"707479951012449643","pId":"md__tbm","name":"考勤分类2","isDdcClass":true},{"id":"916383222115057021","pId":"md__post","name":"岗位分类2","isDdcClass":true},{"id":"851981347044992251","pId":"md__bankac","name":"银行账户分类2","isDdcClass":true},{"id":"436424228353843330","pId":"md__materi","name":"物料关系2","isDdcClass":false},{"id":"450761603876832080","pId":"md__custom","name":"客户关系2","isDdcClass":true},{"id":"751751399271229980","pId":"md__suppli","name":"供应商关系2","isDdcClass":true},{"id":"987277719775930543","pId":"md__saleor","name":"销售订单关系2","isDdcClass":true},{"id":"705501455793918031","pId":"md__purcha","name":"采购订单关系2","isDdcClass":true},{"id":"427446963602202551","pId":"md__stock","name":"库存关系2","isDdcClass":false},{"id":"311237341104554402","pId":"md__org","name":"组织关系2","isDdcClass":true},{"id":"816741373015969694","pId":"md__psndoc","name":"人员关系2","isDdcClass":true},{"id":"676929559464216255","pId":"md__dept","name":"部门关系2","isDdcClass":true},{"id":"513169830338538912","pId":"md__projec","name":"项目关系2","isDdcClass":true},{"id":"570391440796244633","pId":"md__contra","name":"合同关系2","isDdcClass":false},{"id":"785109570152535834","pId":"md__invoic","name":"发票关系2","isDdcClass":true},{"id":"562917618199639962","pId":"md__gather","name":"收款单关系2","isDdcClass":true},{"id":"785029142284644575","pId":"md__paybil","name":"付款单关系2","isDdcClass":true},{"id":"976395828242337543","pId":"md__vouche","name":"凭证关系2","isDdcClass":true},{"id":"597795671253511569","pId":"md__accoun","name":"科目关系2","isDdcClass":false},{"id":"566295792838482527","pId":"md__curren","name":"币种关系2","isDdcClass":true},{"id":"897784591282221234","pId":"md__wareho","name":"仓库关系2","isDdcClass":true},{"id":"210760277449960466","pId":"md__batch","name":"批次关系2","isDdcClass":true},{"id":"152531399313609328","pId":"md__workor","name":"工单关系2","isDdcClass":true},{"id":"784827832820302958","pId":"md__mo","name":"生产订单关系2","isDdcClass":false},{"id":"910575980528676276","pId":"md__qc","name":"质检关系2","isDdcClass":true},{"id":"641894087412905158","pId":"md__asset","name":"资产关系2","isDdcClass":true},{"id":"121253160515605715","pId":"md__budget","name":"预算关系2","isDdcClass":true},{"id":"342313252407309160","pId":"md__expens","name":"费用关系2","isDdcClass":true},{"id":"253746032128669737","pId":"md__reimbu","name":"报销关系2","isDdcClass":false},{"id":"306761218683309734","pId":"md__wa","name":"薪资关系2","isDdcClass":true},{"id":"354629460584923882","pId":"md__tbm","name":"考勤关系2","isDdcClass":true},{"id":"705895125008894511","pId":"md__post","name":"岗位关系2","isDdcClass":true},{"id":"989840592166309993","pId":"md__bankac","name":"银行账户关系2","isDdcClass":true},{"id":"154339677199074225","pId":"md__materi","name":"物料日志2","isDdcClass":false},{"id":"376122672733593994","pId":"md__custom","name":"客户日志2","isDdcClass":true},{"id":"722547062382154280","pId":"md__suppli","name":"供应商日志2","isDdcClass":true},{"id":"350000432394987995","pId":"md__saleor","name":"销售订单日志2","isDdcClass":true},{"id":"372586250589420555","pId":"md__purcha","name":"采购订单日志2","isDdcClass":true},{"id":"845501214991827093","pId":"md__stock","name":"库存日志2","isDdcClass":false},{"id":"717250224181471461","pId":"md__org","name":"组织日志2","isDdcClass":true},{"id":"429658093740272134","pId":"md__psndoc","name":"人员日志2","isDdcClass":true},{"id":"383094998723872167","pId":"md__dept","name":"部门日志2","isDdcClass":true},{"id":"608255789092004454","pId":"md__projec","name":"项目日志2","isDdcClass":true},{"id":"177781277170299324","pId":"md__contra","name":"合同日志2","isDdcClass":false},{"id":"136250923653541150","pId":"md__invoic","name":"发票日志2","isDdcClass":true},{"id":"412803131792137710","pId":"md__gather","name":"收款单日志2","isDdcClass":true},{"id":"165684819794489982","pId":"md__paybil","name":"付款单日志2","isDdcClass":true},{"id":"334056724762262539","pId":"md__vouche","name":"凭证日志2","isDdcClass":true},{"id":"363743686253835003","pId":"md__accoun","name":"科目日志2","isDdcClass":false},{"id":"696380294855651924","pId":"md__curren","name":"币种日志2","isDdcClass":true},{"id":"709288597093236626","pId":"md__wareho","name":"仓库日志2","isDdcClass":true},{"id":"987943780219638227","pId":"md__batch","name":"批次日志2","isDdcClass":true},{"id":"114227113113516898","pId":"md__workor","name":"工单日志2","isDdcClass":true},{"id":"967026117610861074","pId":"md__mo","name":"生产订单日志2","isDdcClass":false},{"id":"712319230895801637","pId":"md__qc","name":"质检日志2","isDdcClass":true},{"id":"964838239146281480","pId":"md__asset","name":"资产日志2","isDdcClass":true},{"id":"791052409775743965","pId":"md__budget","name":"预算日志2","isDdcClass":true},{"id":"901288453069828515","pId":"md__expens","name":"费用日志2","isDdcClass":true},{"id":"986039737449207755","pId":"md__reimbu","name":"报销日志2","isDdcClass":false},{"id":"915054475094569820","pId":"md__wa","name":"薪资日志2","isDdcClass":true},{"id":"312572204612722918","pId":"md__tbm","name":"考勤日志2","isDdcClass":true},{"id":"517809507743958718","pId":"md__post","name":"岗位日志2","isDdcClass":true},{"id":"435033918431794086","pId":"md__bankac","name":"银行账户日志2","isDdcClass":true},{"id":"717019718471730728","pId":"md__materi","name":"物料扩展2","isDdcClass":false},{"id":"455130557748847191","pId":"md__custom","name":"客户扩展2","isDdcClass":true},{"id":"212125629554870670","pId":"md__suppli","name":"供应商扩展2","isDdcClass":true},{"id":"749837861389269361","pId":"md__saleor","name":"销售订单扩展2","isDdcClass":true},{"id":"296870726116080084","pId":"md__purcha","name":"采购订单扩展2","isDdcClass":true},{"id":"357231381494377102","pId":"md__stock","name":"库存扩展2","isDdcClass":false},{"id":"834637929664304755","pId":"md__org","name":"组织扩展2","isDdcClass":true},{"id":"203691426305613177","pId":"md__psndoc","name":"人员扩展2","isDdcClass":true},{"id":"616494860918044176","pId":"md__dept","name":"部门扩展2","isDdcClass":true},{"id":"558268062360130353","pId":"md__projec","name":"项目扩展2","isDdcClass":true},{"id":"194458709213120332","pId":"md__contra","name":"合同扩展2","isDdcClass":false},{"id":"492293264756598910","pId":"md__invoic","name":"发票扩展2","isDdcClass":true},{"id":"800227475793271749","pId":"md__gather","name":"收款单扩展2","isDdcClass":true},{"id":"406907818988715886","pId":"md__paybil","name":"付款单扩展2","isDdcClass":true},{"id":"157522498900886408","pId":"md__vouche","name":"凭证扩展2","isDdcClass":true},{"id":"777731391108597957","pId":"md__accoun","name":"科目扩展2","isDdcClass":false},{"id":"299219751298260547","pId":"md__curren","name":"币种扩展2","isDdcClass":true},{"id":"170405356507684985","pId":"md__wareho","name":"仓库扩展2","isDdcClass":true},{"id":"386321519001687782","pId":"md__batch","name":"批次扩展2","isDdcClass":true},{"id":"883618500075157660","pId":"md__workor","name":"工单扩展2","isDdcClass":true},{"id":"994379289011137236","pId":"md__mo","name":"生产订单扩展2","isDdcClass":false},{"id":"354501812518001583","pId":"md__qc","name":"质检扩展2","isDdcClass":true},{"id":"588367281263060093","pId":"md__asset","name":"资产扩展2","isDdcClass":true},{"id":"764993694164502291","pId":"md__budget","name":"预算扩展2","isDdcClass":true},{"id":"615774858075902763","pId":"md__expens","name":"费用扩展2","isDdcClass":true},{"id":"708201078134850039","pId":"md__reimbu","name":"报销扩展2","isDdcClass":false},{"id":"313053087461340463","pId":"md__wa","name":"薪资扩展2","isDdcClass":true},{"id":"493076523920109976","pId":"md__tbm","name":"考勤扩展2","isDdcClass":true},{"id":"407948285645570367","pId":"md__post","name":"岗位扩展2","isDdcClass":true},{"id":"765444041883820070","pId":"md__bankac","name":"银行账户扩展2","isDdcClass":true},{"id":"772954584307770948","pId":"md__materi","name":"物料主表3","isDdcClass":false},{"id":"908928746773896286","pId":"md__custom","name":"客户主表3","isDdcClass":true},{"id":"698749603029989647","pId":"md__suppli","name":"供应商主表3","isDdcClass":true},{"id":"397758731184801620","pId":"md__saleor","name":"销售订单主表3","isDdcClass":true},{"id":"222900012038888275","pId":"md__purcha","name":"采购订单主表3","isDdcClass":true},{"id":"535702804183523543","pId":"md__stock","name":"库存主表3","isDdcClass":false},{"id":"147935157465110966","pId":"md__org","name":"组织主表3","isDdcClass":true},{"id":"695211558711750245","pId":"md__psndoc","name":"人员主表3","isDdcClass":true},{"id":"706315683689378567","pId":"md__dept","name":"部门主表3","isDdcClass":true},{"id":"956191041679849358","pId":"md__projec","name":"项目主表3","isDdcClass":true},{"id":"420136540488332023","pId":"md__contra","name":"合同主表3","isDdcClass":false},{"id":"168607437608851811","pId":"md__invoic","name":"发票主表3","isDdcClass":true},{"id":"979955718601207226","pId":"md__gather","name":"收款单主表3","isDdcClass":true},{"id":"616965852206471420","pId":"md__paybil","name":"付款单主表3","isDdcClass":true},{"id":"169020824652366028","pId":"md__vouche","name":"凭证主表3","isDdcClass":true},{"id":"121486067679027163","pId":"md__accoun","name":"科目主表3","isDdcClass":false},{"id":"454049959521885748","pId":"md__curren","name":"币种主表3","isDdcClass":true},{"id":"214677485726476204","pId":"md__wareho","name":"仓库主表3","isDdcClass":true},{"id":"439449918537998268","pId":"md__batch","name":"批次主表3","isDdcClass":true},{"id":"773399731999348852","pId":"md__workor","name":"工单主表3","isDdcClass":true},{"id":"259353590743837828","pId":"md__mo","name":"生产订单主表3","isDdcClass":false},{"id":"118001246535513751","pId":"md__qc","name":"质检主表3","isDdcClass":true},{"id":"668274581687473588","pId":"md__asset","name":"资产主表3","isDdcClass":true},{"id":"179236193348211215","pId":"md__budget","name":"预算主表3","isDdcClass":true},{"id":"872402585629681323","pId":"md__expens","name":"费用主表3","isDdcClass":true},{"id":"228060603272698081","pId":"md__reimbu","name":"报销主表3","isDdcClass":false},{"id":"201721067785931965","pId":"md__wa","name":"薪资主表3","isDdcClass":true},{"id":"925567398947027468","pId":"md__tbm","name":"考勤主表3","isDdcClass":true},{"id":"427010895726873722","pId":"md__post","name":"岗位主表3","isDdcClass":true},{"id":"543177720484919385","pId":"md__bankac","name":"银行账户主表3","isDdcClass":true},{"id":"630666125173596563","pId":"md__materi","name":"物料子表3","isDdcClass":false},{"id":"204315979242503538","pId":"md__custom","name":"客户子表3","isDdcClass":true},{"id":"894063519631767389","pId":"md__suppli","name":"供应商子表3","isDdcClass":true},{"id":"555658754339122982","pId":"md__saleor","name":"销售订单子表3","isDdcClass":true},{"id":"877905042115446858","pId":"md__purcha","name":"采购订单子表3","isDdcClass":true},{"id":"924095852584816280","pId":"md__stock","name":"库存子表3","isDdcClass":false},{"id":"677762891644052484","pId":"md__org","name":"组织子表3","isDdcClass":true},{"id":"841010514846722271","pId":"md__psndoc","name":"人员子表3","isDdcClass":true},{"id":"747607797164928406","pId":"md__dept","name":"部门子表3","isDdcClass":true},{"id":"298372194433715927","pId":"md__projec","name":"项目子表3","isDdcClass":true},{"id":"770933607078642734","pId":"md__contra","name":"合同子表3","isDdcClass":false},{"id":"501330903372883363","pId":"md__invoic","name":"发票子表3","isDdcClass":true},{"id":"104965984096111658","pId":"md__gather","name":"收款单子表3","isDdcClass":true},{"id":"784501428343806429","pId":"md__paybil","name":"付款单子表3","isDdcClass":true},{"id":"142353004492383807","pId":"md__vouche","name":"凭证子表3","isDdcClass":true},{"id":"511174329095154038","pId":"md__accoun","name":"科目子表3","isDdcClass":false},{"id":"645794061305178773","pId":"md__curren","name":"币种子表3","isDdcClass":true},{"id":"673692451794640400","pId":"md__wareho","name":"仓库子表3","isDdcClass":true},{"id":"502801884226174731","pId":"md__batch","name":"批次子表3","isDdcClass":true},{"id":"835873898965691249","pId":"md__workor","name":"工单子表3","isDdcClass":true},{"id":"683091094244564473","pId":"md__mo","name":"生产订单子表3","isDdcClass":false},{"id":"803617841209995081","pId":"md__qc","name":"质检子表3","isDdcClass":true},{"id":"273189114769607197","pId":"md__asset","name":"资产子表3","isDdcClass":true},{"id":"153629235060806590","pId":"md__budget","name":"预算子表3","isDdcClass":true},{"id":"458460524716227194","pId":"md__expens","name":"费用子表3","isDdcClass":true},{"id":"388028156913165375","pId":"md__reimbu","name":"报销子表3","isDdcClass":false},{"id":"347447703212918475","pId":"md__wa","name":"薪资子表3","isDdcClass":true},{"id":"822303686868195399","pId":"md__tbm","name":"考勤子表3","isDdcClass":true},{"id":"477509833251561568","pId":"md__post","name":"岗位子表3","isDdcClass":true},{"id":"859905576634108784","pId":"md__bankac","name":"银行账户子表3","isDdcClass":true},{"id":"749601065428237033","pId":"md__materi","name":"物料明细3","isDdcClass":false},{"id":"574338490241764774","pId":"md__custom","name":"客户明细3","isDdcClass":true},{"id":"935868558264756683","pId":"md__suppli","name":"供应商明细3","isDdcClass":true},{"id":"593009090025308176","pId":"md__saleor","name":"销售订单明细3","isDdcClass":true},{"id":"751648530490720949","pId":"md__purcha","name":"采购订单明细3","isDdcClass":true},{"id":"708150152013917967","pId":"md__stock","name":"库存明细3","isDdcClass":false},{"id":"924686195341439277","pId":"md__org","name":"组织明细3","isDdcClass":true},{"id":"134052410361881824","pId":"md__psndoc","name":"人员明细3","isDdcClass":true},{"id":"449154593828097017","pId":"md__dept","name":"部门明细3","isDdcClass":true},{"id":"899911218533489786","pId":"md__projec","name":"项目明细3","isDdcClass":true},{"id":"868515906645942379","pId":"md__contra","name":"合同明细3","isDdcClass":false},{"id":"635864897077860947","pId":"md__invoic","name":"发票明细3","isDdcClass":true},{"id":"866992095668836171","pId":"md__gather","name":"收款单明细3","isDdcClass":true},{"id":"235678983785217752","pId":"md__paybil","name":"付款单明细3","isDdcClass":true},{"id":"739886141914177445","pId":"md__vouche","name":"凭证明细3","isDdcClass":true},{"id":"695413147306425224","pId":"md__accoun","name":"科目明细3","isDdcClass":false},{"id":"685085711704393066","pId":"md__curren","name":"币种明细3","isDdcClass":true},{"id":"993368809748639765","pId":"md__wareho","name":"仓库明细3","isDdcClass":true},{"id":"493271639768941074","pId":"md__batch","name":"批次明细3","isDdcClass":true},{"id":"786666044206929574","pId":"md__workor","name":"工单明细3","isDdcClass":true},{"id":"146946138915517894","pId":"md__mo","name":"生产订单明细3","isDdcClass":false},{"id":"910430217008794777","pId":"md__qc","name":"质检明细3","isDdcClass":true},{"id":"862995539758805189","pId":"md__asset","name":"资产明细3","isDdcClass":true},{"id":"685093012605796257","pId":"md__budget","name":"预算明细3","isDdcClass":true},{"id":"924562213077736843","pId":"md__expens","name":"费用明细3","isDdcClass":true},{"id":"994275727604467785","pId":"md__reimbu","name":"报销明细3","isDdcClass":false},{"id":"213150947435211510","pId":"md__wa","name":"薪资明细3","isDdcClass":true},{"id":"831597105008665083","pId":"md__tbm","name":"考勤明细3","isDdcClass":true},{"id":"598980939856253412","pId":"md__post","name":"岗位明细3","isDdcClass":true},{"id":"278907129619448932","pId":"md__bankac","name":"银行账户明细3","isDdcClass":true},{"id":"362067054283584251","pId":"md__materi","name":"物料档案3","isDdcClass":false},{"id":"118984123498008562","pId":"md__custom","name":"客户档案3","isDdcClass":true},{"id":"215363002266796851","pId":"md__suppli","name":"供应商档案3","isDdcClass":true},{"id":"223976164895052437","pId":"md__saleor","name":"销售订单档案3","isDdcClass":true},{"id":"378017751774864606","pId":"md__purcha","name":"采购订单档案3","isDdcClass":true},{"id":"213128428602754182","pId":"md__stock","name":"库存档案3","isDdcClass":false},{"id":"449620665686254823","pId":"md__org","name":"组织档案3","isDdcClass":true},{"id":"941872192614263764","pId":"md__psndoc","name":"人员档案3","isDdcClass":true},{"id":"668053779146892994","pId":"md__dept","name":"部门档案3","isDdcClass":true},{"id":"545020322158492324","pId":"md__projec","name":"项目档案3","isDdcClass":true},{"id":"115743921320142129","pId":"md__contra","name":"合同档案3","isDdcClass":false},{"id":"394365819507404314","pId":"md__invoic","name":"发票档案3","isDdcClass":true},{"id":"277035830946008665","pId":"md__gather","name":"收款单档案3","isDdcClass":true},{"id":"759327392951662982","pId":"md__paybil","name":"付款单档案3","isDdcClass":true},{"id":"530216669700267949","pId":"md__vouche","name":"凭证档案3","isDdcClass":true},{"id":"482999694072262891","pId":"md__accoun","name":"科目档案3","isDdcClass":false},{"id":"490857005111581344","pId":"md__curren","name":"币种档案3","isDdcClass":true},{"id":"541214604392994796","pId":"md__wareho","name":"仓库档案3","isDdcClass":true},{"id":"468868088089205556","pId":"md__batch","name":"批次档案3","isDdcClass":true},{"id":"119889080221361499","pId":"md__workor","name":"工单档案3","isDdcClass":true},{"id":"631025378082401051","pId":"md__mo","name":"生产订单档案3","isDdcClass":false},{"id":"777314752290362365","pId":"md__qc","name":"质检档案3","isDdcClass":true},{"id":"451848157548631959","pId":"md__asset","name":"资产档案3","isDdcClass":true},{"id":"275047708691532079","pId":"md__budget","name":"预算档案3","isDdcClass":true},{"id":"680604810376458854","pId":"md__expens","name":"费用档案3","isDdcClass":true},{"id":"598544908924685032","pId":"md__reimbu","name":"报销档案3","isDdcClass":false},{"id":"227262550507544255","pId":"md__wa","name":"薪资档案3","isDdcClass":true},{"id":"294686177038312565","pId":"md__tbm","name":"考勤档案3","isDdcClass":true},{"id":"648065979242278403","pId":"md__post","name":"岗位档案3","isDdcClass":true},{"id":"191975909738716033","pId":"md__bankac","name":"银行账户档案3","isDdcClass":true},{"id":"764395708280172652","pId":"md__materi","name":"物料表头3","isDdcClass":false},{"id":"183424158860583944","pId":"md__custom","name":"客户表头3","isDdcClass":true},{"id":"122833018441729932","pId":"md__suppli","name":"供应商表头3","isDdcClass":true},{"id":"149008221661494910","pId":"md__saleor","name":"销售订单表头3","isDdcClass":true},{"id":"495799493390872062","pId":"md__purcha","name":"采购订单表头3","isDdcClass":true},{"id":"303816688310475254","pId":"md__stock","name":"库存表头3","isDdcClass":false},{"id":"664167502823320784","pId":"md__org","name":"组织表头3","isDdcClass":true},{"id":"893579446113889351","pId":"md__psndoc","name":"人员表头3","isDdcClass":true},{"id":"993060568574979531","pId":"md__dept","name":"部门表头3","isDdcClass":true},{"id":"794672321884706275","pId":"md__projec","name":"项目表头3","isDdcClass":true},{"id":"703711903712145563","pId":"md__contra","name":"合同表头3","isDdcClass":false},{"id":"341735736473747582","pId":"md__invoic","name":"发票表头3","isDdcClass":true},{"id":"894932378303922952","pId":"md__gather","name":"收款单表头3","isDdcClass":true},{"id":"552019624216664636","pId":"md__paybil","name":"付款单表头3","isDdcClass":true},{"id":"791882718443417576","pId":"md__vouche","name":"凭证表头3","isDdcClass":true},{"id":"642300114448360195","pId":"md__accoun","name":"科目表头3","isDdcClass":false},{"id":"301143095735682385","pId":"md__curren","name":"币种表头3","isDdcClass":true},{"id":"963883120179022294","pId":"md__wareho","name":"仓库表头3","isDdcClass":true},{"id":"514155060052752183","pId":"md__batch","name":"批次表头3","isDdcClass":true},{"id":"370909722863081371","pId":"md__workor","name":"工单表头3","isDdcClass":true},{"id":"500019831659690314","pId":"md__mo","name":"生产订单表头3","isDdcClass":false},{"id":"962252759609586861","pId":"md__qc","name":"质检表头3","isDdcClass":true},{"id":"336327130720615915","pId":"md__asset","name":"资产表头3","isDdcClass":true},{"id":"773116319225260320","pId":"md__budget","name":"预算表头3","isDdcClass":true},{"id":"720520563556212441","pId":"md__expens","name":"费用表头3","isDdcClass":true},{"id":"494003270646726555","pId":"md__reimbu","name":"报销表头3","isDdcClass":false},{"id":"905452069237842638","pId":"md__wa","name":"薪资表头3","isDdcClass":true},{"id":"564772204425104085","pId":"md__tbm","name":"考勤表头3","isDdcClass":true},{"id":"772306469784789440","pId":"md__post","name":"岗位表头3","isDdcClass":true},{"id":"712372751396019370","pId":"md__bankac","name":"银行账户表头3","isDdcClass":true},{"id":"818062459629968898","pId":"md__materi","name":"物料表体3","isDdcClass":false},{"id":"569748831261709789","pId":"md__custom","name":"客户表体3","isDdcClass":true},{"id":"149214583976418033","pId":"md__suppli","name":"供应商表体3","isDdcClass":true},{"id":"833005461438942446","pId":"md__saleor","name":"销售订单表体3","isDdcClass":true},{"id":"973925294795652487","pId":"md__purcha","name":"采购订单表体3","isDdcClass":true},{"id":"295045660428621980","pId":"md__stock","name":"库存表体3","isDdcClass":false},{"id":"306043277041847131","pId":"md__org","name":"组织表体3","isDdcClass":true},{"id":"750282635307817698","pId":"md__psndoc","name":"人员表体3","isDdcClass":true},{"id":"691767242948335984","pId":"md__dept","name":"部门表体3","isDdcClass":true},{"id":"279073531238373357","pId":"md__projec","name":"项目表体3","isDdcClass":true},{"id":"111296451934796343","pId":"md__contra","name":"合同表体3","isDdcClass":false},{"id":"197731690453649684","pId":"md__invoic","name":"发票表体3","isDdcClass":true},{"id":"473410467184574374","pId":"md__gather","name":"收款单表体3","isDdcClass":true},{"id":"953856465162545971","pId":"md__paybil","name":"付款单表体3","isDdcClass":true},{"id":"470054793638512253","pId":"md__vouche","name":"凭证表体3","isDdcClass":true},{"id":"784733529496985186","pId":"md__accoun","name":"科目表体3","isDdcClass":false},{"id":"479714693911488721","pId":"md__curren","name":"币种表体3","isDdcClass":true},{"id":"356569057123623775","pId":"md__wareho","name":"仓库表体3","isDdcClass":true},{"id":"422202061764931597","pId":"md__batch","name":"批次表体3","isDdcClass":true},{"id":"588934791127337573","pId":"md__workor","name":"工单表体3","isDdcClass":true},{"id":"825359881332116599","pId":"md__mo","name":"生产订单表体3","isDdcClass":false},{"id":"519559569663580413","pId":"md__qc","name":"质检表体3","isDdcClass":true},{"id":"304384831509736837","pId":"md__asset","name":"资产表体3","isDdcClass":true},{"id":"548113213777272362","pId":"md__budget","name":"预算表体3","isDdcClass":true},{"id":"939453562203306638","pId":"md__expens","name":"费用表体3","isDdcClass":true},{"id":"929037989245198318","pId":"md__reimbu","name":"报销表体3","isDdcClass":false},{"id":"776634634616498160","pId":"md__wa","name":"薪资表体3","isDdcClass":true},{"id":"935331227759480301","pId":"md__tbm","name":"考勤表体3","isDdcClass":true},{"id":"244593613337246037","pId":"md__post","name":"岗位表体3","isDdcClass":true},{"id":"104395402691704246","pId":"md__bankac","name":"银行账户表体3","isDdcClass":true},{"id":"673182371046186073","pId":"md__materi","name":"物料分类3","isDdcClass":false},{"id":"221250166218367801","pId":"md__custom","name":"客户分类3","isDdcClass":true},{"id":"241909681810671912","pId":"md__suppli","name":"供应商分类3","isDdcClass":true},{"id":"887211629012563909","pId":"md__saleor","name":"销售订单分类3","isDdcClass":true},{"id":"815855113068247233","pId":"md__purcha","name":"采购订单分类3","isDdcClass":true},{"id":"997239415710413335","pId":"md__stock","name":"库存分类3","isDdcClass":false},{"id":"366617957001371768","pId":"md__org","name":"组织分类3","isDdcClass":true},{"id":"281234329123656583","pId":"md__psndoc","name":"人员分类3","isDdcClass":true},{"id":"584638251249439765","pId":"md__dept","name":"部门分类3","isDdcClass":true},{"id":"877610921784168825","pId":"md__projec","name":"项目分类3","isDdcClass":true},{"id":"233877585298493336","pId":"md__contra","name":"合同分类3","isDdcClass":false},{"id":"853081792154276639","pId":"md__invoic","name":"发票分类3","isDdcClass":true},{"id":"722548268490179144","pId":"md__gather","name":"收款单分类3","isDdcClass":true},{"id":"159610504161803716","pId":"md__paybil","name":"付款单分类3","isDdcClass":true},{"id":"547747601581305222","pId":"md__vouche","name":"凭证分类3","isDdcClass":true},{"id":"378860437377039369","pId":"md__accoun","name":"科目分类3","isDdcClass":false},{"id":"849421624592129487","pId":"md__curren","name":"币种分类3","isDdcClass":true},{"id":"649136090964013891","pId":"md__wareho","name":"仓库分类3","isDdcClass":true},{"id":"189906448244706401","pId":"md__batch","name":"批次分类3","isDdcClass":true},{"id":"398941579962273983","pId":"md__workor","name":"工单分类3","isDdcClass":true},{"id":"230339873583614282","pId":"md__mo","name":"生产订单分类3","isDdcClass":false},{"id":"187227264666790719","pId":"md__qc","name":"质检分类3","isDdcClass":true},{"id":"166010985292252546","pId":"md__asset","name":"资产分类3","isDdcClass":true},{"id":"188915373873596508","pId":"md__budget","name":"预算分类3","isDdcClass":true},{"id":"588374365829785112","pId":"md__expens","name":"费用分类3","isDdcClass":true},{"id":"332083440571487362","pId":"md__reimbu","name":"报销分类3","isDdcClass":false},{"id":"762399329709506544","pId":"md__wa","name":"薪资分类3","isDdcClass":true},{"id":"223323036814116072","pId":"md__tbm","name":"考勤分类3","isDdcClass":true},{"id":"193264744258852646","pId":"md__post","name":"岗位分类3","isDdcClass":true},{"id":"735974462211169302","pId":"md__bankac","name":"银行账户分类3","isDdcClass":true},{"id":"332171841348328618","pId":"md__materi","name":"物料关系3","isDdcClass":false},{"id":"503204905153715606","pId":"md__custom","name":"客户关系3","isDdcClass":true},{"id":"364870486963982987","pId":"md__suppli","name":"供应商关系3","isDdcClass":true},{"id":"434403773075138839","pId":"md__saleor","name":"销售订单关系3","isDdcClass":true},{"id":"137724448713790167","pId":"md__purcha","name":"采购订单关系3","isDdcClass":true},{"id":"822736428900169396","pId":"md__stock","name":"库存关系3","isDdcClass":false},{"id":"371465300738203295","pId":"md__org","name":"组织关系3","isDdcClass":true},{"id":"258747277841078409","pId":"md__psndoc","name":"人员关系3","isDdcClass":true},{"id":"837359270104828447","pId":"md__dept","name":"部门关系3","isDdcClass":true},{"id":"176176454542210173","pId":"md__projec","name":"项目关系3","isDdcClass":true},{"id":"536975299933166716","pId":"md__contra","name":"合同关系3","isDdcClass":false},{"id":"178742514712740902","pId":"md__invoic","name":"发票关系3","isDdcClass":true},{"id":"980637913465228056","pId":"md__gather","name":"收款单关系3","isDdcClass":true},{"id":"266157638143983134","pId":"md__paybil","name":"付款单关系3","isDdcClass":true},{"id":"307219191439566787","pId":"md__vouche","name":"凭证关系3","isDdcClass":true},{"id":"198803004243529265","pId":"md__accoun","name":"科目关系3","isDdcClass":false},{"id":"840262900495972484","pId":"md__curren","name":"币种关系3","isDdcClass":true},{"id":"992402890987774970","pId":"md__wareho","name":"仓库关系3","isDdcClass":true},{"id":"224159989225690549","pId":"md__batch","name":"批次关系3","isDdcClass":true},{"id":"846352247571387248","pId":"md__workor","name":"工单关系3","isDdcClass":true},{"id":"722642367522035659","pId":"md__mo","name":"生产订单关系3","isDdcClass":false},{"id":"574786846911970328","pId":"md__qc","name":"质检关系3","isDdcClass":true},{"id":"807501334942092763","pId":"md__asset","name":"资产关系3","isDdcClass":true},{"id":"210755477192823687","pId":"md__budget","name":"预算关系3","isDdcClass":true},{"id":"427556985759267890","pId":"md__expens","name":"费用关系3","isDdcClass":true},{"id":"162726744216313912","pId":"md__reimbu","name":"报销关系3","isDdcClass":false},{"id":"844319389517872663","pId":"md__wa","name":"薪资关系3","isDdcClass":true},{"id":"841983123483987897","pId":"md__tbm","name":"考勤关系3","isDdcClass":true},{"id":"246417944855868329","pId":"md__post","name":"岗位关系3","isDdcClass":true},{"id":"712523544620568143","pId":"md__bankac","name":"银行账户关系3","isDdcClass":true},{"id":"194032385846624436","pId":"md__materi","name":"物料日志3","isDdcClass":false},{"id":"948232238652098099","pId":"md__custom","name":"客户日志3","isDdcClass":true},{"id":"509689920458519016","pId":"md__suppli","name":"供应商日志3","isDdcClass":true},{"id":"139834964220256342","pId":"md__saleor","name":"销售订单日志3","isDdcClass":true},{"id":"954011562298087913","pId":"md__purcha","name":"采购订单日志3","isDdcClass":true},{"id":"738161644372512265","pId":"md__stock","name":"库存日志3","isDdcClass":false},{"id":"222223247235640271","pId":"md__org","name":"组织日志3","isDdcClass":true},{"id":"621985335552137682","pId":"md__psndoc","name":"人员日志3","isDdcClass":true},{"id":"745662077619694341","pId":"md__dept","name":"部门日志3","isDdcClass":true},{"id":"539422746699128017","pId":"md__projec","name":"项目日志3","isDdcClass":true},{"id":"337900286901614551","pId":"md__contra","name":"合同日志3","isDdcClass":false},{"id":"369120347501178243","pId":"md__invoic","name":"发票日志3","isDdcClass":true},{"id":"413554696870688928","pId":"md__gather","name":"收款单日志3","isDdcClass":true},{"id":"571788740127379812","pId":"md__paybil","name":"付款单日志3","isDdcClass":true},{"id":"891886728263185464","pId":"md__vouche","name":"凭证日志3","isDdcClass":true},{"id":"105021512518352022","pId":"md__accoun","name":"科目日志3","isDdcClass":false},{"id":"604901755841270067","pId":"md__curren","name":"币种日志3","isDdcClass":true},{"id":"486245896779289330","pId":"md__wareho","name":"仓库日志3","isDdcClass":true},{"id":"480553828748331391","pId":"md__batch","name":"批次日志3","isDdcClass":true},{"id":"527729496662634897","pId":"md__workor","name":"工单日志3","isDdcClass":true},{"id":"625514127088280165","pId":"md__mo","name":"生产订单日志3","isDdcClass":false},{"id":"828706587195158294","pId":"md__qc","name":"质检日志3","isDdcClass":true},{"id":"230584507087726069","pId":"md__asset","name":"资产日志3","isDdcClass":true},{"id":"968071993538655296","pId":"md__budget","name":"预算日志3","isDdcClass":true},{"id":"132748126262210511","pId":"md__expens","name":"费用日志3","isDdcClass":true},{"id":"965924618904519936","pId":"md__reimbu","name":"报销日志3","isDdcClass":false},{"id":"203762707920634747","pId":"md__wa","name":"薪资日志3","isDdcClass":true},{"id":"382761801861239548","pId":"md__tbm","name":"考勤日志3","isDdcClass":true},{"id":"641564457185232071","pId":"md__post","name":"岗位日志3","isDdcClass":true},{"id":"503998780923255082","pId":"md__bankac","name":"银行账户日志3","isDdcClass":true},{"id":"338395124958569053","pId":"md__materi","name":"物料扩展3","isDdcClass":false},{"id":"397525223883855837","pId":"md__custom","name":"客户扩展3","isDdcClass":true},{"id":"579635967459045603","pId":"md__suppli","name":"供应商扩展3","isDdcClass":true},{"id":"155705508422367949","pId":"md__saleor","name":"销售订单扩展3","isDdcClass":true},{"id":"701174620149758683","pId":"md__purcha","name":"采购订单扩展3","isDdcClass":true},{"id":"801113367837523182","pId":"md__stock","name":"库存扩展3","isDdcClass":false},{"id":"869730325577722150","pId":"md__org","name":"组织扩展3","isDdcClass":true},{"id":"496068178665617947","pId":"md__psndoc","name":"人员扩展3","isDdcClass":true},{"id":"200644507517857820","pId":"md__dept","name":"部门扩展3","isDdcClass":true},{"id":"160983268764831645","pId":"md__projec","name":"项目扩展3","isDdcClass":true},{"id":"405994249707107085","pId":"md__contra","name":"合同扩展3","isDdcClass":false},{"id":"346694596435973687","pId":"md__invoic","name":"发票扩展3","isDdcClass":true},{"id":"877928199676772563","pId":"md__gather","name":"收款单扩展3","isDdcClass":true},{"id":"271341802250713278","pId":"md__paybil","name":"付款单扩展3","isDdcClass":true},{"id":"945199155887954647","pId":"md__vouche","name":"凭证扩展3","isDdcClass":true},{"id":"293341415451851909","pId":"md__accoun","name":"科目扩展3","isDdcClass":false},{"id":"931082916932853096","pId":"md__curren","name":"币种扩展3","isDdcClass":true},{"id":"769002654215329649","pId":"md__wareho","name":"仓库扩展3","isDdcClass":true},{"id":"264604971864168272","pId":"md__batch","name":"批次扩展3","isDdcClass":true},{"id":"349885280267394283","pId":"md__workor","name":"工单扩展3","isDdcClass":true},{"id":"645785007218668056","pId":"md__mo","name":"生产订单扩展3","isDdcClass":false},{"id":"694410633162721720","pId":"md__qc","name":"质检扩展3","isDdcClass":true},{"id":"792459991755769078","pId":"md__asset","name":"资产扩展3","isDdcClass":true},{"id":"953217870945142566","pId":"md__budget","name":"预算扩展3","isDdcClass":true},{"id":"391100541102891840","pId":"md__expens","name":"费用扩展3","isDdcClass":true},{"id":"259142201057389207","pId":"md__reimbu","name":"报销扩展3","isDdcClass":false},{"id":"685048498580380602","pId":"md__wa","name":"薪资扩展3","isDdcClass":true},{"id":"547954996023110628","pId":"md__tbm","name":"考勤扩展3","isDdcClass":true},{"id":"523920190709488686","pId":"md__post","name":"岗位扩展3","isDdcClass":true},{"id":"418794537313509139","pId":"md__bankac","name":"银行账户扩展3","isDdcClass":true},{"id":"885343201178438020","pId":"md__materi","name":"物料主表4","isDdcClass":false},{"id":"217338512725464729","pId":"md__custom","name":"客户主表4","isDdcClass":true},{"id":"483692568456574190","pId":"md__suppli","name":"供应商主表4","isDdcClass":true},{"id":"666161733160440032","pId":"md__saleor","name":"销售订单主表4","isDdcClass":true},{"id":"954171707873924611","pId":"md__purcha","name":"采购订单主表4","isDdcClass":true},{"id":"993690436828617387","pId":"md__stock","name":"库存主表4","isDdcClass":false},{"id":"388323169050836939","pId":"md__org","name":"组织主表4","isDdcClass":true},{"id":"170926024544463350","pId":"md__psndoc","name":"人员主表4","isDdcClass":true},{"id":"100318677922449427","pId":"md__dept","name":"部门主表4","isDdcClass":true},{"id":"332776428772543587","pId":"md__projec","name":"项目主表4","isDdcClass":true},{"id":"214193646197633321","pId":"md__contra","name":"合同主表4","isDdcClass":false},{"id":"382447486517950738","pId":"md__invoic","name":"发票主表4","isDdcClass":true},{"id":"597629985536096359","pId":"md__gather","name":"收款单主表4","isDdcClass":true},{"id":"703725458552296870","pId":"md__paybil","name":"付款单主表4","isDdcClass":true},{"id":"535221715280399264","pId":"md__vouche","name":"凭证主表4","isDdcClass":true},{"id":"204439432456145372","pId":"md__accoun","name":"科目主表4","isDdcClass":false},{"id":"307633950354681556","pId":"md__curren","name":"币种主表4","isDdcClass":true},{"id":"636305718697379405","pId":"md__wareho","name":"仓库主表4","isDdcClass":true},{"id":"499783325876243047","pId":"md__batch","name":"批次主表4","isDdcClass":true},{"id":"578626544201549819","pId":"md__workor","name":"工单主表4","isDdcClass":true},{"id":"230523354255035929","pId":"md__mo","name":"生产订单主表4","isDdcClass":false},{"id":"852074983614772863","pId":"md__qc","name":"质检主表4","isDdcClass":true},{"id":"655608946635151208","pId":"md__asset","name":"资产主表4","isDdcClass":true},{"id":"680050559118443492","pId":"md__budget","name":"预算主表4","isDdcClass":true},{"id":"415908093835102872","pId":"md__expens","name":"费用主表4","isDdcClass":true},{"id":"930107042448070988","pId":"md__reimbu","name":"报销主表4","isDdcClass":false},{"id":"373119736721948975","pId":"md__wa","name":"薪资主表4","isDdcClass":true},{"id":"245555342087462773","pId":"md__tbm","name":"考勤主表4","isDdcClass":true},{"id":"953344531471769075","pId":"md__post","name":"岗位主表4","isDdcClass":true},{"id":"393113968706594045","pId":"md__bankac","name":"银行账户主表4","isDdcClass":true},{"id":"440200071573153278","pId":"md__materi","name":"物料子表4","isDdcClass":false},{"id":"278512473602958158","pId":"md__custom","name":"客户子表4","isDdcClass":true},{"id":"190450679891722797","pId":"md__suppli","name":"供应商子表4","isDdcClass":true},{"id":"674375200029217944","pId":"md__saleor","name":"销售订单子表4","isDdcClass":true},{"id":"816811691822500261","pId":"md__purcha","name":"采购订单子表4","isDdcClass":true},{"id":"135454903784261455","pId":"md__stock","name":"库存子表4","isDdcClass":false},{"id":"546286016014932033","pId":"md__org","name":"组织子表4","isDdcClass":true},{"id":"749480054375747564","pId":"md__psndoc","name":"人员子表4","isDdcClass":true},{"id":"561480159844336707","pId":"md__dept","name":"部门子表4","isDdcClass":true},{"id":"310889762848850167","pId":"md__projec","name":"项目子表4","isDdcClass":true},{"id":"596742140599215358","pId":"md__contra","name":"合同子表4","isDdcClass":false},{"id":"242094990835512724","pId":"md__invoic","name":"发票子表4","isDdcClass":true},{"id":"329307594171445806","pId":"md__gather","name":"收款单子表4","isDdcClass":true},{"id":"674465763652909125","pId":"md__paybil","name":"付款单子表4","isDdcClass":true},{"id":"415220917527502655","pId":"md__vouche","name":"凭证子表4","isDdcClass":true},{"id":"370624699739911017","pId":"md__accoun","name":"科目子表4","isDdcClass":false},{"id":"551586076154895180","pId":"md__curren","name":"币种子表4","isDdcClass":true},{"id":"994294329232767701","pId":"md__wareho","name":"仓库子表4","isDdcClass":true},{"id":"945430513493838046","pId":"md__batch","name":"批次子表4","isDdcClass":true},{"id":"121262020229082521","pId":"md__workor","name":"工单子表4","isDdcClass":true},{"id":"672577560133327847","pId":"md__mo","name":"生产订单子表4","isDdcClass":false},{"id":"757234314399455233","pId":"md__qc","name":"质检子表4","isDdcClass":true},{"id":"344929727130617952","pId":"md__asset","name":"资产子表4","isDdcClass":true},{"id":"332526555147695221","pId":"md__budget","name":"预算子表4","isDdcClass":true},{"id":"696736828965952669","pId":"md__expens","name":"费用子表4","isDdcClass":true},{"id":"120268789622584819","pId":"md__reimbu","name":"报销子表4","isDdcClass":false},{"id":"940133825296948759","pId":"md__wa","name":"薪资子表4","isDdcClass":true},{"id":"607964587837531249","pId":"md__tbm","name":"考勤子表4","isDdcClass":true},{"id":"243002649093639203","pId":"md__post","name":"岗位子表4","isDdcClass":true},{"id":"164451664104453432","pId":"md__bankac","name":"银行账户子表4","isDdcClass":true},{"id":"772659906129886316","pId":"md__materi","name":"物料明细4","isDdcClass":false},{"id":"719399755144156809","pId":"md__custom","name":"客户明细4","isDdcClass":true},{"id":"219381523557258062","pId":"md__suppli","name":"供应商明细4","isDdcClass":true},{"id":"911224875109646988","pId":"md__saleor","name":"销售订单明细4","isDdcClass":true},{"id":"304214043962992652","pId":"md__purcha","name":"采购订单明细4","isDdcClass":true},{"id":"748381494288830397","pId":"md__stock","name":"库存明细4","isDdcClass":false},{"id":"303314285607612750","pId":"md__org","name":"组织明细4","isDdcClass":true},{"id":"734354129123086007","pId":"md__psndoc","name":"人员明细4","isDdcClass":true},{"id":"148629371877302639","pId":"md__dept","name":"部门明细4","isDdcClass":true},{"id":"833822452042985624","pId":"md__projec","name":"项目明细4","isDdcClass":true},{"id":"341213249883824318","pId":"md__contra","name":"合同明细4","isDdcClass":false},{"id":"859636785894146876","pId":"md__invoic","name":"发票明细4","isDdcClass":true},{"id":"411644225574284296","pId":"md__gather","name":"收款单明细4","isDdcClass":true},{"id":"242194987299895499","pId":"md__paybil","name":"付款单明细4","isDdcClass":true},{"id":"740328282308270467","pId":"md__vouche","name":"凭证明细4","isDdcClass":true},{"id":"914153689445180370","pId":"md__accoun","name":"科目明细4","isDdcClass":false},{"id":"846242604664802688","pId":"md__curren","name":"币种明细4","isDdcClass":true},{"id":"517283792842743666","pId":"md__wareho","name":"仓库明细4","isDdcClass":true},{"id":"418507618394097286","pId":"md__batch","name":"批次明细4","isDdcClass":true},{"id":"319136976252761014","pId":"md__workor","name":"工单明细4","isDdcClass":true},{"id":"594293380446613056","pId":"md__mo","name":"生产订单明细4","isDdcClass":false},{"id":"881893637193990897","pId":"md__qc","name":"质检明细4","isDdcClass":true},{"id":"555642237402095992","pId":"md__asset","name":"资产明细4","isDdcClass":true},{"id":"594726198067894738","pId":"md__budget","name":"预算明细4","isDdcClass":true},{"id":"737981296783075581","pId":"md__expens","name":"费用明细4","isDdcClass":true},{"id":"759587416276639951","pId":"md__reimbu","name":"报销明细4","isDdcClass":false},{"id":"116576888305053326","pId":"md__wa","name":"薪资明细4","isDdcClass":true},{"id":"963196196297515529","pId":"md__tbm","name":"考勤明细4","isDdcClass":true},{"id":"533725412735809040","pId":"md__post","name":"岗位明细4","isDdcClass":true},{"id":"251615052391227619","pId":"md__bankac","name":"银行账户明细4","isDdcClass":true},{"id":"302165949062021716","pId":"md__materi","name":"物料档案4","isDdcClass":false},{"id":"619895600517331662","pId":"md__custom","name":"客户档案4","isDdcClass":true},{"id":"666636927155725260","pId":"md__suppli","name":"供应商档案4","isDdcClass":true},{"id":"147715641607979823","pId":"md__saleor","name":"销售订单档案4","isDdcClass":true},{"id":"899809007864643701","pId":"md__purcha","name":"采购订单档案4","isDdcClass":true},{"id":"649246929490974527","pId":"md__stock","name":"库存档案4","isDdcClass":false},{"id":"706383042777873581","pId":"md__org","name":"组织档案4","isDdcClass":true},{"id":"874648209363356865","pId":"md__psndoc","name":"人员档案4","isDdcClass":true},{"id":"779414544493107261","pId":"md__dept","name":"部门档案4","isDdcClass":true},{"id":"409722298154334611","pId":"md__projec","name":"项目档案4","isDdcClass":true},{"id":"182159558086443207","pId":"md__contra","name":"合同档案4","isDdcClass":false},{"id":"552848267155679989","pId":"md__invoic","name":"发票档案4","isDdcClass":true},{"id":"149314907666563145","pId":"md__gather","name":"收款单档案4","isDdcClass":true},{"id":"477569798005049078","pId":"md__paybil","name":"付款单档案4","isDdcClass":true},{"id":"439529995682044242","pId":"md__vouche","name":"凭证档案4","isDdcClass":true},{"id":"905540070773228906","pId":"md__accoun","name":"科目档案4","isDdcClass":false},{"id":"561313478615480489","pId":"md__curren","name":"币种档案4","isDdcClass":true},{"id":"945344818780814454","pId":"md__wareho","name":"仓库档案4","isDdcClass":true},{"id":"841025773647386299","pId":"md__batch","name":"批次档案4","isDdcClass":true},{"id":"604473816604151947","pId":"md__workor","name":"工单档案4","isDdcClass":true},{"id":"279587050201311250","pId":"md__mo","name":"生产订单档案4","isDdcClass":false},{"id":"854274411136634454","pId":"md__qc","name":"质检档案4","isDdcClass":true},{"id":"108688412855463523","pId":"md__asset","name":"资产档案4","isDdcClass":true},{"id":"388301131828934491","pId":"md__budget","name":"预算档案4","isDdcClass":true},{"id":"810108922333369128","pId":"md__expens","name":"费用档案4","isDdcClass":true},{"id":"500627444643360135","pId":"md__reimbu","name":"报销档案4","isDdcClass":false},{"id":"937390299263769736","pId":"md__wa","name":"薪资档案4","isDdcClass":true},{"id":"435677764044894801","pId":"md__tbm","name":"考勤档案4","isDdcClass":true},{"id":"377608688789910673","pId":"md__post","name":"岗位档案4","isDdcClass":true},{"id":"725283426989933432","pId":"md__bankac","name":"银行账户档案4","isDdcClass":true},{"id":"746236657683153922","pId":"md__materi","name":"物料表头4","isDdcClass":false},{"id":"215112890099774715","pId":"md__custom","name":"客户表头4","isDdcClass":true},{"id":"347380408932952612","pId":"md__suppli","name":"供应商表头4","isDdcClass":true},{"id":"146315069828997771","pId":"md__saleor","name":"销售订单表头4","isDdcClass":true},{"id":"831232920109960154","pId":"md__purcha","name":"采购订单表头4","isDdcClass":true},{"id":"663048544081971477","pId":"md__stock","name":"库存表头4","isDdcClass":false},{"id":"163747766483283106","pId":"md__org","name":"组织表头4","isDdcClass":true},{"id":"747740693402451683","pId":"md__psndoc","name":"人员表头4","isDdcClass":true},{"id":"481392852302287547","pId":"md__dept","name":"部门表头4","isDdcClass":true},{"id":"832490099239039546","pId":"md__projec","name":"项目表头4","isDdcClass":true},{"id":"933243159231317912","pId":"md__contra","name":"合同表头4","isDdcClass":false},{"id":"464389599147534742","pId":"md__invoic","name":"发票表头4","isDdcClass":true},{"id":"510750846451990772","pId":"md__gather","name":"收款单表头4","isDdcClass":true},{"id":"996040440067726895","pId":"md__paybil","name":"付款单表头4","isDdcClass":true},{"id":"138238903131433383","pId":"md__vouche","name":"凭证表头4","isDdcClass":true},{"id":"465254620999727463","pId":"md__accoun","name":"科目表头4","isDdcClass":false},{"id":"849767391733914027","pId":"md__curren","name":"币种表头4","isDdcClass":true},{"id":"475159484613348295","pId":"md__wareho","name":"仓库表头4","isDdcClass":true},{"id":"858713788059576518","pId":"md__batch","name":"批次表头4","isDdcClass":true},{"id":"425213991288998917","pId":"md__workor","name":"工单表头4","isDdcClass":true},{"id":"427268333832423097","pId":"md__mo","name":"生产订单表头4","isDdcClass":false},{"id":"272548304184652075","pId":"md__qc","name":"质检表头4","isDdcClass":true},{"id":"951629156501087798","pId":"md__asset","name":"资产表头4","isDdcClass":true},{"id":"466997759149611982","pId":"md__budget","name":"预算表头4","isDdcClass":true},{"id":"521400282773408364","pId":"md__expens","name":"费用表头4","isDdcClass":true},{"id":"194788910354803627","pId":"md__reimbu","name":"报销表头4","isDdcClass":false},{"id":"694264490587255268","pId":"md__wa","name":"薪资表头4","isDdcClass":true},{"id":"621014794583494715","pId":"md__tbm","name":"考勤表头4","isDdcClass":true},{"id":"621355963074291113","pId":"md__post","name":"岗位表头4","isDdcClass":true},{"id":"822725741459641356","pId":"md__bankac","name":"银行账户表头4","isDdcClass":true},{"id":"777860362173806624","pId":"md__materi","name":"物料表体4","isDdcClass":false},{"id":"995129603828420482","pId":"md__custom","name":"客户表体4","isDdcClass":true},{"id":"757434542430340762","pId":"md__suppli","name":"供应商表体4","isDdcClass":true},{"id":"706229166267410556","pId":"md__saleor","name":"销售订单表体4","isDdcClass":true},{"id":"797714514164967820","pId":"md__purcha","name":"采购订单表体4","isDdcClass":true},{"id":"243733812185452210","pId":"md__stock","name":"库存表体4","isDdcClass":false},{"id":"261061823589316315","pId":"md__org","name":"组织表体4","isDdcClass":true},{"id":"334363970072831709","pId":"md__psndoc","name":"人员表体4","isDdcClass":true},{"id":"501031345044529781","pId":"md__dept","name":"部门表体4","isDdcClass":true},{"id":"563798592651712658","pId":"md__projec","name":"项目表体4","isDdcClass":true},{"id":"272679861478062574","pId":"md__contra","name":"合同表体4","isDdcClass":false},{"id":"760367871364521500","pId":"md__invoic","name":"发票表体4","isDdcClass":true},{"id":"260076780082577856","pId":"md__gather","name":"收款单表体4","isDdcClass":true},{"id":"759514475344491435","pId":"md__paybil","name":"付款单表体4","isDdcClass":true},{"id":"172549022733804947","pId":"md__vouche","name":"凭证表体4","isDdcClass":true},{"id":"505888644249453329","pId":"md__accoun","name":"科目表体4","isDdcClass":false},{"id":"992172275160973925","pId":"md__curren","name":"币种表体4","isDdcClass":true},{"id":"331274870722815903","pId":"md__wareho","name":"仓库表体4","isDdcClass":true},{"id":"480139621831208898","pId":"md__batch","name":"批次表体4","isDdcClass":true},{"id":"271729633650229425","pId":"md__workor","name":"工单表体4","isDdcClass":true},{"id":"676359157147163367","pId":"md__mo","name":"生产订单表体4","isDdcClass":false},{"id":"633761812968445736","pId":"md__qc","name":"质检表体4","isDdcClass":true},{"id":"263523088884982084","pId":"md__asset","name":"资产表体4","isDdcClass":true},{"id":"224246516763967458","pId":"md__budget","name":"预算表体4","isDdcClass":true},{"id":"577816548302029916","pId":"md__expens","name":"费用表体4","isDdcClass":true},{"id":"203052572907102354","pId":"md__reimbu","name":"报销表体4","isDdcClass":false},{"id":"306347203889895794","pId":"md__wa","name":"薪资表体4","isDdcClass":true},{"id":"440988760752305652","pId":"md__tbm","name":"考勤表体4","isDdcClass":true},{"id":"239462803720466585","pId":"md__post","name":"岗位表体4","isDdcClass":true},{"id":"966551550128657391","pId":"md__bankac","name":"银行账户表体4","isDdcClass":true},{"id":"748912745009306482","pId":"md__materi","name":"物料分类4","isDdcClass":false},{"id":"119968233006126058","pId":"md__custom","name":"客户分类4","isDdcClass":true},{"id":"985791956165310713","pId":"md__suppli","name":"供应商分类4","isDdcClass":true},{"id":"358798999718032270","pId":"md__saleor","name":"销售订单分类4","isDdcClass":true},{"id":"298934380674694719","pId":"md__purcha","name":"采购订单分类4","isDdcClass":true},{"id":"391099126014133147","pId":"md__stock","name":"库存分类4","isDdcClass":false},{"id":"464914787195957184","pId":"md__org","name":"组织分类4","isDdcClass":true},{"id":"125413628389935290","pId":"md__psndoc","name":"人员分类4","isDdcClass":true},{"id":"768267220439816327","pId":"md__dept","name":"部门分类4","isDdcClass":true},{"id":"129891674524208942","pId":"md__projec","name":"项目分类4","isDdcClass":true},{"id":"872494947357265794","pId":"md__contra","name":"合同分类4","isDdcClass":false},{"id":"741668470849474397","pId":"md__invoic","name":"发票分类4","isDdcClass":true},{"id":"978332399423008314","pId":"md__gather","name":"收款单分类4","isDdcClass":true},{"id":"394945659805399123","pId":"md__paybil","name":"付款单分类4","isDdcClass":true},{"id":"172322130035068292","pId":"md__vouche","name":"凭证分类4","isDdcClass":true},{"id":"923570078031470044","pId":"md__accoun","name":"科目分类4","isDdcClass":false},{"id":"419810531820715087","pId":"md__curren","name":"币种分类4","isDdcClass":true},{"id":"753117028904258945","pId":"md__wareho","name":"仓库分类4","isDdcClass":true},{"id":"381454144369484134","pId":"md__batch","name":"批次分类4","isDdcClass":true},{"id":"896577621686930226","pId":"md__workor","name":"工单分类4","isDdcClass":true},{"id":"350834752633447476","pId":"md__mo","name":"生产订单分类4","isDdcClass":false},{"id":"252452843705817041","pId":"md__qc","name":"质检分类4","isDdcClass":true},{"id":"158869085090678908","pId":"md__asset","name":"资产分类4","isDdcClass":true},{"id":"829591378491398176","pId":"md__budget","name":"预算分类4","isDdcClass":true},{"id":"986922105466260059","pId":"md__expens","name":"费用分类4","isDdcClass":true},{"id":"950614456737603537","pId":"md__reimbu","name":"报销分类4","isDdcClass":false},{"id":"538131743817536223","pId":"md__wa","name":"薪资分类4","isDdcClass":true},{"id":"483852292099187166","pId":"md__tbm","name":"考勤分类4","isDdcClass":true},{"id":"942353385831814010","pId":"md__post","name":"岗位分类4","isDdcClass":true},{"id":"645051937834054980","pId":"md__bankac","name":"银行账户分类4","isDdcClass":true},{"id":"661945200374351482","pId":"md__materi","name":"物料关系4","isDdcClass":false},{"id":"890940568399681534","pId":"md__custom","name":"客户关系4","isDdcClass":true},{"id":"408109179304547568","pId":"md__suppli","name":"供应商关系4","isDdcClass":true},{"id":"595194660556589020","pId":"md__saleor","name":"销售订单关系4","isDdcClass":true},{"id":"642002749807273583","pId":"md__purcha","name":"采购订单关系4","isDdcClass":true},{"id":"675048212129947541","pId":"md__stock","name":"库存关系4","isDdcClass":false},{"id":"640867924861259845","pId":"md__org","name":"组织关系4","isDdcClass":true},{"id":"479292135920850483","pId":"md__psndoc","name":"人员关系4","isDdcClass":true},{"id":"429167767032917243","pId":"md__dept","name":"部门关系4","isDdcClass":true},{"id":"234639899967991686","pId":"md__projec","name":"项目关系4","isDdcClass":true},{"id":"290320990987169816","pId":"md__contra","name":"合同关系4","isDdcClass":false},{"id":"316450738045411863","pId":"md__invoic","name":"发票关系4","isDdcClass":true},{"id":"500058039472530346","pId":"md__gather","name":"收款单关系4","isDdcClass":true},{"id":"355144461815678883","pId":"md__paybil","name":"付款单关系4","isDdcClass":true},{"id":"937052783799492807","pId":"md__vouche","name":"凭证关系4","isDdcClass":true},{"id":"720972839089412501","pId":"md__accoun","name":"科目关系4","isDdcClass":false},{"id":"600604400747591853","pId":"md__curren","name":"币种关系4","isDdcClass":true},{"id":"295947786776244645","pId":"md__wareho","name":"仓库关系4","isDdcClass":true},{"id":"926354321636562427","pId":"md__batch","name":"批次关系4","isDdcClass":true},{"id":"128635819153495620","pId":"md__workor","name":"工单关系4","isDdcClass":true},{"id":"971780351606070309","pId":"md__mo","name":"生产订单关系4","isDdcClass":false},{"id":"741618610045047118","pId":"md__qc","name":"质检关系4","isDdcClass":true},{"id":"524942446724798058","pId":"md__asset","name":"资产关系4","isDdcClass":true},{"id":"421271856137415573","pId":"md__budget","name":"预算关系4","isDdcClass":true},{"id":"554864650142011549","pId":"md__expens","name":"费用关系4","isDdcClass":true},{"id":"587282606657967644","pId":"md__reimbu","name":"报销关系4","isDdcClass":false},{"id":"501527925778534797","pId":"md__wa","name":"薪资关系4","isDdcClass":true},{"id":"245486153683593948","pId":"md__tbm","name":"考勤关系4","isDdcClass":true},{"id":"752289525476200305","pId":"md__post","name":"岗位关系4","isDdcClass":true},{"id":"264328475414453743","pId":"md__bankac","name":"银行账户关系4","isDdcClass":true},{"id":"951880690626271474","pId":"md__materi","name":"物料日志4","isDdcClass":false},{"id":"729494678998257067","pId":"md__custom","name":"客户日志4","isDdcClass":true},{"id":"251917923488485985","pId":"md__suppli","name":"供应商日志4","isDdcClass":true},{"id":"549317160817404716","pId":"md__saleor","name":"销售订单日志4","isDdcClass":true},{"id":"628540824388154127","pId":"md__purcha","name":"采购订单日志4","isDdcClass":true},{"id":"732366229592160208","pId":"md__stock","name":"库存日志4","isDdcClass":false},{"id":"813899719198956478","pId":"md__org","name":"组织日志4","isDdcClass":true},{"id":"253218445205645140","pId":"md__psndoc","name":"人员日志4","isDdcClass":true},{"id":"871659755001496345","pId":"md__dept","name":"部门日志4","isDdcClass":true},{"id":"323109917605451951","pId":"md__projec","name":"项目日志4","isDdcClass":true},{"id":"303255129061294618","pId":"md__contra","name":"合同日志4","isDdcClass":false},{"id":"260532009364158560","pId":"md__invoic","name":"发票日志4","isDdcClass":true},{"id":"479481538619685608","pId":"md__gather","name":"收款单日志4","isDdcClass":true},{"id":"698657114128105139","pId":"md__paybil","name":"付款单日志4","isDdcClass":true},{"id":"207166090892737486","pId":"md__vouche","name":"凭证日志4","isDdcClass":true},{"id":"999253270626845915","pId":"md__accoun","name":"科目日志4","isDdcClass":false},{"id":"650783850838888010","pId":"md__curren","name":"币种日志4","isDdcClass":true},{"id":"579668266737079675","pId":"md__wareho","name":"仓库日志4","isDdcClass":true},{"id":"167627866804059689","pId":"md__batch","name":"批次日志4","isDdcClass":true},{"id":"645915750826628824","pId":"md__workor","name":"工单日志4","isDdcClass":true},{"id":"884540210517764999","pId":"md__mo","name":"生产订单日志4","isDdcClass":false},{"id":"139028189240278002","pId":"md__qc","name":"质检日志4","isDdcClass":true},{"id":"177474850009308131","pId":"md__asset","name":"资产日志4","isDdcClass":true},{"id":"250604524421060472","pId":"md__budget","name":"预算日志4","isDdcClass":true},{"id":"267849481812161226","pId":"md__expens","name":"费用日志4","isDdcClass":true},{"id":"526587341405171014","pId":"md__reimbu","name":"报销日志4","isDdcClass":false},{"id":"141684100185488378","pId":"md__wa","name":"薪资日志4","isDdcClass":true},{"id":"877242521723817538","pId":"md__tbm","name":"考勤日志4","isDdcClass":true},{"id":"106644175135551727","pId":"md__post","name":"岗位日志4","isDdcClass":true},{"id":"940889397245480695","pId":"md__bankac","name":"银行账户日志4","isDdcClass":true},{"id":"629504490531277692","pId":"md__materi","name":"物料扩展4","isDdcClass":false},{"id":"183321329731349029","pId":"md__custom","name":"客户扩展4","isDdcClass":true},{"id":"269283284063834486","pId":"md__suppli","name":"供应商扩展4","isDdcClass":true},{"id":"671040555256879740","pId":"md__saleor","name":"销售订单扩展4","isDdcClass":true},{"id":"326638569287877908","pId":"md__purcha","name":"采购订单扩展4","isDdcClass":true},{"id":"161890774924652735","pId":"md__stock","name":"库存扩展4","isDdcClass":false},{"id":"325059744363433217","pId":"md__org","name":"组织扩展4","isDdcClass":true},{"id":"555309131073304497","pId":"md__psndoc","name":"人员扩展4","isDdcClass":true},{"id":"807206003611361986","pId":"md__dept","name":"部门扩展4","isDdcClass":true},{"id":"451285990582281523","pId":"md__projec","name":"项目扩展4","isDdcClass":true},{"id":"331777854160832731","pId":"md__contra","name":"合同扩展4","isDdcClass":false},{"id":"774023417850943683","pId":"md__invoic","name":"发票扩展4","isDdcClass":true},{"id":"640627545744163655","pId":"md__gather","name":"收款单扩展4","isDdcClass":true},{"id":"534977525390122478","pId":"md__paybil","name":"付款单扩展4","isDdcClass":true},{"id":"129790777942713889","pId":"md__vouche","name":"凭证扩展4","isDdcClass":true},{"id":"648639497702406235","pId":"md__accoun","name":"科目扩展4","isDdcClass":false},{"id":"915167248851818035","pId":"md__curren","name":"币种扩展4","isDdcClass":true},{"id":"522438633273291154","pId":"md__wareho","name":"仓库扩展4","isDdcClass":true},{"id":"999526000812699505","pId":"md__batch","name":"批次扩展4","isDdcClass":true},{"id":"169511382713535291","pId":"md__workor","name":"工单扩展4","isDdcClass":true},{"id":"258521017916284104","pId":"md__mo","name":"生产订单扩展4","isDdcClass":false},{"id":"529192621347324200","pId":"md__qc","name":"质检扩展4","isDdcClass":true},{"id":"976019366664985627","pId":"md__asset","name":"资产扩展4","isDdcClass":true},{"id":"365772758697574482","pId":"md__budget","name":"预算扩展4","isDdcClass":true},{"id":"702315759606846545","pId":"md__expens","name":"费用扩展4","isDdcClass":true},{"id":"372553486545255280","pId":"md__reimbu","name":"报销扩展4","isDdcClass":false},{"id":"670062356619188766","pId":"md__wa","name":"薪资扩展4","isDdcClass":true},{"id":"846924913705570475","pId":"md__tbm","name":"考勤扩展4","isDdcClass":true},{"id":"982835086124103876","pId":"md__post","name":"岗位扩展4","isDdcClass":true},{"id":"314079017495295880","pId":"md__bankac","name":"银行账户扩展4","isDdcClass":true},{"id":"802088113010127262","pId":"md__materi","name":"物料主表5","isDdcClass":false},{"id":"414091130251432211","pId":"md__custom","name":"客户主表5","isDdcClass":true},{"id":"912658957413093975","pId":"md__suppli","name":"供应商主表5","isDdcClass":true},{"id":"870057859196612078","pId":"md__saleor","name":"销售订单主表5","isDdcClass":true},{"id":"765376777037792956","pId":"md__purcha","name":"采购订单主表5","isDdcClass":true},{"id":"456350413482341522","pId":"md__stock","name":"库存主表5","isDdcClass":false},{"id":"808488972113377689","pId":"md__org","name":"组织主表5","isDdcClass":true},{"id":"404191388393790299","pId":"md__psndoc","name":"人员主表5","isDdcClass":true},{"id":"548060293282470964","pId":"md__dept","name":"部门主表5","isDdcClass":true},{"id":"566943882990828620","pId":"md__projec","name":"项目主表5","isDdcClass":true},{"id":"265786194474917122","pId":"md__contra","name":"合同主表5","isDdcClass":false},{"id":"246119027350370684","pId":"md__invoic","name":"发票主表5","isDdcClass":true},{"id":"265283811588847167","pId":"md__gather","name":"收款单主表5","isDdcClass":true},{"id":"486096106056543998","pId":"md__paybil","name":"付款单主表5","isDdcClass":true},{"id":"180912201833884875","pId":"md__vouche","name":"凭证主表5","isDdcClass":true},{"id":"503190925621259486","pId":"md__accoun","name":"科目主表5","isDdcClass":false},{"id":"142981355685856801","pId":"md__curren","name":"币种主表5","isDdcClass":true},{"id":"902519939887549518","pId":"md__wareho","name":"仓库主表5","isDdcClass":true},{"id":"250041696016200431","pId":"md__batch","name":"批次主表5","isDdcClass":true},{"id":"159497379573158841","pId":"md__workor","name":"工单主表5","isDdcClass":true},{"id":"558323237267279924","pId":"md__mo","name":"生产订单主表5","isDdcClass":false},{"id":"833213635786555448","pId":"md__qc","name":"质检主表5","isDdcClass":true},{"id":"583150613773401501","pId":"md__asset","name":"资产主表5","isDdcClass":true},{"id":"421870318299559194","pId":"md__budget","name":"预算主表5","isDdcClass":true},{"id":"946522342615782746","pId":"md__expens","name":"费用主表5","isDdcClass":true},{"id":"643108259044342905","pId":"md__reimbu","name":"报销主表5","isDdcClass":false},{"id":"201115005112026939","pId":"md__wa","name":"薪资主表5","isDdcClass":true},{"id":"301120074242170449","pId":"md__tbm","name":"考勤主表5","isDdcClass":true},{"id":"278400102535098039","pId":"md__post","name":"岗位主表5","isDdcClass":true},{"id":"547658511823152364","pId":"md__bankac","name":"银行账户主表5","isDdcClass":true},{"id":"916318548802336189","pId":"md__materi","name":"物料子表5","isDdcClass":false},{"id":"378057444232042702","pId":"md__custom","name":"客户子表5","isDdcClass":true},{"id":"502918545987355043","pId":"md__suppli","name":"供应商子表5","isDdcClass":true},{"id":"726449724197796909","pId":"md__saleor","name":"销售订单子表5","isDdcClass":true},{"id":"255160598984592788","pId":"md__purcha","name":"采购订单子表5","isDdcClass":true},{"id":"748562384303763887","pId":"md__stock","name":"库存子表5","isDdcClass":false},{"id":"256183418198602861","pId":"md__org","name":"组织子表5","isDdcClass":true},{"id":"894910664654775090","pId":"md__psndoc","name":"人员子表5","isDdcClass":true},{"id":"185598481926202945","pId":"md__dept","name":"部门子表5","isDdcClass":true},{"id":"900606585686586950","pId":"md__projec","name":"项目子表5","isDdcClass":true},{"id":"520773130818703059","pId":"md__contra","name":"合同子表5","isDdcClass":false},{"id":"883124774802977343","pId":"md__invoic","name":"发票子表5","isDdcClass":true},{"id":"931679739888915137","pId":"md__gather","name":"收款单子表5","isDdcClass":true},{"id":"354429396609909206","pId":"md__paybil","name":"付款单子表5","isDdcClass":true},{"id":"204584169764783982","pId":"md__vouche","name":"凭证子表5","isDdcClass":true},{"id":"371118566293450753","pId":"md__accoun","name":"科目子表5","isDdcClass":false},{"id":"174637547751416378","pId":"md__curren","name":"币种子表5","isDdcClass":true},{"id":"387233106831661040","pId":"md__wareho","name":"仓库子表5","isDdcClass":true},{"id":"800336819155305489","pId":"md__batch","name":"批次子表5","isDdcClass":true},{"id":"532161545081198996","pId":"md__workor","name":"工单子表5","isDdcClass":true},{"id":"180964929787657207","pId":"md__mo","name":"生产订单子表5","isDdcClass":false},{"id":"104387068694044246","pId":"md__qc","name":"质检子表5","isDdcClass":true},{"id":"951867710708238357","pId":"md__asset","name":"资产子表5","isDdcClass":true},{"id":"773622844665384461","pId":"md__budget","name":"预算子表5","isDdcClass":true},{"id":"795250781638074121","pId":"md__expens","name":"费用子表5","isDdcClass":true},{"id":"552954092804461280","pId":"md__reimbu","name":"报销子表5","isDdcClass":false},{"id":"330210959592619002","pId":"md__wa","name":"薪资子表5","isDdcClass":true},{"id":"771453129484957917","pId":"md__tbm","name":"考勤子表5","isDdcClass":true},{"id":"923898327731232521","pId":"md__post","name":"岗位子表5","isDdcClass":true},{"id":"529111943937741274","pId":"md__bankac","name":"银行账户子表5","isDdcClass":true},{"id":"950454705306277197","pId":"md__materi","name":"物料明细5","isDdcClass":false},{"id":"159954504685228244","pId":"md__custom","name":"客户明细5","isDdcClass":true},{"id":"995693440690449231","pId":"md__suppli","name":"供应商明细5","isDdcClass":true},{"id":"331904496816908984","pId":"md__saleor","name":"销售订单明细5","isDdcClass":true},{"id":"346023223590584861","pId":"md__purcha","name":"采购订单明细5","isDdcClass":true},{"id":"756190868501959897","pId":"md__stock","name":"库存明细5","isDdcClass":false},{"id":"618781791768182364","pId":"md__org","name":"组织明细5","isDdcClass":true},{"id":"855117843995458437","pId":"md__psndoc","name":"人员明细5","isDdcClass":true},{"id":"547376805415702851","pId":"md__dept","name":"部门明细5","isDdcClass":true},{"id":"361992993394385974","pId":"md__projec","name":"项目明细5","isDdcClass":true},{"id":"170924755764516921","pId":"md__contra","name":"合同明细5","isDdcClass":false},{"id":"490783814740804298","pId":"md__invoic","name":"发票明细5","isDdcClass":true},{"id":"412229395336749429","pId":"md__gather","name":"收款单明细5","isDdcClass":true},{"id":"171395660779066103","pId":"md__paybil","name":"付款单明细5","isDdcClass":true},{"id":"327962679011418525","pId":"md__vouche","name":"凭证明细5","isDdcClass":true},{"id":"159816025599145091","pId":"md__accoun","name":"科目明细5","isDdcClass":false},{"id":"534593153856822960","pId":"md__curren","name":"币种明细5","isDdcClass":true},{"id":"309504745638860711","pId":"md__wareho","name":"仓库明细5","isDdcClass":true},{"id":"900264237604213726","pId":"md__batch","name":"批次明细5","isDdcClass":true},{"id":"913872259371791949","pId":"md__workor","name":"工单明细5","isDdcClass":true},{"id":"779430648989461242","pId":"md__mo","name":"生产订单明细5","isDdcClass":false},{"id":"160773617075052186","pId":"md__qc","name":"质检明细5","isDdcClass":true},{"id":"449905891141994147","pId":"md__asset","name":"资产明细5","isDdcClass":true},{"id":"136292100223351577","pId":"md__budget","name":"预算明细5","isDdcClass":true},{"id":"907596047865801575","pId":"md__expens","name":"费用明细5","isDdcClass":true},{"id":"620485871883077160","pId":"md__reimbu","name":"报销明细5","isDdcClass":false},{"id":"974482843385798512","pId":"md__wa","name":"薪资明细5","isDdcClass":true},{"id":"643159150846671900","pId":"md__tbm","name":"考勤明细5","isDdcClass":true},{"id":"751890737261865598","pId":"md__post","name":"岗位明细5","isDdcClass":true},{"id":"558505786130451812","pId":"md__bankac","name":"银行账户明细5","isDdcClass":true},{"id":"743095736129383020","pId":"md__materi","name":"物料档案5","isDdcClass":false},{"id":"208990704339236129","pId":"md__custom","name":"客户档案5","isDdcClass":true},{"id":"574956977934624899","pId":"md__suppli","name":"供应商档案5","isDdcClass":true},{"id":"493136938475186932","pId":"md__saleor","name":"销售订单档案5","isDdcClass":true},{"id":"220006022811280013","pId":"md__purcha","name":"采购订单档案5","isDdcClass":true},{"id":"490325710905407561","pId":"md__stock","name":"库存档案5","isDdcClass":false},{"id":"787515767100820719","pId":"md__org","name":"组织档案5","isDdcClass":true},{"id":"564842147360058544","pId":"md__psndoc","name":"人员档案5","isDdcClass":true},{"id":"158818782054399072","pId":"md__dept","name":"部门档案5","isDdcClass":true},{"id":"657384089909545753","pId":"md__projec","name":"项目档案5","isDdcClass":true},{"id":"299912205281227294","pId":"md__contra","name":"合同档案5","isDdcClass":false},{"id":"441834555975062799","pId":"md__invoic","name":"发票档案5","isDdcClass":true},{"id":"494403115213117170","pId":"md__gather","name":"收款单档案5","isDdcClass":true},{"id":"330496574695962594","pId":"md__paybil","name":"付款单档案5","isDdcClass":true},{"id":"342706265577404150","pId":"md__vouche","name":"凭证档案5","isDdcClass":true},{"id":"964528781741824419","pId":"md__accoun","name":"科目档案5","isDdcClass":false},{"id":"272386921754492755","pId":"md__curren","name":"币种档案5","isDdcClass":true},{"id":"160448308312888903","pId":"md__wareho","name":"仓库档案5","isDdcClass":true},{"id":"198478434487210157","pId":"md__batch","name":"批次档案5","isDdcClass":true},{"id":"536709797058195058","pId":"md__workor","name":"工单档案5","isDdcClass":true},{"id":"156968973503456624","pId":"md__mo","name":"生产订单档案5","isDdcClass":false},{"id":"884746203811473506","pId":"md__qc","name":"质检档案5","isDdcClass":true},{"id":"169787505004325575","pId":"md__asset","name":"资产档案5","isDdcClass":true},{"id":"722281560412464520","pId":"md__budget","name":"预算档案5","isDdcClass":true},{"id":"439979400712744448","pId":"md__expens","name":"费用档案5","isDdcClass":true},{"id":"316074430719721522","pId":"md__reimbu","name":"报销档案5","isDdcClass":false},{"id":"795306524442701211","pId":"md__wa","name":"薪资档案5","isDdcClass":true},{"id":"691039297562634157","pId":"md__tbm","name":"考勤档案5","isDdcClass":true},{"id":"559012349711478329","pId":"md__post","name":"岗位档案5","isDdcClass":true},{"id":"656315928011782373","pId":"md__bankac","name":"银行账户档案5","isDdcClass":true},{"id":"954300747248432244","pId":"md__materi","name":"物料表头5","isDdcClass":false},{"id":"247254849102625146","pId":"md__custom","name":"客户表头5","isDdcClass":true},{"id":"215521795112965815","pId":"md__suppli","name":"供应商表头5","isDdcClass":true},{"id":"324209854052358026","pId":"md__saleor","name":"销售订单表头5","isDdcClass":true},{"id":"565912822347954326","pId":"md__purcha","name":"采购订单表头5","isDdcClass":true},{"id":"521237435870814643","pId":"md__stock","name":"库存表头5","isDdcClass":false},{"id":"640709070691451910","pId":"md__org","name":"组织表头5","isDdcClass":true},{"id":"244186203859002133","pId":"md__psndoc","name":"人员表头5","isDdcClass":true},{"id":"724211937039825476","pId":"md__dept","name":"部门表头5","isDdcClass":true},{"id":"567132190418714932","pId":"md__projec","name":"项目表头5","isDdcClass":true},{"id":"137655219458157615","pId":"md__contra","name":"合同表头5","isDdcClass":false},{"id":"488232653982555860","pId":"md__invoic","name":"发票表头5","isDdcClass":true},{"id":"814065231727442634","pId":"md__gather","name":"收款单表头5","isDdcClass":true},{"id":"647054201371121967","pId":"md__paybil","name":"付款单表头5","isDdcClass":true},{"id":"427163346640654261","pId":"md__vouche","name":"凭证表头5","isDdcClass":true},{"id":"846324341043488244","pId":"md__accoun","name":"科目表头5","isDdcClass":false},{"id":"214447121660186795","pId":"md__curren","name":"币种表头5","isDdcClass":true},{"id":"407451145171842718","pId":"md__wareho","name":"仓库表头5","isDdcClass":true},{"id":"130272658934619345","pId":"md__batch","name":"批次表头5","isDdcClass":true},{"id":"713760211318968047","pId":"md__workor","name":"工单表头5","isDdcClass":true},{"id":"600676437197077551","pId":"md__mo","name":"生产订单表头5","isDdcClass":false},{"id":"806855344950097029","pId":"md__qc","name":"质检表头5","isDdcClass":true},{"id":"458812240519403703","pId":"md__asset","name":"资产表头5","isDdcClass":true},{"id":"425540816569525060","pId":"md__budget","name":"预算表头5","isDdcClass":true},{"id":"241478306608846200","pId":"md__expens","name":"费用表头5","isDdcClass":true},{"id":"674642602665095827","pId":"md__reimbu","name":"报销表头5","isDdcClass":false},{"id":"570110011750832138","pId":"md__wa","name":"薪资表头5","isDdcClass":true},{"id":"825097863420901577","pId":"md__tbm","name":"考勤表头5","isDdcClass":true},{"id":"387370764181130209","pId":"md__post","name":"岗位表头5","isDdcClass":true},{"id":"927337006013592437","pId":"md__bankac","name":"银行账户表头5","isDdcClass":true},{"id":"425250485953936914","pId":"md__materi","name":"物料表体5","isDdcClass":false},{"id":"701421371458089834","pId":"md__custom","name":"客户表体5","isDdcClass":true},{"id":"732392012384513872","pId":"md__suppli","name":"供应商表体5","isDdcClass":true},{"id":"464943204086320050","pId":"md__saleor","name":"销售订单表体5","isDdcClass":true},{"id":"302843026675128793","pId":"md__purcha","name":"采购订单表体5","isDdcClass":true},{"id":"481847628089817303","pId":"md__stock","name":"库存表体5","isDdcClass":false},{"id":"884886915296240016","pId":"md__org","name":"组织表体5","isDdcClass":true},{"id":"443639282713711266","pId":"md__psndoc","name":"人员表体5","isDdcClass":true},{"id":"949199001165512169","pId":"md__dept","name":"部门表体5","isDdcClass":true},{"id":"627449967633246789","pId":"md__projec","name":"项目表体5","isDdcClass":true},{"id":"952060701398670252","pId":"md__contra","name":"合同表体5","isDdcClass":false},{"id":"332099476420235994","pId":"md__invoic","name":"发票表体5","isDdcClass":true},{"id":"431314573158543663","pId":"md__gather","name":"收款单表体5","isDdcClass":true},{"id":"343416245731623924","pId":"md__paybil","name":"付款单表体5","isDdcClass":true},{"id":"890556295474501100","pId":"md__vouche","name":"凭证表体5","isDdcClass":true},{"id":"930726608310519918","pId":"md__accoun","name":"科目表体5","isDdcClass":false},{"id":"492686213257424084","pId":"md__curren","name":"币种表体5","isDdcClass":true},{"id":"170755395064105080","pId":"md__wareho","name":"仓库表体5","isDdcClass":true},{"id":"246456131800486376","pId":"md__batch","name":"批次表体5","isDdcClass":true},{"id":"137496513732137025","pId":"md__workor","name":"工单表体5","isDdcClass":true},{"id":"573412732207449808","pId":"md__mo","name":"生产订单表体5","isDdcClass":false},{"id":"435815549969793111","pId":"md__qc","name":"质检表体5","isDdcClass":true},{"id":"189137304553246492","pId":"md__asset","name":"资产表体5","isDdcClass":true},{"id":"522196430078067749","pId":"md__budget","name":"预算表体5","isDdcClass":true},{"id":"886875275766303019","pId":"md__expens","name":"费用表体5","isDdcClass":true},{"id":"560056693008606535","pId":"md__reimbu","name":"报销表体5","isDdcClass":false},{"id":"470577388381820209","pId":"md__wa","name":"薪资表体5","isDdcClass":true},{"id":"562233678837140784","pId":"md__tbm","name":"考勤表体5","isDdcClass":true},{"id":"843595510408251195","pId":"md__post","name":"岗位表体5","isDdcClass":true},{"id":"606133760368813086","pId":"md__bankac","name":"银行账户表体5","isDdcClass":true},{"id":"512544246739514835","pId":"md__materi","name":"物料分类5","isDdcClass":false},{"id":"262605448857694624","pId":"md__custom","name":"客户分类5","isDdcClass":true},{"id":"229855057773288160","pId":"md__suppli","name":"供应商分类5","isDdcClass":true},{"id":"572838905826803777","pId":"md__saleor","name":"销售订单分类5","isDdcClass":true},{"id":"980669647851952151","pId":"md__purcha","name":"采购订单分类5","isDdcClass":true},{"id":"437299334060620348","pId":"md__stock","name":"库存分类5","isDdcClass":false},{"id":"643976309864469443","pId":"md__org","name":"组织分类5","isDdcClass":true},{"id":"402443606596197599","pId":"md__psndoc","name":"人员分类5","isDdcClass":true},{"id":"762447391040107707","pId":"md__dept","name":"部门分类5","isDdcClass":true},{"id":"467576001966991105","pId":"md__projec","name":"项目分类5","isDdcClass":true},{"id":"933862421363635295","pId":"md__contra","name":"合同分类5","isDdcClass":false},{"id":"467644416059195888","pId":"md__invoic","name":"发票分类5","isDdcClass":true},{"id":"797504621094666896","pId":"md__gather","name":"收款单分类5","isDdcClass":true},{"id":"390665844168471875","pId":"md__paybil","name":"付款单分类5","isDdcClass":true},{"id":"914445830500176016","pId":"md__vouche","name":"凭证分类5","isDdcClass":true},{"id":"661390242231814886","pId":"md__accoun","name":"科目分类5","isDdcClass":false},{"id":"450018681759560714","pId":"md__curren","name":"币种分类5","isDdcClass":true},{"id":"475140349852462148","pId":"md__wareho","name":"仓库分类5","isDdcClass":true},{"id":"951790325530001229","pId":"md__batch","name":"批次分类5","isDdcClass":true},{"id":"749245392529621395","pId":"md__workor","name":"工单分类5","isDdcClass":true},{"id":"148390658047312566","pId":"md__mo","name":"生产订单分类5","isDdcClass":false},{"id":"103052967778266984","pId":"md__qc","name":"质检分类5","isDdcClass":true},{"id":"693596294380928625","pId":"md__asset","name":"资产分类5","isDdcClass":true},{"id":"246730548977482126","pId":"md__budget","name":"预算分类5","isDdcClass":true},{"id":"190869094978710018","pId":"md__expens","name":"费用分类5","isDdcClass":true},{"id":"760793152062718516","pId":"md__reimbu","name":"报销分类5","isDdcClass":false},{"id":"666932873416392182","pId":"md__wa","name":"薪资分类5","isDdcClass":true},{"id":"707769513252547842","pId":"md__tbm","name":"考勤分类5","isDdcClass":true},{"id":"612111757329304946","pId":"md__post","name":"岗位分类5","isDdcClass":true},{"id":"669883788755461719","pId":"md__bankac","name":"银行账户分类5","isDdcClass":true},{"id":"880786712937178681","pId":"md__materi","name":"物料关系5","isDdcClass":false},{"id":"493642387060509783","pId":"md__custom","name":"客户关系5","isDdcClass":true},{"id":"233884236387689037","pId":"md__suppli","name":"供应商关系5","isDdcClass":true},{"id":"460211848711474310","pId":"md__saleor","name":"销售订单关系5","isDdcClass":true},{"id":"570820425584096750","pId":"md__purcha","name":"采购订单关系5","isDdcClass":true},{"id":"143966577907881231","pId":"md__stock","name":"库存关系5","isDdcClass":false},{"id":"783663993469115387","pId":"md__org","name":"组织关系5","isDdcClass":true},{"id":"923894144012541504","pId":"md__psndoc","name":"人员关系5","isDdcClass":true},{"id":"912430201076854226","pId":"md__dept","name":"部门关系5","isDdcClass":true},{"id":"284764002436014794","pId":"md__projec","name":"项目关系5","isDdcClass":true},{"id":"189649457891552047","pId":"md__contra","name":"合同关系5","isDdcClass":false},{"id":"256119284401856819","pId":"md__invoic","name":"发票关系5","isDdcClass":true},{"id":"674110727286939084","pId":"md__gather","name":"收款单关系5","isDdcClass":true},{"id":"686231454972966320","pId":"md__paybil","name":"付款单关系5","isDdcClass":true},{"id":"600977286108428390","pId":"md__vouche","name":"凭证关系5","isDdcClass":true},{"id":"558471129653201129","pId":"md__accoun","name":"科目关系5","isDdcClass":false},{"id":"749369607421099904","pId":"md__curren","name":"币种关系5","isDdcClass":true},{"id":"644462878549447978","pId":"md__wareho","name":"仓库关系5","isDdcClass":true},{"id":"114222782472407663","pId":"md__batch","name":"批次关系5","isDdcClass":true},{"id":"901302123500848216","pId":"md__workor","name":"工单关系5","isDdcClass":true},{"id":"885637048199903419","pId":"md__mo","name":"生产订单关系5","isDdcClass":false},{"id":"588247572881734178","pId":"md__qc","name":"质检关系5","isDdcClass":true},{"id":"780920421541335575","pId":"md__asset","name":"资产关系5","isDdcClass":true},{"id":"330426476633231951","pId":"md__budget","name":"预算关系5","isDdcClass":true},{"id":"224252966621731218","pId":"md__expens","name":"费用关系5","isDdcClass":true},{"id":"145307319288428263","pId":"md__reimbu","name":"报销关系5","isDdcClass":false},{"id":"852216518112009334","pId":"md__wa","name":"薪资关系5","isDdcClass":true},{"id":"498639977254859898","pId":"md__tbm","name":"考勤关系5","isDdcClass":true},{"id":"273860710465527706","pId":"md__post","name":"岗位关系5","isDdcClass":true},{"id":"266836738867537417","pId":"md__bankac","name":"银行账户关系5","isDdcClass":true},{"id":"222528825941575141","pId":"md__materi","name":"物料日志5","isDdcClass":false},{"id":"742812094610618160","pId":"md__custom","name":"客户日志5","isDdcClass":true},{"id":"147993341308227889","pId":"md__suppli","name":"供应商日志5","isDdcClass":true},{"id":"312260432837186911","pId":"md__saleor","name":"销售订单日志5","isDdcClass":true},{"id":"940776381321282001","pId":"md__purcha","name":"采购订单日志5","isDdcClass":true},{"id":"615546150868649161","pId":"md__stock","name":"库存日志5","isDdcClass":false},{"id":"954933903616069198","pId":"md__org","name":"组织日志5","isDdcClass":true},{"id":"253018186980907597","pId":"md__psndoc","name":"人员日志5","isDdcClass":true},{"id":"640842361792438645","pId":"md__dept","name":"部门日志5","isDdcClass":true},{"id":"578331340582955324","pId":"md__projec","name":"项目日志5","isDdcClass":true},{"id":"689268248104377094","pId":"md__contra","name":"合同日志5","isDdcClass":false},{"id":"491404539095434109","pId":"md__invoic","name":"发票日志5","isDdcClass":true},{"id":"859406388933215341","pId":"md__gather","name":"收款单日志5","isDdcClass":true},{"id":"772892768013411729","pId":"md__paybil","name":"付款单日志5","isDdcClass":true},{"id":"701747844354690793","pId":"md__vouche","name":"凭证日志5","isDdcClass":true},{"id":"625126684895359331","pId":"md__accoun","name":"科目日志5","isDdcClass":false},{"id":"703769648995056032","pId":"md__curren","name":"币种日志5","isDdcClass":true},{"id":"230331579115368469","pId":"md__wareho","name":"仓库日志5","isDdcClass":true},{"id":"300586848343784161","pId":"md__batch","name":"批次日志5","isDdcClass":true},{"id":"959671191265795831","pId":"md__workor","name":"工单日志5","isDdcClass":true},{"id":"114852423375256437","pId":"md__mo","name":"生产订单日志5","isDdcClass":false},{"id":"492706273527769187","pId":"md__qc","name":"质检日志5","isDdcClass":true},{"id":"829221986517854477","pId":"md__asset","name":"资产日志5","isDdcClass":true},{"id":"219114853076608311","pId":"md__budget","name":"预算日志5","isDdcClass":true},{"id":"424639061002230440","pId":"md__expens","name":"费用日志5","isDdcClass":true},{"id":"865160909931820206","pId":"md__reimbu","name":"报销日志5","isDdcClass":false},{"id":"988902904522057148","pId":"md__wa","name":"薪资日志5","isDdcClass":true},{"id":"602535113454918246","pId":"md__tbm","name":"考勤日志5","isDdcClass":true},{"id":"816272280178596315","pId":"md__post","name":"岗位日志5","isDdcClass":true},{"id":"120296754583186113","pId":"md__bankac","name":"银行账户日志5","isDdcClass":true},{"id":"891029777362852085","pId":"md__materi","name":"物料扩展5","isDdcClass":false},{"id":"440802365884881340","pId":"md__custom","name":"客户扩展5","isDdcClass":true},{"id":"423368946769659065","pId":"md__suppli","name":"供应商扩展5","isDdcClass":true},{"id":"997639671651441644","pId":"md__saleor","name":"销售订单扩展5","isDdcClass":true},{"id":"830022782333949674","pId":"md__purcha","name":"采购订单扩展5","isDdcClass":true},{"id":"297860885983508920","pId":"md__stock","name":"库存扩展5","isDdcClass":false},{"id":"259521233374192502","pId":"md__org","name":"组织扩展5","isDdcClass":true},{"id":"279823544553940171","pId":"md__psndoc","name":"人员扩展5","isDdcClass":true},{"id":"602608541700252403","pId":"md__dept","name":"部门扩展5","isDdcClass":true},{"id":"630347685379384484","pId":"md__projec","name":"项目扩展5","isDdcClass":true},{"id":"853364581844957535","pId":"md__contra","name":"合同扩展5","isDdcClass":false},{"id":"476049783937553960","pId":"md__invoic","name":"发票扩展5","isDdcClass":true},{"id":"661262364750198622","pId":"md__gather","name":"收款单扩展5","isDdcClass":true},{"id":"970216489993704032","pId":"md__paybil","name":"付款单扩展5","isDdcClass":true},{"id":"880557090923489408","pId":"md__vouche","name":"凭证扩展5","isDdcClass":true},{"id":"287399384655119486","pId":"md__accoun","name":"科目扩展5","isDdcClass":false},{"id":"795714689424280030","pId":"md__curren","name":"币种扩展5","isDdcClass":true},{"id":"461825644787852564","pId":"md__wareho","name":"仓库扩展5","isDdcClass":true},{"id":"212820826198990365","pId":"md__batch","name":"批次扩展5","isDdcClass":true},{"id":"990692460687563698","pId":"md__workor","name":"工单扩展5","isDdcClass":true},{"id":"571550211107925967","pId":"md__mo","name":"生产订单扩展5","isDdcClass":false},{"id":"528981034027089370","pId":"md__qc","name":"质检扩展5","isDdcClass":true},{"id":"395350745845358482","pId":"md__asset","name":"资产扩展5","isDdcClass":true},{"id":"778514108847584036","pId":"md__budget","name":"预算扩展5","isDdcClass":true},{"id":"893775348386287759","pId":"md__expens","name":"费用扩展5","isDdcClass":true},{"id":"486456578635448091","pId":"md__reimbu","name":"报销扩展5","isDdcClass":false},{"id":"692974012592166818","pId":"md__wa","name":"薪资扩展5","isDdcClass":true},{"id":"366641401311276525","pId":"md__tbm","name":"考勤扩展5","isDdcClass":true},{"id":"394749506139093268","pId":"md__post","name":"岗位扩展5","isDdcClass":true},{"id":"271358128549644051","pId":"md__bankac","name":"银行账户扩展5","isDdcClass":true},{"id":"927892141248505378","pId":"md__materi","name":"物料主表6","isDdcClass":false},{"id":"685146783269313921","pId":"md__custom","name":"客户主表6","isDdcClass":true},{"id":"454588863344845364","pId":"md__suppli","name":"供应商主表6","isDdcClass":true},{"id":"685309722646045082","pId":"md__saleor","name":"销售订单主表6","isDdcClass":true},{"id":"805979563289483540","pId":"md__purcha","name":"采购订单主表6","isDdcClass":true},{"id":"154349547397155379","pId":"md__stock","name":"库存主表6","isDdcClass":false},{"id":"899287867193774098","pId":"md__org","name":"组织主表6","isDdcClass":true},{"id":"130541517931555384","pId":"md__psndoc","name":"人员主表6","isDdcClass":true},{"id":"702777485727815855","pId":"md__dept","name":"部门主表6","isDdcClass":true},{"id":"645448402131642669","pId":"md__projec","name":"项目主表6","isDdcClass":true},{"id":"875512701314170846","pId":"md__contra","name":"合同主表6","isDdcClass":false},{"id":"212469837518832989","pId":"md__invoic","name":"发票主表6","isDdcClass":true},{"id":"776262064125018304","pId":"md__gather","name":"收款单主表6","isDdcClass":true},{"id":"900605925389208450","pId":"md__paybil","name":"付款单主表6","isDdcClass":true},{"id":"866069494855803752","pId":"md__vouche","name":"凭证主表6","isDdcClass":true},{"id":"458607469041005429","pId":"md__accoun","name":"科目主表6","isDdcClass":false},{"id":"698318466422371027","pId":"md__curren","name":"币种主表6","isDdcClass":true},{"id":"333619180017526081","pId":"md__wareho","name":"仓库主表6","isDdcClass":true},{"id":"310970358412826191","pId":"md__batch","name":"批次主表6","isDdcClass":true},{"id":"319456400994825597","pId":"md__workor","name":"工单主表6","isDdcClass":true},{"id":"960881162847178076","pId":"md__mo","name":"生产订单主表6","isDdcClass":false},{"id":"232809635441825496","pId":"md__qc","name":"质检主表6","isDdcClass":true},{"id":"108726914429622282","pId":"md__asset","name":"资产主表6","isDdcClass":true},{"id":"989397547131388214","pId":"md__budget","name":"预算主表6","isDdcClass":true},{"id":"824310347004200444","pId":"md__expens","name":"费用主表6","isDdcClass":true},{"id":"963013497336990125","pId":"md__reimbu","name":"报销主表6","isDdcClass":false},{"id":"185778925348715144","pId":"md__wa","name":"薪资主表6","isDdcClass":true},{"id":"836031507898152711","pId":"md__tbm","name":"考勤主表6","isDdcClass":true},{"id":"409519871748561847","pId":"md__post","name":"岗位主表6","isDdcClass":true},{"id":"590230099563177716","pId":"md__bankac","name":"银行账户主表6","isDdcClass":true},{"id":"110441350047934277","pId":"md__materi","name":"物料子表6","isDdcClass":false},{"id":"278989033214671180","pId":"md__custom","name":"客户子表6","isDdcClass":true},{"id":"703369786311500315","pId":"md__suppli","name":"供应商子表6","isDdcClass":true},{"id":"795916983919215774","pId":"md__saleor","name":"销售订单子表6","isDdcClass":true},{"id":"349376086196601649","pId":"md__purcha","name":"采购订单子表6","isDdcClass":true},{"id":"505001953550903102","pId":"md__stock","name":"库存子表6","isDdcClass":false},{"id":"483581014079666531","pId":"md__org","name":"组织子表6","isDdcClass":true},{"id":"484508400498837976","pId":"md__psndoc","name":"人员子表6","isDdcClass":true},{"id":"971683849975407796","pId":"md__dept","name":"部门子表6","isDdcClass":true},{"id":"277170883726259683","pId":"md__projec","name":"项目子表6","isDdcClass":true},{"id":"190919176191433278","pId":"md__contra","name":"合同子表6","isDdcClass":false},{"id":"400709228272071182","pId":"md__invoic","name":"发票子表6","isDdcClass":true},{"id":"776115158530247066","pId":"md__gather","name":"收款单子表6","isDdcClass":true},{"id":"128138209468665655","pId":"md__paybil","name":"付款单子表6","isDdcClass":true},{"id":"993770855043792798","pId":"md__vouche","name":"凭证子表6","isDdcClass":true},{"id":"407991977888931918","pId":"md__accoun","name":"科目子表6","isDdcClass":false},{"id":"546636287698715949","pId":"md__curren","name":"币种子表6","isDdcClass":true},{"id":"590704417870088562","pId":"md__wareho","name":"仓库子表6","isDdcClass":true},{"id":"815908922651456026","pId":"md__batch","name":"批次子表6","isDdcClass":true},{"id":"177474122530051602","pId":"md__workor","name":"工单子表6","isDdcClass":true},{"id":"990680329287686852","pId":"md__mo","name":"生产订单子表6","isDdcClass":false},{"id":"151206325691227437","pId":"md__qc","name":"质检子表6","isDdcClass":true},{"id":"623945776163701216","pId":"md__asset","name":"资产子表6","isDdcClass":true},{"id":"895689032125666262","pId":"md__budget","name":"预算子表6","isDdcClass":true},{"id":"509437227356546520","pId":"md__expens","name":"费用子表6","isDdcClass":true},{"id":"603889094182365564","pId":"md__reimbu","name":"报销子表6","isDdcClass":false},{"id":"385724158955418764","pId":"md__wa","name":"薪资子表6","isDdcClass":true},{"id":"553011735684570247","pId":"md__tbm","name":"考勤子表6","isDdcClass":true},{"id":"182322242447625139","pId":"md__post","name":"岗位子表6","isDdcClass":true},{"id":"106342347613978829","pId":"md__bankac","name":"银行账户子表6","isDdcClass":true},{"id":"749446431362660454","pId":"md__materi","name":"物料明细6","isDdcClass":false},{"id":"995737327794640604","pId":"md__custom","name":"客户明细6","isDdcClass":true},{"id":"169119101368200969","pId":"md__suppli","name":"供应商明细6","isDdcClass":true},{"id":"243421841993382759","pId":"md__saleor","name":"销售订单明细6","isDdcClass":true},{"id":"972543929045939315","pId":"md__purcha","name":"采购订单明细6","isDdcClass":true},{"id":"152556048976973703","pId":"md__stock","name":"库存明细6","isDdcClass":false},{"id":"879298615282372060","pId":"md__org","name":"组织明细6","isDdcClass":true},{"id":"884922397559481837","pId":"md__psndoc","name":"人员明细6","isDdcClass":true},{"id":"806974256852293975","pId":"md__dept","name":"部门明细6","isDdcClass":true},{"id":"545485962447833957","pId":"md__projec","name":"项目明细6","isDdcClass":true},{"id":"429626505800002413","pId":"md__contra","name":"合同明细6","isDdcClass":false},{"id":"779953773540865903","pId":"md__invoic","name":"发票明细6","isDdcClass":true},{"id":"444739100874970086","pId":"md__gather","name":"收款单明细6","isDdcClass":true},{"id":"762576758837893815","pId":"md__paybil","name":"付款单明细6","isDdcClass":true},{"id":"950162317252769765","pId":"md__vouche","name":"凭证明细6","isDdcClass":true},{"id":"988133688519604154","pId":"md__accoun","name":"科目明细6","isDdcClass":false},{"id":"517951025475975685","pId":"md__curren","name":"币种明细6","isDdcClass":true},{"id":"362545561708496564","pId":"md__wareho","name":"仓库明细6","isDdcClass":true},{"id":"123086182714532301","pId":"md__batch","name":"批次明细6","isDdcClass":true},{"id":"807028220098272844","pId":"md__workor","name":"工单明细6","isDdcClass":true},{"id":"371296712066737233","pId":"md__mo","name":"生产订单明细6","isDdcClass":false},{"id":"751068036922507008","pId":"md__qc","name":"质检明细6","isDdcClass":true},{"id":"529090262681251045","pId":"md__asset","name":"资产明细6","isDdcClass":true},{"id":"372286624503499569","pId":"md__budget","name":"预算明细6","isDdcClass":true},{"id":"662704765659645269","pId":"md__expens","name":"费用明细6","isDdcClass":true},{"id":"363985485832640416","pId":"md__reimbu","name":"报销明细6","isDdcClass":false},{"id":"762907005404234923","pId":"md__wa","name":"薪资明细6","isDdcClass":true},{"id":"194136845552335623","pId":"md__tbm","name":"考勤明细6","isDdcClass":true},{"id":"655441849700468809","pId":"md__post","name":"岗位明细6","isDdcClass":true},{"id":"929214980091686508","pId":"md__bankac","name":"银行账户明细6","isDdcClass":true},{"id":"681592268782027251","pId":"md__materi","name":"物料档案6","isDdcClass":false},{"id":"596158134694919914","pId":"md__custom","name":"客户档案6","isDdcClass":true},{"id":"559512466842419754","pId":"md__suppli","name":"供应商档案6","isDdcClass":true},{"id":"512739341297559627","pId":"md__saleor","name":"销售订单档案6","isDdcClass":true},{"id":"571789901729834998","pId":"md__purcha","name":"采购订单档案6","isDdcClass":true},{"id":"661762396124290518","pId":"md__stock","name":"库存档案6","isDdcClass":false},{"id":"113992953897833687","pId":"md__org","name":"组织档案6","isDdcClass":true},{"id":"971345057715011002","pId":"md__psndoc","name":"人员档案6","isDdcClass":true},{"id":"977545388577791148","pId":"md__dept","name":"部门档案6","isDdcClass":true},{"id":"712527052980995089","pId":"md__projec","name":"项目档案6","isDdcClass":true},{"id":"840539828205636207","pId":"md__contra","name":"合同档案6","isDdcClass":false},{"id":"346323292585965981","pId":"md__invoic","name":"发票档案6","isDdcClass":true},{"id":"276715306642734516","pId":"md__gather","name":"收款单档案6","isDdcClass":true},{"id":"577349206526296239","pId":"md__paybil","name":"付款单档案6","isDdcClass":true},{"id":"496680627164727211","pId":"md__vouche","name":"凭证档案6","isDdcClass":true},{"id":"343869346851806118","pId":"md__accoun","name":"科目档案6","isDdcClass":false},{"id":"590968681233415149","pId":"md__curren","name":"币种档案6","isDdcClass":true},{"id":"321091574702153633","pId":"md__wareho","name":"仓库档案6","isDdcClass":true},{"id":"573561698778955271","pId":"md__batch","name":"批次档案6","isDdcClass":true},{"id":"237479316673403760","pId":"md__workor","name":"工单档案6","isDdcClass":true},{"id":"402357395304171783","pId":"md__mo","name":"生产订单档案6","isDdcClass":false},{"id":"658414803991850901","pId":"md__qc","name":"质检档案6","isDdcClass":true},{"id":"436154309600626291","pId":"md__asset","name":"资产档案6","isDdcClass":true},{"id":"961282887967937313","pId":"md__budget","name":"预算档案6","isDdcClass":true},{"id":"929583720079359694","pId":"md__expens","name":"费用档案6","isDdcClass":true},{"id":"672361460257702557","pId":"md__reimbu","name":"报销档案6","isDdcClass":false},{"id":"661442383158285023","pId":"md__wa","name":"薪资档案6","isDdcClass":true},{"id":"844243232220902348","pId":"md__tbm","name":"考勤档案6","isDdcClass":true},{"id":"929392205943314486","pId":"md__post","name":"岗位档案6","isDdcClass":true},{"id":"367200656754379112","pId":"md__bankac","name":"银行账户档案6","isDdcClass":true},{"id":"624485709602009723","pId":"md__materi","name":"物料表头6","isDdcClass":false},{"id":"944197758739837443","pId":"md__custom","name":"客户表头6","isDdcClass":true},{"id":"463660783130899516","pId":"md__suppli","name":"供应商表头6","isDdcClass":true},{"id":"519588704040389331","pId":"md__saleor","name":"销售订单表头6","isDdcClass":true},{"id":"218554993517197957","pId":"md__purcha","name":"采购订单表头6","isDdcClass":true},{"id":"791004984996504103","pId":"md__stock","name":"库存表头6","isDdcClass":false},{"id":"466230145691856842","pId":"md__org","name":"组织表头6","isDdcClass":true},{"id":"131406667028448480","pId":"md__psndoc","name":"人员表头6","isDdcClass":true},{"id":"559018984751740792","pId":"md__dept","name":"部门表头6","isDdcClass":true},{"id":"784500538274854803","pId":"md__projec","name":"项目表头6","isDdcClass":true},{"id":"803548846474105798","pId":"md__contra","name":"合同表头6","isDdcClass":false},{"id":"612298829192904273","pId":"md__invoic","name":"发票表头6","isDdcClass":true},{"id":"946777257962173749","pId":"md__gather","name":"收款单表头6","isDdcClass":true},{"id":"405937290365914683","pId":"md__paybil","name":"付款单表头6","isDdcClass":true},{"id":"738199999308280768","pId":"md__vouche","name":"凭证表头6","isDdcClass":true},{"id":"522626722718292791","pId":"md__accoun","name":"科目表头6","isDdcClass":false},{"id":"287469689838875175","pId":"md__curren","name":"币种表头6","isDdcClass":true},{"id":"807898679680603207","pId":"md__wareho","name":"仓库表头6","isDdcClass":true},{"id":"745182021173703120","pId":"md__batch","name":"批次表头6","isDdcClass":true},{"id":"518991565888965759","pId":"md__workor","name":"工单表头6","isDdcClass":true},{"id":"244807067992353500","pId":"md__mo","name":"生产订单表头6","isDdcClass":false},{"id":"778825945197833378","pId":"md__qc","name":"质检表头6","isDdcClass":true},{"id":"647281011684914356","pId":"md__asset","name":"资产表头6","isDdcClass":true},{"id":"864894921206529218","pId":"md__budget","name":"预算表头6","isDdcClass":true},{"id":"608705298199625503","pId":"md__expens","name":"费用表头6","isDdcClass":true},{"id":"513779367257850492","pId":"md__reimbu","name":"报销表头6","isDdcClass":false},{"id":"529905604868974410","pId":"md__wa","name":"薪资表头6","isDdcClass":true},{"id":"992062176150387200","pId":"md__tbm","name":"考勤表头6","isDdcClass":true},{"id":"507235200398200990","pId":"md__post","name":"岗位表头6","isDdcClass":true},{"id":"314598327493741017","pId":"md__bankac","name":"银行账户表头6","isDdcClass":true},{"id":"491173957230266710","pId":"md__materi","name":"物料表体6","isDdcClass":false},{"id":"337474540070024490","pId":"md__custom","name":"客户表体6","isDdcClass":true},{"id":"145577684609910136","pId":"md__suppli","name":"供应商表体6","isDdcClass":true},{"id":"523361455246393923","pId":"md__saleor","name":"销售订单表体6","isDdcClass":true},{"id":"688181996340764449","pId":"md__purcha","name":"采购订单表体6","isDdcClass":true},{"id":"564276837304029726","pId":"md__stock","name":"库存表体6","isDdcClass":false},{"id":"962457705463119334","pId":"md__org","name":"组织表体6","isDdcClass":true},{"id":"485137088774542745","pId":"md__psndoc","name":"人员表体6","isDdcClass":true},{"id":"782864809251691296","pId":"md__dept","name":"部门表体6","isDdcClass":true},{"id":"805647839480212919","pId":"md__projec","name":"项目表体6","isDdcClass":true},{"id":"587045481838990650","pId":"md__contra","name":"合同表体6","isDdcClass":false},{"id":"655280682403731344","pId":"md__invoic","name":"发票表体6","isDdcClass":true},{"id":"129850646075439057","pId":"md__gather","name":"收款单表体6","isDdcClass":true},{"id":"403836845493273131","pId":"md__paybil","name":"付款单表体6","isDdcClass":true},{"id":"974823202259745056","pId":"md__vouche","name":"凭证表体6","isDdcClass":true},{"id":"177667321692971225","pId":"md__accoun","name":"科目表体6","isDdcClass":false},{"id":"504352679137425330","pId":"md__curren","name":"币种表体6","isDdcClass":true},{"id":"359313040403865230","pId":"md__wareho","name":"仓库表体6","isDdcClass":true},{"id":"359292582144089676","pId":"md__batch","name":"批次表体6","isDdcClass":true},{"id":"589475354497892699","pId":"md__workor","name":"工单表体6","isDdcClass":true},{"id":"741384800934557940","pId":"md__mo","name":"生产订单表体6","isDdcClass":false},{"id":"354947812891557678","pId":"md__qc","name":"质检表体6","isDdcClass":true},{"id":"338947241890507403","pId":"md__asset","name":"资产表体6","isDdcClass":true},{"id":"970137476099505296","pId":"md__budget","name":"预算表体6","isDdcClass":true},{"id":"885632603437770515","pId":"md__expens","name":"费用表体6","isDdcClass":true},{"id":"634423278473995126","pId":"md__reimbu","name":"报销表体6","isDdcClass":false},{"id":"367304402250995018","pId":"md__wa","name":"薪资表体6","isDdcClass":true},{"id":"402103582731923802","pId":"md__tbm","name":"考勤表体6","isDdcClass":true},{"id":"672721997814950549","pId":"md__post","name":"岗位表体6","isDdcClass":true},{"id":"465018757918587048","pId":"md__bankac","name":"银行账户表体6","isDdcClass":true},{"id":"454569596627914481","pId":"md__materi","name":"物料分类6","isDdcClass":false},{"id":"141644293656158382","pId":"md__custom","name":"客户分类6","isDdcClass":true},{"id":"259453236108354957","pId":"md__suppli","name":"供应商分类6","isDdcClass":true},{"id":"937955810984098340","pId":"md__saleor","name":"销售订单分类6","isDdcClass":true},{"id":"861689973078473749","pId":"md__purcha","name":"采购订单分类6","isDdcClass":true},{"id":"663228013457394462","pId":"md__stock","name":"库存分类6","isDdcClass":false},{"id":"992579645254135603","pId":"md__org","name":"组织分类6","isDdcClass":true},{"id":"216414643021616655","pId":"md__psndoc","name":"人员分类6","isDdcClass":true},{"id":"208817138169175593","pId":"md__dept","name":"部门分类6","isDdcClass":true},{"id":"907296395451528924","pId":"md__projec","name":"项目分类6","isDdcClass":true},{"id":"840438795886553676","pId":"md__contra","name":"合同分类6","isDdcClass":false},{"id":"758669337575658646","pId":"md__invoic","name":"发票分类6","isDdcClass":true},{"id":"374018841713382113","pId":"md__gather","name":"收款单分类6","isDdcClass":true},{"id":"888281067353838733","pId":"md__paybil","name":"付款单分类6","isDdcClass":true},{"id":"957441781606964237","pId":"md__vouche","name":"凭证分类6","isDdcClass":true},{"id":"178657068488436786","pId":"md__accoun","name":"科目分类6","isDdcClass":false},{"id":"454726245668388747","pId":"md__curren","name":"币种分类6","isDdcClass":true},{"id":"264600586752765919","pId":"md__wareho","name":"仓库分类6","isDdcClass":true},{"id":"946923801090025445","pId":"md__batch","name":"批次分类6","isDdcClass":true},{"id":"609685802392368425","pId":"md__workor","name":"工单分类6","isDdcClass":true},{"id":"887049398244209917","pId":"md__mo","name":"生产订单分类6","isDdcClass":false},{"id":"704477542222189180","pId":"md__qc","name":"质检分类6","isDdcClass":true},{"id":"105678514075197391","pId":"md__asset","name":"资产分类6","isDdcClass":true},{"id":"667347850572789242","pId":"md__budget","name":"预算分类6","isDdcClass":true},{"id":"820709737457614287","pId":"md__expens","name":"费用分类6","isDdcClass":true},{"id":"565104592965609454","pId":"md__reimbu","name":"报销分类6","isDdcClass":false},{"id":"764212695924357315","pId":"md__wa","name":"薪资分类6","isDdcClass":true},{"id":"917258737390421842","pId":"md__tbm","name":"考勤分类6","isDdcClass":true},{"id":"460508736717695963","pId":"md__post","name":"岗位分类6","isDdcClass":true},{"id":"178112550640402508","pId":"md__bankac","name":"银行账户分类6","isDdcClass":true},{"id":"941693484776611538","pId":"md__materi","name":"物料关系6","isDdcClass":false},{"id":"334996225363067004","pId":"md__custom","name":"客户关系6","isDdcClass":true},{"id":"718416350787494431","pId":"md__suppli","name":"供应商关系6","isDdcClass":true},{"id":"697957773647791612","pId":"md__saleor","name":"销售订单关系6","isDdcClass":true},{"id":"554813430493768912","pId":"md__purcha","name":"采购订单关系6","isDdcClass":true},{"id":"260760205066835969","pId":"md__stock","name":"库存关系6","isDdcClass":false},{"id":"698414592159484927","pId":"md__org","name":"组织关系6","isDdcClass":true},{"id":"563825307921728626","pId":"md__psndoc","name":"人员关系6","isDdcClass":true},{"id":"625610005783031906","pId":"md__dept","name":"部门关系6","isDdcClass":true},{"id":"750058660526041693","pId":"md__projec","name":"项目关系6","isDdcClass":true},{"id":"108604887689670684","pId":"md__contra","name":"合同关系6","isDdcClass":false},{"id":"124095689011636993","pId":"md__invoic","name":"发票关系6","isDdcClass":true},{"id":"243881446603456539","pId":"md__gather","name":"收款单关系6","isDdcClass":true},{"id":"141992161595186074","pId":"md__paybil","name":"付款单关系6","isDdcClass":true},{"id":"399873454288713039","pId":"md__vouche","name":"凭证关系6","isDdcClass":true},{"id":"982882636883953998","pId":"md__accoun","name":"科目关系6","isDdcClass":false},{"id":"462533862596250912","pId":"md__curren","name":"币种关系6","isDdcClass":true},{"id":"444631998860724134","pId":"md__wareho","name":"仓库关系6","isDdcClass":true},{"id":"721083313814443454","pId":"md__batch","name":"批次关系6","isDdcClass":true},{"id":"957893918889919966","pId":"md__workor","name":"工单关系6","isDdcClass":true},{"id":"444638082592352596","pId":"md__mo","name":"生产订单关系6","isDdcClass":false},{"id":"953014893251824673","pId":"md__qc","name":"质检关系6","isDdcClass":true},{"id":"480243586364323545","pId":"md__asset","name":"资产关系6","isDdcClass":true},{"id":"875753169270339879","pId":"md__budget","name":"预算关系6","isDdcClass":true},{"id":"821327247261191420","pId":"md__expens","name":"费用关系6","isDdcClass":true},{"id":"136416965574418964","pId":"md__reimbu","name":"报销关系6","isDdcClass":false},{"id":"845509482798364314","pId":"md__wa","name":"薪资关系6","isDdcClass":true},{"id":"675135441638603760","pId":"md__tbm","name":"考勤关系6","isDdcClass":true},{"id":"581778521313513402","pId":"md__post","name":"岗位关系6","isDdcClass":true},{"id":"942205152779780591","pId":"md__bankac","name":"银行账户关系6","isDdcClass":true},{"id":"390666138145077207","pId":"md__materi","name":"物料日志6","isDdcClass":false},{"id":"768501356805056822","pId":"md__custom","name":"客户日志6","isDdcClass":true},{"id":"114946524062202711","pId":"md__suppli","name":"供应商日志6","isDdcClass":true},{"id":"706493026705329486","pId":"md__saleor","name":"销售订单日志6","isDdcClass":true},{"id":"377582787498562292","pId":"md__purcha","name":"采购订单日志6","isDdcClass":true},{"id":"171222590731921054","pId":"md__stock","name":"库存日志6","isDdcClass":false},{"id":"903255892633151579","pId":"md__org","name":"组织日志6","isDdcClass":true},{"id":"112093529824564353","pId":"md__psndoc","name":"人员日志6","isDdcClass":true},{"id":"975771269795266893","pId":"md__dept","name":"部门日志6","isDdcClass":true},{"id":"151927449822320674","pId":"md__projec","name":"项目日志6","isDdcClass":true},{"id":"148145175346537085","pId":"md__contra","name":"合同日志6","isDdcClass":false},{"id":"423880306078257510","pId":"md__invoic","name":"发票日志6","isDdcClass":true},{"id":"964120891379260770","pId":"md__gather","name":"收款单日志6","isDdcClass":true},{"id":"658387358883210631","pId":"md__paybil","name":"付款单日志6","isDdcClass":true},{"id":"834032859952765681","pId":"md__vouche","name":"凭证日志6","isDdcClass":true},{"id":"146300307770470359","pId":"md__accoun","name":"科目日志6","isDdcClass":false},{"id":"288993206037895092","pId":"md__curren","name":"币种日志6","isDdcClass":true},{"id":"438612336390323985","pId":"md__wareho","name":"仓库日志6","isDdcClass":true},{"id":"950415164705571919","pId":"md__batch","name":"批次日志6","isDdcClass":true},{"id":"339990300498592744","pId":"md__workor","name":"工单日志6","isDdcClass":true},{"id":"821491925746690195","pId":"md__mo","name":"生产订单日志6","isDdcClass":false},{"id":"589742394021969621","pId":"md__qc","name":"质检日志6","isDdcClass":true},{"id":"917924693667940900","pId":"md__asset","name":"资产日志6","isDdcClass":true},{"id":"253868427052239240","pId":"md__budget","name":"预算日志6","isDdcClass":true},{"id":"360854411499599536","pId":"md__expens","name":"费用日志6","isDdcClass":true},{"id":"990686709503569798","pId":"md__reimbu","name":"报销日志6","isDdcClass":false},{"id":"836337306653814527","pId":"md__wa","name":"薪资日志6","isDdcClass":true},{"id":"944659010099215108","pId":"md__tbm","name":"考勤日志6","isDdcClass":true},{"id":"803112441020247914","pId":"md__post","name":"岗位日志6","isDdcClass":true},{"id":"225613972273322796","pId":"md__bankac","name":"银行账户日志6","isDdcClass":true},{"id":"634345201845017140","pId":"md__materi","name":"物料扩展6","isDdcClass":false},{"id":"225400355807677237","pId":"md__custom","name":"客户扩展6","isDdcClass":true},{"id":"699615979767140074","pId":"md__suppli","name":"供应商扩展6","isDdcClass":true},{"id":"809376319327335467","pId":"md__saleor","name":"销售订单扩展6","isDdcClass":true},{"id":"834367672240694033","pId":"md__purcha","name":"采购订单扩展6","isDdcClass":true},{"id":"814438722459086060","pId":"md__stock","name":"库存扩展6","isDdcClass":false},{"id":"102093586060642789","pId":"md__org","name":"组织扩展6","isDdcClass":true},{"id":"527328266846709529","pId":"md__psndoc","name":"人员扩展6","isDdcClass":true},{"id":"768206053985369852","pId":"md__dept","name":"部门扩展6","isDdcClass":true},{"id":"719199914792318337","pId":"md__projec","name":"项目扩展6","isDdcClass":true},{"id":"632113786510884096","pId":"md__contra","name":"合同扩展6","isDdcClass":false},{"id":"731908815222955003","pId":"md__invoic","name":"发票扩展6","isDdcClass":true},{"id":"698719680292537415","pId":"md__gather","name":"收款单扩展6","isDdcClass":true},{"id":"241682893671443379","pId":"md__paybil","name":"付款单扩展6","isDdcClass":true},{"id":"319697151892117851","pId":"md__vouche","name":"凭证扩展6","isDdcClass":true},{"id":"218546766083662773","pId":"md__accoun","name":"科目扩展6","isDdcClass":false},{"id":"728311374527995160","pId":"md__curren","name":"币种扩展6","isDdcClass":true},{"id":"500535641157641822","pId":"md__wareho","name":"仓库扩展6","isDdcClass":true},{"id":"154047675209583165","pId":"md__batch","name":"批次扩展6","isDdcClass":true},{"id":"600683890721551988","pId":"md__workor","name":"工单扩展6","isDdcClass":true},{"id":"368059560106433626","pId":"md__mo","name":"生产订单扩展6","isDdcClass":false},{"id":"634524821065514651","pId":"md__qc","name":"质检扩展6","isDdcClass":true},{"id":"345763027477110507","pId":"md__asset","name":"资产扩展6","isDdcClass":true},{"id":"897732587691825613","pId":"md__budget","name":"预算扩展6","isDdcClass":true},{"id":"503172344317164288","pId":"md__expens","name":"费用扩展6","isDdcClass":true},{"id":"498119327763113233","pId":"md__reimbu","name":"报销扩展6","isDdcClass":false},{"id":"677966353413085937","pId":"md__wa","name":"薪资扩展6","isDdcClass":true},{"id":"479510763430201063","pId":"md__tbm","name":"考勤扩展6","isDdcClass":true},{"id":"637976907420652579","pId":"md__post","name":"岗位扩展6","isDdcClass":true},{"id":"253881582316022081","pId":"md__bankac","name":"银行账户扩展6","isDdcClass":true},{"id":"427728324912795850","pId":"md__materi","name":"物料主表7","isDdcClass":false},{"id":"895898414546404062","pId":"md__custom","name":"客户主表7","isDdcClass":true},{"id":"271656330972264433","pId":"md__suppli","name":"供应商主表7","isDdcClass":true},{"id":"513430527446487007","pId":"md__saleor","name":"销售订单主表7","isDdcClass":true},{"id":"697229270981066420","pId":"md__purcha","name":"采购订单主表7","isDdcClass":true},{"id":"839488125690020714","pId":"md__stock","name":"库存主表7","isDdcClass":false},{"id":"106273485786314351","pId":"md__org","name":"组织主表7","isDdcClass":true},{"id":"151173311963329640","pId":"md__psndoc","name":"人员主表7","isDdcClass":true},{"id":"923145503520491919","pId":"md__dept","name":"部门主表7","isDdcClass":true},{"id":"873989673279126596","pId":"md__projec","name":"项目主表7","isDdcClass":true},{"id":"459689558864371898","pId":"md__contra","name":"合同主表7","isDdcClass":false},{"id":"735741736361801731","pId":"md__invoic","name":"发票主表7","isDdcClass":true},{"id":"862067776291044734","pId":"md__gather","name":"收款单主表7","isDdcClass":true},{"id":"327699624967868665","pId":"md__paybil","name":"付款单主表7","isDdcClass":true},{"id":"675744954825515202","pId":"md__vouche","name":"凭证主表7","isDdcClass":true},{"id":"627596883688859351","pId":"md__accoun","name":"科目主表7","isDdcClass":false},{"id":"496250595392283413","pId":"md__curren","name":"币种主表7","isDdcClass":true},{"id":"596343927811219057","pId":"md__wareho","name":"仓库主表7","isDdcClass":true},{"id":"825016083149227883","pId":"md__batch","name":"批次主表7","isDdcClass":true},{"id":"795875365971402056","pId":"md__workor","name":"工单主表7","isDdcClass":true},{"id":"398836020239259616","pId":"md__mo","name":"生产订单主表7","isDdcClass":false},{"id":"741612614397366895","pId":"md__qc","name":"质检主表7","isDdcClass":true},{"id":"842319259688240812","pId":"md__asset","name":"资产主表7","isDdcClass":true},{"id":"917273298750652941","pId":"md__budget","name":"预算主表7","isDdcClass":true},{"id":"300425111347825886","pId":"md__expens","name":"费用主表7","isDdcClass":true},{"id":"209363117072880862","pId":"md__reimbu","name":"报销主表7","isDdcClass":false},{"id":"425723298736548551","pId":"md__wa","name":"薪资主表7","isDdcClass":true},{"id":"174543947567305380","pId":"md__tbm","name":"考勤主表7","isDdcClass":true},{"id":"183716867370588770","pId":"md__post","name":"岗位主表7","isDdcClass":true},{"id":"758789163808982162","pId":"md__bankac","name":"银行账户主表7","isDdcClass":true},{"id":"160410176993372783","pId":"md__materi","name":"物料子表7","isDdcClass":false},{"id":"689809072478106553","pId":"md__custom","name":"客户子表7","isDdcClass":true},{"id":"675576723698671223","pId":"md__suppli","name":"供应商子表7","isDdcClass":true},{"id":"663990966565958074","pId":"md__saleor","name":"销售订单子表7","isDdcClass":true},{"id":"248683708473544042","pId":"md__purcha","name":"采购订单子表7","isDdcClass":true},{"id":"103835725857046056","pId":"md__stock","name":"库存子表7","isDdcClass":false},{"id":"176548713253606185","pId":"md__org","name":"组织子表7","isDdcClass":true},{"id":"102315631400360787","pId":"md__psndoc","name":"人员子表7","isDdcClass":true},{"id":"792133579628060366","pId":"md__dept","name":"部门子表7","isDdcClass":true},{"id":"425003127549403078","pId":"md__projec","name":"项目子表7","isDdcClass":true},{"id":"731097286801316635","pId":"md__contra","name":"合同子表7","isDdcClass":false},{"id":"968517253478348808","pId":"md__invoic","name":"发票子表7","isDdcClass":true},{"id":"353277126088819205","pId":"md__gather","name":"收款单子表7","isDdcClass":true},{"id":"437464367222480355","pId":"md__paybil","name":"付款单子表7","isDdcClass":true},{"id":"381196829137043316","pId":"md__vouche","name":"凭证子表7","isDdcClass":true},{"id":"257839534110309468","pId":"md__accoun","name":"科目子表7","isDdcClass":false},{"id":"391062709006494418","pId":"md__curren","name":"币种子表7","isDdcClass":true},{"id":"658301552366119081","pId":"md__wareho","name":"仓库子表7","isDdcClass":true},{"id":"536736464085153865","pId":"md__batch","name":"批次子表7","isDdcClass":true},{"id":"643254919576488443","pId":"md__workor","name":"工单子表7","isDdcClass":true},{"id":"211657241048983238","pId":"md__mo","name":"生产订单子表7","isDdcClass":false},{"id":"236248243528570520","pId":"md__qc","name":"质检子表7","isDdcClass":true},{"id":"854696762639719248","pId":"md__asset","name":"资产子表7","isDdcClass":true},{"id":"583869223738178964","pId":"md__budget","name":"预算子表7","isDdcClass":true},{"id":"166103615565154104","pId":"md__expens","name":"费用子表7","isDdcClass":true},{"id":"225104542618692807","pId":"md__reimbu","name":"报销子表7","isDdcClass":false},{"id":"836562660948772457","pId":"md__wa","name":"薪资子表7","isDdcClass":true},{"id":"842505153879724722","pId":"md__tbm","name":"考勤子表7","isDdcClass":true},{"id":"607619055839592656","pId":"md__post","name":"岗位子表7","isDdcClass":true},{"id":"996039581655730264","pId":"md__bankac","name":"银行账户子表7","isDdcClass":true},{"id":"114969892075289002","pId":"md__materi","name":"物料明细7","isDdcClass":false},{"id":"983705313999623439","pId":"md__custom","name":"客户明细7","isDdcClass":true},{"id":"390943196185312002","pId":"md__suppli","name":"供应商明细7","isDdcClass":true},{"id":"966522661750889171","pId":"md__saleor","name":"销售订单明细7","isDdcClass":true},{"id":"781460795178073439","pId":"md__purcha","name":"采购订单明细7","isDdcClass":true},{"id":"481838684541302091","pId":"md__stock","name":"库存明细7","isDdcClass":false},{"id":"370329812782293868","pId":"md__org","name":"组织明细7","isDdcClass":true},{"id":"499788335710397244","pId":"md__psndoc","name":"人员明细7","isDdcClass":true},{"id":"665380945551480008","pId":"md__dept","name":"部门明细7","isDdcClass":true},{"id":"277586999951261778","pId":"md__projec","name":"项目明细7","isDdcClass":true},{"id":"196401128742199382","pId":"md__contra","name":"合同明细7","isDdcClass":false},{"id":"717693240896214495","pId":"md__invoic","name":"发票明细7","isDdcClass":true},{"id":"918316368063837281","pId":"md__gather","name":"收款单明细7","isDdcClass":true},{"id":"865790229417227099","pId":"md__paybil","name":"付款单明细7","isDdcClass":true},{"id":"467532682077431592","pId":"md__vouche","name":"凭证明细7","isDdcClass":true},{"id":"995110752491408139","pId":"md__accoun","name":"科目明细7","isDdcClass":false},{"id":"840578067548224138","pId":"md__curren","name":"币种明细7","isDdcClass":true},{"id":"987192785971365224","pId":"md__wareho","name":"仓库明细7","isDdcClass":true},{"id":"155245133786269882","pId":"md__batch","name":"批次明细7","isDdcClass":true},{"id":"446297474005557966","pId":"md__workor","name":"工单明细7","isDdcClass":true},{"id":"624087226551409662","pId":"md__mo","name":"生产订单明细7","isDdcClass":false},{"id":"771176437341299146","pId":"md__qc","name":"质检明细7","isDdcClass":true},{"id":"695518222957652446","pId":"md__asset","name":"资产明细7","isDdcClass":true},{"id":"416887556446559645","pId":"md__budget","name":"预算明细7","isDdcClass":true},{"id":"326866419371039244","pId":"md__expens","name":"费用明细7","isDdcClass":true},{"id":"495764561391510709","pId":"md__reimbu","name":"报销明细7","isDdcClass":false},{"id":"598257725775227961","pId":"md__wa","name":"薪资明细7","isDdcClass":true},{"id":"115274750926820477","pId":"md__tbm","name":"考勤明细7","isDdcClass":true},{"id":"532835689035873221","pId":"md__post","name":"岗位明细7","isDdcClass":true},{"id":"162809979680343656","pId":"md__bankac","name":"银行账户明细7","isDdcClass":true},{"id":"549639970097347179","pId":"md__materi","name":"物料档案7","isDdcClass":false},{"id":"735529222066527042","pId":"md__custom","name":"客户档案7","isDdcClass":true},{"id":"539287634467799334","pId":"md__suppli","name":"供应商档案7","isDdcClass":true},{"id":"213698536970046250","pId":"md__saleor","name":"销售订单档案7","isDdcClass":true},{"id":"235132612787302728","pId":"md__purcha","name":"采购订单档案7","isDdcClass":true},{"id":"946835302414923373","pId":"md__stock","name":"库存档案7","isDdcClass":false},{"id":"944234315365889324","pId":"md__org","name":"组织档案7","isDdcClass":true},{"id":"464029212831807370","pId":"md__psndoc","name":"人员档案7","isDdcClass":true},{"id":"127548110840864288","pId":"md__dept","name":"部门档案7","isDdcClass":true},{"id":"583790492385025666","pId":"md__projec","name":"项目档案7","isDdcClass":true},{"id":"119714178833802602","pId":"md__contra","name":"合同档案7","isDdcClass":false},{"id":"408221867459726380","pId":"md__invoic","name":"发票档案7","isDdcClass":true},{"id":"893338745948217492","pId":"md__gather","name":"收款单档案7","isDdcClass":true},{"id":"137821210878456423","pId":"md__paybil","name":"付款单档案7","isDdcClass":true},{"id":"806000599448377711","pId":"md__vouche","name":"凭证档案7","isDdcClass":true},{"id":"384620722589301924","pId":"md__accoun","name":"科目档案7","isDdcClass":false},{"id":"326176209567624909","pId":"md__curren","name":"币种档案7","isDdcClass":true},{"id":"164867946043193361","pId":"md__wareho","name":"仓库档案7","isDdcClass":true},{"id":"659201410343863032","pId":"md__batch","name":"批次档案7","isDdcClass":true},{"id":"157422474132389738","pId":"md__workor","name":"工单档案7","isDdcClass":true},{"id":"417001672223054314","pId":"md__mo","name":"生产订单档案7","isDdcClass":false},{"id":"937409808302875840","pId":"md__qc","name":"质检档案7","isDdcClass":true},{"id":"701381524979471898","pId":"md__asset","name":"资产档案7","isDdcClass":true},{"id":"274479943899734318","pId":"md__budget","name":"预算档案7","isDdcClass":true},{"id":"234853284801227948","pId":"md__expens","name":"费用档案7","isDdcClass":true},{"id":"399121475375166857","pId":"md__reimbu","name":"报销档案7","isDdcClass":false},{"id":"154437224224703139","pId":"md__wa","name":"薪资档案7","isDdcClass":true},{"id":"571806049167978058","pId":"md__tbm","name":"考勤档案7","isDdcClass":true},{"id":"161894193155715955","pId":"md__post","name":"岗位档案7","isDdcClass":true},{"id":"375230526678948245","pId":"md__bankac","name":"银行账户档案7","isDdcClass":true},{"id":"216275564063530178","pId":"md__materi","name":"物料表头7","isDdcClass":false},{"id":"329629010358791260","pId":"md__custom","name":"客户表头7","isDdcClass":true},{"id":"985585996652615418","pId":"md__suppli","name":"供应商表头7","isDdcClass":true},{"id":"631101914691241323","pId":"md__saleor","name":"销售订单表头7","isDdcClass":true},{"id":"521280150643093580","pId":"md__purcha","name":"采购订单表头7","isDdcClass":true},{"id":"471372776380099676","pId":"md__stock","name":"库存表头7","isDdcClass":false},{"id":"980611815903936652","pId":"md__org","name":"组织表头7","isDdcClass":true},{"id":"384285473507826917","pId":"md__psndoc","name":"人员表头7","isDdcClass":true},{"id":"632061812424087496","pId":"md__dept","name":"部门表头7","isDdcClass":true},{"id":"289235192512142134","pId":"md__projec","name":"项目表头7","isDdcClass":true},{"id":"543989969971823773","pId":"md__contra","name":"合同表头7","isDdcClass":false},{"id":"464879420093843850","pId":"md__invoic","name":"发票表头7","isDdcClass":true},{"id":"965396150320730615","pId":"md__gather","name":"收款单表头7","isDdcClass":true},{"id":"481810842095715683","pId":"md__paybil","name":"付款单表头7","isDdcClass":true},{"id":"164188857673152057","pId":"md__vouche","name":"凭证表头7","isDdcClass":true},{"id":"848254982338473651","pId":"md__accoun","name":"科目表头7","isDdcClass":false},{"id":"464703022460952979","pId":"md__curren","name":"币种表头7","isDdcClass":true},{"id":"710128345443668758","pId":"md__wareho","name":"仓库表头7","isDdcClass":true},{"id":"705133050936777720","pId":"md__batch","name":"批次表头7","isDdcClass":true},{"id":"655106560705535425","pId":"md__workor","name":"工单表头7","isDdcClass":true},{"id":"681052899911174451","pId":"md__mo","name":"生产订单表头7","isDdcClass":false},{"id":"316145049232003581","pId":"md__qc","name":"质检表头7","isDdcClass":true},{"id":"724089367115225579","pId":"md__asset","name":"资产表头7","isDdcClass":true},{"id":"284906264383919859","pId":"md__budget","name":"预算表头7","isDdcClass":true},{"id":"239275954650536378","pId":"md__expens","name":"费用表头7","isDdcClass":true},{"id":"763164595289206949","pId":"md__reimbu","name":"报销表头7","isDdcClass":false},{"id":"525840418816538827","pId":"md__wa","name":"薪资表头7","isDdcClass":true},{"id":"687262424208820075","pId":"md__tbm","name":"考勤表头7","isDdcClass":true},{"id":"898573641112438372","pId":"md__post","name":"岗位表头7","isDdcClass":true},{"id":"434544913409862983","pId":"md__bankac","name":"银行账户表头7","isDdcClass":true},{"id":"474040560196846755","pId":"md__materi","name":"物料表体7","isDdcClass":false},{"id":"919965447102735747","pId":"md__custom","name":"客户表体7","isDdcClass":true},{"id":"616856292475554735","pId":"md__suppli","name":"供应商表体7","isDdcClass":true},{"id":"468342886376224665","pId":"md__saleor","name":"销售订单表体7","isDdcClass":true},{"id":"416664448610518647","pId":"md__purcha","name":"采购订单表体7","isDdcClass":true},{"id":"853034467999460845","pId":"md__stock","name":"库存表体7","isDdcClass":false},{"id":"316853862699703452","pId":"md__org","name":"组织表体7","isDdcClass":true},{"id":"709342411939122486","pId":"md__psndoc","name":"人员表体7","isDdcClass":true},{"id":"199615630014908032","pId":"md__dept","name":"部门表体7","isDdcClass":true},{"id":"313745274022919159","pId":"md__projec","name":"项目表体7","isDdcClass":true},{"id":"679787499334527979","pId":"md__contra","name":"合同表体7","isDdcClass":false},{"id":"115874222011095152","pId":"md__invoic","name":"发票表体7","isDdcClass":true},{"id":"845603335265974910","pId":"md__gather","name":"收款单表体7","isDdcClass":true},{"id":"448536617680816142","pId":"md__paybil","name":"付款单表体7","isDdcClass":true},{"id":"468602717281889911","pId":"md__vouche","name":"凭证表体7","isDdcClass":true},{"id":"853561548523257288","pId":"md__accoun","name":"科目表体7","isDdcClass":false},{"id":"852436429802665425","pId":"md__curren","name":"币种表体7","isDdcClass":true},{"id":"170415461467016757","pId":"md__wareho","name":"仓库表体7","isDdcClass":true},{"id":"241802348008615477","pId":"md__batch","name":"批次表体7","isDdcClass":true},{"id":"276580152972463983","pId":"md__workor","name":"工单表体7","isDdcClass":true},{"id":"214865566364771581","pId":"md__mo","name":"生产订单表体7","isDdcClass":false},{"id":"279107548832887632","pId":"md__qc","name":"质检表体7","isDdcClass":true},{"id":"916563049897260351","pId":"md__asset","name":"资产表体7","isDdcClass":true},{"id":"500096427809490606","pId":"md__budget","name":"预算表体7","isDdcClass":true},{"id":"704475315502842647","pId":"md__expens","name":"费用表体7","isDdcClass":true},{"id":"484063722942149483","pId":"md__reimbu","name":"报销表体7","isDdcClass":false},{"id":"474940691100383045","pId":"md__wa","name":"薪资表体7","isDdcClass":true},{"id":"360123252270119664","pId":"md__tbm","name":"考勤表体7","isDdcClass":true},{"id":"523836249662031404","pId":"md__post","name":"岗位表体7","isDdcClass":true},{"id":"586613570179832590","pId":"md__bankac","name":"银行账户表体7","isDdcClass":true},{"id":"709874849324207946","pId":"md__materi","name":"物料分类7","isDdcClass":false},{"id":"884908622861195015","pId":"md__custom","name":"客户分类7","isDdcClass":true},{"id":"727616612112820677","pId":"md__suppli","name":"供应商分类7","isDdcClass":true},{"id":"863085879434928470","pId":"md__saleor","name":"销售订单分类7","isDdcClass":true},{"id":"153883880180714434","pId":"md__purcha","name":"采购订单分类7","isDdcClass":true},{"id":"936468727271478370","pId":"md__stock","name":"库存分类7","isDdcClass":false},{"id":"437266365141435310","pId":"md__org","name":"组织分类7","isDdcClass":true},{"id":"394592064120685492","pId":"md__psndoc","name":"人员分类7","isDdcClass":true},{"id":"411576096103538815","pId":"md__dept","name":"部门分类7","isDdcClass":true},{"id":"207421439505555732","pId":"md__projec","name":"项目分类7","isDdcClass":true},{"id":"738071499465558790","pId":"md__contra","name":"合同分类7","isDdcClass":false},{"id":"907331665606722695","pId":"md__invoic","name":"发票分类7","isDdcClass":true},{"id":"108501059559386309","pId":"md__gather","name":"收款单分类7","isDdcClass":true},{"id":"556955184610954421","pId":"md__paybil","name":"付款单分类7","isDdcClass":true},{"id":"786053118968975434","pId":"md__vouche","name":"凭证分类7","isDdcClass":true},{"id":"192921293750090901","pId":"md__accoun","name":"科目分类7","isDdcClass":false},{"id":"281157608191892886","pId":"md__curren","name":"币种分类7","isDdcClass":true},{"id":"192003402236118766","pId":"md__wareho","name":"仓库分类7","isDdcClass":true},{"id":"409595257260513409","pId":"md__batch","name":"批次分类7","isDdcClass":true},{"id":"521080254395602595","pId":"md__workor","name":"工单分类7","isDdcClass":true},{"id":"667211114343741916","pId":"md__mo","name":"生产订单分类7","isDdcClass":false},{"id":"664924807451665683","pId":"md__qc","name":"质检分类7","isDdcClass":true},{"id":"624907115060842756","pId":"md__asset","name":"资产分类7","isDdcClass":true},{"id":"460236550588876566","pId":"md__budget","name":"预算分类7","isDdcClass":true},{"id":"250313662075755959","pId":"md__expens","name":"费用分类7","isDdcClass":true},{"id":"353627408224725552","pId":"md__reimbu","name":"报销分类7","isDdcClass":false},{"id":"778048453092550807","pId":"md__wa","name":"薪资分类7","isDdcClass":true},{"id":"118597429669882734","pId":"md__tbm","name":"考勤分类7","isDdcClass":true},{"id":"137975657570575955","pId":"md__post","name":"岗位分类7","isDdcClass":true},{"id":"313106834662329532","pId":"md__bankac","name":"银行账户分类7","isDdcClass":true},{"id":"655227048865687204","pId":"md__materi","name":"物料关系7","isDdcClass":false},{"id":"850859785754687645","pId":"md__custom","name":"客户关系7","isDdcClass":true},{"id":"816151401183100031","pId":"md__suppli","name":"供应商关系7","isDdcClass":true},{"id":"140084607072993423","pId":"md__saleor","name":"销售订单关系7","isDdcClass":true},{"id":"316391231207656567","pId":"md__purcha","name":"采购订单关系7","isDdcClass":true},{"id":"240031187390359209","pId":"md__stock","name":"库存关系7","isDdcClass":false},{"id":"542491521787256537","pId":"md__org","name":"组织关系7","isDdcClass":true},{"id":"122065845827804273","pId":"md__psndoc","name":"人员关系7","isDdcClass":true},{"id":"299969388552096038","pId":"md__dept","name":"部门关系7","isDdcClass":true},{"id":"220366357699189982","pId":"md__projec","name":"项目关系7","isDdcClass":true},{"id":"415204215655427375","pId":"md__contra","name":"合同关系7","isDdcClass":false},{"id":"539208799375131656","pId":"md__invoic","name":"发票关系7","isDdcClass":true},{"id":"925551826628077271","pId":"md__gather","name":"收款单关系7","isDdcClass":true},{"id":"301369185069263213","pId":"md__paybil","name":"付款单关系7","isDdcClass":true},{"id":"116407262258231015","pId":"md__vouche","name":"凭证关系7","isDdcClass":true},{"id":"475966030771966635","pId":"md__accoun","name":"科目关系7","isDdcClass":false},{"id":"194758460689567427","pId":"md__curren","name":"币种关系7","isDdcClass":true},{"id":"809511517955024284","pId":"md__wareho","name":"仓库关系7","isDdcClass":true},{"id":"546191994244871151","pId":"md__batch","name":"批次关系7","isDdcClass":true},{"id":"247719406418457338","pId":"md__workor","name":"工单关系7","isDdcClass":true},{"id":"981713181468764163","pId":"md__mo","name":"生产订单关系7","isDdcClass":false},{"id":"673529893024668415","pId":"md__qc","name":"质检关系7","isDdcClass":true},{"id":"340198780495838921","pId":"md__asset","name":"资产关系7","isDdcClass":true},{"id":"683175894364293651","pId":"md__budget","name":"预算关系7","isDdcClass":true},{"id":"438921776721935860","pId":"md__expens","name":"费用关系7","isDdcClass":true},{"id":"828905381321485884","pId":"md__reimbu","name":"报销关系7","isDdcClass":false},{"id":"156491583869034864","pId":"md__wa","name":"薪资关系7","isDdcClass":true},{"id":"299281718534150745","pId":"md__tbm","name":"考勤关系7","isDdcClass":true},{"id":"287745625233924971","pId":"md__post","name":"岗位关系7","isDdcClass":true},{"id":"545787047320580703","pId":"md__bankac","name":"银行账户关系7","isDdcClass":true},{"id":"578713687047596221","pId":"md__materi","name":"物料日志7","isDdcClass":false},{"id":"629598558180111671","pId":"md__custom","name":"客户日志7","isDdcClass":true},{"id":"469098830722374517","pId":"md__suppli","name":"供应商日志7","isDdcClass":true},{"id":"997986270166046534","pId":"md__saleor","name":"销售订单日志7","isDdcClass":true},{"id":"714069931843397457","pId":"md__purcha","name":"采购订单日志7","isDdcClass":true},{"id":"771943891295993359","pId":"md__stock","name":"库存日志7","isDdcClass":false},{"id":"117089758025728642","pId":"md__org","name":"组织日志7","isDdcClass":true},{"id":"772065640282042079","pId":"md__psndoc","name":"人员日志7","isDdcClass":true},{"id":"202912136990271782","pId":"md__dept","name":"部门日志7","isDdcClass":true},{"id":"864279195734783015","pId":"md__projec","name":"项目日志7","isDdcClass":true},{"id":"532169222576686795","pId":"md__contra","name":"合同日志7","isDdcClass":false},{"id":"508407306381359650","pId":"md__invoic","name":"发票日志7","isDdcClass":true},{"id":"202720235365121307","pId":"md__gather","name":"收款单日志7","isDdcClass":true},{"id":"952153799599963697","pId":"md__paybil","name":"付款单日志7","isDdcClass":true},{"id":"225229077745147129","pId":"md__vouche","name":"凭证日志7","isDdcClass":true},{"id":"405713841377553421","pId":"md__accoun","name":"科目日志7","isDdcClass":false},{"id":"558982525706292182","pId":"md__curren","name":"币种日志7","isDdcClass":true},{"id":"484002364965152563","pId":"md__wareho","name":"仓库日志7","isDdcClass":true},{"id":"408351510444444509","pId":"md__batch","name":"批次日志7","isDdcClass":true},{"id":"196183391367928606","pId":"md__workor","name":"工单日志7","isDdcClass":true},{"id":"353705684461091840","pId":"md__mo","name":"生产订单日志7","isDdcClass":false},{"id":"216423246533711365","pId":"md__qc","name":"质检日志7","isDdcClass":true},{"id":"554893110449425941","pId":"md__asset","name":"资产日志7","isDdcClass":true},{"id":"965449777551962203","pId":"md__budget","name":"预算日志7","isDdcClass":true},{"id":"335823066914747406","pId":"md__expens","name":"费用日志7","isDdcClass":true},{"id":"589852689683302090","pId":"md__reimbu","name":"报销日志7","isDdcClass":false},{"id":"414284731571616917","pId":"md__wa","name":"薪资日志7","isDdcClass":true},{"id":"973383155394035352","pId":"md__tbm","name":"考勤日志7","isDdcClass":true},{"id":"869436609763098356","pId":"md__post","name":"岗位日志7","isDdcClass":true},{"id":"270960789653424781","pId":"md__bankac","name":"银行账户日志7","isDdcClass":true},{"id":"349456923000771361","pId":"md__materi","name":"物料扩展7","isDdcClass":false},{"id":"895014288225113255","pId":"md__custom","name":"客户扩展7","isDdcClass":true},{"id":"334834878853513652","pId":"md__suppli","name":"供应商扩展7","isDdcClass":true},{"id":"974140112933944008","pId":"md__saleor","name":"销售订单扩展7","isDdcClass":true},{"id":"405910448741363254","pId":"md__purcha","name":"采购订单扩展7","isDdcClass":true},{"id":"431967005124303442","pId":"md__stock","name":"库存扩展7","isDdcClass":false},{"id":"541997899500201586","pId":"md__org","name":"组织扩展7","isDdcClass":true},{"id":"519763006782438219","pId":"md__psndoc","name":"人员扩展7","isDdcClass":true},{"id":"136146630658556474","pId":"md__dept","name":"部门扩展7","isDdcClass":true},{"id":"289253119325095558","pId":"md__projec","name":"项目扩展7","isDdcClass":true},{"id":"465513091242869633","pId":"md__contra","name":"合同扩展7","isDdcClass":false},{"id":"573185056888068066","pId":"md__invoic","name":"发票扩展7","isDdcClass":true},{"id":"197756202686560940","pId":"md__gather","name":"收款单扩展7","isDdcClass":true},{"id":"846554696798597151","pId":"md__paybil","name":"付款单扩展7","isDdcClass":true},{"id":"582791543545554993","pId":"md__vouche","name":"凭证扩展7","isDdcClass":true},{"id":"264005435318141011","pId":"md__accoun","name":"科目扩展7","isDdcClass":false},{"id":"688021397523815484","pId":"md__curren","name":"币种扩展7","isDdcClass":true},{"id":"214225251368341614","pId":"md__wareho","name":"仓库扩展7","isDdcClass":true},{"id":"929883598552086642","pId":"md__batch","name":"批次扩展7","isDdcClass":true},{"id":"656484551825104606","pId":"md__workor","name":"工单扩展7","isDdcClass":true},{"id":"353842414533682580","pId":"md__mo","name":"生产订单扩展7","isDdcClass":false},{"id":"923214040649434128","pId":"md__qc","name":"质检扩展7","isDdcClass":true},{"id":"938152942132424986","pId":"md__asset","name":"资产扩展7","isDdcClass":true},{"id":"500358356046353543","pId":"md__budget","name":"预算扩展7","isDdcClass":true},{"id":"949869287469012557","pId":"md__expens","name":"费用扩展7","isDdcClass":true},{"id":"103274330543534036","pId":"md__reimbu","name":"报销扩展7","isDdcClass":false},{"id":"855400633012471289","pId":"md__wa","name":"薪资扩展7","isDdcClass":true},{"id":"106000614305791974","pId":"md__tbm","name":"考勤扩展7","isDdcClass":true},{"id":"884039009256524948","pId":"md__post","name":"岗位扩展7","isDdcClass":true},{"id":"752133703831785644","pId":"md__bankac","name":"银行账户扩展7","isDdcClass":true},{"id":"121232966717943306","pId":"md__materi","name":"物料主表8","isDdcClass":false},{"id":"349215012352475195","pId":"md__custom","name":"客户主表8","isDdcClass":true},{"id":"146782651604494263","pId":"md__suppli","name":"供应商主表8","isDdcClass":true},{"id":"824540803294553654","pId":"md__saleor","name":"销售订单主表8","isDdcClass":true},{"id":"834034032624576926","pId":"md__purcha","name":"采购订单主表8","isDdcClass":true},{"id":"729910376480874788","pId":"md__stock","name":"库存主表8","isDdcClass":false},{"id":"668232174924906768","pId":"md__org","name":"组织主表8","isDdcClass":true},{"id":"116426824460610049","pId":"md__psndoc","name":"人员主表8","isDdcClass":true},{"id":"115300769507094109","pId":"md__dept","name":"部门主表8","isDdcClass":true},{"id":"279543342715421131","pId":"md__projec","name":"项目主表8","isDdcClass":true},{"id":"798299696610909226","pId":"md__contra","name":"合同主表8","isDdcClass":false},{"id":"717712732303021211","pId":"md__invoic","name":"发票主表8","isDdcClass":true},{"id":"171285408730269426","pId":"md__gather","name":"收款单主表8","isDdcClass":true},{"id":"907588145156985902","pId":"md__paybil","name":"付款单主表8","isDdcClass":true},{"id":"535154415153862533","pId":"md__vouche","name":"凭证主表8","isDdcClass":true},{"id":"827198354614784261","pId":"md__accoun","name":"科目主表8","isDdcClass":false},{"id":"983073666089068082","pId":"md__curren","name":"币种主表8","isDdcClass":true},{"id":"373054399214135568","pId":"md__wareho","name":"仓库主表8","isDdcClass":true},{"id":"294589702423322198","pId":"md__batch","name":"批次主表8","isDdcClass":true},{"id":"282551666597377328","pId":"md__workor","name":"工单主表8","isDdcClass":true},{"id":"666908640972293561","pId":"md__mo","name":"生产订单主表8","isDdcClass":false},{"id":"495083873266951068","pId":"md__qc","name":"质检主表8","isDdcClass":true},{"id":"544622369886824920","pId":"md__asset","name":"资产主表8","isDdcClass":true},{"id":"565758102428429837","pId":"md__budget","name":"预算主表8","isDdcClass":true},{"id":"841188023016965743","pId":"md__expens","name":"费用主表8","isDdcClass":true},{"id":"302674947691618123","pId":"md__reimbu","name":"报销主表8","isDdcClass":false},{"id":"661783782995465485","pId":"md__wa","name":"薪资主表8","isDdcClass":true},{"id":"140319059559010887","pId":"md__tbm","name":"考勤主表8","isDdcClass":true},{"id":"843283764994261965","pId":"md__post","name":"岗位主表8","isDdcClass":true},{"id":"304218597300629440","pId":"md__bankac","name":"银行账户主表8","isDdcClass":true},{"id":"893279899366524868","pId":"md__materi","name":"物料子表8","isDdcClass":false},{"id":"804577758987987890","pId":"md__custom","name":"客户子表8","isDdcClass":true},{"id":"899167729624338538","pId":"md__suppli","name":"供应商子表8","isDdcClass":true},{"id":"918834758859044567","pId":"md__saleor","name":"销售订单子表8","isDdcClass":true},{"id":"506891915163559607","pId":"md__purcha","name":"采购订单子表8","isDdcClass":true},{"id":"398196945320753956","pId":"md__stock","name":"库存子表8","isDdcClass":false},{"id":"862343861488512309","pId":"md__org","name":"组织子表8","isDdcClass":true},{"id":"115980096125302506","pId":"md__psndoc","name":"人员子表8","isDdcClass":true},{"id":"587180940852411430","pId":"md__dept","name":"部门子表8","isDdcClass":true},{"id":"730744762385342182","pId":"md__projec","name":"项目子表8","isDdcClass":true},{"id":"200032244745255501","pId":"md__contra","name":"合同子表8","isDdcClass":false},{"id":"968228186674400351","pId":"md__invoic","name":"发票子表8","isDdcClass":true},{"id":"416402955846230645","pId":"md__gather","name":"收款单子表8","isDdcClass":true},{"id":"387454947470956242","pId":"md__paybil","name":"付款单子表8","isDdcClass":true},{"id":"142457396801326504","pId":"md__vouche","name":"凭证子表8","isDdcClass":true},{"id":"286604660920424672","pId":"md__accoun","name":"科目子表8","isDdcClass":false},{"id":"100218760116334435","pId":"md__curren","name":"币种子表8","isDdcClass":true},{"id":"539808780438327300","pId":"md__wareho","name":"仓库子表8","isDdcClass":true},{"id":"498388586306213328","pId":"md__batch","name":"批次子表8","isDdcClass":true},{"id":"142350630351988034","pId":"md__workor","name":"工单子表8","isDdcClass":true},{"id":"314753766848080289","pId":"md__mo","name":"生产订单子表8","isDdcClass":false},{"id":"297233879033902184","pId":"md__qc","name":"质检子表8","isDdcClass":true},{"id":"916762659454737247","pId":"md__asset","name":"资产子表8","isDdcClass":true},{"id":"265989890301892566","pId":"md__budget","name":"预算子表8","isDdcClass":true},{"id":"607973441079085631","pId":"md__expens","name":"费用子表8","isDdcClass":true},{"id":"911108641369950348","pId":"md__reimbu","name":"报销子表8","isDdcClass":false},{"id":"190907526617029841","pId":"md__wa","name":"薪资子表8","isDdcClass":true},{"id":"525624602351741281","pId":"md__tbm","name":"考勤子表8","isDdcClass":true},{"id":"713002252117268232","pId":"md__post","name":"岗位子表8","isDdcClass":true},{"id":"299338094916677009","pId":"md__bankac","name":"银行账户子表8","isDdcClass":true},{"id":"760994241738726453","pId":"md__materi","name":"物料明细8","isDdcClass":false},{"id":"378730168749912253","pId":"md__custom","name":"客户明细8","isDdcClass":true},{"id":"263961066111279539","pId":"md__suppli","name":"供应商明细8","isDdcClass":true},{"id":"439024719321849320","pId":"md__saleor","name":"销售订单明细8","isDdcClass":true},{"id":"666596844540089260","pId":"md__purcha","name":"采购订单明细8","isDdcClass":true},{"id":"751288785193878435","pId":"md__stock","name":"库存明细8","isDdcClass":false},{"id":"150365251088937342","pId":"md__org","name":"组织明细8","isDdcClass":true},{"id":"616988023384457425","pId":"md__psndoc","name":"人员明细8","isDdcClass":true},{"id":"184966714766109334","pId":"md__dept","name":"部门明细8","isDdcClass":true},{"id":"296449005567437147","pId":"md__projec","name":"项目明细8","isDdcClass":true},{"id":"282934675146479507","pId":"md__contra","name":"合同明细8","isDdcClass":false},{"id":"564154030271796204","pId":"md__invoic","name":"发票明细8","isDdcClass":true},{"id":"921029926855296026","pId":"md__gather","name":"收款单明细8","isDdcClass":true},{"id":"823689241011352508","pId":"md__paybil","name":"付款单明细8","isDdcClass":true},{"id":"290596886593436591","pId":"md__vouche","name":"凭证明细8","isDdcClass":true},{"id":"765740701197377219","pId":"md__accoun","name":"科目明细8","isDdcClass":false},{"id":"781405217313785745","pId":"md__curren","name":"币种明细8","isDdcClass":true},{"id":"483492527444373796","pId":"md__wareho","name":"仓库明细8","isDdcClass":true},{"id":"472145135190202080","pId":"md__batch","name":"批次明细8","isDdcClass":true},{"id":"550764986777466623","pId":"md__workor","name":"工单明细8","isDdcClass":true},{"id":"458728297458104366","pId":"md__mo","name":"生产订单明细8","isDdcClass":false},{"id":"671228974134401240","pId":"md__qc","name":"质检明细8","isDdcClass":true},{"id":"699836233319311203","pId":"md__asset","name":"资产明细8","isDdcClass":true},{"id":"242631960122202624","pId":"md__budget","name":"预算明细8","isDdcClass":true},{"id":"719211376599776070","pId":"md__expens","name":"费用明细8","isDdcClass":true},{"id":"964258572873252268","pId":"md__reimbu","name":"报销明细8","isDdcClass":false},{"id":"185919730545025081","pId":"md__wa","name":"薪资明细8","isDdcClass":true},{"id":"985087826460636843","pId":"md__tbm","name":"考勤明细8","isDdcClass":true},{"id":"297690057854443167","pId":"md__post","name":"岗位明细8","isDdcClass":true},{"id":"929360614163816514","pId":"md__bankac","name":"银行账户明细8","isDdcClass":true},{"id":"313192732573118753","pId":"md__materi","name":"物料档案8","isDdcClass":false},{"id":"851889053624169938","pId":"md__custom","name":"客户档案8","isDdcClass":true},{"id":"954020375154293361","pId":"md__suppli","name":"供应商档案8","isDdcClass":true},{"id":"274414898156373549","pId":"md__saleor","name":"销售订单档案8","isDdcClass":true},{"id":"827298517181529373","pId":"md__purcha","name":"采购订单档案8","isDdcClass":true},{"id":"858332336620094948","pId":"md__stock","name":"库存档案8","isDdcClass":false},{"id":"896392290135501125","pId":"md__org","name":"组织档案8","isDdcClass":true},{"id":"914640408704385607","pId":"md__psndoc","name":"人员档案8","isDdcClass":true},{"id":"497196464038146155","pId":"md__dept","name":"部门档案8","isDdcClass":true},{"id":"473889582014907139","pId":"md__projec","name":"项目档案8","isDdcClass":true},{"id":"501921068848679729","pId":"md__contra","name":"合同档案8","isDdcClass":false},{"id":"881303704132251298","pId":"md__invoic","name":"发票档案8","isDdcClass":true},{"id":"178583186079650705","pId":"md__gather","name":"收款单档案8","isDdcClass":true},{"id":"893067527807827768","pId":"md__paybil","name":"付款单档案8","isDdcClass":true},{"id":"271153807230848444","pId":"md__vouche","name":"凭证档案8","isDdcClass":true},{"id":"117380951407053346","pId":"md__accoun","name":"科目档案8","isDdcClass":false},{"id":"999609042152843729","pId":"md__curren","name":"币种档案8","isDdcClass":true},{"id":"657180183257746782","pId":"md__wareho","name":"仓库档案8","isDdcClass":true},{"id":"765791774307283907","pId":"md__batch","name":"批次档案8","isDdcClass":true},{"id":"452039598208039254","pId":"md__workor","name":"工单档案8","isDdcClass":true},{"id":"321930941014224139","pId":"md__mo","name":"生产订单档案8","isDdcClass":false},{"id":"779277550562365641","pId":"md__qc","name":"质检档案8","isDdcClass":true},{"id":"912320537701534288","pId":"md__asset","name":"资产档案8","isDdcClass":true},{"id":"389755795192532819","pId":"md__budget","name":"预算档案8","isDdcClass":true},{"id":"396179819543063716","pId":"md__expens","name":"费用档案8","isDdcClass":true},{"id":"158838956353271384","pId":"md__reimbu","name":"报销档案8","isDdcClass":false},{"id":"969783351071186237","pId":"md__wa","name":"薪资档案8","isDdcClass":true},{"id":"470257541585346252","pId":"md__tbm","name":"考勤档案8","isDdcClass":true},{"id":"688140292699056660","pId":"md__post","name":"岗位档案8","isDdcClass":true},{"id":"135690792042535013","pId":"md__bankac","name":"银行账户档案8","isDdcClass":true},{"id":"477175407746655307","pId":"md__materi","name":"物料表头8","isDdcClass":false},{"id":"334868641183589264","pId":"md__custom","name":"客户表头8","isDdcClass":true},{"id":"556024315191354813","pId":"md__suppli","name":"供应商表头8","isDdcClass":true},{"id":"304748885394991313","pId":"md__saleor","name":"销售订单表头8","isDdcClass":true},{"id":"866554134967489344","pId":"md__purcha","name":"采购订单表头8","isDdcClass":true},{"id":"756573370531418201","pId":"md__stock","name":"库存表头8","isDdcClass":false},{"id":"463390776977041549","pId":"md__org","name":"组织表头8","isDdcClass":true},{"id":"764211438577015091","pId":"md__psndoc","name":"人员表头8","isDdcClass":true},{"id":"497504170703104830","pId":"md__dept","name":"部门表头8","isDdcClass":true},{"id":"661995573990126135","pId":"md__projec","name":"项目表头8","isDdcClass":true},{"id":"279912918494527687","pId":"md__contra","name":"合同表头8","isDdcClass":false},{"id":"107734414398305356","pId":"md__invoic","name":"发票表头8","isDdcClass":true},{"id":"834064177462342020","pId":"md__gather","name":"收款单表头8","isDdcClass":true},{"id":"849709056175308514","pId":"md__paybil","name":"付款单表头8","isDdcClass":true},{"id":"484272654831156461","pId":"md__vouche","name":"凭证表头8","isDdcClass":true},{"id":"556560149232952381","pId":"md__accoun","name":"科目表头8","isDdcClass":false},{"id":"204494712425173854","pId":"md__curren","name":"币种表头8","isDdcClass":true},{"id":"539317948944649322","pId":"md__wareho","name":"仓库表头8","isDdcClass":true},{"id":"810839726786253000","pId":"md__batch","name":"批次表头8","isDdcClass":true},{"id":"374729550677465470","pId":"md__workor","name":"工单表头8","isDdcClass":true},{"id":"220494239375499119","pId":"md__mo","name":"生产订单表头8","isDdcClass":false},{"id":"208621028379381845","pId":"md__qc","name":"质检表头8","isDdcClass":true},{"id":"577426836401478319","pId":"md__asset","name":"资产表头8","isDdcClass":true},{"id":"363240935257267405","pId":"md__budget","name":"预算表头8","isDdcClass":true},{"id":"594336991931775340","pId":"md__expens","name":"费用表头8","isDdcClass":true},{"id":"835185862169736829","pId":"md__reimbu","name":"报销表头8","isDdcClass":false},{"id":"165562100004443115","pId":"md__wa","name":"薪资表头8","isDdcClass":true},{"id":"479170010319873913","pId":"md__tbm","name":"考勤表头8","isDdcClass":true},{"id":"871008225197244629","pId":"md__post","name":"岗位表头8","isDdcClass":true},{"id":"477575776725218629","pId":"md__bankac","name":"银行账户表头8","isDdcClass":true},{"id":"343239985979455222","pId":"md__materi","name":"物料表体8","isDdcClass":false},{"id":"231773871073510088","pId":"md__custom","name":"客户表体8","isDdcClass":true},{"id":"695694659266867413","pId":"md__suppli","name":"供应商表体8","isDdcClass":true},{"id":"510842534494880116","pId":"md__saleor","name":"销售订单表体8","isDdcClass":true},{"id":"792288073531409695","pId":"md__purcha","name":"采购订单表体8","isDdcClass":true},{"id":"328462376388122506","pId":"md__stock","name":"库存表体8","isDdcClass":false},{"id":"726405428431160619","pId":"md__org","name":"组织表体8","isDdcClass":true},{"id":"915384858955409229","pId":"md__psndoc","name":"人员表体8","isDdcClass":true},{"id":"987418227801559940","pId":"md__dept","name":"部门表体8","isDdcClass":true},{"id":"405925599140133587","pId":"md__projec","name":"项目表体8","isDdcClass":true},{"id":"534485216459984886","pId":"md__contra","name":"合同表体8","isDdcClass":false},{"id":"682467253796286307","pId":"md__invoic","name":"发票表体8","isDdcClass":true},{"id":"580332655898087473","pId":"md__gather","name":"收款单表体8","isDdcClass":true},{"id":"241564337077982698","pId":"md__paybil","name":"付款单表体8","isDdcClass":true},{"id":"403648888153300195","pId":"md__vouche","name":"凭证表体8","isDdcClass":true},{"id":"665680693493750113","pId":"md__accoun","name":"科目表体8","isDdcClass":false},{"id":"552647343047732982","pId":"md__curren","name":"币种表体8","isDdcClass":true},{"id":"861411981177802868","pId":"md__wareho","name":"仓库表体8","isDdcClass":true},{"id":"316207522232582367","pId":"md__batch","name":"批次表体8","isDdcClass":true},{"id":"381929613083456204","pId":"md__workor","name":"工单表体8","isDdcClass":true},{"id":"295258133900259309","pId":"md__mo","name":"生产订单表体8","isDdcClass":false},{"id":"313329545399079353","pId":"md__qc","name":"质检表体8","isDdcClass":true},{"id":"733038386892354278","pId":"md__asset","name":"资产表体8","isDdcClass":true},{"id":"943379683641286194","pId":"md__budget","name":"预算表体8","isDdcClass":true},{"id":"781231696411462847","pId":"md__expens","name":"费用表体8","isDdcClass":true},{"id":"769020689441058675","pId":"md__reimbu","name":"报销表体8","isDdcClass":false},{"id":"506542021234363338","pId":"md__wa","name":"薪资表体8","isDdcClass":true},{"id":"253473951484310547","pId":"md__tbm","name":"考勤表体8","isDdcClass":true},{"id":"590097828624801058","pId":"md__post","name":"岗位表体8","isDdcClass":true},{"id":"907462669043846042","pId":"md__bankac","name":"银行账户表体8","isDdcClass":true},{"id":"703291226404587377","pId":"md__materi","name":"物料分类8","isDdcClass":false},{"id":"178931679878176810","pId":"md__custom","name":"客户分类8","isDdcClass":true},{"id":"772283450825303099","pId":"md__suppli","name":"供应商分类8","isDdcClass":true},{"id":"420933363644922310","pId":"md__saleor","name":"销售订单分类8","isDdcClass":true},{"id":"964486941878571319","pId":"md__purcha","name":"采购订单分类8","isDdcClass":true},{"id":"822313664288431103","pId":"md__stock","name":"库存分类8","isDdcClass":false},{"id":"860913602043825259","pId":"md__org","name":"组织分类8","isDdcClass":true},{"id":"771139866355579138","pId":"md__psndoc","name":"人员分类8","isDdcClass":true},{"id":"971925236719569385","pId":"md__dept","name":"部门分类8","isDdcClass":true},{"id":"734410149937940947","pId":"md__projec","name":"项目分类8","isDdcClass":true},{"id":"511941613720849561","pId":"md__contra","name":"合同分类8","isDdcClass":false},{"id":"784703672098932772","pId":"md__invoic","name":"发票分类8","isDdcClass":true},{"id":"353611071393872167","pId":"md__gather","name":"收款单分类8","isDdcClass":true},{"id":"653894254477955940","pId":"md__paybil","name":"付款单分类8","isDdcClass":true},{"id":"658526826497896044","pId":"md__vouche","name":"凭证分类8","isDdcClass":true},{"id":"764485363614245344","pId":"md__accoun","name":"科目分类8","isDdcClass":false},{"id":"180693236408736085","pId":"md__curren","name":"币种分类8","isDdcClass":true},{"id":"275458496908976114","pId":"md__wareho","name":"仓库分类8","isDdcClass":true},{"id":"470168884539646158","pId":"md__batch","name":"批次分类8","isDdcClass":true},{"id":"403989173789839633","pId":"md__workor","name":"工单分类8","isDdcClass":true},{"id":"894573382855409986","pId":"md__mo","name":"生产订单分类8","isDdcClass":false},{"id":"206304033503627905","pId":"md__qc","name":"质检分类8","isDdcClass":true},{"id":"273281829552540418","pId":"md__asset","name":"资产分类8","isDdcClass":true},{"id":"689999275154927317","pId":"md__budget","name":"预算分类8","isDdcClass":true},{"id":"413056766320772571","pId":"md__expens","name":"费用分类8","isDdcClass":true},{"id":"561245959646477465","pId":"md__reimbu","name":"报销分类8","isDdcClass":false},{"id":"602469883110723103","pId":"md__wa","name":"薪资分类8","isDdcClass":true},{"id":"479852507105229062","pId":"md__tbm","name":"考勤分类8","isDdcClass":true},{"id":"610660300374557330","pId":"md__post","name":"岗位分类8","isDdcClass":true},{"id":"680402396158804730","pId":"md__bankac","name":"银行账户分类8","isDdcClass":true},{"id":"782365622197668629","pId":"md__materi","name":"物料关系8","isDdcClass":false},{"id":"302023840582035789","pId":"md__custom","name":"客户关系8","isDdcClass":true},{"id":"884134105968378011","pId":"md__suppli","name":"供应商关系8","isDdcClass":true},{"id":"580501857928757964","pId":"md__saleor","name":"销售订单关系8","isDdcClass":true},{"id":"193518885921238986","pId":"md__purcha","name":"采购订单关系8","isDdcClass":true},{"id":"614241728773784534","pId":"md__stock","name":"库存关系8","isDdcClass":false},{"id":"707743113222005014","pId":"md__org","name":"组织关系8","isDdcClass":true},{"id":"185868311311886904","pId":"md__psndoc","name":"人员关系8","isDdcClass":true},{"id":"199050506957521517","pId":"md__dept","name":"部门关系8","isDdcClass":true},{"id":"784670830300275036","pId":"md__projec","name":"项目关系8","isDdcClass":true},{"id":"242135412752512005","pId":"md__contra","name":"合同关系8","isDdcClass":false},{"id":"494514372116749044","pId":"md__invoic","name":"发票关系8","isDdcClass":true},{"id":"881614835318063685","pId":"md__gather","name":"收款单关系8","isDdcClass":true},{"id":"564916515026914854","pId":"md__paybil","name":"付款单关系8","isDdcClass":true},{"id":"198314290873512346","pId":"md__vouche","name":"凭证关系8","isDdcClass":true},{"id":"112211752341759036","pId":"md__accoun","name":"科目关系8","isDdcClass":false},{"id":"279149659895216094","pId":"md__curren","name":"币种关系8","isDdcClass":true},{"id":"768921017217393662","pId":"md__wareho","name":"仓库关系8","isDdcClass":true},{"id":"140207452807849499","pId":"md__batch","name":"批次关系8","isDdcClass":true},{"id":"730939047969623235","pId":"md__workor","name":"工单关系8","isDdcClass":true},{"id":"483659309556936767","pId":"md__mo","name":"生产订单关系8","isDdcClass":false},{"id":"114033087976737717","pId":"md__qc","name":"质检关系8","isDdcClass":true},{"id":"901248519850967847","pId":"md__asset","name":"资产关系8","isDdcClass":true},{"id":"345288509382435903","pId":"md__budget","name":"预算关系8","isDdcClass":true},{"id":"647221513409388805","pId":"md__expens","name":"费用关系8","isDdcClass":true},{"id":"975734098726391019","pId":"md__reimbu","name":"报销关系8","isDdcClass":false},{"id":"974300910913971471","pId":"md__wa","name":"薪资关系8","isDdcClass":true},{"id":"328566276849671061","pId":"md__tbm","name":"考勤关系8","isDdcClass":true},{"id":"275511301413104232","pId":"md__post","name":"岗位关系8","isDdcClass":true},{"id":"290463101588301794","pId":"md__bankac","name":"银行账户关系8","isDdcClass":true},{"id":"928778626918870975","pId":"md__materi","name":"物料日志8","isDdcClass":false},{"id":"637463248340132479","pId":"md__custom","name":"客户日志8","isDdcClass":true},{"id":"999537970038518606","pId":"md__suppli","name":"供应商日志8","isDdcClass":true},{"id":"291006170416252458","pId":"md__saleor","name":"销售订单日志8","isDdcClass":true},{"id":"401779575505659821","pId":"md__purcha","name":"采购订单日志8","isDdcClass":true},{"id":"263676596297783621","pId":"md__stock","name":"库存日志8","isDdcClass":false},{"id":"142583078949345992","pId":"md__org","name":"组织日志8","isDdcClass":true},{"id":"345391334811680733","pId":"md__psndoc","name":"人员日志8","isDdcClass":true},{"id":"150375752870521129","pId":"md__dept","name":"部门日志8","isDdcClass":true},{"id":"189015464011078151","pId":"md__projec","name":"项目日志8","isDdcClass":true},{"id":"227417867637327948","pId":"md__contra","name":"合同日志8","isDdcClass":false},{"id":"282194585786727345","pId":"md__invoic","name":"发票日志8","isDdcClass":true},{"id":"896644664069585397","pId":"md__gather","name":"收款单日志8","isDdcClass":true},{"id":"148216467916597667","pId":"md__paybil","name":"付款单日志8","isDdcClass":true},{"id":"903010055718098095","pId":"md__vouche","name":"凭证日志8","isDdcClass":true},{"id":"138145268835373283","pId":"md__accoun","name":"科目日志8","isDdcClass":false},{"id":"919812124023483549","pId":"md__curren","name":"币种日志8","isDdcClass":true},{"id":"102944593701182133","pId":"md__wareho","name":"仓库日志8","isDdcClass":true},{"id":"470785213345147612","pId":"md__batch","name":"批次日志8","isDdcClass":true},{"id":"708302109532786709","pId":"md__workor","name":"工单日志8","isDdcClass":true},{"id":"417891419462290800","pId":"md__mo","name":"生产订单日志8","isDdcClass":false},{"id":"431581559412034565","pId":"md__qc","name":"质检日志8","isDdcClass":true},{"id":"667590453195291187","pId":"md__asset","name":"资产日志8","isDdcClass":true},{"id":"331861495157032537","pId":"md__budget","name":"预算日志8","isDdcClass":true},{"id":"330486297121220344","pId":"md__expens","name":"费用日志8","isDdcClass":true},{"id":"824311386066836455","pId":"md__reimbu","name":"报销日志8","isDdcClass":false},{"id":"826372070741542263","pId":"md__wa","name":"薪资日志8","isDdcClass":true},{"id":"890614377327682445","pId":"md__tbm","name":"考勤日志8","isDdcClass":true},{"id":"680011978738112075","pId":"md__post","name":"岗位日志8","isDdcClass":true},{"id":"518016802449837773","pId":"md__bankac","name":"银行账户日志8","isDdcClass":true},{"id":"127521335770355669","pId":"md__materi","name":"物料扩展8","isDdcClass":false},{"id":"658568356559683146","pId":"md__custom","name":"客户扩展8","isDdcClass":true},{"id":"147188995434828969","pId":"md__suppli","name":"供应商扩展8","isDdcClass":true},{"id":"854571581418257159","pId":"md__saleor","name":"销售订单扩展8","isDdcClass":true},{"id":"350939095274818183","pId":"md__purcha","name":"采购订单扩展8","isDdcClass":true},{"id":"350619152538447779","pId":"md__stock","name":"库存扩展8","isDdcClass":false},{"id":"902338799204967848","pId":"md__org","name":"组织扩展8","isDdcClass":true},{"id":"167676738336756416","pId":"md__psndoc","name":"人员扩展8","isDdcClass":true},{"id":"440158146187435801","pId":"md__dept","name":"部门扩展8","isDdcClass":true},{"id":"321120644204048737","pId":"md__projec","name":"项目扩展8","isDdcClass":true},{"id":"578050427450525997","pId":"md__contra","name":"合同扩展8","isDdcClass":false},{"id":"704001805669801478","pId":"md__invoic","name":"发票扩展8","isDdcClass":true},{"id":"111786758665074238","pId":"md__gather","name":"收款单扩展8","isDdcClass":true},{"id":"621412341483495061","pId":"md__paybil","name":"付款单扩展8","isDdcClass":true},{"id":"185971391968497888","pId":"md__vouche","name":"凭证扩展8","isDdcClass":true},{"id":"740287168098494151","pId":"md__accoun","name":"科目扩展8","isDdcClass":false},{"id":"337775426603434663","pId":"md__curren","name":"币种扩展8","isDdcClass":true},{"id":"434484152341764702","pId":"md__wareho","name":"仓库扩展8","isDdcClass":true},{"id":"472021188345546447","pId":"md__batch","name":"批次扩展8","isDdcClass":true},{"id":"623294028596833907","pId":"md__workor","name":"工单扩展8","isDdcClass":true},{"id":"986633896090587209","pId":"md__mo","name":"生产订单扩展8","isDdcClass":false},{"id":"113765327398952864","pId":"md__qc","name":"质检扩展8","isDdcClass":true},{"id":"399207860244176396","pId":"md__asset","name":"资产扩展8","isDdcClass":true},{"id":"616827605384584323","pId":"md__budget","name":"预算扩展8","isDdcClass":true},{"id":"268375307718770430","pId":"md__expens","name":"费用扩展8","isDdcClass":true},{"id":"865502587621324460","pId":"md__reimbu","name":"报销扩展8","isDdcClass":false},{"id":"723579804149715809","pId":"md__wa","name":"薪资扩展8","isDdcClass":true},{"id":"928093302499059055","pId":"md__tbm","name":"考勤扩展8","isDdcClass":true},{"id":"307268256872436622","pId":"md__post","name":"岗位扩展8","isDdcClass":true},{"id":"665994293335347674","pId":"md__bankac","name":"银行账户扩展8","isDdcClass":true},{"id":"401013695186739812","pId":"md__materi","name":"物料主表9","isDdcClass":false},{"id":"571212835601653163","pId":"md__custom","name":"客户主表9","isDdcClass":true},{"id":"254460845313668684","pId":"md__suppli","name":"供应商主表9","isDdcClass":true},{"id":"139671226450477536","pId":"md__saleor","name":"销售订单主表9","isDdcClass":true},{"id":"479978696193804977","pId":"md__purcha","name":"采购订单主表9","isDdcClass":true},{"id":"176267513887564018","pId":"md__stock","name":"库存主表9","isDdcClass":false},{"id":"925071512665181260","pId":"md__org","name":"组织主表9","isDdcClass":true},{"id":"887260695789756597","pId":"md__psndoc","name":"人员主表9","isDdcClass":true},{"id":"667279006912565051","pId":"md__dept","name":"部门主表9","isDdcClass":true},{"id":"330693316795276913","pId":"md__projec","name":"项目主表9","isDdcClass":true},{"id":"844816694844628815","pId":"md__contra","name":"合同主表9","isDdcClass":false},{"id":"368199694097382004","pId":"md__invoic","name":"发票主表9","isDdcClass":true},{"id":"622602756539898216","pId":"md__gather","name":"收款单主表9","isDdcClass":true},{"id":"157995143415754847","pId":"md__paybil","name":"付款单主表9","isDdcClass":true},{"id":"323585400139766935","pId":"md__vouche","name":"凭证主表9","isDdcClass":true},{"id":"692975190789568032","pId":"md__accoun","name":"科目主表9","isDdcClass":false},{"id":"797142492208153000","pId":"md__curren","name":"币种主表9","isDdcClass":true},{"id":"603129000874611712","pId":"md__wareho","name":"仓库主表9","isDdcClass":true},{"id":"728973098596442265","pId":"md__batch","name":"批次主表9","isDdcClass":true},{"id":"392314407005405552","pId":"md__workor","name":"工单主表9","isDdcClass":true},{"id":"683237722896522483","pId":"md__mo","name":"生产订单主表9","isDdcClass":false},{"id":"509877413739284516","pId":"md__qc","name":"质检主表9","isDdcClass":true},{"id":"941305642677293994","pId":"md__asset","name":"资产主表9","isDdcClass":true},{"id":"264946903842242680","pId":"md__budget","name":"预算主表9","isDdcClass":true},{"id":"519933109441989568","pId":"md__expens","name":"费用主表9","isDdcClass":true},{"id":"896181483199284475","pId":"md__reimbu","name":"报销主表9","isDdcClass":false},{"id":"770974549691712755","pId":"md__wa","name":"薪资主表9","isDdcClass":true},{"id":"298914337598659167","pId":"md__tbm","name":"考勤主表9","isDdcClass":true},{"id":"477375058418403564","pId":"md__post","name":"岗位主表9","isDdcClass":true},{"id":"700595739225505735","pId":"md__bankac","name":"银行账户主表9","isDdcClass":true},{"id":"831574429091063595","pId":"md__materi","name":"物料子表9","isDdcClass":false},{"id":"843800040579900926","pId":"md__custom","name":"客户子表9","isDdcClass":true},{"id":"709491947147978907","pId":"md__suppli","name":"供应商子表9","isDdcClass":true},{"id":"570928890982956339","pId":"md__saleor","name":"销售订单子表9","isDdcClass":true},{"id":"702905825640727287","pId":"md__purcha","name":"采购订单子表9","isDdcClass":true},{"id":"630658452589362850","pId":"md__stock","name":"库存子表9","isDdcClass":false},{"id":"804865740869375842","pId":"md__org","name":"组织子表9","isDdcClass":true},{"id":"172547481240440699","pId":"md__psndoc","name":"人员子表9","isDdcClass":true},{"id":"691708529108400255","pId":"md__dept","name":"部门子表9","isDdcClass":true},{"id":"273055837773516474","pId":"md__projec","name":"项目子表9","isDdcClass":true},{"id":"505628455321862442","pId":"md__contra","name":"合同子表9","isDdcClass":false},{"id":"399045862828221429","pId":"md__invoic","name":"发票子表9","isDdcClass":true},{"id":"482029846922228476","pId":"md__gather","name":"收款单子表9","isDdcClass":true},{"id":"659842023313241972","pId":"md__paybil","name":"付款单子表9","isDdcClass":true},{"id":"337065331489704957","pId":"md__vouche","name":"凭证子表9","isDdcClass":true},{"id":"883850713612262501","pId":"md__accoun","name":"科目子表9","isDdcClass":false},{"id":"124688971525147686","pId":"md__curren","name":"币种子表9","isDdcClass":true},{"id":"576010577828517502","pId":"md__wareho","name":"仓库子表9","isDdcClass":true},{"id":"144746637157221278","pId":"md__batch","name":"批次子表9","isDdcClass":true},{"id":"492255380135635697","pId":"md__workor","name":"工单子表9","isDdcClass":true},{"id":"701239414559034510","pId":"md__mo","name":"生产订单子表9","isDdcClass":false},{"id":"978864551194197385","pId":"md__qc","name":"质检子表9","isDdcClass":true},{"id":"255222743906235383","pId":"md__asset","name":"资产子表9","isDdcClass":true},{"id":"684825424200016820","pId":"md__budget","name":"预算子表9","isDdcClass":true},{"id":"820042004340408680","pId":"md__expens","name":"费用子表9","isDdcClass":true},{"id":"250025838267138131","pId":"md__reimbu","name":"报销子表9","isDdcClass":false},{"id":"383252731761419025","pId":"md__wa","name":"薪资子表9","isDdcClass":true},{"id":"881373021455024781","pId":"md__tbm","name":"考勤子表9","isDdcClass":true},{"id":"566125670640450211","pId":"md__post","name":"岗位子表9","isDdcClass":true},{"id":"733502119173573484","pId":"md__bankac","name":"银行账户子表9","isDdcClass":true},{"id":"921113295960920944","pId":"md__materi","name":"物料明细9","isDdcClass":false},{"id":"611550759409886707","pId":"md__custom","name":"客户明细9","isDdcClass":true},{"id":"266074277350922776","pId":"md__suppli","name":"供应商明细9","isDdcClass":true},{"id":"364364083992640834","pId":"md__saleor","name":"销售订单明细9","isDdcClass":true},{"id":"114573318615030835","pId":"md__purcha","name":"采购订单明细9","isDdcClass":true},{"id":"737380351931994078","pId":"md__stock","name":"库存明细9","isDdcClass":false},{"id":"860946942159655259","pId":"md__org","name":"组织明细9","isDdcClass":true},{"id":"507094967953167433","pId":"md__psndoc","name":"人员明细9","isDdcClass":true},{"id":"769866305598989448","pId":"md__dept","name":"部门明细9","isDdcClass":true},{"id":"191424265114061914","pId":"md__projec","name":"项目明细9","isDdcClass":true},{"id":"620514452742192888","pId":"md__contra","name":"合同明细9","isDdcClass":false},{"id":"422711068245696954","pId":"md__invoic","name":"发票明细9","isDdcClass":true},{"id":"173688689415047073","pId":"md__gather","name":"收款单明细9","isDdcClass":true},{"id":"973295417184886146","pId":"md__paybil","name":"付款单明细9","isDdcClass":true},{"id":"781515937115843791","pId":"md__vouche","name":"凭证明细9","isDdcClass":true},{"id":"526252335711720615","pId":"md__accoun","name":"科目明细9","isDdcClass":false},{"id":"396063950482346930","pId":"md__curren","name":"币种明细9","isDdcClass":true},{"id":"626946270738664181","pId":"md__wareho","name":"仓库明细9","isDdcClass":true},{"id":"641889423648535453","pId":"md__batch","name":"批次明细9","isDdcClass":true},{"id":"274887183526915856","pId":"md__workor","name":"工单明细9","isDdcClass":true},{"id":"778554267333503544","pId":"md__mo","name":"生产订单明细9","isDdcClass":false},{"id":"755607861406862703","pId":"md__qc","name":"质检明细9","isDdcClass":true},{"id":"633297330187541435","pId":"md__asset","name":"资产明细9","isDdcClass":true},{"id":"880554122559943835","pId":"md__budget","name":"预算明细9","isDdcClass":true},{"id":"823200569841277207","pId":"md__expens","name":"费用明细9","isDdcClass":true},{"id":"752883019710619623","pId":"md__reimbu","name":"报销明细9","isDdcClass":false},{"id":"807260245552224801","pId":"md__wa","name":"薪资明细9","isDdcClass":true},{"id":"342867833606069475","pId":"md__tbm","name":"考勤明细9","isDdcClass":true},{"id":"558024230257251569","pId":"md__post","name":"岗位明细9","isDdcClass":true},{"id":"737470586781588552","pId":"md__bankac","name":"银行账户明细9","isDdcClass":true},{"id":"303894240638025025","pId":"md__materi","name":"物料档案9","isDdcClass":false},{"id":"438375294951391308","pId":"md__custom","name":"客户档案9","isDdcClass":true},{"id":"211197617008371452","pId":"md__suppli","name":"供应商档案9","isDdcClass":true},{"id":"794536428085889529","pId":"md__saleor","name":"销售订单档案9","isDdcClass":true},{"id":"780096844966562369","pId":"md__purcha","name":"采购订单档案9","isDdcClass":true},{"id":"684834798520321826","pId":"md__stock","name":"库存档案9","isDdcClass":false},{"id":"153238130374397024","pId":"md__org","name":"组织档案9","isDdcClass":true},{"id":"897983099978653834","pId":"md__psndoc","name":"人员档案9","isDdcClass":true},{"id":"569735745247561268","pId":"md__dept","name":"部门档案9","isDdcClass":true},{"id":"937849160499816293","pId":"md__projec","name":"项目档案9","isDdcClass":true},{"id":"551411531951659669","pId":"md__contra","name":"合同档案9","isDdcClass":false},{"id":"562806032673219491","pId":"md__invoic","name":"发票档案9","isDdcClass":true},{"id":"930530628756369383","pId":"md__gather","name":"收款单档案9","isDdcClass":true},{"id":"573471048903817824","pId":"md__paybil","name":"付款单档案9","isDdcClass":true},{"id":"300350448773072546","pId":"md__vouche","name":"凭证档案9","isDdcClass":true},{"id":"922199049180130210","pId":"md__accoun","name":"科目档案9","isDdcClass":false},{"id":"826268978429156298","pId":"md__curren","name":"币种档案9","isDdcClass":true},{"id":"828237356627604631","pId":"md__wareho","name":"仓库档案9","isDdcClass":true},{"id":"269031999499104755","pId":"md__batch","name":"批次档案9","isDdcClass":true},{"id":"971215500207866179","pId":"md__workor","name":"工单档案9","isDdcClass":true},{"id":"102440329210875802","pId":"md__mo","name":"生产订单档案9","isDdcClass":false},{"id":"775795962718800104","pId":"md__qc","name":"质检档案9","isDdcClass":true},{"id":"872105694850606452","pId":"md__asset","name":"资产档案9","isDdcClass":true},{"id":"843100882491695610","pId":"md__budget","name":"预算档案9","isDdcClass":true},{"id":"219267668152538906","pId":"md__expens","name":"费用档案9","isDdcClass":true},{"id":"588793574183756472","pId":"md__reimbu","name":"报销档案9","isDdcClass":false},{"id":"636455294947732374","pId":"md__wa","name":"薪资档案9","isDdcClass":true},{"id":"762437667125311321","pId":"md__tbm","name":"考勤档案9","isDdcClass":true},{"id":"672860933462038848","pId":"md__post","name":"岗位档案9","isDdcClass":true},{"id":"774562390986444444","pId":"md__bankac","name":"银行账户档案9","isDdcClass":true},{"id":"896151389935139941","pId":"md__materi","name":"物料表头9","isDdcClass":false},{"id":"882404985307096395","pId":"md__custom","name":"客户表头9","isDdcClass":true},{"id":"788735989916207433","pId":"md__suppli","name":"供应商表头9","isDdcClass":true},{"id":"765634313196511947","pId":"md__saleor","name":"销售订单表头9","isDdcClass":true},{"id":"983558197491781595","pId":"md__purcha","name":"采购订单表头9","isDdcClass":true},{"id":"598795450145528769","pId":"md__stock","name":"库存表头9","isDdcClass":false},{"id":"453074576563099122","pId":"md__org","name":"组织表头9","isDdcClass":true},{"id":"347823825382321655","pId":"md__psndoc","name":"人员表头9","isDdcClass":true},{"id":"994885615805737048","pId":"md__dept","name":"部门表头9","isDdcClass":true},{"id":"850444554294436552","pId":"md__projec","name":"项目表头9","isDdcClass":true},{"id":"680382947265552634","pId":"md__contra","name":"合同表头9","isDdcClass":false},{"id":"273359386676652165","pId":"md__invoic","name":"发票表头9","isDdcClass":true},{"id":"187568964139515571","pId":"md__gather","name":"收款单表头9","isDdcClass":true},{"id":"188623388488735088","pId":"md__paybil","name":"付款单表头9","isDdcClass":true},{"id":"180251157099242548","pId":"md__vouche","name":"凭证表头9","isDdcClass":true},{"id":"861455018838260423","pId":"md__accoun","name":"科目表头9","isDdcClass":false},{"id":"318852962363191813","pId":"md__curren","name":"币种表头9","isDdcClass":true},{"id":"162592809644450527","pId":"md__wareho","name":"仓库表头9","isDdcClass":true},{"id":"539414442931447447","pId":"md__batch","name":"批次表头9","isDdcClass":true},{"id":"427221308580670629","pId":"md__workor","name":"工单表头9","isDdcClass":true},{"id":"841696625592286305","pId":"md__mo","name":"生产订单表头9","isDdcClass":false},{"id":"963389670647392768","pId":"md__qc","name":"质检表头9","isDdcClass":true},{"id":"570548937239932589","pId":"md__asset","name":"资产表头9","isDdcClass":true},{"id":"937565456487283130","pId":"md__budget","name":"预算表头9","isDdcClass":true},{"id":"539291449297858458","pId":"md__expens","name":"费用表头9","isDdcClass":true},{"id":"288060853901186328","pId":"md__reimbu","name":"报销表头9","isDdcClass":false},{"id":"730603624998705386","pId":"md__wa","name":"薪资表头9","isDdcClass":true},{"id":"520060723707619803","pId":"md__tbm","name":"考勤表头9","isDdcClass":true},{"id":"711820784184241474","pId":"md__post","name":"岗位表头9","isDdcClass":true},{"id":"758391310803455933","pId":"md__bankac","name":"银行账户表头9","isDdcClass":true},{"id":"223047728859971988","pId":"md__materi","name":"物料表体9","isDdcClass":false},{"id":"316182950027595856","pId":"md__custom","name":"客户表体9","isDdcClass":true},{"id":"212732331643916817","pId":"md__suppli","name":"供应商表体9","isDdcClass":true},{"id":"642586484426791658","pId":"md__saleor","name":"销售订单表体9","isDdcClass":true},{"id":"215613670928167951","pId":"md__purcha","name":"采购订单表体9","isDdcClass":true},{"id":"407364853842086509","pId":"md__stock","name":"库存表体9","isDdcClass":false},{"id":"667228358301996192","pId":"md__org","name":"组织表体9","isDdcClass":true},{"id":"236369776779165737","pId":"md__psndoc","name":"人员表体9","isDdcClass":true},{"id":"179505726292323291","pId":"md__dept","name":"部门表体9","isDdcClass":true},{"id":"414681771506020111","pId":"md__projec","name":"项目表体9","isDdcClass":true},{"id":"727331039519024500","pId":"md__contra","name":"合同表体9","isDdcClass":false},{"id":"136301391320460904","pId":"md__invoic","name":"发票表体9","isDdcClass":true},{"id":"573836917334825483","pId":"md__gather","name":"收款单表体9","isDdcClass":true},{"id":"929461105172345920","pId":"md__paybil","name":"付款单表体9","isDdcClass":true},{"id":"551452531213749123","pId":"md__vouche","name":"凭证表体9","isDdcClass":true},{"id":"145273918336985443","pId":"md__accoun","name":"科目表体9","isDdcClass":false},{"id":"932892878650361784","pId":"md__curren","name":"币种表体9","isDdcClass":true},{"id":"930823400850188295","pId":"md__wareho","name":"仓库表体9","isDdcClass":true},{"id":"649396116611545982","pId":"md__batch","name":"批次表体9","isDdcClass":true},{"id":"703863282408197281","pId":"md__workor","name":"工单表体9","isDdcClass":true},{"id":"237109700453168671","pId":"md__mo","name":"生产订单表体9","isDdcClass":false},{"id":"834096940887966869","pId":"md__qc","name":"质检表体9","isDdcClass":true},{"id":"132509005592957601","pId":"md__asset","name":"资产表体9","isDdcClass":true},{"id":"637131556735059916","pId":"md__budget","name":"预算表体9","isDdcClass":true},{"id":"941355400668014775","pId":"md__expens","name":"费用表体9","isDdcClass":true},{"id":"435783660377248012","pId":"md__reimbu","name":"报销表体9","isDdcClass":false},{"id":"715995672129617835","pId":"md__wa","name":"薪资表体9","isDdcClass":true},{"id":"777852331277461729","pId":"md__tbm","name":"考勤表体9","isDdcClass":true},{"id":"345848129375445141","pId":"md__post","name":"岗位表体9","isDdcClass":true},{"id":"400310015778211240","pId":"md__bankac","name":"银行账户表体9","isDdcClass":true},{"id":"194453846080401944","pId":"md__materi","name":"物料分类9","isDdcClass":false},{"id":"986726843803133626","pId":"md__custom","name":"客户分类9","isDdcClass":true},{"id":"934415998281815623","pId":"md__suppli","name":"供应商分类9","isDdcClass":true},{"id":"814097561971600385","pId":"md__saleor","name":"销售订单分类9","isDdcClass":true},{"id":"269977402148933659","pId":"md__purcha","name":"采购订单分类9","isDdcClass":true},{"id":"515817121056336783","pId":"md__stock","name":"库存分类9","isDdcClass":false},{"id":"574614996523772037","pId":"md__org","name":"组织分类9","isDdcClass":true},{"id":"555409007150875114","pId":"md__psndoc","name":"人员分类9","isDdcClass":true},{"id":"406549234508118231","pId":"md__dept","name":"部门分类9","isDdcClass":true},{"id":"204574438044249717","pId":"md__projec","name":"项目分类9","isDdcClass":true},{"id":"915072587758374079","pId":"md__contra","name":"合同分类9","isDdcClass":false},{"id":"118683124751465021","pId":"md__invoic","name":"发票分类9","isDdcClass":true},{"id":"608900846515499205","pId":"md__gather","name":"收款单分类9","isDdcClass":true},{"id":"552294558800555255","pId":"md__paybil","name":"付款单分类9","isDdcClass":true},{"id":"620672538748788887","pId":"md__vouche","name":"凭证分类9","isDdcClass":true},{"id":"687850097561788519","pId":"md__accoun","name":"科目分类9","isDdcClass":false},{"id":"786567605582757583","pId":"md__curren","name":"币种分类9","isDdcClass":true},{"id":"625466149057127478","pId":"md__wareho","name":"仓库分类9","isDdcClass":true},{"id":"127420611885802109","pId":"md__batch","name":"批次分类9","isDdcClass":true},{"id":"452186995103213078","pId":"md__workor","name":"工单分类9","isDdcClass":true},{"id":"898192765483612798","pId":"md__mo","name":"生产订单分类9","isDdcClass":false},{"id":"381942756887484040","pId":"md__qc","name":"质检分类9","isDdcClass":true},{"id":"517527009561640101","pId":"md__asset","name":"资产分类9","isDdcClass":true},{"id":"190177825224094344","pId":"md__budget","name":"预算分类9","isDdcClass":true},{"id":"449869754104870026","pId":"md__expens","name":"费用分类9","isDdcClass":true},{"id":"578788452665369567","pId":"md__reimbu","name":"报销分类9","isDdcClass":false},{"id":"347839128105425442","pId":"md__wa","name":"薪资分类9","isDdcClass":true},{"id":"620872757373740148","pId":"md__tbm","name":"考勤分类9","isDdcClass":true},{"id":"226284748650451984","pId":"md__post","name":"岗位分类9","isDdcClass":true},{"id":"181751785467025776","pId":"md__bankac","name":"银行账户分类9","isDdcClass":true},{"id":"667400031445269728","pId":"md__materi","name":"物料关系9","isDdcClass":false},{"id":"547562145302748088","pId":"md__custom","name":"客户关系9","isDdcClass":true},{"id":"394148189455942779","pId":"md__suppli","name":"供应商关系9","isDdcClass":true},{"id":"974952809108296294","pId":"md__saleor","name":"销售订单关系9","isDdcClass":true},{"id":"339420535349497414","pId":"md__purcha","name":"采购订单关系9","isDdcClass":true},{"id":"440831185399820772","pId":"md__stock","name":"库存关系9","isDdcClass":false},{"id":"734830944192146051","pId":"md__org","name":"组织关系9","isDdcClass":true},{"id":"381658901924584717","pId":"md__psndoc","name":"人员关系9","isDdcClass":true},{"id":"847808692064383037","pId":"md__dept","name":"部门关系9","isDdcClass":true},{"id":"362341479299132122","pId":"md__projec","name":"项目关系9","isDdcClass":true},{"id":"543196145384494746","pId":"md__contra","name":"合同关系9","isDdcClass":false},{"id":"330731596938826339","pId":"md__invoic","name":"发票关系9","isDdcClass":true},{"id":"773682652416994862","pId":"md__gather","name":"收款单关系9","isDdcClass":true},{"id":"425553022413405712","pId":"md__paybil","name":"付款单关系9","isDdcClass":true},{"id":"843499509659192372","pId":"md__vouche","name":"凭证关系9","isDdcClass":true},{"id":"647201314651451075","pId":"md__accoun","name":"科目关系9","isDdcClass":false},{"id":"419422216202392792","pId":"md__curren","name":"币种关系9","isDdcClass":true},{"id":"610737137986827302","pId":"md__wareho","name":"仓库关系9","isDdcClass":true},{"id":"237941703843568546","pId":"md__batch","name":"批次关系9","isDdcClass":true},{"id":"755176943527438063","pId":"md__workor","name":"工单关系9","isDdcClass":true},{"id":"279506503002735758","pId":"md__mo","name":"生产订单关系9","isDdcClass":false},{"id":"383294189146933516","pId":"md__qc","name":"质检关系9","isDdcClass":true},{"id":"161398537224636985","pId":"md__asset","name":"资产关系9","isDdcClass":true},{"id":"357902149138972570","pId":"md__budget","name":"预算关系9","isDdcClass":true},{"id":"280843608009445803","pId":"md__expens","name":"费用关系9","isDdcClass":true},{"id":"498650519589557161","pId":"md__reimbu","name":"报销关系9","isDdcClass":false},{"id":"848546948442653388","pId":"md__wa","name":"薪资关系9","isDdcClass":true},{"id":"622957190120347150","pId":"md__tbm","name":"考勤关系9","isDdcClass":true},{"id":"728235858338675879","pId":"md__post","name":"岗位关系9","isDdcClass":true},{"id":"922789381270173568","pId":"md__bankac","name":"银行账户关系9","isDdcClass":true},{"id":"356932063374267780","pId":"md__materi","name":"物料日志9","isDdcClass":false},{"id":"554224242237176349","pId":"md__custom","name":"客户日志9","isDdcClass":true},{"id":"247869462244116325","pId":"md__suppli","name":"供应商日志9","isDdcClass":true},{"id":"547266467710525482","pId":"md__saleor","name":"销售订单日志9","isDdcClass":true},{"id":"233419865730216617","pId":"md__purcha","name":"采购订单日志9","isDdcClass":true},{"id":"364453753996548786","pId":"md__stock","name":"库存日志9","isDdcClass":false},{"id":"400745255822621992","pId":"md__org","name":"组织日志9","isDdcClass":true},{"id":"131023706191033607","pId":"md__psndoc","name":"人员日志9","isDdcClass":true},{"id":"105456378263846479","pId":"md__dept","name":"部门日志9","isDdcClass":true},{"id":"552956594437330297","pId":"md__projec","name":"项目日志9","isDdcClass":true},{"id":"255121230599884692","pId":"md__contra","name":"合同日志9","isDdcClass":false},{"id":"844998281083708147","pId":"md__invoic","name":"发票日志9","isDdcClass":true},{"id":"601129838748904010","pId":"md__gather","name":"收款单日志9","isDdcClass":true},{"id":"253513253561812077","pId":"md__paybil","name":"付款单日志9","isDdcClass":true},{"id":"592042222299051500","pId":"md__vouche","name":"凭证日志9","isDdcClass":true},{"id":"560431998602134313","pId":"md__accoun","name":"科目日志9","isDdcClass":false},{"id":"931592284883554352","pId":"md__curren","name":"币种日志9","isDdcClass":true},{"id":"994613134042784360","pId":"md__wareho","name":"仓库日志9","isDdcClass":true},{"id":"410129061322624188","pId":"md__batch","name":"批次日志9","isDdcClass":true},{"id":"363624882434111005","pId":"md__workor","name":"工单日志9","isDdcClass":true},{"id":"454199270575969414","pId":"md__mo","name":"生产订单日志9","isDdcClass":false},{"id":"312180636534803210","pId":"md__qc","name":"质检日志9","isDdcClass":true},{"id":"855882520529446160","pId":"md__asset","name":"资产日志9","isDdcClass":true},{"id":"841514016364611303","pId":"md__budget","name":"预算日志9","isDdcClass":true},{"id":"876037887384441113","pId":"md__expens","name":"费用日志9","isDdcClass":true},{"id":"312076182347199480","pId":"md__reimbu","name":"报销日志9","isDdcClass":false},{"id":"114825812940114801","pId":"md__wa","name":"薪资日志9","isDdcClass":true},{"id":"477754513001683086","pId":"md__tbm","name":"考勤日志9","isDdcClass":true},{"id":"273985579316711509","pId":"md__post","name":"岗位日志9","isDdcClass":true},{"id":"900518110870024698","pId":"md__bankac","name":"银行账户日志9","isDdcClass":true},{"id":"682909315902641971","pId":"md__materi","name":"物料扩展9","isDdcClass":false},{"id":"840666439199585616","pId":"md__custom","name":"客户扩展9","isDdcClass":true},{"id":"634071295318790129","pId":"md__suppli","name":"供应商扩展9","isDdcClass":true},{"id":"676851681684304305","pId":"md__saleor","name":"销售订单扩展9","isDdcClass":true},{"id":"435316672228921216","pId":"md__purcha","name":"采购订单扩展9","isDdcClass":true},{"id":"456803146454345620","pId":"md__stock","name":"库存扩展9","isDdcClass":false},{"id":"982762519902213948","pId":"md__org","name":"组织扩展9","isDdcClass":true},{"id":"463993463099315421","pId":"md__psndoc","name":"人员扩展9","isDdcClass":true},{"id":"110676605589185017","pId":"md__dept","name":"部门扩展9","isDdcClass":true},{"id":"674511359614725228","pId":"md__projec","name":"项目扩展9","isDdcClass":true},{"id":"621785518393204851","pId":"md__contra","name":"合同扩展9","isDdcClass":false},{"id":"323582672313692232","pId":"md__invoic","name":"发票扩展9","isDdcClass":true},{"id":"960952488942186923","pId":"md__gather","name":"收款单扩展9","isDdcClass":true},{"id":"492130688812407689","pId":"md__paybil","name":"付款单扩展9","isDdcClass":true},{"id":"828176735885396248","pId":"md__vouche","name":"凭证扩展9","isDdcClass":true},{"id":"288254264731569006","pId":"md__accoun","name":"科目扩展9","isDdcClass":false},{"id":"154758452405280108","pId":"md__curren","name":"币种扩展9","isDdcClass":true},{"id":"888173077402691355","pId":"md__wareho","name":"仓库扩展9","isDdcClass":true},{"id":"693498577088765228","pId":"md__batch","name":"批次扩展9","isDdcClass":true},{"id":"600601402498258484","pId":"md__workor","name":"工单扩展9","isDdcClass":true},{"id":"245292623859539316","pId":"md__mo","name":"生产订单扩展9","isDdcClass":false},{"id":"659990517326422657","pId":"md__qc","name":"质检扩展9","isDdcClass":true},{"id":"245807765686944019","pId":"md__asset","name":"资产扩展9","isDdcClass":true},{"id":"697332096661858709","pId":"md__budget","name":"预算扩展9","isDdcClass":true},{"id":"842781678105015566","pId":"md__expens","name":"费用扩展9","isDdcClass":true},{"id":"315938944767416506","pId":"md__reimbu","name":"报销扩展9","isDdcClass":false},{"id":"119759514495557665","pId":"md__wa","name":"薪资扩展9","isDdcClass":true},{"id":"466854429332779110","pId":"md__tbm","name":"考勤扩展9","isDdcClass":true},{"id":"401260287015558531","pId":"md__post","name":"岗位扩展9","isDdcClass":true},{"id":"729709256507524973","pId":"md__bankac","name":"银行账户扩展9","isDdcClass":true}];
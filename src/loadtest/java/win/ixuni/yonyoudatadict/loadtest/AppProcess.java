@@ -0,0 +1,131 @@
+package win.ixuni.yonyoudatadict.loadtest;
+
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 在独立JVM中运行的被测应用
+ * 与压测客户端分开进程，GC和线程调度互不干扰；输出写入工作目录下的 app.log
+ */
+public class AppProcess implements Closeable {
+
+    private static final String MAIN_CLASS = "win.ixuni.yonyoudatadict.YonyouDataDictApplication";
+
+    private static final long STARTUP_TIMEOUT_MILLIS = 120_000;
+
+    private final Process process;
+
+    private final String baseUrl;
+
+    private final Path logFile;
+
+    private AppProcess(Process process, String baseUrl, Path logFile) {
+        this.process = process;
+        this.baseUrl = baseUrl;
+        this.logFile = logFile;
+    }
+
+    /**
+     * 启动应用并等待健康检查通过
+     *
+     * @param upstreamUrl 模拟上游地址
+     */
+    public static AppProcess start(LoadTestOptions options, String upstreamUrl, HttpClient http)
+            throws IOException, InterruptedException {
+        int port = freePort();
+        Path workDir = Paths.get(options.getWorkDir());
+        Files.createDirectories(workDir);
+        Path logFile = workDir.resolve("app.log");
+
+        List<String> command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(options.getAppJvmArgs());
+        if (options.getAppJar() != null) {
+            command.add("-jar");
+            command.add(options.getAppJar());
+        } else {
+            command.add("-cp");
+            command.add(System.getProperty("java.class.path"));
+            command.add(MAIN_CLASS);
+        }
+        command.add("--server.port=" + port);
+        command.add("--data-dict.base-url=" + upstreamUrl);
+        command.add("--data-dict.default-app-code=" + options.getAppCode());
+        command.addAll(options.getAppArgs());
+
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(logFile.toFile())
+                .start();
+        AppProcess app = new AppProcess(process, "http://127.0.0.1:" + port, logFile);
+        try {
+            app.awaitReady(http);
+        } catch (IOException | InterruptedException | RuntimeException e) {
+            app.close();
+            throw e;
+        }
+        return app;
+    }
+
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    public long getPid() {
+        return process.pid();
+    }
+
+    private void awaitReady(HttpClient http) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/check"))
+                .timeout(Duration.ofSeconds(5))
+                .build();
+        long deadline = System.currentTimeMillis() + STARTUP_TIMEOUT_MILLIS;
+        while (System.currentTimeMillis() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("被测应用启动失败，退出码 " + process.exitValue() + "，日志: " + logFile);
+            }
+            try {
+                if (http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException e) {
+                // 端口尚未监听
+            }
+            Thread.sleep(500);
+        }
+        throw new IOException("被测应用在 " + STARTUP_TIMEOUT_MILLIS / 1000 + " 秒内未就绪，日志: " + logFile);
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    @Override
+    public void close() {
+        process.destroy();
+        try {
+            if (!process.waitFor(15, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor(5, TimeUnit.SECONDS);
+            }
+        } catch (InterruptedException e) {
+            process.destroyForcibly();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
@@ -0,0 +1,115 @@
+package win.ixuni.yonyoudatadict.loadtest;
+
+
+import com.alibaba.fastjson.JSON;
+import com.alibaba.fastjson.JSONArray;
+import com.alibaba.fastjson.JSONObject;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 某一时刻的GC累计值，前后两次相减得到一个统计区间内的GC情况
+ * 被测应用的数据取自其 /actuator/metrics（jvm.gc.pause、jvm.gc.memory.allocated、jvm.memory.used），
+ * 压测进程自身的数据取自 GarbageCollectorMXBean
+ */
+public class GcSnapshot {
+
+    private final long pauseCount;
+
+    private final double pauseSeconds;
+
+    private final double maxPauseSeconds;
+
+    private final double allocatedBytes;
+
+    private final double heapUsedBytes;
+
+    private GcSnapshot(long pauseCount, double pauseSeconds, double maxPauseSeconds,
+                       double allocatedBytes, double heapUsedBytes) {
+        this.pauseCount = pauseCount;
+        this.pauseSeconds = pauseSeconds;
+        this.maxPauseSeconds = maxPauseSeconds;
+        this.allocatedBytes = allocatedBytes;
+        this.heapUsedBytes = heapUsedBytes;
+    }
+
+    /**
+     * 读取被测应用的GC指标，尚未发生过GC时对应指标不存在，按0处理
+     */
+    public static GcSnapshot ofApp(HttpClient http, String baseUrl) {
+        Map<String, Double> pause = measurements(http, baseUrl, "jvm.gc.pause");
+        Map<String, Double> allocated = measurements(http, baseUrl, "jvm.gc.memory.allocated");
+        Map<String, Double> heap = measurements(http, baseUrl, "jvm.memory.used?tag=area:heap");
+        return new GcSnapshot(pause.getOrDefault("COUNT", 0.0).longValue(),
+                pause.getOrDefault("TOTAL_TIME", 0.0), pause.getOrDefault("MAX", 0.0),
+                allocated.getOrDefault("COUNT", 0.0), heap.getOrDefault("VALUE", 0.0));
+    }
+
+    /**
+     * 压测进程自身的GC累计次数和耗时
+     */
+    public static GcSnapshot ofLocal() {
+        long count = 0;
+        long millis = 0;
+        for (GarbageCollectorMXBean bean : ManagementFactory.getGarbageCollectorMXBeans()) {
+            count += Math.max(0, bean.getCollectionCount());
+            millis += Math.max(0, bean.getCollectionTime());
+        }
+        return new GcSnapshot(count, millis / 1000.0, 0, 0,
+                ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed());
+    }
+
+    /**
+     * 与更早的快照相减，得到区间内的GC情况
+     *
+     * @param earlier 区间开始时的快照
+     * @param seconds 区间时长（秒），用于计算分配速率
+     */
+    public Map<String, Object> since(GcSnapshot earlier, double seconds) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("pauses", pauseCount - earlier.pauseCount);
+        result.put("pauseMillis", round((pauseSeconds - earlier.pauseSeconds) * 1000));
+        // jvm.gc.pause 的MAX为最近一段时间内的最大值，区间较长时可能早于区间开始
+        result.put("maxPauseMillis", round(maxPauseSeconds * 1000));
+        result.put("allocatedMBPerSecond", seconds > 0
+                ? round((allocatedBytes - earlier.allocatedBytes) / 1024 / 1024 / seconds) : 0);
+        result.put("heapUsedMB", round(heapUsedBytes / 1024 / 1024));
+        return result;
+    }
+
+    private static Map<String, Double> measurements(HttpClient http, String baseUrl, String metric) {
+        Map<String, Double> result = new LinkedHashMap<>();
+        try {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/actuator/metrics/" + metric))
+                    .timeout(Duration.ofSeconds(10))
+                    .build();
+            HttpResponse<String> response = http.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                return result;
+            }
+            JSONArray array = JSON.parseObject(response.body()).getJSONArray("measurements");
+            if (array != null) {
+                for (int i = 0; i < array.size(); i++) {
+                    JSONObject measurement = array.getJSONObject(i);
+                    result.put(measurement.getString("statistic"), measurement.getDoubleValue("value"));
+                }
+            }
+        } catch (Exception e) {
+            // 指标不可用时不影响压测，报告中显示为0
+        }
+        return result;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+
+}
@@ -0,0 +1,81 @@
+package win.ixuni.yonyoudatadict.loadtest;
+
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 一个并发级别的压测结果，延迟单位为毫秒
+ */
+@Data
+public class LevelResult {
+
+    private int clients;
+
+    private int connectFailures;
+
+    private double durationSeconds;
+
+    private long requests;
+
+    private long errors;
+
+    private double errorRate;
+
+    private double throughput;
+
+    private double p50Millis;
+
+    private double p99Millis;
+
+    private double p999Millis;
+
+    private double maxMillis;
+
+    private double meanMillis;
+
+    // 协议/操作 分组的统计
+    private List<OperationStats> operations = new ArrayList<>();
+
+    private Map<String, Object> appGc;
+
+    private Map<String, Object> clientGc;
+
+    private long upstreamRequests;
+
+    private long upstreamInjectedErrors;
+
+    private long upstreamStalls;
+
+    private List<String> errorSamples = new ArrayList<>();
+
+    private boolean passed;
+
+    /**
+     * 按协议和操作分组的统计
+     */
+    @Data
+    public static class OperationStats {
+
+        private String name;
+
+        private long requests;
+
+        private long errors;
+
+        private double throughput;
+
+        private double p50Millis;
+
+        private double p99Millis;
+
+        private double p999Millis;
+
+        private double maxMillis;
+
+    }
+
+}
@@ -0,0 +1,26 @@
+package win.ixuni.yonyoudatadict.loadtest;
+
+
+import java.io.Closeable;
+
+/**
+ * 虚拟客户端，一个客户端同一时间只有一个请求在进行中
+ */
+public interface LoadClient extends Closeable {
+
+    /**
+     * 协议名称，用于按协议分组统计
+     */
+    String getProtocol();
+
+    /**
+     * 执行一次请求，正常返回表示成功
+     *
+     * @throws Exception 请求失败、返回错误或超时
+     */
+    void execute(Workload.Request request) throws Exception;
+
+    @Override
+    void close();
+
+}
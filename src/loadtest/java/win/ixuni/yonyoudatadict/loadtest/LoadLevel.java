@@ -0,0 +1,231 @@
+package win.ixuni.yonyoudatadict.loadtest;
+
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 以固定数量的虚拟客户端运行一个并发级别
+ * 每个客户端一个线程，闭环发送请求（上一个请求完成后再发下一个），先预热再统计；
+ * 统计的是客户端看到的每个请求的耗时，请求排队时吞吐量下降而不是延迟无限增长
+ */
+public class LoadLevel {
+
+    // 每级最多保留的错误信息条数
+    private static final int MAX_ERROR_SAMPLES = 5;
+
+    private final LoadTestOptions options;
+
+    private final Workload workload;
+
+    private final HttpClient http;
+
+    private final String baseUrl;
+
+    private final StubUpstream upstream;
+
+    // 协议/操作 -> 延迟直方图
+    private final Map<String, LatencyHistogram> histograms = new ConcurrentHashMap<>();
+
+    private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+
+    private final Queue<String> errorSamples = new ConcurrentLinkedQueue<>();
+
+    private final AtomicInteger errorSampleCount = new AtomicInteger();
+
+    private volatile boolean running = true;
+
+    private volatile boolean measuring;
+
+    public LoadLevel(LoadTestOptions options, Workload workload, HttpClient http, String baseUrl,
+                     StubUpstream upstream) {
+        this.options = options;
+        this.workload = workload;
+        this.http = http;
+        this.baseUrl = baseUrl;
+        this.upstream = upstream;
+    }
+
+    public LevelResult run(int clientCount) throws InterruptedException {
+        Duration timeout = Duration.ofMillis(options.getRequestTimeoutMillis());
+        List<LoadClient> clients = new ArrayList<>(clientCount);
+        int connectFailures = 0;
+        for (int i = 0; i < clientCount; i++) {
+            LoadClient client = createClient(i, timeout);
+            if (client == null) {
+                connectFailures++;
+            } else {
+                clients.add(client);
+            }
+        }
+
+        List<Thread> threads = new ArrayList<>(clients.size());
+        for (int i = 0; i < clients.size(); i++) {
+            LoadClient client = clients.get(i);
+            Thread thread = new Thread(() -> drive(client), "load-client-" + i);
+            thread.setDaemon(true);
+            threads.add(thread);
+            thread.start();
+        }
+
+        TimeUnit.SECONDS.sleep(options.getWarmupSeconds());
+        GcSnapshot appGcBefore = GcSnapshot.ofApp(http, baseUrl);
+        GcSnapshot clientGcBefore = GcSnapshot.ofLocal();
+        long upstreamBefore = upstream != null ? upstream.getRequestCount() : 0;
+        long injectedBefore = upstream != null ? upstream.getInjectedErrorCount() : 0;
+        long stallsBefore = upstream != null ? upstream.getStallCount() : 0;
+        long start = System.nanoTime();
+        measuring = true;
+        TimeUnit.SECONDS.sleep(options.getDurationSeconds());
+        measuring = false;
+        double seconds = (System.nanoTime() - start) / 1e9;
+        GcSnapshot appGcAfter = GcSnapshot.ofApp(http, baseUrl);
+        GcSnapshot clientGcAfter = GcSnapshot.ofLocal();
+
+        running = false;
+        for (LoadClient client : clients) {
+            client.close();
+        }
+        for (Thread thread : threads) {
+            thread.join(options.getRequestTimeoutMillis());
+        }
+
+        LevelResult result = summarize(clientCount, connectFailures, seconds);
+        result.setAppGc(appGcAfter.since(appGcBefore, seconds));
+        result.setClientGc(clientGcAfter.since(clientGcBefore, seconds));
+        if (upstream != null) {
+            result.setUpstreamRequests(upstream.getRequestCount() - upstreamBefore);
+            result.setUpstreamInjectedErrors(upstream.getInjectedErrorCount() - injectedBefore);
+            result.setUpstreamStalls(upstream.getStallCount() - stallsBefore);
+        }
+        result.setErrorSamples(new ArrayList<>(errorSamples));
+        result.setPassed(connectFailures == 0
+                && result.getP99Millis() <= options.getSloP99Millis()
+                && result.getErrorRate() <= options.getMaxErrorRate());
+        return result;
+    }
+
+    private LoadClient createClient(int index, Duration timeout) {
+        boolean mcp;
+        switch (options.getProtocol()) {
+            case "mcp":
+                mcp = true;
+                break;
+            case "rest":
+                mcp = false;
+                break;
+            default:
+                mcp = index % 2 == 0;
+                break;
+        }
+        if (!mcp) {
+            return new RestLoadClient(http, baseUrl, timeout);
+        }
+        McpLoadClient client = new McpLoadClient(http, baseUrl, timeout);
+        try {
+            client.connect();
+            return client;
+        } catch (Exception e) {
+            client.close();
+            sampleError("mcp/connect", e);
+            return null;
+        }
+    }
+
+    private void drive(LoadClient client) {
+        while (running) {
+            Workload.Request request = workload.next();
+            String key = client.getProtocol() + "/" + request.getOperation().name().toLowerCase();
+            long start = System.nanoTime();
+            boolean success = true;
+            try {
+                client.execute(request);
+            } catch (InterruptedException e) {
+                return;
+            } catch (Exception e) {
+                success = false;
+                if (running) {
+                    sampleError(key, e);
+                }
+            }
+            long micros = (System.nanoTime() - start) / 1000;
+            // 统计结束后才完成的请求不计入，关闭客户端导致的失败也不计入
+            if (measuring) {
+                histograms.computeIfAbsent(key, k -> new LatencyHistogram()).record(micros);
+                if (!success) {
+                    errors.computeIfAbsent(key, k -> new LongAdder()).increment();
+                }
+            }
+            if (options.getThinkMillis() > 0) {
+                try {
+                    Thread.sleep(options.getThinkMillis());
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private void sampleError(String key, Exception e) {
+        if (errorSampleCount.getAndIncrement() < MAX_ERROR_SAMPLES) {
+            errorSamples.add(key + ": " + e);
+        }
+    }
+
+    private LevelResult summarize(int clientCount, int connectFailures, double seconds) {
+        LevelResult result = new LevelResult();
+        result.setClients(clientCount);
+        result.setConnectFailures(connectFailures);
+        result.setDurationSeconds(round(seconds));
+
+        LatencyHistogram total = new LatencyHistogram();
+        long totalErrors = 0;
+        for (String key : new TreeSet<>(histograms.keySet())) {
+            LatencyHistogram histogram = histograms.get(key);
+            long operationErrors = errors.containsKey(key) ? errors.get(key).sum() : 0;
+            total.add(histogram);
+            totalErrors += operationErrors;
+
+            LevelResult.OperationStats stats = new LevelResult.OperationStats();
+            stats.setName(key);
+            stats.setRequests(histogram.getCount());
+            stats.setErrors(operationErrors);
+            stats.setThroughput(round(histogram.getCount() / seconds));
+            stats.setP50Millis(millis(histogram.percentile(0.5)));
+            stats.setP99Millis(millis(histogram.percentile(0.99)));
+            stats.setP999Millis(millis(histogram.percentile(0.999)));
+            stats.setMaxMillis(millis(histogram.getMax()));
+            result.getOperations().add(stats);
+        }
+
+        result.setRequests(total.getCount());
+        result.setErrors(totalErrors);
+        result.setErrorRate(total.getCount() == 0 ? 0 : (double) totalErrors / total.getCount());
+        result.setThroughput(round(total.getCount() / seconds));
+        result.setP50Millis(millis(total.percentile(0.5)));
+        result.setP99Millis(millis(total.percentile(0.99)));
+        result.setP999Millis(millis(total.percentile(0.999)));
+        result.setMaxMillis(millis(total.getMax()));
+        result.setMeanMillis(round(total.getMean() / 1000));
+        return result;
+    }
+
+    private static double millis(long micros) {
+        return round(micros / 1000.0);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+
+}
@@ -0,0 +1,274 @@
+package win.ixuni.yonyoudatadict.loadtest;
+
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 压测参数，命令行格式为 --名称=值
+ */
+@Data
+public class LoadTestOptions {
+
+    static final String USAGE = String.join("\n",
+            "用法: java -cp target/benchmarks.jar win.ixuni.yonyoudatadict.loadtest.LoadTestRunner [--名称=值 ...]",
+            "",
+            "并发与时长:",
+            "  --clients=10,50,100          逐级运行的并发虚拟客户端数",
+            "  --warmup-seconds=10          每级预热时长，预热期间的请求不计入统计",
+            "  --duration-seconds=30        每级统计时长",
+            "  --think-millis=0             每个客户端两次请求之间的间隔",
+            "  --request-timeout-millis=30000",
+            "请求组成:",
+            "  --protocol=mixed             mcp、rest 或 mixed（客户端各半）",
+            "  --mix=search:50,detail:40,batch:10",
+            "  --batch-size=10              批量获取详情的类ID数量",
+            "  --hot-fraction=0.2           热点类占全部类的比例",
+            "  --hot-ratio=0.8              请求落在热点类上的比例",
+            "模拟上游:",
+            "  --upstream-latency-millis=20 --upstream-jitter-millis=10",
+            "  --upstream-error-rate=0      返回500的比例",
+            "  --upstream-stall-rate=0      长时间不响应的比例，持续 --upstream-stall-millis=30000",
+            "  --stub-port=0                模拟上游端口，0为随机",
+            "被测应用:",
+            "  --app-jar=                   Spring Boot可执行jar，为空时以当前classpath启动",
+            "  --app-jvm-args=              被测应用的JVM参数，空格分隔，例如 -Xmx512m",
+            "  --app-args=                  被测应用的额外参数，空格分隔，例如 --data-dict.cache-size=1000",
+            "  --app-code=yonbip3ddc",
+            "  --target=                    已运行应用的地址（需指向模拟上游），指定时不启动应用",
+            "  --work-dir=target/loadtest   应用日志和报告目录",
+            "判定与输出:",
+            "  --slo-p99-millis=1000        每级p99上限",
+            "  --max-error-rate=0.01        每级错误率上限",
+            "  --continue-on-fail=false     某级未达标时继续运行更高的并发级别",
+            "  --report=                    JSON报告输出路径");
+
+    private int[] clients = {10, 50, 100};
+
+    private int warmupSeconds = 10;
+
+    private int durationSeconds = 30;
+
+    private long thinkMillis = 0;
+
+    private long requestTimeoutMillis = 30000;
+
+    private String protocol = "mixed";
+
+    private int searchWeight = 50;
+
+    private int detailWeight = 40;
+
+    private int batchWeight = 10;
+
+    private int batchSize = 10;
+
+    private double hotFraction = 0.2;
+
+    private double hotRatio = 0.8;
+
+    private long upstreamLatencyMillis = 20;
+
+    private long upstreamJitterMillis = 10;
+
+    private double upstreamErrorRate = 0;
+
+    private double upstreamStallRate = 0;
+
+    private long upstreamStallMillis = 30000;
+
+    private int stubPort = 0;
+
+    private String appJar;
+
+    private List<String> appJvmArgs = new ArrayList<>();
+
+    private List<String> appArgs = new ArrayList<>();
+
+    private String appCode = "yonbip3ddc";
+
+    private String target;
+
+    private String workDir = "target/loadtest";
+
+    private double sloP99Millis = 1000;
+
+    private double maxErrorRate = 0.01;
+
+    private boolean continueOnFail = false;
+
+    private String report;
+
+    /**
+     * 解析命令行参数
+     *
+     * @throws IllegalArgumentException 参数名称未知或取值无效
+     */
+    public static LoadTestOptions parse(String[] args) {
+        Map<String, String> values = new LinkedHashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("参数格式应为 --名称=值: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            if (separator < 0) {
+                values.put(arg.substring(2), "true");
+            } else {
+                values.put(arg.substring(2, separator), arg.substring(separator + 1));
+            }
+        }
+
+        LoadTestOptions options = new LoadTestOptions();
+        for (Map.Entry<String, String> entry : values.entrySet()) {
+            String value = entry.getValue().trim();
+            try {
+                switch (entry.getKey()) {
+                    case "clients":
+                        options.clients = parseInts(value);
+                        break;
+                    case "warmup-seconds":
+                        options.warmupSeconds = Integer.parseInt(value);
+                        break;
+                    case "duration-seconds":
+                        options.durationSeconds = Integer.parseInt(value);
+                        break;
+                    case "think-millis":
+                        options.thinkMillis = Long.parseLong(value);
+                        break;
+                    case "request-timeout-millis":
+                        options.requestTimeoutMillis = Long.parseLong(value);
+                        break;
+                    case "protocol":
+                        if (!value.equals("mcp") && !value.equals("rest") && !value.equals("mixed")) {
+                            throw new IllegalArgumentException("应为 mcp、rest 或 mixed");
+                        }
+                        options.protocol = value;
+                        break;
+                    case "mix":
+                        options.parseMix(value);
+                        break;
+                    case "batch-size":
+                        options.batchSize = Integer.parseInt(value);
+                        break;
+                    case "hot-fraction":
+                        options.hotFraction = Double.parseDouble(value);
+                        break;
+                    case "hot-ratio":
+                        options.hotRatio = Double.parseDouble(value);
+                        break;
+                    case "upstream-latency-millis":
+                        options.upstreamLatencyMillis = Long.parseLong(value);
+                        break;
+                    case "upstream-jitter-millis":
+                        options.upstreamJitterMillis = Long.parseLong(value);
+                        break;
+                    case "upstream-error-rate":
+                        options.upstreamErrorRate = Double.parseDouble(value);
+                        break;
+                    case "upstream-stall-rate":
+                        options.upstreamStallRate = Double.parseDouble(value);
+                        break;
+                    case "upstream-stall-millis":
+                        options.upstreamStallMillis = Long.parseLong(value);
+                        break;
+                    case "stub-port":
+                        options.stubPort = Integer.parseInt(value);
+                        break;
+                    case "app-jar":
+                        options.appJar = value.isEmpty() ? null : value;
+                        break;
+                    case "app-jvm-args":
+                        options.appJvmArgs = splitArgs(value);
+                        break;
+                    case "app-args":
+                        options.appArgs = splitArgs(value);
+                        break;
+                    case "app-code":
+                        options.appCode = value;
+                        break;
+                    case "target":
+                        options.target = value.isEmpty() ? null : value.replaceAll("/+$", "");
+                        break;
+                    case "work-dir":
+                        options.workDir = value;
+                        break;
+                    case "slo-p99-millis":
+                        options.sloP99Millis = Double.parseDouble(value);
+                        break;
+                    case "max-error-rate":
+                        options.maxErrorRate = Double.parseDouble(value);
+                        break;
+                    case "continue-on-fail":
+                        options.continueOnFail = Boolean.parseBoolean(value);
+                        break;
+                    case "report":
+                        options.report = value.isEmpty() ? null : value;
+                        break;
+                    default:
+                        throw new IllegalArgumentException("未知参数");
+                }
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("参数取值无效: --" + entry.getKey() + "=" + entry.getValue());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException(e.getMessage() + ": --" + entry.getKey());
+            }
+        }
+        if (options.searchWeight + options.detailWeight + options.batchWeight <= 0) {
+            throw new IllegalArgumentException("--mix 的权重之和必须大于0");
+        }
+        return options;
+    }
+
+    private void parseMix(String value) {
+        searchWeight = 0;
+        detailWeight = 0;
+        batchWeight = 0;
+        for (String part : value.split(",")) {
+            String[] pair = part.trim().split(":");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("格式应为 操作:权重");
+            }
+            int weight = Integer.parseInt(pair[1].trim());
+            switch (pair[0].trim()) {
+                case "search":
+                    searchWeight = weight;
+                    break;
+                case "detail":
+                    detailWeight = weight;
+                    break;
+                case "batch":
+                    batchWeight = weight;
+                    break;
+                default:
+                    throw new IllegalArgumentException("未知操作 " + pair[0]);
+            }
+        }
+    }
+
+    private static int[] parseInts(String value) {
+        String[] parts = value.split(",");
+        int[] result = new int[parts.length];
+        for (int i = 0; i < parts.length; i++) {
+            result[i] = Integer.parseInt(parts[i].trim());
+            if (result[i] <= 0) {
+                throw new IllegalArgumentException("客户端数必须大于0");
+            }
+        }
+        return result;
+    }
+
+    private static List<String> splitArgs(String value) {
+        List<String> result = new ArrayList<>();
+        for (String part : value.split("\\s+")) {
+            if (!part.isEmpty()) {
+                result.add(part);
+            }
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,153 @@
+package win.ixuni.yonyoudatadict.loadtest;
+
+
+import com.alibaba.fastjson.JSON;
+import com.alibaba.fastjson.serializer.SerializerFeature;
+import win.ixuni.yonyoudatadict.adapter.impl.YonBipAdvancedAdapter;
+import win.ixuni.yonyoudatadict.benchmark.Fixtures;
+import win.ixuni.yonyoudatadict.model.DataDictItem;
+import win.ixuni.yonyoudatadict.model.YonyouVersion;
+
+import java.io.PrintStream;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 端到端压测入口
+ * 启动模拟上游和独立进程中的被测应用，按 --clients 逐级增加并发的MCP/REST虚拟客户端，
+ * 每级输出吞吐量、p50/p99/p999、错误率和GC情况，并按 --slo-p99-millis 和 --max-error-rate 判定是否达标，
+ * 最后给出达标的最大并发客户端数
+ */
+public final class LoadTestRunner {
+
+    private static final PrintStream out = System.out;
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options;
+        try {
+            if (args.length > 0 && (args[0].equals("--help") || args[0].equals("-h"))) {
+                out.println(LoadTestOptions.USAGE);
+                return;
+            }
+            options = LoadTestOptions.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println(LoadTestOptions.USAGE);
+            System.exit(2);
+            return;
+        }
+        System.exit(run(options));
+    }
+
+    private static int run(LoadTestOptions options) throws Exception {
+        HttpClient http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        List<DataDictItem> items = new YonBipAdvancedAdapter()
+                .parseDataDictItems(Fixtures.items(YonyouVersion.YONBIP_ADVANCED));
+        Workload workload = new Workload(items, options);
+
+        try (StubUpstream upstream = new StubUpstream(options)) {
+            upstream.start();
+            out.printf("模拟上游: %s（延迟 %d±%d 毫秒，错误率 %.2f%%，无响应比例 %.2f%%）%n",
+                    upstream.getBaseUrl(), options.getUpstreamLatencyMillis(), options.getUpstreamJitterMillis(),
+                    options.getUpstreamErrorRate() * 100, options.getUpstreamStallRate() * 100);
+
+            AppProcess app = null;
+            String baseUrl = options.getTarget();
+            try {
+                if (baseUrl == null) {
+                    app = AppProcess.start(options, upstream.getBaseUrl(), http);
+                    baseUrl = app.getBaseUrl();
+                    out.printf("被测应用: %s（pid %d，日志 %s）%n", baseUrl, app.getPid(),
+                            Paths.get(options.getWorkDir(), "app.log"));
+                } else {
+                    out.printf("被测应用: %s（需已指向模拟上游）%n", baseUrl);
+                }
+                out.printf("请求组成: search %d / detail %d / batch %d（批量 %d 个），协议 %s，%d 个类中 %.0f%% 请求落在前 %.0f%%%n",
+                        options.getSearchWeight(), options.getDetailWeight(), options.getBatchWeight(),
+                        options.getBatchSize(), options.getProtocol(), items.size(),
+                        options.getHotRatio() * 100, options.getHotFraction() * 100);
+                out.printf("SLO: p99 <= %.0f 毫秒，错误率 <= %.2f%%%n%n",
+                        options.getSloP99Millis(), options.getMaxErrorRate() * 100);
+
+                List<LevelResult> results = new ArrayList<>();
+                int capacity = 0;
+                for (int clients : options.getClients()) {
+                    out.printf("运行 %d 个客户端：预热 %d 秒，统计 %d 秒...%n",
+                            clients, options.getWarmupSeconds(), options.getDurationSeconds());
+                    LevelResult result = new LoadLevel(options, workload, http, baseUrl, upstream).run(clients);
+                    results.add(result);
+                    print(result);
+                    if (result.isPassed()) {
+                        capacity = Math.max(capacity, clients);
+                    } else if (!options.isContinueOnFail()) {
+                        break;
+                    }
+                }
+
+                out.println(capacity > 0
+                        ? "达标的最大并发客户端数: " + capacity
+                        : "没有达标的并发级别");
+                if (options.getReport() != null) {
+                    writeReport(options, results, capacity);
+                }
+                return 0;
+            } finally {
+                if (app != null) {
+                    app.close();
+                }
+            }
+        }
+    }
+
+    private static void print(LevelResult result) {
+        out.printf("  %-20s %10s %10s %10s %10s %10s %10s %8s%n",
+                "", "请求数", "吞吐量/s", "p50", "p99", "p999", "max", "错误");
+        for (LevelResult.OperationStats stats : result.getOperations()) {
+            out.printf("  %-20s %10d %10.1f %10.2f %10.2f %10.2f %10.2f %8d%n",
+                    stats.getName(), stats.getRequests(), stats.getThroughput(), stats.getP50Millis(),
+                    stats.getP99Millis(), stats.getP999Millis(), stats.getMaxMillis(), stats.getErrors());
+        }
+        out.printf("  %-20s %10d %10.1f %10.2f %10.2f %10.2f %10.2f %8d%n",
+                "合计", result.getRequests(), result.getThroughput(), result.getP50Millis(),
+                result.getP99Millis(), result.getP999Millis(), result.getMaxMillis(), result.getErrors());
+        out.printf("  错误率 %.3f%%，MCP连接失败 %d，上游请求 %d（注入错误 %d，无响应 %d）%n",
+                result.getErrorRate() * 100, result.getConnectFailures(), result.getUpstreamRequests(),
+                result.getUpstreamInjectedErrors(), result.getUpstreamStalls());
+        out.printf("  应用GC: %s%n", result.getAppGc());
+        out.printf("  压测端GC: 次数 %s，耗时 %s 毫秒%n",
+                result.getClientGc().get("pauses"), result.getClientGc().get("pauseMillis"));
+        for (String sample : result.getErrorSamples()) {
+            out.printf("  错误示例: %s%n", sample);
+        }
+        out.printf("  结论: %s%n%n", result.isPassed() ? "达标" : "未达标");
+    }
+
+    private static void writeReport(LoadTestOptions options, List<LevelResult> results, int capacity)
+            throws Exception {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("options", options);
+        report.put("capacity", capacity);
+        report.put("levels", results);
+        Path path = Paths.get(options.getReport());
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        Files.write(path, JSON.toJSONString(report, SerializerFeature.PrettyFormat).getBytes(StandardCharsets.UTF_8));
+        out.println("报告已写入 " + path.toAbsolutePath());
+    }
+
+}
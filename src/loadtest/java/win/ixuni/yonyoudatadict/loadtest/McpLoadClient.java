@@ -0,0 +1,217 @@
+package win.ixuni.yonyoudatadict.loadtest;
+
+
+import com.alibaba.fastjson.JSON;
+import com.alibaba.fastjson.JSONObject;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 通过SSE传输调用MCP工具的客户端，与MCP客户端的行为一致：
+ * 建立 /sse 连接，从 endpoint 事件取得消息地址，完成 initialize 握手后以 tools/call 调用工具，
+ * 响应从SSE连接上按JSON-RPC的id返回
+ */
+public class McpLoadClient implements LoadClient {
+
+    private static final String PROTOCOL_VERSION = "2024-11-05";
+
+    private final HttpClient http;
+
+    private final String baseUrl;
+
+    private final Duration timeout;
+
+    private final AtomicLong nextId = new AtomicLong();
+
+    // JSON-RPC id -> 等待中的响应
+    private final Map<Long, CompletableFuture<JSONObject>> pending = new ConcurrentHashMap<>();
+
+    private final CompletableFuture<String> endpoint = new CompletableFuture<>();
+
+    private volatile InputStream stream;
+
+    private volatile boolean closed;
+
+    public McpLoadClient(HttpClient http, String baseUrl, Duration timeout) {
+        this.http = http;
+        this.baseUrl = baseUrl;
+        this.timeout = timeout;
+    }
+
+    @Override
+    public String getProtocol() {
+        return "mcp";
+    }
+
+    /**
+     * 建立SSE连接并完成初始化握手
+     */
+    public void connect() throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/sse"))
+                .header("Accept", "text/event-stream")
+                .build();
+        HttpResponse<InputStream> response = http.send(request, HttpResponse.BodyHandlers.ofInputStream());
+        if (response.statusCode() != 200) {
+            response.body().close();
+            throw new IOException("SSE连接失败: HTTP " + response.statusCode());
+        }
+        stream = response.body();
+        Thread reader = new Thread(this::readEvents, "mcp-client-sse");
+        reader.setDaemon(true);
+        reader.start();
+
+        endpoint.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        Map<String, Object> params = Map.of(
+                "protocolVersion", PROTOCOL_VERSION,
+                "capabilities", Map.of(),
+                "clientInfo", Map.of("name", "yonyou-datadict-loadtest", "version", "1.0.0"));
+        request("initialize", params);
+        post(Map.of("jsonrpc", "2.0", "method", "notifications/initialized"));
+    }
+
+    @Override
+    public void execute(Workload.Request request) throws Exception {
+        String tool;
+        Map<String, Object> arguments;
+        switch (request.getOperation()) {
+            case SEARCH:
+                tool = "searchDataDictItemsByName";
+                arguments = Map.of("nameQuery", request.getQuery());
+                break;
+            case DETAIL:
+                tool = "getDataDictDetail";
+                arguments = Map.of("classId", request.getClassIds().get(0));
+                break;
+            default:
+                tool = "getDataDictDetails";
+                arguments = Map.of("classIds", request.getClassIds());
+                break;
+        }
+        JSONObject result = request("tools/call", Map.of("name", tool, "arguments", arguments));
+        if (result.getBooleanValue("isError")) {
+            throw new IOException("工具 " + tool + " 返回错误: " + abbreviate(result.toJSONString()));
+        }
+    }
+
+    /**
+     * 发送请求并等待响应，返回 result
+     */
+    private JSONObject request(String method, Object params) throws Exception {
+        long id = nextId.incrementAndGet();
+        CompletableFuture<JSONObject> future = new CompletableFuture<>();
+        pending.put(id, future);
+        try {
+            post(Map.of("jsonrpc", "2.0", "id", id, "method", method, "params", params));
+            JSONObject response = future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            if (response.containsKey("error")) {
+                throw new IOException(method + " 返回错误: " + abbreviate(response.getString("error")));
+            }
+            JSONObject result = response.getJSONObject("result");
+            return result != null ? result : new JSONObject();
+        } catch (TimeoutException e) {
+            throw new TimeoutException(method + " 超过 " + timeout.toMillis() + " 毫秒未响应");
+        } finally {
+            pending.remove(id);
+        }
+    }
+
+    private void post(Map<String, Object> message) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + endpoint.getNow(null)))
+                .header("Content-Type", "application/json")
+                .timeout(timeout)
+                .POST(HttpRequest.BodyPublishers.ofString(JSON.toJSONString(message), StandardCharsets.UTF_8))
+                .build();
+        HttpResponse<Void> response = http.send(request, HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() / 100 != 2) {
+            throw new IOException("消息提交失败: HTTP " + response.statusCode());
+        }
+    }
+
+    private void readEvents() {
+        Exception failure = null;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8))) {
+            String event = "message";
+            StringBuilder data = new StringBuilder();
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty()) {
+                    if (data.length() > 0) {
+                        dispatch(event, data.toString());
+                    }
+                    event = "message";
+                    data.setLength(0);
+                } else if (line.startsWith(":")) {
+                    // 心跳注释
+                    continue;
+                } else if (line.startsWith("event:")) {
+                    event = line.substring(6).trim();
+                } else if (line.startsWith("data:")) {
+                    if (data.length() > 0) {
+                        data.append('\n');
+                    }
+                    data.append(line.substring(5).trim());
+                }
+            }
+        } catch (IOException e) {
+            failure = e;
+        }
+        IOException closedError = new IOException(closed ? "客户端已关闭" : "SSE连接已断开", failure);
+        endpoint.completeExceptionally(closedError);
+        for (CompletableFuture<JSONObject> future : pending.values()) {
+            future.completeExceptionally(closedError);
+        }
+    }
+
+    private void dispatch(String event, String data) {
+        switch (event) {
+            case "endpoint":
+                endpoint.complete(data);
+                break;
+            case "message":
+                JSONObject message = JSON.parseObject(data);
+                Long id = message.getLong("id");
+                if (id != null) {
+                    CompletableFuture<JSONObject> future = pending.get(id);
+                    if (future != null) {
+                        future.complete(message);
+                    }
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    private static String abbreviate(String text) {
+        return text == null || text.length() <= 200 ? text : text.substring(0, 200) + "...";
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        InputStream current = stream;
+        if (current != null) {
+            try {
+                current.close();
+            } catch (IOException e) {
+                // 连接已断开
+            }
+        }
+    }
+
+}
@@ -0,0 +1,68 @@
+package win.ixuni.yonyoudatadict.loadtest;
+
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+/**
+ * 通过 /check/tool 下的REST接口请求的客户端，与浏览器一样声明接受gzip
+ */
+public class RestLoadClient implements LoadClient {
+
+    private final HttpClient http;
+
+    private final String baseUrl;
+
+    private final Duration timeout;
+
+    public RestLoadClient(HttpClient http, String baseUrl, Duration timeout) {
+        this.http = http;
+        this.baseUrl = baseUrl;
+        this.timeout = timeout;
+    }
+
+    @Override
+    public String getProtocol() {
+        return "rest";
+    }
+
+    @Override
+    public void execute(Workload.Request request) throws Exception {
+        String path;
+        switch (request.getOperation()) {
+            case SEARCH:
+                path = "/check/tool/search?name=" + encode(request.getQuery());
+                break;
+            case DETAIL:
+                path = "/check/tool/detail/" + encode(request.getClassIds().get(0));
+                break;
+            default:
+                path = "/check/tool/details?ids=" + encode(String.join(",", request.getClassIds()));
+                break;
+        }
+        HttpRequest httpRequest = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Accept-Encoding", "gzip")
+                .timeout(timeout)
+                .build();
+        HttpResponse<Void> response = http.send(httpRequest, HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() != 200) {
+            throw new IOException("HTTP " + response.statusCode() + " " + path);
+        }
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void close() {
+        // 连接由共享的HttpClient管理
+    }
+
+}
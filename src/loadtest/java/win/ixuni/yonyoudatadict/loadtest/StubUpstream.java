@@ -0,0 +1,154 @@
+package win.ixuni.yonyoudatadict.loadtest;
+
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import win.ixuni.yonyoudatadict.benchmark.Fixtures;
+import win.ixuni.yonyoudatadict.model.YonyouVersion;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 模拟YonBIP高级版上游的进程内HTTP服务
+ * 数据字典项列表和详情取自基准测试语料，每个类ID的详情改写全类名和表名后返回；
+ * 每个请求按配置注入延迟、500错误或长时间不响应
+ */
+public class StubUpstream implements Closeable {
+
+    // 与模板详情中的全类名、表名对应，按类ID替换
+    private static final String TEMPLATE_CLASS_NAME = "com.yonyou.ucf.mdd.material.Material";
+
+    private static final String TEMPLATE_TABLE_NAME = "\"bd_material\"";
+
+    private static final Pattern DETAIL_PATH = Pattern.compile("^/[^/]+/dict/([^/]+)\\.json$");
+
+    private final LoadTestOptions options;
+
+    private final byte[] items;
+
+    private final String detailTemplate;
+
+    private final LongAdder requestCount = new LongAdder();
+
+    private final LongAdder injectedErrorCount = new LongAdder();
+
+    private final LongAdder stallCount = new LongAdder();
+
+    private HttpServer server;
+
+    private ExecutorService executor;
+
+    public StubUpstream(LoadTestOptions options) {
+        this.options = options;
+        this.items = Fixtures.items(YonyouVersion.YONBIP_ADVANCED).getBytes(StandardCharsets.UTF_8);
+        this.detailTemplate = Fixtures.detail(YonyouVersion.YONBIP_ADVANCED);
+    }
+
+    public void start() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", options.getStubPort()), 1024);
+        // 注入的延迟在处理线程上等待，线程数不设上限，避免模拟上游自身成为瓶颈
+        executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "stub-upstream");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+        server.start();
+    }
+
+    /**
+     * 上游地址，作为被测应用的 data-dict.base-url
+     */
+    public String getBaseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public long getRequestCount() {
+        return requestCount.sum();
+    }
+
+    public long getInjectedErrorCount() {
+        return injectedErrorCount.sum();
+    }
+
+    public long getStallCount() {
+        return stallCount.sum();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            requestCount.increment();
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            long delay = options.getUpstreamLatencyMillis();
+            if (options.getUpstreamJitterMillis() > 0) {
+                delay += random.nextLong(options.getUpstreamJitterMillis() + 1);
+            }
+            if (random.nextDouble() < options.getUpstreamStallRate()) {
+                stallCount.increment();
+                delay = options.getUpstreamStallMillis();
+            }
+            if (delay > 0) {
+                try {
+                    Thread.sleep(delay);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+            if (random.nextDouble() < options.getUpstreamErrorRate()) {
+                injectedErrorCount.increment();
+                send(exchange, 500, "text/plain; charset=utf-8",
+                        "injected error".getBytes(StandardCharsets.UTF_8));
+                return;
+            }
+
+            String path = exchange.getRequestURI().getPath();
+            if (path.endsWith("/static/js/data-dict-tree.js")) {
+                send(exchange, 200, "application/javascript; charset=utf-8", items);
+                return;
+            }
+            Matcher matcher = DETAIL_PATH.matcher(path);
+            if (matcher.matches()) {
+                String classId = matcher.group(1);
+                String detail = detailTemplate
+                        .replace(TEMPLATE_CLASS_NAME, "com.yonyou.loadtest." + classId)
+                        .replace(TEMPLATE_TABLE_NAME, "\"lt_" + classId + "\"");
+                send(exchange, 200, "application/json; charset=utf-8", detail.getBytes(StandardCharsets.UTF_8));
+                return;
+            }
+            send(exchange, 404, "text/plain; charset=utf-8", new byte[0]);
+        }
+    }
+
+    private static void send(HttpExchange exchange, int status, String contentType, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+        if (body.length > 0) {
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        if (server != null) {
+            server.stop(0);
+        }
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+}
@@ -0,0 +1,107 @@
+package win.ixuni.yonyoudatadict.loadtest;
+
+
+import win.ixuni.yonyoudatadict.model.DataDictItem;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 按配置的操作权重和热点分布生成请求
+ * 详情和批量请求的类ID中 hotRatio 比例落在前 hotFraction 的类上，模拟少数常用类被反复查询；
+ * 搜索词取随机类名称的前两个字符
+ */
+public class Workload {
+
+    /**
+     * 压测的操作
+     */
+    public enum Operation {
+        // 按名称搜索
+        SEARCH,
+        // 获取单个详情
+        DETAIL,
+        // 批量获取详情
+        BATCH
+    }
+
+    /**
+     * 一次请求
+     */
+    public static final class Request {
+
+        private final Operation operation;
+
+        private final String query;
+
+        private final List<String> classIds;
+
+        Request(Operation operation, String query, List<String> classIds) {
+            this.operation = operation;
+            this.query = query;
+            this.classIds = classIds;
+        }
+
+        public Operation getOperation() {
+            return operation;
+        }
+
+        public String getQuery() {
+            return query;
+        }
+
+        public List<String> getClassIds() {
+            return classIds;
+        }
+
+    }
+
+    private final List<DataDictItem> items;
+
+    private final int hotCount;
+
+    private final LoadTestOptions options;
+
+    private final int totalWeight;
+
+    public Workload(List<DataDictItem> items, LoadTestOptions options) {
+        if (items.isEmpty()) {
+            throw new IllegalArgumentException("数据字典项列表为空");
+        }
+        // 打乱后固定顺序，热点类分散在各个模块中
+        List<DataDictItem> shuffled = new ArrayList<>(items);
+        Collections.shuffle(shuffled, new Random(42));
+        this.items = shuffled;
+        this.hotCount = Math.max(1, (int) (shuffled.size() * options.getHotFraction()));
+        this.options = options;
+        this.totalWeight = options.getSearchWeight() + options.getDetailWeight() + options.getBatchWeight();
+    }
+
+    public Request next() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int pick = random.nextInt(totalWeight);
+        if (pick < options.getSearchWeight()) {
+            String name = items.get(random.nextInt(items.size())).getName();
+            return new Request(Operation.SEARCH, name.length() > 2 ? name.substring(0, 2) : name, null);
+        }
+        if (pick < options.getSearchWeight() + options.getDetailWeight()) {
+            return new Request(Operation.DETAIL, null, List.of(nextClassId(random)));
+        }
+        List<String> classIds = new ArrayList<>(options.getBatchSize());
+        for (int i = 0; i < options.getBatchSize(); i++) {
+            classIds.add(nextClassId(random));
+        }
+        return new Request(Operation.BATCH, null, classIds);
+    }
+
+    private String nextClassId(ThreadLocalRandom random) {
+        int index = random.nextDouble() < options.getHotRatio()
+                ? random.nextInt(hotCount)
+                : random.nextInt(items.size());
+        return items.get(index).getId();
+    }
+
+}
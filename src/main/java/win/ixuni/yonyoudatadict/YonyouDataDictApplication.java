@@ -1,24 +1,26 @@
 package win.ixuni.yonyoudatadict;
 
 
-import org.springframework.ai.tool.ToolCallbackProvider;
-import org.springframework.ai.tool.method.MethodToolCallbackProvider;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 import org.springframework.context.annotation.Bean;
-import win.ixuni.yonyoudatadict.service.DataDictService;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import win.ixuni.yonyoudatadict.config.NativeRuntimeHints;
 
 @SpringBootApplication
+@ImportRuntimeHints(NativeRuntimeHints.class)
 public class YonyouDataDictApplication {
 
-    public static void main(String[] args) {
-        SpringApplication.run(YonyouDataDictApplication.class, args);
-    }
+    // 记录的启动步骤上限，超出后不再记录
+    private static final int STARTUP_STEP_CAPACITY = 8192;
 
-    @Bean
-    public ToolCallbackProvider yonYouDataDictTools(DataDictService dataDictService) {
-        return MethodToolCallbackProvider.builder().toolObjects(dataDictService).build();
+    public static void main(String[] args) {
+        SpringApplication application = new SpringApplication(YonyouDataDictApplication.class);
+        // 记录各Bean的创建耗时，就绪后由 StartupReporter 汇总并释放
+        application.setApplicationStartup(new BufferingApplicationStartup(STARTUP_STEP_CAPACITY));
+        application.run(args);
     }
 
     @Bean
@@ -5,6 +5,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
+import win.ixuni.yonyoudatadict.diagnostics.HotPathLog;
 import win.ixuni.yonyoudatadict.model.YonyouVersion;
 
 import java.util.HashMap;
@@ -20,6 +21,9 @@ public class VersionAdapterFactory {
 
     private static final Logger logger = LoggerFactory.getLogger(VersionAdapterFactory.class);
 
+    // 每次解析都会检测版本，按周期汇总输出
+    private static final HotPathLog VERSION_DETECTED = HotPathLog.of(logger, "adapter.version.detected");
+
     private final Map<YonyouVersion, VersionAdapter> adapterMap = new HashMap<>();
 
     @Autowired
@@ -38,7 +42,7 @@ public class VersionAdapterFactory {
      */
     public YonyouVersion detectVersion(String appCode) {
         YonyouVersion version = YonyouVersion.fromAppCode(appCode);
-        logger.info("检测到版本: {} (应用代码: {})", version.getDisplayName(), appCode);
+        VERSION_DETECTED.record("检测到版本: {} (应用代码: {})", version.getDisplayName(), appCode);
         return version;
     }
 
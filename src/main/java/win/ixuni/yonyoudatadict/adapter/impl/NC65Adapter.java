@@ -9,6 +9,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 import win.ixuni.yonyoudatadict.adapter.VersionAdapter;
+import win.ixuni.yonyoudatadict.diagnostics.HotPathLog;
 import win.ixuni.yonyoudatadict.model.DataDictDetail;
 import win.ixuni.yonyoudatadict.model.DataDictItem;
 import win.ixuni.yonyoudatadict.model.YonyouVersion;
@@ -31,6 +32,9 @@ public class NC65Adapter implements VersionAdapter {
 
     private static final Logger logger = LoggerFactory.getLogger(NC65Adapter.class);
 
+    // 详情解析成功日志，由 HotPathLog 采样输出并按周期汇总
+    private static final HotPathLog DETAIL_PARSED = HotPathLog.of(logger, "adapter.nc65.detail.parsed");
+
     // JS数据提取的正则表达式
     private static final Pattern DATA_DICT_PATTERN = Pattern.compile(
             "var\\s+dataDictIndexData\\s*=\\s*(\\[.*?\\]);?",
@@ -85,8 +89,8 @@ public class NC65Adapter implements VersionAdapter {
         try {
             Document doc = Jsoup.parse(content);
 
-            DataDictDetail detail = new DataDictDetail();
-            detail.setClassId(classId);
+            DataDictDetail.DataDictDetailBuilder builder = DataDictDetail.builder();
+            builder.classId(classId);
 
             // 解析标题信息
             Element titleDiv = doc.select("div.title").first();
@@ -95,7 +99,7 @@ public class NC65Adapter implements VersionAdapter {
                 if (titleSpans.size() >= 2) {
                     // 第一个span是表名
                     String displayName = titleSpans.get(0).text().trim();
-                    detail.setDisplayName(displayName);
+                    builder.displayName(displayName);
 
                     // 第二个span包含表名和VO类名
                     String fullInfo = titleSpans.get(1).text().trim();
@@ -105,8 +109,8 @@ public class NC65Adapter implements VersionAdapter {
                         if (parts.length >= 2) {
                             String tableName = parts[0].trim().replaceAll("[()]", "");
                             String className = parts[1].trim().replaceAll("[()]", "");
-                            detail.setDefaultTableName(tableName);
-                            detail.setFullClassName(className);
+                            builder.defaultTableName(tableName);
+                            builder.fullClassName(className);
                         }
                     }
                 }
@@ -125,22 +129,22 @@ public class NC65Adapter implements VersionAdapter {
                     Elements cells = row.select("td");
 
                     if (cells.size() >= 9) {
-                        DataDictDetail.Property property = new DataDictDetail.Property();
+                        DataDictDetail.Property.PropertyBuilder property = DataDictDetail.Property.builder();
 
                         // 序号在第0列，跳过
-                        property.setName(cells.get(1).text().trim());              // 属性编码
-                        property.setDisplayName(cells.get(2).text().trim());       // 属性名称
-                        property.setColumnName(cells.get(3).text().trim());        // 字段编码
-                        property.setDataTypeSql(cells.get(4).text().trim());       // 字段类型
+                        property.name(cells.get(1).text().trim());              // 属性编码
+                        property.displayName(cells.get(2).text().trim());       // 属性名称
+                        property.columnName(cells.get(3).text().trim());        // 字段编码
+                        property.dataTypeSql(cells.get(4).text().trim());       // 字段类型
 
                         // 是否必输 (第5列)
                         String requiredText = cells.get(5).text().trim();
-                        property.setNullable(!"√".equals(requiredText));
+                        property.nullable(!"√".equals(requiredText));
 
                         // 引用模型 (第6列)
                         Element refElement = cells.get(6);
                         String refModel = refElement.text().trim();
-                        property.setRefModelName(refModel);
+                        property.refModelName(refModel);
 
                         // 检查是否有链接到其他类
                         Element refLink = refElement.select("a").first();
@@ -149,32 +153,33 @@ public class NC65Adapter implements VersionAdapter {
                             // 从href中提取引用的类ID
                             if (href.contains("./") && href.endsWith(".html")) {
                                 String refClassId = href.replace("./", "").replace(".html", "");
-                                property.setRefClass(refClassId);
+                                property.refClass(refClassId);
                             }
                         }
 
                         // 默认值 (第7列)
-                        property.setDefaultValue(cells.get(7).text().trim());
+                        property.defaultValue(cells.get(7).text().trim());
 
                         // 取值范围/枚举 (第8列)
                         String enumValues = cells.get(8).text().trim();
                         if (!enumValues.isEmpty()) {
-                            property.setEnumValues(enumValues);
+                            property.enumValues(enumValues);
                         }
 
                         // 检查是否为主键
                         if (row.hasClass("pk-row")) {
-                            property.setPrimaryKey(true);
+                            property.primaryKey(true);
                         }
 
-                        properties.add(property);
+                        properties.add(property.build());
                     }
                 }
             }
 
-            detail.setProperties(properties);
+            builder.properties(properties);
 
-            logger.info("NC65详情解析成功，类名: {}, 表名: {}, 属性数量: {}",
+            DataDictDetail detail = builder.build();
+            DETAIL_PARSED.record("NC65详情解析成功，类名: {}, 表名: {}, 属性数量: {}",
                     detail.getDisplayName(), detail.getDefaultTableName(), properties.size());
 
             return detail;
@@ -12,6 +12,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 import win.ixuni.yonyoudatadict.adapter.VersionAdapter;
+import win.ixuni.yonyoudatadict.diagnostics.HotPathLog;
 import win.ixuni.yonyoudatadict.model.DataDictDetail;
 import win.ixuni.yonyoudatadict.model.DataDictItem;
 import win.ixuni.yonyoudatadict.model.YonyouVersion;
@@ -34,6 +35,9 @@ public class NCCloudAdapter implements VersionAdapter {
 
     private static final Logger logger = LoggerFactory.getLogger(NCCloudAdapter.class);
 
+    // 详情解析成功日志，由 HotPathLog 采样输出并按周期汇总
+    private static final HotPathLog DETAIL_PARSED = HotPathLog.of(logger, "adapter.nccloud.detail.parsed");
+
     // 匹配NCCloud JS文件中的dataDictIndexData数组
     private static final Pattern DATA_PATTERN = Pattern.compile("var\\s+dataDictIndexData\\s*=\\s*(\\[.*?\\])\\s*;", Pattern.DOTALL);
 
@@ -79,8 +83,8 @@ public class NCCloudAdapter implements VersionAdapter {
             // 使用Jsoup解析HTML
             Document doc = Jsoup.parse(content);
 
-            DataDictDetail detail = new DataDictDetail();
-            detail.setClassId(classId);
+            DataDictDetail.DataDictDetailBuilder builder = DataDictDetail.builder();
+            builder.classId(classId);
 
             // 解析标题信息
             Element titleElement = doc.select("div.title span").first();
@@ -92,18 +96,18 @@ public class NCCloudAdapter implements VersionAdapter {
                     String displayName = titleText.substring(0, titleText.indexOf("(")).trim();
                     String classInfo = titleText.substring(titleText.indexOf("(") + 1, titleText.lastIndexOf(")"));
 
-                    detail.setDisplayName(displayName);
+                    builder.displayName(displayName);
 
                     // 解析表名和类名
                     if (classInfo.contains("/")) {
                         String[] parts = classInfo.split("/");
                         if (parts.length >= 2) {
-                            detail.setDefaultTableName(parts[0].trim());
-                            detail.setFullClassName(parts[1].trim());
+                            builder.defaultTableName(parts[0].trim());
+                            builder.fullClassName(parts[1].trim());
                         }
                     }
                 } else {
-                    detail.setDisplayName(titleText);
+                    builder.displayName(titleText);
                 }
             }
 
@@ -119,28 +123,29 @@ public class NCCloudAdapter implements VersionAdapter {
                     Elements cells = row.select("td");
 
                     if (cells.size() >= 9) { // NCCloud表格有9列
-                        DataDictDetail.Property property = new DataDictDetail.Property();
+                        DataDictDetail.Property.PropertyBuilder property = DataDictDetail.Property.builder();
 
                         // 解析各列数据
                         // 序号 | 属性编码 | 属性名称 | 字段编码 | 字段类型 | 是否必输 | 引用模型 | 默认值 | 取值范围/枚举
-                        property.setName(cells.get(1).text().trim()); // 属性编码
-                        property.setDisplayName(cells.get(2).text().trim()); // 属性名称
-                        property.setDataTypeSql(cells.get(4).text().trim()); // 字段类型
+                        String name = cells.get(1).text().trim();
+                        property.name(name); // 属性编码
+                        property.displayName(cells.get(2).text().trim()); // 属性名称
+                        property.dataTypeSql(cells.get(4).text().trim()); // 字段类型
 
                         // 是否必输
                         String required = cells.get(5).text().trim();
-                        property.setNullable(!"√".equals(required)); // √表示必输，即不可为空
+                        property.nullable(!"√".equals(required)); // √表示必输，即不可为空
 
                         // 引用模型
                         String refModel = cells.get(6).text().trim();
                         if (!refModel.isEmpty()) {
-                            property.setRefClassPathHref(refModel);
+                            property.refClassPathHref(refModel);
                         }
 
                         // 默认值
                         String defaultValue = cells.get(7).text().trim();
                         if (!defaultValue.isEmpty()) {
-                            property.setDefaultValue(defaultValue);
+                            property.defaultValue(defaultValue);
                         }
 
                         // 取值范围/枚举
@@ -150,26 +155,27 @@ public class NCCloudAdapter implements VersionAdapter {
                             enumValues = enumValues.replaceAll("<br\\s*/?>", "\n");
                             enumValues = Jsoup.parse(enumValues).text(); // 去除HTML标签
                             if (!enumValues.trim().isEmpty()) {
-                                property.setDataScope("枚举值: " + enumValues.trim());
+                                property.dataScope("枚举值: " + enumValues.trim());
                             }
                         }
 
                         // 检查是否为主键
                         boolean isPrimaryKey = row.hasClass("pk-row") ||
-                                property.getName().toLowerCase().contains("pk_") ||
+                                name.toLowerCase().contains("pk_") ||
                                 (refModel.contains("主键") || refModel.contains("UFID"));
-                        property.setKeyProp(isPrimaryKey);
+                        property.keyProp(isPrimaryKey);
 
-                        properties.add(property);
+                        properties.add(property.build());
                     }
                 }
-                detail.setProperties(properties);
+                builder.properties(properties);
             }
 
             // NCCloud默认不是主要类（根据具体需求可以调整）
-            detail.setPrimary(false);
+            builder.isPrimary(false);
 
-            logger.info("NCCloud详情解析成功，类名: {}, 表名: {}, 属性数量: {}",
+            DataDictDetail detail = builder.build();
+            DETAIL_PARSED.record("NCCloud详情解析成功，类名: {}, 表名: {}, 属性数量: {}",
                     detail.getDisplayName(), detail.getDefaultTableName(),
                     detail.getProperties() != null ? detail.getProperties().size() : 0);
             return detail;
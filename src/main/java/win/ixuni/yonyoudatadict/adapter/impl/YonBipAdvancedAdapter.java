@@ -8,6 +8,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 import win.ixuni.yonyoudatadict.adapter.VersionAdapter;
+import win.ixuni.yonyoudatadict.diagnostics.HotPathLog;
 import win.ixuni.yonyoudatadict.model.DataDictDetail;
 import win.ixuni.yonyoudatadict.model.DataDictItem;
 import win.ixuni.yonyoudatadict.model.YonyouVersion;
@@ -26,6 +27,9 @@ public class YonBipAdvancedAdapter implements VersionAdapter {
 
     private static final Logger logger = LoggerFactory.getLogger(YonBipAdvancedAdapter.class);
 
+    // 详情解析成功日志，由 HotPathLog 采样输出并按周期汇总
+    private static final HotPathLog DETAIL_PARSED = HotPathLog.of(logger, "adapter.advanced.detail.parsed");
+
     // 用于提取JS中的JSON数组的正则表达式
     private static final Pattern DATA_PATTERN = Pattern.compile("var\\s+dataDictIndexData\\s*=\\s*(\\[.*?\\])\\s*;", Pattern.DOTALL);
 
@@ -57,12 +61,12 @@ public class YonBipAdvancedAdapter implements VersionAdapter {
         try {
             JSONObject json = JSON.parseObject(content);
 
-            DataDictDetail detail = new DataDictDetail();
-            detail.setClassId(classId);
-            detail.setFullClassName(json.getString("fullClassname"));
-            detail.setDisplayName(json.getString("displayName"));
-            detail.setDefaultTableName(json.getString("defaultTableName"));
-            detail.setPrimary(json.getBooleanValue("isPrimary"));
+            DataDictDetail.DataDictDetailBuilder builder = DataDictDetail.builder();
+            builder.classId(classId);
+            builder.fullClassName(json.getString("fullClassname"));
+            builder.displayName(json.getString("displayName"));
+            builder.defaultTableName(json.getString("defaultTableName"));
+            builder.isPrimary(json.getBooleanValue("isPrimary"));
 
             JSONArray propertyArray = json.getJSONArray("propertyVO");
             if (propertyArray != null) {
@@ -70,22 +74,23 @@ public class YonBipAdvancedAdapter implements VersionAdapter {
                 for (int i = 0; i < propertyArray.size(); i++) {
                     JSONObject propObj = propertyArray.getJSONObject(i);
 
-                    DataDictDetail.Property property = new DataDictDetail.Property();
-                    property.setName(propObj.getString("name"));
-                    property.setDisplayName(propObj.getString("displayName"));
-                    property.setDataTypeSql(propObj.getString("dataTypeSql"));
-                    property.setKeyProp(propObj.getBooleanValue("keyProp"));
-                    property.setNullable(propObj.getBooleanValue("nullable"));
-                    property.setRefClassPathHref(propObj.getString("refClassPathHref"));
-                    property.setDefaultValue(propObj.getString("defaultValue"));
-                    property.setDataScope(propObj.getString("dataScope"));
-
-                    properties.add(property);
+                    DataDictDetail.Property.PropertyBuilder property = DataDictDetail.Property.builder();
+                    property.name(propObj.getString("name"));
+                    property.displayName(propObj.getString("displayName"));
+                    property.dataTypeSql(propObj.getString("dataTypeSql"));
+                    property.keyProp(propObj.getBooleanValue("keyProp"));
+                    property.nullable(propObj.getBooleanValue("nullable"));
+                    property.refClassPathHref(propObj.getString("refClassPathHref"));
+                    property.defaultValue(propObj.getString("defaultValue"));
+                    property.dataScope(propObj.getString("dataScope"));
+
+                    properties.add(property.build());
                 }
-                detail.setProperties(properties);
+                builder.properties(properties);
             }
 
-            logger.info("YonBIP高级版详情解析成功，类名: {}", detail.getDisplayName());
+            DataDictDetail detail = builder.build();
+            DETAIL_PARSED.record("YonBIP高级版详情解析成功，类名: {}", detail.getDisplayName());
             return detail;
         } catch (Exception e) {
             logger.error("解析YonBIP高级版数据字典详情JSON时出错", e);
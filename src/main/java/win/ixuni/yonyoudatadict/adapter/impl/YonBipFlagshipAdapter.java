@@ -8,6 +8,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 import win.ixuni.yonyoudatadict.adapter.VersionAdapter;
+import win.ixuni.yonyoudatadict.diagnostics.HotPathLog;
 import win.ixuni.yonyoudatadict.model.DataDictDetail;
 import win.ixuni.yonyoudatadict.model.DataDictItem;
 import win.ixuni.yonyoudatadict.model.YonyouVersion;
@@ -28,6 +29,9 @@ public class YonBipFlagshipAdapter implements VersionAdapter {
 
     private static final Logger logger = LoggerFactory.getLogger(YonBipFlagshipAdapter.class);
 
+    // 详情解析成功日志，由 HotPathLog 采样输出并按周期汇总
+    private static final HotPathLog DETAIL_PARSED = HotPathLog.of(logger, "adapter.flagship.detail.parsed");
+
     // 匹配旗舰版JS文件中的dataDictIndexData数组
     private static final Pattern DATA_PATTERN = Pattern.compile("var\\s+dataDictIndexData\\s*=\\s*(\\[.*?\\])\\s*;", Pattern.DOTALL);
 
@@ -58,20 +62,21 @@ public class YonBipFlagshipAdapter implements VersionAdapter {
         try {
             JSONObject json = JSON.parseObject(content);
 
-            DataDictDetail detail = new DataDictDetail();
-            detail.setClassId(classId);
+            DataDictDetail.DataDictDetailBuilder builder = DataDictDetail.builder();
+            builder.classId(classId);
 
             // 旗舰版字段映射
-            detail.setDisplayName(json.getString("displayName"));
-            detail.setDefaultTableName(json.getString("tableName")); // 旗舰版使用tableName而不是defaultTableName
-            detail.setFullClassName(json.getString("fullClassname")); // 兼容可能的字段名
-            if (detail.getFullClassName() == null) {
-                detail.setFullClassName(json.getString("className")); // 备用字段名
+            builder.displayName(json.getString("displayName"));
+            builder.defaultTableName(json.getString("tableName")); // 旗舰版使用tableName而不是defaultTableName
+            String fullClassName = json.getString("fullClassname"); // 兼容可能的字段名
+            if (fullClassName == null) {
+                fullClassName = json.getString("className"); // 备用字段名
             }
+            builder.fullClassName(fullClassName);
 
             // 旗舰版使用primaryClass而不是isPrimary
             Boolean primaryClass = json.getBoolean("primaryClass");
-            detail.setPrimary(primaryClass != null ? primaryClass : false);
+            builder.isPrimary(primaryClass != null ? primaryClass : false);
 
             // 解析属性列表 - 旗舰版使用propertyVO
             JSONArray propertyArray = json.getJSONArray("propertyVO");
@@ -81,35 +86,36 @@ public class YonBipFlagshipAdapter implements VersionAdapter {
                 for (int i = 0; i < propertyArray.size(); i++) {
                     JSONObject propObj = propertyArray.getJSONObject(i);
 
-                    DataDictDetail.Property property = new DataDictDetail.Property();
+                    DataDictDetail.Property.PropertyBuilder property = DataDictDetail.Property.builder();
 
                     // 旗舰版字段映射
-                    property.setName(propObj.getString("name"));
-                    property.setDisplayName(propObj.getString("displayName"));
-                    property.setDataTypeSql(propObj.getString("dataTypeSql"));
+                    property.name(propObj.getString("name"));
+                    property.displayName(propObj.getString("displayName"));
+                    property.dataTypeSql(propObj.getString("dataTypeSql"));
 
                     // 布尔值处理
                     Boolean keyProp = propObj.getBoolean("keyProp");
-                    property.setKeyProp(keyProp != null ? keyProp : false);
+                    property.keyProp(keyProp != null ? keyProp : false);
 
                     Boolean nullable = propObj.getBoolean("nullable");
-                    property.setNullable(nullable != null ? nullable : true);
+                    property.nullable(nullable != null ? nullable : true);
 
                     // 默认值
-                    property.setDefaultValue(propObj.getString("defaultValue"));
+                    property.defaultValue(propObj.getString("defaultValue"));
 
                     // 旗舰版特有字段
-                    property.setDataScope(propObj.getString("modelType")); // 使用modelType作为dataScope
+                    property.dataScope(propObj.getString("modelType")); // 使用modelType作为dataScope
 
                     // 引用类路径 - 旗舰版可能没有这个字段，设为null
-                    property.setRefClassPathHref(propObj.getString("refClassPathHref"));
+                    property.refClassPathHref(propObj.getString("refClassPathHref"));
 
-                    properties.add(property);
+                    properties.add(property.build());
                 }
-                detail.setProperties(properties);
+                builder.properties(properties);
             }
 
-            logger.info("YonBIP旗舰版详情解析成功，类名: {}, 表名: {}, 属性数量: {}",
+            DataDictDetail detail = builder.build();
+            DETAIL_PARSED.record("YonBIP旗舰版详情解析成功，类名: {}, 表名: {}, 属性数量: {}",
                     detail.getDisplayName(), detail.getDefaultTableName(),
                     detail.getProperties() != null ? detail.getProperties().size() : 0);
             return detail;
@@ -0,0 +1,51 @@
+package win.ixuni.yonyoudatadict.cache;
+
+
+import java.util.List;
+
+/**
+ * 可管理的缓存分区
+ * 用于缓存管理端点查看条目数、估算内存占用和热点键，以及按键或前缀淘汰条目。
+ * 键中的 \u0000 分隔符按 | 显示，淘汰时也按显示形式匹配
+ */
+public interface CachePartition extends CacheStatistics {
+
+    /**
+     * 分区名称，如 detail、view、items、search、payload
+     */
+    String getName();
+
+    /**
+     * 估算的内存占用（字节）
+     */
+    long estimateBytes();
+
+    /**
+     * 命中次数最多的键
+     *
+     * @param limit 最多返回的数量
+     */
+    List<HotKey> hottestKeys(int limit);
+
+    /**
+     * 淘汰条目
+     *
+     * @param key    键，或键前缀
+     * @param prefix 是否按前缀匹配
+     * @return 淘汰的条目数
+     */
+    int evict(String key, boolean prefix);
+
+    /**
+     * 清空分区
+     */
+    void clear();
+
+    /**
+     * 键的显示形式
+     */
+    static String displayKey(Object key) {
+        return String.valueOf(key).replace('\u0000', '|');
+    }
+
+}
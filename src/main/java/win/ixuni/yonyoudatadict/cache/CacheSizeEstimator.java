@@ -0,0 +1,89 @@
+package win.ixuni.yonyoudatadict.cache;
+
+
+import win.ixuni.yonyoudatadict.model.DataDictDetail;
+import win.ixuni.yonyoudatadict.model.DataDictItem;
+
+import java.util.List;
+
+/**
+ * 缓存内容的内存占用估算
+ * 按64位JVM开启压缩指针时的对象布局粗略估算，只用于缓存管理端点展示，不追求精确
+ */
+public final class CacheSizeEstimator {
+
+    // 对象头和引用字段的大致开销
+    private static final int STRING_OVERHEAD = 40;
+
+    private static final int DETAIL_OVERHEAD = 40;
+
+    private static final int PROPERTY_OVERHEAD = 64;
+
+    private static final int ITEM_OVERHEAD = 24;
+
+    private static final int LIST_OVERHEAD = 24;
+
+    private CacheSizeEstimator() {
+    }
+
+    /**
+     * 字符串，只含Latin-1字符时按每字符1字节，否则按每字符2字节
+     */
+    public static long estimate(String value) {
+        if (value == null) {
+            return 0;
+        }
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            if (value.charAt(i) > 0xFF) {
+                return STRING_OVERHEAD + 2L * length;
+            }
+        }
+        return STRING_OVERHEAD + length;
+    }
+
+    /**
+     * 数据字典详情，处理器视图与原始解析结果共享的部分也会计入
+     */
+    public static long estimate(DataDictDetail detail) {
+        if (detail == null) {
+            return 0;
+        }
+        long bytes = DETAIL_OVERHEAD + estimate(detail.getClassId()) + estimate(detail.getFullClassName())
+                + estimate(detail.getDisplayName()) + estimate(detail.getDefaultTableName());
+        List<DataDictDetail.Property> properties = detail.getProperties();
+        if (properties != null) {
+            bytes += LIST_OVERHEAD + 4L * properties.size();
+            for (DataDictDetail.Property property : properties) {
+                bytes += PROPERTY_OVERHEAD + estimate(property.getName()) + estimate(property.getDisplayName())
+                        + estimate(property.getDataTypeSql()) + estimate(property.getRefClassPathHref())
+                        + estimate(property.getDefaultValue()) + estimate(property.getDataScope())
+                        + estimate(property.getColumnName()) + estimate(property.getRefModelName())
+                        + estimate(property.getRefClass()) + estimate(property.getEnumValues());
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * 数据字典项列表
+     */
+    public static long estimate(List<DataDictItem> items) {
+        if (items == null) {
+            return 0;
+        }
+        long bytes = LIST_OVERHEAD + 4L * items.size();
+        for (DataDictItem item : items) {
+            bytes += ITEM_OVERHEAD + estimate(item.getId()) + estimate(item.getName());
+        }
+        return bytes;
+    }
+
+    /**
+     * 预压缩的响应内容
+     */
+    public static long estimate(CompressedPayload payload) {
+        return payload == null ? 0 : payload.estimateBytes();
+    }
+
+}
@@ -0,0 +1,242 @@
+package win.ixuni.yonyoudatadict.cache;
+
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import win.ixuni.yonyoudatadict.config.DataDictConfig;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 缓存快照管理器
+ * 启动完成后从磁盘加载所有 {@link SnapshotPart}，并定期及关闭时写回磁盘。
+ * 快照按应用代码分目录保存：{snapshot.path}/{appCode}/{name}.snap。
+ * 另可将所有部分导出为一个快照包，在其他实例或重启后导入，导入不依赖是否配置了快照目录
+ */
+@Component
+public class CacheSnapshotManager {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheSnapshotManager.class);
+
+    // 快照文件头，用于识别文件格式
+    private static final int SNAPSHOT_MAGIC = 0x59444453;
+
+    private static final int SNAPSHOT_FORMAT_VERSION = 1;
+
+    // 快照包文件头
+    private static final int BUNDLE_MAGIC = 0x59444442;
+
+    // 快照包中单个部分的最大长度，超过时视为格式错误，避免按上传内容中的长度分配过大的数组
+    private static final int MAX_PART_BYTES = 256 * 1024 * 1024;
+
+    private final DataDictConfig config;
+
+    private final List<SnapshotPart> parts;
+
+    private ScheduledExecutorService scheduler;
+
+    public CacheSnapshotManager(DataDictConfig config, List<SnapshotPart> parts) {
+        this.config = config;
+        this.parts = parts;
+    }
+
+    /**
+     * 是否启用快照（配置了快照目录即启用）
+     */
+    public boolean isEnabled() {
+        String path = config.getSnapshot().getPath();
+        return path != null && !path.trim().isEmpty();
+    }
+
+    /**
+     * 应用启动完成后加载快照，并启动定期保存任务
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!isEnabled()) {
+            return;
+        }
+        loadSnapshot();
+
+        long interval = config.getSnapshot().getSaveIntervalSeconds();
+        if (interval > 0) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "cache-snapshot");
+                thread.setDaemon(true);
+                return thread;
+            });
+            scheduler.scheduleWithFixedDelay(this::saveSnapshot, interval, interval, TimeUnit.SECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+        if (isEnabled()) {
+            saveSnapshot();
+        }
+    }
+
+    /**
+     * 从磁盘加载所有快照部分
+     */
+    public synchronized void loadSnapshot() {
+        if (!isEnabled()) {
+            return;
+        }
+        for (SnapshotPart part : parts) {
+            Path file = resolveFile(part);
+            if (!Files.isRegularFile(file)) {
+                continue;
+            }
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+                if (in.readInt() != SNAPSHOT_MAGIC || in.readInt() != SNAPSHOT_FORMAT_VERSION) {
+                    logger.warn("快照文件格式不匹配，已忽略: {}", file);
+                    continue;
+                }
+                part.readSnapshot(in);
+                logger.info("已加载缓存快照: {}", file);
+            } catch (Exception e) {
+                logger.warn("加载缓存快照失败: {}: {}", file, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 将所有快照部分写入磁盘，先写临时文件再原子替换
+     */
+    public synchronized void saveSnapshot() {
+        if (!isEnabled()) {
+            return;
+        }
+        for (SnapshotPart part : parts) {
+            Path file = resolveFile(part);
+            Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+            try {
+                Files.createDirectories(file.getParent());
+                try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                    out.writeInt(SNAPSHOT_MAGIC);
+                    out.writeInt(SNAPSHOT_FORMAT_VERSION);
+                    part.writeSnapshot(out);
+                }
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                logger.debug("已保存缓存快照: {}", file);
+            } catch (IOException e) {
+                logger.warn("保存缓存快照失败: {}: {}", file, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 切换默认应用代码：先保存当前应用代码的快照，执行切换后加载新应用代码的快照
+     * 切换期间不会有定期保存把新应用代码的内容写入原应用代码的目录
+     *
+     * @param swap 切换操作，执行后配置中的应用代码应已更新
+     */
+    public synchronized void switchAppCode(Runnable swap) {
+        saveSnapshot();
+        swap.run();
+        loadSnapshot();
+    }
+
+    /**
+     * 将所有快照部分导出为一个快照包
+     * 格式：文件头、格式版本、应用代码、部分数量，之后每个部分依次为名称、字节数和内容
+     *
+     * @param out 输出流，不会被关闭
+     */
+    public synchronized void exportSnapshot(OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(BUNDLE_MAGIC);
+        data.writeInt(SNAPSHOT_FORMAT_VERSION);
+        data.writeUTF(appCodeDirectory());
+        data.writeInt(parts.size());
+        for (SnapshotPart part : parts) {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            try (DataOutputStream partOut = new DataOutputStream(buffer)) {
+                part.writeSnapshot(partOut);
+            }
+            data.writeUTF(part.getSnapshotName());
+            data.writeInt(buffer.size());
+            buffer.writeTo(data);
+        }
+        data.flush();
+    }
+
+    /**
+     * 导入快照包，与加载磁盘快照相同，已存在的内容优先，快照只补充缺失部分
+     *
+     * @param in 输入流，不会被关闭
+     * @return 部分名称 -> 是否已导入，快照包中没有对应组件的部分为false
+     */
+    public synchronized Map<String, Boolean> importSnapshot(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(in);
+        if (data.readInt() != BUNDLE_MAGIC || data.readInt() != SNAPSHOT_FORMAT_VERSION) {
+            throw new IOException("快照包格式不匹配");
+        }
+        String appCode = data.readUTF();
+        if (!appCode.equals(appCodeDirectory())) {
+            throw new IOException("快照包的应用代码 " + appCode + " 与当前应用代码 " + appCodeDirectory() + " 不一致");
+        }
+        Map<String, Boolean> imported = new LinkedHashMap<>();
+        int count = data.readInt();
+        for (int i = 0; i < count; i++) {
+            String name = data.readUTF();
+            int length = data.readInt();
+            if (length < 0 || length > MAX_PART_BYTES) {
+                throw new IOException("快照包部分 " + name + " 的长度 " + length + " 无效");
+            }
+            byte[] content = new byte[length];
+            data.readFully(content);
+            SnapshotPart part = findPart(name);
+            if (part != null) {
+                part.readSnapshot(new DataInputStream(new ByteArrayInputStream(content)));
+            }
+            imported.put(name, part != null);
+        }
+        logger.info("已导入缓存快照包: {}", imported);
+        return imported;
+    }
+
+    private SnapshotPart findPart(String name) {
+        for (SnapshotPart part : parts) {
+            if (part.getSnapshotName().equals(name)) {
+                return part;
+            }
+        }
+        return null;
+    }
+
+    private String appCodeDirectory() {
+        return config.getDefaultAppCode() == null ? "default" : config.getDefaultAppCode().trim().toLowerCase();
+    }
+
+    private Path resolveFile(SnapshotPart part) {
+        return Paths.get(config.getSnapshot().getPath().trim(), appCodeDirectory(), part.getSnapshotName() + ".snap");
+    }
+
+}
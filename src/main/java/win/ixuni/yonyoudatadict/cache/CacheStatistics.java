@@ -0,0 +1,29 @@
+package win.ixuni.yonyoudatadict.cache;
+
+
+/**
+ * 缓存的只读统计信息，用于指标采集
+ */
+public interface CacheStatistics {
+
+    /**
+     * 当前条目数
+     */
+    int size();
+
+    /**
+     * 命中次数
+     */
+    long getHitCount();
+
+    /**
+     * 未命中次数
+     */
+    long getMissCount();
+
+    /**
+     * 因超过容量被淘汰的条目数
+     */
+    long getEvictionCount();
+
+}
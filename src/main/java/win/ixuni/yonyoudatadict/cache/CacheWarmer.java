@@ -0,0 +1,178 @@
+package win.ixuni.yonyoudatadict.cache;
+
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+import win.ixuni.yonyoudatadict.config.DataDictConfig;
+import win.ixuni.yonyoudatadict.model.DataDictItem;
+import win.ixuni.yonyoudatadict.util.DataDictDownloader;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 缓存预热
+ * 按数据字典项列表依次获取尚未缓存的详情（经过处理器链），填充详情缓存和处理器视图缓存。
+ * 下载在批量获取线程池中进行，并发数由信号量限制，同一时间只运行一个预热任务
+ */
+@Component
+@Lazy
+public class CacheWarmer {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheWarmer.class);
+
+    private final DataDictDownloader downloader;
+
+    private final DataDictConfig config;
+
+    // 当前或最近一次的预热任务，未启动过时为null
+    private volatile WarmupRun current;
+
+    public CacheWarmer(DataDictDownloader downloader, DataDictConfig config) {
+        this.downloader = downloader;
+        this.config = config;
+    }
+
+    /**
+     * 启动预热
+     *
+     * @param concurrency 并发下载数，为null时使用配置值
+     * @param limit       最多预热的类数量，为null时预热全部
+     * @return 是否已启动，已有预热任务在运行时返回false
+     */
+    public synchronized boolean start(Integer concurrency, Integer limit) {
+        WarmupRun run = current;
+        if (run != null && run.running) {
+            return false;
+        }
+        int permits = Math.max(1, concurrency != null ? concurrency : config.getWarmup().getConcurrency());
+        run = new WarmupRun(permits, limit != null && limit > 0 ? limit : Integer.MAX_VALUE);
+        current = run;
+        Thread thread = new Thread(run::execute, "cache-warmup");
+        thread.setDaemon(true);
+        run.thread = thread;
+        thread.start();
+        return true;
+    }
+
+    /**
+     * 停止预热，已开始的下载会继续完成并写入缓存
+     *
+     * @return 是否有运行中的预热任务
+     */
+    public synchronized boolean stop() {
+        WarmupRun run = current;
+        if (run == null || !run.running) {
+            return false;
+        }
+        run.stopRequested = true;
+        run.thread.interrupt();
+        return true;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        stop();
+    }
+
+    /**
+     * 获取预热状态
+     */
+    public Map<String, Object> getStatus() {
+        WarmupRun run = current;
+        Map<String, Object> status = new LinkedHashMap<>();
+        if (run == null) {
+            status.put("state", "IDLE");
+            return status;
+        }
+        status.put("state", run.running ? "RUNNING" : run.stopRequested ? "STOPPED" : "COMPLETED");
+        status.put("concurrency", run.concurrency);
+        status.put("total", run.total);
+        status.put("alreadyCached", run.alreadyCached.get());
+        status.put("loaded", run.loaded.get());
+        status.put("failed", run.failed.get());
+        status.put("startedAt", run.startedAt.toString());
+        status.put("finishedAt", run.finishedAt != null ? run.finishedAt.toString() : null);
+        return status;
+    }
+
+    /**
+     * 一次预热任务
+     */
+    private class WarmupRun {
+
+        private final int concurrency;
+
+        private final int limit;
+
+        private final Instant startedAt = Instant.now();
+
+        private final AtomicInteger alreadyCached = new AtomicInteger();
+
+        private final AtomicInteger loaded = new AtomicInteger();
+
+        private final AtomicInteger failed = new AtomicInteger();
+
+        private volatile int total;
+
+        private volatile boolean running = true;
+
+        private volatile boolean stopRequested;
+
+        private volatile Instant finishedAt;
+
+        private Thread thread;
+
+        WarmupRun(int concurrency, int limit) {
+            this.concurrency = concurrency;
+            this.limit = limit;
+        }
+
+        void execute() {
+            Semaphore permits = new Semaphore(concurrency);
+            try {
+                List<DataDictItem> items = downloader.getDataDictItemsSnapshot();
+                total = Math.min(limit, items.size());
+                logger.info("开始预热缓存，共 {} 个类，并发数 {}", total, concurrency);
+                for (int i = 0; i < total && !stopRequested; i++) {
+                    String classId = items.get(i).getId();
+                    if (classId == null || downloader.isDetailCached(classId)) {
+                        alreadyCached.incrementAndGet();
+                        continue;
+                    }
+                    permits.acquire();
+                    downloader.downloadDataDictDetailAsync(classId, true, Collections.emptySet())
+                            .whenComplete((detail, e) -> {
+                                if (e != null || detail == null) {
+                                    failed.incrementAndGet();
+                                } else {
+                                    loaded.incrementAndGet();
+                                }
+                                permits.release();
+                            });
+                }
+                // 等待已提交的下载完成
+                permits.acquire(concurrency);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException e) {
+                logger.warn("预热缓存时出错", e);
+            } finally {
+                finishedAt = Instant.now();
+                running = false;
+                logger.info("缓存预热{}，已缓存 {} 个，新加载 {} 个，失败 {} 个",
+                        stopRequested ? "已停止" : "完成", alreadyCached.get(), loaded.get(), failed.get());
+            }
+        }
+
+    }
+
+}
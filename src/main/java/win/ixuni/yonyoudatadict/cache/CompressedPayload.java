@@ -0,0 +1,237 @@
+package win.ixuni.yonyoudatadict.cache;
+
+
+import org.springframework.util.DigestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 预压缩的响应内容
+ * 保存序列化后的原始字节和gzip压缩结果，deflate压缩结果在首次需要时生成；
+ * ETag由原始字节计算，不同编码的表示通过后缀区分
+ */
+public final class CompressedPayload {
+
+    /**
+     * 响应内容编码
+     */
+    public enum Encoding {
+
+        IDENTITY(null, ""),
+
+        GZIP("gzip", "-gz"),
+
+        DEFLATE("deflate", "-df");
+
+        private final String headerValue;
+
+        private final String etagSuffix;
+
+        Encoding(String headerValue, String etagSuffix) {
+            this.headerValue = headerValue;
+            this.etagSuffix = etagSuffix;
+        }
+
+        /**
+         * Content-Encoding 响应头的值，不编码时为null
+         */
+        public String getHeaderValue() {
+            return headerValue;
+        }
+    }
+
+    private final byte[] identity;
+
+    // 压缩后不比原始内容小时为null
+    private final byte[] gzip;
+
+    private volatile byte[] deflate;
+
+    private final String etag;
+
+    private CompressedPayload(byte[] identity, byte[] gzip) {
+        this.identity = identity;
+        this.gzip = gzip;
+        this.etag = DigestUtils.md5DigestAsHex(identity);
+    }
+
+    /**
+     * 构建预压缩内容
+     *
+     * @param identity        序列化后的原始字节
+     * @param minCompressSize 小于该字节数时不压缩
+     */
+    public static CompressedPayload of(byte[] identity, int minCompressSize) {
+        byte[] gzip = null;
+        if (identity.length >= minCompressSize) {
+            byte[] compressed = gzip(identity);
+            if (compressed.length < identity.length) {
+                gzip = compressed;
+            }
+        }
+        return new CompressedPayload(identity, gzip);
+    }
+
+    /**
+     * 根据 Accept-Encoding 请求头选择编码
+     * 按q值选择gzip或deflate，q值相同时优先gzip；内容未压缩或客户端不接受压缩时不编码
+     */
+    public Encoding negotiate(String acceptEncoding) {
+        if (gzip == null || acceptEncoding == null || acceptEncoding.isEmpty()) {
+            return Encoding.IDENTITY;
+        }
+        double gzipQ = -1;
+        double deflateQ = -1;
+        double anyQ = -1;
+        for (String token : acceptEncoding.split(",")) {
+            String[] parts = token.trim().split(";");
+            String coding = parts[0].trim().toLowerCase();
+            double q = 1;
+            for (int i = 1; i < parts.length; i++) {
+                String param = parts[i].trim();
+                if (param.startsWith("q=")) {
+                    try {
+                        q = Double.parseDouble(param.substring(2).trim());
+                    } catch (NumberFormatException e) {
+                        q = 0;
+                    }
+                }
+            }
+            if ("gzip".equals(coding) || "x-gzip".equals(coding)) {
+                gzipQ = q;
+            } else if ("deflate".equals(coding)) {
+                deflateQ = q;
+            } else if ("*".equals(coding)) {
+                anyQ = q;
+            }
+        }
+        // 未显式列出的编码取 * 的q值
+        if (gzipQ < 0) {
+            gzipQ = anyQ;
+        }
+        if (deflateQ < 0) {
+            deflateQ = anyQ;
+        }
+        if (gzipQ > 0 && gzipQ >= deflateQ) {
+            return Encoding.GZIP;
+        }
+        if (deflateQ > 0) {
+            return Encoding.DEFLATE;
+        }
+        return Encoding.IDENTITY;
+    }
+
+    /**
+     * 获取指定编码的响应内容
+     */
+    public byte[] getBody(Encoding encoding) {
+        switch (encoding) {
+            case GZIP:
+                return gzip != null ? gzip : identity;
+            case DEFLATE:
+                byte[] compressed = deflate;
+                if (compressed == null) {
+                    compressed = deflate(identity);
+                    deflate = compressed;
+                }
+                return compressed;
+            default:
+                return identity;
+        }
+    }
+
+    /**
+     * 获取指定编码表示的强ETag（含引号）
+     */
+    public String getETag(Encoding encoding) {
+        return "\"" + etag + encoding.etagSuffix + "\"";
+    }
+
+    /**
+     * 判断 If-None-Match 请求头是否与当前内容匹配
+     * 忽略弱标记和编码后缀，反向代理压缩或弱化后的ETag同样可以重新验证
+     */
+    public boolean matches(String ifNoneMatch) {
+        if (ifNoneMatch == null || ifNoneMatch.isEmpty()) {
+            return false;
+        }
+        for (String tag : ifNoneMatch.split(",")) {
+            String value = tag.trim();
+            if ("*".equals(value)) {
+                return true;
+            }
+            if (value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.length() >= 2 && value.startsWith("\"") && value.endsWith("\"")) {
+                value = value.substring(1, value.length() - 1);
+            }
+            if (value.startsWith(etag)) {
+                String suffix = value.substring(etag.length());
+                for (Encoding encoding : Encoding.values()) {
+                    if (encoding.etagSuffix.equals(suffix)) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 原始内容的字节数
+     */
+    public int getSize() {
+        return identity.length;
+    }
+
+    /**
+     * gzip压缩后的字节数，未压缩时等于原始字节数
+     */
+    public int getGzipSize() {
+        return gzip != null ? gzip.length : identity.length;
+    }
+
+    /**
+     * 估算的内存占用（字节），包括原文和已生成的压缩内容
+     */
+    public long estimateBytes() {
+        byte[] deflated = deflate;
+        return 96 + identity.length + (gzip != null ? gzip.length : 0) + (deflated != null ? deflated.length : 0)
+                + 2L * etag.length();
+    }
+
+    private static byte[] gzip(byte[] data) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, data.length / 4));
+        try (GZIPOutputStream gzipOut = new GZIPOutputStream(out) {
+            {
+                // 内容只压缩一次、反复发送，使用最高压缩级别
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            gzipOut.write(data);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] deflate(byte[] data) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, data.length / 4));
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try (DeflaterOutputStream deflateOut = new DeflaterOutputStream(out, deflater)) {
+            deflateOut.write(data);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            deflater.end();
+        }
+        return out.toByteArray();
+    }
+
+}
@@ -0,0 +1,128 @@
+package win.ixuni.yonyoudatadict.cache;
+
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import win.ixuni.yonyoudatadict.config.DataDictConfig;
+import win.ixuni.yonyoudatadict.metrics.DataDictMetrics;
+
+/**
+ * 控制器响应的预压缩缓存
+ * 以请求路径和影响结果的参数为键，缓存序列化并压缩好的响应内容。
+ * 缓存整体绑定下载器的内容版本，列表快照更新、详情缓存清除或处理器链变化后全部失效。
+ */
+@Component
+public class CompressedPayloadCache implements CacheStatistics {
+
+    private static final Logger logger = LoggerFactory.getLogger(CompressedPayloadCache.class);
+
+    private final LRUCache<String, CompressedPayload> cache;
+
+    // 当前缓存内容对应的内容版本
+    private long stamp = -1;
+
+    private long hitCount;
+
+    private long missCount;
+
+    // 供缓存管理端点使用的分区视图，与本类的同步方法使用同一把锁
+    private final CachePartition partition;
+
+    public CompressedPayloadCache(DataDictConfig config, DataDictMetrics metrics) {
+        this.cache = new LRUCache<>(Math.max(1, config.getHttpCache().getPayloadCacheSize()));
+        metrics.bindCache("payload", this);
+        this.partition = new LRUCachePartition<CompressedPayload>("payload", cache, this, CacheSizeEstimator::estimate, null);
+    }
+
+    /**
+     * 构建缓存键
+     *
+     * @param path  请求路径
+     * @param parts 影响结果的参数，null按空字符串处理
+     */
+    public static String buildKey(String path, Object... parts) {
+        StringBuilder key = new StringBuilder(path);
+        for (Object part : parts) {
+            key.append('\u0000').append(part == null ? "" : part);
+        }
+        return key.toString();
+    }
+
+    /**
+     * 获取缓存的响应内容，版本不一致时整体失效
+     *
+     * @param key     缓存键
+     * @param version 当前内容版本
+     * @return 缓存的响应内容，不存在时返回null
+     */
+    public synchronized CompressedPayload get(String key, long version) {
+        checkStamp(version);
+        CompressedPayload payload = cache.get(key);
+        if (payload != null) {
+            hitCount++;
+        } else {
+            missCount++;
+        }
+        return payload;
+    }
+
+    /**
+     * 缓存响应内容
+     *
+     * @param key     缓存键
+     * @param version 生成内容前读取的内容版本
+     * @param payload 响应内容
+     */
+    public synchronized void put(String key, long version, CompressedPayload payload) {
+        checkStamp(version);
+        if (version == stamp && payload != null) {
+            cache.put(key, payload);
+        }
+    }
+
+    /**
+     * 获取预压缩响应缓存的分区视图
+     */
+    public CachePartition getPartition() {
+        return partition;
+    }
+
+    /**
+     * 清空缓存
+     */
+    public synchronized void clear() {
+        cache.clear();
+    }
+
+    @Override
+    public synchronized int size() {
+        return cache.size();
+    }
+
+    @Override
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    @Override
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+
+    @Override
+    public long getEvictionCount() {
+        return cache.getEvictionCount();
+    }
+
+    private void checkStamp(long version) {
+        if (version > stamp) {
+            if (!cache.isEmpty()) {
+                logger.info("数据字典内容已更新(版本 {} -> {})，预压缩响应缓存整体失效", stamp, version);
+            }
+            cache.clear();
+            stamp = version;
+        }
+    }
+
+}
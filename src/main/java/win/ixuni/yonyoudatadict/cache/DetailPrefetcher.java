@@ -0,0 +1,389 @@
+package win.ixuni.yonyoudatadict.cache;
+
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import win.ixuni.yonyoudatadict.config.DataDictConfig;
+import win.ixuni.yonyoudatadict.index.ReverseRefIndex;
+import win.ixuni.yonyoudatadict.metrics.DataDictMetrics;
+import win.ixuni.yonyoudatadict.model.DataDictDetail;
+import win.ixuni.yonyoudatadict.util.DataDictDownloader;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 按访问规律预取详情
+ * 记录前台请求详情的类ID序列，用有界的一阶转移模型统计 来源类 -> 后继类 的出现次数；
+ * 每次访问后把最可能的后继类和该类引用的类（反向引用索引中的出边）作为候选，在后台预取其原始解析结果。
+ * 预取只在一个低优先级线程中逐个进行，按速率限制，有上游请求进行中时暂缓，不与前台请求争用线程和上游连接。
+ * 预取的类之后被请求时计为命中，用于衡量预取效果。
+ * 请求序列不区分客户端，多个客户端交错访问产生的偶然转移次数少，低于最少出现次数时不会被预取
+ */
+@Component
+public class DetailPrefetcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(DetailPrefetcher.class);
+
+    // 有上游请求进行中时，再次检查前的等待时间
+    private static final long BUSY_WAIT_MILLIS = 100;
+
+    // 状态中列出的转移数量
+    private static final int TOP_TRANSITION_COUNT = 10;
+
+    private final DataDictDownloader downloader;
+
+    private final ReverseRefIndex reverseRefIndex;
+
+    private final DataDictMetrics metrics;
+
+    private final DataDictConfig.Prefetch settings;
+
+    // 前台请求的类ID，由预取线程消费，队列满时丢弃
+    private final BlockingQueue<String> accesses;
+
+    // 转移模型：来源类ID -> (后继类ID -> 次数)，按访问顺序淘汰；只由预取线程修改，读取状态时加锁
+    private final LinkedHashMap<String, Map<String, int[]>> transitions = new LinkedHashMap<>(16, 0.75f, true);
+
+    // 待预取的候选类，队首为最近加入的，最先预取；只由预取线程访问
+    private final ArrayDeque<String> candidates = new ArrayDeque<>();
+
+    // 已预取、尚未被请求的类ID，按预取顺序只保留最近的若干个
+    private final LinkedHashMap<String, Boolean> prefetched = new LinkedHashMap<>();
+
+    // 预取线程，未启用时为null
+    private final ExecutorService executor;
+
+    private final AtomicLong accessCount = new AtomicLong();
+
+    private final AtomicLong droppedAccessCount = new AtomicLong();
+
+    private final AtomicLong loadedCount = new AtomicLong();
+
+    private final AtomicLong alreadyCachedCount = new AtomicLong();
+
+    private final AtomicLong failedCount = new AtomicLong();
+
+    private final AtomicLong deferredCount = new AtomicLong();
+
+    private final AtomicLong usedCount = new AtomicLong();
+
+    private volatile int pendingCount;
+
+    // 以下只由预取线程访问：模型对应的应用代码，变化时重置模型；上一个访问的类ID
+    private String modelAppCode;
+
+    private String previous;
+
+    // 最近一次计入暂缓次数的候选类，同一候选类等待期间只计一次
+    private String deferredCandidate;
+
+    public DetailPrefetcher(DataDictDownloader downloader, ReverseRefIndex reverseRefIndex, DataDictMetrics metrics,
+                            DataDictConfig config) {
+        this.downloader = downloader;
+        this.reverseRefIndex = reverseRefIndex;
+        this.metrics = metrics;
+        this.settings = config.getPrefetch();
+        this.accesses = new ArrayBlockingQueue<>(Math.max(1, settings.getQueueSize()));
+        metrics.bindPrefetcher(this);
+        if (!settings.isEnabled()) {
+            this.executor = null;
+            return;
+        }
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "detail-prefetch");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        });
+        this.executor.execute(this::run);
+        logger.info("详情预取已启用，每次访问预取后继类 {} 个、引用类 {} 个，每秒最多 {} 个",
+                settings.getPredictions(), settings.getMaxRefs(), settings.getRatePerSecond());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    public boolean isEnabled() {
+        return executor != null;
+    }
+
+    /**
+     * 记录一次前台详情请求，应在详情获取完成后调用，此时其引用关系已写入索引
+     * 只做计数和入队，不阻塞调用线程；未启用时忽略
+     *
+     * @param classId 类ID
+     */
+    public void recordAccess(String classId) {
+        if (executor == null || classId == null || classId.trim().isEmpty()) {
+            return;
+        }
+        String id = classId.trim();
+        accessCount.incrementAndGet();
+        synchronized (prefetched) {
+            if (prefetched.remove(id) != null) {
+                usedCount.incrementAndGet();
+            }
+        }
+        if (!accesses.offer(id)) {
+            droppedAccessCount.incrementAndGet();
+        }
+    }
+
+    /**
+     * 预取线程：处理访问记录，空闲且未超过速率时预取最近加入的候选类
+     */
+    private void run() {
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / Math.max(0.01, settings.getRatePerSecond()));
+        long nextAllowed = System.nanoTime();
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                String classId;
+                long now = System.nanoTime();
+                if (candidates.isEmpty()) {
+                    classId = accesses.take();
+                } else if (metrics.getActiveUpstreamRequests() > 0) {
+                    // 前台正在下载，暂缓预取；每个被暂缓的候选类只计一次，不按轮询次数计
+                    String candidate = candidates.peekFirst();
+                    if (!candidate.equals(deferredCandidate)) {
+                        deferredCandidate = candidate;
+                        deferredCount.incrementAndGet();
+                    }
+                    classId = accesses.poll(BUSY_WAIT_MILLIS, TimeUnit.MILLISECONDS);
+                } else if (now < nextAllowed) {
+                    classId = accesses.poll(nextAllowed - now, TimeUnit.NANOSECONDS);
+                } else {
+                    String candidate = candidates.pollFirst();
+                    pendingCount = candidates.size();
+                    deferredCandidate = null;
+                    prefetch(candidate);
+                    nextAllowed = System.nanoTime() + intervalNanos;
+                    continue;
+                }
+                if (classId != null) {
+                    observe(classId);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException e) {
+                logger.warn("预取详情时出错", e);
+            }
+        }
+    }
+
+    /**
+     * 更新转移模型，并加入该类之后可能访问的候选类
+     */
+    private void observe(String classId) {
+        String appCode = downloader.getCurrentAppCode();
+        if (!appCode.equalsIgnoreCase(String.valueOf(modelAppCode))) {
+            // 类ID只在同一个应用代码内有意义
+            synchronized (transitions) {
+                transitions.clear();
+            }
+            candidates.clear();
+            previous = null;
+            modelAppCode = appCode;
+        }
+        if (previous != null && !previous.equals(classId)) {
+            learn(previous, classId);
+        }
+        previous = classId;
+
+        // 引用类先加入，最可能的后继类最后加入、最先预取
+        int refs = 0;
+        for (String ref : reverseRefIndex.findReferences(classId)) {
+            if (refs >= settings.getMaxRefs()) {
+                break;
+            }
+            if (!ref.equals(classId)) {
+                offerCandidate(ref);
+                refs++;
+            }
+        }
+        List<String> predicted = predict(classId);
+        for (int i = predicted.size() - 1; i >= 0; i--) {
+            offerCandidate(predicted.get(i));
+        }
+        pendingCount = candidates.size();
+    }
+
+    /**
+     * 记录一次 from -> to 的转移
+     */
+    private void learn(String from, String to) {
+        synchronized (transitions) {
+            Map<String, int[]> successors = transitions.get(from);
+            if (successors == null) {
+                successors = new HashMap<>();
+                transitions.put(from, successors);
+                Iterator<String> eldest = transitions.keySet().iterator();
+                while (transitions.size() > Math.max(1, settings.getMaxTrackedClasses()) && eldest.hasNext()) {
+                    eldest.next();
+                    eldest.remove();
+                }
+            }
+            int[] count = successors.get(to);
+            if (count != null) {
+                count[0]++;
+                return;
+            }
+            if (successors.size() >= Math.max(1, settings.getMaxSuccessors())) {
+                // 替换次数最少的后继类
+                String least = null;
+                int leastCount = Integer.MAX_VALUE;
+                for (Map.Entry<String, int[]> entry : successors.entrySet()) {
+                    if (entry.getValue()[0] < leastCount) {
+                        least = entry.getKey();
+                        leastCount = entry.getValue()[0];
+                    }
+                }
+                successors.remove(least);
+            }
+            successors.put(to, new int[]{1});
+        }
+    }
+
+    /**
+     * 出现次数不少于下限的后继类，按次数从高到低取前几个
+     */
+    private List<String> predict(String classId) {
+        List<Map.Entry<String, Integer>> ranked = new ArrayList<>();
+        synchronized (transitions) {
+            Map<String, int[]> successors = transitions.get(classId);
+            if (successors == null) {
+                return new ArrayList<>();
+            }
+            for (Map.Entry<String, int[]> entry : successors.entrySet()) {
+                if (entry.getValue()[0] >= settings.getMinTransitions()) {
+                    ranked.add(Map.entry(entry.getKey(), entry.getValue()[0]));
+                }
+            }
+        }
+        ranked.sort((a, b) -> Integer.compare(b.getValue(), a.getValue()));
+        List<String> result = new ArrayList<>();
+        for (Map.Entry<String, Integer> entry : ranked) {
+            if (result.size() >= settings.getPredictions()) {
+                break;
+            }
+            result.add(entry.getKey());
+        }
+        return result;
+    }
+
+    /**
+     * 加入候选类，已在队列中时移到队首；超出上限时丢弃最早加入的
+     */
+    private void offerCandidate(String classId) {
+        candidates.remove(classId);
+        candidates.addFirst(classId);
+        while (candidates.size() > Math.max(1, settings.getQueueSize())) {
+            candidates.pollLast();
+        }
+    }
+
+    /**
+     * 预取一个类的原始解析结果，已缓存时跳过
+     * 下载在预取线程中同步进行，同一时间最多一个预取请求；与前台请求相同的类会合并为一次下载
+     */
+    private void prefetch(String classId) {
+        if (downloader.isDetailCached(classId)) {
+            alreadyCachedCount.incrementAndGet();
+            return;
+        }
+        DataDictDetail detail = downloader.downloadDataDictDetail(classId, false);
+        if (detail == null) {
+            failedCount.incrementAndGet();
+            return;
+        }
+        loadedCount.incrementAndGet();
+        synchronized (prefetched) {
+            prefetched.put(classId, Boolean.TRUE);
+            Iterator<String> eldest = prefetched.keySet().iterator();
+            while (prefetched.size() > Math.max(1, settings.getMaxTrackedClasses()) && eldest.hasNext()) {
+                eldest.next();
+                eldest.remove();
+            }
+        }
+        logger.debug("已预取数据字典详情，classId: {}", classId);
+    }
+
+    public long getLoadedCount() {
+        return loadedCount.get();
+    }
+
+    public long getAlreadyCachedCount() {
+        return alreadyCachedCount.get();
+    }
+
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+
+    public long getUsedCount() {
+        return usedCount.get();
+    }
+
+    public long getDeferredCount() {
+        return deferredCount.get();
+    }
+
+    public int getPendingCount() {
+        return pendingCount;
+    }
+
+    /**
+     * 预取状态：访问和预取计数、命中率，以及出现次数最多的转移
+     */
+    public Map<String, Object> getStatus() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("enabled", isEnabled());
+        status.put("accesses", accessCount.get());
+        status.put("droppedAccesses", droppedAccessCount.get());
+        status.put("pending", pendingCount);
+        status.put("loaded", loadedCount.get());
+        status.put("alreadyCached", alreadyCachedCount.get());
+        status.put("failed", failedCount.get());
+        status.put("deferred", deferredCount.get());
+        status.put("used", usedCount.get());
+        long loaded = loadedCount.get();
+        status.put("hitRatio", loaded > 0 ? Math.round(usedCount.get() * 100.0 / loaded) / 100.0 : 0.0);
+
+        List<Map<String, Object>> top = new ArrayList<>();
+        synchronized (transitions) {
+            status.put("trackedClasses", transitions.size());
+            // 遍历entrySet不改变访问顺序
+            for (Map.Entry<String, Map<String, int[]>> source : transitions.entrySet()) {
+                for (Map.Entry<String, int[]> target : source.getValue().entrySet()) {
+                    Map<String, Object> transition = new LinkedHashMap<>();
+                    transition.put("from", source.getKey());
+                    transition.put("to", target.getKey());
+                    transition.put("count", target.getValue()[0]);
+                    top.add(transition);
+                }
+            }
+        }
+        top.sort((a, b) -> Integer.compare((int) b.get("count"), (int) a.get("count")));
+        status.put("topTransitions", top.size() > TOP_TRANSITION_COUNT
+                ? new ArrayList<>(top.subList(0, TOP_TRANSITION_COUNT)) : top);
+        return status;
+    }
+
+}
@@ -0,0 +1,127 @@
+package win.ixuni.yonyoudatadict.cache;
+
+
+import win.ixuni.yonyoudatadict.model.DataDictDetail;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 数据字典详情的快照编码
+ * 字符串按长度前缀的UTF-8写入，不受 writeUTF 64KB的长度限制。
+ * 快照可能来自上传的快照包，读取时不按其中的长度和数量预先分配，内容不足时抛出 {@link EOFException}
+ */
+public final class DetailSnapshotCodec {
+
+    // 属性列表预分配的最大容量，超过时随读取扩容
+    private static final int MAX_INITIAL_PROPERTIES = 256;
+
+    // 长度或数量为-1表示null
+    private static final int NULL_MARKER = -1;
+
+    private DetailSnapshotCodec() {
+    }
+
+    /**
+     * 写入一个详情
+     */
+    public static void write(DataOutputStream out, DataDictDetail detail) throws IOException {
+        writeString(out, detail.getClassId());
+        writeString(out, detail.getFullClassName());
+        writeString(out, detail.getDisplayName());
+        writeString(out, detail.getDefaultTableName());
+        out.writeBoolean(detail.isPrimary());
+        List<DataDictDetail.Property> properties = detail.getProperties();
+        out.writeInt(properties != null ? properties.size() : NULL_MARKER);
+        if (properties == null) {
+            return;
+        }
+        for (DataDictDetail.Property property : properties) {
+            writeString(out, property.getName());
+            writeString(out, property.getDisplayName());
+            writeString(out, property.getDataTypeSql());
+            out.writeBoolean(property.isKeyProp());
+            out.writeBoolean(property.isNullable());
+            writeString(out, property.getRefClassPathHref());
+            writeString(out, property.getDefaultValue());
+            writeString(out, property.getDataScope());
+            writeString(out, property.getColumnName());
+            writeString(out, property.getRefModelName());
+            writeString(out, property.getRefClass());
+            writeString(out, property.getEnumValues());
+            out.writeBoolean(property.isPrimaryKey());
+        }
+    }
+
+    /**
+     * 读取一个详情，属性列表不可修改
+     */
+    public static DataDictDetail read(DataInputStream in) throws IOException {
+        String classId = readString(in);
+        String fullClassName = readString(in);
+        String classDisplayName = readString(in);
+        String defaultTableName = readString(in);
+        boolean primary = in.readBoolean();
+        int count = in.readInt();
+        if (count == NULL_MARKER) {
+            return new DataDictDetail(classId, fullClassName, classDisplayName, defaultTableName, primary, null);
+        }
+        if (count < 0) {
+            throw new IOException("详情快照的属性数量 " + count + " 无效");
+        }
+        List<DataDictDetail.Property> properties = new ArrayList<>(Math.min(count, MAX_INITIAL_PROPERTIES));
+        for (int i = 0; i < count; i++) {
+            String name = readString(in);
+            String displayName = readString(in);
+            String dataTypeSql = readString(in);
+            boolean keyProp = in.readBoolean();
+            boolean nullable = in.readBoolean();
+            String refClassPathHref = readString(in);
+            String defaultValue = readString(in);
+            String dataScope = readString(in);
+            String columnName = readString(in);
+            String refModelName = readString(in);
+            String refClass = readString(in);
+            String enumValues = readString(in);
+            boolean primaryKey = in.readBoolean();
+            properties.add(new DataDictDetail.Property(name, displayName, dataTypeSql, keyProp, nullable,
+                    refClassPathHref, defaultValue, dataScope, columnName, refModelName, refClass, enumValues,
+                    primaryKey));
+        }
+        return new DataDictDetail(classId, fullClassName, classDisplayName, defaultTableName, primary,
+                Collections.unmodifiableList(properties));
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(NULL_MARKER);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length == NULL_MARKER) {
+            return null;
+        }
+        if (length < 0) {
+            throw new IOException("详情快照的字符串长度 " + length + " 无效");
+        }
+        // readNBytes 按实际读到的内容分块扩容，长度超过剩余内容时不会先分配整个数组
+        byte[] bytes = in.readNBytes(length);
+        if (bytes.length < length) {
+            throw new EOFException("详情快照的字符串长度 " + length + " 超过剩余内容");
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+}
@@ -0,0 +1,195 @@
+package win.ixuni.yonyoudatadict.cache;
+
+
+import org.springframework.stereotype.Component;
+import win.ixuni.yonyoudatadict.metrics.DataDictMetrics;
+import win.ixuni.yonyoudatadict.model.DataDictDetail;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 按内容寻址的详情存储
+ * 不同应用代码的同一个类往往返回完全相同的定义，各应用代码的详情缓存分别保存时内存成倍增长。
+ * 详情写入缓存前先按快照编码（即规范化的解析结果）计算SHA-256摘要，内容相同的详情只保留一份，
+ * 各缓存中的条目指向同一个实例；每个缓存条目持有一次引用，条目被淘汰、删除或清空时释放，
+ * 引用数归零后从存储中移除。存储的详情与缓存中的一样不可修改
+ */
+@Component
+public class DetailStore {
+
+    // 摘要 -> 共享条目
+    private final Map<ByteBuffer, Entry> byDigest = new HashMap<>();
+
+    // 共享实例 -> 共享条目，释放时无需重新计算摘要
+    private final Map<DataDictDetail, Entry> byInstance = new IdentityHashMap<>();
+
+    // 所有条目的引用数之和，即缓存中指向共享详情的条目数
+    private long references;
+
+    // 共享详情的估算内存占用
+    private long storedBytes;
+
+    // 各引用分别保存一份时的估算内存占用
+    private long logicalBytes;
+
+    // 写入时已存在相同内容的次数和新增内容的次数
+    private volatile long sharedCount;
+
+    private volatile long addedCount;
+
+    public DetailStore(DataDictMetrics metrics) {
+        metrics.bindDetailStore(this);
+    }
+
+    /**
+     * 取得与详情内容相同的共享实例并增加一次引用，不存在时以该详情作为共享实例
+     * 调用方应将返回的实例写入缓存，条目移除时调用 {@link #release}
+     *
+     * @param detail 不可修改的原始解析结果
+     * @return 共享实例
+     */
+    public DataDictDetail intern(DataDictDetail detail) {
+        // 摘要计算在锁外进行
+        ByteBuffer digest = digest(detail);
+        synchronized (this) {
+            Entry entry = byDigest.get(digest);
+            if (entry == null) {
+                entry = new Entry(digest, detail, CacheSizeEstimator.estimate(detail));
+                byDigest.put(digest, entry);
+                byInstance.put(detail, entry);
+                storedBytes += entry.bytes;
+                addedCount++;
+            } else {
+                sharedCount++;
+            }
+            entry.refs++;
+            references++;
+            logicalBytes += entry.bytes;
+            return entry.detail;
+        }
+    }
+
+    /**
+     * 释放一次引用，引用数归零时移除共享实例；不是共享实例时忽略
+     *
+     * @param detail {@link #intern} 返回的共享实例
+     */
+    public synchronized void release(DataDictDetail detail) {
+        Entry entry = byInstance.get(detail);
+        if (entry == null) {
+            return;
+        }
+        entry.refs--;
+        references--;
+        logicalBytes -= entry.bytes;
+        if (entry.refs == 0) {
+            byDigest.remove(entry.digest);
+            byInstance.remove(detail);
+            storedBytes -= entry.bytes;
+        }
+    }
+
+    /**
+     * 存储的不同内容数
+     */
+    public synchronized int getDistinctCount() {
+        return byDigest.size();
+    }
+
+    /**
+     * 指向共享详情的缓存条目数
+     */
+    public synchronized long getReferenceCount() {
+        return references;
+    }
+
+    /**
+     * 去重比例：缓存条目数 / 不同内容数，没有条目时为1
+     */
+    public synchronized double getDedupRatio() {
+        return byDigest.isEmpty() ? 1.0 : (double) references / byDigest.size();
+    }
+
+    public synchronized long getStoredBytes() {
+        return storedBytes;
+    }
+
+    public synchronized long getLogicalBytes() {
+        return logicalBytes;
+    }
+
+    public long getSharedCount() {
+        return sharedCount;
+    }
+
+    public long getAddedCount() {
+        return addedCount;
+    }
+
+    /**
+     * 存储统计，供缓存管理端点展示
+     */
+    public synchronized Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("distinct", byDigest.size());
+        stats.put("references", references);
+        stats.put("dedupRatio", Math.round(getDedupRatio() * 100) / 100.0);
+        stats.put("storedBytes", storedBytes);
+        stats.put("logicalBytes", logicalBytes);
+        stats.put("savedBytes", logicalBytes - storedBytes);
+        stats.put("sharedCount", sharedCount);
+        stats.put("addedCount", addedCount);
+        return stats;
+    }
+
+    /**
+     * 规范化内容的摘要：快照编码按固定顺序写入全部字段，null与空字符串可区分
+     */
+    private static ByteBuffer digest(DataDictDetail detail) {
+        MessageDigest sha256;
+        try {
+            sha256 = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("不支持SHA-256", e);
+        }
+        try (DataOutputStream out = new DataOutputStream(
+                new DigestOutputStream(OutputStream.nullOutputStream(), sha256))) {
+            DetailSnapshotCodec.write(out, detail);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return ByteBuffer.wrap(sha256.digest());
+    }
+
+    /**
+     * 共享条目
+     */
+    private static final class Entry {
+
+        private final ByteBuffer digest;
+
+        private final DataDictDetail detail;
+
+        private final long bytes;
+
+        private int refs;
+
+        private Entry(ByteBuffer digest, DataDictDetail detail, long bytes) {
+            this.digest = digest;
+            this.detail = detail;
+            this.bytes = bytes;
+        }
+    }
+
+}
@@ -0,0 +1,18 @@
+package win.ixuni.yonyoudatadict.cache;
+
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * 缓存热点键及其命中次数
+ */
+@Data
+@AllArgsConstructor
+public class HotKey {
+
+    private String key;
+
+    private long hits;
+
+}
@@ -3,19 +3,39 @@ package win.ixuni.yonyoudatadict.cache;
 
 import win.ixuni.yonyoudatadict.config.DataDictConfig;
 
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Predicate;
 
 /**
  * 一个简单的基于 LinkedHashMap 实现的 LRU 缓存。
+ * 与 LinkedHashMap 一样不是线程安全的，由使用方加锁；统计计数在锁内更新，可在锁外读取。
+ * 另外记录每个键的命中次数，用于查询热点键，条目被移除时一并移除。
+ * 可指定移除回调，条目被淘汰、删除、清空或被新值替换时在锁内调用，用于释放值持有的共享资源。
  *
  * @param <K> 键的类型
  * @param <V> 值的类型
  */
-public class LRUCache<K, V> extends LinkedHashMap<K, V> {
+public class LRUCache<K, V> extends LinkedHashMap<K, V> implements CacheStatistics {
 
     private final int capacity; // 缓存的最大容量
 
+    private volatile long hitCount; // 命中次数
+
+    private volatile long missCount; // 未命中次数
+
+    private volatile long evictionCount; // 淘汰次数
+
+    private final Map<Object, long[]> keyHits = new HashMap<>(); // 每个键的命中次数
+
+    private BiConsumer<? super K, ? super V> removalListener; // 条目移除回调，可为null
+
     /**
      * 构造函数
      */
@@ -27,6 +47,45 @@ public class LRUCache<K, V> extends LinkedHashMap<K, V> {
         this.capacity = config.getCacheSize();
     }
 
+    /**
+     * 指定容量的构造函数
+     */
+    public LRUCache(int capacity) {
+        super(capacity, 0.75f, true);
+        this.capacity = capacity;
+    }
+
+    /**
+     * 指定容量和移除回调的构造函数
+     *
+     * @param capacity        最大容量
+     * @param removalListener 条目移除回调，参数为被移除条目的键和值
+     */
+    public LRUCache(int capacity, BiConsumer<? super K, ? super V> removalListener) {
+        this(capacity);
+        this.removalListener = removalListener;
+    }
+
+    /**
+     * 查询并统计命中次数
+     */
+    @Override
+    public V get(Object key) {
+        V value = super.get(key);
+        if (value != null) {
+            hitCount++;
+            long[] hits = keyHits.get(key);
+            if (hits == null) {
+                hits = new long[1];
+                keyHits.put(key, hits);
+            }
+            hits[0]++;
+        } else {
+            missCount++;
+        }
+        return value;
+    }
+
     /**
      * 重写此方法来控制何时移除最老的条目。
      * 当 put 或 putAll 方法导致 map 中的元素数量超过了构造时指定的 capacity 时，
@@ -35,7 +94,137 @@ public class LRUCache<K, V> extends LinkedHashMap<K, V> {
     @Override
     protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
         // 当缓存大小超过指定容量时，返回 true，移除最老的条目
-        return size() > capacity;
+        if (size() > capacity) {
+            evictionCount++;
+            keyHits.remove(eldest.getKey());
+            notifyRemoved(eldest.getKey(), eldest.getValue());
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 写入条目，替换原有的值时（包括同一个值）对原有的值调用移除回调
+     */
+    @Override
+    public V put(K key, V value) {
+        V previous = super.put(key, value);
+        if (previous != null) {
+            notifyRemoved(key, previous);
+        }
+        return previous;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public V remove(Object key) {
+        keyHits.remove(key);
+        V removed = super.remove(key);
+        if (removed != null) {
+            notifyRemoved((K) key, removed);
+        }
+        return removed;
+    }
+
+    @Override
+    public void clear() {
+        keyHits.clear();
+        if (removalListener != null && !isEmpty()) {
+            List<Map.Entry<K, V>> removed = new ArrayList<>(entrySet());
+            super.clear();
+            for (Map.Entry<K, V> entry : removed) {
+                removalListener.accept(entry.getKey(), entry.getValue());
+            }
+            return;
+        }
+        super.clear();
+    }
+
+    /**
+     * 移除满足条件的条目
+     *
+     * @param filter 键的过滤条件
+     * @return 移除的条目数
+     */
+    public int removeKeys(Predicate<? super K> filter) {
+        int removed = 0;
+        Iterator<Map.Entry<K, V>> iterator = entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<K, V> entry = iterator.next();
+            K key = entry.getKey();
+            if (filter.test(key)) {
+                V value = entry.getValue();
+                iterator.remove();
+                keyHits.remove(key);
+                notifyRemoved(key, value);
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * 以指定容量复制缓存，命中、未命中和淘汰次数延续原缓存，用于调整容量时替换原缓存
+     * 条目按访问顺序复制，新容量较小时淘汰最久未访问的条目（不计入淘汰次数）。
+     * 移除回调随之复制：复制的条目转由新缓存持有，原缓存此后不应再使用，新容量装不下的条目调用移除回调
+     *
+     * @param capacity    新的最大容量
+     * @param withEntries 是否复制条目，为false时得到只延续统计计数的空缓存
+     * @return 新的缓存
+     */
+    public LRUCache<K, V> copy(int capacity, boolean withEntries) {
+        LRUCache<K, V> copy = new LRUCache<>(capacity, removalListener);
+        if (withEntries) {
+            for (Map.Entry<K, V> entry : entrySet()) {
+                // 超出新容量时淘汰最早复制的条目，同时移除其命中次数
+                copy.put(entry.getKey(), entry.getValue());
+                long[] hits = keyHits.get(entry.getKey());
+                if (hits != null) {
+                    copy.keyHits.put(entry.getKey(), hits.clone());
+                }
+            }
+        }
+        copy.hitCount = hitCount;
+        copy.missCount = missCount;
+        copy.evictionCount = evictionCount;
+        return copy;
+    }
+
+    /**
+     * 命中次数最多的键，按命中次数从高到低排列，不改变访问顺序
+     *
+     * @param limit 最多返回的数量
+     * @return 键 -> 命中次数
+     */
+    public List<Map.Entry<K, Long>> hottestKeys(int limit) {
+        List<Map.Entry<K, Long>> result = new ArrayList<>(size());
+        for (K key : keySet()) {
+            long[] hits = keyHits.get(key);
+            result.add(new AbstractMap.SimpleImmutableEntry<>(key, hits != null ? hits[0] : 0L));
+        }
+        result.sort((a, b) -> Long.compare(b.getValue(), a.getValue()));
+        return result.size() > limit ? new ArrayList<>(result.subList(0, Math.max(0, limit))) : result;
+    }
+
+    private void notifyRemoved(K key, V value) {
+        if (removalListener != null) {
+            removalListener.accept(key, value);
+        }
+    }
+
+    @Override
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    @Override
+    public long getMissCount() {
+        return missCount;
+    }
+
+    @Override
+    public long getEvictionCount() {
+        return evictionCount;
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,146 @@
+package win.ixuni.yonyoudatadict.cache;
+
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * 基于 {@link LRUCache} 的缓存分区
+ * 所有操作都在缓存所有者使用的锁内进行，淘汰后在锁外通知所有者，用于级联失效派生的缓存。
+ * 缓存可能被整体替换时（如重新加载配置），通过Supplier每次取当前的缓存，并以缓存本身为锁
+ *
+ * @param <V> 值的类型
+ */
+public class LRUCachePartition<V> implements CachePartition {
+
+    private final String name;
+
+    private final Supplier<LRUCache<String, V>> cache;
+
+    // 缓存所有者访问缓存时使用的锁，为null时以当前缓存本身为锁
+    private final Object lock;
+
+    // 估算单个值的内存占用
+    private final ToLongFunction<V> weigher;
+
+    // 淘汰后的回调，参数为被淘汰的键，可为null
+    private final Consumer<Collection<String>> onEvict;
+
+    public LRUCachePartition(String name, LRUCache<String, V> cache, Object lock,
+                             ToLongFunction<V> weigher, Consumer<Collection<String>> onEvict) {
+        this.name = name;
+        this.cache = () -> cache;
+        this.lock = lock;
+        this.weigher = weigher;
+        this.onEvict = onEvict;
+    }
+
+    public LRUCachePartition(String name, Supplier<LRUCache<String, V>> cache,
+                             ToLongFunction<V> weigher, Consumer<Collection<String>> onEvict) {
+        this.name = name;
+        this.cache = cache;
+        this.lock = null;
+        this.weigher = weigher;
+        this.onEvict = onEvict;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public int size() {
+        LRUCache<String, V> current = cache.get();
+        synchronized (lockOf(current)) {
+            return current.size();
+        }
+    }
+
+    @Override
+    public long getHitCount() {
+        return cache.get().getHitCount();
+    }
+
+    @Override
+    public long getMissCount() {
+        return cache.get().getMissCount();
+    }
+
+    @Override
+    public long getEvictionCount() {
+        return cache.get().getEvictionCount();
+    }
+
+    @Override
+    public long estimateBytes() {
+        LRUCache<String, V> current = cache.get();
+        synchronized (lockOf(current)) {
+            // 遍历entrySet不改变访问顺序
+            long bytes = 0;
+            for (Map.Entry<String, V> entry : current.entrySet()) {
+                bytes += CacheSizeEstimator.estimate(entry.getKey()) + weigher.applyAsLong(entry.getValue());
+            }
+            return bytes;
+        }
+    }
+
+    @Override
+    public List<HotKey> hottestKeys(int limit) {
+        List<Map.Entry<String, Long>> hottest;
+        LRUCache<String, V> current = cache.get();
+        synchronized (lockOf(current)) {
+            hottest = current.hottestKeys(limit);
+        }
+        List<HotKey> result = new ArrayList<>(hottest.size());
+        for (Map.Entry<String, Long> entry : hottest) {
+            result.add(new HotKey(CachePartition.displayKey(entry.getKey()), entry.getValue()));
+        }
+        return result;
+    }
+
+    @Override
+    public int evict(String key, boolean prefix) {
+        List<String> removed = new ArrayList<>();
+        LRUCache<String, V> current = cache.get();
+        synchronized (lockOf(current)) {
+            current.removeKeys(candidate -> {
+                String display = CachePartition.displayKey(candidate);
+                boolean matched = prefix ? display.startsWith(key) : display.equals(key);
+                if (matched) {
+                    removed.add(candidate);
+                }
+                return matched;
+            });
+        }
+        notifyEvicted(removed);
+        return removed.size();
+    }
+
+    @Override
+    public void clear() {
+        List<String> removed;
+        LRUCache<String, V> current = cache.get();
+        synchronized (lockOf(current)) {
+            removed = new ArrayList<>(current.keySet());
+            current.clear();
+        }
+        notifyEvicted(removed);
+    }
+
+    private Object lockOf(LRUCache<String, V> current) {
+        return lock != null ? lock : current;
+    }
+
+    private void notifyEvicted(List<String> removed) {
+        if (!removed.isEmpty() && onEvict != null) {
+            onEvict.accept(removed);
+        }
+    }
+
+}
@@ -0,0 +1,132 @@
+package win.ixuni.yonyoudatadict.cache;
+
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import win.ixuni.yonyoudatadict.config.DataDictConfig;
+import win.ixuni.yonyoudatadict.metrics.DataDictMetrics;
+
+/**
+ * 搜索结果缓存
+ * 以规范化后的查询条件（含appCode）为键，缓存最终序列化好的结果字符串。
+ * 缓存整体绑定数据字典项列表的版本戳，列表快照更新后全部失效。
+ */
+@Component
+public class SearchResultCache implements CacheStatistics {
+
+    private static final Logger logger = LoggerFactory.getLogger(SearchResultCache.class);
+
+    private final LRUCache<String, String> cache;
+
+    // 当前缓存内容对应的数据字典项列表版本
+    private long stamp = -1;
+
+    private long hitCount;
+
+    private long missCount;
+
+    // 供缓存管理端点使用的分区视图，与本类的同步方法使用同一把锁
+    private final CachePartition partition;
+
+    public SearchResultCache(DataDictConfig config, DataDictMetrics metrics) {
+        this.cache = new LRUCache<>(Math.max(1, config.getSearchCacheSize()));
+        metrics.bindCache("search", this);
+        this.partition = new LRUCachePartition<String>("search", cache, this, CacheSizeEstimator::estimate, null);
+    }
+
+    /**
+     * 构建缓存键
+     *
+     * @param appCode 应用代码
+     * @param query   查询字符串
+     * @param options 影响结果的其他选项
+     */
+    public static String buildKey(String appCode, String query, String... options) {
+        StringBuilder key = new StringBuilder();
+        key.append(appCode == null ? "" : appCode.toLowerCase());
+        key.append('\u0000');
+        key.append(query == null || query.trim().isEmpty() ? "" : query.toLowerCase());
+        for (String option : options) {
+            key.append('\u0000').append(option);
+        }
+        return key.toString();
+    }
+
+    /**
+     * 获取缓存的结果，版本不一致时整体失效
+     *
+     * @param key     缓存键
+     * @param version 当前数据字典项列表版本
+     * @return 缓存的序列化结果，不存在时返回null
+     */
+    public synchronized String get(String key, long version) {
+        checkStamp(version);
+        String payload = cache.get(key);
+        if (payload != null) {
+            hitCount++;
+        } else {
+            missCount++;
+        }
+        return payload;
+    }
+
+    /**
+     * 缓存结果
+     *
+     * @param key     缓存键
+     * @param version 计算结果时使用的数据字典项列表版本
+     * @param payload 序列化结果
+     */
+    public synchronized void put(String key, long version, String payload) {
+        checkStamp(version);
+        if (version == stamp && payload != null) {
+            cache.put(key, payload);
+        }
+    }
+
+    /**
+     * 获取搜索结果缓存的分区视图
+     */
+    public CachePartition getPartition() {
+        return partition;
+    }
+
+    /**
+     * 清空缓存
+     */
+    public synchronized void clear() {
+        cache.clear();
+    }
+
+    @Override
+    public synchronized int size() {
+        return cache.size();
+    }
+
+    @Override
+    public synchronized long getHitCount() {
+        return hitCount;
+    }
+
+    @Override
+    public synchronized long getMissCount() {
+        return missCount;
+    }
+
+    @Override
+    public long getEvictionCount() {
+        return cache.getEvictionCount();
+    }
+
+    private void checkStamp(long version) {
+        if (version > stamp) {
+            if (!cache.isEmpty()) {
+                logger.info("数据字典项列表已更新(版本 {} -> {})，搜索结果缓存整体失效", stamp, version);
+            }
+            cache.clear();
+            stamp = version;
+        }
+    }
+
+}
@@ -0,0 +1,29 @@
+package win.ixuni.yonyoudatadict.cache;
+
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * 可持久化到缓存快照中的组件
+ * 实现此接口并注册为Spring Bean后，会由 {@link CacheSnapshotManager} 统一保存和加载
+ */
+public interface SnapshotPart {
+
+    /**
+     * 快照名称，用作快照文件名，同一应用代码下必须唯一
+     */
+    String getSnapshotName();
+
+    /**
+     * 将当前内容写入快照
+     */
+    void writeSnapshot(DataOutputStream out) throws IOException;
+
+    /**
+     * 从快照恢复内容，已存在的内容优先，快照只补充缺失部分
+     */
+    void readSnapshot(DataInputStream in) throws IOException;
+
+}
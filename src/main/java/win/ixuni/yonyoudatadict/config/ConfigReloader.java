@@ -0,0 +1,347 @@
+package win.ixuni.yonyoudatadict.config;
+
+
+import com.alibaba.fastjson.JSON;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.env.OriginTrackedMapPropertySource;
+import org.springframework.boot.env.PropertiesPropertySourceLoader;
+import org.springframework.boot.env.PropertySourceLoader;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.boot.origin.Origin;
+import org.springframework.boot.origin.TextResourceOrigin;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MutablePropertySources;
+import org.springframework.core.env.PropertySource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+import win.ixuni.yonyoudatadict.cache.CacheSnapshotManager;
+import win.ixuni.yonyoudatadict.util.DataDictDownloader;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 配置重新加载
+ * 重新读取文件系统中的配置文件（打包在jar内的配置文件无法修改，不参与），重新绑定 data-dict 配置。
+ * 默认应用代码、缓存开关、缓存大小和自定义字段移除开关无需重启即可生效：
+ * 由 {@link DataDictDownloader#reconfigure} 在旁边构建新的获取管线后原子替换，正在进行的请求在原管线上完成。
+ * 其他配置项的变化只报告，重启后生效。
+ * 通过 /check/config/refresh 手动触发，或按 reload.watch-interval-seconds 定期检查配置文件的修改时间
+ */
+@Component
+public class ConfigReloader {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConfigReloader.class);
+
+    private static final String PREFIX = "data-dict";
+
+    // 无需重启即可生效的配置项
+    public static final List<String> RELOADABLE = List.of(
+            "defaultAppCode", "cacheEnabled", "cacheSize", "customFieldRemoval.enabled");
+
+    private static final List<PropertySourceLoader> LOADERS = List.of(
+            new YamlPropertySourceLoader(), new PropertiesPropertySourceLoader());
+
+    private final ConfigurableEnvironment environment;
+
+    private final DataDictConfig config;
+
+    private final DataDictDownloader dataDictDownloader;
+
+    private final CacheSnapshotManager snapshotManager;
+
+    // 当前生效的配置，需要重启的配置项保持启动时的值，以便每次重新加载都报告
+    private final Map<String, Object> effective;
+
+    // 监视的配置文件 -> 上次检查时的修改时间，只由监视线程访问
+    private final Map<Path, Long> watchedFiles = new LinkedHashMap<>();
+
+    private volatile Map<String, Object> lastResult;
+
+    private ScheduledExecutorService scheduler;
+
+    public ConfigReloader(ConfigurableEnvironment environment, DataDictConfig config,
+                          DataDictDownloader dataDictDownloader, CacheSnapshotManager snapshotManager) {
+        this.environment = environment;
+        this.config = config;
+        this.dataDictDownloader = dataDictDownloader;
+        this.snapshotManager = snapshotManager;
+        this.effective = toMap(bind());
+    }
+
+    /**
+     * 应用启动完成后开始监视配置文件
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        long interval = config.getReload().getWatchIntervalSeconds();
+        if (interval <= 0) {
+            return;
+        }
+        for (Path file : configFiles().keySet()) {
+            watchedFiles.put(file, lastModified(file));
+        }
+        if (watchedFiles.isEmpty()) {
+            logger.info("没有文件系统中的配置文件，不监视配置修改");
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "config-watch");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::checkFiles, interval, interval, TimeUnit.SECONDS);
+        logger.info("监视配置文件修改: {}，间隔 {} 秒", watchedFiles.keySet(), interval);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    /**
+     * 重新读取配置文件并应用可以重新加载的配置项
+     *
+     * @return 重新读取的文件、已生效和需重启才能生效的配置项，以及替换后的获取管线；配置无效时包含 error
+     */
+    public synchronized Map<String, Object> refresh() {
+        long start = System.nanoTime();
+        Map<String, Object> result = new LinkedHashMap<>();
+        try {
+            result.put("files", reloadConfigFiles());
+            DataDictConfig fresh = bind();
+            Map<String, Object> freshJson = toMap(fresh);
+
+            List<String> changed = new ArrayList<>();
+            diff("", effective, freshJson, changed);
+            List<String> applied = new ArrayList<>();
+            List<String> restartRequired = new ArrayList<>();
+            for (String key : changed) {
+                (RELOADABLE.contains(key) ? applied : restartRequired).add(key);
+            }
+            if (!applied.isEmpty()) {
+                result.put("pipeline", apply(fresh, applied.contains("defaultAppCode")));
+                for (String key : applied) {
+                    copyValue(freshJson, effective, key);
+                }
+            }
+            result.put("applied", applied);
+            result.put("restartRequired", restartRequired);
+            if (!changed.isEmpty()) {
+                logger.info("配置已重新加载，已生效: {}，需重启后生效: {}", applied, restartRequired);
+            }
+        } catch (IllegalArgumentException | IOException e) {
+            logger.warn("重新加载配置失败，仍使用原配置: {}", e.getMessage());
+            result.put("error", e.getMessage());
+        }
+        result.put("elapsedMillis", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        lastResult = result;
+        return result;
+    }
+
+    /**
+     * 上次重新加载的结果，未重新加载过时为null
+     */
+    public Map<String, Object> getLastResult() {
+        return lastResult;
+    }
+
+    /**
+     * 当前参与重新加载的配置文件
+     */
+    public List<String> getConfigFiles() {
+        List<String> files = new ArrayList<>();
+        for (Path file : configFiles().keySet()) {
+            files.add(file.toString());
+        }
+        return files;
+    }
+
+    /**
+     * 替换获取管线，再更新共享的配置对象；切换应用代码时一并切换缓存快照
+     */
+    private Map<String, Object> apply(DataDictConfig fresh, boolean appCodeChanged) {
+        Map<String, Object> pipeline = new LinkedHashMap<>();
+        Runnable swap = () -> {
+            pipeline.putAll(dataDictDownloader.reconfigure(fresh));
+            config.setDefaultAppCode(fresh.getDefaultAppCode());
+            config.setCacheEnabled(fresh.isCacheEnabled());
+            config.setCacheSize(fresh.getCacheSize());
+            config.getCustomFieldRemoval().setEnabled(fresh.getCustomFieldRemoval().isEnabled());
+        };
+        if (appCodeChanged) {
+            snapshotManager.switchAppCode(swap);
+        } else {
+            swap.run();
+        }
+        return pipeline;
+    }
+
+    /**
+     * 定期检查配置文件的修改时间，有修改时重新加载
+     */
+    private void checkFiles() {
+        try {
+            boolean modified = false;
+            for (Map.Entry<Path, Long> entry : watchedFiles.entrySet()) {
+                long current = lastModified(entry.getKey());
+                if (current != entry.getValue()) {
+                    entry.setValue(current);
+                    modified = true;
+                }
+            }
+            if (modified) {
+                logger.info("检测到配置文件修改，重新加载配置");
+                refresh();
+            }
+        } catch (Exception e) {
+            logger.warn("检查配置文件修改时出错: {}", e.getMessage());
+        }
+    }
+
+    private DataDictConfig bind() {
+        return Binder.get(environment).bind(PREFIX, Bindable.of(DataDictConfig.class)).orElseGet(DataDictConfig::new);
+    }
+
+    /**
+     * 重新读取配置文件，按原名称替换环境中对应的属性源，保持原有的优先级
+     * 文档数量变化时（如增删了 --- 分隔的文档或按profile激活的文档）无法对应，跳过该文件
+     */
+    private List<String> reloadConfigFiles() throws IOException {
+        List<String> reloaded = new ArrayList<>();
+        MutablePropertySources sources = environment.getPropertySources();
+        for (Map.Entry<Path, List<String>> file : configFiles().entrySet()) {
+            PropertySourceLoader loader = loaderFor(file.getKey());
+            if (loader == null) {
+                continue;
+            }
+            List<PropertySource<?>> loaded = loader.load(file.getKey().toString(), new FileSystemResource(file.getKey()));
+            List<String> names = file.getValue();
+            if (loaded.size() != names.size()) {
+                logger.warn("配置文件 {} 的文档数量由 {} 变为 {}，需重启后生效", file.getKey(), names.size(), loaded.size());
+                continue;
+            }
+            for (int i = 0; i < names.size(); i++) {
+                @SuppressWarnings("unchecked")
+                Map<String, Object> properties = (Map<String, Object>) loaded.get(i).getSource();
+                sources.replace(names.get(i), new OriginTrackedMapPropertySource(names.get(i), properties, true));
+            }
+            reloaded.add(file.getKey().toString());
+        }
+        return reloaded;
+    }
+
+    /**
+     * 环境中来自文件系统配置文件的属性源：文件 -> 属性源名称（按优先级从高到低）
+     */
+    private Map<Path, List<String>> configFiles() {
+        Map<Path, List<String>> files = new LinkedHashMap<>();
+        for (PropertySource<?> source : environment.getPropertySources()) {
+            Path file = fileOf(source);
+            if (file != null) {
+                files.computeIfAbsent(file, key -> new ArrayList<>()).add(source.getName());
+            }
+        }
+        return files;
+    }
+
+    /**
+     * 从属性的来源中找出属性源对应的文件，不是来自文件系统时返回null
+     */
+    private static Path fileOf(PropertySource<?> source) {
+        if (!(source instanceof OriginTrackedMapPropertySource)) {
+            return null;
+        }
+        OriginTrackedMapPropertySource mapSource = (OriginTrackedMapPropertySource) source;
+        for (String name : mapSource.getPropertyNames()) {
+            Origin origin = mapSource.getOrigin(name);
+            if (!(origin instanceof TextResourceOrigin)) {
+                return null;
+            }
+            Resource resource = ((TextResourceOrigin) origin).getResource();
+            try {
+                return resource != null && resource.isFile()
+                        ? resource.getFile().toPath().toAbsolutePath().normalize() : null;
+            } catch (IOException e) {
+                return null;
+            }
+        }
+        return null;
+    }
+
+    private static PropertySourceLoader loaderFor(Path file) {
+        String fileName = file.getFileName().toString().toLowerCase();
+        for (PropertySourceLoader loader : LOADERS) {
+            for (String extension : loader.getFileExtensions()) {
+                if (fileName.endsWith("." + extension)) {
+                    return loader;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static long lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toMillis();
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * 配置转为嵌套的Map，嵌套的配置类也转为Map，便于逐项比较
+     */
+    private static Map<String, Object> toMap(DataDictConfig source) {
+        return JSON.parseObject(JSON.toJSONString(source));
+    }
+
+    /**
+     * 比较两份配置，按 a.b 形式收集值不同的配置项
+     */
+    @SuppressWarnings("unchecked")
+    private static void diff(String prefix, Map<String, Object> before, Map<String, Object> after, List<String> changed) {
+        TreeSet<String> keys = new TreeSet<>(before.keySet());
+        keys.addAll(after.keySet());
+        for (String key : keys) {
+            Object a = before.get(key);
+            Object b = after.get(key);
+            if (a instanceof Map && b instanceof Map) {
+                diff(prefix + key + ".", (Map<String, Object>) a, (Map<String, Object>) b, changed);
+            } else if (!Objects.equals(a, b)) {
+                changed.add(prefix + key);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void copyValue(Map<String, Object> from, Map<String, Object> to, String path) {
+        int dot = path.indexOf('.');
+        if (dot < 0) {
+            to.put(path, from.get(path));
+            return;
+        }
+        String key = path.substring(0, dot);
+        copyValue((Map<String, Object>) from.get(key), (Map<String, Object>) to.get(key), path.substring(dot + 1));
+    }
+
+}
@@ -23,12 +23,164 @@ public class DataDictConfig {
 
     private int cacheSize = 100; // 默认缓存大小
 
+    private int searchCacheSize = 256; // 搜索结果缓存大小
+
+    private int appCodeCacheCount = 4; // 缓存详情的非默认应用代码个数，0表示不缓存非默认应用代码的详情
+
     private CustomFieldRemoval customFieldRemoval = new CustomFieldRemoval(); // 新增自定义字段移除配置
 
+    private RefResolve refResolve = new RefResolve(); // 引用类名解析配置
+
+    private Snapshot snapshot = new Snapshot(); // 缓存快照配置
+
+    private HttpCache httpCache = new HttpCache(); // 控制器响应缓存配置
+
+    private Batch batch = new Batch(); // 批量获取详情配置
+
+    private Graph graph = new Graph(); // 引用关系图遍历配置
+
+    private Diff diff = new Diff(); // 结构对比配置
+
+    private Mcp mcp = new Mcp(); // MCP传输配置
+
+    private Trace trace = new Trace(); // 工具调用追踪配置
+
+    private Diagnostics diagnostics = new Diagnostics(); // 热点日志诊断配置
+
+    private Warmup warmup = new Warmup(); // 缓存预热配置
+
+    private Reload reload = new Reload(); // 配置重新加载配置
+
+    private Prefetch prefetch = new Prefetch(); // 按访问规律预取详情配置
+
     @Data
     public static class CustomFieldRemoval {
 
         private boolean enabled = false; // 默认禁用
 
     }
-}
\ No newline at end of file
+
+    @Data
+    public static class RefResolve {
+
+        private int threads = 8; // 并发解析引用类的线程数
+
+        private long timeoutMs = 10000; // 单个详情所有引用解析的总超时时间（毫秒）
+
+    }
+
+    @Data
+    public static class Snapshot {
+
+        private String path; // 快照目录，为空时不启用快照
+
+        private long saveIntervalSeconds = 300; // 定期保存间隔（秒），小于等于0时只在关闭时保存
+
+    }
+
+    @Data
+    public static class HttpCache {
+
+        private int payloadCacheSize = 256; // 预压缩响应缓存大小
+
+        private long maxAgeSeconds = 60; // Cache-Control的max-age（秒），小于等于0时每次都需重新验证
+
+        private int minCompressSize = 512; // 小于该字节数的响应不压缩
+
+    }
+
+    @Data
+    public static class Batch {
+
+        private int threads = 8; // 并发获取详情的线程数
+
+        private long timeoutMs = 30000; // 一次批量获取的总超时时间（毫秒）
+
+        private int maxClassIds = 50; // 一次批量获取的最大类ID数量
+
+    }
+
+    @Data
+    public static class Graph {
+
+        private int maxDepth = 4; // 允许展开的最大层数
+
+        private int maxNodes = 200; // 允许包含的最大节点数
+
+        private long timeoutMs = 30000; // 一次遍历的总超时时间（毫秒）
+
+    }
+
+    @Data
+    public static class Diff {
+
+        private int threads = 8; // 结构对比时并发获取详情的线程数
+
+        private int toolMaxClasses = 300; // MCP工具一次对比允许的最大类数量
+
+    }
+
+    @Data
+    public static class Mcp {
+
+        private long heartbeatSeconds = 30; // SSE连接的心跳间隔（秒），小于等于0时不发送
+
+    }
+
+    @Data
+    public static class Trace {
+
+        private boolean enabled = true; // 是否记录工具调用追踪
+
+        private long slowThresholdMs = 1000; // 慢调用阈值（毫秒），超过时保留追踪
+
+        private int slowBufferSize = 20; // 保留的最慢调用数量
+
+        private int maxSpans = 500; // 单次调用最多记录的阶段数量
+
+    }
+
+    @Data
+    public static class Diagnostics {
+
+        private long summaryIntervalSeconds = 60; // 热点日志汇总周期（秒）
+
+        private int samplesPerInterval = 5; // 每个汇总周期每个热点日志点最多输出的INFO采样条数
+
+    }
+
+    @Data
+    public static class Warmup {
+
+        private int concurrency = 4; // 缓存预热时的并发下载数，占用批量获取线程池
+
+    }
+
+    @Data
+    public static class Reload {
+
+        private long watchIntervalSeconds = 0; // 检查外部配置文件是否修改的间隔（秒），小于等于0时只能通过端点重新加载
+
+    }
+
+    @Data
+    public static class Prefetch {
+
+        private boolean enabled = false; // 是否按访问规律在后台预取详情，默认关闭
+
+        private int maxTrackedClasses = 2048; // 转移模型记录的来源类数量上限，超出时淘汰最久未访问的
+
+        private int maxSuccessors = 8; // 每个来源类记录的后继类数量上限，超出时替换次数最少的
+
+        private int predictions = 2; // 每次访问后预取的最可能后继类数量
+
+        private int minTransitions = 2; // 后继类至少出现的次数，低于该次数不预取
+
+        private int maxRefs = 4; // 每次访问后预取的引用类数量
+
+        private double ratePerSecond = 2; // 每秒最多预取的详情数
+
+        private int queueSize = 64; // 待预取的候选类数量上限，超出时丢弃最早的
+
+    }
+}
@@ -0,0 +1,41 @@
+package win.ixuni.yonyoudatadict.config;
+
+
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import win.ixuni.yonyoudatadict.cache.HotKey;
+import win.ixuni.yonyoudatadict.diff.SchemaChange;
+import win.ixuni.yonyoudatadict.diff.SchemaDiffSummary;
+import win.ixuni.yonyoudatadict.graph.ReferenceGraph;
+import win.ixuni.yonyoudatadict.index.ClassSummary;
+import win.ixuni.yonyoudatadict.index.Referrer;
+import win.ixuni.yonyoudatadict.model.DataDictDetail;
+import win.ixuni.yonyoudatadict.model.DataDictItem;
+import win.ixuni.yonyoudatadict.model.DetailFetchStatus;
+
+/**
+ * 构建GraalVM原生镜像时的反射登记
+ * 这些模型由fastjson和Jackson通过反射读写，AOT处理时无法从Bean定义中推断出来；
+ * getter/setter和构造方法由Lombok在编译期生成，登记公开方法、构造方法和字段即可
+ */
+public class NativeRuntimeHints implements RuntimeHintsRegistrar {
+
+    private static final Class<?>[] MODELS = {
+            DataDictDetail.class, DataDictDetail.Property.class, DataDictItem.class, DetailFetchStatus.class,
+            ReferenceGraph.class, ReferenceGraph.Node.class, ReferenceGraph.Edge.class,
+            ClassSummary.class, Referrer.class, SchemaChange.class, SchemaChange.ColumnChange.class,
+            SchemaDiffSummary.class, HotKey.class
+    };
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        for (Class<?> model : MODELS) {
+            hints.reflection().registerType(model,
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                    MemberCategory.INVOKE_PUBLIC_METHODS,
+                    MemberCategory.DECLARED_FIELDS);
+        }
+    }
+
+}
@@ -0,0 +1,213 @@
+package win.ixuni.yonyoudatadict.controller;
+
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import win.ixuni.yonyoudatadict.cache.CachePartition;
+import win.ixuni.yonyoudatadict.cache.CacheSnapshotManager;
+import win.ixuni.yonyoudatadict.cache.CacheWarmer;
+import win.ixuni.yonyoudatadict.cache.CompressedPayloadCache;
+import win.ixuni.yonyoudatadict.cache.DetailPrefetcher;
+import win.ixuni.yonyoudatadict.cache.SearchResultCache;
+import win.ixuni.yonyoudatadict.config.DataDictConfig;
+import win.ixuni.yonyoudatadict.util.DataDictDownloader;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 缓存管理端点
+ * <ul>
+ *     <li>/check/cache：各缓存分区的条目数、估算内存占用、命中统计，详情按内容去重的统计，以及预热状态</li>
+ *     <li>/check/cache/{name}/hot：分区内命中次数最多的键</li>
+ *     <li>/check/cache/{name}/evict?key= 或 ?prefix=：按键或前缀淘汰，/check/cache/{name}/clear：清空分区</li>
+ *     <li>/check/cache/warmup/start、/check/cache/warmup/stop：启动或停止预热</li>
+ *     <li>/check/cache/prefetch：按访问规律预取的统计和出现次数最多的转移</li>
+ *     <li>/check/cache/snapshot/export、/check/cache/snapshot/import（POST）：导出或导入快照包</li>
+ * </ul>
+ */
+@RestController
+@RequestMapping("/check/cache")
+public class CacheAdminController {
+
+    private final DataDictDownloader dataDictDownloader;
+
+    private final SearchResultCache searchResultCache;
+
+    private final CompressedPayloadCache payloadCache;
+
+    private final CacheWarmer cacheWarmer;
+
+    private final CacheSnapshotManager snapshotManager;
+
+    private final DetailPrefetcher detailPrefetcher;
+
+    private final DataDictConfig config;
+
+    public CacheAdminController(DataDictDownloader dataDictDownloader, SearchResultCache searchResultCache,
+                                CompressedPayloadCache payloadCache, @Lazy CacheWarmer cacheWarmer,
+                                CacheSnapshotManager snapshotManager, DetailPrefetcher detailPrefetcher,
+                                DataDictConfig config) {
+        this.dataDictDownloader = dataDictDownloader;
+        this.searchResultCache = searchResultCache;
+        this.payloadCache = payloadCache;
+        this.cacheWarmer = cacheWarmer;
+        this.snapshotManager = snapshotManager;
+        this.detailPrefetcher = detailPrefetcher;
+        this.config = config;
+    }
+
+    @RequestMapping()
+    public Map<String, Object> list() {
+        List<Map<String, Object>> partitions = new ArrayList<>();
+        long totalBytes = 0;
+        for (CachePartition partition : partitions()) {
+            long bytes = partition.estimateBytes();
+            totalBytes += bytes;
+            Map<String, Object> item = new LinkedHashMap<>();
+            item.put("name", partition.getName());
+            item.put("size", partition.size());
+            item.put("estimatedBytes", bytes);
+            item.put("hitCount", partition.getHitCount());
+            item.put("missCount", partition.getMissCount());
+            item.put("evictionCount", partition.getEvictionCount());
+            partitions.add(item);
+        }
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("appCode", config.getDefaultAppCode());
+        result.put("cacheEnabled", config.isCacheEnabled());
+        result.put("totalEstimatedBytes", totalBytes);
+        result.put("partitions", partitions);
+        result.put("detailStore", dataDictDownloader.getDetailStoreStats());
+        result.put("warmup", cacheWarmer.getStatus());
+        result.put("snapshotEnabled", snapshotManager.isEnabled());
+        return result;
+    }
+
+    @RequestMapping("/{name}/hot")
+    public ResponseEntity<Map<String, Object>> hottestKeys(@PathVariable String name,
+                                                           @RequestParam(value = "limit", required = false, defaultValue = "20") int limit) {
+        CachePartition partition = findPartition(name);
+        if (partition == null) {
+            return notFound(name);
+        }
+        return ResponseEntity.ok(Map.of("name", name, "keys", partition.hottestKeys(Math.max(0, limit))));
+    }
+
+    @RequestMapping(value = "/{name}/evict", method = RequestMethod.POST)
+    public ResponseEntity<Map<String, Object>> evict(@PathVariable String name,
+                                                     @RequestParam(value = "key", required = false) String key,
+                                                     @RequestParam(value = "prefix", required = false) String prefix) {
+        CachePartition partition = findPartition(name);
+        if (partition == null) {
+            return notFound(name);
+        }
+        if ((key == null) == (prefix == null)) {
+            return ResponseEntity.badRequest().body(Map.of("error", "需要且只能指定 key 或 prefix 其中之一"));
+        }
+        int evicted = key != null ? partition.evict(key, false) : partition.evict(prefix, true);
+        return ResponseEntity.ok(Map.of("name", name, "evicted", evicted));
+    }
+
+    @RequestMapping(value = "/{name}/clear", method = RequestMethod.POST)
+    public ResponseEntity<Map<String, Object>> clear(@PathVariable String name) {
+        CachePartition partition = findPartition(name);
+        if (partition == null) {
+            return notFound(name);
+        }
+        partition.clear();
+        return ResponseEntity.ok(Map.of("name", name, "success", true));
+    }
+
+    @RequestMapping("/warmup")
+    public Map<String, Object> warmupStatus() {
+        return cacheWarmer.getStatus();
+    }
+
+    @RequestMapping(value = "/warmup/start", method = RequestMethod.POST)
+    public ResponseEntity<Map<String, Object>> startWarmup(
+            @RequestParam(value = "concurrency", required = false) Integer concurrency,
+            @RequestParam(value = "limit", required = false) Integer limit) {
+        if (!cacheWarmer.start(concurrency, limit)) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(cacheWarmer.getStatus());
+        }
+        return ResponseEntity.ok(cacheWarmer.getStatus());
+    }
+
+    @RequestMapping(value = "/warmup/stop", method = RequestMethod.POST)
+    public Map<String, Object> stopWarmup() {
+        boolean stopped = cacheWarmer.stop();
+        Map<String, Object> result = new LinkedHashMap<>(cacheWarmer.getStatus());
+        result.put("stopped", stopped);
+        return result;
+    }
+
+    @RequestMapping("/prefetch")
+    public Map<String, Object> prefetchStatus() {
+        return detailPrefetcher.getStatus();
+    }
+
+    @RequestMapping("/snapshot/export")
+    public ResponseEntity<StreamingResponseBody> exportSnapshot() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_OCTET_STREAM);
+        headers.setContentDisposition(ContentDisposition.attachment()
+                .filename("datadict-" + config.getDefaultAppCode() + ".snapshot").build());
+        StreamingResponseBody body = snapshotManager::exportSnapshot;
+        return ResponseEntity.ok().headers(headers).body(body);
+    }
+
+    @RequestMapping(value = "/snapshot/import", method = RequestMethod.POST)
+    public ResponseEntity<Map<String, Object>> importSnapshot(HttpServletRequest request) {
+        try {
+            Map<String, Boolean> parts = snapshotManager.importSnapshot(request.getInputStream());
+            return ResponseEntity.ok(Map.of("success", true, "parts", parts));
+        } catch (IOException e) {
+            return ResponseEntity.badRequest().body(Map.of("success", false, "error", String.valueOf(e.getMessage())));
+        }
+    }
+
+    @RequestMapping(value = "/snapshot/save", method = RequestMethod.POST)
+    public ResponseEntity<Map<String, Object>> saveSnapshot() {
+        if (!snapshotManager.isEnabled()) {
+            return ResponseEntity.badRequest().body(Map.of("success", false, "error", "未配置快照目录 (snapshot.path)"));
+        }
+        snapshotManager.saveSnapshot();
+        return ResponseEntity.ok(Map.of("success", true));
+    }
+
+    private List<CachePartition> partitions() {
+        List<CachePartition> partitions = new ArrayList<>(dataDictDownloader.getCachePartitions());
+        partitions.add(searchResultCache.getPartition());
+        partitions.add(payloadCache.getPartition());
+        return partitions;
+    }
+
+    private CachePartition findPartition(String name) {
+        for (CachePartition partition : partitions()) {
+            if (partition.getName().equals(name)) {
+                return partition;
+            }
+        }
+        return null;
+    }
+
+    private static ResponseEntity<Map<String, Object>> notFound(String name) {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(Map.of("error", "未知的缓存分区: " + name));
+    }
+
+}
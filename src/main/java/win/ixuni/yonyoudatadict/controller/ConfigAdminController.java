@@ -0,0 +1,60 @@
+package win.ixuni.yonyoudatadict.controller;
+
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestController;
+import win.ixuni.yonyoudatadict.config.ConfigReloader;
+import win.ixuni.yonyoudatadict.config.DataDictConfig;
+import win.ixuni.yonyoudatadict.util.DataDictDownloader;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 配置管理端点
+ * <ul>
+ *     <li>/check/config：当前获取管线、可重新加载的配置项、参与重新加载的配置文件和上次重新加载的结果</li>
+ *     <li>/check/config/refresh：重新读取配置文件，可重新加载的配置项立即生效</li>
+ * </ul>
+ */
+@RestController
+@RequestMapping("/check/config")
+public class ConfigAdminController {
+
+    private final ConfigReloader configReloader;
+
+    private final DataDictDownloader dataDictDownloader;
+
+    private final DataDictConfig config;
+
+    public ConfigAdminController(ConfigReloader configReloader, DataDictDownloader dataDictDownloader,
+                                 DataDictConfig config) {
+        this.configReloader = configReloader;
+        this.dataDictDownloader = dataDictDownloader;
+        this.config = config;
+    }
+
+    @RequestMapping()
+    public Map<String, Object> status() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("pipeline", dataDictDownloader.getPipelineInfo());
+        result.put("customFieldRemoval", config.getCustomFieldRemoval().isEnabled());
+        result.put("reloadable", ConfigReloader.RELOADABLE);
+        result.put("files", configReloader.getConfigFiles());
+        result.put("watchIntervalSeconds", config.getReload().getWatchIntervalSeconds());
+        result.put("lastReload", configReloader.getLastResult());
+        return result;
+    }
+
+    @RequestMapping(value = "/refresh", method = RequestMethod.POST)
+    public ResponseEntity<Map<String, Object>> refresh() {
+        Map<String, Object> result = configReloader.refresh();
+        if (result.containsKey("error")) {
+            return ResponseEntity.badRequest().body(result);
+        }
+        return ResponseEntity.ok(result);
+    }
+
+}
@@ -0,0 +1,121 @@
+package win.ixuni.yonyoudatadict.controller;
+
+
+import io.micrometer.core.instrument.Measurement;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Statistic;
+import io.micrometer.core.instrument.Tag;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingClass;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import win.ixuni.yonyoudatadict.metrics.PrometheusTextWriter;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * 指标查询端点
+ * 未引入 spring-boot-starter-actuator 时提供与actuator相同路径和格式的指标查询：
+ * /actuator/metrics 列出指标名称，/actuator/metrics/{name}?tag=key:value 查询指标，
+ * /actuator/prometheus 输出Prometheus文本格式
+ */
+@RestController
+@RequestMapping("/actuator")
+@ConditionalOnMissingClass("org.springframework.boot.actuate.autoconfigure.metrics.MetricsAutoConfiguration")
+public class MetricsController {
+
+    private final MeterRegistry registry;
+
+    public MetricsController(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @RequestMapping("/metrics")
+    public Map<String, Object> listNames() {
+        Set<String> names = new TreeSet<>();
+        for (Meter meter : registry.getMeters()) {
+            names.add(meter.getId().getName());
+        }
+        return Map.of("names", names);
+    }
+
+    @RequestMapping("/metrics/{name}")
+    public ResponseEntity<Map<String, Object>> metric(@PathVariable String name,
+                                                      @RequestParam(required = false) List<String> tag) {
+        List<Tag> tags = new ArrayList<>();
+        if (tag != null) {
+            for (String value : tag) {
+                int separator = value.indexOf(':');
+                if (separator <= 0) {
+                    return ResponseEntity.badRequest().body(Map.of("error", "标签格式应为 key:value: " + value));
+                }
+                tags.add(Tag.of(value.substring(0, separator), value.substring(separator + 1)));
+            }
+        }
+        Collection<Meter> meters = registry.find(name).tags(tags).meters();
+        if (meters.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        }
+
+        // 与actuator一致：多个指标的同一统计量合并，MAX取最大值，其余求和
+        Map<Statistic, Double> measurements = new EnumMap<>(Statistic.class);
+        Map<String, Set<String>> availableTags = new TreeMap<>();
+        Set<String> requestedKeys = new HashSet<>();
+        for (Tag requested : tags) {
+            requestedKeys.add(requested.getKey());
+        }
+        for (Meter meter : meters) {
+            for (Measurement measurement : meter.measure()) {
+                if (measurement.getStatistic() == Statistic.MAX) {
+                    measurements.merge(measurement.getStatistic(), measurement.getValue(), Math::max);
+                } else {
+                    measurements.merge(measurement.getStatistic(), measurement.getValue(), Double::sum);
+                }
+            }
+            for (Tag meterTag : meter.getId().getTagsAsIterable()) {
+                if (!requestedKeys.contains(meterTag.getKey())) {
+                    availableTags.computeIfAbsent(meterTag.getKey(), key -> new TreeSet<>()).add(meterTag.getValue());
+                }
+            }
+        }
+
+        Meter.Id id = meters.iterator().next().getId();
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("name", name);
+        result.put("description", id.getDescription());
+        result.put("baseUnit", id.getBaseUnit());
+        List<Map<String, Object>> measurementList = new ArrayList<>();
+        for (Map.Entry<Statistic, Double> entry : measurements.entrySet()) {
+            measurementList.add(Map.of("statistic", entry.getKey().name(), "value", entry.getValue()));
+        }
+        result.put("measurements", measurementList);
+        List<Map<String, Object>> tagList = new ArrayList<>();
+        for (Map.Entry<String, Set<String>> entry : availableTags.entrySet()) {
+            tagList.add(Map.of("tag", entry.getKey(), "values", entry.getValue()));
+        }
+        result.put("availableTags", tagList);
+        return ResponseEntity.ok(result);
+    }
+
+    @RequestMapping("/prometheus")
+    public ResponseEntity<String> prometheus() {
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_TYPE, PrometheusTextWriter.CONTENT_TYPE)
+                .body(PrometheusTextWriter.write(registry));
+    }
+
+}
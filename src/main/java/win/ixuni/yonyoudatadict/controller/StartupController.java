@@ -0,0 +1,31 @@
+package win.ixuni.yonyoudatadict.controller;
+
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingClass;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import win.ixuni.yonyoudatadict.diagnostics.StartupReporter;
+
+import java.util.Map;
+
+/**
+ * 启动耗时查询端点
+ * /actuator/startup 返回启动报告：总耗时、AOT/AppCDS是否生效、延迟初始化的Bean和创建最慢的Bean
+ */
+@RestController
+@RequestMapping("/actuator")
+@ConditionalOnMissingClass("org.springframework.boot.actuate.autoconfigure.startup.StartupEndpointAutoConfiguration")
+public class StartupController {
+
+    private final StartupReporter startupReporter;
+
+    public StartupController(StartupReporter startupReporter) {
+        this.startupReporter = startupReporter;
+    }
+
+    @RequestMapping("/startup")
+    public Map<String, Object> startup() {
+        return startupReporter.getReport();
+    }
+
+}
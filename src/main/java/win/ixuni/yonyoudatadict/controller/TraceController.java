@@ -0,0 +1,110 @@
+package win.ixuni.yonyoudatadict.controller;
+
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestController;
+import win.ixuni.yonyoudatadict.config.DataDictConfig;
+import win.ixuni.yonyoudatadict.trace.CallTrace;
+import win.ixuni.yonyoudatadict.trace.CallTracer;
+import win.ixuni.yonyoudatadict.trace.SpanRecord;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 慢调用追踪查询端点
+ * /actuator/slowtraces 列出保留的最慢工具调用，/actuator/slowtraces/{id} 查看单次调用的阶段明细
+ */
+@RestController
+@RequestMapping("/actuator/slowtraces")
+public class TraceController {
+
+    private final CallTracer tracer;
+
+    private final DataDictConfig config;
+
+    public TraceController(CallTracer tracer, DataDictConfig config) {
+        this.tracer = tracer;
+        this.config = config;
+    }
+
+    @RequestMapping()
+    public Map<String, Object> list() {
+        List<Map<String, Object>> traces = new ArrayList<>();
+        for (CallTrace trace : tracer.getSlowTraces().snapshot()) {
+            traces.add(summary(trace));
+        }
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("enabled", config.getTrace().isEnabled());
+        result.put("slowThresholdMs", config.getTrace().getSlowThresholdMs());
+        result.put("traces", traces);
+        return result;
+    }
+
+    @RequestMapping("/{id}")
+    public ResponseEntity<Map<String, Object>> detail(@PathVariable long id) {
+        CallTrace trace = tracer.getSlowTraces().find(id);
+        if (trace == null) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        }
+
+        List<SpanRecord> spans = trace.getSpans();
+        // 按阶段名称汇总次数和耗时，多线程并发的阶段耗时之和可能超过调用总耗时
+        Map<String, long[]> breakdown = new TreeMap<>();
+        List<Map<String, Object>> spanList = new ArrayList<>(spans.size());
+        for (SpanRecord span : spans) {
+            long[] totals = breakdown.computeIfAbsent(span.getName(), name -> new long[2]);
+            totals[0]++;
+            totals[1] += span.getDurationNanos();
+
+            Map<String, Object> item = new LinkedHashMap<>();
+            item.put("name", span.getName());
+            item.put("detail", span.getDetail());
+            item.put("thread", span.getThread());
+            item.put("offsetMillis", toMillis(span.getOffsetNanos()));
+            item.put("durationMillis", toMillis(span.getDurationNanos()));
+            spanList.add(item);
+        }
+
+        Map<String, Object> breakdownMap = new LinkedHashMap<>();
+        for (Map.Entry<String, long[]> entry : breakdown.entrySet()) {
+            breakdownMap.put(entry.getKey(), Map.of("count", entry.getValue()[0],
+                    "totalMillis", toMillis(entry.getValue()[1])));
+        }
+
+        Map<String, Object> result = summary(trace);
+        result.put("droppedSpanCount", trace.getDroppedSpanCount());
+        result.put("breakdown", breakdownMap);
+        result.put("spans", spanList);
+        return ResponseEntity.ok(result);
+    }
+
+    @RequestMapping(value = "/clear", method = RequestMethod.POST)
+    public Map<String, Object> clear() {
+        tracer.getSlowTraces().clear();
+        return Map.of("success", true);
+    }
+
+    private static Map<String, Object> summary(CallTrace trace) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("id", trace.getId());
+        map.put("tool", trace.getTool());
+        map.put("startedAt", trace.getStartedAt());
+        map.put("durationMillis", toMillis(trace.getDurationNanos()));
+        map.put("outcome", trace.getOutcome());
+        map.put("spanCount", trace.getSpanCount());
+        return map;
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+}
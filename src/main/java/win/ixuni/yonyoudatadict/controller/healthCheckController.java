@@ -1,20 +1,46 @@
 package win.ixuni.yonyoudatadict.controller;
 
 
+import com.alibaba.fastjson.JSON;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import win.ixuni.yonyoudatadict.adapter.VersionAdapter;
+import win.ixuni.yonyoudatadict.cache.CompressedPayload;
+import win.ixuni.yonyoudatadict.cache.CompressedPayloadCache;
+import win.ixuni.yonyoudatadict.config.DataDictConfig;
+import win.ixuni.yonyoudatadict.diff.SchemaDiffSummary;
+import win.ixuni.yonyoudatadict.diff.SchemaSource;
 import win.ixuni.yonyoudatadict.model.DataDictDetail;
 import win.ixuni.yonyoudatadict.model.DataDictItem;
+import win.ixuni.yonyoudatadict.model.ItemsSnapshot;
 import win.ixuni.yonyoudatadict.model.YonyouVersion;
+import win.ixuni.yonyoudatadict.processor.ViewCompleteness;
+import win.ixuni.yonyoudatadict.serializer.ItemStreamWriter;
+import win.ixuni.yonyoudatadict.serializer.OutputFormat;
+import win.ixuni.yonyoudatadict.serializer.PropertyProjection;
 import win.ixuni.yonyoudatadict.service.DataDictService;
 import win.ixuni.yonyoudatadict.util.DataDictDownloader;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 @RestController
 @RequestMapping("/check")
@@ -24,9 +50,20 @@ public class healthCheckController {
 
     private final DataDictDownloader dataDictDownloader;
 
-    public healthCheckController(DataDictService dataDictService, DataDictDownloader dataDictDownloader) {
+    private final CompressedPayloadCache payloadCache;
+
+    private final DataDictConfig config;
+
+    private final ObjectMapper objectMapper;
+
+    public healthCheckController(DataDictService dataDictService, DataDictDownloader dataDictDownloader,
+                                 CompressedPayloadCache payloadCache, DataDictConfig config,
+                                 ObjectMapper objectMapper) {
         this.dataDictService = dataDictService;
         this.dataDictDownloader = dataDictDownloader;
+        this.payloadCache = payloadCache;
+        this.config = config;
+        this.objectMapper = objectMapper;
     }
 
     @RequestMapping()
@@ -36,22 +73,228 @@ public class healthCheckController {
 
     // 测试工具方法：获取所有数据字典条目
     @RequestMapping("/tool/items")
-    public List<DataDictItem> testToolGetAllItems() {
-        return dataDictService.getDataDictItemsForController();
+    public ResponseEntity<byte[]> testToolGetAllItems(HttpServletRequest request) throws IOException {
+        return cachedPayload(request, CompressedPayloadCache.buildKey("items"), MediaType.APPLICATION_JSON, true,
+                () -> objectMapper.writeValueAsBytes(dataDictService.getDataDictItemsForController()));
+    }
+
+    // 测试工具方法：流式输出所有数据字典条目，支持NDJSON和JSON数组两种格式及分页游标
+    // 游标格式为 列表快照版本:起始下标，快照变化后旧游标失效，返回409
+    // 未启用缓存时每次请求重新下载列表，无法保证分页一致，不返回也不接受游标
+    @RequestMapping("/tool/items/stream")
+    public ResponseEntity<StreamingResponseBody> testToolStreamItems(
+            @RequestParam(value = "format", required = false, defaultValue = "ndjson") String format,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "limit", required = false, defaultValue = "0") int limit) {
+        boolean ndjson = "ndjson".equalsIgnoreCase(format);
+        if (!ndjson && !"json".equalsIgnoreCase(format)) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        ItemsSnapshot snapshot = dataDictService.getItemsSnapshotForController();
+        List<DataDictItem> items = snapshot.getItems();
+        long version = snapshot.getVersion();
+
+        int from = 0;
+        if (cursor != null && !cursor.isEmpty()) {
+            if (!snapshot.isCached()) {
+                return ResponseEntity.badRequest().build();
+            }
+            String[] parts = cursor.split(":");
+            try {
+                if (parts.length != 2 || Long.parseLong(parts[0]) != version) {
+                    return ResponseEntity.status(HttpStatus.CONFLICT).build();
+                }
+                from = Integer.parseInt(parts[1]);
+            } catch (NumberFormatException e) {
+                return ResponseEntity.badRequest().build();
+            }
+        }
+        from = Math.max(0, Math.min(from, items.size()));
+        int to = limit > 0 ? (int) Math.min((long) from + limit, items.size()) : items.size();
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(ndjson
+                ? new MediaType("application", "x-ndjson", StandardCharsets.UTF_8)
+                : MediaType.APPLICATION_JSON);
+        headers.set("X-Total-Count", String.valueOf(items.size()));
+        if (to < items.size() && snapshot.isCached()) {
+            headers.set("X-Next-Cursor", version + ":" + to);
+        }
+
+        int start = from;
+        StreamingResponseBody body = outputStream -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            if (ndjson) {
+                ItemStreamWriter.writeNdjson(items, start, to, writer);
+            } else {
+                ItemStreamWriter.writeJsonArray(items, start, to, writer);
+            }
+        };
+        return ResponseEntity.ok().headers(headers).body(body);
     }
 
     // 测试工具方法：根据类ID获取数据字典详情
     @RequestMapping("/tool/detail/{classId}")
-    public DataDictDetail testToolGetDetail(
-            @PathVariable("classId") String classId) {
-        return dataDictService.getDataDictDetailForController(classId);
+    public ResponseEntity<byte[]> testToolGetDetail(
+            HttpServletRequest request,
+            @PathVariable("classId") String classId,
+            @RequestParam(value = "raw", required = false, defaultValue = "false") boolean raw,
+            @RequestParam(value = "keepCustomFields", required = false, defaultValue = "false") boolean keepCustomFields,
+            @RequestParam(value = "fields", required = false) String fields,
+            @RequestParam(value = "keyOnly", required = false) Boolean keyOnly,
+            @RequestParam(value = "notNullOnly", required = false) Boolean notNullOnly,
+            @RequestParam(value = "namePattern", required = false) String namePattern,
+            @RequestParam(value = "format", required = false) String format) throws IOException {
+        PropertyProjection projection;
+        OutputFormat outputFormat;
+        try {
+            projection = PropertyProjection.parse(fields, keyOnly, notNullOnly, namePattern);
+            outputFormat = OutputFormat.parse(format);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(JSON.toJSONBytes(Map.of("error", e.getMessage())));
+        }
+        MediaType mediaType = outputFormat == OutputFormat.TSV
+                ? new MediaType("text", "tab-separated-values", StandardCharsets.UTF_8)
+                : MediaType.APPLICATION_JSON;
+        String key = CompressedPayloadCache.buildKey("detail", classId, raw, keepCustomFields, fields,
+                keyOnly, notNullOnly, namePattern, outputFormat.getCode());
+        return cachedPayload(request, key, mediaType, false, () -> {
+            DataDictDetail detail = dataDictService.getDataDictDetailForController(classId, raw, keepCustomFields);
+            if (detail == null) {
+                return null;
+            }
+            if (projection.isIdentity() && outputFormat == OutputFormat.JSON) {
+                return objectMapper.writeValueAsBytes(detail);
+            }
+            // 投影和格式转换在序列化时进行，不复制缓存中的详情
+            return dataDictService.renderDataDictDetailForController(detail, projection, outputFormat)
+                    .getBytes(StandardCharsets.UTF_8);
+        });
+    }
+
+    // 测试工具方法：批量获取多个类ID的数据字典详情，返回每个类ID的状态和详情
+    @RequestMapping("/tool/details")
+    public ResponseEntity<String> testToolGetDetails(
+            @RequestParam("ids") List<String> classIds,
+            @RequestParam(value = "raw", required = false, defaultValue = "false") boolean raw,
+            @RequestParam(value = "keepCustomFields", required = false, defaultValue = "false") boolean keepCustomFields,
+            @RequestParam(value = "fields", required = false) String fields,
+            @RequestParam(value = "keyOnly", required = false) Boolean keyOnly,
+            @RequestParam(value = "notNullOnly", required = false) Boolean notNullOnly,
+            @RequestParam(value = "namePattern", required = false) String namePattern) {
+        PropertyProjection projection;
+        try {
+            projection = PropertyProjection.parse(fields, keyOnly, notNullOnly, namePattern);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(JSON.toJSONString(Map.of("error", e.getMessage())));
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(dataDictService.renderDataDictDetailsForController(classIds, raw, keepCustomFields, projection));
+    }
+
+    // 测试工具方法：从指定类出发展开引用关系图
+    @RequestMapping("/tool/graph/{classId}")
+    public ResponseEntity<String> testToolExploreReferences(
+            @PathVariable("classId") String classId,
+            @RequestParam(value = "depth", required = false, defaultValue = "2") int depth,
+            @RequestParam(value = "maxNodes", required = false, defaultValue = "100") int maxNodes) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(dataDictService.exploreReferencesForController(classId, depth, maxNodes));
+    }
+
+    // 测试工具方法：对比两份数据字典的结构，按NDJSON逐行输出变化，最后一行为汇总
+    @RequestMapping("/tool/diff")
+    public ResponseEntity<StreamingResponseBody> testToolDiffSchemas(
+            @RequestParam("source") String source,
+            @RequestParam("target") String target,
+            @RequestParam(value = "nameFilter", required = false) String nameFilter) throws IOException {
+        SchemaSource sourceSchema;
+        SchemaSource targetSchema;
+        try {
+            sourceSchema = dataDictService.resolveSchemaSourceForController(source);
+            targetSchema = dataDictService.resolveSchemaSourceForController(target);
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        StreamingResponseBody body = outputStream -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            try {
+                SchemaDiffSummary summary = dataDictService.diffSchemasForController(sourceSchema, targetSchema,
+                        nameFilter, change -> {
+                            try {
+                                writer.write(JSON.toJSONString(change));
+                                writer.write('\n');
+                                writer.flush();
+                            } catch (IOException e) {
+                                throw new UncheckedIOException(e);
+                            }
+                        });
+                writer.write(JSON.toJSONString(summary));
+            } catch (IllegalStateException e) {
+                // 响应已开始输出，以错误行结束报告
+                Map<String, Object> error = new HashMap<>();
+                error.put("type", "ERROR");
+                error.put("message", e.getMessage());
+                writer.write(JSON.toJSONString(error));
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            writer.write('\n');
+            writer.flush();
+        };
+        return ResponseEntity.ok()
+                .contentType(new MediaType("application", "x-ndjson", StandardCharsets.UTF_8))
+                .body(body);
+    }
+
+    // 测试工具方法：导出应用代码的结构快照，供之后对比
+    @RequestMapping("/tool/diff/snapshot")
+    public ResponseEntity<Map<String, Object>> testToolExportSchemaSnapshot(
+            @RequestParam("appCode") String appCode,
+            @RequestParam(value = "nameFilter", required = false) String nameFilter) throws IOException {
+        try {
+            return ResponseEntity.ok(dataDictService.exportSchemaSnapshotForController(appCode, nameFilter));
+        } catch (IllegalStateException e) {
+            Map<String, Object> error = new HashMap<>();
+            error.put("error", e.getMessage());
+            return ResponseEntity.badRequest().body(error);
+        }
     }
 
     // 测试工具方法：根据名称搜索数据字典条目
     @RequestMapping("/tool/search")
-    public List<DataDictItem> testToolSearch(
-            @RequestParam(value = "name", required = false, defaultValue = "") String nameQuery) {
-        return dataDictService.searchDataDictItemsByNameForController(nameQuery);
+    public ResponseEntity<byte[]> testToolSearch(
+            HttpServletRequest request,
+            @RequestParam(value = "name", required = false, defaultValue = "") String nameQuery) throws IOException {
+        String key = CompressedPayloadCache.buildKey("search", nameQuery.trim().isEmpty() ? "" : nameQuery.toLowerCase());
+        return cachedPayload(request, key, MediaType.APPLICATION_JSON, true,
+                () -> objectMapper.writeValueAsBytes(dataDictService.searchDataDictItemsByNameForController(nameQuery)));
+    }
+
+    // 测试工具方法：根据表名或全类名反查数据字典类
+    @RequestMapping("/tool/index/table")
+    public Map<String, Object> testToolFindByTable(@RequestParam("name") String tableName) {
+        return dataDictService.findClassesByTableForController(tableName);
+    }
+
+    // 测试工具方法：根据属性编码或字段编码反查数据字典类
+    @RequestMapping("/tool/index/column")
+    public Map<String, Object> testToolFindByColumn(@RequestParam("name") String columnName) {
+        return dataDictService.findClassesByColumnForController(columnName);
+    }
+
+    // 测试工具方法：根据类ID、表名或全类名查找引用它的数据字典类
+    @RequestMapping("/tool/index/referrers")
+    public Map<String, Object> testToolFindReferrers(@RequestParam("name") String target) {
+        return dataDictService.findReferrersForController(target);
     }
 
     // 新增：动态添加应用代码支持的接口
@@ -166,9 +409,76 @@ public class healthCheckController {
                 "processorCount", dataDictDownloader.getProcessors().size()
         ));
 
+        // 处理器链各阶段统计
+        status.put("processorStages", dataDictDownloader.getProcessorStageStats());
+
+        // 预压缩响应缓存状态
+        status.put("payloadCache", Map.of(
+                "size", payloadCache.size(),
+                "hitCount", payloadCache.getHitCount(),
+                "missCount", payloadCache.getMissCount()
+        ));
+
         return status;
     }
 
+    /**
+     * 以预压缩缓存输出响应
+     * 按 Accept-Encoding 选择编码，附带 ETag 和 Cache-Control，If-None-Match 匹配时返回304；
+     * 仅在启用缓存时缓存内容，生成结果为null时返回空响应且不缓存；
+     * 生成过程中引用类名未能完整解析时（见 {@link ViewCompleteness}）内容只用于本次响应，不缓存；
+     * 依赖数据字典项列表的内容在列表快照缓存成功之前不缓存，避免下载失败时的空结果长期有效
+     */
+    private ResponseEntity<byte[]> cachedPayload(HttpServletRequest request, String key, MediaType mediaType,
+                                                 boolean dependsOnItems, PayloadProducer producer) throws IOException {
+        boolean cacheable = config.isCacheEnabled() && (!dependsOnItems || dataDictDownloader.getItemsVersion() > 0);
+        long version = dataDictDownloader.getContentVersion();
+        CompressedPayload payload = cacheable ? payloadCache.get(key, version) : null;
+        if (payload == null) {
+            byte[] body;
+            boolean complete;
+            try (ViewCompleteness.Scope completeness = ViewCompleteness.track()) {
+                body = producer.produce();
+                complete = completeness.isComplete();
+            }
+            if (body == null) {
+                return ResponseEntity.ok().build();
+            }
+            payload = CompressedPayload.of(body, config.getHttpCache().getMinCompressSize());
+            if (cacheable && complete) {
+                payloadCache.put(key, version, payload);
+            }
+        }
+
+        CompressedPayload.Encoding encoding = payload.negotiate(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        HttpHeaders headers = new HttpHeaders();
+        headers.setETag(payload.getETag(encoding));
+        long maxAge = config.getHttpCache().getMaxAgeSeconds();
+        headers.setCacheControl(maxAge > 0
+                ? CacheControl.maxAge(maxAge, TimeUnit.SECONDS).mustRevalidate()
+                : CacheControl.noCache());
+        headers.setVary(List.of(HttpHeaders.ACCEPT_ENCODING));
+        if (payload.matches(request.getHeader(HttpHeaders.IF_NONE_MATCH))) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).headers(headers).build();
+        }
+
+        headers.setContentType(mediaType);
+        if (encoding.getHeaderValue() != null) {
+            headers.set(HttpHeaders.CONTENT_ENCODING, encoding.getHeaderValue());
+        }
+        return ResponseEntity.ok().headers(headers).body(payload.getBody(encoding));
+    }
+
+    /**
+     * 生成序列化后的响应内容
+     */
+    @FunctionalInterface
+    private interface PayloadProducer {
+
+        byte[] produce() throws IOException;
+
+    }
+
     private String getPatternDescription(YonyouVersion version) {
         switch (version) {
             case YONBIP_FLAGSHIP:
@@ -0,0 +1,131 @@
+package win.ixuni.yonyoudatadict.diagnostics;
+
+
+import org.slf4j.Logger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 热点路径上的日志点
+ * 每次发生只累加计数；所属Logger开启DEBUG时每次都按DEBUG输出，否则每个统计周期最多按INFO输出若干条采样，
+ * 其余由 {@link HotPathLogReporter} 按周期汇总成一行。用于替代缓存命中、逐条解析等每次调用都会输出的日志
+ */
+public final class HotPathLog {
+
+    // 名称 -> 日志点，名称全局唯一
+    private static final Map<String, HotPathLog> REGISTRY = new ConcurrentHashMap<>();
+
+    // 每个统计周期每个日志点最多输出的采样条数
+    private static volatile int samplesPerWindow = 5;
+
+    // 统计周期（毫秒）
+    private static volatile long windowMillis = 60_000;
+
+    private final Logger logger;
+
+    private final String name;
+
+    private final LongAdder count = new LongAdder();
+
+    private final LongAdder sampled = new LongAdder();
+
+    private final AtomicLong windowStart = new AtomicLong(System.currentTimeMillis());
+
+    private final AtomicInteger windowSamples = new AtomicInteger();
+
+    // 上次汇总时的计数，只由汇总线程访问
+    private long reportedCount;
+
+    private long reportedSampled;
+
+    private HotPathLog(Logger logger, String name) {
+        this.logger = logger;
+        this.name = name;
+    }
+
+    /**
+     * 获取日志点，相同名称返回同一个实例
+     *
+     * @param logger 输出日志使用的Logger
+     * @param name   日志点名称，用于汇总和指标标签，如 detail.cache.hit
+     */
+    public static HotPathLog of(Logger logger, String name) {
+        return REGISTRY.computeIfAbsent(name, key -> new HotPathLog(logger, key));
+    }
+
+    /**
+     * 设置采样参数
+     *
+     * @param samples 每个统计周期每个日志点最多输出的采样条数，0表示不输出采样
+     * @param millis  统计周期（毫秒）
+     */
+    static void configure(int samples, long millis) {
+        samplesPerWindow = Math.max(0, samples);
+        windowMillis = Math.max(1000, millis);
+    }
+
+    static List<HotPathLog> all() {
+        return new ArrayList<>(REGISTRY.values());
+    }
+
+    /**
+     * 记录一次事件
+     *
+     * @param format 日志格式，与slf4j相同
+     * @param args   日志参数
+     */
+    public void record(String format, Object... args) {
+        count.increment();
+        if (logger.isDebugEnabled()) {
+            logger.debug(format, args);
+            return;
+        }
+        if (logger.isInfoEnabled() && trySample()) {
+            sampled.increment();
+            logger.info(format + " [采样]", args);
+        }
+    }
+
+    private boolean trySample() {
+        int limit = samplesPerWindow;
+        if (limit <= 0) {
+            return false;
+        }
+        long now = System.currentTimeMillis();
+        long start = windowStart.get();
+        if (now - start >= windowMillis && windowStart.compareAndSet(start, now)) {
+            windowSamples.set(0);
+        }
+        return windowSamples.incrementAndGet() <= limit;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * 累计发生次数
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * 上次汇总以来的发生次数和采样输出次数，调用后重新开始计算
+     */
+    long[] drain() {
+        long currentCount = count.sum();
+        long currentSampled = sampled.sum();
+        long[] delta = {currentCount - reportedCount, currentSampled - reportedSampled};
+        reportedCount = currentCount;
+        reportedSampled = currentSampled;
+        return delta;
+    }
+
+}
@@ -0,0 +1,102 @@
+package win.ixuni.yonyoudatadict.diagnostics;
+
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import win.ixuni.yonyoudatadict.config.DataDictConfig;
+
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 热点日志汇总
+ * 按统计周期输出一行各日志点的发生次数，并以 diagnostics.events 指标（标签 event）暴露累计次数
+ */
+@Component
+public class HotPathLogReporter {
+
+    private static final Logger logger = LoggerFactory.getLogger(HotPathLogReporter.class);
+
+    private final MeterRegistry registry;
+
+    private final long intervalSeconds;
+
+    // 已注册指标的日志点名称，只由汇总线程和关闭时访问
+    private final Set<String> boundEvents = new HashSet<>();
+
+    private final ScheduledExecutorService scheduler;
+
+    public HotPathLogReporter(DataDictConfig config, MeterRegistry registry) {
+        this.registry = registry;
+        DataDictConfig.Diagnostics diagnostics = config.getDiagnostics();
+        this.intervalSeconds = Math.max(1, diagnostics.getSummaryIntervalSeconds());
+        HotPathLog.configure(diagnostics.getSamplesPerInterval(), TimeUnit.SECONDS.toMillis(intervalSeconds));
+        bindMeters();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "hot-path-log");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.scheduler.scheduleWithFixedDelay(this::report, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+        report();
+    }
+
+    /**
+     * 输出上个周期的汇总
+     */
+    synchronized void report() {
+        try {
+            bindMeters();
+            List<HotPathLog> logs = HotPathLog.all();
+            logs.sort(Comparator.comparing(HotPathLog::getName));
+            StringBuilder summary = new StringBuilder();
+            for (HotPathLog log : logs) {
+                long[] delta = log.drain();
+                if (delta[0] == 0) {
+                    continue;
+                }
+                if (summary.length() > 0) {
+                    summary.append(", ");
+                }
+                summary.append(log.getName()).append('=').append(delta[0]);
+                if (delta[1] > 0) {
+                    summary.append("(采样").append(delta[1]).append(')');
+                }
+            }
+            if (summary.length() > 0) {
+                logger.info("热点日志汇总（最近 {} 秒）: {}", intervalSeconds, summary);
+            }
+        } catch (RuntimeException e) {
+            logger.warn("输出热点日志汇总时出错", e);
+        }
+    }
+
+    /**
+     * 为新出现的日志点注册指标，日志点在所属类加载时创建，可能晚于本组件初始化
+     */
+    private void bindMeters() {
+        for (HotPathLog log : HotPathLog.all()) {
+            if (boundEvents.add(log.getName())) {
+                FunctionCounter.builder("diagnostics.events", log, HotPathLog::getCount)
+                        .description("热点日志点的发生次数")
+                        .tag("event", log.getName())
+                        .register(registry);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,202 @@
+package win.ixuni.yonyoudatadict.diagnostics;
+
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aot.AotDetector;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.RuntimeMXBean;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 启动耗时报告
+ * 单例Bean全部创建后先输出一行（CDS训练运行在上下文刷新时退出，构建输出中看到的就是这一行），
+ * 应用就绪后输出完整报告：JVM启动到就绪的总耗时、其中Spring应用的耗时、已加载的类数、
+ * AOT和AppCDS是否生效、延迟初始化尚未创建的Bean，以及创建最慢的Bean（不含其依赖的创建时间）。
+ * 报告可通过 /actuator/startup 查询，就绪耗时同时以 application.ready.time 指标暴露
+ */
+@Component
+public class StartupReporter implements SmartInitializingSingleton {
+
+    private static final Logger logger = LoggerFactory.getLogger(StartupReporter.class);
+
+    // 报告中列出的最慢Bean数量
+    private static final int SLOWEST_BEAN_COUNT = 10;
+
+    private static final String INSTANTIATE_STEP = "spring.beans.instantiate";
+
+    private static final String APP_PACKAGE = "win.ixuni.yonyoudatadict.";
+
+    // 引入actuator后由其注册启动耗时指标
+    private static final String ACTUATOR_STARTUP_METRICS =
+            "org.springframework.boot.actuate.metrics.startup.StartupTimeMetricsListener";
+
+    private final ConfigurableApplicationContext context;
+
+    private final MeterRegistry registry;
+
+    private volatile long singletonsReadyMillis;
+
+    private volatile Map<String, Object> report = Map.of("status", "STARTING");
+
+    public StartupReporter(ConfigurableApplicationContext context, MeterRegistry registry) {
+        this.context = context;
+        this.registry = registry;
+    }
+
+    public Map<String, Object> getReport() {
+        return report;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        singletonsReadyMillis = ManagementFactory.getRuntimeMXBean().getUptime();
+        logger.info("单例Bean创建完成: JVM启动后 {} 毫秒，已加载类 {} 个，AOT: {}，AppCDS: {}",
+                singletonsReadyMillis, ManagementFactory.getClassLoadingMXBean().getTotalLoadedClassCount(),
+                onOff(AotDetector.useGeneratedArtifacts()), onOff(isAppCdsEnabled()));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady(ApplicationReadyEvent event) {
+        RuntimeMXBean runtime = ManagementFactory.getRuntimeMXBean();
+        long readyMillis = runtime.getUptime();
+        long springMillis = event.getTimeTaken() != null ? event.getTimeTaken().toMillis() : -1;
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("status", "READY");
+        result.put("jvmToReadyMillis", readyMillis);
+        result.put("springApplicationMillis", springMillis);
+        // JVM启动到进入main方法之间的类加载和初始化，AppCDS主要缩短这一段和Bean创建时的类加载
+        result.put("beforeSpringMillis", springMillis >= 0 ? readyMillis - springMillis : -1);
+        result.put("singletonsReadyMillis", singletonsReadyMillis);
+        result.put("loadedClasses", ManagementFactory.getClassLoadingMXBean().getTotalLoadedClassCount());
+        result.put("aot", AotDetector.useGeneratedArtifacts());
+        result.put("appCds", isAppCdsEnabled());
+        List<String> lazyBeans = pendingLazyBeans();
+        result.put("lazyBeans", lazyBeans);
+        List<Map<String, Object>> slowest = slowestBeans();
+        result.put("slowestBeans", slowest);
+        report = result;
+
+        if (!ClassUtils.isPresent(ACTUATOR_STARTUP_METRICS, getClass().getClassLoader())) {
+            TimeGauge.builder("application.ready.time", () -> readyMillis, TimeUnit.MILLISECONDS)
+                    .description("JVM启动到应用就绪的耗时")
+                    .register(registry);
+        }
+
+        StringBuilder beans = new StringBuilder();
+        for (Map<String, Object> bean : slowest) {
+            if (beans.length() > 0) {
+                beans.append(", ");
+            }
+            beans.append(bean.get("bean")).append('=').append(bean.get("millis")).append("ms");
+        }
+        logger.info("启动完成: JVM启动到就绪 {} 毫秒（其中Spring应用 {} 毫秒），已加载类 {} 个，AOT: {}，AppCDS: {}，延迟初始化: {}",
+                readyMillis, springMillis, result.get("loadedClasses"), onOff(AotDetector.useGeneratedArtifacts()),
+                onOff(isAppCdsEnabled()), lazyBeans);
+        if (beans.length() > 0) {
+            logger.info("创建最慢的Bean（不含依赖）: {}", beans);
+        }
+    }
+
+    /**
+     * 从启动步骤中统计每个Bean自身的创建耗时，统计后释放记录的步骤
+     */
+    private List<Map<String, Object>> slowestBeans() {
+        if (!(context.getApplicationStartup() instanceof BufferingApplicationStartup)) {
+            return List.of();
+        }
+        StartupTimeline timeline = ((BufferingApplicationStartup) context.getApplicationStartup())
+                .drainBufferedTimeline();
+
+        // 步骤ID -> [Bean名称, 总耗时纳秒, 自身耗时纳秒]，Bean的创建步骤嵌套其依赖的创建步骤
+        Map<Long, Object[]> steps = new HashMap<>();
+        Map<Long, Long> parents = new HashMap<>();
+        for (StartupTimeline.TimelineEvent event : timeline.getEvents()) {
+            StartupStep step = event.getStartupStep();
+            if (!INSTANTIATE_STEP.equals(step.getName())) {
+                continue;
+            }
+            String beanName = null;
+            for (StartupStep.Tag tag : step.getTags()) {
+                if ("beanName".equals(tag.getKey())) {
+                    beanName = tag.getValue();
+                }
+            }
+            long nanos = event.getDuration().toNanos();
+            steps.put(step.getId(), new Object[]{beanName, nanos, nanos});
+            if (step.getParentId() != null) {
+                parents.put(step.getId(), step.getParentId());
+            }
+        }
+        for (Map.Entry<Long, Long> entry : parents.entrySet()) {
+            Object[] parent = steps.get(entry.getValue());
+            if (parent != null) {
+                parent[2] = (long) parent[2] - (long) steps.get(entry.getKey())[1];
+            }
+        }
+
+        List<Object[]> sorted = new ArrayList<>(steps.values());
+        sorted.sort((a, b) -> Long.compare((long) b[2], (long) a[2]));
+        List<Map<String, Object>> result = new ArrayList<>();
+        for (Object[] step : sorted.subList(0, Math.min(SLOWEST_BEAN_COUNT, sorted.size()))) {
+            Map<String, Object> bean = new LinkedHashMap<>();
+            bean.put("bean", step[0]);
+            bean.put("millis", TimeUnit.NANOSECONDS.toMillis((long) step[2]));
+            bean.put("totalMillis", TimeUnit.NANOSECONDS.toMillis((long) step[1]));
+            result.add(bean);
+        }
+        return result;
+    }
+
+    /**
+     * 本应用中声明为延迟初始化、到就绪时仍未创建的Bean
+     */
+    private List<String> pendingLazyBeans() {
+        ConfigurableListableBeanFactory beanFactory = context.getBeanFactory();
+        TreeSet<String> names = new TreeSet<>();
+        for (String name : beanFactory.getBeanDefinitionNames()) {
+            BeanDefinition definition = beanFactory.getBeanDefinition(name);
+            String className = definition.getBeanClassName();
+            if (definition.isLazyInit() && className != null && className.startsWith(APP_PACKAGE)
+                    && !beanFactory.containsSingleton(name)) {
+                names.add(name);
+            }
+        }
+        return new ArrayList<>(names);
+    }
+
+    private static boolean isAppCdsEnabled() {
+        for (String argument : ManagementFactory.getRuntimeMXBean().getInputArguments()) {
+            if (argument.startsWith("-XX:SharedArchiveFile") || argument.equals("-XX:+AutoCreateSharedArchive")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String onOff(boolean enabled) {
+        return enabled ? "开启" : "关闭";
+    }
+
+}
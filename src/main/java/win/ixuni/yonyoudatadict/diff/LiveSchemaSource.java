@@ -0,0 +1,40 @@
+package win.ixuni.yonyoudatadict.diff;
+
+
+import win.ixuni.yonyoudatadict.model.DataDictDetail;
+import win.ixuni.yonyoudatadict.model.DataDictItem;
+import win.ixuni.yonyoudatadict.util.DataDictDownloader;
+
+import java.util.List;
+
+/**
+ * 在线应用代码的数据字典
+ * 默认应用代码经过详情缓存，其他应用代码经过各自的详情缓存（与其他应用代码共享内容相同的详情），不影响索引
+ */
+public class LiveSchemaSource implements SchemaSource {
+
+    private final DataDictDownloader dataDictDownloader;
+
+    private final String appCode;
+
+    public LiveSchemaSource(DataDictDownloader dataDictDownloader, String appCode) {
+        this.dataDictDownloader = dataDictDownloader;
+        this.appCode = appCode;
+    }
+
+    @Override
+    public String getName() {
+        return appCode;
+    }
+
+    @Override
+    public List<DataDictItem> listClasses() {
+        return dataDictDownloader.fetchDataDictItems(appCode);
+    }
+
+    @Override
+    public DataDictDetail getDetail(String classId) {
+        return dataDictDownloader.fetchDataDictDetail(appCode, classId);
+    }
+
+}
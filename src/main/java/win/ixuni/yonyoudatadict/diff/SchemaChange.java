@@ -0,0 +1,74 @@
+package win.ixuni.yonyoudatadict.diff;
+
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 结构对比报告中的一条变化
+ */
+@Data
+public class SchemaChange {
+
+    public enum Type {
+
+        /**
+         * 目标中新增的类
+         */
+        ADDED,
+
+        /**
+         * 目标中已删除的类
+         */
+        REMOVED,
+
+        /**
+         * 两边都存在但结构不同的类
+         */
+        CHANGED,
+
+        /**
+         * 详情获取失败，无法参与对比的类
+         */
+        FETCH_FAILED
+    }
+
+    private Type type;
+
+    // 匹配方式：fullClassName 或 tableName
+    private String matchedBy;
+
+    private String sourceClassId;
+
+    private String targetClassId;
+
+    private String displayName;
+
+    private String fullClassName;
+
+    private String tableName;
+
+    // 类级别的变化：字段名 -> [原值, 新值]
+    private Map<String, List<Object>> classChanges;
+
+    private List<String> addedColumns;
+
+    private List<String> removedColumns;
+
+    private List<ColumnChange> modifiedColumns;
+
+    @Data
+    @AllArgsConstructor
+    public static class ColumnChange {
+
+        private String column;
+
+        // 字段名 -> [原值, 新值]
+        private Map<String, List<Object>> changes;
+
+    }
+
+}
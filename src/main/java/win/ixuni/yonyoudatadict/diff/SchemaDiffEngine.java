@@ -0,0 +1,412 @@
+package win.ixuni.yonyoudatadict.diff;
+
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+import win.ixuni.yonyoudatadict.config.DataDictConfig;
+import win.ixuni.yonyoudatadict.metrics.DataDictMetrics;
+import win.ixuni.yonyoudatadict.model.DataDictDetail;
+import win.ixuni.yonyoudatadict.model.DataDictItem;
+import win.ixuni.yonyoudatadict.serializer.PropertyField;
+import win.ixuni.yonyoudatadict.trace.TraceContext;
+import win.ixuni.yonyoudatadict.util.DataDictDownloader;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 数据字典结构对比
+ * 两边的类先按全类名匹配，剩余的再按表名匹配；结构哈希相同的类直接视为未变化，
+ * 只有哈希不同的类才逐个属性对比。详情获取和属性对比都在对比线程池中并发进行，
+ * 变化按源数据字典中类的顺序逐条输出，便于流式写出报告。
+ * 首次对比时才创建，启动时不创建对比线程池
+ */
+@Component
+@Lazy
+public class SchemaDiffEngine {
+
+    private static final Logger logger = LoggerFactory.getLogger(SchemaDiffEngine.class);
+
+    // 结构快照数据源的前缀
+    private static final String SNAPSHOT_PREFIX = "snapshot:";
+
+    private final DataDictDownloader dataDictDownloader;
+
+    private final SchemaSnapshotStore snapshotStore;
+
+    private final ExecutorService executor;
+
+    public SchemaDiffEngine(DataDictDownloader dataDictDownloader, SchemaSnapshotStore snapshotStore,
+                            DataDictMetrics metrics, DataDictConfig config) {
+        this.dataDictDownloader = dataDictDownloader;
+        this.snapshotStore = snapshotStore;
+        AtomicInteger counter = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(Math.max(1, config.getDiff().getThreads()), runnable -> {
+            Thread thread = new Thread(runnable, "schema-diff-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        metrics.bindExecutor("schema-diff", executor);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 解析数据源：snapshot:应用代码 表示结构快照，否则为在线应用代码
+     */
+    public SchemaSource resolveSource(String spec) throws IOException {
+        if (spec == null || spec.trim().isEmpty()) {
+            throw new IllegalArgumentException("数据源不能为空，可以是应用代码或 snapshot:应用代码");
+        }
+        String value = spec.trim();
+        if (value.startsWith(SNAPSHOT_PREFIX)) {
+            return snapshotStore.load(value.substring(SNAPSHOT_PREFIX.length()).trim());
+        }
+        return new LiveSchemaSource(dataDictDownloader, value);
+    }
+
+    /**
+     * 按名称过滤后的类列表
+     *
+     * @throws IllegalStateException 数据字典项列表为空（通常是下载失败）时抛出
+     */
+    public List<DataDictItem> listClasses(SchemaSource source, String nameFilter) {
+        List<DataDictItem> items = source.listClasses();
+        if (items.isEmpty()) {
+            throw new IllegalStateException("无法获取数据字典项列表: " + source.getName());
+        }
+        if (nameFilter == null || nameFilter.trim().isEmpty()) {
+            return items;
+        }
+        String filter = nameFilter.trim().toLowerCase();
+        List<DataDictItem> filtered = new ArrayList<>();
+        for (DataDictItem item : items) {
+            if (item.getName() != null && item.getName().toLowerCase().contains(filter)) {
+                filtered.add(item);
+            }
+        }
+        return filtered;
+    }
+
+    /**
+     * 对比两份数据字典
+     *
+     * @param source       源数据字典（旧版本）
+     * @param sourceItems  参与对比的源类列表
+     * @param target       目标数据字典（新版本）
+     * @param targetItems  参与对比的目标类列表
+     * @param sink         接收每一条变化，在调用线程中按顺序调用
+     * @return 汇总信息
+     */
+    public SchemaDiffSummary diff(SchemaSource source, List<DataDictItem> sourceItems,
+                                  SchemaSource target, List<DataDictItem> targetItems,
+                                  Consumer<SchemaChange> sink) {
+        long start = System.nanoTime();
+        SchemaDiffSummary summary = new SchemaDiffSummary();
+        summary.setSource(source.getName());
+        summary.setTarget(target.getName());
+        summary.setSourceClassCount(sourceItems.size());
+        summary.setTargetClassCount(targetItems.size());
+
+        // 两边的详情同时并发获取
+        List<CompletableFuture<DataDictDetail>> sourceFutures = fetchAsync(source, sourceItems);
+        List<CompletableFuture<DataDictDetail>> targetFutures = fetchAsync(target, targetItems);
+        List<DataDictDetail> sourceDetails = collect(sourceItems, sourceFutures, true, summary, sink);
+        List<DataDictDetail> targetDetails = collect(targetItems, targetFutures, false, summary, sink);
+
+        // 先按全类名匹配，剩余的再按表名匹配；详情的 equals 会比较全部属性，这里按引用区分
+        Map<DataDictDetail, DataDictDetail> matches = new IdentityHashMap<>();
+        Map<DataDictDetail, String> matchedBy = new IdentityHashMap<>();
+        Set<String> matchedTargets = new HashSet<>();
+        match(sourceDetails, targetDetails, DataDictDetail::getFullClassName, "fullClassName",
+                matches, matchedBy, matchedTargets);
+        match(sourceDetails, targetDetails, DataDictDetail::getDefaultTableName, "tableName",
+                matches, matchedBy, matchedTargets);
+
+        // 哈希不同的类并发做属性级对比
+        List<CompletableFuture<SchemaChange>> comparisons = new ArrayList<>();
+        Executor tracedExecutor = TraceContext.wrapExecutor(executor);
+        for (DataDictDetail sourceDetail : sourceDetails) {
+            DataDictDetail targetDetail = matches.get(sourceDetail);
+            if (targetDetail == null) {
+                continue;
+            }
+            long sourceHash = hashOf(source, sourceDetail);
+            long targetHash = hashOf(target, targetDetail);
+            if (sourceHash == targetHash) {
+                summary.setUnchanged(summary.getUnchanged() + 1);
+                continue;
+            }
+            String by = matchedBy.get(sourceDetail);
+            comparisons.add(CompletableFuture.supplyAsync(() -> compare(sourceDetail, targetDetail, by),
+                    tracedExecutor));
+        }
+
+        // 按源顺序输出：先输出变化的类，再输出删除和新增的类
+        for (CompletableFuture<SchemaChange> comparison : comparisons) {
+            SchemaChange change = comparison.join();
+            if (change == null) {
+                summary.setUnchanged(summary.getUnchanged() + 1);
+                continue;
+            }
+            summary.setChanged(summary.getChanged() + 1);
+            sink.accept(change);
+        }
+        for (DataDictDetail sourceDetail : sourceDetails) {
+            if (!matches.containsKey(sourceDetail)) {
+                summary.setRemoved(summary.getRemoved() + 1);
+                sink.accept(classChange(SchemaChange.Type.REMOVED, sourceDetail, null));
+            }
+        }
+        for (DataDictDetail targetDetail : targetDetails) {
+            if (!matchedTargets.contains(targetDetail.getClassId())) {
+                summary.setAdded(summary.getAdded() + 1);
+                sink.accept(classChange(SchemaChange.Type.ADDED, null, targetDetail));
+            }
+        }
+
+        summary.setElapsedMillis(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        logger.info("数据字典结构对比完成: {} -> {}, 未变化: {}, 变化: {}, 新增: {}, 删除: {}, 获取失败: {}, 耗时: {}ms",
+                source.getName(), target.getName(), summary.getUnchanged(), summary.getChanged(),
+                summary.getAdded(), summary.getRemoved(), summary.getFetchFailed(), summary.getElapsedMillis());
+        return summary;
+    }
+
+    /**
+     * 下载应用代码下的全部类并导出为结构快照
+     *
+     * @param appCode    应用代码
+     * @param nameFilter 可选的类名称过滤条件
+     * @return 导出结果
+     */
+    public Map<String, Object> exportSnapshot(String appCode, String nameFilter) throws IOException {
+        long start = System.nanoTime();
+        // 先确认快照目录可用，避免下载后才失败
+        snapshotStore.resolveFile(appCode);
+
+        SchemaSource source = new LiveSchemaSource(dataDictDownloader, appCode);
+        List<DataDictItem> items = listClasses(source, nameFilter);
+        List<CompletableFuture<DataDictDetail>> futures = fetchAsync(source, items);
+        Map<String, DataDictDetail> details = new LinkedHashMap<>();
+        int failed = 0;
+        for (int i = 0; i < items.size(); i++) {
+            DataDictDetail detail = futures.get(i).join();
+            if (detail != null) {
+                details.put(items.get(i).getId(), detail);
+            } else {
+                failed++;
+            }
+        }
+        Path file = snapshotStore.write(appCode, items, details);
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("appCode", appCode);
+        result.put("file", file.toString());
+        result.put("classCount", items.size());
+        result.put("exported", details.size());
+        result.put("fetchFailed", failed);
+        result.put("elapsedMillis", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return result;
+    }
+
+    private List<CompletableFuture<DataDictDetail>> fetchAsync(SchemaSource source, List<DataDictItem> items) {
+        List<CompletableFuture<DataDictDetail>> futures = new ArrayList<>(items.size());
+        Executor tracedExecutor = TraceContext.wrapExecutor(executor);
+        for (DataDictItem item : items) {
+            futures.add(CompletableFuture.supplyAsync(() -> source.getDetail(item.getId()), tracedExecutor)
+                    .exceptionally(e -> null));
+        }
+        return futures;
+    }
+
+    private static List<DataDictDetail> collect(List<DataDictItem> items,
+                                                List<CompletableFuture<DataDictDetail>> futures, boolean sourceSide,
+                                                SchemaDiffSummary summary, Consumer<SchemaChange> sink) {
+        List<DataDictDetail> details = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            DataDictDetail detail = futures.get(i).join();
+            if (detail != null) {
+                if (detail.getClassId() == null) {
+                    detail = detail.toBuilder().classId(items.get(i).getId()).build();
+                }
+                details.add(detail);
+                continue;
+            }
+            summary.setFetchFailed(summary.getFetchFailed() + 1);
+            SchemaChange change = new SchemaChange();
+            change.setType(SchemaChange.Type.FETCH_FAILED);
+            change.setDisplayName(items.get(i).getName());
+            if (sourceSide) {
+                change.setSourceClassId(items.get(i).getId());
+            } else {
+                change.setTargetClassId(items.get(i).getId());
+            }
+            sink.accept(change);
+        }
+        return details;
+    }
+
+    /**
+     * 按指定键匹配尚未匹配的类，键为空或在一边重复出现时不参与匹配
+     */
+    private static void match(List<DataDictDetail> sourceDetails, List<DataDictDetail> targetDetails,
+                              Function<DataDictDetail, String> keyOf, String keyName,
+                              Map<DataDictDetail, DataDictDetail> matches, Map<DataDictDetail, String> matchedBy,
+                              Set<String> matchedTargets) {
+        Map<String, DataDictDetail> targetsByKey = new HashMap<>();
+        Set<String> ambiguous = new HashSet<>();
+        for (DataDictDetail targetDetail : targetDetails) {
+            String key = normalize(keyOf.apply(targetDetail));
+            if (key == null || matchedTargets.contains(targetDetail.getClassId())) {
+                continue;
+            }
+            if (targetsByKey.putIfAbsent(key, targetDetail) != null) {
+                ambiguous.add(key);
+            }
+        }
+        for (DataDictDetail sourceDetail : sourceDetails) {
+            if (matches.containsKey(sourceDetail)) {
+                continue;
+            }
+            String key = normalize(keyOf.apply(sourceDetail));
+            if (key == null || ambiguous.contains(key)) {
+                continue;
+            }
+            DataDictDetail targetDetail = targetsByKey.remove(key);
+            if (targetDetail != null) {
+                matches.put(sourceDetail, targetDetail);
+                matchedBy.put(sourceDetail, keyName);
+                matchedTargets.add(targetDetail.getClassId());
+            }
+        }
+    }
+
+    private static String normalize(String key) {
+        if (key == null || key.trim().isEmpty()) {
+            return null;
+        }
+        return key.trim().toLowerCase();
+    }
+
+    private static long hashOf(SchemaSource source, DataDictDetail detail) {
+        Long hash = source.getHash(detail.getClassId());
+        return hash != null ? hash : SchemaHasher.hash(detail);
+    }
+
+    /**
+     * 属性级对比，结构一致时返回null
+     */
+    private static SchemaChange compare(DataDictDetail sourceDetail, DataDictDetail targetDetail, String matchedBy) {
+        SchemaChange change = classChange(SchemaChange.Type.CHANGED, sourceDetail, targetDetail);
+        change.setMatchedBy(matchedBy);
+
+        Map<String, List<Object>> classChanges = new LinkedHashMap<>();
+        putIfChanged(classChanges, "displayName", sourceDetail.getDisplayName(), targetDetail.getDisplayName());
+        putIfChanged(classChanges, "fullClassName", sourceDetail.getFullClassName(), targetDetail.getFullClassName());
+        putIfChanged(classChanges, "defaultTableName", sourceDetail.getDefaultTableName(), targetDetail.getDefaultTableName());
+        putIfChanged(classChanges, "primary", sourceDetail.isPrimary(), targetDetail.isPrimary());
+
+        Map<String, DataDictDetail.Property> sourceColumns = columnsOf(sourceDetail);
+        Map<String, DataDictDetail.Property> targetColumns = columnsOf(targetDetail);
+        List<String> added = new ArrayList<>();
+        List<String> removed = new ArrayList<>();
+        List<SchemaChange.ColumnChange> modified = new ArrayList<>();
+        for (Map.Entry<String, DataDictDetail.Property> entry : sourceColumns.entrySet()) {
+            DataDictDetail.Property targetProperty = targetColumns.get(entry.getKey());
+            if (targetProperty == null) {
+                removed.add(entry.getKey());
+                continue;
+            }
+            Map<String, List<Object>> changes = new LinkedHashMap<>();
+            for (PropertyField field : SchemaHasher.COMPARED_FIELDS) {
+                putIfChanged(changes, field.getJsonName(), field.get(entry.getValue()), field.get(targetProperty));
+            }
+            if (!changes.isEmpty()) {
+                modified.add(new SchemaChange.ColumnChange(entry.getKey(), changes));
+            }
+        }
+        for (String column : targetColumns.keySet()) {
+            if (!sourceColumns.containsKey(column)) {
+                added.add(column);
+            }
+        }
+
+        if (classChanges.isEmpty() && added.isEmpty() && removed.isEmpty() && modified.isEmpty()) {
+            // 哈希不同但比较字段一致（例如仅属性重复），视为未变化
+            return null;
+        }
+        change.setClassChanges(classChanges.isEmpty() ? null : classChanges);
+        change.setAddedColumns(added.isEmpty() ? null : added);
+        change.setRemovedColumns(removed.isEmpty() ? null : removed);
+        change.setModifiedColumns(modified.isEmpty() ? null : modified);
+        return change;
+    }
+
+    /**
+     * 属性按字段编码（没有时按属性编码）建立映射，键不区分大小写
+     */
+    private static Map<String, DataDictDetail.Property> columnsOf(DataDictDetail detail) {
+        Map<String, DataDictDetail.Property> columns = new LinkedHashMap<>();
+        if (detail.getProperties() == null) {
+            return columns;
+        }
+        for (DataDictDetail.Property property : detail.getProperties()) {
+            String key = normalize(property.getColumnName());
+            if (key == null) {
+                key = normalize(property.getName());
+            }
+            if (key != null) {
+                columns.putIfAbsent(key, property);
+            }
+        }
+        return columns;
+    }
+
+    private static SchemaChange classChange(SchemaChange.Type type, DataDictDetail sourceDetail,
+                                            DataDictDetail targetDetail) {
+        DataDictDetail reference = targetDetail != null ? targetDetail : sourceDetail;
+        SchemaChange change = new SchemaChange();
+        change.setType(type);
+        change.setSourceClassId(sourceDetail != null ? sourceDetail.getClassId() : null);
+        change.setTargetClassId(targetDetail != null ? targetDetail.getClassId() : null);
+        change.setDisplayName(reference.getDisplayName());
+        change.setFullClassName(reference.getFullClassName());
+        change.setTableName(reference.getDefaultTableName());
+        return change;
+    }
+
+    private static void putIfChanged(Map<String, List<Object>> changes, String name, Object before, Object after) {
+        if (!Objects.equals(emptyToNull(before), emptyToNull(after))) {
+            changes.put(name, Arrays.asList(before, after));
+        }
+    }
+
+    private static Object emptyToNull(Object value) {
+        return value instanceof String && ((String) value).isEmpty() ? null : value;
+    }
+
+}
@@ -0,0 +1,35 @@
+package win.ixuni.yonyoudatadict.diff;
+
+
+import lombok.Data;
+
+/**
+ * 结构对比的汇总信息
+ */
+@Data
+public class SchemaDiffSummary {
+
+    // 作为报告最后一行输出时的类型标记
+    private final String type = "SUMMARY";
+
+    private String source;
+
+    private String target;
+
+    private int sourceClassCount;
+
+    private int targetClassCount;
+
+    private int unchanged;
+
+    private int changed;
+
+    private int added;
+
+    private int removed;
+
+    private int fetchFailed;
+
+    private long elapsedMillis;
+
+}
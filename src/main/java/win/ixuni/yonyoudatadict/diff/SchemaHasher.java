@@ -0,0 +1,79 @@
+package win.ixuni.yonyoudatadict.diff;
+
+
+import win.ixuni.yonyoudatadict.model.DataDictDetail;
+import win.ixuni.yonyoudatadict.serializer.PropertyField;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * 数据字典类的结构哈希
+ * 只覆盖参与对比的字段；引用类路径、引用类ID和数据范围中含有随版本变化的类ID，不参与对比。
+ * 属性哈希按多重集合合并，属性顺序变化不视为结构变化
+ */
+public final class SchemaHasher {
+
+    /**
+     * 参与对比的属性字段
+     */
+    public static final Set<PropertyField> COMPARED_FIELDS = Collections.unmodifiableSet(EnumSet.of(
+            PropertyField.NAME,
+            PropertyField.DISPLAY_NAME,
+            PropertyField.DATA_TYPE_SQL,
+            PropertyField.KEY_PROP,
+            PropertyField.NULLABLE,
+            PropertyField.DEFAULT_VALUE,
+            PropertyField.COLUMN_NAME,
+            PropertyField.REF_MODEL_NAME,
+            PropertyField.ENUM_VALUES,
+            PropertyField.PRIMARY_KEY));
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private SchemaHasher() {
+    }
+
+    public static long hash(DataDictDetail detail) {
+        long hash = FNV_OFFSET;
+        hash = update(hash, detail.getDisplayName());
+        hash = update(hash, detail.getFullClassName());
+        hash = update(hash, detail.getDefaultTableName());
+        hash = update(hash, detail.isPrimary());
+
+        long properties = 0;
+        if (detail.getProperties() != null) {
+            for (DataDictDetail.Property property : detail.getProperties()) {
+                long propertyHash = FNV_OFFSET;
+                for (PropertyField field : COMPARED_FIELDS) {
+                    propertyHash = update(propertyHash, field.get(property));
+                }
+                properties += mix(propertyHash);
+            }
+        }
+        return mix(hash ^ properties);
+    }
+
+    private static long update(long hash, Object value) {
+        String text = value == null ? "\u0000" : value.toString();
+        for (int i = 0; i < text.length(); i++) {
+            hash ^= text.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        // 字段分隔符，避免相邻字段拼接后产生相同的哈希
+        hash ^= 0x1F;
+        hash *= FNV_PRIME;
+        return hash;
+    }
+
+    private static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        return value;
+    }
+
+}
@@ -0,0 +1,144 @@
+package win.ixuni.yonyoudatadict.diff;
+
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+import win.ixuni.yonyoudatadict.cache.DetailSnapshotCodec;
+import win.ixuni.yonyoudatadict.config.DataDictConfig;
+import win.ixuni.yonyoudatadict.model.DataDictDetail;
+import win.ixuni.yonyoudatadict.model.DataDictItem;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 数据字典结构快照的读写
+ * 快照保存一个应用代码下全部类的原始解析结果及结构哈希，用于与之后的版本对比；
+ * 文件位于 {snapshot.path}/schema/{appCode}.schema.gz，同一应用代码重复导出时覆盖
+ */
+@Component
+@Lazy
+public class SchemaSnapshotStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(SchemaSnapshotStore.class);
+
+    // 文件头，用于识别文件格式
+    private static final int SCHEMA_MAGIC = 0x59445343;
+
+    // 2：详情由JSON改为与缓存快照相同的二进制编码
+    private static final int SCHEMA_FORMAT_VERSION = 2;
+
+    private final DataDictConfig config;
+
+    public SchemaSnapshotStore(DataDictConfig config) {
+        this.config = config;
+    }
+
+    /**
+     * 写入结构快照，先写临时文件再原子替换
+     *
+     * @param appCode 应用代码
+     * @param items   数据字典项列表
+     * @param details 类ID -> 原始解析结果
+     * @return 快照文件路径
+     */
+    public Path write(String appCode, List<DataDictItem> items, Map<String, DataDictDetail> details) throws IOException {
+        Path file = resolveFile(appCode);
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        Files.createDirectories(file.getParent());
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                new GZIPOutputStream(Files.newOutputStream(temp))))) {
+            out.writeInt(SCHEMA_MAGIC);
+            out.writeInt(SCHEMA_FORMAT_VERSION);
+            out.writeUTF(appCode);
+            out.writeLong(System.currentTimeMillis());
+
+            out.writeInt(items.size());
+            for (DataDictItem item : items) {
+                out.writeUTF(item.getId());
+                out.writeUTF(item.getName() != null ? item.getName() : "");
+            }
+
+            out.writeInt(details.size());
+            for (Map.Entry<String, DataDictDetail> entry : details.entrySet()) {
+                out.writeUTF(entry.getKey());
+                out.writeLong(SchemaHasher.hash(entry.getValue()));
+                DetailSnapshotCodec.write(out, entry.getValue());
+            }
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        logger.info("已导出数据字典结构快照: {}, 类数量: {}", file, details.size());
+        return file;
+    }
+
+    /**
+     * 加载结构快照
+     *
+     * @param appCode 应用代码
+     * @throws IllegalArgumentException 快照不存在或格式不匹配时抛出
+     */
+    public SnapshotSchemaSource load(String appCode) throws IOException {
+        Path file = resolveFile(appCode);
+        if (!Files.isRegularFile(file)) {
+            throw new IllegalArgumentException("结构快照不存在: " + appCode + "，请先导出该应用代码的结构快照");
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+                new GZIPInputStream(Files.newInputStream(file))))) {
+            if (in.readInt() != SCHEMA_MAGIC || in.readInt() != SCHEMA_FORMAT_VERSION) {
+                throw new IllegalArgumentException("结构快照格式不匹配，请重新导出: " + file);
+            }
+            String snapshotAppCode = in.readUTF();
+            long createdAt = in.readLong();
+
+            int itemCount = in.readInt();
+            List<DataDictItem> items = new ArrayList<>(itemCount);
+            for (int i = 0; i < itemCount; i++) {
+                items.add(new DataDictItem(in.readUTF(), in.readUTF()));
+            }
+
+            int detailCount = in.readInt();
+            Map<String, DataDictDetail> details = new HashMap<>(detailCount * 2);
+            Map<String, Long> hashes = new HashMap<>(detailCount * 2);
+            for (int i = 0; i < detailCount; i++) {
+                String classId = in.readUTF();
+                hashes.put(classId, in.readLong());
+                details.put(classId, DetailSnapshotCodec.read(in));
+            }
+
+            logger.info("已加载数据字典结构快照: {}, 导出时间: {}, 类数量: {}",
+                    file, new Date(createdAt), detailCount);
+            return new SnapshotSchemaSource("snapshot:" + snapshotAppCode, items, details, hashes);
+        }
+    }
+
+    /**
+     * 快照文件路径
+     *
+     * @throws IllegalStateException 未配置快照目录时抛出
+     */
+    public Path resolveFile(String appCode) {
+        String path = config.getSnapshot().getPath();
+        if (path == null || path.trim().isEmpty()) {
+            throw new IllegalStateException("未配置快照目录 data-dict.snapshot.path，无法读写结构快照");
+        }
+        String fileName = appCode.replaceAll("[^A-Za-z0-9._-]", "_") + ".schema.gz";
+        return Paths.get(path.trim(), "schema", fileName);
+    }
+
+}
@@ -0,0 +1,36 @@
+package win.ixuni.yonyoudatadict.diff;
+
+
+import win.ixuni.yonyoudatadict.model.DataDictDetail;
+import win.ixuni.yonyoudatadict.model.DataDictItem;
+
+import java.util.List;
+
+/**
+ * 参与对比的一份数据字典，可以是在线的应用代码，也可以是导出的结构快照
+ */
+public interface SchemaSource {
+
+    /**
+     * 数据字典名称，用于报告输出
+     */
+    String getName();
+
+    /**
+     * 数据字典中的全部类
+     */
+    List<DataDictItem> listClasses();
+
+    /**
+     * 获取类的原始解析结果，未找到或失败时返回null
+     */
+    DataDictDetail getDetail(String classId);
+
+    /**
+     * 预先计算好的结构哈希，没有时返回null
+     */
+    default Long getHash(String classId) {
+        return null;
+    }
+
+}
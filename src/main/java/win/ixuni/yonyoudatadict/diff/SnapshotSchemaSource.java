@@ -0,0 +1,51 @@
+package win.ixuni.yonyoudatadict.diff;
+
+
+import win.ixuni.yonyoudatadict.model.DataDictDetail;
+import win.ixuni.yonyoudatadict.model.DataDictItem;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 从结构快照文件加载的数据字典，全部内容在内存中
+ */
+public class SnapshotSchemaSource implements SchemaSource {
+
+    private final String name;
+
+    private final List<DataDictItem> items;
+
+    private final Map<String, DataDictDetail> details;
+
+    private final Map<String, Long> hashes;
+
+    public SnapshotSchemaSource(String name, List<DataDictItem> items, Map<String, DataDictDetail> details,
+                                Map<String, Long> hashes) {
+        this.name = name;
+        this.items = items;
+        this.details = details;
+        this.hashes = hashes;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public List<DataDictItem> listClasses() {
+        return items;
+    }
+
+    @Override
+    public DataDictDetail getDetail(String classId) {
+        return details.get(classId);
+    }
+
+    @Override
+    public Long getHash(String classId) {
+        return hashes.get(classId);
+    }
+
+}
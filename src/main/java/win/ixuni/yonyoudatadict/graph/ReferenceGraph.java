@@ -0,0 +1,64 @@
+package win.ixuni.yonyoudatadict.graph;
+
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import win.ixuni.yonyoudatadict.model.DetailFetchStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 引用关系图
+ * 节点按广度优先的发现顺序排列，边以目标节点下标表示
+ */
+@Data
+public class ReferenceGraph {
+
+    private String rootClassId;
+
+    // 实际展开的最大深度
+    private int maxDepth;
+
+    // 是否因节点数量或时间预算未能完整展开
+    private boolean truncated;
+
+    private long elapsedMillis;
+
+    private List<Node> nodes = new ArrayList<>();
+
+    @Data
+    public static class Node {
+
+        private int index;
+
+        private String classId;
+
+        private String displayName;
+
+        private String fullClassName;
+
+        private String tableName;
+
+        private int depth;
+
+        // 展开状态：已展开为OK，处于最大深度未展开时为null
+        private DetailFetchStatus status;
+
+        private List<Edge> refs = new ArrayList<>();
+
+    }
+
+    @Data
+    @AllArgsConstructor
+    public static class Edge {
+
+        // 目标节点下标
+        private int target;
+
+        // 引用目标类的属性编码
+        private List<String> properties;
+
+    }
+
+}
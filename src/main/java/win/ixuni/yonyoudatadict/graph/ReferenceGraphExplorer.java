@@ -0,0 +1,191 @@
+package win.ixuni.yonyoudatadict.graph;
+
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+import win.ixuni.yonyoudatadict.config.DataDictConfig;
+import win.ixuni.yonyoudatadict.index.ClassNameIndex;
+import win.ixuni.yonyoudatadict.model.DataDictDetail;
+import win.ixuni.yonyoudatadict.model.DetailFetchStatus;
+import win.ixuni.yonyoudatadict.model.YonyouVersion;
+import win.ixuni.yonyoudatadict.util.DataDictDownloader;
+import win.ixuni.yonyoudatadict.util.RefIdExtractor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 引用关系图遍历
+ * 从根类出发按广度优先逐层展开属性引用的类，同一层的类并发获取；
+ * 使用原始解析结果提取引用，不经过处理器链，也不会为了显示类名额外下载
+ */
+@Component
+@Lazy
+public class ReferenceGraphExplorer {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReferenceGraphExplorer.class);
+
+    private final DataDictDownloader dataDictDownloader;
+
+    private final ClassNameIndex classNameIndex;
+
+    private final DataDictConfig config;
+
+    public ReferenceGraphExplorer(DataDictDownloader dataDictDownloader, ClassNameIndex classNameIndex,
+                                  DataDictConfig config) {
+        this.dataDictDownloader = dataDictDownloader;
+        this.classNameIndex = classNameIndex;
+        this.config = config;
+    }
+
+    /**
+     * 展开引用关系图
+     *
+     * @param rootClassId 根类ID
+     * @param depth       展开的层数，超出配置上限时按上限处理
+     * @param maxNodes    最多包含的节点数，超出配置上限时按上限处理
+     * @return 引用关系图
+     */
+    public ReferenceGraph explore(String rootClassId, int depth, int maxNodes) {
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.MILLISECONDS.toNanos(config.getGraph().getTimeoutMs());
+        int maxDepth = Math.max(1, Math.min(depth, config.getGraph().getMaxDepth()));
+        int nodeBudget = Math.max(1, Math.min(maxNodes, config.getGraph().getMaxNodes()));
+        YonyouVersion version = dataDictDownloader.getCurrentVersion();
+
+        ReferenceGraph graph = new ReferenceGraph();
+        graph.setRootClassId(rootClassId);
+        graph.setMaxDepth(maxDepth);
+
+        // 已发现的类ID -> 节点，同时作为访问标记
+        Map<String, ReferenceGraph.Node> visited = new HashMap<>();
+        List<ReferenceGraph.Node> frontier = new ArrayList<>();
+        frontier.add(addNode(graph, visited, rootClassId, 0));
+
+        for (int level = 0; level < maxDepth && !frontier.isEmpty(); level++) {
+            if (System.nanoTime() >= deadline) {
+                // 已超时，不再为剩余节点发起下载，这些节点按最大深度的节点处理
+                for (ReferenceGraph.Node node : frontier) {
+                    node.setStatus(DetailFetchStatus.TIMEOUT);
+                }
+                graph.setTruncated(true);
+                break;
+            }
+
+            // 整层并发获取，等待时共享同一个截止时间
+            List<CompletableFuture<DataDictDetail>> futures = new ArrayList<>(frontier.size());
+            for (ReferenceGraph.Node node : frontier) {
+                futures.add(dataDictDownloader.downloadDataDictDetailAsync(
+                        node.getClassId(), false, Collections.emptySet()));
+            }
+
+            List<ReferenceGraph.Node> next = new ArrayList<>();
+            for (int i = 0; i < frontier.size(); i++) {
+                ReferenceGraph.Node node = frontier.get(i);
+                DataDictDetail detail = await(node, futures.get(i), deadline);
+                if (detail == null) {
+                    if (node.getStatus() == DetailFetchStatus.TIMEOUT) {
+                        graph.setTruncated(true);
+                    }
+                    continue;
+                }
+                node.setStatus(DetailFetchStatus.OK);
+                fillNames(node, detail);
+
+                // 引用类ID -> 引用它的属性编码，按属性顺序
+                Map<String, List<String>> refs = new LinkedHashMap<>();
+                List<DataDictDetail.Property> properties = detail.getProperties() != null
+                        ? detail.getProperties() : Collections.emptyList();
+                for (DataDictDetail.Property property : properties) {
+                    String refId = RefIdExtractor.extractRefId(property, version);
+                    if (refId != null) {
+                        refs.computeIfAbsent(refId, key -> new ArrayList<>()).add(property.getName());
+                    }
+                }
+
+                for (Map.Entry<String, List<String>> ref : refs.entrySet()) {
+                    ReferenceGraph.Node target = visited.get(ref.getKey());
+                    if (target == null) {
+                        if (graph.getNodes().size() >= nodeBudget) {
+                            graph.setTruncated(true);
+                            continue;
+                        }
+                        target = addNode(graph, visited, ref.getKey(), level + 1);
+                        next.add(target);
+                    }
+                    node.getRefs().add(new ReferenceGraph.Edge(target.getIndex(), ref.getValue()));
+                }
+            }
+            frontier = next;
+        }
+
+        // 处于最大深度或因超时未展开的节点，只从类名索引补充名称
+        for (ReferenceGraph.Node node : frontier) {
+            ClassNameIndex.Entry entry = classNameIndex.get(node.getClassId());
+            if (entry != null) {
+                node.setDisplayName(entry.getDisplayName());
+                node.setFullClassName(entry.getFullClassName());
+                node.setTableName(entry.getTableName());
+            }
+        }
+
+        graph.setElapsedMillis(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        logger.debug("引用关系图展开完成，根类: {}, 深度: {}, 节点数: {}, 截断: {}, 耗时: {}ms",
+                rootClassId, maxDepth, graph.getNodes().size(), graph.isTruncated(), graph.getElapsedMillis());
+        return graph;
+    }
+
+    private static ReferenceGraph.Node addNode(ReferenceGraph graph, Map<String, ReferenceGraph.Node> visited,
+                                               String classId, int depth) {
+        ReferenceGraph.Node node = new ReferenceGraph.Node();
+        node.setIndex(graph.getNodes().size());
+        node.setClassId(classId);
+        node.setDepth(depth);
+        graph.getNodes().add(node);
+        visited.put(classId, node);
+        return node;
+    }
+
+    /**
+     * 等待节点详情，失败时在节点上记录状态并返回null
+     */
+    private static DataDictDetail await(ReferenceGraph.Node node, CompletableFuture<DataDictDetail> future,
+                                        long deadline) {
+        try {
+            DataDictDetail detail = future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            if (detail == null) {
+                node.setStatus(DetailFetchStatus.NOT_FOUND);
+                return null;
+            }
+            return detail;
+        } catch (TimeoutException e) {
+            // 尚在排队的下载不再执行，避免与前台请求争用下载线程和上游连接
+            future.cancel(false);
+            node.setStatus(DetailFetchStatus.TIMEOUT);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(false);
+            node.setStatus(DetailFetchStatus.TIMEOUT);
+        } catch (ExecutionException e) {
+            node.setStatus(DetailFetchStatus.ERROR);
+        }
+        return null;
+    }
+
+    private static void fillNames(ReferenceGraph.Node node, DataDictDetail detail) {
+        node.setDisplayName(detail.getDisplayName());
+        node.setFullClassName(detail.getFullClassName());
+        node.setTableName(detail.getDefaultTableName());
+    }
+
+}
@@ -0,0 +1,293 @@
+package win.ixuni.yonyoudatadict.index;
+
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.stereotype.Component;
+import win.ixuni.yonyoudatadict.cache.SnapshotPart;
+import win.ixuni.yonyoudatadict.model.DataDictDetail;
+import win.ixuni.yonyoudatadict.model.DataDictItem;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 轻量级类名索引
+ * 记录类ID对应的显示名称、全类名和表名，供引用解析、搜索结果、引用图遍历等只需要类名的场景使用，
+ * 避免为了一个名称重新下载完整的数据字典详情。
+ * <p>
+ * 数据按列保存在并行数组中，通过开放寻址的 int 数组定位，不为每个条目创建节点对象；
+ * 由数据字典项列表和每一次详情解析共同填充，并随缓存快照持久化。
+ */
+@Component
+public class ClassNameIndex implements SnapshotPart {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    // 条目来自数据字典详情（而不仅是数据字典项列表）
+    private static final byte FLAG_FROM_DETAIL = 1;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 按槽位存放的并行数组
+    private String[] classIds = new String[INITIAL_CAPACITY];
+
+    private String[] displayNames = new String[INITIAL_CAPACITY];
+
+    private String[] fullClassNames = new String[INITIAL_CAPACITY];
+
+    private String[] tableNames = new String[INITIAL_CAPACITY];
+
+    private byte[] flags = new byte[INITIAL_CAPACITY];
+
+    private int size;
+
+    // 开放寻址哈希表，存放 槽位+1，0 表示空
+    private int[] table = new int[INITIAL_CAPACITY * 2];
+
+    /**
+     * 从解析得到的数据字典详情中记录类名
+     */
+    public void record(DataDictDetail detail) {
+        if (detail == null || detail.getClassId() == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            int slot = slotFor(detail.getClassId());
+            displayNames[slot] = detail.getDisplayName();
+            fullClassNames[slot] = detail.getFullClassName();
+            tableNames[slot] = detail.getDefaultTableName();
+            flags[slot] = FLAG_FROM_DETAIL;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 从数据字典项列表中记录显示名称，不覆盖已从详情中获得的信息
+     */
+    public void recordItems(List<DataDictItem> items) {
+        if (items == null || items.isEmpty()) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            for (DataDictItem item : items) {
+                if (item.getId() == null) {
+                    continue;
+                }
+                int slot = slotFor(item.getId());
+                if (flags[slot] != FLAG_FROM_DETAIL) {
+                    displayNames[slot] = item.getName();
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 获取类名信息，未记录时返回null
+     */
+    public Entry get(String classId) {
+        if (classId == null) {
+            return null;
+        }
+        lock.readLock().lock();
+        try {
+            int slot = find(classId);
+            if (slot < 0) {
+                return null;
+            }
+            return new Entry(classIds[slot], displayNames[slot], fullClassNames[slot], tableNames[slot],
+                    flags[slot] == FLAG_FROM_DETAIL);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            Arrays.fill(classIds, 0, size, null);
+            Arrays.fill(displayNames, 0, size, null);
+            Arrays.fill(fullClassNames, 0, size, null);
+            Arrays.fill(tableNames, 0, size, null);
+            Arrays.fill(flags, 0, size, (byte) 0);
+            Arrays.fill(table, 0);
+            size = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public String getSnapshotName() {
+        return "class-names";
+    }
+
+    @Override
+    public void writeSnapshot(DataOutputStream out) throws IOException {
+        lock.readLock().lock();
+        try {
+            out.writeInt(size);
+            for (int i = 0; i < size; i++) {
+                out.writeUTF(classIds[i]);
+                writeNullableString(out, displayNames[i]);
+                writeNullableString(out, fullClassNames[i]);
+                writeNullableString(out, tableNames[i]);
+                out.writeByte(flags[i]);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void readSnapshot(DataInputStream in) throws IOException {
+        int count = in.readInt();
+        lock.writeLock().lock();
+        try {
+            for (int i = 0; i < count; i++) {
+                String classId = in.readUTF();
+                String displayName = readNullableString(in);
+                String fullClassName = readNullableString(in);
+                String tableName = readNullableString(in);
+                byte flag = in.readByte();
+
+                // 运行期间已获得的信息优先，快照只补充缺失或更弱的条目
+                int slot = slotFor(classId);
+                if (flags[slot] == FLAG_FROM_DETAIL || (flag != FLAG_FROM_DETAIL && displayNames[slot] != null)) {
+                    continue;
+                }
+                displayNames[slot] = displayName;
+                fullClassNames[slot] = fullClassName;
+                tableNames[slot] = tableName;
+                flags[slot] = flag;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 查找类ID所在槽位，不存在时返回-1（调用方需持有锁）
+     */
+    private int find(String classId) {
+        int mask = table.length - 1;
+        int i = mix(classId.hashCode()) & mask;
+        while (true) {
+            int ref = table[i];
+            if (ref == 0) {
+                return -1;
+            }
+            if (classIds[ref - 1].equals(classId)) {
+                return ref - 1;
+            }
+            i = (i + 1) & mask;
+        }
+    }
+
+    /**
+     * 查找类ID所在槽位，不存在时分配新槽位（调用方需持有写锁）
+     */
+    private int slotFor(String classId) {
+        int slot = find(classId);
+        if (slot >= 0) {
+            return slot;
+        }
+        if (size == classIds.length) {
+            grow();
+        }
+        slot = size++;
+        classIds[slot] = classId;
+        insert(classId, slot);
+        return slot;
+    }
+
+    private void insert(String classId, int slot) {
+        int mask = table.length - 1;
+        int i = mix(classId.hashCode()) & mask;
+        while (table[i] != 0) {
+            i = (i + 1) & mask;
+        }
+        table[i] = slot + 1;
+    }
+
+    private void grow() {
+        int capacity = classIds.length * 2;
+        classIds = Arrays.copyOf(classIds, capacity);
+        displayNames = Arrays.copyOf(displayNames, capacity);
+        fullClassNames = Arrays.copyOf(fullClassNames, capacity);
+        tableNames = Arrays.copyOf(tableNames, capacity);
+        flags = Arrays.copyOf(flags, capacity);
+
+        // 哈希表保持负载因子不超过0.5
+        table = new int[capacity * 2];
+        for (int slot = 0; slot < size; slot++) {
+            insert(classIds[slot], slot);
+        }
+    }
+
+    private static int mix(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private static void writeNullableString(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readNullableString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    /**
+     * 类名信息
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Entry {
+
+        private final String classId;
+
+        private final String displayName;
+
+        private final String fullClassName;
+
+        private final String tableName;
+
+        // 是否来自数据字典详情；仅来自数据字典项列表的条目没有全类名和表名
+        private final boolean fromDetail;
+
+        /**
+         * 优先返回全类名，没有全类名时返回显示名称
+         */
+        public String getPreferredName() {
+            if (fullClassName != null && !fullClassName.isEmpty()) {
+                return fullClassName;
+            }
+            if (displayName != null && !displayName.isEmpty()) {
+                return displayName;
+            }
+            return null;
+        }
+    }
+
+}
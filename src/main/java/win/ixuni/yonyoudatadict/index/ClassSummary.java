@@ -0,0 +1,22 @@
+package win.ixuni.yonyoudatadict.index;
+
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * 类摘要，索引查询的返回单元
+ */
+@Data
+@AllArgsConstructor
+public class ClassSummary {
+
+    private String classId;
+
+    private String displayName;
+
+    private String fullClassName;
+
+    private String tableName;
+
+}
@@ -0,0 +1,184 @@
+package win.ixuni.yonyoudatadict.index;
+
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import win.ixuni.yonyoudatadict.model.DataDictDetail;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 数据字典反向索引
+ * 由每一次解析得到的数据字典详情增量构建，将表名、全类名、属性编码、字段编码映射到类ID，
+ * 查询时只做一次哈希查找，不会产生任何上游请求
+ */
+@Component
+public class DataDictIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(DataDictIndex.class);
+
+    // 表名 -> 类ID集合
+    private final Map<String, Set<String>> tableIndex = new ConcurrentHashMap<>();
+
+    // 全类名 -> 类ID集合
+    private final Map<String, Set<String>> classNameIndex = new ConcurrentHashMap<>();
+
+    // 属性编码/字段编码 -> 类ID集合
+    private final Map<String, Set<String>> columnIndex = new ConcurrentHashMap<>();
+
+    // 类ID -> 类摘要，用于组装查询结果
+    private final Map<String, ClassSummary> summaries = new ConcurrentHashMap<>();
+
+    // 类ID -> 已索引的字段编码，用于重建索引时移除旧的索引项
+    private final Map<String, List<String>> indexedColumns = new ConcurrentHashMap<>();
+
+    /**
+     * 将一个数据字典详情加入索引（同一类ID重复加入时会先移除旧的索引项）
+     */
+    public void indexDetail(DataDictDetail detail) {
+        if (detail == null || detail.getClassId() == null) {
+            return;
+        }
+
+        String classId = detail.getClassId();
+        Set<String> columns = new LinkedHashSet<>();
+        if (detail.getProperties() != null) {
+            for (DataDictDetail.Property property : detail.getProperties()) {
+                addKey(columns, property.getName());
+                addKey(columns, property.getColumnName());
+            }
+        }
+
+        ClassSummary summary = new ClassSummary(classId, detail.getDisplayName(),
+                detail.getFullClassName(), detail.getDefaultTableName());
+
+        synchronized (this) {
+            ClassSummary previous = summaries.put(classId, summary);
+            List<String> previousColumns = indexedColumns.put(classId, List.copyOf(columns));
+            if (previous != null) {
+                unindex(previous, previousColumns);
+            }
+            link(tableIndex, summary.getTableName(), classId);
+            link(classNameIndex, summary.getFullClassName(), classId);
+            for (String column : columns) {
+                link(columnIndex, column, classId);
+            }
+        }
+
+        logger.debug("数据字典索引已更新，classId: {}, 字段数: {}", classId, columns.size());
+    }
+
+    /**
+     * 根据表名或全类名查找类
+     */
+    public List<ClassSummary> findByTableOrClassName(String name) {
+        String key = normalize(name);
+        if (key == null) {
+            return Collections.emptyList();
+        }
+        Set<String> classIds = new LinkedHashSet<>(tableIndex.getOrDefault(key, Collections.emptySet()));
+        classIds.addAll(classNameIndex.getOrDefault(key, Collections.emptySet()));
+        return toSummaries(classIds);
+    }
+
+    /**
+     * 根据属性编码或字段编码查找包含该字段的类
+     */
+    public List<ClassSummary> findByColumnName(String name) {
+        String key = normalize(name);
+        if (key == null) {
+            return Collections.emptyList();
+        }
+        return toSummaries(columnIndex.getOrDefault(key, Collections.emptySet()));
+    }
+
+    /**
+     * 已建立索引的类数量
+     */
+    public int getIndexedClassCount() {
+        return summaries.size();
+    }
+
+    /**
+     * 已建立索引的字段编码数量
+     */
+    public int getIndexedColumnCount() {
+        return columnIndex.size();
+    }
+
+    /**
+     * 清空索引
+     */
+    public synchronized void clear() {
+        tableIndex.clear();
+        classNameIndex.clear();
+        columnIndex.clear();
+        summaries.clear();
+        indexedColumns.clear();
+        logger.info("数据字典反向索引已清空");
+    }
+
+    private void unindex(ClassSummary summary, List<String> columns) {
+        unlink(tableIndex, summary.getTableName(), summary.getClassId());
+        unlink(classNameIndex, summary.getFullClassName(), summary.getClassId());
+        if (columns != null) {
+            for (String column : columns) {
+                unlink(columnIndex, column, summary.getClassId());
+            }
+        }
+    }
+
+    private List<ClassSummary> toSummaries(Set<String> classIds) {
+        List<ClassSummary> result = new ArrayList<>(classIds.size());
+        for (String classId : classIds) {
+            ClassSummary summary = summaries.get(classId);
+            if (summary != null) {
+                result.add(summary);
+            }
+        }
+        return result;
+    }
+
+    private static void link(Map<String, Set<String>> index, String key, String classId) {
+        String normalized = normalize(key);
+        if (normalized != null) {
+            index.computeIfAbsent(normalized, k -> ConcurrentHashMap.newKeySet()).add(classId);
+        }
+    }
+
+    private static void unlink(Map<String, Set<String>> index, String key, String classId) {
+        String normalized = normalize(key);
+        if (normalized == null) {
+            return;
+        }
+        Set<String> classIds = index.get(normalized);
+        if (classIds != null) {
+            classIds.remove(classId);
+            if (classIds.isEmpty()) {
+                index.remove(normalized);
+            }
+        }
+    }
+
+    private static void addKey(Set<String> keys, String key) {
+        String normalized = normalize(key);
+        if (normalized != null) {
+            keys.add(normalized);
+        }
+    }
+
+    private static String normalize(String key) {
+        if (key == null || key.trim().isEmpty()) {
+            return null;
+        }
+        return key.trim().toLowerCase();
+    }
+
+}
@@ -0,0 +1,31 @@
+package win.ixuni.yonyoudatadict.index;
+
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 引用某个类的来源类
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class Referrer {
+
+    // 来源类ID
+    private String classId;
+
+    private String displayName;
+
+    private String fullClassName;
+
+    private String tableName;
+
+    // 被引用的类ID
+    private String targetClassId;
+
+    // 来源类中引用目标类的属性编码，逗号分隔
+    private String properties;
+
+}
@@ -0,0 +1,356 @@
+package win.ixuni.yonyoudatadict.index;
+
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import win.ixuni.yonyoudatadict.cache.SnapshotPart;
+import win.ixuni.yonyoudatadict.model.DataDictDetail;
+import win.ixuni.yonyoudatadict.model.YonyouVersion;
+import win.ixuni.yonyoudatadict.util.RefIdExtractor;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 反向引用索引
+ * 由每一次解析得到的数据字典详情增量构建，记录"哪些类引用了某个类"，用于影响分析。
+ * <p>
+ * 类ID映射为连续的 int 编号后，出边和入边都保存在 int 数组中，不为每条边创建对象；
+ * 同一个类重新解析时先移除它原有的出边，查询只需遍历目标类的入边数组，并随缓存快照持久化。
+ */
+@Component
+public class ReverseRefIndex implements SnapshotPart {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReverseRefIndex.class);
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private static final int[] NO_EDGES = new int[0];
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 编号 -> 类ID
+    private String[] classIds = new String[INITIAL_CAPACITY];
+
+    // 编号 -> 引用的目标编号，未索引的类为null
+    private int[][] outTargets = new int[INITIAL_CAPACITY][];
+
+    // 编号 -> 与 outTargets 一一对应的引用属性编码
+    private String[][] outProperties = new String[INITIAL_CAPACITY][];
+
+    // 编号 -> 引用该类的来源编号，前 inCounts 个有效
+    private int[][] inSources = new int[INITIAL_CAPACITY][];
+
+    private int[] inCounts = new int[INITIAL_CAPACITY];
+
+    private int size;
+
+    // 已索引出边的类数量
+    private int indexedCount;
+
+    // 开放寻址哈希表，存放 编号+1，0 表示空
+    private int[] table = new int[INITIAL_CAPACITY * 2];
+
+    /**
+     * 将一个原始解析结果的引用关系加入索引（同一类ID重复加入时替换原有的出边）
+     *
+     * @param detail  原始解析结果（未经引用类路径处理器改写）
+     * @param version 数据字典所属版本
+     */
+    public void indexDetail(DataDictDetail detail, YonyouVersion version) {
+        if (detail == null || detail.getClassId() == null) {
+            return;
+        }
+        Map<String, String> refs = collectRefs(detail, version);
+        lock.writeLock().lock();
+        try {
+            replaceEdges(detail.getClassId(), refs);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        logger.debug("反向引用索引已更新，classId: {}, 引用类数: {}", detail.getClassId(), refs.size());
+    }
+
+    /**
+     * 查找引用指定类的来源类，只包含类ID和引用属性
+     */
+    public List<Referrer> findReferrers(String classId) {
+        if (classId == null) {
+            return Collections.emptyList();
+        }
+        lock.readLock().lock();
+        try {
+            int target = find(classId.trim());
+            if (target < 0 || inCounts[target] == 0) {
+                return Collections.emptyList();
+            }
+            List<Referrer> result = new ArrayList<>(inCounts[target]);
+            int[] sources = inSources[target];
+            for (int i = 0; i < inCounts[target]; i++) {
+                int source = sources[i];
+                Referrer referrer = new Referrer();
+                referrer.setClassId(classIds[source]);
+                referrer.setTargetClassId(classIds[target]);
+                int[] targets = outTargets[source];
+                for (int j = 0; j < targets.length; j++) {
+                    if (targets[j] == target) {
+                        referrer.setProperties(outProperties[source][j]);
+                        break;
+                    }
+                }
+                result.add(referrer);
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 指定类引用的类ID，按属性顺序排列；该类尚未索引时返回空列表
+     */
+    public List<String> findReferences(String classId) {
+        if (classId == null) {
+            return Collections.emptyList();
+        }
+        lock.readLock().lock();
+        try {
+            int source = find(classId.trim());
+            if (source < 0 || outTargets[source] == null || outTargets[source].length == 0) {
+                return Collections.emptyList();
+            }
+            List<String> result = new ArrayList<>(outTargets[source].length);
+            for (int target : outTargets[source]) {
+                result.add(classIds[target]);
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 已索引引用关系的类数量
+     */
+    public int getIndexedClassCount() {
+        lock.readLock().lock();
+        try {
+            return indexedCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            Arrays.fill(classIds, 0, size, null);
+            Arrays.fill(outTargets, 0, size, null);
+            Arrays.fill(outProperties, 0, size, null);
+            Arrays.fill(inSources, 0, size, null);
+            Arrays.fill(inCounts, 0, size, 0);
+            Arrays.fill(table, 0);
+            size = 0;
+            indexedCount = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public String getSnapshotName() {
+        return "reverse-refs";
+    }
+
+    @Override
+    public void writeSnapshot(DataOutputStream out) throws IOException {
+        lock.readLock().lock();
+        try {
+            out.writeInt(indexedCount);
+            for (int source = 0; source < size; source++) {
+                int[] targets = outTargets[source];
+                if (targets == null) {
+                    continue;
+                }
+                out.writeUTF(classIds[source]);
+                out.writeInt(targets.length);
+                for (int i = 0; i < targets.length; i++) {
+                    out.writeUTF(classIds[targets[i]]);
+                    out.writeUTF(outProperties[source][i]);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void readSnapshot(DataInputStream in) throws IOException {
+        int count = in.readInt();
+        lock.writeLock().lock();
+        try {
+            for (int i = 0; i < count; i++) {
+                String classId = in.readUTF();
+                int refCount = in.readInt();
+                Map<String, String> refs = new LinkedHashMap<>();
+                for (int j = 0; j < refCount; j++) {
+                    refs.put(in.readUTF(), in.readUTF());
+                }
+                // 运行期间已重新解析的类优先
+                int source = find(classId);
+                if (source >= 0 && outTargets[source] != null) {
+                    continue;
+                }
+                replaceEdges(classId, refs);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 收集详情中引用的类ID及引用它的属性编码
+     */
+    private static Map<String, String> collectRefs(DataDictDetail detail, YonyouVersion version) {
+        Map<String, String> refs = new LinkedHashMap<>();
+        if (detail.getProperties() == null) {
+            return refs;
+        }
+        for (DataDictDetail.Property property : detail.getProperties()) {
+            String refId = RefIdExtractor.extractRefId(property, version);
+            if (refId == null) {
+                continue;
+            }
+            String name = property.getName() != null ? property.getName() : "";
+            refs.merge(refId, name, (previous, current) -> previous + "," + current);
+        }
+        return refs;
+    }
+
+    /**
+     * 替换来源类的全部出边，并同步维护目标类的入边（调用方需持有写锁）
+     */
+    private void replaceEdges(String classId, Map<String, String> refs) {
+        int source = slotFor(classId);
+        int[] previous = outTargets[source];
+        if (previous != null) {
+            for (int target : previous) {
+                removeIncoming(target, source);
+            }
+        } else {
+            indexedCount++;
+        }
+
+        int[] targets = refs.isEmpty() ? NO_EDGES : new int[refs.size()];
+        String[] properties = new String[refs.size()];
+        int i = 0;
+        for (Map.Entry<String, String> ref : refs.entrySet()) {
+            int target = slotFor(ref.getKey());
+            targets[i] = target;
+            properties[i] = ref.getValue();
+            addIncoming(target, source);
+            i++;
+        }
+        outTargets[source] = targets;
+        outProperties[source] = properties;
+    }
+
+    private void addIncoming(int target, int source) {
+        int[] sources = inSources[target];
+        int count = inCounts[target];
+        if (sources == null) {
+            sources = new int[4];
+        } else if (count == sources.length) {
+            sources = Arrays.copyOf(sources, count * 2);
+        }
+        sources[count] = source;
+        inSources[target] = sources;
+        inCounts[target] = count + 1;
+    }
+
+    private void removeIncoming(int target, int source) {
+        int[] sources = inSources[target];
+        int count = inCounts[target];
+        for (int i = 0; i < count; i++) {
+            if (sources[i] == source) {
+                // 与最后一个交换后删除，入边顺序无意义
+                sources[i] = sources[count - 1];
+                inCounts[target] = count - 1;
+                return;
+            }
+        }
+    }
+
+    /**
+     * 查找类ID的编号，不存在时返回-1（调用方需持有锁）
+     */
+    private int find(String classId) {
+        int mask = table.length - 1;
+        int i = mix(classId.hashCode()) & mask;
+        while (true) {
+            int ref = table[i];
+            if (ref == 0) {
+                return -1;
+            }
+            if (classIds[ref - 1].equals(classId)) {
+                return ref - 1;
+            }
+            i = (i + 1) & mask;
+        }
+    }
+
+    /**
+     * 查找类ID的编号，不存在时分配新编号（调用方需持有写锁）
+     */
+    private int slotFor(String classId) {
+        int slot = find(classId);
+        if (slot >= 0) {
+            return slot;
+        }
+        if (size == classIds.length) {
+            grow();
+        }
+        slot = size++;
+        classIds[slot] = classId;
+        insert(classId, slot);
+        return slot;
+    }
+
+    private void insert(String classId, int slot) {
+        int mask = table.length - 1;
+        int i = mix(classId.hashCode()) & mask;
+        while (table[i] != 0) {
+            i = (i + 1) & mask;
+        }
+        table[i] = slot + 1;
+    }
+
+    private void grow() {
+        int capacity = classIds.length * 2;
+        classIds = Arrays.copyOf(classIds, capacity);
+        outTargets = Arrays.copyOf(outTargets, capacity);
+        outProperties = Arrays.copyOf(outProperties, capacity);
+        inSources = Arrays.copyOf(inSources, capacity);
+        inCounts = Arrays.copyOf(inCounts, capacity);
+
+        // 哈希表保持负载因子不超过0.5
+        table = new int[capacity * 2];
+        for (int slot = 0; slot < size; slot++) {
+            insert(classIds[slot], slot);
+        }
+    }
+
+    private static int mix(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+}
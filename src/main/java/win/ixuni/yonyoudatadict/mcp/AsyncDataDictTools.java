@@ -0,0 +1,147 @@
+package win.ixuni.yonyoudatadict.mcp;
+
+
+import io.modelcontextprotocol.server.McpServerFeatures;
+import io.modelcontextprotocol.spec.McpSchema;
+import org.springframework.ai.tool.ToolCallback;
+import org.springframework.ai.tool.definition.ToolDefinition;
+import org.springframework.ai.tool.execution.DefaultToolCallResultConverter;
+import org.springframework.ai.tool.execution.ToolCallResultConverter;
+import reactor.core.publisher.Mono;
+import win.ixuni.yonyoudatadict.metrics.DataDictMetrics;
+import win.ixuni.yonyoudatadict.service.DataDictService;
+import win.ixuni.yonyoudatadict.trace.CallTrace;
+import win.ixuni.yonyoudatadict.trace.CallTracer;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * 以原生异步方式注册的MCP工具
+ * 等待上游下载期间不占用MCP线程；工具调用被取消（客户端断开连接等）时，
+ * 取消会沿着 Mono -> CompletableFuture 传递到尚未开始的上游下载。
+ * 工具名称、描述和参数定义沿用 DataDictService 上的 @Tool 注解，与同步模式保持一致
+ */
+public final class AsyncDataDictTools {
+
+    /**
+     * 以原生异步方式注册的工具名称，同步注册时需要排除
+     */
+    public static final Set<String> TOOL_NAMES = Set.of("getDataDictDetail", "getDataDictDetails");
+
+    // 与同步工具相同的结果转换方式，保证两种模式下的返回内容一致
+    private static final ToolCallResultConverter RESULT_CONVERTER = new DefaultToolCallResultConverter();
+
+    private AsyncDataDictTools() {
+    }
+
+    /**
+     * 创建异步工具规格
+     *
+     * @param dataDictService 数据字典服务
+     * @param callbacks       从 DataDictService 生成的全部工具回调，用于获取工具定义
+     * @param metrics         业务指标
+     * @param tracer          工具调用追踪
+     */
+    public static List<McpServerFeatures.AsyncToolSpecification> create(DataDictService dataDictService,
+                                                                        ToolCallback[] callbacks,
+                                                                        DataDictMetrics metrics,
+                                                                        CallTracer tracer) {
+        List<McpServerFeatures.AsyncToolSpecification> specifications = new ArrayList<>();
+        for (ToolCallback callback : callbacks) {
+            ToolDefinition definition = callback.getToolDefinition();
+            Function<Map<String, Object>, CompletableFuture<String>> handler;
+            switch (definition.name()) {
+                case "getDataDictDetail":
+                    handler = args -> dataDictService.downloadDataDictDetailAsync(
+                            stringArg(args, "classId"), stringArg(args, "fields"), booleanArg(args, "keyOnly"),
+                            booleanArg(args, "notNullOnly"), stringArg(args, "namePattern"), stringArg(args, "format"));
+                    break;
+                case "getDataDictDetails":
+                    handler = args -> dataDictService.downloadDataDictDetailsAsync(
+                            listArg(args, "classIds"), stringArg(args, "fields"), booleanArg(args, "keyOnly"),
+                            booleanArg(args, "notNullOnly"), stringArg(args, "namePattern"));
+                    break;
+                default:
+                    continue;
+            }
+            McpSchema.Tool tool = new McpSchema.Tool(definition.name(), definition.description(),
+                    definition.inputSchema());
+            specifications.add(new McpServerFeatures.AsyncToolSpecification(tool,
+                    (exchange, args) -> call(definition.name(), handler, args, metrics, tracer)));
+        }
+        return specifications;
+    }
+
+    private static Mono<McpSchema.CallToolResult> call(String tool,
+                                                       Function<Map<String, Object>, CompletableFuture<String>> handler,
+                                                       Map<String, Object> args, DataDictMetrics metrics,
+                                                       CallTracer tracer) {
+        return Mono.defer(() -> {
+                    long start = System.nanoTime();
+                    // 发起调用时绑定追踪，之后由线程池任务带上追踪上下文
+                    CallTrace trace = tracer.begin(tool);
+                    CompletableFuture<String> future;
+                    try {
+                        future = handler.apply(args);
+                    } catch (RuntimeException e) {
+                        // 参数错误等同步抛出的异常不会经过下面的 doOnError，在这里记录
+                        metrics.recordToolCall(tool, "ERROR", 0, System.nanoTime() - start);
+                        tracer.finish(trace, "ERROR");
+                        return Mono.error(e);
+                    } finally {
+                        tracer.detach();
+                    }
+                    // suppressCancel=false：订阅被取消时取消 CompletableFuture
+                    return Mono.fromFuture(future, false)
+                            .map(text -> RESULT_CONVERTER.convert(text, String.class))
+                            .doOnNext(result -> {
+                                metrics.recordToolCall(tool, "SUCCESS",
+                                        DataDictMetrics.utf8Length(result), System.nanoTime() - start);
+                                tracer.finish(trace, "SUCCESS");
+                            })
+                            .doOnError(e -> {
+                                metrics.recordToolCall(tool, "ERROR", 0, System.nanoTime() - start);
+                                tracer.finish(trace, "ERROR");
+                            })
+                            .doOnCancel(() -> tracer.finish(trace, "CANCELLED"));
+                })
+                .map(result -> new McpSchema.CallToolResult(List.of(new McpSchema.TextContent(result)), false))
+                .onErrorResume(e -> Mono.just(new McpSchema.CallToolResult(
+                        List.of(new McpSchema.TextContent(e.getMessage())), true)));
+    }
+
+    private static String stringArg(Map<String, Object> args, String name) {
+        Object value = args.get(name);
+        return value != null ? value.toString() : null;
+    }
+
+    private static Boolean booleanArg(Map<String, Object> args, String name) {
+        Object value = args.get(name);
+        if (value instanceof Boolean) {
+            return (Boolean) value;
+        }
+        return value != null ? Boolean.valueOf(value.toString()) : null;
+    }
+
+    private static List<String> listArg(Map<String, Object> args, String name) {
+        Object value = args.get(name);
+        if (value instanceof Collection) {
+            List<String> result = new ArrayList<>();
+            for (Object element : (Collection<?>) value) {
+                if (element != null) {
+                    result.add(element.toString());
+                }
+            }
+            return result;
+        }
+        return value != null ? List.of(value.toString().split(",")) : Collections.emptyList();
+    }
+
+}
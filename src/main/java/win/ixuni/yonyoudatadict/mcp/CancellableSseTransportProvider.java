@@ -0,0 +1,339 @@
+package win.ixuni.yonyoudatadict.mcp;
+
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.modelcontextprotocol.server.transport.HttpServletSseServerTransportProvider;
+import io.modelcontextprotocol.spec.McpSchema;
+import io.modelcontextprotocol.spec.McpServerSession;
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+/**
+ * 基于Servlet异步处理的MCP SSE传输
+ * 在SDK自带实现的基础上做了三处调整：
+ * <ul>
+ *     <li>消息请求不再阻塞Servlet线程等待处理完成，而是挂起请求，处理完成后再返回状态码</li>
+ *     <li>SSE连接断开时，取消该会话中所有进行中的请求（工具调用），并移除会话</li>
+ *     <li>定期向空闲连接写入SSE注释行，及时发现已断开的客户端</li>
+ * </ul>
+ * 空闲的SSE连接只占用一个挂起的异步请求，不占用线程
+ */
+public class CancellableSseTransportProvider extends HttpServletSseServerTransportProvider {
+
+    private static final Logger logger = LoggerFactory.getLogger(CancellableSseTransportProvider.class);
+
+    private final ObjectMapper objectMapper;
+
+    private final String messageEndpoint;
+
+    // 会话ID -> SSE连接
+    private final Map<String, SseConnection> connections = new ConcurrentHashMap<>();
+
+    // 父类在 doGet 中通过会话工厂创建会话，包装后的工厂在同一线程中记录新建的会话
+    private final ThreadLocal<McpServerSession> createdSession = new ThreadLocal<>();
+
+    private final ScheduledExecutorService heartbeatExecutor;
+
+    /**
+     * @param objectMapper     JSON序列化
+     * @param baseUrl          客户端访问消息端点时使用的基础地址
+     * @param messageEndpoint  消息端点
+     * @param sseEndpoint      SSE端点
+     * @param heartbeatSeconds 心跳间隔（秒），小于等于0时不发送心跳
+     */
+    public CancellableSseTransportProvider(ObjectMapper objectMapper, String baseUrl, String messageEndpoint,
+                                           String sseEndpoint, long heartbeatSeconds) {
+        super(objectMapper, baseUrl, messageEndpoint, sseEndpoint);
+        this.objectMapper = objectMapper;
+        this.messageEndpoint = messageEndpoint;
+        if (heartbeatSeconds > 0) {
+            this.heartbeatExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "mcp-sse-heartbeat");
+                thread.setDaemon(true);
+                return thread;
+            });
+            this.heartbeatExecutor.scheduleWithFixedDelay(this::sendHeartbeats,
+                    heartbeatSeconds, heartbeatSeconds, TimeUnit.SECONDS);
+        } else {
+            this.heartbeatExecutor = null;
+        }
+    }
+
+    @Override
+    public void setSessionFactory(McpServerSession.Factory sessionFactory) {
+        super.setSessionFactory(transport -> {
+            McpServerSession session = sessionFactory.create(transport);
+            createdSession.set(session);
+            return session;
+        });
+    }
+
+    @Override
+    protected void doGet(HttpServletRequest request, HttpServletResponse response)
+            throws ServletException, IOException {
+        // 消息端点使用的会话ID由父类生成，只出现在发给客户端的 endpoint 事件中
+        EndpointCapturingResponse capturingResponse = new EndpointCapturingResponse(response);
+        McpServerSession session;
+        try {
+            super.doGet(request, capturingResponse);
+            session = createdSession.get();
+        } finally {
+            createdSession.remove();
+        }
+        String sessionId = capturingResponse.sessionId;
+        if (session == null || sessionId == null || !request.isAsyncStarted()) {
+            return;
+        }
+
+        connections.put(sessionId, new SseConnection(session, capturingResponse.getWriter()));
+        request.getAsyncContext().addListener(new AsyncListener() {
+
+            @Override
+            public void onComplete(AsyncEvent event) {
+                closeConnection(sessionId);
+            }
+
+            @Override
+            public void onTimeout(AsyncEvent event) {
+                closeConnection(sessionId);
+            }
+
+            @Override
+            public void onError(AsyncEvent event) {
+                closeConnection(sessionId);
+            }
+
+            @Override
+            public void onStartAsync(AsyncEvent event) {
+            }
+        });
+    }
+
+    @Override
+    protected void doPost(HttpServletRequest request, HttpServletResponse response)
+            throws ServletException, IOException {
+        String sessionId = request.getParameter("sessionId");
+        SseConnection connection = sessionId != null && request.getRequestURI().endsWith(messageEndpoint)
+                ? connections.get(sessionId) : null;
+        if (connection == null) {
+            // 缺少会话ID、会话不存在或正在关闭等情况沿用父类的处理
+            super.doPost(request, response);
+            return;
+        }
+
+        McpSchema.JSONRPCMessage message;
+        try {
+            String body = request.getReader().lines().collect(Collectors.joining("\n"));
+            message = McpSchema.deserializeJsonRpcMessage(objectMapper, body);
+        } catch (IOException | IllegalArgumentException e) {
+            logger.warn("无法解析MCP消息，sessionId: {}", sessionId, e);
+            response.setContentType("application/json");
+            response.setCharacterEncoding("UTF-8");
+            response.setStatus(HttpServletResponse.SC_BAD_REQUEST);
+            response.getWriter().write(objectMapper.writeValueAsString(
+                    Collections.singletonMap("message", "Invalid message format")));
+            return;
+        }
+
+        // 处理结果通过SSE连接返回，这里只需在处理完成后结束请求；工具调用自身有超时控制，请求不设超时
+        AsyncContext asyncContext = request.startAsync();
+        asyncContext.setTimeout(0);
+        AtomicReference<Disposable> call = new AtomicReference<>();
+        Disposable disposable = connection.session.handle(message)
+                .doFinally(signal -> {
+                    Disposable finished = call.get();
+                    if (finished != null) {
+                        connection.calls.remove(finished);
+                    }
+                    // 被取消时连接通常已经断开，返回状态码只是为了结束挂起的请求
+                    int status = HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
+                    if (signal == SignalType.ON_COMPLETE) {
+                        status = HttpServletResponse.SC_OK;
+                    } else if (signal == SignalType.CANCEL) {
+                        status = HttpServletResponse.SC_SERVICE_UNAVAILABLE;
+                    }
+                    completeRequest(asyncContext, status);
+                })
+                .subscribe(
+                        ignored -> {
+                        },
+                        e -> logger.error("处理MCP消息时出错，sessionId: {}", sessionId, e));
+        call.set(disposable);
+        if (!disposable.isDisposed()) {
+            connection.calls.add(disposable);
+            // 在加入之前已经结束的调用不会再从集合中移除
+            if (disposable.isDisposed()) {
+                connection.calls.remove(disposable);
+            }
+        }
+    }
+
+    @Override
+    public Mono<Void> closeGracefully() {
+        for (SseConnection connection : connections.values()) {
+            connection.calls.dispose();
+        }
+        connections.clear();
+        return super.closeGracefully();
+    }
+
+    @Override
+    public void destroy() {
+        if (heartbeatExecutor != null) {
+            heartbeatExecutor.shutdownNow();
+        }
+        super.destroy();
+    }
+
+    /**
+     * 当前的SSE连接数
+     */
+    public int getConnectionCount() {
+        return connections.size();
+    }
+
+    /**
+     * 当前进行中的请求数
+     */
+    public int getInFlightCallCount() {
+        int count = 0;
+        for (SseConnection connection : connections.values()) {
+            count += connection.calls.size();
+        }
+        return count;
+    }
+
+    /**
+     * SSE连接结束：取消该会话中进行中的请求，并关闭会话
+     * 在异步请求的回调中同步执行，出错时也能在回调返回前结束异步请求
+     */
+    private void closeConnection(String sessionId) {
+        SseConnection connection = connections.remove(sessionId);
+        if (connection == null) {
+            return;
+        }
+        cancelCalls(sessionId, connection);
+        // 从父类的会话表中移除会话
+        connection.session.closeGracefully().subscribe(
+                ignored -> {
+                },
+                e -> logger.debug("关闭MCP会话时出错，sessionId: {}", sessionId, e));
+    }
+
+    private void sendHeartbeats() {
+        for (Map.Entry<String, SseConnection> entry : connections.entrySet()) {
+            PrintWriter writer = entry.getValue().writer;
+            // SSE注释行，客户端会忽略；PrintWriter的每次写入是原子的，夹在事件的两行之间也不影响事件解析
+            writer.write(": ping\n");
+            writer.flush();
+            if (writer.checkError()) {
+                // 先取消进行中的请求；异步请求只能在容器线程中结束，会话由随后的 onError 回调关闭
+                cancelCalls(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    private static void cancelCalls(String sessionId, SseConnection connection) {
+        int inFlight = connection.calls.size();
+        connection.calls.dispose();
+        if (inFlight > 0) {
+            logger.info("MCP客户端已断开，取消 {} 个进行中的请求，sessionId: {}", inFlight, sessionId);
+        }
+    }
+
+    private static void completeRequest(AsyncContext asyncContext, int status) {
+        try {
+            ((HttpServletResponse) asyncContext.getResponse()).setStatus(status);
+            asyncContext.complete();
+        } catch (IllegalStateException e) {
+            // 请求已经结束（例如客户端已断开）
+        }
+    }
+
+    /**
+     * 从父类写出的 endpoint 事件中取得会话ID，其余写入原样转发
+     */
+    private static class EndpointCapturingResponse extends HttpServletResponseWrapper {
+
+        private static final String SESSION_ID_PARAM = "sessionId=";
+
+        private PrintWriter writer;
+
+        private volatile String sessionId;
+
+        EndpointCapturingResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            if (writer == null) {
+                // 外层PrintWriter的 checkError 会检查内层PrintWriter的错误状态
+                writer = new PrintWriter(super.getWriter()) {
+
+                    @Override
+                    public void write(String text) {
+                        if (sessionId == null) {
+                            capture(text);
+                        }
+                        super.write(text);
+                    }
+                };
+            }
+            return writer;
+        }
+
+        private void capture(String text) {
+            int start = text.indexOf(SESSION_ID_PARAM);
+            if (start < 0) {
+                return;
+            }
+            start += SESSION_ID_PARAM.length();
+            int end = start;
+            while (end < text.length() && !Character.isWhitespace(text.charAt(end)) && text.charAt(end) != '&') {
+                end++;
+            }
+            sessionId = text.substring(start, end);
+        }
+
+    }
+
+    private static class SseConnection {
+
+        private final McpServerSession session;
+
+        private final PrintWriter writer;
+
+        // 该会话中进行中的请求
+        private final Disposable.Composite calls = Disposables.composite();
+
+        SseConnection(McpServerSession session, PrintWriter writer) {
+            this.session = session;
+            this.writer = writer;
+        }
+
+    }
+
+}
@@ -0,0 +1,84 @@
+package win.ixuni.yonyoudatadict.mcp;
+
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.modelcontextprotocol.server.McpServerFeatures;
+import org.springframework.ai.mcp.server.autoconfigure.McpServerProperties;
+import org.springframework.ai.tool.ToolCallback;
+import org.springframework.ai.tool.ToolCallbackProvider;
+import org.springframework.ai.tool.method.MethodToolCallbackProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.ServletRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import win.ixuni.yonyoudatadict.config.DataDictConfig;
+import win.ixuni.yonyoudatadict.metrics.DataDictMetrics;
+import win.ixuni.yonyoudatadict.metrics.MeteredToolCallback;
+import win.ixuni.yonyoudatadict.service.DataDictService;
+import win.ixuni.yonyoudatadict.trace.CallTracer;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * MCP服务器配置
+ * <ul>
+ *     <li>spring.ai.mcp.server.type=ASYNC 时，获取详情的工具以原生异步方式注册，其余工具仍由同步方法提供</li>
+ *     <li>未启用STDIO模式时，使用基于Servlet异步处理的SSE传输</li>
+ *     <li>所有工具记录调用耗时、返回内容字节数和调用追踪</li>
+ * </ul>
+ */
+@Configuration
+public class McpServerConfig {
+
+    @Bean
+    public ToolCallbackProvider yonYouDataDictTools(DataDictService dataDictService,
+                                                    McpServerProperties mcpServerProperties,
+                                                    DataDictMetrics metrics, CallTracer tracer) {
+        ToolCallback[] callbacks = Arrays.stream(toolCallbacks(dataDictService))
+                .map(callback -> new MeteredToolCallback(callback, metrics, tracer))
+                .toArray(ToolCallback[]::new);
+        if (mcpServerProperties.getType() != McpServerProperties.ServerType.ASYNC) {
+            return ToolCallbackProvider.from(callbacks);
+        }
+        // 异步模式下由 AsyncDataDictTools 注册的工具不再重复注册
+        return ToolCallbackProvider.from(Arrays.stream(callbacks)
+                .filter(callback -> !AsyncDataDictTools.TOOL_NAMES.contains(callback.getToolDefinition().name()))
+                .toList());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "spring.ai.mcp.server", name = "type", havingValue = "ASYNC")
+    public List<McpServerFeatures.AsyncToolSpecification> yonYouDataDictAsyncTools(DataDictService dataDictService,
+                                                                                   DataDictMetrics metrics,
+                                                                                   CallTracer tracer) {
+        return AsyncDataDictTools.create(dataDictService, toolCallbacks(dataDictService), metrics, tracer);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "spring.ai.mcp.server", name = "stdio", havingValue = "false", matchIfMissing = true)
+    public CancellableSseTransportProvider mcpSseTransportProvider(ObjectMapper objectMapper,
+                                                                   McpServerProperties mcpServerProperties,
+                                                                   DataDictConfig config) {
+        return new CancellableSseTransportProvider(objectMapper, mcpServerProperties.getBaseUrl(),
+                mcpServerProperties.getSseMessageEndpoint(), mcpServerProperties.getSseEndpoint(),
+                config.getMcp().getHeartbeatSeconds());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "spring.ai.mcp.server", name = "stdio", havingValue = "false", matchIfMissing = true)
+    public ServletRegistrationBean<CancellableSseTransportProvider> mcpSseServlet(
+            CancellableSseTransportProvider mcpSseTransportProvider, McpServerProperties mcpServerProperties) {
+        ServletRegistrationBean<CancellableSseTransportProvider> registration = new ServletRegistrationBean<>(
+                mcpSseTransportProvider, mcpServerProperties.getSseEndpoint(),
+                mcpServerProperties.getSseMessageEndpoint());
+        registration.setName("mcpSseServlet");
+        registration.setAsyncSupported(true);
+        return registration;
+    }
+
+    private static ToolCallback[] toolCallbacks(DataDictService dataDictService) {
+        return MethodToolCallbackProvider.builder().toolObjects(dataDictService).build().getToolCallbacks();
+    }
+
+}
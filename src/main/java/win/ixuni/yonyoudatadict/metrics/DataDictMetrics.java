@@ -0,0 +1,292 @@
+package win.ixuni.yonyoudatadict.metrics;
+
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.stereotype.Component;
+import win.ixuni.yonyoudatadict.cache.CacheStatistics;
+import win.ixuni.yonyoudatadict.cache.DetailPrefetcher;
+import win.ixuni.yonyoudatadict.cache.DetailStore;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 数据字典服务的业务指标
+ * <ul>
+ *     <li>datadict.stage：处理流水线各阶段耗时，标签 stage、appCode、adapter</li>
+ *     <li>datadict.upstream.requests / datadict.upstream.active：上游请求耗时（按主机和结果）及进行中的请求数</li>
+ *     <li>cache.gets / cache.evictions / cache.size：各缓存的命中、未命中、淘汰次数和条目数，标签 cache</li>
+ *     <li>datadict.detail.store.*：按内容去重的详情存储的不同内容数、引用数、去重比例和估算内存占用</li>
+ *     <li>datadict.prefetch.*：预取的详情数（按结果）、之后被请求的预取数、因上游繁忙暂缓的次数和待预取数</li>
+ *     <li>datadict.tool.calls / datadict.tool.response：MCP工具调用耗时和返回内容字节数，标签 tool</li>
+ *     <li>executor.*：各工作线程池的线程数、队列长度和完成任务数，标签 name</li>
+ * </ul>
+ */
+@Component
+public class DataDictMetrics {
+
+    /**
+     * 处理流水线阶段
+     */
+    public enum Stage {
+        // 从上游下载原始内容
+        DOWNLOAD,
+        // 版本适配器解析
+        PARSE,
+        // 处理器链处理
+        PROCESS,
+        // 序列化输出
+        SERIALIZE
+    }
+
+    // 返回内容字节数的直方图桶：1KB ~ 4MB
+    private static final double[] RESPONSE_BYTES_BUCKETS = {
+            1024, 4 * 1024, 16 * 1024, 64 * 1024, 256 * 1024, 1024 * 1024, 4 * 1024 * 1024
+    };
+
+    private final MeterRegistry registry;
+
+    // 进行中的上游请求数
+    private final AtomicInteger activeUpstreamRequests = new AtomicInteger();
+
+    // 标签组合 -> 计时器，避免每次记录都构建标签
+    private final Map<String, Timer> stageTimers = new ConcurrentHashMap<>();
+
+    private final Map<String, Timer> upstreamTimers = new ConcurrentHashMap<>();
+
+    private final Map<String, Timer> toolTimers = new ConcurrentHashMap<>();
+
+    private final Map<String, DistributionSummary> toolResponseSummaries = new ConcurrentHashMap<>();
+
+    public DataDictMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        Gauge.builder("datadict.upstream.active", activeUpstreamRequests, AtomicInteger::get)
+                .description("进行中的上游请求数")
+                .register(registry);
+    }
+
+    public MeterRegistry getRegistry() {
+        return registry;
+    }
+
+    /**
+     * 记录处理流水线阶段耗时
+     *
+     * @param stage   阶段
+     * @param appCode 应用代码
+     * @param adapter 版本适配器名称
+     * @param nanos   耗时（纳秒）
+     */
+    public void recordStage(Stage stage, String appCode, String adapter, long nanos) {
+        String stageName = stage.name().toLowerCase();
+        String appCodeTag = appCode != null ? appCode : "";
+        String adapterTag = adapter != null ? adapter : "";
+        stageTimers.computeIfAbsent(stageName + '\u0000' + appCodeTag + '\u0000' + adapterTag,
+                        key -> Timer.builder("datadict.stage")
+                                .description("数据字典处理流水线各阶段耗时")
+                                .tag("stage", stageName)
+                                .tag("appCode", appCodeTag)
+                                .tag("adapter", adapterTag)
+                                .register(registry))
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 开始一次上游请求，返回开始时间，请求结束后调用 {@link #upstreamFinished}
+     */
+    public long upstreamStarted() {
+        activeUpstreamRequests.incrementAndGet();
+        return System.nanoTime();
+    }
+
+    /**
+     * 进行中的上游请求数
+     */
+    public int getActiveUpstreamRequests() {
+        return activeUpstreamRequests.get();
+    }
+
+    /**
+     * 结束一次上游请求
+     *
+     * @param host    上游主机
+     * @param outcome 结果：SUCCESS、EMPTY 或 ERROR
+     * @param start   {@link #upstreamStarted} 返回的开始时间
+     */
+    public void upstreamFinished(String host, String outcome, long start) {
+        activeUpstreamRequests.decrementAndGet();
+        String hostTag = host != null ? host : "";
+        upstreamTimers.computeIfAbsent(hostTag + '\u0000' + outcome,
+                        key -> Timer.builder("datadict.upstream.requests")
+                                .description("上游请求耗时")
+                                .tag("host", hostTag)
+                                .tag("outcome", outcome)
+                                .register(registry))
+                .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 记录一次MCP工具调用
+     *
+     * @param tool          工具名称
+     * @param outcome       结果：SUCCESS 或 ERROR
+     * @param responseBytes 返回内容的UTF-8字节数，出错时忽略
+     * @param nanos         耗时（纳秒）
+     */
+    public void recordToolCall(String tool, String outcome, long responseBytes, long nanos) {
+        toolTimers.computeIfAbsent(tool + '\u0000' + outcome,
+                        key -> Timer.builder("datadict.tool.calls")
+                                .description("MCP工具调用耗时")
+                                .tag("tool", tool)
+                                .tag("outcome", outcome)
+                                .register(registry))
+                .record(nanos, TimeUnit.NANOSECONDS);
+        if (!"SUCCESS".equals(outcome)) {
+            return;
+        }
+        toolResponseSummaries.computeIfAbsent(tool,
+                        key -> DistributionSummary.builder("datadict.tool.response")
+                                .description("MCP工具返回内容字节数")
+                                .baseUnit("bytes")
+                                .tag("tool", tool)
+                                .serviceLevelObjectives(RESPONSE_BYTES_BUCKETS)
+                                .register(registry))
+                .record(responseBytes);
+    }
+
+    /**
+     * 注册缓存的命中、未命中、淘汰次数和条目数
+     *
+     * @param name  缓存名称
+     * @param cache 缓存统计信息
+     */
+    public void bindCache(String name, CacheStatistics cache) {
+        FunctionCounter.builder("cache.gets", cache, CacheStatistics::getHitCount)
+                .description("缓存查询次数")
+                .tag("cache", name)
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("cache.gets", cache, CacheStatistics::getMissCount)
+                .description("缓存查询次数")
+                .tag("cache", name)
+                .tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder("cache.evictions", cache, CacheStatistics::getEvictionCount)
+                .description("缓存淘汰次数")
+                .tag("cache", name)
+                .register(registry);
+        Gauge.builder("cache.size", cache, CacheStatistics::size)
+                .description("缓存条目数")
+                .tag("cache", name)
+                .register(registry);
+    }
+
+    /**
+     * 注册详情存储的去重统计
+     *
+     * @param store 按内容寻址的详情存储
+     */
+    public void bindDetailStore(DetailStore store) {
+        Gauge.builder("datadict.detail.store.distinct", store, DetailStore::getDistinctCount)
+                .description("详情存储中的不同内容数")
+                .register(registry);
+        Gauge.builder("datadict.detail.store.references", store, DetailStore::getReferenceCount)
+                .description("指向共享详情的缓存条目数")
+                .register(registry);
+        Gauge.builder("datadict.detail.store.dedup.ratio", store, DetailStore::getDedupRatio)
+                .description("缓存条目数与不同内容数之比")
+                .register(registry);
+        Gauge.builder("datadict.detail.store.bytes", store, DetailStore::getStoredBytes)
+                .description("详情估算内存占用，logical为各条目分别保存时的占用")
+                .baseUnit("bytes")
+                .tag("kind", "stored")
+                .register(registry);
+        Gauge.builder("datadict.detail.store.bytes", store, DetailStore::getLogicalBytes)
+                .description("详情估算内存占用，logical为各条目分别保存时的占用")
+                .baseUnit("bytes")
+                .tag("kind", "logical")
+                .register(registry);
+        FunctionCounter.builder("datadict.detail.store.interns", store, DetailStore::getSharedCount)
+                .description("写入详情存储的次数，shared为已存在相同内容")
+                .tag("result", "shared")
+                .register(registry);
+        FunctionCounter.builder("datadict.detail.store.interns", store, DetailStore::getAddedCount)
+                .description("写入详情存储的次数，shared为已存在相同内容")
+                .tag("result", "added")
+                .register(registry);
+    }
+
+    /**
+     * 注册详情预取的统计
+     *
+     * @param prefetcher 详情预取
+     */
+    public void bindPrefetcher(DetailPrefetcher prefetcher) {
+        FunctionCounter.builder("datadict.prefetch.requests", prefetcher, DetailPrefetcher::getLoadedCount)
+                .description("预取的详情数，cached为已缓存而跳过")
+                .tag("result", "loaded")
+                .register(registry);
+        FunctionCounter.builder("datadict.prefetch.requests", prefetcher, DetailPrefetcher::getAlreadyCachedCount)
+                .description("预取的详情数，cached为已缓存而跳过")
+                .tag("result", "cached")
+                .register(registry);
+        FunctionCounter.builder("datadict.prefetch.requests", prefetcher, DetailPrefetcher::getFailedCount)
+                .description("预取的详情数，cached为已缓存而跳过")
+                .tag("result", "failed")
+                .register(registry);
+        FunctionCounter.builder("datadict.prefetch.used", prefetcher, DetailPrefetcher::getUsedCount)
+                .description("预取后被请求的详情数")
+                .register(registry);
+        FunctionCounter.builder("datadict.prefetch.deferred", prefetcher, DetailPrefetcher::getDeferredCount)
+                .description("有上游请求进行中而暂缓预取的候选类数")
+                .register(registry);
+        Gauge.builder("datadict.prefetch.pending", prefetcher, DetailPrefetcher::getPendingCount)
+                .description("待预取的候选类数")
+                .register(registry);
+    }
+
+    /**
+     * 注册线程池的线程数、队列长度和完成任务数
+     *
+     * @param name     线程池名称
+     * @param executor 线程池
+     */
+    public void bindExecutor(String name, ExecutorService executor) {
+        new ExecutorServiceMetrics(executor, name, Collections.emptyList()).bindTo(registry);
+    }
+
+    /**
+     * 字符串按UTF-8编码的字节数，不复制字符串
+     */
+    public static long utf8Length(CharSequence text) {
+        if (text == null) {
+            return 0;
+        }
+        long bytes = 0;
+        int length = text.length();
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                bytes++;
+            } else if (c < 0x800) {
+                bytes += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(text.charAt(i + 1))) {
+                bytes += 4;
+                i++;
+            } else {
+                bytes += 3;
+            }
+        }
+        return bytes;
+    }
+
+}
@@ -0,0 +1,63 @@
+package win.ixuni.yonyoudatadict.metrics;
+
+
+import org.springframework.ai.chat.model.ToolContext;
+import org.springframework.ai.tool.ToolCallback;
+import org.springframework.ai.tool.definition.ToolDefinition;
+import org.springframework.ai.tool.metadata.ToolMetadata;
+import win.ixuni.yonyoudatadict.trace.CallTrace;
+import win.ixuni.yonyoudatadict.trace.CallTracer;
+
+/**
+ * 记录调用耗时、返回内容字节数和调用追踪的工具回调
+ */
+public class MeteredToolCallback implements ToolCallback {
+
+    private final ToolCallback delegate;
+
+    private final DataDictMetrics metrics;
+
+    private final CallTracer tracer;
+
+    public MeteredToolCallback(ToolCallback delegate, DataDictMetrics metrics, CallTracer tracer) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+        this.tracer = tracer;
+    }
+
+    @Override
+    public ToolDefinition getToolDefinition() {
+        return delegate.getToolDefinition();
+    }
+
+    @Override
+    public ToolMetadata getToolMetadata() {
+        return delegate.getToolMetadata();
+    }
+
+    @Override
+    public String call(String toolInput) {
+        return call(toolInput, null);
+    }
+
+    @Override
+    public String call(String toolInput, ToolContext toolContext) {
+        String tool = delegate.getToolDefinition().name();
+        long start = System.nanoTime();
+        CallTrace trace = tracer.begin(tool);
+        String outcome = "ERROR";
+        try {
+            String result = toolContext != null ? delegate.call(toolInput, toolContext) : delegate.call(toolInput);
+            outcome = "SUCCESS";
+            metrics.recordToolCall(tool, outcome, DataDictMetrics.utf8Length(result), System.nanoTime() - start);
+            return result;
+        } catch (RuntimeException | Error e) {
+            metrics.recordToolCall(tool, outcome, 0, System.nanoTime() - start);
+            throw e;
+        } finally {
+            tracer.detach();
+            tracer.finish(trace, outcome);
+        }
+    }
+
+}
@@ -0,0 +1,40 @@
+package win.ixuni.yonyoudatadict.metrics;
+
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.jvm.ClassLoaderMetrics;
+import io.micrometer.core.instrument.binder.jvm.JvmGcMetrics;
+import io.micrometer.core.instrument.binder.jvm.JvmMemoryMetrics;
+import io.micrometer.core.instrument.binder.jvm.JvmThreadMetrics;
+import io.micrometer.core.instrument.binder.system.ProcessorMetrics;
+import io.micrometer.core.instrument.binder.system.UptimeMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingClass;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 指标注册表配置
+ * 未引入 spring-boot-starter-actuator 时，由本配置提供内存中的指标注册表并注册JVM指标，
+ * 指标通过 MetricsController 以 /actuator/metrics 和 /actuator/prometheus 查询；
+ * 引入actuator后本配置不生效，改用actuator自动配置的注册表和端点
+ */
+@Configuration
+@ConditionalOnMissingClass("org.springframework.boot.actuate.autoconfigure.metrics.MetricsAutoConfiguration")
+public class MetricsConfig {
+
+    @Bean(destroyMethod = "close")
+    public MeterRegistry meterRegistry() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        MeterBinder[] binders = {
+                new JvmMemoryMetrics(), new JvmGcMetrics(), new JvmThreadMetrics(), new ClassLoaderMetrics(),
+                new ProcessorMetrics(), new UptimeMetrics()
+        };
+        for (MeterBinder binder : binders) {
+            binder.bindTo(registry);
+        }
+        return registry;
+    }
+
+}
@@ -0,0 +1,197 @@
+package win.ixuni.yonyoudatadict.metrics;
+
+
+import io.micrometer.core.instrument.Measurement;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.distribution.CountAtBucket;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 按Prometheus文本格式（0.0.4）输出指标注册表中的全部指标
+ * 命名规则与 micrometer-registry-prometheus 一致：点号换成下划线，计时器以秒为单位并加 _seconds 后缀，
+ * 计数器加 _total 后缀；配置了直方图桶的计时器和分布摘要输出为histogram，否则输出为summary
+ */
+public final class PrometheusTextWriter {
+
+    public static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private PrometheusTextWriter() {
+    }
+
+    /**
+     * 输出指标
+     */
+    public static String write(MeterRegistry registry) {
+        // 指标族名称 -> 指标族，同名的指标需要写在同一个 TYPE 下
+        Map<String, Family> families = new TreeMap<>();
+        for (Meter meter : registry.getMeters()) {
+            Meter.Id id = meter.getId();
+            if (id.syntheticAssociation() != null) {
+                // 直方图桶和百分位数的派生指标，已在所属的计时器或分布摘要中输出
+                continue;
+            }
+            String labels = labels(id);
+            meter.use(
+                    gauge -> family(families, name(id, id.getBaseUnit()), "gauge", id)
+                            .sample("", labels, gauge.value()),
+                    counter -> family(families, name(id, id.getBaseUnit()) + "_total", "counter", id)
+                            .sample("", labels, counter.count()),
+                    timer -> writeDistribution(families, name(id, "seconds"), id, labels,
+                            timer.takeSnapshot(), true),
+                    summary -> writeDistribution(families, name(id, id.getBaseUnit()), id, labels,
+                            summary.takeSnapshot(), false),
+                    longTaskTimer -> {
+                        String name = name(id, "seconds");
+                        family(families, name + "_active_count", "gauge", id)
+                                .sample("", labels, longTaskTimer.activeTasks());
+                        family(families, name + "_duration_sum", "gauge", id)
+                                .sample("", labels, longTaskTimer.duration(TimeUnit.SECONDS));
+                        family(families, name + "_max", "gauge", id)
+                                .sample("", labels, longTaskTimer.max(TimeUnit.SECONDS));
+                    },
+                    timeGauge -> family(families, name(id, "seconds"), "gauge", id)
+                            .sample("", labels, timeGauge.value(TimeUnit.SECONDS)),
+                    functionCounter -> family(families, name(id, id.getBaseUnit()) + "_total", "counter", id)
+                            .sample("", labels, functionCounter.count()),
+                    functionTimer -> {
+                        Family family = family(families, name(id, "seconds"), "summary", id);
+                        family.sample("_count", labels, functionTimer.count());
+                        family.sample("_sum", labels, functionTimer.totalTime(TimeUnit.SECONDS));
+                    },
+                    other -> {
+                        for (Measurement measurement : other.measure()) {
+                            family(families, name(id, null) + "_" + measurement.getStatistic().getTagValueRepresentation(),
+                                    "untyped", id).sample("", labels, measurement.getValue());
+                        }
+                    });
+        }
+
+        StringBuilder out = new StringBuilder(families.size() * 256);
+        for (Map.Entry<String, Family> entry : families.entrySet()) {
+            Family family = entry.getValue();
+            if (family.help != null) {
+                out.append("# HELP ").append(entry.getKey()).append(' ')
+                        .append(family.help.replace("\\", "\\\\").replace("\n", "\\n")).append('\n');
+            }
+            out.append("# TYPE ").append(entry.getKey()).append(' ').append(family.type).append('\n');
+            out.append(family.samples);
+        }
+        return out.toString();
+    }
+
+    private static void writeDistribution(Map<String, Family> families, String name, Meter.Id id, String labels,
+                                          HistogramSnapshot snapshot, boolean time) {
+        CountAtBucket[] buckets = snapshot.histogramCounts();
+        Family family = family(families, name, buckets.length > 0 ? "histogram" : "summary", id);
+        for (CountAtBucket bucket : buckets) {
+            double bound = time ? bucket.bucket(TimeUnit.SECONDS) : bucket.bucket();
+            family.sample("_bucket", appendLabel(labels, "le", formatValue(bound)), bucket.count());
+        }
+        if (buckets.length > 0) {
+            family.sample("_bucket", appendLabel(labels, "le", "+Inf"), snapshot.count());
+        }
+        family.sample("_count", labels, snapshot.count());
+        family.sample("_sum", labels, time ? snapshot.total(TimeUnit.SECONDS) : snapshot.total());
+        family(families, name + "_max", "gauge", id)
+                .sample("", labels, time ? snapshot.max(TimeUnit.SECONDS) : snapshot.max());
+    }
+
+    private static Family family(Map<String, Family> families, String name, String type, Meter.Id id) {
+        Family family = families.get(name);
+        if (family == null) {
+            family = new Family(name, type, id.getDescription());
+            families.put(name, family);
+        }
+        return family;
+    }
+
+    /**
+     * 指标族名称，有单位时加单位后缀
+     */
+    private static String name(Meter.Id id, String baseUnit) {
+        String name = sanitize(id.getName());
+        if (baseUnit != null && !baseUnit.isEmpty()) {
+            String suffix = "_" + sanitize(baseUnit);
+            if (!name.endsWith(suffix)) {
+                name += suffix;
+            }
+        }
+        return name;
+    }
+
+    private static String labels(Meter.Id id) {
+        StringBuilder labels = new StringBuilder();
+        for (Tag tag : id.getTagsAsIterable()) {
+            if (labels.length() > 0) {
+                labels.append(',');
+            }
+            labels.append(sanitize(tag.getKey())).append("=\"").append(escapeLabelValue(tag.getValue())).append('"');
+        }
+        return labels.toString();
+    }
+
+    private static String appendLabel(String labels, String key, String value) {
+        return labels.isEmpty() ? key + "=\"" + value + "\"" : labels + "," + key + "=\"" + value + "\"";
+    }
+
+    private static String sanitize(String name) {
+        StringBuilder result = new StringBuilder(name.length());
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            boolean valid = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '_' || c == ':'
+                    || (i > 0 && c >= '0' && c <= '9');
+            result.append(valid ? c : '_');
+        }
+        return result.toString();
+    }
+
+    private static String escapeLabelValue(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    private static String formatValue(double value) {
+        if (Double.isNaN(value)) {
+            return "NaN";
+        }
+        if (Double.isInfinite(value)) {
+            return value > 0 ? "+Inf" : "-Inf";
+        }
+        if (value == Math.rint(value) && Math.abs(value) < 1e15) {
+            return Long.toString((long) value);
+        }
+        return Double.toString(value);
+    }
+
+    private static class Family {
+
+        private final String name;
+
+        private final String type;
+
+        private final String help;
+
+        private final StringBuilder samples = new StringBuilder();
+
+        Family(String name, String type, String help) {
+            this.name = name;
+            this.type = type;
+            this.help = help;
+        }
+
+        void sample(String suffix, String labels, double value) {
+            samples.append(name).append(suffix);
+            if (!labels.isEmpty()) {
+                samples.append('{').append(labels).append('}');
+            }
+            samples.append(' ').append(formatValue(value)).append('\n');
+        }
+
+    }
+
+}
@@ -2,18 +2,20 @@ package win.ixuni.yonyoudatadict.model;
 
 
 import lombok.AllArgsConstructor;
-import lombok.Data;
-import lombok.NoArgsConstructor;
+import lombok.Builder;
+import lombok.Value;
 
 import java.util.List;
 
 /**
  * 数据字典详情模型
+ * 缓存中的解析结果在各请求和各应用代码间共享，模型不可修改，
+ * 需要改动时通过 {@link #withProperties} 或 toBuilder() 生成新的对象
  */
 
-@Data
+@Value
+@Builder(toBuilder = true)
 @AllArgsConstructor
-@NoArgsConstructor
 public class DataDictDetail {
 
     private String classId;
@@ -28,9 +30,17 @@ public class DataDictDetail {
 
     private List<Property> properties;
 
-    @Data
+    /**
+     * 创建使用新属性列表的浅拷贝，其余字段与当前对象共享。
+     * 缓存中的原始解析结果不可修改，处理器通过它生成视图。
+     */
+    public DataDictDetail withProperties(List<Property> properties) {
+        return new DataDictDetail(classId, fullClassName, displayName, defaultTableName, isPrimary, properties);
+    }
+
+    @Value
+    @Builder(toBuilder = true)
     @AllArgsConstructor
-    @NoArgsConstructor
     public static class Property {
 
         private String name;
@@ -0,0 +1,34 @@
+package win.ixuni.yonyoudatadict.model;
+
+
+/**
+ * 批量获取数据字典详情时单个类ID的结果状态
+ */
+public enum DetailFetchStatus {
+
+    /**
+     * 获取成功
+     */
+    OK,
+
+    /**
+     * 未找到或解析失败
+     */
+    NOT_FOUND,
+
+    /**
+     * 超过批量获取的总超时时间仍未完成，详情会在后台继续下载并写入缓存
+     */
+    TIMEOUT,
+
+    /**
+     * 获取过程中出现异常
+     */
+    ERROR,
+
+    /**
+     * 超过单次批量获取的类ID数量上限，未获取
+     */
+    SKIPPED
+
+}
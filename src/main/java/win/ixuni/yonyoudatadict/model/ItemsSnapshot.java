@@ -0,0 +1,27 @@
+package win.ixuni.yonyoudatadict.model;
+
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 数据字典项列表快照及其版本，二者一起发布，读取方不会拿到另一个列表的版本
+ * 版本为0表示列表未缓存（未启用缓存时每次重新下载），不能用于分页游标和结果缓存
+ */
+@Getter
+@AllArgsConstructor
+public final class ItemsSnapshot {
+
+    // 不可修改的数据字典项列表
+    private final List<DataDictItem> items;
+
+    // 快照版本，每次缓存新的列表时递增，未缓存时为0
+    private final long version;
+
+    public boolean isCached() {
+        return version > 0;
+    }
+
+}
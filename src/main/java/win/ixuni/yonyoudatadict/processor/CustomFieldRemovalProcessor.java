@@ -3,33 +3,53 @@ package win.ixuni.yonyoudatadict.processor;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
 import win.ixuni.yonyoudatadict.config.DataDictConfig;
+import win.ixuni.yonyoudatadict.diagnostics.HotPathLog;
 import win.ixuni.yonyoudatadict.model.DataDictDetail;
+import win.ixuni.yonyoudatadict.model.YonyouVersion;
 
 import java.util.ArrayList;
-import java.util.Iterator;
+import java.util.Collections;
 import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+/**
+ * 自定义字段移除处理器
+ * 移除 def1、vdef10、vfree1 等自定义字段。
+ * 开关在创建时确定，重新加载配置后由处理器链换用新的实例，保证配置键与处理结果一致
+ */
+@Component
+@Order(300)
 public class CustomFieldRemovalProcessor implements DataDictProcessor {
 
     private static final Logger logger = LoggerFactory.getLogger(CustomFieldRemovalProcessor.class);
 
+    // 每个含自定义字段的详情都会输出一次
+    private static final HotPathLog FIELDS_REMOVED = HotPathLog.of(logger, "processor.custom-field-removal");
+
     // 正则表达式匹配以任意字母开头（可选），后跟 "def" 和一个或多个数字的名称
     // 或者以 "vfree" 开头，后跟一个或多个数字的名称
     // 例如: "def1", "vdef10", "customdef123", "vfree1", "vfree10"
     private static final Pattern CUSTOM_FIELD_PATTERN = Pattern.compile("^(?:[a-zA-Z]*def\\d+|vfree\\d+)$");
 
-    private final DataDictConfig config;
+    private final boolean enabled;
 
+    @Autowired
     public CustomFieldRemovalProcessor(DataDictConfig config) {
-        this.config = config;
+        this(isEnabled(config));
+    }
+
+    private CustomFieldRemovalProcessor(boolean enabled) {
+        this.enabled = enabled;
     }
 
     @Override
-    public DataDictDetail process(DataDictDetail detail) {
-        if (config.getCustomFieldRemoval() == null || !config.getCustomFieldRemoval().isEnabled()) {
+    public DataDictDetail process(DataDictDetail detail, YonyouVersion version) {
+        if (!enabled) {
             return detail; // 如果配置不存在或未启用，则不执行任何操作
         }
 
@@ -38,25 +58,43 @@ public class CustomFieldRemovalProcessor implements DataDictProcessor {
         }
 
         List<String> removedFieldNames = new ArrayList<>();
-        Iterator<DataDictDetail.Property> iterator = detail.getProperties().iterator();
+        List<DataDictDetail.Property> keptProperties = new ArrayList<>(detail.getProperties().size());
 
-        while (iterator.hasNext()) {
-            DataDictDetail.Property property = iterator.next();
+        for (DataDictDetail.Property property : detail.getProperties()) {
             if (property.getName() != null) {
                 Matcher matcher = CUSTOM_FIELD_PATTERN.matcher(property.getName());
                 if (matcher.matches()) {
                     removedFieldNames.add(property.getName() + " (" + property.getDisplayName() + ")");
-                    iterator.remove();
+                    continue;
                 }
             }
+            keptProperties.add(property);
         }
 
-        if (!removedFieldNames.isEmpty()) {
-            logger.info("在数据字典 '{}' (Class ID: {}) 中移除了以下自定义字段: {}",
-                    detail.getDisplayName(), detail.getClassId(), String.join(", ", removedFieldNames));
+        if (removedFieldNames.isEmpty()) {
+            return detail;
         }
 
-        return detail;
+        FIELDS_REMOVED.record("在数据字典 '{}' (Class ID: {}) 中移除了以下自定义字段: {}",
+                detail.getDisplayName(), detail.getClassId(), String.join(", ", removedFieldNames));
+
+        // 不修改传入的详情，返回新的视图
+        return detail.withProperties(Collections.unmodifiableList(keptProperties));
+    }
+
+    @Override
+    public String getConfigKey() {
+        // 开关状态不同，处理结果不同，切换开关无需清空缓存
+        return getClass().getSimpleName() + ":" + enabled;
+    }
+
+    @Override
+    public DataDictProcessor reconfigure(DataDictConfig config) {
+        return isEnabled(config) == enabled ? this : new CustomFieldRemovalProcessor(isEnabled(config));
+    }
+
+    private static boolean isEnabled(DataDictConfig config) {
+        return config.getCustomFieldRemoval() != null && config.getCustomFieldRemoval().isEnabled();
     }
 
 }
@@ -1,18 +1,50 @@
 package win.ixuni.yonyoudatadict.processor;
 
+import win.ixuni.yonyoudatadict.config.DataDictConfig;
 import win.ixuni.yonyoudatadict.model.DataDictDetail;
+import win.ixuni.yonyoudatadict.model.YonyouVersion;
 
 /**
  * 数据字典处理器接口
  * 用于链式处理数据字典详情
+ * <p>
+ * 传入的详情可能是缓存中共享的原始解析结果，模型本身不可修改，
+ * 需要改动时通过 {@link DataDictDetail#withProperties} 和 toBuilder() 生成新的视图
  */
 public interface DataDictProcessor {
     
     /**
-     * 处理数据字典详情
-     * 
-     * @param detail 数据字典详情
+     * 按指定版本处理数据字典详情，版本由处理器链在编译时确定
+     *
+     * @param detail  数据字典详情
+     * @param version 当前用友版本
      * @return 处理后的数据字典详情，如果返回null则中断链式处理
      */
-    DataDictDetail process(DataDictDetail detail);
+    DataDictDetail process(DataDictDetail detail, YonyouVersion version);
+
+    /**
+     * 是否需要在指定版本的处理器链中执行，不需要的处理器在编译处理器链时即被排除
+     */
+    default boolean supports(YonyouVersion version) {
+        return true;
+    }
+
+    /**
+     * 处理器配置键，配置不同会产生不同处理结果时，键也必须不同。
+     * 处理结果按处理器链中所有处理器的配置键缓存
+     */
+    default String getConfigKey() {
+        return getClass().getSimpleName();
+    }
+
+    /**
+     * 按重新加载的配置生成处理器，配置无变化时返回自身。
+     * 处理器链重新编译时使用返回的处理器，正在执行的处理仍使用原处理器，因此不得修改自身状态
+     *
+     * @param config 重新加载的配置
+     * @return 使用新配置的处理器
+     */
+    default DataDictProcessor reconfigure(DataDictConfig config) {
+        return this;
+    }
 }
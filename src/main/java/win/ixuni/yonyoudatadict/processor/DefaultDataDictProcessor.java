@@ -2,19 +2,28 @@ package win.ixuni.yonyoudatadict.processor;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import win.ixuni.yonyoudatadict.diagnostics.HotPathLog;
 import win.ixuni.yonyoudatadict.model.DataDictDetail;
+import win.ixuni.yonyoudatadict.model.YonyouVersion;
 
 /**
  * 默认数据字典处理器
  * 不做任何修改，仅记录日志
  */
+@Component
+@Order(100)
 public class DefaultDataDictProcessor implements DataDictProcessor {
     
     private static final Logger logger = LoggerFactory.getLogger(DefaultDataDictProcessor.class);
+
+    // 处理器链对每个详情都会调用
+    private static final HotPathLog DETAIL_PROCESSED = HotPathLog.of(logger, "processor.default");
     
     @Override
-    public DataDictDetail process(DataDictDetail detail) {
-        logger.info("处理数据字典详情: {}", detail.getDisplayName());
+    public DataDictDetail process(DataDictDetail detail, YonyouVersion version) {
+        DETAIL_PROCESSED.record("处理数据字典详情: {}", detail.getDisplayName());
         return detail;
     }
 }
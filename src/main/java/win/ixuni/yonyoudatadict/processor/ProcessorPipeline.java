@@ -0,0 +1,300 @@
+package win.ixuni.yonyoudatadict.processor;
+
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import win.ixuni.yonyoudatadict.config.DataDictConfig;
+import win.ixuni.yonyoudatadict.model.DataDictDetail;
+import win.ixuni.yonyoudatadict.model.YonyouVersion;
+import win.ixuni.yonyoudatadict.trace.TraceContext;
+import win.ixuni.yonyoudatadict.trace.TraceSpan;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 数据字典处理器链
+ * 由按 {@link org.springframework.core.annotation.Order} 排序的处理器Bean组装，
+ * 启动时为每个用友版本编译成不可变的阶段数组；注册、清除处理器或重新加载配置时重新编译并整体发布（写时复制），
+ * 正在执行的处理不受影响。每个阶段单独记录耗时和丢弃率。
+ * 编译结果 {@link Chain} 也可由调用方持有，与其他状态一起原子发布
+ */
+@Component
+public class ProcessorPipeline {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProcessorPipeline.class);
+
+    // 默认处理器，清除处理器时保留
+    private final DataDictProcessor defaultProcessor;
+
+    // 当前发布的编译结果
+    private volatile Chain compiled;
+
+    public ProcessorPipeline(List<DataDictProcessor> processors, DefaultDataDictProcessor defaultProcessor) {
+        this.defaultProcessor = defaultProcessor;
+        this.compiled = compile(processors, Collections.emptyMap());
+        logger.info("处理器链已编译: {}", describe(compiled.processors));
+    }
+
+    /**
+     * 使用指定版本的处理器链处理数据字典详情
+     *
+     * @param detail   原始解析结果
+     * @param version  用友版本
+     * @param excluded 本次需要跳过的处理器类型
+     * @return 处理后的数据字典详情，某个阶段返回null时返回null
+     */
+    public DataDictDetail process(DataDictDetail detail, YonyouVersion version,
+                                  Set<Class<? extends DataDictProcessor>> excluded) {
+        return compiled.process(detail, version, excluded);
+    }
+
+    /**
+     * 处理器链配置键，由版本和每个参与处理的处理器的配置键组成，用于缓存处理结果
+     */
+    public String getConfigKey(YonyouVersion version, Set<Class<? extends DataDictProcessor>> excluded) {
+        return compiled.getConfigKey(version, excluded);
+    }
+
+    /**
+     * 获取当前发布的编译结果
+     */
+    public Chain getChain() {
+        return compiled;
+    }
+
+    /**
+     * 注册处理器，追加到处理器链末尾
+     *
+     * @return 重新编译后的处理器链
+     */
+    public synchronized Chain register(DataDictProcessor processor) {
+        if (processor == null) {
+            return compiled;
+        }
+        List<DataDictProcessor> processors = new ArrayList<>(compiled.processors);
+        processors.add(processor);
+        compiled = compile(processors, compiled.stats);
+        logger.info("处理器链已重新编译: {}", describe(processors));
+        return compiled;
+    }
+
+    /**
+     * 清除所有处理器，只保留默认处理器
+     *
+     * @return 重新编译后的处理器链
+     */
+    public synchronized Chain clear() {
+        compiled = compile(List.of(defaultProcessor), compiled.stats);
+        logger.info("处理器链已重置为默认处理器");
+        return compiled;
+    }
+
+    /**
+     * 按重新加载的配置重新编译处理器链，配置有变化的处理器换用新的实例并沿用原有统计数据
+     *
+     * @param config 重新加载的配置
+     * @return 重新编译后的处理器链
+     */
+    public synchronized Chain reconfigure(DataDictConfig config) {
+        List<DataDictProcessor> processors = new ArrayList<>();
+        Map<DataDictProcessor, StageStats> stats = new LinkedHashMap<>();
+        boolean changed = false;
+        for (DataDictProcessor processor : compiled.processors) {
+            DataDictProcessor reconfigured = processor.reconfigure(config);
+            changed |= reconfigured != processor;
+            processors.add(reconfigured);
+            stats.put(reconfigured, compiled.stats.get(processor));
+        }
+        if (changed) {
+            compiled = compile(processors, stats);
+            logger.info("处理器链已按新配置重新编译: {}", describe(processors));
+        }
+        return compiled;
+    }
+
+    /**
+     * 获取当前处理器链中的所有处理器
+     */
+    public List<DataDictProcessor> getProcessors() {
+        return compiled.processors;
+    }
+
+    /**
+     * 获取每个阶段的统计信息
+     */
+    public List<Map<String, Object>> getStageStats() {
+        List<Map<String, Object>> result = new ArrayList<>();
+        for (DataDictProcessor processor : compiled.processors) {
+            StageStats stats = compiled.stats.get(processor);
+            result.add(stats.toMap(processor));
+        }
+        return result;
+    }
+
+    private static Chain compile(List<DataDictProcessor> processors, Map<DataDictProcessor, StageStats> previousStats) {
+        // 已存在的处理器沿用原有统计数据
+        Map<DataDictProcessor, StageStats> stats = new LinkedHashMap<>();
+        for (DataDictProcessor processor : processors) {
+            stats.put(processor, previousStats.getOrDefault(processor, new StageStats()));
+        }
+
+        Map<YonyouVersion, Stage[]> stagesByVersion = new EnumMap<>(YonyouVersion.class);
+        for (YonyouVersion version : YonyouVersion.values()) {
+            List<Stage> stages = new ArrayList<>();
+            for (DataDictProcessor processor : processors) {
+                if (processor.supports(version)) {
+                    stages.add(new Stage(processor, stats.get(processor)));
+                }
+            }
+            stagesByVersion.put(version, stages.toArray(new Stage[0]));
+        }
+        return new Chain(List.copyOf(processors), stagesByVersion, Collections.unmodifiableMap(stats));
+    }
+
+    private static String describe(List<DataDictProcessor> processors) {
+        List<String> names = new ArrayList<>();
+        for (DataDictProcessor processor : processors) {
+            names.add(processor.getClass().getSimpleName());
+        }
+        return String.join(" -> ", names);
+    }
+
+    /**
+     * 编译结果，创建后不再修改
+     */
+    public static final class Chain {
+
+        private final List<DataDictProcessor> processors;
+
+        private final Map<YonyouVersion, Stage[]> stagesByVersion;
+
+        private final Map<DataDictProcessor, StageStats> stats;
+
+        private Chain(List<DataDictProcessor> processors, Map<YonyouVersion, Stage[]> stagesByVersion,
+                      Map<DataDictProcessor, StageStats> stats) {
+            this.processors = processors;
+            this.stagesByVersion = stagesByVersion;
+            this.stats = stats;
+        }
+
+        /**
+         * 使用本处理器链处理数据字典详情，参见 {@link ProcessorPipeline#process}
+         */
+        public DataDictDetail process(DataDictDetail detail, YonyouVersion version,
+                                      Set<Class<? extends DataDictProcessor>> excluded) {
+            for (Stage stage : stagesFor(version)) {
+                if (excluded.contains(stage.processor.getClass())) {
+                    continue;
+                }
+                detail = stage.apply(detail, version);
+                if (detail == null) {
+                    break;
+                }
+            }
+            return detail;
+        }
+
+        /**
+         * 本处理器链的配置键，参见 {@link ProcessorPipeline#getConfigKey}
+         */
+        public String getConfigKey(YonyouVersion version, Set<Class<? extends DataDictProcessor>> excluded) {
+            StringBuilder key = new StringBuilder(version.getCode());
+            for (Stage stage : stagesFor(version)) {
+                if (!excluded.contains(stage.processor.getClass())) {
+                    key.append('|').append(stage.processor.getConfigKey());
+                }
+            }
+            return key.toString();
+        }
+
+        private Stage[] stagesFor(YonyouVersion version) {
+            return stagesByVersion.get(version);
+        }
+    }
+
+    /**
+     * 处理器链中的一个阶段
+     */
+    private static final class Stage {
+
+        private final DataDictProcessor processor;
+
+        private final StageStats stats;
+
+        private Stage(DataDictProcessor processor, StageStats stats) {
+            this.processor = processor;
+            this.stats = stats;
+        }
+
+        private DataDictDetail apply(DataDictDetail detail, YonyouVersion version) {
+            int before = propertyCount(detail);
+            long start = System.nanoTime();
+            DataDictDetail result;
+            try (TraceSpan span = TraceContext.span("processor", processor.getClass().getSimpleName())) {
+                result = processor.process(detail, version);
+            }
+            stats.record(System.nanoTime() - start, before, result);
+            return result;
+        }
+    }
+
+    /**
+     * 阶段统计：调用次数、耗时、中断处理链的次数以及移除的属性数量
+     */
+    private static final class StageStats {
+
+        private final LongAdder invocations = new LongAdder();
+
+        private final LongAdder totalNanos = new LongAdder();
+
+        private final AtomicLong maxNanos = new AtomicLong();
+
+        // 返回null中断处理链的次数
+        private final LongAdder dropped = new LongAdder();
+
+        // 输入属性总数和被移除的属性总数
+        private final LongAdder propertiesIn = new LongAdder();
+
+        private final LongAdder propertiesRemoved = new LongAdder();
+
+        private void record(long nanos, int propertiesBefore, DataDictDetail result) {
+            invocations.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulateAndGet(nanos, Math::max);
+            propertiesIn.add(propertiesBefore);
+            if (result == null) {
+                dropped.increment();
+            } else {
+                propertiesRemoved.add(Math.max(0, propertiesBefore - propertyCount(result)));
+            }
+        }
+
+        private Map<String, Object> toMap(DataDictProcessor processor) {
+            long count = invocations.sum();
+            long in = propertiesIn.sum();
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("processor", processor.getClass().getSimpleName());
+            map.put("configKey", processor.getConfigKey());
+            map.put("invocations", count);
+            map.put("avgMillis", count == 0 ? 0.0 : totalNanos.sum() / 1_000_000.0 / count);
+            map.put("maxMillis", maxNanos.get() / 1_000_000.0);
+            map.put("dropRate", count == 0 ? 0.0 : (double) dropped.sum() / count);
+            map.put("propertyRemovalRate", in == 0 ? 0.0 : (double) propertiesRemoved.sum() / in);
+            return map;
+        }
+    }
+
+    private static int propertyCount(DataDictDetail detail) {
+        return detail == null || detail.getProperties() == null ? 0 : detail.getProperties().size();
+    }
+
+}
@@ -3,22 +3,36 @@ package win.ixuni.yonyoudatadict.processor;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
 import win.ixuni.yonyoudatadict.model.DataDictDetail;
 import win.ixuni.yonyoudatadict.model.YonyouVersion;
 import win.ixuni.yonyoudatadict.util.DataDictDownloader;
+import win.ixuni.yonyoudatadict.util.RefIdExtractor;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * 引用类路径处理器 - 版本感知
  */
+@Component
+@Order(200)
 public class RefClassPathHrefProcessor extends VersionAwareProcessor {
 
     private static final Logger logger = LoggerFactory.getLogger(RefClassPathHrefProcessor.class);
 
-    // 高级版：正则表达式用于匹配 onClick=loadDataDict("ID");>名称</a> 格式的字符串
-    private static final Pattern REF_CLASS_PATH_PATTERN = Pattern.compile("onClick=loadDataDict\\(\"([^\"]+)\"\\);>([^<]+)</a>");
+    // 下载器依赖本处理器所在的处理器链，延迟获取以避免循环依赖
+    private final ObjectProvider<DataDictDownloader> downloaderProvider;
+
+    public RefClassPathHrefProcessor(ObjectProvider<DataDictDownloader> downloaderProvider) {
+        this.downloaderProvider = downloaderProvider;
+    }
 
     @Override
     protected DataDictDetail processForVersion(DataDictDetail detail, YonyouVersion version) {
@@ -42,48 +56,54 @@ public class RefClassPathHrefProcessor extends VersionAwareProcessor {
     }
 
     /**
-     * 根据类ID获取全类名
+     * 批量解析类ID对应的全类名
+     * 先收集所有不重复的引用类ID，再通过下载器一次性并发解析
      */
-    private String getFullClassNameById(String classId) {
+    private Map<String, String> resolveFullClassNames(Set<String> classIds) {
+        if (classIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
         try {
-            DataDictDownloader downloader = DataDictDownloader.getInstance();
+            DataDictDownloader downloader = downloaderProvider.getIfAvailable();
             if (downloader != null) {
-                // 使用 false 参数避免应用处理器链，防止死循环
-                DataDictDetail refDetail = downloader.downloadDataDictDetail(classId, false);
-                if (refDetail != null) {
-                    String fullClassName = refDetail.getFullClassName();
-                    if (fullClassName != null && !fullClassName.isEmpty()) {
-                        return fullClassName;
-                    }
-                    // 如果没有fullClassName，使用displayName
-                    String displayName = refDetail.getDisplayName();
-                    if (displayName != null && !displayName.isEmpty()) {
-                        return displayName;
-                    }
-                }
+                return downloader.resolveClassNames(classIds);
             }
         } catch (Exception e) {
-            logger.warn("获取类ID为 {} 的全类名时出错: {}", classId, e.getMessage());
+            logger.warn("批量获取引用类全类名时出错: {}", e.getMessage());
         }
-        return "未知";
+        return Collections.emptyMap();
+    }
+
+    private static String formatRef(String id, Map<String, String> fullClassNames) {
+        return "引用的类id:" + id + ";全类名:" + fullClassNames.getOrDefault(id, "未知");
     }
 
     /**
      * 处理YonBIP高级版的引用类路径
      */
     private DataDictDetail processAdvancedVersion(DataDictDetail detail) {
+        Set<String> refIds = new LinkedHashSet<>();
         for (DataDictDetail.Property property : detail.getProperties()) {
-            String refClassPathHref = property.getRefClassPathHref();
-            if (refClassPathHref != null && !refClassPathHref.isEmpty()) {
-                Matcher matcher = REF_CLASS_PATH_PATTERN.matcher(refClassPathHref);
-                if (matcher.find()) {
-                    String id = matcher.group(1);
-                    String fullClassName = getFullClassNameById(id);
-                    property.setRefClassPathHref("引用的类id:" + id + ";全类名:" + fullClassName);
-                }
+            String id = RefIdExtractor.extractAdvancedRefId(property.getRefClassPathHref());
+            if (id != null) {
+                refIds.add(id);
             }
         }
-        return detail;
+
+        if (refIds.isEmpty()) {
+            return detail;
+        }
+
+        Map<String, String> fullClassNames = resolveFullClassNames(refIds);
+        List<DataDictDetail.Property> properties = new ArrayList<>(detail.getProperties().size());
+        for (DataDictDetail.Property property : detail.getProperties()) {
+            String id = RefIdExtractor.extractAdvancedRefId(property.getRefClassPathHref());
+            if (id != null) {
+                property = property.toBuilder().refClassPathHref(formatRef(id, fullClassNames)).build();
+            }
+            properties.add(property);
+        }
+        return detail.withProperties(Collections.unmodifiableList(properties));
     }
 
     /**
@@ -91,34 +111,36 @@ public class RefClassPathHrefProcessor extends VersionAwareProcessor {
      * 旗舰版可能没有refClassPathHref字段，或者格式不同
      */
     private DataDictDetail processFlagshipVersion(DataDictDetail detail) {
+        Set<String> refIds = new LinkedHashSet<>();
         for (DataDictDetail.Property property : detail.getProperties()) {
-            String refClassPathHref = property.getRefClassPathHref();
-
-            // 旗舰版可能使用不同的字段或格式
-            if (refClassPathHref != null && !refClassPathHref.isEmpty()) {
-                // 如果是数字ID格式（旗舰版常用格式）
-                if (refClassPathHref.matches("\\d+")) {
-                    String fullClassName = getFullClassNameById(refClassPathHref);
-                    property.setRefClassPathHref("引用的类id:" + refClassPathHref + ";全类名:" + fullClassName);
-                } else {
-                    // 尝试高级版的解析方式
-                    Matcher matcher = REF_CLASS_PATH_PATTERN.matcher(refClassPathHref);
-                    if (matcher.find()) {
-                        String id = matcher.group(1);
-                        String fullClassName = getFullClassNameById(id);
-                        property.setRefClassPathHref("引用的类id:" + id + ";全类名:" + fullClassName);
-                    }
-                }
+            String id = RefIdExtractor.extractFlagshipRefId(property.getRefClassPathHref());
+            if (id != null) {
+                refIds.add(id);
             }
+        }
 
-            // 旗舰版特殊处理：检查dataScope字段中的模块信息
+        Map<String, String> fullClassNames = resolveFullClassNames(refIds);
+        List<DataDictDetail.Property> properties = new ArrayList<>(detail.getProperties().size());
+        for (DataDictDetail.Property property : detail.getProperties()) {
+            // 旗舰版可能使用不同的字段或格式
+            String id = RefIdExtractor.extractFlagshipRefId(property.getRefClassPathHref());
             String dataScope = property.getDataScope();
-            if (dataScope != null && !dataScope.isEmpty() && !"md".equals(dataScope)) {
-                // 如果dataScope不是md（元数据），可能包含有用的引用信息
-                property.setDataScope(dataScope + " (模块类型)");
+            // 旗舰版特殊处理：dataScope不是md（元数据）时，可能包含有用的引用信息
+            boolean moduleScope = dataScope != null && !dataScope.isEmpty() && !"md".equals(dataScope);
+
+            if (id != null || moduleScope) {
+                DataDictDetail.Property.PropertyBuilder builder = property.toBuilder();
+                if (id != null) {
+                    builder.refClassPathHref(formatRef(id, fullClassNames));
+                }
+                if (moduleScope) {
+                    builder.dataScope(dataScope + " (模块类型)");
+                }
+                property = builder.build();
             }
+            properties.add(property);
         }
-        return detail;
+        return detail.withProperties(Collections.unmodifiableList(properties));
     }
 
     /**
@@ -133,6 +155,7 @@ public class RefClassPathHrefProcessor extends VersionAwareProcessor {
      * 处理NCCloud版本的引用类路径
      */
     private DataDictDetail processNCCloudVersion(DataDictDetail detail) {
+        List<DataDictDetail.Property> properties = new ArrayList<>(detail.getProperties().size());
         for (DataDictDetail.Property property : detail.getProperties()) {
             String refClassPathHref = property.getRefClassPathHref();
 
@@ -145,7 +168,9 @@ public class RefClassPathHrefProcessor extends VersionAwareProcessor {
                             refClassPathHref.lastIndexOf(")")
                     ).trim();
                     String description = refClassPathHref.substring(0, refClassPathHref.indexOf("(")).trim();
-                    property.setRefClassPathHref("引用类型:" + refType + ";描述:" + description);
+                    property = property.toBuilder()
+                            .refClassPathHref("引用类型:" + refType + ";描述:" + description)
+                            .build();
                 }
             }
 
@@ -155,7 +180,8 @@ public class RefClassPathHrefProcessor extends VersionAwareProcessor {
                 // 保持枚举值信息不变，这是NCCloud的特色功能
                 // 枚举值已经在适配器中处理好了
             }
+            properties.add(property);
         }
-        return detail;
+        return detail.withProperties(Collections.unmodifiableList(properties));
     }
 }
@@ -0,0 +1,67 @@
+package win.ixuni.yonyoudatadict.processor;
+
+/**
+ * 当前线程生成的处理结果是否完整
+ * 处理器依赖的外部信息（如引用类的全类名）因超时或失败未能取得时记为不完整，
+ * 不完整的结果只用于本次响应，不应写入视图缓存或响应缓存，以免暂时的失败在内容版本不变时长期有效。
+ * 跟踪范围可以嵌套，内层范围中的不完整标记在关闭时同时记入外层范围
+ */
+public final class ViewCompleteness {
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    private ViewCompleteness() {
+    }
+
+    /**
+     * 在当前线程开始一个跟踪范围，使用后需关闭
+     */
+    public static Scope track() {
+        Scope scope = new Scope(CURRENT.get());
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    /**
+     * 将当前跟踪范围标记为不完整，没有跟踪范围时忽略
+     */
+    public static void markIncomplete() {
+        Scope scope = CURRENT.get();
+        if (scope != null) {
+            scope.incomplete = true;
+        }
+    }
+
+    /**
+     * 跟踪范围
+     */
+    public static final class Scope implements AutoCloseable {
+
+        private final Scope previous;
+
+        private boolean incomplete;
+
+        private Scope(Scope previous) {
+            this.previous = previous;
+        }
+
+        /**
+         * 范围内生成的结果是否完整
+         */
+        public boolean isComplete() {
+            return !incomplete;
+        }
+
+        @Override
+        public void close() {
+            if (previous != null) {
+                previous.incomplete |= incomplete;
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,105 @@
+package win.ixuni.yonyoudatadict.serializer;
+
+
+import com.alibaba.fastjson2.JSONWriter;
+import win.ixuni.yonyoudatadict.model.DataDictDetail;
+
+/**
+ * 数据字典详情的流式JSON输出
+ * 按属性投影直接写出JSON，字段名与默认序列化一致，空值省略
+ */
+public final class DetailJsonWriter {
+
+    private DetailJsonWriter() {
+    }
+
+    /**
+     * 按投影输出数据字典详情
+     *
+     * @param detail     数据字典详情，为null时输出 null
+     * @param projection 属性投影
+     * @return JSON字符串
+     */
+    public static String write(DataDictDetail detail, PropertyProjection projection) {
+        try (JSONWriter writer = JSONWriter.of()) {
+            write(writer, detail, projection);
+            return writer.toString();
+        }
+    }
+
+    /**
+     * 按投影将数据字典详情写入JSONWriter
+     */
+    public static void write(JSONWriter writer, DataDictDetail detail, PropertyProjection projection) {
+        if (detail == null) {
+            writer.writeNull();
+            return;
+        }
+
+        writer.startObject();
+        writeHeader(writer, detail);
+
+        if (detail.getProperties() != null) {
+            if (projection.isFiltering()) {
+                // 过滤属性时附带属性总数，便于判断结果是否完整
+                writer.writeName("totalProperties");
+                writer.writeColon();
+                writer.writeInt32(detail.getProperties().size());
+            }
+
+            writer.writeName("properties");
+            writer.writeColon();
+            writer.startArray();
+            boolean first = true;
+            for (DataDictDetail.Property property : detail.getProperties()) {
+                if (!projection.accept(property)) {
+                    continue;
+                }
+                if (!first) {
+                    writer.writeComma();
+                }
+                first = false;
+                writeProperty(writer, property, projection);
+            }
+            writer.endArray();
+        }
+
+        writer.endObject();
+    }
+
+    /**
+     * 输出类级别的字段
+     */
+    static void writeHeader(JSONWriter writer, DataDictDetail detail) {
+        writeField(writer, "classId", detail.getClassId());
+        writeField(writer, "fullClassName", detail.getFullClassName());
+        writeField(writer, "displayName", detail.getDisplayName());
+        writeField(writer, "defaultTableName", detail.getDefaultTableName());
+        writeField(writer, "primary", detail.isPrimary());
+    }
+
+    private static void writeProperty(JSONWriter writer, DataDictDetail.Property property, PropertyProjection projection) {
+        writer.startObject();
+        for (PropertyField field : projection.getFields()) {
+            writeField(writer, field.getJsonName(), field.get(property));
+        }
+        writer.endObject();
+    }
+
+    /**
+     * 输出一个字段，空值省略
+     */
+    public static void writeField(JSONWriter writer, String name, Object value) {
+        if (value == null) {
+            return;
+        }
+        writer.writeName(name);
+        writer.writeColon();
+        if (value instanceof Boolean) {
+            writer.writeBool((Boolean) value);
+        } else {
+            writer.writeString(value.toString());
+        }
+    }
+
+}
@@ -0,0 +1,196 @@
+package win.ixuni.yonyoudatadict.serializer;
+
+
+import com.alibaba.fastjson2.JSONWriter;
+import win.ixuni.yonyoudatadict.model.DataDictDetail;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 数据字典详情的表格形式输出
+ * 属性列表输出为一次列头加若干位置行，避免每一行重复字段名：
+ * 所有行都为空值或false的列不输出，行尾的空值省略，布尔值输出为1/0
+ */
+public final class DetailTableWriter {
+
+    private DetailTableWriter() {
+    }
+
+    /**
+     * 输出为紧凑JSON：{类信息..., "columns":[...], "rows":[[...], ...]}
+     */
+    public static String writeJson(DataDictDetail detail, PropertyProjection projection) {
+        try (JSONWriter writer = JSONWriter.of()) {
+            if (detail == null) {
+                writer.writeNull();
+                return writer.toString();
+            }
+
+            List<PropertyField> columns = effectiveColumns(detail, projection);
+
+            writer.startObject();
+            DetailJsonWriter.writeHeader(writer, detail);
+            if (detail.getProperties() != null) {
+                if (projection.isFiltering()) {
+                    writer.writeName("totalProperties");
+                    writer.writeColon();
+                    writer.writeInt32(detail.getProperties().size());
+                }
+
+                writer.writeName("columns");
+                writer.writeColon();
+                writer.startArray();
+                for (int i = 0; i < columns.size(); i++) {
+                    if (i > 0) {
+                        writer.writeComma();
+                    }
+                    writer.writeString(columns.get(i).getJsonName());
+                }
+                writer.endArray();
+
+                writer.writeName("rows");
+                writer.writeColon();
+                writer.startArray();
+                boolean firstRow = true;
+                for (DataDictDetail.Property property : detail.getProperties()) {
+                    if (!projection.accept(property)) {
+                        continue;
+                    }
+                    if (!firstRow) {
+                        writer.writeComma();
+                    }
+                    firstRow = false;
+                    writeJsonRow(writer, property, columns);
+                }
+                writer.endArray();
+            }
+            writer.endObject();
+            return writer.toString();
+        }
+    }
+
+    /**
+     * 输出为制表符分隔文本
+     */
+    public static String writeTsv(DataDictDetail detail, PropertyProjection projection) {
+        StringBuilder out = new StringBuilder();
+        writeTsv(detail, projection, out);
+        return out.toString();
+    }
+
+    /**
+     * 将制表符分隔文本写入输出目标
+     * 以 # 开头的注释行输出类信息，随后是列头行和数据行
+     */
+    public static void writeTsv(DataDictDetail detail, PropertyProjection projection, Appendable out) {
+        try {
+            if (detail == null) {
+                return;
+            }
+            out.append("# classId=").append(tsvValue(detail.getClassId()))
+                    .append("\tdisplayName=").append(tsvValue(detail.getDisplayName()))
+                    .append("\tdefaultTableName=").append(tsvValue(detail.getDefaultTableName()))
+                    .append("\tfullClassName=").append(tsvValue(detail.getFullClassName()))
+                    .append("\tprimary=").append(detail.isPrimary() ? "1" : "0");
+            if (detail.getProperties() != null && projection.isFiltering()) {
+                out.append("\ttotalProperties=").append(String.valueOf(detail.getProperties().size()));
+            }
+            out.append('\n');
+
+            if (detail.getProperties() == null) {
+                return;
+            }
+
+            List<PropertyField> columns = effectiveColumns(detail, projection);
+            for (int i = 0; i < columns.size(); i++) {
+                if (i > 0) {
+                    out.append('\t');
+                }
+                out.append(columns.get(i).getJsonName());
+            }
+            out.append('\n');
+
+            for (DataDictDetail.Property property : detail.getProperties()) {
+                if (!projection.accept(property)) {
+                    continue;
+                }
+                int last = lastNonEmptyColumn(property, columns);
+                for (int i = 0; i <= last; i++) {
+                    if (i > 0) {
+                        out.append('\t');
+                    }
+                    out.append(tsvValue(columns.get(i).get(property)));
+                }
+                out.append('\n');
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeJsonRow(JSONWriter writer, DataDictDetail.Property property, List<PropertyField> columns) {
+        writer.startArray();
+        int last = lastNonEmptyColumn(property, columns);
+        for (int i = 0; i <= last; i++) {
+            if (i > 0) {
+                writer.writeComma();
+            }
+            Object value = columns.get(i).get(property);
+            if (value == null) {
+                writer.writeNull();
+            } else if (value instanceof Boolean) {
+                writer.writeInt32((Boolean) value ? 1 : 0);
+            } else {
+                writer.writeString(value.toString());
+            }
+        }
+        writer.endArray();
+    }
+
+    /**
+     * 实际输出的列：投影选中的字段中，至少有一个输出行取值非空且不为false的列
+     */
+    private static List<PropertyField> effectiveColumns(DataDictDetail detail, PropertyProjection projection) {
+        List<PropertyField> columns = new ArrayList<>();
+        if (detail.getProperties() == null) {
+            return columns;
+        }
+        for (PropertyField field : projection.getFields()) {
+            for (DataDictDetail.Property property : detail.getProperties()) {
+                if (projection.accept(property) && !isEmpty(field.get(property))) {
+                    columns.add(field);
+                    break;
+                }
+            }
+        }
+        return columns;
+    }
+
+    private static int lastNonEmptyColumn(DataDictDetail.Property property, List<PropertyField> columns) {
+        for (int i = columns.size() - 1; i >= 0; i--) {
+            if (!isEmpty(columns.get(i).get(property))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isEmpty(Object value) {
+        return value == null || Boolean.FALSE.equals(value) || (value instanceof String && ((String) value).isEmpty());
+    }
+
+    private static String tsvValue(Object value) {
+        if (value == null) {
+            return "";
+        }
+        if (value instanceof Boolean) {
+            return (Boolean) value ? "1" : "0";
+        }
+        // 值中的制表符和换行会破坏表格结构
+        return value.toString().replace("\t", " ").replace("\r", "").replace("\n", "\\n");
+    }
+
+}
@@ -0,0 +1,89 @@
+package win.ixuni.yonyoudatadict.serializer;
+
+
+import com.alibaba.fastjson2.JSONWriter;
+import win.ixuni.yonyoudatadict.model.DataDictItem;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+/**
+ * 数据字典项列表的流式输出
+ * 直接从列表快照逐条写入输出流，不构建中间列表或完整的JSON字符串；
+ * 每写出一批就刷新一次，客户端读取慢时写操作会阻塞，从而形成背压
+ */
+public final class ItemStreamWriter {
+
+    // 每批写出的条目数
+    private static final int FLUSH_BATCH = 256;
+
+    private ItemStreamWriter() {
+    }
+
+    /**
+     * 以NDJSON格式输出，每行一个 {"id":"...","name":"..."}
+     *
+     * @param items 数据字典项列表快照
+     * @param from  起始下标（含）
+     * @param to    结束下标（不含）
+     * @param out   输出目标
+     */
+    public static void writeNdjson(List<DataDictItem> items, int from, int to, Writer out) throws IOException {
+        try (JSONWriter writer = JSONWriter.of()) {
+            for (int i = from; i < to; i++) {
+                writeItem(writer, items.get(i));
+                writer.writeRaw('\n');
+                if ((i - from + 1) % FLUSH_BATCH == 0) {
+                    flush(writer, out);
+                }
+            }
+            flush(writer, out);
+        }
+    }
+
+    /**
+     * 以分块写出的JSON数组格式输出
+     *
+     * @param items 数据字典项列表快照
+     * @param from  起始下标（含）
+     * @param to    结束下标（不含）
+     * @param out   输出目标
+     */
+    public static void writeJsonArray(List<DataDictItem> items, int from, int to, Writer out) throws IOException {
+        try (JSONWriter writer = JSONWriter.of()) {
+            writer.startArray();
+            for (int i = from; i < to; i++) {
+                if (i > from) {
+                    writer.writeComma();
+                }
+                writeItem(writer, items.get(i));
+                if ((i - from + 1) % FLUSH_BATCH == 0) {
+                    flush(writer, out);
+                }
+            }
+            writer.endArray();
+            flush(writer, out);
+        }
+    }
+
+    private static void writeItem(JSONWriter writer, DataDictItem item) {
+        writer.startObject();
+        writer.writeName("id");
+        writer.writeColon();
+        writer.writeString(item.getId());
+        writer.writeName("name");
+        writer.writeColon();
+        writer.writeString(item.getName());
+        writer.endObject();
+    }
+
+    /**
+     * 将JSONWriter中已写出的一批内容转移到输出目标并清空缓冲区
+     */
+    private static void flush(JSONWriter writer, Writer out) throws IOException {
+        writer.flushTo(out);
+        out.flush();
+    }
+
+}
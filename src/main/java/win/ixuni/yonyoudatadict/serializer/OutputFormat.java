@@ -0,0 +1,51 @@
+package win.ixuni.yonyoudatadict.serializer;
+
+
+/**
+ * 数据字典详情的输出格式
+ */
+public enum OutputFormat {
+
+    /**
+     * 属性列表为JSON对象数组（默认）
+     */
+    JSON("json"),
+
+    /**
+     * 列头加位置行的紧凑JSON：columns 为字段名，rows 中每行为按列顺序排列的值数组
+     */
+    TABLE("table"),
+
+    /**
+     * 制表符分隔的纯文本：注释行为类信息，随后是列头和数据行
+     */
+    TSV("tsv");
+
+    private final String code;
+
+    OutputFormat(String code) {
+        this.code = code;
+    }
+
+    public String getCode() {
+        return code;
+    }
+
+    /**
+     * 解析输出格式，为空时返回JSON
+     *
+     * @throws IllegalArgumentException 格式无法识别时抛出
+     */
+    public static OutputFormat parse(String format) {
+        if (format == null || format.trim().isEmpty()) {
+            return JSON;
+        }
+        for (OutputFormat value : values()) {
+            if (value.code.equalsIgnoreCase(format.trim())) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("无法识别的输出格式: " + format + "，可选格式: json,table,tsv");
+    }
+
+}
@@ -0,0 +1,78 @@
+package win.ixuni.yonyoudatadict.serializer;
+
+
+import win.ixuni.yonyoudatadict.model.DataDictDetail;
+
+import java.util.function.Function;
+
+/**
+ * 数据字典属性的可选输出字段
+ */
+public enum PropertyField {
+
+    NAME("name", DataDictDetail.Property::getName),
+
+    DISPLAY_NAME("displayName", DataDictDetail.Property::getDisplayName),
+
+    DATA_TYPE_SQL("dataTypeSql", DataDictDetail.Property::getDataTypeSql),
+
+    KEY_PROP("keyProp", DataDictDetail.Property::isKeyProp),
+
+    NULLABLE("nullable", DataDictDetail.Property::isNullable),
+
+    REF_CLASS_PATH_HREF("refClassPathHref", DataDictDetail.Property::getRefClassPathHref),
+
+    DEFAULT_VALUE("defaultValue", DataDictDetail.Property::getDefaultValue),
+
+    DATA_SCOPE("dataScope", DataDictDetail.Property::getDataScope),
+
+    COLUMN_NAME("columnName", DataDictDetail.Property::getColumnName),
+
+    REF_MODEL_NAME("refModelName", DataDictDetail.Property::getRefModelName),
+
+    REF_CLASS("refClass", DataDictDetail.Property::getRefClass),
+
+    ENUM_VALUES("enumValues", DataDictDetail.Property::getEnumValues),
+
+    PRIMARY_KEY("primaryKey", DataDictDetail.Property::isPrimaryKey);
+
+    private final String jsonName;
+
+    private final Function<DataDictDetail.Property, Object> accessor;
+
+    PropertyField(String jsonName, Function<DataDictDetail.Property, Object> accessor) {
+        this.jsonName = jsonName;
+        this.accessor = accessor;
+    }
+
+    /**
+     * 输出时使用的字段名，与默认JSON序列化的字段名一致
+     */
+    public String getJsonName() {
+        return jsonName;
+    }
+
+    /**
+     * 读取属性上该字段的值
+     */
+    public Object get(DataDictDetail.Property property) {
+        return accessor.apply(property);
+    }
+
+    /**
+     * 根据字段名查找，不区分大小写，未找到时返回null
+     */
+    public static PropertyField fromJsonName(String name) {
+        if (name == null) {
+            return null;
+        }
+        String trimmed = name.trim();
+        for (PropertyField field : values()) {
+            if (field.jsonName.equalsIgnoreCase(trimmed)) {
+                return field;
+            }
+        }
+        return null;
+    }
+
+}
@@ -0,0 +1,152 @@
+package win.ixuni.yonyoudatadict.serializer;
+
+
+import win.ixuni.yonyoudatadict.model.DataDictDetail;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * 数据字典属性投影
+ * 选择要输出的属性字段，并按主键、非空、名称模式过滤属性；
+ * 在序列化时逐个判断，不复制缓存中的数据字典详情
+ */
+public class PropertyProjection {
+
+    /**
+     * 不做任何投影，输出全部属性和字段
+     */
+    public static final PropertyProjection ALL =
+            new PropertyProjection(EnumSet.allOf(PropertyField.class), false, false, null);
+
+    private final Set<PropertyField> fields;
+
+    private final boolean keyOnly;
+
+    private final boolean notNullOnly;
+
+    private final Pattern namePattern;
+
+    private PropertyProjection(Set<PropertyField> fields, boolean keyOnly, boolean notNullOnly, Pattern namePattern) {
+        this.fields = Collections.unmodifiableSet(fields);
+        this.keyOnly = keyOnly;
+        this.notNullOnly = notNullOnly;
+        this.namePattern = namePattern;
+    }
+
+    /**
+     * 解析投影参数，所有参数均可为空
+     *
+     * @param fields      逗号分隔的属性字段名，为空时输出全部字段
+     * @param keyOnly     只保留主键属性
+     * @param notNullOnly 只保留不可为空的属性
+     * @param namePattern 属性编码或字段编码的通配符模式，支持 * 和 ?，不区分大小写
+     * @throws IllegalArgumentException 字段名无法识别时抛出
+     */
+    public static PropertyProjection parse(String fields, Boolean keyOnly, Boolean notNullOnly, String namePattern) {
+        Set<PropertyField> selected = EnumSet.allOf(PropertyField.class);
+        if (fields != null && !fields.trim().isEmpty()) {
+            selected = EnumSet.noneOf(PropertyField.class);
+            List<String> unknown = new ArrayList<>();
+            for (String name : fields.split(",")) {
+                if (name.trim().isEmpty()) {
+                    continue;
+                }
+                PropertyField field = PropertyField.fromJsonName(name);
+                if (field == null) {
+                    unknown.add(name.trim());
+                } else {
+                    selected.add(field);
+                }
+            }
+            if (!unknown.isEmpty()) {
+                throw new IllegalArgumentException("无法识别的属性字段: " + String.join(", ", unknown)
+                        + "，可选字段: " + availableFieldNames());
+            }
+            if (selected.isEmpty()) {
+                selected = EnumSet.allOf(PropertyField.class);
+            }
+        }
+
+        Pattern pattern = null;
+        if (namePattern != null && !namePattern.trim().isEmpty()) {
+            pattern = globToPattern(namePattern.trim());
+        }
+
+        return new PropertyProjection(selected, Boolean.TRUE.equals(keyOnly), Boolean.TRUE.equals(notNullOnly), pattern);
+    }
+
+    /**
+     * 是否不做任何投影
+     */
+    public boolean isIdentity() {
+        return fields.size() == PropertyField.values().length && !keyOnly && !notNullOnly && namePattern == null;
+    }
+
+    /**
+     * 是否过滤属性（而不仅是选择字段）
+     */
+    public boolean isFiltering() {
+        return keyOnly || notNullOnly || namePattern != null;
+    }
+
+    /**
+     * 判断属性是否需要输出
+     */
+    public boolean accept(DataDictDetail.Property property) {
+        if (keyOnly && !property.isKeyProp() && !property.isPrimaryKey()) {
+            return false;
+        }
+        if (notNullOnly && property.isNullable()) {
+            return false;
+        }
+        if (namePattern != null) {
+            return matches(property.getName()) || matches(property.getColumnName());
+        }
+        return true;
+    }
+
+    /**
+     * 需要输出的属性字段，按声明顺序
+     */
+    public Set<PropertyField> getFields() {
+        return fields;
+    }
+
+    private boolean matches(String value) {
+        return value != null && namePattern.matcher(value).matches();
+    }
+
+    private static Pattern globToPattern(String glob) {
+        StringBuilder regex = new StringBuilder();
+        StringBuilder literal = new StringBuilder();
+        for (char c : glob.toCharArray()) {
+            if (c == '*' || c == '?') {
+                if (literal.length() > 0) {
+                    regex.append(Pattern.quote(literal.toString()));
+                    literal.setLength(0);
+                }
+                regex.append(c == '*' ? ".*" : ".");
+            } else {
+                literal.append(c);
+            }
+        }
+        if (literal.length() > 0) {
+            regex.append(Pattern.quote(literal.toString()));
+        }
+        return Pattern.compile(regex.toString(), Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE);
+    }
+
+    private static String availableFieldNames() {
+        List<String> names = new ArrayList<>();
+        for (PropertyField field : PropertyField.values()) {
+            names.add(field.getJsonName());
+        }
+        return String.join(",", names);
+    }
+
+}
@@ -0,0 +1,81 @@
+package win.ixuni.yonyoudatadict.serializer;
+
+
+import com.alibaba.fastjson2.JSONWriter;
+import win.ixuni.yonyoudatadict.graph.ReferenceGraph;
+import win.ixuni.yonyoudatadict.model.DetailFetchStatus;
+
+/**
+ * 引用关系图的紧凑JSON输出
+ * 节点按数组下标编号，refs 中每项为 [目标节点下标, "引用该类的属性编码,..."]，
+ * 空值、展开成功节点的状态和空引用列表省略
+ */
+public final class ReferenceGraphWriter {
+
+    private ReferenceGraphWriter() {
+    }
+
+    public static String write(ReferenceGraph graph) {
+        try (JSONWriter writer = JSONWriter.of()) {
+            writer.startObject();
+            DetailJsonWriter.writeField(writer, "rootClassId", graph.getRootClassId());
+            writer.writeName("maxDepth");
+            writer.writeColon();
+            writer.writeInt32(graph.getMaxDepth());
+            DetailJsonWriter.writeField(writer, "truncated", graph.isTruncated());
+            writer.writeName("nodeCount");
+            writer.writeColon();
+            writer.writeInt32(graph.getNodes().size());
+            writer.writeName("elapsedMillis");
+            writer.writeColon();
+            writer.writeInt64(graph.getElapsedMillis());
+
+            writer.writeName("nodes");
+            writer.writeColon();
+            writer.startArray();
+            for (int i = 0; i < graph.getNodes().size(); i++) {
+                if (i > 0) {
+                    writer.writeComma();
+                }
+                writeNode(writer, graph.getNodes().get(i));
+            }
+            writer.endArray();
+            writer.endObject();
+            return writer.toString();
+        }
+    }
+
+    private static void writeNode(JSONWriter writer, ReferenceGraph.Node node) {
+        writer.startObject();
+        DetailJsonWriter.writeField(writer, "classId", node.getClassId());
+        DetailJsonWriter.writeField(writer, "displayName", node.getDisplayName());
+        DetailJsonWriter.writeField(writer, "fullClassName", node.getFullClassName());
+        DetailJsonWriter.writeField(writer, "tableName", node.getTableName());
+        writer.writeName("depth");
+        writer.writeColon();
+        writer.writeInt32(node.getDepth());
+        // 展开成功的节点不输出状态
+        if (node.getStatus() != null && node.getStatus() != DetailFetchStatus.OK) {
+            DetailJsonWriter.writeField(writer, "status", node.getStatus().name());
+        }
+        if (!node.getRefs().isEmpty()) {
+            writer.writeName("refs");
+            writer.writeColon();
+            writer.startArray();
+            for (int i = 0; i < node.getRefs().size(); i++) {
+                if (i > 0) {
+                    writer.writeComma();
+                }
+                ReferenceGraph.Edge edge = node.getRefs().get(i);
+                writer.startArray();
+                writer.writeInt32(edge.getTarget());
+                writer.writeComma();
+                writer.writeString(String.join(",", edge.getProperties()));
+                writer.endArray();
+            }
+            writer.endArray();
+        }
+        writer.endObject();
+    }
+
+}
@@ -2,15 +2,55 @@ package win.ixuni.yonyoudatadict.service;
 
 
 import com.alibaba.fastjson.JSON;
+import com.alibaba.fastjson2.JSONWriter;
 import org.springframework.ai.tool.annotation.Tool;
 import org.springframework.ai.tool.annotation.ToolParam;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
+import win.ixuni.yonyoudatadict.cache.DetailPrefetcher;
+import win.ixuni.yonyoudatadict.cache.SearchResultCache;
+import win.ixuni.yonyoudatadict.config.DataDictConfig;
+import win.ixuni.yonyoudatadict.diff.SchemaChange;
+import win.ixuni.yonyoudatadict.diff.SchemaDiffEngine;
+import win.ixuni.yonyoudatadict.diff.SchemaDiffSummary;
+import win.ixuni.yonyoudatadict.diff.SchemaSource;
+import win.ixuni.yonyoudatadict.graph.ReferenceGraphExplorer;
+import win.ixuni.yonyoudatadict.index.ClassSummary;
+import win.ixuni.yonyoudatadict.index.ClassNameIndex;
+import win.ixuni.yonyoudatadict.index.DataDictIndex;
+import win.ixuni.yonyoudatadict.index.Referrer;
+import win.ixuni.yonyoudatadict.index.ReverseRefIndex;
+import win.ixuni.yonyoudatadict.metrics.DataDictMetrics;
 import win.ixuni.yonyoudatadict.model.DataDictDetail;
 import win.ixuni.yonyoudatadict.model.DataDictItem;
+import win.ixuni.yonyoudatadict.model.ItemsSnapshot;
+import win.ixuni.yonyoudatadict.model.DetailFetchStatus;
+import win.ixuni.yonyoudatadict.processor.CustomFieldRemovalProcessor;
+import win.ixuni.yonyoudatadict.processor.DataDictProcessor;
+import win.ixuni.yonyoudatadict.serializer.DetailJsonWriter;
+import win.ixuni.yonyoudatadict.serializer.DetailTableWriter;
+import win.ixuni.yonyoudatadict.serializer.OutputFormat;
+import win.ixuni.yonyoudatadict.serializer.PropertyProjection;
+import win.ixuni.yonyoudatadict.serializer.ReferenceGraphWriter;
+import win.ixuni.yonyoudatadict.trace.TraceContext;
+import win.ixuni.yonyoudatadict.trace.TraceSpan;
 import win.ixuni.yonyoudatadict.util.DataDictDownloader;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
@@ -21,9 +61,42 @@ public class DataDictService {
 
     private final DataDictDownloader dataDictDownloader;
 
+    private final DataDictIndex dataDictIndex;
+
+    private final ReverseRefIndex reverseRefIndex;
+
+    private final ClassNameIndex classNameIndex;
+
+    private final SearchResultCache searchResultCache;
+
+    // 以下两个只有引用关系图和结构对比工具使用，注入的是延迟解析的代理，首次调用时才创建
+    private final ReferenceGraphExplorer referenceGraphExplorer;
+
+    private final SchemaDiffEngine schemaDiffEngine;
+
+    private final DataDictMetrics metrics;
+
+    private final DataDictConfig config;
+
+    // 按访问规律预取详情，详情请求完成后记录访问
+    private final DetailPrefetcher detailPrefetcher;
+
     @Autowired
-    public DataDictService(DataDictDownloader dataDictDownloader) {
+    public DataDictService(DataDictDownloader dataDictDownloader, DataDictIndex dataDictIndex,
+                           ReverseRefIndex reverseRefIndex, ClassNameIndex classNameIndex,
+                           SearchResultCache searchResultCache, @Lazy ReferenceGraphExplorer referenceGraphExplorer,
+                           @Lazy SchemaDiffEngine schemaDiffEngine, DataDictMetrics metrics, DataDictConfig config,
+                           DetailPrefetcher detailPrefetcher) {
         this.dataDictDownloader = dataDictDownloader;
+        this.dataDictIndex = dataDictIndex;
+        this.reverseRefIndex = reverseRefIndex;
+        this.classNameIndex = classNameIndex;
+        this.searchResultCache = searchResultCache;
+        this.referenceGraphExplorer = referenceGraphExplorer;
+        this.schemaDiffEngine = schemaDiffEngine;
+        this.metrics = metrics;
+        this.config = config;
+        this.detailPrefetcher = detailPrefetcher;
     }
 
     // ==================== 控制器专用方法 ====================
@@ -31,17 +104,283 @@ public class DataDictService {
     /**
      * 下载默认应用代码下指定类ID的数据字典详情。
      *
-     * @param classId 类ID
+     * @param classId     类ID
+     * @param fields      逗号分隔的属性字段名
+     * @param keyOnly     只返回主键属性
+     * @param notNullOnly 只返回不可为空的属性
+     * @param namePattern 属性编码或字段编码的通配符模式
+     * @param format      输出格式
      * @return 数据字典详情的JSON字符串
      */
-    @Tool(description = "根据类ID获取用友数据字典详情,你必须先通过searchDataDictItemsByName方法来获取准确的id,如果查询返回空，说明id错误，如果id正确，本方法一定返回数据,如果调用成功,你可以获得指定类的类名,主键，每个字段的名称,sql类型,引用的数据类型,是否为null,默认值等等，返回JSON格式的字符串",
+    @Tool(description = "根据类ID获取用友数据字典详情,你必须先通过searchDataDictItemsByName方法来获取准确的id,如果查询返回空，说明id错误，如果id正确，本方法一定返回数据,如果调用成功,你可以获得指定类的类名,主键，每个字段的名称,sql类型,引用的数据类型,是否为null,默认值等等，返回JSON格式的字符串。对于字段很多的类，可以通过fields、keyOnly、notNullOnly、namePattern只返回需要的字段，并可通过format=table或tsv使用列头加数据行的紧凑格式，减少返回内容",
             name = "getDataDictDetail"
     )
     public String downloadDataDictDetail(
-            @ToolParam(description = "类ID") String classId
+            @ToolParam(description = "类ID") String classId,
+            @ToolParam(description = "可选，逗号分隔的属性字段名，只返回这些字段，例如:name,displayName,dataTypeSql,nullable；可选字段:name,displayName,dataTypeSql,keyProp,nullable,refClassPathHref,defaultValue,dataScope,columnName,refModelName,refClass,enumValues,primaryKey，不传则返回全部字段", required = false) String fields,
+            @ToolParam(description = "可选，为true时只返回主键属性", required = false) Boolean keyOnly,
+            @ToolParam(description = "可选，为true时只返回不可为空的属性", required = false) Boolean notNullOnly,
+            @ToolParam(description = "可选，属性编码或字段编码的通配符模式，支持*和?，不区分大小写，例如:pk_*", required = false) String namePattern,
+            @ToolParam(description = "可选，输出格式:json(默认，属性为对象数组)、table(columns为列名，rows为按列顺序排列的值数组，布尔值为1/0，全空的列和行尾空值省略)、tsv(制表符分隔的文本，首行为类信息)", required = false) String format
+    ) {
+        PropertyProjection projection = PropertyProjection.parse(fields, keyOnly, notNullOnly, namePattern);
+        OutputFormat outputFormat = OutputFormat.parse(format);
+        return renderDetail(recordAccess(classId, dataDictDownloader.downloadDataDictDetail(classId)),
+                projection, outputFormat);
+    }
+
+    /**
+     * 异步获取默认应用代码下指定类ID的数据字典详情，参数和结果与 getDataDictDetail 相同。
+     * 取消返回的结果时一并取消尚未开始的下载
+     */
+    public CompletableFuture<String> downloadDataDictDetailAsync(String classId, String fields, Boolean keyOnly,
+                                                                 Boolean notNullOnly, String namePattern,
+                                                                 String format) {
+        PropertyProjection projection = PropertyProjection.parse(fields, keyOnly, notNullOnly, namePattern);
+        OutputFormat outputFormat = OutputFormat.parse(format);
+        CompletableFuture<DataDictDetail> detail =
+                dataDictDownloader.downloadDataDictDetailAsync(classId, true, Collections.emptySet());
+        return propagateCancel(detail.thenApply(d -> renderDetail(recordAccess(classId, d), projection, outputFormat)),
+                Collections.singletonList(detail));
+    }
+
+    /**
+     * 批量获取默认应用代码下多个类ID的数据字典详情。
+     *
+     * @param classIds    类ID列表
+     * @param fields      逗号分隔的属性字段名
+     * @param keyOnly     只返回主键属性
+     * @param notNullOnly 只返回不可为空的属性
+     * @param namePattern 属性编码或字段编码的通配符模式
+     * @return 每个类ID的状态和详情的JSON字符串
+     */
+    @Tool(description = "批量获取多个类ID的用友数据字典详情，一次调用并发获取，适合需要同时查看单据主表、子表、引用档案等多个相关类的场景，比多次调用getDataDictDetail快得多；类ID必须先通过searchDataDictItemsByName等方法获取。返回results数组，每项包含classId、status(OK成功/NOT_FOUND未找到/TIMEOUT超时/ERROR出错/SKIPPED超过数量上限未获取)和成功时的detail，超时的类可稍后单独重试；fields、keyOnly、notNullOnly、namePattern对每个类生效，返回JSON格式的字符串",
+            name = "getDataDictDetails"
+    )
+    public String downloadDataDictDetails(
+            @ToolParam(description = "类ID列表，重复的类ID只获取一次，单次数量上限默认为50") List<String> classIds,
+            @ToolParam(description = "可选，逗号分隔的属性字段名，只返回这些字段，可选字段同getDataDictDetail，不传则返回全部字段", required = false) String fields,
+            @ToolParam(description = "可选，为true时只返回主键属性", required = false) Boolean keyOnly,
+            @ToolParam(description = "可选，为true时只返回不可为空的属性", required = false) Boolean notNullOnly,
+            @ToolParam(description = "可选，属性编码或字段编码的通配符模式，支持*和?，不区分大小写，例如:pk_*", required = false) String namePattern
+    ) {
+        PropertyProjection projection = PropertyProjection.parse(fields, keyOnly, notNullOnly, namePattern);
+        return renderDetailBatch(classIds, false, Collections.emptySet(), projection).join();
+    }
+
+    /**
+     * 异步批量获取多个类ID的数据字典详情，参数和结果与 getDataDictDetails 相同。
+     * 取消返回的结果时一并取消尚未开始的下载
+     */
+    public CompletableFuture<String> downloadDataDictDetailsAsync(List<String> classIds, String fields,
+                                                                  Boolean keyOnly, Boolean notNullOnly,
+                                                                  String namePattern) {
+        PropertyProjection projection = PropertyProjection.parse(fields, keyOnly, notNullOnly, namePattern);
+        return renderDetailBatch(classIds, false, Collections.emptySet(), projection);
+    }
+
+    /**
+     * 批量获取多个类ID的数据字典详情（控制器专用）
+     *
+     * @param classIds         类ID列表
+     * @param raw              是否返回未经任何处理器处理的原始解析结果
+     * @param keepCustomFields 是否保留自定义字段
+     * @param projection       属性投影
+     * @return 每个类ID的状态和详情的JSON字符串
+     */
+    public String renderDataDictDetailsForController(List<String> classIds, boolean raw, boolean keepCustomFields,
+                                                     PropertyProjection projection) {
+        Set<Class<? extends DataDictProcessor>> excluded = keepCustomFields
+                ? Set.of(CustomFieldRemovalProcessor.class) : Collections.emptySet();
+        return renderDetailBatch(classIds, raw, excluded, projection).join();
+    }
+
+    /**
+     * 并发获取多个类的详情并按请求顺序输出
+     * 所有类共享一个总超时时间，超时、未找到或出错的类只输出状态，不影响其他类的结果；
+     * 等待期间不占用调用线程，取消返回的结果时一并取消尚未开始的下载
+     */
+    private CompletableFuture<String> renderDetailBatch(List<String> classIds, boolean raw,
+                                                       Set<Class<? extends DataDictProcessor>> excluded,
+                                                       PropertyProjection projection) {
+        long start = System.nanoTime();
+        Set<String> ids = new LinkedHashSet<>();
+        if (classIds != null) {
+            for (String classId : classIds) {
+                if (classId != null && !classId.trim().isEmpty()) {
+                    ids.add(classId.trim());
+                }
+            }
+        }
+
+        // 超过数量上限的类ID不发起下载
+        int limit = Math.max(1, config.getBatch().getMaxClassIds());
+        Map<String, CompletableFuture<DataDictDetail>> futures = new LinkedHashMap<>();
+        for (String classId : ids) {
+            if (futures.size() >= limit) {
+                break;
+            }
+            futures.put(classId, dataDictDownloader.downloadDataDictDetailAsync(classId, !raw, excluded));
+        }
+
+        // 单个类的失败在输出时按状态区分，这里只等待全部完成或超时
+        CompletableFuture<String> result = CompletableFuture
+                .allOf(futures.values().toArray(new CompletableFuture<?>[0]))
+                .exceptionally(e -> null)
+                .completeOnTimeout(null, config.getBatch().getTimeoutMs(), TimeUnit.MILLISECONDS)
+                .thenApply(ignored -> {
+                    // 按请求顺序记录已获取的类
+                    for (Map.Entry<String, CompletableFuture<DataDictDetail>> entry : futures.entrySet()) {
+                        CompletableFuture<DataDictDetail> future = entry.getValue();
+                        if (future.isDone() && !future.isCompletedExceptionally()) {
+                            recordAccess(entry.getKey(), future.join());
+                        }
+                    }
+                    long serializeStart = System.nanoTime();
+                    try (TraceSpan span = TraceContext.span("serialize", "batch")) {
+                        return writeDetailBatch(ids, futures, limit, projection, start);
+                    } finally {
+                        recordSerialize(serializeStart);
+                    }
+                });
+        return propagateCancel(result, futures.values());
+    }
+
+    private static String writeDetailBatch(Set<String> ids, Map<String, CompletableFuture<DataDictDetail>> futures,
+                                           int limit, PropertyProjection projection, long start) {
+        Map<DetailFetchStatus, Integer> counts = new EnumMap<>(DetailFetchStatus.class);
+        try (JSONWriter writer = JSONWriter.of()) {
+            writer.startObject();
+            writer.writeName("requested");
+            writer.writeColon();
+            writer.writeInt32(ids.size());
+
+            writer.writeName("results");
+            writer.writeColon();
+            writer.startArray();
+            boolean first = true;
+            for (String classId : ids) {
+                DetailFetchStatus status;
+                DataDictDetail detail = null;
+                String message = null;
+                CompletableFuture<DataDictDetail> future = futures.get(classId);
+                if (future == null) {
+                    status = DetailFetchStatus.SKIPPED;
+                    message = "超过单次批量获取的数量上限 " + limit;
+                } else if (!future.isDone()) {
+                    status = DetailFetchStatus.TIMEOUT;
+                } else {
+                    try {
+                        detail = future.join();
+                        status = detail != null ? DetailFetchStatus.OK : DetailFetchStatus.NOT_FOUND;
+                    } catch (CompletionException e) {
+                        status = DetailFetchStatus.ERROR;
+                        message = e.getCause() != null ? e.getCause().getMessage() : e.getMessage();
+                    }
+                }
+                counts.merge(status, 1, Integer::sum);
+
+                if (!first) {
+                    writer.writeComma();
+                }
+                first = false;
+                writer.startObject();
+                DetailJsonWriter.writeField(writer, "classId", classId);
+                DetailJsonWriter.writeField(writer, "status", status.name());
+                DetailJsonWriter.writeField(writer, "message", message);
+                if (detail != null) {
+                    writer.writeName("detail");
+                    writer.writeColon();
+                    DetailJsonWriter.write(writer, detail, projection);
+                }
+                writer.endObject();
+            }
+            writer.endArray();
+
+            writer.writeName("statusCounts");
+            writer.writeColon();
+            writer.startObject();
+            for (Map.Entry<DetailFetchStatus, Integer> entry : counts.entrySet()) {
+                writer.writeName(entry.getKey().name());
+                writer.writeColon();
+                writer.writeInt32(entry.getValue());
+            }
+            writer.endObject();
+
+            writer.writeName("elapsedMillis");
+            writer.writeColon();
+            writer.writeInt64(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+            writer.endObject();
+            return writer.toString();
+        }
+    }
+
+    /**
+     * 从指定类出发展开引用关系图。
+     *
+     * @param classId  根类ID
+     * @param depth    展开层数
+     * @param maxNodes 最多包含的节点数
+     * @return 引用关系图的紧凑JSON字符串
+     */
+    @Tool(description = "从指定类出发，按广度优先逐层展开其属性引用的数据字典类（如单据主表引用的客户、物料、组织等），一次调用返回整个引用关系图，不必逐个调用getDataDictDetail。返回nodes数组，数组下标即节点编号，第0个为根类；每个节点包含classId、displayName、fullClassName、tableName、depth，已展开的节点有refs，其中每项为[目标节点下标,\"引用该类的属性编码,...\"]；status为NOT_FOUND/TIMEOUT/ERROR表示该节点展开失败，处于最大深度的节点不展开；truncated为true表示因节点数量或时间限制未完整展开。NCCloud版本的数据字典没有可追踪的引用类ID，只返回根类，返回JSON格式的字符串",
+            name = "exploreDataDictReferences"
+    )
+    public String exploreDataDictReferences(
+            @ToolParam(description = "根类ID") String classId,
+            @ToolParam(description = "可选，展开层数，默认为2，1表示只展开根类直接引用的类", required = false) Integer depth,
+            @ToolParam(description = "可选，最多返回的节点数，默认为100", required = false) Integer maxNodes
     ) {
-        DataDictDetail detail = dataDictDownloader.downloadDataDictDetail(classId);
-        return toOptimizedJsonString(detail);
+        return ReferenceGraphWriter.write(referenceGraphExplorer.explore(classId,
+                depth != null ? depth : 2, maxNodes != null ? maxNodes : 100));
+    }
+
+    /**
+     * 从指定类出发展开引用关系图（控制器专用）
+     */
+    public String exploreReferencesForController(String classId, int depth, int maxNodes) {
+        return ReferenceGraphWriter.write(referenceGraphExplorer.explore(classId, depth, maxNodes));
+    }
+
+    /**
+     * 按投影和格式输出数据字典详情（控制器专用）
+     *
+     * @param detail     数据字典详情
+     * @param projection 属性投影
+     * @param format     输出格式
+     * @return 数据字典详情的序列化结果
+     */
+    public String renderDataDictDetailForController(DataDictDetail detail, PropertyProjection projection,
+                                                    OutputFormat format) {
+        return renderDetail(detail, projection, format);
+    }
+
+    /**
+     * 按投影和格式序列化数据字典详情
+     */
+    private String renderDetail(DataDictDetail detail, PropertyProjection projection, OutputFormat format) {
+        long start = System.nanoTime();
+        // 下载失败时详情为空，按原样序列化为null
+        try (TraceSpan span = TraceContext.span("serialize", detail != null ? detail.getClassId() : null)) {
+            switch (format) {
+                case TABLE:
+                    return DetailTableWriter.writeJson(detail, projection);
+                case TSV:
+                    return DetailTableWriter.writeTsv(detail, projection);
+                default:
+                    if (projection.isIdentity()) {
+                        return toOptimizedJsonString(detail);
+                    }
+                    return DetailJsonWriter.write(detail, projection);
+            }
+        } finally {
+            recordSerialize(start);
+        }
+    }
+
+    private void recordSerialize(long start) {
+        metrics.recordStage(DataDictMetrics.Stage.SERIALIZE, dataDictDownloader.getCurrentAppCode(),
+                dataDictDownloader.getCurrentAdapterName(), System.nanoTime() - start);
     }
 
     /**
@@ -51,7 +390,38 @@ public class DataDictService {
      * @return 数据字典详情
      */
     public DataDictDetail getDataDictDetailForController(String classId) {
-        return dataDictDownloader.downloadDataDictDetail(classId);
+        return recordAccess(classId, dataDictDownloader.downloadDataDictDetail(classId));
+    }
+
+    /**
+     * 按指定处理方式获取数据字典详情（控制器专用）
+     * 不同处理方式共享同一份原始解析结果，无需重新下载
+     *
+     * @param classId          类ID
+     * @param raw              是否返回未经任何处理器处理的原始解析结果
+     * @param keepCustomFields 是否保留自定义字段（跳过自定义字段移除处理器）
+     * @return 数据字典详情
+     */
+    public DataDictDetail getDataDictDetailForController(String classId, boolean raw, boolean keepCustomFields) {
+        DataDictDetail detail;
+        if (raw) {
+            detail = dataDictDownloader.downloadDataDictDetail(classId, false);
+        } else if (!keepCustomFields) {
+            detail = dataDictDownloader.downloadDataDictDetail(classId);
+        } else {
+            detail = dataDictDownloader.getDetailView(classId, Set.of(CustomFieldRemovalProcessor.class));
+        }
+        return recordAccess(classId, detail);
+    }
+
+    /**
+     * 获取到详情时记录一次访问，供预取学习访问规律
+     */
+    private DataDictDetail recordAccess(String classId, DataDictDetail detail) {
+        if (detail != null) {
+            detailPrefetcher.recordAccess(classId);
+        }
+        return detail;
     }
 
     /**
@@ -60,7 +430,16 @@ public class DataDictService {
      * @return 数据字典项列表
      */
     public List<DataDictItem> getDataDictItemsForController() {
-        return dataDictDownloader.downloadDataDictItems();
+        return dataDictDownloader.getDataDictItemsSnapshot();
+    }
+
+    /**
+     * 获取默认应用代码的数据字典项列表快照及其版本（控制器专用）
+     *
+     * @return 数据字典项列表快照
+     */
+    public ItemsSnapshot getItemsSnapshotForController() {
+        return dataDictDownloader.getItemsSnapshot();
     }
 
     // ==================== MCP工具方法 ====================
@@ -77,15 +456,35 @@ public class DataDictService {
     public String searchDataDictItemsByName(
             @ToolParam(description = "用于模糊搜索的名称查询字符串，仅允许是一个单词，比如:用户权限申请、org、流程生产订单、factory、人员等等,如果传入了多个单词，本方法将会放弃返回值，视为错误调用") String nameQuery
     ) {
-        List<DataDictItem> allItems = dataDictDownloader.downloadDataDictItems();
+        // 仅在数据字典项列表被缓存时使用搜索结果缓存，否则无法保证结果与上游一致
+        // 列表与版本取自同一快照，结果不会以另一个列表的版本缓存
+        ItemsSnapshot snapshot = dataDictDownloader.getItemsSnapshot();
+        boolean useCache = config.isCacheEnabled() && snapshot.isCached();
+        long version = snapshot.getVersion();
+        String cacheKey = SearchResultCache.buildKey(dataDictDownloader.getCurrentAppCode(), nameQuery);
+        if (useCache) {
+            String cached = searchResultCache.get(cacheKey, version);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        List<DataDictItem> allItems = snapshot.getItems();
+        String payload;
         if (nameQuery == null || nameQuery.trim().isEmpty()) {
-            return toOptimizedJsonString(allItems);
+            payload = toOptimizedJsonString(allItems);
+        } else {
+            String lowerCaseQuery = nameQuery.toLowerCase();
+            List<DataDictItem> filteredItems = allItems.stream()
+                    .filter(item -> item.getName() != null && item.getName().toLowerCase().contains(lowerCaseQuery))
+                    .collect(Collectors.toList());
+            payload = toOptimizedJsonString(filteredItems);
         }
-        String lowerCaseQuery = nameQuery.toLowerCase();
-        List<DataDictItem> filteredItems = allItems.stream()
-                .filter(item -> item.getName() != null && item.getName().toLowerCase().contains(lowerCaseQuery))
-                .collect(Collectors.toList());
-        return toOptimizedJsonString(filteredItems);
+
+        if (useCache) {
+            searchResultCache.put(cacheKey, version, payload);
+        }
+        return payload;
     }
 
     /**
@@ -95,7 +494,7 @@ public class DataDictService {
      * @return 匹配的数据字典项列表
      */
     public List<DataDictItem> searchDataDictItemsByNameForController(String nameQuery) {
-        List<DataDictItem> allItems = dataDictDownloader.downloadDataDictItems();
+        List<DataDictItem> allItems = dataDictDownloader.getDataDictItemsSnapshot();
         if (nameQuery == null || nameQuery.trim().isEmpty()) {
             return allItems;
         }
@@ -105,10 +504,180 @@ public class DataDictService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 根据表名或全类名反查数据字典类（仅查询本地索引）
+     *
+     * @param tableName 表名或全类名
+     * @return 匹配的类摘要列表的JSON字符串
+     */
+    @Tool(description = "根据表名(如bd_material)或全类名(如nc.vo.bd.material.MaterialVO)精确反查所属的数据字典类及其类id，只查询本服务已解析过的数据字典构建的本地索引，不访问上游；返回indexedClassCount表示索引覆盖的类数量，若结果为空可改用searchDataDictItemsByName搜索，返回JSON格式的字符串",
+            name = "findDataDictClassesByTable"
+    )
+    public String findDataDictClassesByTable(
+            @ToolParam(description = "表名或全类名，不区分大小写，例如:bd_material") String tableName
+    ) {
+        return toOptimizedJsonString(toIndexResult(dataDictIndex.findByTableOrClassName(tableName)));
+    }
+
+    /**
+     * 根据属性编码或字段编码反查包含该字段的数据字典类（仅查询本地索引）
+     *
+     * @param columnName 属性编码或字段编码
+     * @return 匹配的类摘要列表的JSON字符串
+     */
+    @Tool(description = "根据属性编码或字段编码(如pk_org)精确反查哪些数据字典类包含该字段，只查询本服务已解析过的数据字典构建的本地索引，不访问上游；返回indexedClassCount表示索引覆盖的类数量，返回JSON格式的字符串",
+            name = "findDataDictClassesByColumn"
+    )
+    public String findDataDictClassesByColumn(
+            @ToolParam(description = "属性编码或字段编码，不区分大小写，例如:pk_org") String columnName
+    ) {
+        return toOptimizedJsonString(toIndexResult(dataDictIndex.findByColumnName(columnName)));
+    }
+
+    /**
+     * 查找引用指定类的数据字典类（仅查询本地索引）
+     *
+     * @param target 被引用的类ID、表名或全类名
+     * @return 引用来源类列表的JSON字符串
+     */
+    @Tool(description = "查找哪些数据字典类引用了指定的类(例如所有引用组织org_orgs的类)，用于修改某个档案或表之前的影响分析；可以传入类ID，也可以传入表名或全类名。只查询本服务已解析过的数据字典构建的本地反向引用索引，不访问上游；返回indexedClassCount表示索引覆盖的类数量，referrers中每项为引用来源类及其引用目标类的属性编码properties，返回JSON格式的字符串",
+            name = "findDataDictReferrers"
+    )
+    public String findDataDictReferrers(
+            @ToolParam(description = "被引用的类ID、表名或全类名，表名和全类名不区分大小写，例如:org_orgs") String target
+    ) {
+        return toOptimizedJsonString(findReferrersForController(target));
+    }
+
+    /**
+     * 查找引用指定类的数据字典类（控制器专用）
+     * 目标可以是类ID，也可以是表名或全类名（通过索引转换为类ID）
+     */
+    public Map<String, Object> findReferrersForController(String target) {
+        Set<String> targetIds = new LinkedHashSet<>();
+        if (target != null && !target.trim().isEmpty()) {
+            targetIds.add(target.trim());
+            for (ClassSummary summary : dataDictIndex.findByTableOrClassName(target)) {
+                targetIds.add(summary.getClassId());
+            }
+        }
+
+        List<Referrer> referrers = new ArrayList<>();
+        for (String targetId : targetIds) {
+            for (Referrer referrer : reverseRefIndex.findReferrers(targetId)) {
+                ClassNameIndex.Entry entry = classNameIndex.get(referrer.getClassId());
+                if (entry != null) {
+                    referrer.setDisplayName(entry.getDisplayName());
+                    referrer.setFullClassName(entry.getFullClassName());
+                    referrer.setTableName(entry.getTableName());
+                }
+                referrers.add(referrer);
+            }
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("indexedClassCount", reverseRefIndex.getIndexedClassCount());
+        result.put("referrers", referrers);
+        return result;
+    }
+
+    /**
+     * 对比两份数据字典的结构
+     *
+     * @param source     源应用代码或 snapshot:应用代码
+     * @param target     目标应用代码或 snapshot:应用代码
+     * @param nameFilter 类名称过滤条件
+     * @return 包含汇总和变化列表的JSON字符串
+     */
+    @Tool(description = "对比两个应用代码（或已导出的结构快照，写作snapshot:应用代码）的数据字典结构，用于查看升级或不同环境之间表结构的差异。类按全类名匹配，匹配不上的再按表名匹配，结构相同的类不输出。返回summary(unchanged/changed/added/removed/fetchFailed为各类数量)和changes数组，每项type为CHANGED(classChanges为类级变化，addedColumns/removedColumns为新增/删除的字段，modifiedColumns中每个字段的changes为{字段名:[原值,新值]})、ADDED、REMOVED或FETCH_FAILED；单次对比的类数量有上限，类很多时请通过nameFilter缩小范围，返回JSON格式的字符串",
+            name = "diffDataDictSchemas"
+    )
+    public String diffDataDictSchemas(
+            @ToolParam(description = "源（旧版本）应用代码，或snapshot:应用代码表示已导出的结构快照") String source,
+            @ToolParam(description = "目标（新版本）应用代码，或snapshot:应用代码表示已导出的结构快照") String target,
+            @ToolParam(description = "可选，类名称包含的关键字，只对比名称匹配的类", required = false) String nameFilter
+    ) throws IOException {
+        SchemaSource sourceSchema = schemaDiffEngine.resolveSource(source);
+        SchemaSource targetSchema = schemaDiffEngine.resolveSource(target);
+        List<DataDictItem> sourceItems = schemaDiffEngine.listClasses(sourceSchema, nameFilter);
+        List<DataDictItem> targetItems = schemaDiffEngine.listClasses(targetSchema, nameFilter);
+        int maxClasses = config.getDiff().getToolMaxClasses();
+        if (Math.max(sourceItems.size(), targetItems.size()) > maxClasses) {
+            throw new IllegalArgumentException("参与对比的类数量超过上限" + maxClasses + "，请通过nameFilter缩小范围");
+        }
+
+        List<SchemaChange> changes = new ArrayList<>();
+        SchemaDiffSummary summary = schemaDiffEngine.diff(sourceSchema, sourceItems, targetSchema, targetItems, changes::add);
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("summary", summary);
+        result.put("changes", changes);
+        return toOptimizedJsonString(result);
+    }
+
+    /**
+     * 解析结构对比的数据源（控制器专用）
+     */
+    public SchemaSource resolveSchemaSourceForController(String spec) throws IOException {
+        return schemaDiffEngine.resolveSource(spec);
+    }
+
+    /**
+     * 对比两份数据字典的结构，变化逐条交给sink（控制器专用）
+     */
+    public SchemaDiffSummary diffSchemasForController(SchemaSource source, SchemaSource target, String nameFilter,
+                                                      Consumer<SchemaChange> sink) {
+        return schemaDiffEngine.diff(source, schemaDiffEngine.listClasses(source, nameFilter),
+                target, schemaDiffEngine.listClasses(target, nameFilter), sink);
+    }
+
+    /**
+     * 导出应用代码的结构快照（控制器专用）
+     */
+    public Map<String, Object> exportSchemaSnapshotForController(String appCode, String nameFilter) throws IOException {
+        return schemaDiffEngine.exportSnapshot(appCode, nameFilter);
+    }
+
+    /**
+     * 根据表名或全类名反查数据字典类（控制器专用）
+     */
+    public Map<String, Object> findClassesByTableForController(String tableName) {
+        return toIndexResult(dataDictIndex.findByTableOrClassName(tableName));
+    }
+
+    /**
+     * 根据属性编码或字段编码反查数据字典类（控制器专用）
+     */
+    public Map<String, Object> findClassesByColumnForController(String columnName) {
+        return toIndexResult(dataDictIndex.findByColumnName(columnName));
+    }
+
+    private Map<String, Object> toIndexResult(List<ClassSummary> classes) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("indexedClassCount", dataDictIndex.getIndexedClassCount());
+        result.put("classes", classes);
+        return result;
+    }
+
+    /**
+     * 返回的结果被取消时，一并取消它所依赖的下载
+     */
+    private static <T> CompletableFuture<T> propagateCancel(CompletableFuture<T> result,
+                                                            Collection<? extends CompletableFuture<?>> sources) {
+        result.whenComplete((value, e) -> {
+            if (result.isCancelled()) {
+                for (CompletableFuture<?> source : sources) {
+                    source.cancel(false);
+                }
+            }
+        });
+        return result;
+    }
+
     /**
      * 优化的JSON序列化方法，减少转义字符
+     * 包内可见，供基准测试直接调用
      */
-    private String toOptimizedJsonString(Object obj) {
+    static String toOptimizedJsonString(Object obj) {
         return JSON.toJSONString(obj).replace("\\", "");
     }
 
@@ -0,0 +1,117 @@
+package win.ixuni.yonyoudatadict.trace;
+
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 一次工具调用的追踪记录
+ * 阶段可能来自多个线程（批量获取、引用解析线程池），并发追加；
+ * 阶段数量超过上限后只计数不再记录，避免引用很多的调用占用过多内存
+ */
+public class CallTrace {
+
+    private final long id;
+
+    private final String tool;
+
+    private final long startedAt;
+
+    private final long startNanos;
+
+    private final int maxSpans;
+
+    private final Queue<SpanRecord> spans = new ConcurrentLinkedQueue<>();
+
+    private final AtomicInteger spanCount = new AtomicInteger();
+
+    // 调用结束后设置
+    private volatile long durationNanos = -1;
+
+    private volatile String outcome;
+
+    // 调用对应的JFR事件，未启用JFR时为null
+    private final ToolCallEvent event;
+
+    CallTrace(long id, String tool, int maxSpans, ToolCallEvent event) {
+        this.id = id;
+        this.tool = tool;
+        this.startedAt = System.currentTimeMillis();
+        this.startNanos = System.nanoTime();
+        this.maxSpans = maxSpans;
+        this.event = event;
+    }
+
+    /**
+     * 追加一个阶段
+     *
+     * @param startNanos 阶段开始时的 System.nanoTime()
+     */
+    void addSpan(String name, String detail, long startNanos, long durationNanos) {
+        if (spanCount.incrementAndGet() > maxSpans) {
+            return;
+        }
+        spans.add(new SpanRecord(name, detail, Thread.currentThread().getName(),
+                startNanos - this.startNanos, durationNanos));
+    }
+
+    void finish(String outcome) {
+        this.outcome = outcome;
+        this.durationNanos = System.nanoTime() - startNanos;
+    }
+
+    ToolCallEvent getEvent() {
+        return event;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public String getTool() {
+        return tool;
+    }
+
+    public long getStartedAt() {
+        return startedAt;
+    }
+
+    /**
+     * 调用耗时（纳秒），未结束时为-1
+     */
+    public long getDurationNanos() {
+        return durationNanos;
+    }
+
+    public String getOutcome() {
+        return outcome;
+    }
+
+    /**
+     * 记录的阶段数量（含超过上限未记录的）
+     */
+    public int getSpanCount() {
+        return spanCount.get();
+    }
+
+    /**
+     * 超过上限未记录的阶段数量
+     */
+    public int getDroppedSpanCount() {
+        return Math.max(0, spanCount.get() - maxSpans);
+    }
+
+    /**
+     * 按开始时间排序的阶段列表
+     */
+    public List<SpanRecord> getSpans() {
+        List<SpanRecord> result = new ArrayList<>(spans);
+        result.sort(Comparator.comparingLong(SpanRecord::getOffsetNanos));
+        return result;
+    }
+
+}
@@ -0,0 +1,94 @@
+package win.ixuni.yonyoudatadict.trace;
+
+
+import jdk.jfr.EventType;
+import org.springframework.stereotype.Component;
+import win.ixuni.yonyoudatadict.config.DataDictConfig;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 工具调用追踪
+ * 调用开始时创建追踪并绑定到调用线程，结束时记录耗时；超过慢调用阈值的追踪进入 {@link SlowTraceBuffer}，
+ * 同时提交JFR事件
+ */
+@Component
+public class CallTracer {
+
+    private static final EventType TOOL_CALL_EVENT_TYPE = EventType.getEventType(ToolCallEvent.class);
+
+    private final DataDictConfig.Trace config;
+
+    private final SlowTraceBuffer slowTraces;
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    public CallTracer(DataDictConfig config) {
+        this.config = config.getTrace();
+        this.slowTraces = new SlowTraceBuffer(this.config.getSlowBufferSize());
+    }
+
+    /**
+     * 开始追踪一次工具调用，并绑定到当前线程
+     * 未启用追踪时返回null
+     *
+     * @param tool 工具名称
+     */
+    public CallTrace begin(String tool) {
+        boolean jfrEnabled = TOOL_CALL_EVENT_TYPE.isEnabled();
+        if (!config.isEnabled() && !jfrEnabled) {
+            return null;
+        }
+        ToolCallEvent event = null;
+        if (jfrEnabled) {
+            event = new ToolCallEvent();
+            event.begin();
+        }
+        CallTrace trace = new CallTrace(sequence.incrementAndGet(), tool,
+                config.isEnabled() ? Math.max(0, config.getMaxSpans()) : 0, event);
+        TraceContext.attach(trace);
+        return trace;
+    }
+
+    /**
+     * 解除当前线程绑定的追踪
+     * 异步调用在发起后立即解除，之后的阶段由线程池任务通过 {@link TraceContext#wrap} 记入
+     */
+    public void detach() {
+        TraceContext.detach();
+    }
+
+    /**
+     * 结束追踪，可以在任意线程调用
+     *
+     * @param trace   {@link #begin} 返回的追踪，为null时忽略
+     * @param outcome 调用结果：SUCCESS、ERROR 或 CANCELLED
+     */
+    public void finish(CallTrace trace, String outcome) {
+        if (trace == null) {
+            return;
+        }
+        trace.finish(outcome);
+        ToolCallEvent event = trace.getEvent();
+        if (event != null) {
+            event.end();
+            if (event.shouldCommit()) {
+                event.traceId = trace.getId();
+                event.tool = trace.getTool();
+                event.outcome = outcome;
+                event.spanCount = trace.getSpanCount();
+                event.commit();
+            }
+        }
+        if (config.isEnabled()
+                && trace.getDurationNanos() >= TimeUnit.MILLISECONDS.toNanos(config.getSlowThresholdMs())) {
+            slowTraces.offer(trace);
+        }
+    }
+
+    public SlowTraceBuffer getSlowTraces() {
+        return slowTraces;
+    }
+
+}
@@ -0,0 +1,32 @@
+package win.ixuni.yonyoudatadict.trace;
+
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 数据字典处理阶段的JFR事件：获取、下载、解析、处理器、序列化等
+ */
+@Name("win.ixuni.yonyoudatadict.Span")
+@Label("Data Dict Span")
+@Category("Yonyou Data Dict")
+@Description("数据字典处理阶段")
+@StackTrace(false)
+class DataDictSpanEvent extends jdk.jfr.Event {
+
+    @Label("Trace Id")
+    long traceId;
+
+    @Label("Tool")
+    String tool;
+
+    @Label("Name")
+    String name;
+
+    @Label("Detail")
+    String detail;
+
+}
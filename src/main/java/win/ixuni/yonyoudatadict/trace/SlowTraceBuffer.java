@@ -0,0 +1,90 @@
+package win.ixuni.yonyoudatadict.trace;
+
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 保留最慢的N次调用追踪的无锁缓冲区
+ * 新的追踪替换当前最快的一条，槽位通过CAS更新；并发写入冲突时重新挑选，
+ * 重试多次仍失败的追踪直接丢弃，不阻塞调用线程
+ */
+public class SlowTraceBuffer {
+
+    private static final int MAX_ATTEMPTS = 8;
+
+    private final AtomicReferenceArray<CallTrace> slots;
+
+    public SlowTraceBuffer(int capacity) {
+        this.slots = new AtomicReferenceArray<>(Math.max(1, capacity));
+    }
+
+    /**
+     * 加入一条已结束的追踪，比缓冲区中所有追踪都快时忽略
+     */
+    public void offer(CallTrace trace) {
+        long duration = trace.getDurationNanos();
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            int victim = -1;
+            CallTrace victimTrace = null;
+            for (int i = 0; i < slots.length(); i++) {
+                CallTrace current = slots.get(i);
+                if (current == null) {
+                    victim = i;
+                    victimTrace = null;
+                    break;
+                }
+                if (victimTrace == null || current.getDurationNanos() < victimTrace.getDurationNanos()) {
+                    victim = i;
+                    victimTrace = current;
+                }
+            }
+            if (victimTrace != null && victimTrace.getDurationNanos() >= duration) {
+                return;
+            }
+            if (slots.compareAndSet(victim, victimTrace, trace)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 按耗时从长到短排列的追踪
+     */
+    public List<CallTrace> snapshot() {
+        List<CallTrace> result = new ArrayList<>(slots.length());
+        for (int i = 0; i < slots.length(); i++) {
+            CallTrace trace = slots.get(i);
+            if (trace != null) {
+                result.add(trace);
+            }
+        }
+        result.sort(Comparator.comparingLong(CallTrace::getDurationNanos).reversed());
+        return result;
+    }
+
+    /**
+     * 按ID查找追踪
+     */
+    public CallTrace find(long id) {
+        for (int i = 0; i < slots.length(); i++) {
+            CallTrace trace = slots.get(i);
+            if (trace != null && trace.getId() == id) {
+                return trace;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 清空缓冲区
+     */
+    public void clear() {
+        for (int i = 0; i < slots.length(); i++) {
+            slots.set(i, null);
+        }
+    }
+
+}
@@ -0,0 +1,22 @@
+package win.ixuni.yonyoudatadict.trace;
+
+
+import lombok.Data;
+
+/**
+ * 调用追踪中的一个阶段，创建后不再修改
+ */
+@Data
+public class SpanRecord {
+
+    private final String name; // 阶段名称，如 fetch、download、parse、processor
+
+    private final String detail; // 阶段的补充信息，如类ID、处理器名称
+
+    private final String thread; // 执行阶段的线程
+
+    private final long offsetNanos; // 相对调用开始的偏移（纳秒）
+
+    private final long durationNanos; // 耗时（纳秒）
+
+}
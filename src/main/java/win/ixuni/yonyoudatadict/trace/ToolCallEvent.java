@@ -0,0 +1,32 @@
+package win.ixuni.yonyoudatadict.trace;
+
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * MCP工具调用的JFR事件
+ */
+@Name("win.ixuni.yonyoudatadict.ToolCall")
+@Label("Data Dict Tool Call")
+@Category("Yonyou Data Dict")
+@Description("MCP工具调用")
+@StackTrace(false)
+class ToolCallEvent extends jdk.jfr.Event {
+
+    @Label("Trace Id")
+    long traceId;
+
+    @Label("Tool")
+    String tool;
+
+    @Label("Outcome")
+    String outcome;
+
+    @Label("Span Count")
+    int spanCount;
+
+}
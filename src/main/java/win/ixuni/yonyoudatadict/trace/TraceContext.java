@@ -0,0 +1,86 @@
+package win.ixuni.yonyoudatadict.trace;
+
+
+import jdk.jfr.EventType;
+
+import java.util.concurrent.Executor;
+
+/**
+ * 当前线程的调用追踪上下文
+ * 工具调用开始时由 {@link CallTracer} 绑定到调用线程；提交到线程池的任务通过 {@link #wrap} 带上上下文，
+ * 其中的阶段同样记入该调用。没有追踪上下文时阶段只提交JFR事件
+ */
+public final class TraceContext {
+
+    private static final ThreadLocal<CallTrace> CURRENT = new ThreadLocal<>();
+
+    private static final EventType SPAN_EVENT_TYPE = EventType.getEventType(DataDictSpanEvent.class);
+
+    private TraceContext() {
+    }
+
+    /**
+     * 开始一个阶段
+     *
+     * @param name   阶段名称
+     * @param detail 补充信息，可为null
+     */
+    public static TraceSpan span(String name, String detail) {
+        CallTrace trace = CURRENT.get();
+        boolean jfrEnabled = SPAN_EVENT_TYPE.isEnabled();
+        if (trace == null && !jfrEnabled) {
+            return TraceSpan.NOOP;
+        }
+        return new TraceSpan(trace, name, detail, jfrEnabled ? new DataDictSpanEvent() : null);
+    }
+
+    /**
+     * 当前线程绑定的调用追踪，没有时返回null
+     */
+    public static CallTrace current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 让任务在执行线程中使用提交时的追踪上下文
+     */
+    public static Runnable wrap(Runnable task) {
+        CallTrace trace = CURRENT.get();
+        if (trace == null) {
+            return task;
+        }
+        return () -> {
+            CallTrace previous = CURRENT.get();
+            CURRENT.set(trace);
+            try {
+                task.run();
+            } finally {
+                restore(previous);
+            }
+        };
+    }
+
+    /**
+     * 包装线程池，提交的每个任务都带上提交线程的追踪上下文
+     */
+    public static Executor wrapExecutor(Executor executor) {
+        return task -> executor.execute(wrap(task));
+    }
+
+    static void attach(CallTrace trace) {
+        CURRENT.set(trace);
+    }
+
+    static void detach() {
+        CURRENT.remove();
+    }
+
+    private static void restore(CallTrace previous) {
+        if (previous != null) {
+            CURRENT.set(previous);
+        } else {
+            CURRENT.remove();
+        }
+    }
+
+}
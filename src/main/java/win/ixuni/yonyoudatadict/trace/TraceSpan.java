@@ -0,0 +1,54 @@
+package win.ixuni.yonyoudatadict.trace;
+
+
+/**
+ * 进行中的追踪阶段，配合 try-with-resources 使用
+ * 结束时写入当前调用的追踪记录，并提交JFR事件
+ */
+public class TraceSpan implements AutoCloseable {
+
+    // 既没有追踪上下文也未启用JFR时使用，结束时什么也不做
+    static final TraceSpan NOOP = new TraceSpan(null, null, null, null);
+
+    private final CallTrace trace;
+
+    private final String name;
+
+    private final String detail;
+
+    private final DataDictSpanEvent event;
+
+    private final long startNanos;
+
+    TraceSpan(CallTrace trace, String name, String detail, DataDictSpanEvent event) {
+        this.trace = trace;
+        this.name = name;
+        this.detail = detail;
+        this.event = event;
+        this.startNanos = System.nanoTime();
+        if (event != null) {
+            event.begin();
+        }
+    }
+
+    @Override
+    public void close() {
+        if (this == NOOP) {
+            return;
+        }
+        if (trace != null) {
+            trace.addSpan(name, detail, startNanos, System.nanoTime() - startNanos);
+        }
+        if (event != null) {
+            event.end();
+            if (event.shouldCommit()) {
+                event.traceId = trace != null ? trace.getId() : 0;
+                event.tool = trace != null ? trace.getTool() : null;
+                event.name = name;
+                event.detail = detail;
+                event.commit();
+            }
+        }
+    }
+
+}
@@ -1,6 +1,6 @@
 package win.ixuni.yonyoudatadict.util;
 
-import lombok.Getter;
+import jakarta.annotation.PreDestroy;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -13,60 +13,161 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 import win.ixuni.yonyoudatadict.adapter.VersionAdapter;
 import win.ixuni.yonyoudatadict.adapter.VersionAdapterFactory;
+import win.ixuni.yonyoudatadict.cache.CachePartition;
+import win.ixuni.yonyoudatadict.cache.CacheSizeEstimator;
+import win.ixuni.yonyoudatadict.cache.DetailSnapshotCodec;
+import win.ixuni.yonyoudatadict.cache.DetailStore;
+import win.ixuni.yonyoudatadict.cache.HotKey;
 import win.ixuni.yonyoudatadict.cache.LRUCache;
+import win.ixuni.yonyoudatadict.cache.LRUCachePartition;
+import win.ixuni.yonyoudatadict.cache.SnapshotPart;
 import win.ixuni.yonyoudatadict.config.DataDictConfig;
+import win.ixuni.yonyoudatadict.diagnostics.HotPathLog;
+import win.ixuni.yonyoudatadict.index.ClassNameIndex;
+import win.ixuni.yonyoudatadict.index.DataDictIndex;
+import win.ixuni.yonyoudatadict.index.ReverseRefIndex;
+import win.ixuni.yonyoudatadict.metrics.DataDictMetrics;
 import win.ixuni.yonyoudatadict.model.DataDictDetail;
 import win.ixuni.yonyoudatadict.model.DataDictItem;
+import win.ixuni.yonyoudatadict.model.ItemsSnapshot;
 import win.ixuni.yonyoudatadict.model.YonyouVersion;
-import win.ixuni.yonyoudatadict.processor.CustomFieldRemovalProcessor;
 import win.ixuni.yonyoudatadict.processor.DataDictProcessor;
-import win.ixuni.yonyoudatadict.processor.DefaultDataDictProcessor;
-import win.ixuni.yonyoudatadict.processor.RefClassPathHrefProcessor;
+import win.ixuni.yonyoudatadict.processor.ProcessorPipeline;
+import win.ixuni.yonyoudatadict.processor.ViewCompleteness;
+import win.ixuni.yonyoudatadict.trace.TraceContext;
+import win.ixuni.yonyoudatadict.trace.TraceSpan;
 
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * 用友数据字典下载工具类 - 多版本适配架构
+ * 原始解析结果缓存随缓存快照持久化，重启或导入快照后无需重新下载。
+ * 应用代码、适配器、缓存和处理器链组成当前生效的获取管线，重新加载配置时整体替换，见 {@link #reconfigure}。
+ * 默认应用代码和最近使用的几个其他应用代码各有详情缓存，缓存条目经 {@link DetailStore} 按内容去重，
+ * 不同应用代码中完全相同的类定义只保存一份
  */
 @Component
-public class DataDictDownloader {
+public class DataDictDownloader implements SnapshotPart {
     
     private static final Logger logger = LoggerFactory.getLogger(DataDictDownloader.class);
+
+    // 每次调用都会经过的日志点，按周期汇总输出，避免逐条INFO日志
+    private static final HotPathLog DETAIL_CACHE_HIT = HotPathLog.of(logger, "detail.cache.hit");
+    private static final HotPathLog DETAIL_DOWNLOAD = HotPathLog.of(logger, "detail.download");
+    private static final HotPathLog DETAIL_CACHED = HotPathLog.of(logger, "detail.cached");
+    private static final HotPathLog ITEMS_CACHE_HIT = HotPathLog.of(logger, "items.cache.hit");
+    private static final HotPathLog UPSTREAM_FETCHED = HotPathLog.of(logger, "upstream.fetched");
     
     private final DataDictConfig config;
     private final RestTemplate restTemplate;
 
     private final VersionAdapterFactory adapterFactory;
+
+    private final DataDictIndex dataDictIndex;
+
+    private final ClassNameIndex classNameIndex;
+
+    private final ReverseRefIndex reverseRefIndex;
+
+    // 引用类名解析线程池
+    private final ExecutorService refResolveExecutor;
+
+    // 批量获取详情线程池，与引用类名解析线程池分开，避免处理器等待引用解析时互相占满线程
+    private final ExecutorService detailFetchExecutor;
     
     // 处理器链
-    private List<DataDictProcessor> processors = new ArrayList<>();
+    private final ProcessorPipeline processorPipeline;
 
-    // 数据字典项列表缓存
-    private volatile List<DataDictItem> dataDictItemsCache = null;
+    // 业务指标
+    private final DataDictMetrics metrics;
 
-    /**
-     * -- GETTER --
-     * 获取DataDictDownloader实例的静态方法
-     * 供处理器使用，避免循环依赖
-     */
-    // 静态实例引用，用于处理器访问
-    @Getter
-    private static DataDictDownloader instance;
+    // 按内容去重的详情存储，各应用代码的详情缓存共享内容相同的详情
+    private final DetailStore detailStore;
+
+    // 非默认应用代码的详情缓存：应用代码（小写）-> 原始解析结果缓存，按访问顺序只保留最近使用的几个。
+    // 先锁本对象再锁其中的缓存
+    private final LinkedHashMap<String, LRUCache<String, DataDictDetail>> appCodeCaches =
+            new LinkedHashMap<>(16, 0.75f, true);
+
+    // 当前生效的获取管线，每个请求开始时读取一次
+    private volatile Pipeline pipeline;
+
+    // 替换获取管线时持有的锁
+    private final Object reconfigureLock = new Object();
 
-    // 数据字典详情LRU缓存
-    private final LRUCache<String, DataDictDetail> detailCache;
+    // 数据字典项列表快照版本，每次缓存新的列表快照时递增
+    private final AtomicLong itemsVersion = new AtomicLong();
+
+    // 列表快照自身携带的版本序号，在发布前分配，与快照一起发布
+    private final AtomicLong itemsSnapshotSequence = new AtomicLong();
+
+    // 详情内容代数，清除详情缓存或变更处理器链时递增
+    private final AtomicLong detailGeneration = new AtomicLong();
+
+    // 数据字典项列表缓存的命中和未命中次数
+    private final AtomicLong itemsHitCount = new AtomicLong();
+
+    private final AtomicLong itemsMissCount = new AtomicLong();
+
+    // 供缓存管理端点使用的分区视图：detail、view、items
+    private final List<CachePartition> cachePartitions;
     
     @Autowired
-    public DataDictDownloader(DataDictConfig config, VersionAdapterFactory adapterFactory) {
+    public DataDictDownloader(DataDictConfig config, VersionAdapterFactory adapterFactory,
+                              DataDictIndex dataDictIndex, ClassNameIndex classNameIndex,
+                              ReverseRefIndex reverseRefIndex, ProcessorPipeline processorPipeline,
+                              DataDictMetrics metrics, DetailStore detailStore) {
         this.config = config;
+        this.metrics = metrics;
+        this.detailStore = detailStore;
         this.adapterFactory = adapterFactory;
+        this.processorPipeline = processorPipeline;
+        this.dataDictIndex = dataDictIndex;
+        this.classNameIndex = classNameIndex;
+        this.reverseRefIndex = reverseRefIndex;
+        this.refResolveExecutor = createExecutor("ref-resolve-", config.getRefResolve().getThreads());
+        this.detailFetchExecutor = createExecutor("detail-fetch-", config.getBatch().getThreads());
         this.restTemplate = new RestTemplate();
 
-        // 初始化详情缓存
-        this.detailCache = new LRUCache<>(config);
+        // 检测当前版本，初始化详情缓存
+        this.pipeline = buildPipeline(config, processorPipeline.getChain(), null);
+        logger.info("当前配置版本: {} ({})", pipeline.version.getDisplayName(), pipeline.version.getParseType());
+
+        // 分区和指标每次取当前管线的缓存，替换管线后无需重新绑定
+        this.cachePartitions = List.of(
+                new LRUCachePartition<DataDictDetail>("detail", () -> pipeline.detailCache,
+                        CacheSizeEstimator::estimate, this::onDetailsEvicted),
+                new LRUCachePartition<DataDictDetail>("view", () -> pipeline.viewCache,
+                        CacheSizeEstimator::estimate, keys -> detailGeneration.incrementAndGet()),
+                new ItemsCachePartition());
+        metrics.bindCache("detail", cachePartitions.get(0));
+        metrics.bindCache("view", cachePartitions.get(1));
+        metrics.bindExecutor("ref-resolve", refResolveExecutor);
+        metrics.bindExecutor("detail-fetch", detailFetchExecutor);
 
         // 设置RestTemplate使用UTF-8编码
         this.restTemplate.getMessageConverters().clear();
@@ -80,35 +181,340 @@ public class DataDictDownloader {
                         .filter(converter -> !(converter instanceof StringHttpMessageConverter))
                         .collect(java.util.stream.Collectors.toList())
         );
-        
-        // 添加默认处理器
-        this.processors.add(new DefaultDataDictProcessor());
-        // 添加RefClassPathHref处理器
-        this.processors.add(new RefClassPathHrefProcessor());
-        // 添加自定义字段移除处理器
-        this.processors.add(new CustomFieldRemovalProcessor(config));
+    }
+
+    /**
+     * 按重新加载的配置构建新的获取管线，并以一次引用赋值整体发布
+     * 应用代码不变时沿用原有的缓存条目、数据字典项列表和索引：处理器视图按处理器链配置键缓存，
+     * 处理器配置变化后原有视图不会被误用；缓存大小变化时按新容量复制缓存。
+     * 应用代码变化时清空索引，新应用代码有非默认应用代码的详情缓存时接管其条目并重建索引，否则使用空的缓存；
+     * 原应用代码的详情缓存转为非默认应用代码的详情缓存保留。正在进行的请求在原管线上完成，
+     * 其结果不再写入已被替换的缓存，不影响新管线
+     *
+     * @param newConfig 重新加载的配置
+     * @return 新管线的说明
+     * @throws IllegalArgumentException 配置无效时抛出，此时仍使用原管线
+     */
+    public Map<String, Object> reconfigure(DataDictConfig newConfig) {
+        String appCode = newConfig.getDefaultAppCode();
+        if (appCode == null || appCode.trim().isEmpty()) {
+            throw new IllegalArgumentException("默认应用代码 (default-app-code) 不能为空");
+        }
+        if (newConfig.getCacheSize() <= 0) {
+            throw new IllegalArgumentException("缓存大小 (cache-size) 必须大于0");
+        }
+        synchronized (reconfigureLock) {
+            Pipeline previous = pipeline;
+            boolean appCodeChanged = !appCode.equalsIgnoreCase(String.valueOf(previous.appCode));
+            Pipeline next;
+            // 复制缓存到发布之间持有原缓存的锁，原管线上的下载此后发现缓存已替换，不再写入原缓存
+            synchronized (previous.detailCache) {
+                next = buildPipeline(newConfig, processorPipeline.reconfigure(newConfig), previous);
+                if (appCodeChanged) {
+                    // 索引只对应一个应用代码；发布前清空，原管线上尚未完成的下载发现管线已替换后不再写入索引
+                    dataDictIndex.clear();
+                    classNameIndex.clear();
+                    reverseRefIndex.clear();
+                }
+                pipeline = next;
+            }
+            int adopted = 0;
+            if (appCodeChanged) {
+                retainAppCodeCache(previous.appCode, previous.detailCache);
+                adopted = reindexDetails(next);
+                itemsVersion.incrementAndGet();
+            }
+            detailGeneration.incrementAndGet();
+            logger.info("获取管线已替换: 第 {} 代，应用代码 {}，版本 {}，缓存大小 {}，{}",
+                    next.generation, next.appCode, next.version.getDisplayName(), next.cacheSize,
+                    appCodeChanged ? "应用代码变化，索引已重置，接管已缓存的详情 " + adopted + " 个" : "沿用原有缓存");
+            Map<String, Object> info = getPipelineInfo();
+            info.put("appCodeChanged", appCodeChanged);
+            return info;
+        }
+    }
+
+    /**
+     * 当前获取管线的说明：代数、应用代码、版本、适配器、缓存配置和处理器链
+     */
+    public Map<String, Object> getPipelineInfo() {
+        Pipeline p = pipeline;
+        Map<String, Object> info = new LinkedHashMap<>();
+        info.put("generation", p.generation);
+        info.put("appCode", p.appCode);
+        info.put("version", p.version.getDisplayName());
+        info.put("adapter", adapterName(p.adapter));
+        info.put("cacheEnabled", p.cacheEnabled);
+        info.put("cacheSize", p.cacheSize);
+        info.put("processors", p.chain.getConfigKey(p.version, Collections.emptySet()));
+        return info;
+    }
 
-        // 设置静态实例
-        instance = this;
+    /**
+     * 按配置构建获取管线，previous不为null且应用代码相同时沿用其缓存，
+     * 应用代码不同时接管新应用代码已有的非默认应用代码详情缓存中的条目
+     */
+    private Pipeline buildPipeline(DataDictConfig source, ProcessorPipeline.Chain chain, Pipeline previous) {
+        String appCode = source.getDefaultAppCode();
+        int cacheSize = source.getCacheSize();
+        YonyouVersion version = adapterFactory.detectVersion(appCode);
+        VersionAdapter adapter = adapterFactory.getAdapter(version);
+        if (previous == null) {
+            return new Pipeline(1, appCode, version, adapter, source.isCacheEnabled(), cacheSize, chain,
+                    new LRUCache<>(cacheSize, this::releaseDetail), new LRUCache<>(cacheSize),
+                    new AtomicReference<>(), new ConcurrentHashMap<>(), new ConcurrentHashMap<>());
+        }
 
-        // 检测当前版本
-        String currentAppCode = config.getDefaultAppCode();
-        if (currentAppCode != null && !currentAppCode.trim().isEmpty()) {
-            YonyouVersion version = adapterFactory.detectVersion(currentAppCode);
-            logger.info("当前配置版本: {} ({})", version.getDisplayName(), version.getParseType());
+        boolean sameAppCode = appCode.equalsIgnoreCase(String.valueOf(previous.appCode));
+        boolean keepEntries = sameAppCode && previous.cacheSize == cacheSize;
+        LRUCache<String, DataDictDetail> detailCache = keepEntries
+                ? previous.detailCache : copyCache(previous.detailCache, cacheSize, sameAppCode);
+        LRUCache<String, DataDictDetail> viewCache = keepEntries
+                ? previous.viewCache : copyCache(previous.viewCache, cacheSize, sameAppCode);
+        if (sameAppCode) {
+            return new Pipeline(previous.generation + 1, appCode, version, adapter, source.isCacheEnabled(),
+                    cacheSize, chain, detailCache, viewCache, previous.items,
+                    previous.inFlightDetails, previous.inFlightResolutions);
+        }
+        LRUCache<String, DataDictDetail> existing = takeAppCodeCache(appCode);
+        if (existing != null) {
+            // 条目的引用随之转移，existing已从非默认应用代码的详情缓存中移除，不会再被写入
+            synchronized (existing) {
+                for (Map.Entry<String, DataDictDetail> entry : existing.entrySet()) {
+                    detailCache.put(entry.getKey(), entry.getValue());
+                }
+            }
+        }
+        // 应用代码变化时，类ID相同也不是同一个类，不能与原管线合并下载
+        return new Pipeline(previous.generation + 1, appCode, version, adapter, source.isCacheEnabled(),
+                cacheSize, chain, detailCache, viewCache, new AtomicReference<>(),
+                new ConcurrentHashMap<>(), new ConcurrentHashMap<>());
+    }
+
+    private static LRUCache<String, DataDictDetail> copyCache(LRUCache<String, DataDictDetail> cache,
+                                                             int capacity, boolean withEntries) {
+        synchronized (cache) {
+            return cache.copy(capacity, withEntries);
+        }
+    }
+
+    /**
+     * 应用代码变化后，用新管线接管的详情重建索引
+     *
+     * @return 接管的详情数
+     */
+    private int reindexDetails(Pipeline p) {
+        List<DataDictDetail> details;
+        synchronized (p.detailCache) {
+            details = new ArrayList<>(p.detailCache.values());
+        }
+        for (DataDictDetail detail : details) {
+            dataDictIndex.indexDetail(detail);
+            classNameIndex.record(detail);
+            reverseRefIndex.indexDetail(detail, p.version);
+        }
+        return details.size();
+    }
+
+    /**
+     * 详情缓存条目被移除时释放其在详情存储中的引用
+     */
+    private void releaseDetail(String classId, DataDictDetail detail) {
+        detailStore.release(detail);
+    }
+
+    /**
+     * 取得非默认应用代码的详情缓存，不存在时创建；未启用缓存或不缓存非默认应用代码时返回null
+     */
+    private LRUCache<String, DataDictDetail> appCodeCache(Pipeline p, String appCode) {
+        if (!p.cacheEnabled || config.getAppCodeCacheCount() <= 0) {
+            return null;
+        }
+        String key = appCode.toLowerCase();
+        synchronized (appCodeCaches) {
+            LRUCache<String, DataDictDetail> cache = appCodeCaches.get(key);
+            if (cache == null) {
+                cache = new LRUCache<>(p.cacheSize, this::releaseDetail);
+                appCodeCaches.put(key, cache);
+                evictAppCodeCaches();
+            }
+            return cache;
+        }
+    }
+
+    /**
+     * 移除并返回应用代码的非默认应用代码详情缓存，条目不释放，由调用方接管
+     */
+    private LRUCache<String, DataDictDetail> takeAppCodeCache(String appCode) {
+        synchronized (appCodeCaches) {
+            return appCodeCaches.remove(appCode.toLowerCase());
+        }
+    }
+
+    /**
+     * 保留不再是默认应用代码的详情缓存，不缓存非默认应用代码时清空
+     */
+    private void retainAppCodeCache(String appCode, LRUCache<String, DataDictDetail> cache) {
+        synchronized (appCodeCaches) {
+            if (appCode != null && config.getAppCodeCacheCount() > 0) {
+                appCodeCaches.put(appCode.toLowerCase(), cache);
+                evictAppCodeCaches();
+                return;
+            }
+        }
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+
+    /**
+     * 超出个数时清空并移除最久未使用的非默认应用代码详情缓存，需持有 appCodeCaches 的锁
+     */
+    private void evictAppCodeCaches() {
+        Iterator<Map.Entry<String, LRUCache<String, DataDictDetail>>> iterator = appCodeCaches.entrySet().iterator();
+        while (appCodeCaches.size() > config.getAppCodeCacheCount() && iterator.hasNext()) {
+            Map.Entry<String, LRUCache<String, DataDictDetail>> eldest = iterator.next();
+            iterator.remove();
+            synchronized (eldest.getValue()) {
+                eldest.getValue().clear();
+            }
+            logger.info("已淘汰应用代码 {} 的详情缓存", eldest.getKey());
+        }
+    }
+
+    /**
+     * 详情存储的去重统计，以及各应用代码详情缓存的条目数（第一个为默认应用代码）
+     */
+    public Map<String, Object> getDetailStoreStats() {
+        Map<String, Integer> appCodes = new LinkedHashMap<>();
+        Pipeline p = pipeline;
+        synchronized (p.detailCache) {
+            appCodes.put(p.appCode, p.detailCache.size());
+        }
+        synchronized (appCodeCaches) {
+            for (Map.Entry<String, LRUCache<String, DataDictDetail>> entry : appCodeCaches.entrySet()) {
+                synchronized (entry.getValue()) {
+                    appCodes.put(entry.getKey(), entry.getValue().size());
+                }
+            }
         }
+        Map<String, Object> stats = detailStore.getStats();
+        stats.put("appCodes", appCodes);
+        return stats;
     }
 
     /**
-     * 清除详情缓存
+     * 清除详情缓存（包括原始解析结果、处理器视图和非默认应用代码的详情）
      */
     public void clearDetailCache() {
-        if (detailCache != null) {
-            synchronized (detailCache) {
-                detailCache.clear();
-                logger.info("数据字典详情缓存已清除");
+        Pipeline p = pipeline;
+        synchronized (p.detailCache) {
+            p.detailCache.clear();
+        }
+        synchronized (p.viewCache) {
+            p.viewCache.clear();
+        }
+        synchronized (appCodeCaches) {
+            for (LRUCache<String, DataDictDetail> cache : appCodeCaches.values()) {
+                synchronized (cache) {
+                    cache.clear();
+                }
+            }
+            appCodeCaches.clear();
+        }
+        detailGeneration.incrementAndGet();
+        logger.info("数据字典详情缓存已清除");
+    }
+
+    /**
+     * 清除数据字典项列表缓存，下次访问时重新下载
+     * 列表快照版本递增，依赖列表的搜索结果和响应缓存随之失效
+     */
+    public void clearItemsCache() {
+        if (pipeline.items.getAndSet(null) == null) {
+            return;
+        }
+        itemsVersion.incrementAndGet();
+        logger.info("数据字典项列表缓存已清除");
+    }
+
+    /**
+     * 获取缓存分区：detail（原始解析结果）、view（处理器视图）、items（数据字典项列表）
+     */
+    public List<CachePartition> getCachePartitions() {
+        return cachePartitions;
+    }
+
+    /**
+     * 类ID的原始解析结果是否已缓存，不影响命中统计和访问顺序
+     */
+    public boolean isDetailCached(String classId) {
+        Pipeline p = pipeline;
+        synchronized (p.detailCache) {
+            return p.detailCache.containsKey(classId);
+        }
+    }
+
+    /**
+     * 原始解析结果被淘汰后，一并淘汰由它生成的处理器视图，并使下游缓存的序列化结果失效
+     */
+    private void onDetailsEvicted(Collection<String> classIds) {
+        Set<String> evicted = new HashSet<>(classIds);
+        Pipeline p = pipeline;
+        synchronized (p.viewCache) {
+            p.viewCache.removeKeys(viewKey -> evicted.contains(viewKey.substring(0, viewKey.indexOf('#'))));
+        }
+        detailGeneration.incrementAndGet();
+        logger.info("已淘汰 {} 个数据字典详情缓存", evicted.size());
+    }
+
+    @Override
+    public String getSnapshotName() {
+        return "details";
+    }
+
+    @Override
+    public void writeSnapshot(DataOutputStream out) throws IOException {
+        List<DataDictDetail> details;
+        Pipeline p = pipeline;
+        synchronized (p.detailCache) {
+            details = new ArrayList<>(p.detailCache.values());
+        }
+        out.writeInt(details.size());
+        for (DataDictDetail detail : details) {
+            DetailSnapshotCodec.write(out, detail);
+        }
+    }
+
+    @Override
+    public void readSnapshot(DataInputStream in) throws IOException {
+        int count = in.readInt();
+        int loaded = 0;
+        Pipeline p = pipeline;
+        for (int i = 0; i < count; i++) {
+            DataDictDetail detail = DetailSnapshotCodec.read(in);
+            if (!p.cacheEnabled || detail.getClassId() == null) {
+                continue;
+            }
+            // 运行期间已下载的详情优先，快照只补充缺失的条目
+            DataDictDetail shared = detailStore.intern(detail);
+            boolean added;
+            synchronized (p.detailCache) {
+                added = p.detailCache == pipeline.detailCache && !p.detailCache.containsKey(detail.getClassId());
+                if (added) {
+                    p.detailCache.put(detail.getClassId(), shared);
+                }
+            }
+            if (!added) {
+                detailStore.release(shared);
+                continue;
             }
+            dataDictIndex.indexDetail(detail);
+            classNameIndex.record(detail);
+            reverseRefIndex.indexDetail(detail, p.version);
+            loaded++;
         }
+        logger.info("从快照加载了 {} 个数据字典详情", loaded);
     }
 
     /**
@@ -119,60 +525,194 @@ public class DataDictDownloader {
      * @return 数据字典详情
      */
     public DataDictDetail downloadDataDictDetail(String classId, boolean applyProcessors) {
+        Pipeline p = pipeline;
+        return applyProcessors ? getDetailView(p, classId, Collections.emptySet()) : getRawDetail(p, classId);
+    }
+
+    /**
+     * 获取经过处理器链处理后的数据字典详情视图
+     * 视图由缓存中不可修改的原始解析结果按需生成，并按处理器链的配置键缓存，
+     * 跳过不同处理器或处理器配置变化时无需重新下载，也无需清空缓存；
+     * 引用类名因超时或失败未能完整解析的视图只返回给本次调用，不缓存
+     *
+     * @param classId  类ID
+     * @param excluded 本次需要跳过的处理器类型
+     * @return 处理后的数据字典详情
+     */
+    public DataDictDetail getDetailView(String classId, Set<Class<? extends DataDictProcessor>> excluded) {
+        return getDetailView(pipeline, classId, excluded);
+    }
+
+    private DataDictDetail getDetailView(Pipeline p, String classId, Set<Class<? extends DataDictProcessor>> excluded) {
+        YonyouVersion version = p.version;
+        String viewKey = classId + "#" + p.chain.getConfigKey(version, excluded);
+        if (p.cacheEnabled) {
+            synchronized (p.viewCache) {
+                DataDictDetail cachedView = p.viewCache.get(viewKey);
+                if (cachedView != null) {
+                    DETAIL_CACHE_HIT.record("从缓存返回数据字典详情，classId: {}", classId);
+                    return cachedView;
+                }
+            }
+        }
+
+        DataDictDetail detail = getRawDetail(p, classId);
+        if (detail == null) {
+            return null;
+        }
+
+        long processStart = System.nanoTime();
+        boolean complete;
+        try (TraceSpan span = TraceContext.span("process", classId);
+             ViewCompleteness.Scope completeness = ViewCompleteness.track()) {
+            detail = p.chain.process(detail, version, excluded);
+            complete = completeness.isComplete();
+        } catch (Exception e) {
+            logger.error("处理数据字典详情时出错，classId: {}", classId, e);
+            return null;
+        } finally {
+            metrics.recordStage(DataDictMetrics.Stage.PROCESS, p.appCode,
+                    adapterName(p.adapter), System.nanoTime() - processStart);
+        }
+
+        if (detail != null && p.cacheEnabled) {
+            if (!complete) {
+                logger.debug("引用类名未完整解析，不缓存处理结果，classId: {}", classId);
+                return detail;
+            }
+            synchronized (p.viewCache) {
+                p.viewCache.put(viewKey, detail);
+            }
+        }
+        return detail;
+    }
+
+    /**
+     * 在批量获取线程池中异步获取数据字典详情
+     * 经过与同步获取相同的缓存和下载合并，可用于并发获取多个类的详情。
+     * 取消返回的结果时，尚在排队的下载不再执行；已开始的下载不中断，
+     * 以免影响合并到同一次下载的其他请求，下载结果仍会写入缓存
+     *
+     * @param classId         类ID
+     * @param applyProcessors 是否应用处理器链
+     * @param excluded        应用处理器链时需要跳过的处理器类型
+     * @return 数据字典详情，未找到或解析失败时结果为null
+     */
+    public CompletableFuture<DataDictDetail> downloadDataDictDetailAsync(
+            String classId, boolean applyProcessors, Set<Class<? extends DataDictProcessor>> excluded) {
+        CompletableFuture<DataDictDetail> result = new CompletableFuture<>();
+        Pipeline p = pipeline;
+        Future<?> task = detailFetchExecutor.submit(TraceContext.wrap(() -> {
+            try {
+                result.complete(applyProcessors ? getDetailView(p, classId, excluded) : getRawDetail(p, classId));
+            } catch (RuntimeException | Error e) {
+                result.completeExceptionally(e);
+            }
+        }));
+        result.whenComplete((detail, e) -> {
+            if (result.isCancelled()) {
+                task.cancel(false);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * 获取原始解析结果（未经处理器处理），结果不可修改，可安全地在线程间共享
+     * 相同类ID的并发请求合并为一次下载
+     */
+    private DataDictDetail getRawDetail(Pipeline p, String classId) {
         // 先检查缓存
-        if (config.isCacheEnabled()) {
-            synchronized (detailCache) {
-                DataDictDetail cachedDetail = detailCache.get(classId);
+        if (p.cacheEnabled) {
+            synchronized (p.detailCache) {
+                DataDictDetail cachedDetail = p.detailCache.get(classId);
                 if (cachedDetail != null) {
-                    logger.info("从缓存返回数据字典详情，classId: {}", classId);
                     return cachedDetail;
                 }
             }
         }
 
+        CompletableFuture<DataDictDetail> future = new CompletableFuture<>();
+        CompletableFuture<DataDictDetail> existing = p.inFlightDetails.putIfAbsent(classId, future);
+        if (existing != null) {
+            // 等待其他请求发起的同一次下载
+            try (TraceSpan span = TraceContext.span("coalesced-wait", classId)) {
+                return existing.join();
+            }
+        }
+        try (TraceSpan span = TraceContext.span("fetch", classId)) {
+            DataDictDetail detail = fetchRawDetail(p, classId);
+            future.complete(detail);
+            return detail;
+        } catch (RuntimeException | Error e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            p.inFlightDetails.remove(classId, future);
+        }
+    }
+
+    /**
+     * 下载并解析原始详情，写入索引和缓存
+     */
+    private DataDictDetail fetchRawDetail(Pipeline p, String classId) {
         try {
-            String currentAppCode = config.getDefaultAppCode();
+            String currentAppCode = p.appCode;
             if (currentAppCode == null || currentAppCode.trim().isEmpty()) {
                 logger.error("默认应用代码 (default-app-code) 未在配置文件中设置");
                 return null;
             }
 
             // 获取对应版本的适配器
-            VersionAdapter adapter = adapterFactory.getAdapter(currentAppCode);
+            VersionAdapter adapter = p.adapter;
             if (adapter == null) {
                 logger.error("无法找到适合的版本适配器，应用代码: {}", currentAppCode);
                 return null;
             }
 
             String url = adapter.buildDetailUrl(config.getBaseUrl(), currentAppCode, classId);
-            logger.info("使用 {} 下载数据字典详情，URL: {}",
+            DETAIL_DOWNLOAD.record("使用 {} 下载数据字典详情，URL: {}",
                     adapter.getSupportedVersion().getDisplayName(), url);
 
-            String content = downloadWithProperEncoding(url, adapter);
+            String content = downloadWithProperEncoding(url, adapter, currentAppCode);
             if (content == null) {
                 logger.error("无法下载数据字典详情");
                 return null;
             }
 
-            DataDictDetail detail = adapter.parseDataDictDetail(content, classId);
+            DataDictDetail detail = parseDetail(adapter, currentAppCode, content, classId);
+            if (detail == null) {
+                return null;
+            }
 
-            // 根据参数决定是否应用处理器链
-            if (applyProcessors && detail != null) {
-                // 应用处理器链
-                for (DataDictProcessor processor : processors) {
-                    detail = processor.process(detail);
-                    if (detail == null) {
-                        break;
-                    }
-                }
+            // 原始解析结果不可修改，处理器只能基于它生成新的视图
+            if (detail.getProperties() != null) {
+                detail = detail.withProperties(Collections.unmodifiableList(detail.getProperties()));
+            }
+
+            // 用原始解析结果更新反向索引、类名索引和反向引用索引，管线已替换时索引可能已属于其他应用代码
+            if (p == pipeline) {
+                dataDictIndex.indexDetail(detail);
+                classNameIndex.record(detail);
+                reverseRefIndex.indexDetail(detail, adapter.getSupportedVersion());
             }
 
-            // 缓存结果（只缓存经过完整处理的结果）
-            if (detail != null && config.isCacheEnabled() && applyProcessors) {
-                synchronized (detailCache) {
-                    detailCache.put(classId, detail);
-                    logger.info("数据字典详情已缓存，classId: {}", classId);
+            if (p.cacheEnabled) {
+                // 按内容去重后写入，缓存已被替换时不再写入
+                DataDictDetail shared = detailStore.intern(detail);
+                boolean cached;
+                synchronized (p.detailCache) {
+                    cached = p.detailCache == pipeline.detailCache;
+                    if (cached) {
+                        p.detailCache.put(classId, shared);
+                    }
+                }
+                if (!cached) {
+                    detailStore.release(shared);
+                    return detail;
                 }
+                DETAIL_CACHED.record("数据字典详情已缓存，classId: {}", classId);
+                return shared;
             }
 
             return detail;
@@ -181,7 +721,123 @@ public class DataDictDownloader {
             return null;
         }
     }
-    
+
+    /**
+     * 批量解析类ID对应的类名（优先全类名，其次显示名称）
+     * 先查询类名索引，未命中的类ID并发下载解析，所有下载共享一个总超时时间；
+     * 超时或失败的类ID不会出现在返回结果中，或只带有数据字典项列表中的显示名称，
+     * 此时将当前线程的处理结果标记为不完整（见 {@link ViewCompleteness}）
+     *
+     * @param classIds 类ID集合
+     * @return 类ID -> 类名
+     */
+    public Map<String, String> resolveClassNames(Collection<String> classIds) {
+        Pipeline p = pipeline;
+        Map<String, String> result = new HashMap<>();
+        Map<String, CompletableFuture<ClassNameIndex.Entry>> pending = new LinkedHashMap<>();
+
+        for (String classId : classIds) {
+            if (classId == null || result.containsKey(classId) || pending.containsKey(classId)) {
+                continue;
+            }
+            // 只有来自详情的条目才有全类名，仅来自数据字典项列表的条目仍需下载详情
+            ClassNameIndex.Entry entry = classNameIndex.get(classId);
+            if (entry != null && entry.isFromDetail() && entry.getPreferredName() != null) {
+                result.put(classId, entry.getPreferredName());
+            } else {
+                pending.put(classId, resolveClassNameAsync(p, classId));
+            }
+        }
+
+        if (pending.isEmpty()) {
+            return result;
+        }
+
+        // 等待引用类名解析，耗时主要来自其中需要下载的类
+        try (TraceSpan span = TraceContext.span("ref-resolve-wait", pending.size() + " classes")) {
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(config.getRefResolve().getTimeoutMs());
+            for (Map.Entry<String, CompletableFuture<ClassNameIndex.Entry>> item : pending.entrySet()) {
+                try {
+                    long remaining = Math.max(0, deadline - System.nanoTime());
+                    ClassNameIndex.Entry entry = item.getValue().get(remaining, TimeUnit.NANOSECONDS);
+                    if (entry != null && entry.getPreferredName() != null) {
+                        result.put(item.getKey(), entry.getPreferredName());
+                    }
+                } catch (TimeoutException e) {
+                    logger.warn("解析引用类名超时，classId: {}", item.getKey());
+                    ViewCompleteness.markIncomplete();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    ViewCompleteness.markIncomplete();
+                    break;
+                } catch (Exception e) {
+                    logger.warn("解析引用类名时出错，classId: {}: {}", item.getKey(), e.getMessage());
+                    ViewCompleteness.markIncomplete();
+                }
+
+                // 下载失败或超时时，退而使用数据字典项列表中的显示名称
+                if (!result.containsKey(item.getKey())) {
+                    ClassNameIndex.Entry fallback = classNameIndex.get(item.getKey());
+                    if (fallback != null && fallback.getPreferredName() != null) {
+                        result.put(item.getKey(), fallback.getPreferredName());
+                    }
+                }
+            }
+        }
+
+        logger.debug("引用类名解析完成，共 {} 个，其中 {} 个来自远程", classIds.size(), pending.size());
+        return result;
+    }
+
+    /**
+     * 异步解析单个类ID的类名，相同类ID的并发请求会合并为一次下载
+     */
+    private CompletableFuture<ClassNameIndex.Entry> resolveClassNameAsync(Pipeline p, String classId) {
+        CompletableFuture<ClassNameIndex.Entry> future = new CompletableFuture<>();
+        CompletableFuture<ClassNameIndex.Entry> existing = p.inFlightResolutions.putIfAbsent(classId, future);
+        if (existing != null) {
+            return existing;
+        }
+
+        try {
+            refResolveExecutor.execute(TraceContext.wrap(() -> {
+                try {
+                    // 只获取原始解析结果，不应用处理器链，防止死循环；解析结果会写入类名索引
+                    DataDictDetail refDetail = getRawDetail(p, classId);
+                    ClassNameIndex.Entry entry = classNameIndex.get(classId);
+                    if ((entry == null || !entry.isFromDetail()) && refDetail != null) {
+                        entry = new ClassNameIndex.Entry(classId, refDetail.getDisplayName(),
+                                refDetail.getFullClassName(), refDetail.getDefaultTableName(), true);
+                    }
+                    future.complete(entry);
+                } catch (Throwable t) {
+                    future.completeExceptionally(t);
+                } finally {
+                    p.inFlightResolutions.remove(classId, future);
+                }
+            }));
+        } catch (Exception e) {
+            p.inFlightResolutions.remove(classId, future);
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    private static ExecutorService createExecutor(String namePrefix, int threads) {
+        AtomicInteger counter = new AtomicInteger();
+        return Executors.newFixedThreadPool(Math.max(1, threads), runnable -> {
+            Thread thread = new Thread(runnable, namePrefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refResolveExecutor.shutdownNow();
+        detailFetchExecutor.shutdownNow();
+    }
+
     /**
      * 注册数据字典处理器
      * 
@@ -189,9 +845,10 @@ public class DataDictDownloader {
      * @return 当前实例，支持链式调用
      */
     public DataDictDownloader registerProcessor(DataDictProcessor processor) {
-        if (processor != null) {
-            this.processors.add(processor);
+        synchronized (reconfigureLock) {
+            pipeline = pipeline.withChain(processorPipeline.register(processor));
         }
+        detailGeneration.incrementAndGet();
         return this;
     }
     
@@ -199,16 +856,24 @@ public class DataDictDownloader {
      * 获取所有注册的处理器
      */
     public List<DataDictProcessor> getProcessors() {
-        return new ArrayList<>(processors);
+        return processorPipeline.getProcessors();
     }
     
+    /**
+     * 获取处理器链每个阶段的耗时和丢弃率统计
+     */
+    public List<Map<String, Object>> getProcessorStageStats() {
+        return processorPipeline.getStageStats();
+    }
+
     /**
      * 清除所有处理器
      */
     public void clearProcessors() {
-        this.processors.clear();
-        // 重新添加默认处理器
-        this.processors.add(new DefaultDataDictProcessor());
+        synchronized (reconfigureLock) {
+            pipeline = pipeline.withChain(processorPipeline.clear());
+        }
+        detailGeneration.incrementAndGet();
     }
     
     /**
@@ -217,24 +882,31 @@ public class DataDictDownloader {
      * @return 数据字典项列表
      */
     public List<DataDictItem> downloadDataDictItems() {
-        boolean cacheEnabled = config.isCacheEnabled();
+        return downloadDataDictItems(pipeline);
+    }
+
+    private List<DataDictItem> downloadDataDictItems(Pipeline p) {
+        boolean cacheEnabled = p.cacheEnabled;
 
         if (cacheEnabled) {
-            if (dataDictItemsCache != null) {
-                logger.info("从缓存返回数据字典项列表");
-                return new ArrayList<>(dataDictItemsCache);
+            ItemsSnapshot cachedItems = p.items.get();
+            if (cachedItems != null) {
+                itemsHitCount.incrementAndGet();
+                ITEMS_CACHE_HIT.record("从缓存返回数据字典项列表");
+                return new ArrayList<>(cachedItems.getItems());
             }
+            itemsMissCount.incrementAndGet();
         }
 
         try {
-            String currentAppCode = config.getDefaultAppCode();
+            String currentAppCode = p.appCode;
             if (currentAppCode == null || currentAppCode.trim().isEmpty()) {
                 logger.error("默认应用代码 (default-app-code) 未在配置文件中设置");
                 return new ArrayList<>();
             }
 
             // 获取对应版本的适配器
-            VersionAdapter adapter = adapterFactory.getAdapter(currentAppCode);
+            VersionAdapter adapter = p.adapter;
             if (adapter == null) {
                 logger.error("无法找到适合的版本适配器，应用代码: {}", currentAppCode);
                 return new ArrayList<>();
@@ -244,22 +916,22 @@ public class DataDictDownloader {
             logger.info("使用 {} 下载数据字典，URL: {}",
                     adapter.getSupportedVersion().getDisplayName(), url);
 
-            String content = downloadWithProperEncoding(url, adapter);
+            String content = downloadWithProperEncoding(url, adapter, currentAppCode);
             if (content == null) {
                 logger.error("无法下载数据字典内容");
                 return new ArrayList<>();
             }
 
-            List<DataDictItem> items = adapter.parseDataDictItems(content);
+            List<DataDictItem> items = parseItems(adapter, currentAppCode, content);
+            if (p == pipeline) {
+                classNameIndex.recordItems(items);
+            }
 
-            if (cacheEnabled) {
-                synchronized (this) {
-                    // 双重检查锁定，确保只初始化一次
-                    if (dataDictItemsCache == null) {
-                        this.dataDictItemsCache = new ArrayList<>(items);
-                        logger.info("数据字典项列表已缓存");
-                    }
-                }
+            // 并发下载时只缓存第一个完成的结果；先发布快照再递增版本，下游缓存不会以新版本保存旧列表的结果
+            if (cacheEnabled && p.items.compareAndSet(null, new ItemsSnapshot(
+                    Collections.unmodifiableList(new ArrayList<>(items)), itemsSnapshotSequence.incrementAndGet()))) {
+                itemsVersion.incrementAndGet();
+                logger.info("数据字典项列表已缓存");
             }
             return items;
         } catch (Exception e) {
@@ -269,10 +941,184 @@ public class DataDictDownloader {
     }
     
     /**
-     * 使用正确编码下载内容
+     * 获取不可修改的数据字典项列表快照，已缓存时不复制
+     * 调用方只读遍历时应优先使用本方法，而不是 {@link #downloadDataDictItems()}
+     *
+     * @return 数据字典项列表快照
+     */
+    public List<DataDictItem> getDataDictItemsSnapshot() {
+        return getItemsSnapshot().getItems();
+    }
+
+    /**
+     * 获取数据字典项列表快照及其版本，二者来自同一次发布
+     * 未启用缓存或缓存失败时返回本次下载的列表，版本为0
+     *
+     * @return 数据字典项列表快照
+     */
+    public ItemsSnapshot getItemsSnapshot() {
+        Pipeline p = pipeline;
+        ItemsSnapshot snapshot = p.items.get();
+        if (snapshot != null && p.cacheEnabled) {
+            return snapshot;
+        }
+        List<DataDictItem> items = downloadDataDictItems(p);
+        snapshot = p.cacheEnabled ? p.items.get() : null;
+        // 并发下载时缓存的是先完成的列表，返回已发布的快照
+        return snapshot != null ? snapshot : new ItemsSnapshot(Collections.unmodifiableList(items), 0);
+    }
+
+    /**
+     * 获取数据字典项列表快照版本
+     * 未缓存任何列表快照时返回0
+     */
+    public long getItemsVersion() {
+        return itemsVersion.get();
+    }
+
+    /**
+     * 获取内容版本
+     * 列表快照更新、详情缓存清除或处理器链变化时单调递增，用于使下游缓存的序列化结果失效
+     */
+    public long getContentVersion() {
+        return itemsVersion.get() + detailGeneration.get();
+    }
+
+    /**
+     * 下载指定应用代码的数据字典项列表
+     * 非默认应用代码时不读写缓存，也不更新任何索引，用于对比不同应用代码的数据字典
+     *
+     * @param appCode 应用代码
+     * @return 数据字典项列表，下载失败时为空列表
+     */
+    public List<DataDictItem> fetchDataDictItems(String appCode) {
+        if (appCode.equalsIgnoreCase(pipeline.appCode)) {
+            return getDataDictItemsSnapshot();
+        }
+        VersionAdapter adapter = adapterFactory.getAdapter(appCode);
+        if (adapter == null) {
+            logger.error("无法找到适合的版本适配器，应用代码: {}", appCode);
+            return Collections.emptyList();
+        }
+        try {
+            String content = downloadWithProperEncoding(
+                    adapter.buildDictListUrl(config.getBaseUrl(), appCode), adapter, appCode);
+            if (content == null) {
+                return Collections.emptyList();
+            }
+            return parseItems(adapter, appCode, content);
+        } catch (Exception e) {
+            logger.error("下载或解析数据字典时出错，应用代码: {}", appCode, e);
+            return Collections.emptyList();
+        }
+    }
+
+    /**
+     * 下载指定应用代码下类ID的原始解析结果，结果不可修改
+     * 默认应用代码时经过详情缓存；其他应用代码时经过该应用代码的详情缓存，不更新任何索引，
+     * 与其他应用代码内容相同的详情共享同一个实例
+     *
+     * @param appCode 应用代码
+     * @param classId 类ID
+     * @return 原始解析结果，未找到或失败时返回null
+     */
+    public DataDictDetail fetchDataDictDetail(String appCode, String classId) {
+        Pipeline p = pipeline;
+        if (appCode.equalsIgnoreCase(p.appCode)) {
+            return getRawDetail(p, classId);
+        }
+        LRUCache<String, DataDictDetail> cache = appCodeCache(p, appCode);
+        if (cache != null) {
+            synchronized (cache) {
+                DataDictDetail cachedDetail = cache.get(classId);
+                if (cachedDetail != null) {
+                    return cachedDetail;
+                }
+            }
+        }
+        VersionAdapter adapter = adapterFactory.getAdapter(appCode);
+        if (adapter == null) {
+            logger.error("无法找到适合的版本适配器，应用代码: {}", appCode);
+            return null;
+        }
+        try {
+            String content = downloadWithProperEncoding(
+                    adapter.buildDetailUrl(config.getBaseUrl(), appCode, classId), adapter, appCode);
+            if (content == null) {
+                return null;
+            }
+            DataDictDetail detail = parseDetail(adapter, appCode, content, classId);
+            if (detail == null) {
+                return null;
+            }
+            if (detail.getProperties() != null) {
+                detail = detail.withProperties(Collections.unmodifiableList(detail.getProperties()));
+            }
+            if (cache == null) {
+                return detail;
+            }
+            // 缓存已被淘汰或转为默认应用代码的缓存时不再写入
+            DataDictDetail shared = detailStore.intern(detail);
+            synchronized (appCodeCaches) {
+                if (appCodeCaches.get(appCode.toLowerCase()) == cache) {
+                    synchronized (cache) {
+                        cache.put(classId, shared);
+                    }
+                    return shared;
+                }
+            }
+            detailStore.release(shared);
+            return detail;
+        } catch (Exception e) {
+            logger.error("下载或解析数据字典详情时出错，应用代码: {}, classId: {}", appCode, classId, e);
+            return null;
+        }
+    }
+
+    /**
+     * 解析详情并记录解析耗时
+     */
+    private DataDictDetail parseDetail(VersionAdapter adapter, String appCode, String content, String classId) {
+        long start = System.nanoTime();
+        try (TraceSpan span = TraceContext.span("parse", classId)) {
+            return adapter.parseDataDictDetail(content, classId);
+        } finally {
+            metrics.recordStage(DataDictMetrics.Stage.PARSE, appCode, adapterName(adapter), System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * 解析数据字典项列表并记录解析耗时
      */
-    private String downloadWithProperEncoding(String url, VersionAdapter adapter) {
+    private List<DataDictItem> parseItems(VersionAdapter adapter, String appCode, String content) {
+        long start = System.nanoTime();
+        try (TraceSpan span = TraceContext.span("parse", "items")) {
+            return adapter.parseDataDictItems(content);
+        } finally {
+            metrics.recordStage(DataDictMetrics.Stage.PARSE, appCode, adapterName(adapter), System.nanoTime() - start);
+        }
+    }
+
+    private static String hostOf(String url) {
         try {
+            return URI.create(url).getHost();
+        } catch (IllegalArgumentException e) {
+            return "";
+        }
+    }
+
+    private static String adapterName(VersionAdapter adapter) {
+        return adapter != null ? adapter.getClass().getSimpleName() : "";
+    }
+
+    /**
+     * 使用正确编码下载内容，记录下载阶段耗时和上游请求耗时
+     */
+    private String downloadWithProperEncoding(String url, VersionAdapter adapter, String appCode) {
+        String host = hostOf(url);
+        String outcome = "ERROR";
+        long start = metrics.upstreamStarted();
+        try (TraceSpan span = TraceContext.span("download", url)) {
             // 设置请求头，模拟浏览器请求
             HttpHeaders headers = new HttpHeaders();
             headers.set("Accept", "application/json, text/javascript, */*; q=0.01");
@@ -297,16 +1143,21 @@ public class DataDictDownloader {
             String content = response.getBody();
 
             if (content != null) {
-                logger.info("成功获取内容，长度: {}, 内容类型: {}",
+                outcome = "SUCCESS";
+                UPSTREAM_FETCHED.record("成功获取内容，长度: {}, 内容类型: {}",
                         content.length(), adapter.getContentType());
                 return content;
             }
 
+            outcome = "EMPTY";
             return null;
 
         } catch (Exception e) {
             logger.error("下载内容时出错: {}", url, e);
             return null;
+        } finally {
+            metrics.upstreamFinished(host, outcome, start);
+            metrics.recordStage(DataDictMetrics.Stage.DOWNLOAD, appCode, adapterName(adapter), System.nanoTime() - start);
         }
     }
 
@@ -324,20 +1175,31 @@ public class DataDictDownloader {
      * 获取详情缓存大小
      */
     public int getDetailCacheSize() {
-        if (detailCache != null) {
-            synchronized (detailCache) {
-                return detailCache.size();
-            }
+        Pipeline p = pipeline;
+        synchronized (p.detailCache) {
+            return p.detailCache.size();
         }
-        return 0;
+    }
+
+    /**
+     * 获取当前版本对应的适配器名称，用作指标标签
+     */
+    public String getCurrentAdapterName() {
+        return adapterName(pipeline.adapter);
+    }
+
+    /**
+     * 获取当前生效的默认应用代码
+     */
+    public String getCurrentAppCode() {
+        return pipeline.appCode;
     }
 
     /**
      * 获取当前版本信息
      */
     public YonyouVersion getCurrentVersion() {
-        String currentAppCode = config.getDefaultAppCode();
-        return adapterFactory.detectVersion(currentAppCode);
+        return pipeline.version;
     }
 
     /**
@@ -346,4 +1208,132 @@ public class DataDictDownloader {
     public Map<YonyouVersion, VersionAdapter> getSupportedVersions() {
         return adapterFactory.getAllAdapters();
     }
-}
\ No newline at end of file
+
+    /**
+     * 数据字典项列表缓存分区，只有一个条目，键为 items
+     */
+    private class ItemsCachePartition implements CachePartition {
+
+        private static final String KEY = "items";
+
+        @Override
+        public String getName() {
+            return KEY;
+        }
+
+        @Override
+        public int size() {
+            return pipeline.items.get() != null ? 1 : 0;
+        }
+
+        @Override
+        public long getHitCount() {
+            return itemsHitCount.get();
+        }
+
+        @Override
+        public long getMissCount() {
+            return itemsMissCount.get();
+        }
+
+        @Override
+        public long getEvictionCount() {
+            return 0;
+        }
+
+        @Override
+        public long estimateBytes() {
+            ItemsSnapshot snapshot = pipeline.items.get();
+            return snapshot != null ? CacheSizeEstimator.estimate(snapshot.getItems()) : 0;
+        }
+
+        @Override
+        public List<HotKey> hottestKeys(int limit) {
+            return pipeline.items.get() != null && limit > 0
+                    ? List.of(new HotKey(KEY, itemsHitCount.get()))
+                    : Collections.emptyList();
+        }
+
+        @Override
+        public int evict(String key, boolean prefix) {
+            boolean matched = prefix ? KEY.startsWith(key) : KEY.equals(key);
+            if (!matched || pipeline.items.get() == null) {
+                return 0;
+            }
+            clearItemsCache();
+            return 1;
+        }
+
+        @Override
+        public void clear() {
+            clearItemsCache();
+        }
+
+    }
+
+    /**
+     * 获取管线：应用代码、版本、适配器、缓存和处理器链
+     * 每个请求开始时读取一次，整个请求使用同一个管线；重新加载配置时构建新的管线后整体发布，
+     * 发布前已开始的请求在原管线上完成。除缓存内容外创建后不再修改
+     */
+    private static final class Pipeline {
+
+        // 代数，每次替换递增
+        private final long generation;
+
+        private final String appCode;
+
+        private final YonyouVersion version;
+
+        private final VersionAdapter adapter;
+
+        private final boolean cacheEnabled;
+
+        private final int cacheSize;
+
+        private final ProcessorPipeline.Chain chain;
+
+        // 数据字典详情LRU缓存，保存不可修改的原始解析结果，条目为详情存储中的共享实例
+        private final LRUCache<String, DataDictDetail> detailCache;
+
+        // 处理器视图LRU缓存，键为 类ID#处理器链配置键
+        private final LRUCache<String, DataDictDetail> viewCache;
+
+        // 数据字典项列表缓存，不可修改的快照及其版本，应用代码不变时在新旧管线间共享
+        private final AtomicReference<ItemsSnapshot> items;
+
+        // 正在进行中的原始详情下载，相同类ID的并发请求共享同一次下载
+        private final Map<String, CompletableFuture<DataDictDetail>> inFlightDetails;
+
+        // 正在进行中的引用类名解析，相同类ID的并发请求共享同一个结果
+        private final Map<String, CompletableFuture<ClassNameIndex.Entry>> inFlightResolutions;
+
+        private Pipeline(long generation, String appCode, YonyouVersion version, VersionAdapter adapter,
+                         boolean cacheEnabled, int cacheSize, ProcessorPipeline.Chain chain,
+                         LRUCache<String, DataDictDetail> detailCache, LRUCache<String, DataDictDetail> viewCache,
+                         AtomicReference<ItemsSnapshot> items,
+                         Map<String, CompletableFuture<DataDictDetail>> inFlightDetails,
+                         Map<String, CompletableFuture<ClassNameIndex.Entry>> inFlightResolutions) {
+            this.generation = generation;
+            this.appCode = appCode;
+            this.version = version;
+            this.adapter = adapter;
+            this.cacheEnabled = cacheEnabled;
+            this.cacheSize = cacheSize;
+            this.chain = chain;
+            this.detailCache = detailCache;
+            this.viewCache = viewCache;
+            this.items = items;
+            this.inFlightDetails = inFlightDetails;
+            this.inFlightResolutions = inFlightResolutions;
+        }
+
+        /**
+         * 只替换处理器链，其余沿用
+         */
+        private Pipeline withChain(ProcessorPipeline.Chain newChain) {
+            return new Pipeline(generation + 1, appCode, version, adapter, cacheEnabled, cacheSize, newChain,
+                    detailCache, viewCache, items, inFlightDetails, inFlightResolutions);
+        }
+    }
+}
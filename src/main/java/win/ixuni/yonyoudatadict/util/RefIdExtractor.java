@@ -0,0 +1,76 @@
+package win.ixuni.yonyoudatadict.util;
+
+
+import win.ixuni.yonyoudatadict.model.DataDictDetail;
+import win.ixuni.yonyoudatadict.model.YonyouVersion;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 引用类ID提取工具
+ * 从原始解析结果的属性中识别其引用的数据字典类ID，各版本的引用格式不同：
+ * 高级版为 loadDataDict("ID") 形式的链接，旗舰版为纯数字ID或同高级版，
+ * NC65由适配器解析到 refClass 字段，NCCloud只有引用模型名称，没有可追踪的类ID
+ */
+public final class RefIdExtractor {
+
+    // 高级版：正则表达式用于匹配 onClick=loadDataDict("ID");>名称</a> 格式的字符串
+    private static final Pattern REF_CLASS_PATH_PATTERN = Pattern.compile("onClick=loadDataDict\\(\"([^\"]+)\"\\);>([^<]+)</a>");
+
+    // 旗舰版：纯数字的类ID
+    private static final Pattern NUMERIC_ID_PATTERN = Pattern.compile("\\d+");
+
+    private RefIdExtractor() {
+    }
+
+    /**
+     * 提取属性引用的类ID，没有引用或无法识别时返回null
+     *
+     * @param property 原始解析结果中的属性（未经引用类路径处理器改写）
+     * @param version  数据字典所属版本
+     */
+    public static String extractRefId(DataDictDetail.Property property, YonyouVersion version) {
+        switch (version) {
+            case YONBIP_FLAGSHIP:
+                return extractFlagshipRefId(property.getRefClassPathHref());
+            case NCCLOUD:
+                return null;
+            case NC65_OYONYOU:
+                String refClass = property.getRefClass();
+                if (refClass != null && !refClass.isEmpty()) {
+                    return refClass;
+                }
+                return extractAdvancedRefId(property.getRefClassPathHref());
+            default:
+                return extractAdvancedRefId(property.getRefClassPathHref());
+        }
+    }
+
+    /**
+     * 从高级版格式的引用类路径中提取类ID，无法识别时返回null
+     */
+    public static String extractAdvancedRefId(String refClassPathHref) {
+        if (refClassPathHref == null || refClassPathHref.isEmpty()) {
+            return null;
+        }
+        Matcher matcher = REF_CLASS_PATH_PATTERN.matcher(refClassPathHref);
+        return matcher.find() ? matcher.group(1) : null;
+    }
+
+    /**
+     * 从旗舰版格式的引用类路径中提取类ID，无法识别时返回null
+     */
+    public static String extractFlagshipRefId(String refClassPathHref) {
+        if (refClassPathHref == null || refClassPathHref.isEmpty()) {
+            return null;
+        }
+        // 如果是数字ID格式（旗舰版常用格式）
+        if (NUMERIC_ID_PATTERN.matcher(refClassPathHref).matches()) {
+            return refClassPathHref;
+        }
+        // 尝试高级版的解析方式
+        return extractAdvancedRefId(refClassPathHref);
+    }
+
+}
@@ -0,0 +1,156 @@
+package win.ixuni.yonyoudatadict.cache;
+
+
+import org.junit.jupiter.api.Test;
+import win.ixuni.yonyoudatadict.config.DataDictConfig;
+import win.ixuni.yonyoudatadict.model.DataDictDetail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static win.ixuni.yonyoudatadict.cache.DetailStoreTest.detail;
+
+/**
+ * 快照包导入：损坏的快照包以 IOException 拒绝，不按其中的长度分配内存
+ */
+class CacheSnapshotManagerTest {
+
+    @Test
+    void importsExportedBundle() throws IOException {
+        DetailsPart source = new DetailsPart(out -> {
+            out.writeInt(2);
+            DetailSnapshotCodec.write(out, detail("c1", "表1"));
+            DetailSnapshotCodec.write(out, detail("c2", "表2"));
+        });
+        DetailsPart target = new DetailsPart(null);
+
+        Map<String, Boolean> imported = manager(target).importSnapshot(export(source));
+
+        assertEquals(Map.of("details", true), imported);
+        assertEquals(List.of("c1", "c2"), target.classIds);
+    }
+
+    @Test
+    void rejectsStringLengthBeyondPart() {
+        DetailsPart source = new DetailsPart(out -> {
+            out.writeInt(1);
+            out.writeInt(Integer.MAX_VALUE);
+            out.writeBytes("c1");
+        });
+
+        assertThrows(IOException.class, () -> manager(new DetailsPart(null)).importSnapshot(export(source)));
+    }
+
+    @Test
+    void rejectsPropertyCountBeyondPart() {
+        DetailsPart source = new DetailsPart(out -> {
+            out.writeInt(1);
+            writeHeader(out);
+            out.writeInt(Integer.MAX_VALUE);
+        });
+
+        assertThrows(IOException.class, () -> manager(new DetailsPart(null)).importSnapshot(export(source)));
+    }
+
+    @Test
+    void rejectsNegativeLengthsOtherThanNullMarker() {
+        DetailsPart negativeCount = new DetailsPart(out -> {
+            out.writeInt(1);
+            writeHeader(out);
+            out.writeInt(-2);
+        });
+        DetailsPart negativeLength = new DetailsPart(out -> {
+            out.writeInt(1);
+            out.writeInt(-5);
+        });
+
+        assertThrows(IOException.class, () -> manager(new DetailsPart(null)).importSnapshot(export(negativeCount)));
+        assertThrows(IOException.class, () -> manager(new DetailsPart(null)).importSnapshot(export(negativeLength)));
+    }
+
+    @Test
+    void rejectsPartLengthBeyondCap() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        // 取导出的文件头，将部分长度改为超过上限的值
+        byte[] valid = export(new DetailsPart(o -> o.writeInt(0))).readAllBytes();
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(valid));
+        out.writeInt(in.readInt());
+        out.writeInt(in.readInt());
+        out.writeUTF(in.readUTF());
+        out.writeInt(in.readInt());
+        out.writeUTF(in.readUTF());
+        out.writeInt(Integer.MAX_VALUE);
+
+        IOException e = assertThrows(IOException.class,
+                () -> manager(new DetailsPart(null)).importSnapshot(new ByteArrayInputStream(bytes.toByteArray())));
+        assertTrue(e.getMessage().contains("details"));
+    }
+
+    private static void writeHeader(DataOutputStream out) throws IOException {
+        for (int i = 0; i < 4; i++) {
+            out.writeInt(-1);
+        }
+        out.writeBoolean(false);
+    }
+
+    private static CacheSnapshotManager manager(SnapshotPart part) {
+        DataDictConfig config = new DataDictConfig();
+        config.setDefaultAppCode("test");
+        return new CacheSnapshotManager(config, List.of(part));
+    }
+
+    private static ByteArrayInputStream export(SnapshotPart part) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        manager(part).exportSnapshot(bytes);
+        return new ByteArrayInputStream(bytes.toByteArray());
+    }
+
+    /**
+     * 与详情缓存格式相同的快照部分：详情数量后依次为各详情的快照编码
+     */
+    private static final class DetailsPart implements SnapshotPart {
+
+        private final Writer writer;
+
+        private final List<String> classIds = new ArrayList<>();
+
+        private DetailsPart(Writer writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public String getSnapshotName() {
+            return "details";
+        }
+
+        @Override
+        public void writeSnapshot(DataOutputStream out) throws IOException {
+            writer.write(out);
+        }
+
+        @Override
+        public void readSnapshot(DataInputStream in) throws IOException {
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                DataDictDetail detail = DetailSnapshotCodec.read(in);
+                classIds.add(detail.getClassId());
+            }
+        }
+    }
+
+    private interface Writer {
+
+        void write(DataOutputStream out) throws IOException;
+    }
+
+}
@@ -0,0 +1,90 @@
+package win.ixuni.yonyoudatadict.cache;
+
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import win.ixuni.yonyoudatadict.metrics.DataDictMetrics;
+import win.ixuni.yonyoudatadict.model.DataDictDetail;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * 按内容寻址的详情存储的引用计数
+ */
+class DetailStoreTest {
+
+    private DetailStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new DetailStore(new DataDictMetrics(new SimpleMeterRegistry()));
+    }
+
+    @Test
+    void internSharesDetailsWithEqualContent() {
+        DataDictDetail first = detail("c1", "表1");
+        DataDictDetail second = detail("c1", "表1");
+
+        assertSame(first, store.intern(first));
+        assertSame(first, store.intern(second));
+        assertEquals(1, store.getDistinctCount());
+        assertEquals(2, store.getReferenceCount());
+        assertEquals(1, store.getAddedCount());
+        assertEquals(1, store.getSharedCount());
+        assertEquals(store.getStoredBytes() * 2, store.getLogicalBytes());
+    }
+
+    @Test
+    void internKeepsDifferentContentApart() {
+        DataDictDetail first = store.intern(detail("c1", "表1"));
+        DataDictDetail second = store.intern(detail("c1", "表2"));
+
+        assertNotSame(first, second);
+        assertEquals(2, store.getDistinctCount());
+        assertEquals(2, store.getReferenceCount());
+    }
+
+    @Test
+    void releaseRemovesDetailWhenLastReferenceIsReleased() {
+        DataDictDetail shared = store.intern(detail("c1", "表1"));
+        store.intern(detail("c1", "表1"));
+
+        store.release(shared);
+        assertEquals(1, store.getDistinctCount());
+        assertEquals(1, store.getReferenceCount());
+
+        store.release(shared);
+        assertEquals(0, store.getDistinctCount());
+        assertEquals(0, store.getReferenceCount());
+        assertEquals(0, store.getStoredBytes());
+        assertEquals(0, store.getLogicalBytes());
+
+        // 移除后再次写入相同内容时以新的实例作为共享实例
+        DataDictDetail again = detail("c1", "表1");
+        assertSame(again, store.intern(again));
+        assertEquals(1, store.getReferenceCount());
+    }
+
+    @Test
+    void releaseIgnoresInstancesThatAreNotShared() {
+        store.intern(detail("c1", "表1"));
+        // 内容相同但不是 intern 返回的实例
+        store.release(detail("c1", "表1"));
+        store.release(null);
+
+        assertEquals(1, store.getDistinctCount());
+        assertEquals(1, store.getReferenceCount());
+    }
+
+    static DataDictDetail detail(String classId, String tableName) {
+        DataDictDetail.Property property = new DataDictDetail.Property("code", "编码", "varchar(50)",
+                false, true, null, null, null, "code", null, null, null, false);
+        return new DataDictDetail(classId, "test." + classId, classId, tableName, false, List.of(property));
+    }
+
+}
@@ -0,0 +1,136 @@
+package win.ixuni.yonyoudatadict.cache;
+
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import win.ixuni.yonyoudatadict.metrics.DataDictMetrics;
+import win.ixuni.yonyoudatadict.model.DataDictDetail;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static win.ixuni.yonyoudatadict.cache.DetailStoreTest.detail;
+
+/**
+ * LRU缓存的移除回调，按详情缓存的用法以 {@link DetailStore#release} 作为回调，
+ * 检查每个离开缓存的条目恰好释放一次引用
+ */
+class LRUCacheTest {
+
+    private DetailStore store;
+
+    private LRUCache<String, DataDictDetail> cache;
+
+    @BeforeEach
+    void setUp() {
+        store = new DetailStore(new DataDictMetrics(new SimpleMeterRegistry()));
+        cache = new LRUCache<>(3, (key, value) -> store.release(value));
+    }
+
+    @Test
+    void putReleasesReplacedValue() {
+        cache.put("c1", store.intern(detail("c1", "表1")));
+        cache.put("c1", store.intern(detail("c1", "表2")));
+
+        assertEquals(1, cache.size());
+        assertEquals(1, store.getDistinctCount());
+        assertEquals(1, store.getReferenceCount());
+        assertEquals("表2", cache.get("c1").getDefaultTableName());
+    }
+
+    @Test
+    void putReleasesReplacedValueEvenWhenSameInstance() {
+        DataDictDetail shared = store.intern(detail("c1", "表1"));
+        cache.put("c1", shared);
+        // 再次写入相同内容得到同一个实例，引用数先增加，替换时释放原有的一次
+        assertSame(shared, store.intern(detail("c1", "表1")));
+        cache.put("c1", shared);
+
+        assertEquals(1, store.getReferenceCount());
+    }
+
+    @Test
+    void evictionReleasesEldestEntry() {
+        cache.put("c1", store.intern(detail("c1", "表1")));
+        cache.put("c2", store.intern(detail("c2", "表2")));
+        cache.put("c3", store.intern(detail("c3", "表3")));
+        // 访问c1后最久未访问的是c2
+        cache.get("c1");
+        cache.put("c4", store.intern(detail("c4", "表4")));
+
+        assertNull(cache.get("c2"));
+        assertEquals(1, cache.getEvictionCount());
+        assertEquals(3, store.getReferenceCount());
+        assertEquals(3, store.getDistinctCount());
+    }
+
+    @Test
+    void removeAndRemoveKeysReleaseEntries() {
+        cache.put("a1", store.intern(detail("a1", "表1")));
+        cache.put("a2", store.intern(detail("a2", "表2")));
+        cache.put("b1", store.intern(detail("b1", "表3")));
+
+        cache.remove("b1");
+        assertEquals(2, store.getReferenceCount());
+        // 不存在的键不触发回调
+        cache.remove("b1");
+        assertEquals(2, store.getReferenceCount());
+
+        assertEquals(2, cache.removeKeys(key -> key.startsWith("a")));
+        assertTrue(cache.isEmpty());
+        assertEquals(0, store.getReferenceCount());
+    }
+
+    @Test
+    void clearReleasesAllEntries() {
+        cache.put("c1", store.intern(detail("c1", "表1")));
+        cache.put("c2", store.intern(detail("c2", "表1")));
+        cache.put("c3", store.intern(detail("c2", "表1")));
+
+        cache.clear();
+
+        assertTrue(cache.isEmpty());
+        assertEquals(0, store.getReferenceCount());
+        assertEquals(0, store.getDistinctCount());
+    }
+
+    @Test
+    void copyWithSmallerCapacityReleasesEntriesThatDoNotFit() {
+        cache.put("c1", store.intern(detail("c1", "表1")));
+        cache.put("c2", store.intern(detail("c2", "表2")));
+        cache.put("c3", store.intern(detail("c3", "表3")));
+        cache.get("c1");
+        cache.put("c4", store.intern(detail("c4", "表4")));
+        long evictions = cache.getEvictionCount();
+
+        LRUCache<String, DataDictDetail> copy = cache.copy(1, true);
+
+        // 只保留最近访问的条目，其余条目各释放一次，淘汰次数不增加
+        assertEquals(List.of("c4"), List.copyOf(copy.keySet()));
+        assertEquals(1, store.getReferenceCount());
+        assertEquals(evictions, copy.getEvictionCount());
+
+        // 复制后的缓存继续负责释放
+        copy.clear();
+        assertEquals(0, store.getReferenceCount());
+    }
+
+    @Test
+    void copyWithLargerCapacityKeepsReferences() {
+        cache.put("c1", store.intern(detail("c1", "表1")));
+        cache.put("c2", store.intern(detail("c2", "表2")));
+
+        LRUCache<String, DataDictDetail> copy = cache.copy(10, true);
+
+        assertEquals(2, copy.size());
+        assertEquals(2, store.getReferenceCount());
+        copy.put("c1", store.intern(detail("c1", "表3")));
+        assertEquals(2, store.getReferenceCount());
+        assertEquals(2, store.getDistinctCount());
+    }
+
+}
@@ -0,0 +1,136 @@
+package win.ixuni.yonyoudatadict.index;
+
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import win.ixuni.yonyoudatadict.model.DataDictDetail;
+import win.ixuni.yonyoudatadict.model.YonyouVersion;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 反向引用索引的出边替换与编号表扩容
+ */
+class ReverseRefIndexTest {
+
+    private ReverseRefIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ReverseRefIndex();
+    }
+
+    @Test
+    void reindexingReplacesOutgoingEdges() {
+        index.indexDetail(detail("A", "B", "C"), YonyouVersion.NC65_OYONYOU);
+        index.indexDetail(detail("A", "C", "D"), YonyouVersion.NC65_OYONYOU);
+
+        assertEquals(List.of("C", "D"), index.findReferences("A"));
+        assertTrue(index.findReferrers("B").isEmpty());
+        assertEquals(List.of("A"), referrerIds("C"));
+        assertEquals(List.of("A"), referrerIds("D"));
+        assertEquals(1, index.getIndexedClassCount());
+    }
+
+    @Test
+    void replacingEdgesKeepsOtherSourcesOfTarget() {
+        index.indexDetail(detail("A", "T"), YonyouVersion.NC65_OYONYOU);
+        index.indexDetail(detail("B", "T"), YonyouVersion.NC65_OYONYOU);
+        index.indexDetail(detail("C", "T"), YonyouVersion.NC65_OYONYOU);
+
+        index.indexDetail(detail("A"), YonyouVersion.NC65_OYONYOU);
+
+        assertEquals(List.of("B", "C"), referrerIds("T").stream().sorted().collect(Collectors.toList()));
+        assertTrue(index.findReferences("A").isEmpty());
+        assertEquals(3, index.getIndexedClassCount());
+    }
+
+    @Test
+    void propertiesReferencingSameClassAreMerged() {
+        index.indexDetail(detail("A", "B", "B"), YonyouVersion.NC65_OYONYOU);
+
+        List<Referrer> referrers = index.findReferrers("B");
+        assertEquals(1, referrers.size());
+        assertEquals("f0,f1", referrers.get(0).getProperties());
+        assertEquals(List.of("B"), index.findReferences("A"));
+    }
+
+    @Test
+    void growsBeyondInitialCapacity() {
+        int count = 5000;
+        for (int i = 0; i < count; i++) {
+            index.indexDetail(detail("c" + i, "c" + (i + 1), "hub"), YonyouVersion.NC65_OYONYOU);
+        }
+
+        assertEquals(count, index.getIndexedClassCount());
+        for (int i = 0; i < count; i++) {
+            assertEquals(List.of("c" + (i + 1), "hub"), index.findReferences("c" + i));
+            assertEquals(List.of("c" + i), referrerIds("c" + (i + 1)));
+        }
+        assertEquals(count, index.findReferrers("hub").size());
+        assertTrue(index.findReferrers("c0").isEmpty());
+        assertTrue(index.findReferences("missing").isEmpty());
+    }
+
+    @Test
+    void snapshotRoundTripPrefersReparsedClasses() throws IOException {
+        index.indexDetail(detail("A", "B"), YonyouVersion.NC65_OYONYOU);
+        index.indexDetail(detail("C", "B"), YonyouVersion.NC65_OYONYOU);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            index.writeSnapshot(out);
+        }
+
+        ReverseRefIndex restored = new ReverseRefIndex();
+        restored.indexDetail(detail("A", "D"), YonyouVersion.NC65_OYONYOU);
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            restored.readSnapshot(in);
+        }
+
+        assertEquals(List.of("D"), restored.findReferences("A"));
+        assertEquals(List.of("C"), restored.findReferrers("B").stream()
+                .map(Referrer::getClassId).collect(Collectors.toList()));
+        assertEquals(2, restored.getIndexedClassCount());
+    }
+
+    @Test
+    void clearRemovesAllEdges() {
+        for (int i = 0; i < 2000; i++) {
+            index.indexDetail(detail("c" + i, "hub"), YonyouVersion.NC65_OYONYOU);
+        }
+        index.clear();
+
+        assertEquals(0, index.getIndexedClassCount());
+        assertTrue(index.findReferrers("hub").isEmpty());
+
+        index.indexDetail(detail("A", "hub"), YonyouVersion.NC65_OYONYOU);
+        assertEquals(List.of("A"), referrerIds("hub"));
+    }
+
+    private List<String> referrerIds(String classId) {
+        return index.findReferrers(classId).stream().map(Referrer::getClassId).collect(Collectors.toList());
+    }
+
+    /**
+     * NC65格式的详情，第i个属性 fi 引用 refClassIds[i]
+     */
+    private static DataDictDetail detail(String classId, String... refClassIds) {
+        List<DataDictDetail.Property> properties = new ArrayList<>();
+        for (int i = 0; i < refClassIds.length; i++) {
+            properties.add(new DataDictDetail.Property("f" + i, "字段" + i, "varchar(20)",
+                    false, true, null, null, null, "f" + i, null, refClassIds[i], null, false));
+        }
+        return new DataDictDetail(classId, "test." + classId, classId, classId.toLowerCase(), false, properties);
+    }
+
+}
@@ -0,0 +1,68 @@
+#!/bin/bash
+
+# 启动耗时对比脚本
+# 分别以普通方式、AOT、AppCDS、AOT+AppCDS启动应用到上下文刷新完成（-Dspring.context.exit=onRefresh），
+# 输出各方式的启动耗时中位数。AppCDS归档由各自方式的训练运行生成
+# 使用方法: ./startup-benchmark.sh [每种方式的运行次数，默认3]
+
+RUNS=${1:-3}
+WORK_DIR="target/startup"
+JVM_OPTS="-Xms256m -Xmx512m -Dfile.encoding=UTF-8"
+APP_ARGS="--server.port=0 --data-dict.base-url=http://127.0.0.1:9"
+
+# 颜色定义
+RED='\033[0;31m'
+GREEN='\033[0;32m'
+NC='\033[0m' # No Color
+
+log_info() {
+    echo -e "${GREEN}[INFO]${NC} $1"
+}
+
+log_error() {
+    echo -e "${RED}[ERROR]${NC} $1"
+}
+
+JAR=$(ls target/*.jar 2>/dev/null | grep -v "benchmarks.jar" | head -1)
+if [ -z "$JAR" ]; then
+    log_error "未找到应用jar，请先执行 ./mvnw package -DskipTests"
+    exit 1
+fi
+
+# CDS要求类路径上是普通jar，先解压为 应用jar + lib/ 的目录结构
+rm -rf "$WORK_DIR"
+java -Djarmode=tools -jar "$JAR" extract --destination "$WORK_DIR/app" > /dev/null || exit 1
+APP_JAR="$WORK_DIR/app/$(basename "$JAR")"
+
+# 启动一次，输出 JVM启动到单例Bean创建完成的毫秒数 和 进程总耗时毫秒数
+run_once() {
+    local start end line
+    start=$(date +%s%N)
+    line=$(java $JVM_OPTS "$@" -Dspring.context.exit=onRefresh -jar "$APP_JAR" $APP_ARGS 2>&1 \
+        | grep "单例Bean创建完成")
+    end=$(date +%s%N)
+    echo "$(echo "$line" | sed -n 's/.*JVM启动后 \([0-9]*\) 毫秒.*/\1/p') $(( (end - start) / 1000000 ))"
+}
+
+median() {
+    sort -n | awk '{ v[NR] = $1 } END { if (NR == 0) print "-"; else print v[int((NR + 1) / 2)] }'
+}
+
+log_info "生成AppCDS归档（训练运行）..."
+run_once -XX:ArchiveClassesAtExit="$WORK_DIR/app.jsa" > /dev/null
+run_once -XX:ArchiveClassesAtExit="$WORK_DIR/app-aot.jsa" -Dspring.aot.enabled=true > /dev/null
+
+MODES=("普通" "AOT" "AppCDS" "AOT+AppCDS")
+OPTS=("" "-Dspring.aot.enabled=true" "-XX:SharedArchiveFile=$WORK_DIR/app.jsa"
+      "-XX:SharedArchiveFile=$WORK_DIR/app-aot.jsa -Dspring.aot.enabled=true")
+
+printf "%16s %14s  %s\n" "Bean创建完成(ms)" "进程总耗时(ms)" "方式"
+for i in "${!MODES[@]}"; do
+    results=()
+    for ((n = 0; n < RUNS; n++)); do
+        results+=("$(run_once ${OPTS[$i]})")
+    done
+    ready=$(printf "%s\n" "${results[@]}" | awk '{ print $1 }' | median)
+    total=$(printf "%s\n" "${results[@]}" | awk '{ print $2 }' | median)
+    printf "%16s %14s  %s\n" "$ready" "$total" "${MODES[$i]}"
+done